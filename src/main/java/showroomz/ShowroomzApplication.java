@@ -11,6 +11,8 @@ import org.springframework.web.client.RestTemplate;
 import io.sentry.SentryOptions;
 import showroomz.global.config.properties.AppProperties;
 import showroomz.global.config.properties.CorsProperties;
+import showroomz.global.config.properties.ModerationProperties;
+import showroomz.global.config.properties.OrderProperties;
 import showroomz.global.config.properties.PostProperties;
 import showroomz.global.config.properties.S3Properties;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
@@ -19,7 +21,8 @@ import org.springframework.web.HttpRequestMethodNotSupportedException;
 @SpringBootApplication
 @EnableScheduling
 @EnableAsync
-@EnableConfigurationProperties({ AppProperties.class, CorsProperties.class, S3Properties.class, PostProperties.class })
+@EnableConfigurationProperties({ AppProperties.class, CorsProperties.class, S3Properties.class, PostProperties.class,
+        ModerationProperties.class, OrderProperties.class })
 public class ShowroomzApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(ShowroomzApplication.class, args);
@@ -10,6 +10,7 @@ import showroomz.global.error.exception.ErrorCode;
 import showroomz.api.admin.category.DTO.CategoryDto;
 import showroomz.api.admin.filter.DTO.CategoryFilterDto;
 import showroomz.api.admin.filter.service.FilterService;
+import showroomz.api.common.filter.service.FilterCatalog;
 import showroomz.domain.category.entity.Category;
 import showroomz.domain.category.repository.CategoryRepository;
 import showroomz.domain.category.service.CategoryHierarchyService;
@@ -35,6 +36,7 @@ public class CategoryService {
     private final CategoryFilterRepository categoryFilterRepository;
     private final CategoryFilterValueRepository categoryFilterValueRepository;
     private final FilterService filterService;
+    private final FilterCatalog filterCatalog;
 
     @SuppressWarnings("null")
     public CategoryDto.CreateCategoryResponse createCategory(CategoryDto.CreateCategoryRequest request) {
@@ -180,6 +182,8 @@ public class CategoryService {
         Category deleteTarget = category;
         categoryRepository.delete(deleteTarget);
         categoryHierarchyService.refreshCategoryHierarchy();
+        // 지운 카테고리의 필터 매핑도 같이 사라지므로 필터 카탈로그에서도 빼야 한다
+        filterCatalog.refreshAfterCommit();
     }
     
     /**
@@ -18,6 +18,7 @@ import showroomz.domain.changerequest.type.ChangeRequestField;
 import showroomz.domain.changerequest.type.ChangeRequestRejectReason;
 import showroomz.domain.changerequest.type.ChangeRequestStatus;
 import showroomz.domain.changerequest.type.ChangeRequestType;
+import showroomz.domain.common.Neighbors;
 import showroomz.domain.market.entity.Market;
 import showroomz.domain.market.repository.MarketRepository;
 import showroomz.domain.member.seller.entity.Seller;
@@ -103,10 +104,7 @@ public class AdminChangeRequestService {
         Market market = request.getMarket();
         Seller seller = market.getSeller();
 
-        List<Long> orderedIds = brandChangeRequestRepository.findOrderedIds(statusFilter.getStatusNames());
-        int index = orderedIds.indexOf(requestId);
-        Long prevId = index > 0 ? orderedIds.get(index - 1) : null;
-        Long nextId = (index >= 0 && index < orderedIds.size() - 1) ? orderedIds.get(index + 1) : null;
+        Neighbors neighbors = brandChangeRequestRepository.findNeighbors(request, statusFilter.getStatuses());
 
         return AdminChangeRequestDto.DetailResponse.builder()
                 .requestId(request.getId())
@@ -127,8 +125,8 @@ public class AdminChangeRequestService {
                 .referenceItems(buildReferenceItems(request.getType(), seller))
                 .holderCheck(buildHolderCheck(request))
                 .history(buildHistory(request))
-                .prevRequestId(prevId)
-                .nextRequestId(nextId)
+                .prevRequestId(neighbors.prevId())
+                .nextRequestId(neighbors.nextId())
                 .build();
     }
 
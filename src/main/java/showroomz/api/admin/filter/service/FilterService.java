@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.admin.filter.DTO.FilterDto;
+import showroomz.api.common.filter.service.FilterCatalog;
 import showroomz.domain.category.entity.Category;
 import showroomz.domain.category.repository.CategoryRepository;
 import showroomz.api.admin.filter.DTO.CategoryFilterDto;
@@ -31,6 +32,7 @@ public class FilterService {
     private final CategoryFilterRepository categoryFilterRepository;
     private final CategoryFilterValueRepository categoryFilterValueRepository;
     private final FilterValueRepository filterValueRepository;
+    private final FilterCatalog filterCatalog;
 
     public FilterDto.FilterResponse createFilter(FilterDto.CreateFilterRequest request) {
         if (filterRepository.findByFilterKey(request.getFilterKey()).isPresent()) {
@@ -62,6 +64,7 @@ public class FilterService {
 
         @SuppressWarnings("null")
         Filter savedFilter = filterRepository.save(filter);
+        filterCatalog.refreshAfterCommit();
 
         return toResponse(savedFilter);
     }
@@ -105,6 +108,7 @@ public class FilterService {
 
         @SuppressWarnings("null")
         Filter savedFilter = filterRepository.save(filter);
+        filterCatalog.refreshAfterCommit();
         return toResponse(savedFilter);
     }
 
@@ -120,6 +124,7 @@ public class FilterService {
         @SuppressWarnings("null")
         Filter deleteTarget = filter;
         filterRepository.delete(deleteTarget);
+        filterCatalog.refreshAfterCommit();
     }
 
     @SuppressWarnings("null")
@@ -129,6 +134,8 @@ public class FilterService {
 
         categoryFilterValueRepository.deleteByCategoryFilter_Category_CategoryId(categoryId);
         categoryFilterRepository.deleteByCategory_CategoryId(categoryId);
+        // 매핑을 비우기만 하고 끝나는 경로도 있어 여기서 건다 — 실제 갱신은 커밋 뒤라 아래 저장까지 반영된다
+        filterCatalog.refreshAfterCommit();
 
         if (request == null || request.getFilters() == null || request.getFilters().isEmpty()) {
             return;
@@ -31,40 +31,9 @@ public class LoginHistoryResponse {
         this.email = history.getUser().getEmail();
         this.loginAt = history.getLoginAt();
         this.clientIp = history.getClientIp();
-        this.deviceType = parseDeviceType(history.getUserAgent());
+        this.deviceType = history.getDeviceType();
         this.country = LocationNameMapper.toKoreanCountry(history.getCountry());
         this.city = LocationNameMapper.toKoreanCity(history.getCity());
         this.status = history.getStatus();
     }
-
-    /**
-     * User-Agent 문자열을 파싱하여 디바이스 타입을 반환합니다.
-     */
-    private DeviceType parseDeviceType(String userAgent) {
-        if (userAgent == null || userAgent.isEmpty()) {
-            return DeviceType.UNKNOWN;
-        }
-
-        // Android
-        if (userAgent.contains("Android")) {
-            return DeviceType.ANDROID;
-        }
-
-        // iPhone
-        if (userAgent.contains("iPhone")) {
-            return DeviceType.IPHONE;
-        }
-
-        // Desktop (Edge) - Edg는 Edge의 약자
-        if (userAgent.contains("Edg")) {
-            return DeviceType.DESKTOP_EDGE;
-        }
-
-        // Desktop (Chrome) - Edge가 아니면서 Chrome이 있고 Mobile이 없는 경우
-        if (userAgent.contains("Chrome") && !userAgent.contains("Mobile")) {
-            return DeviceType.DESKTOP_CHROME;
-        }
-
-        return DeviceType.UNKNOWN;
-    }
 }
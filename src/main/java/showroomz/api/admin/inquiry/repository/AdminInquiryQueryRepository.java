@@ -9,6 +9,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import showroomz.api.admin.inquiry.type.AdminInquiryStatusFilter;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.common.Neighbors.SortKey;
 import showroomz.domain.inquiry.entity.OneToOneInquiry;
 import showroomz.domain.inquiry.entity.QOneToOneInquiry;
 import showroomz.domain.inquiry.type.InquiryStatus;
@@ -52,15 +54,19 @@ public class AdminInquiryQueryRepository {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
-    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서를 따른다 (§17-3) */
-    public List<Long> findOrderedIds(AdminInquiryStatusFilter statusFilter, CsCategory type, String keyword) {
-        return queryFactory
+    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서에서 바로 앞·뒤 한 건씩만 읽는다 (§17-3) */
+    public Neighbors findNeighbors(OneToOneInquiry current, AdminInquiryStatusFilter statusFilter,
+                                   CsCategory type, String keyword) {
+        List<SortKey> keys = List.of(
+                SortKey.desc(inquiry.createdAt, current.getCreatedAt()),
+                SortKey.desc(inquiry.id, current.getId()));
+        return Neighbors.seek(keys, (beyond, order) -> queryFactory
                 .select(inquiry.id)
                 .from(inquiry)
                 .join(inquiry.user, user)
-                .where(createWhere(statusFilter, type, keyword))
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
-                .fetch();
+                .where(createWhere(statusFilter, type, keyword), beyond)
+                .orderBy(order)
+                .fetchFirst());
     }
 
     /** 탭 건수 — 상태 조건만 제외하고 유형·검색어는 그대로 반영한다 */
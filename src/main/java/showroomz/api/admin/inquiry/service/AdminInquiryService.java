@@ -10,6 +10,7 @@ import showroomz.api.admin.inquiry.dto.AdminInquiryDto;
 import showroomz.api.admin.inquiry.repository.AdminInquiryQueryRepository;
 import showroomz.api.admin.inquiry.type.AdminInquiryStatusFilter;
 import showroomz.api.seller.auth.repository.SellerRepository;
+import showroomz.domain.common.Neighbors;
 import showroomz.domain.inquiry.entity.OneToOneInquiry;
 import showroomz.domain.inquiry.repository.OneToOneInquiryRepository;
 import showroomz.domain.inquiry.type.InquiryStatus;
@@ -81,10 +82,7 @@ public class AdminInquiryService {
         Users user = inquiry.getUser();
         LocalDateTime now = LocalDateTime.now();
 
-        List<Long> orderedIds = inquiryQueryRepository.findOrderedIds(statusFilter, type, normalize(keyword));
-        int index = orderedIds.indexOf(inquiryId);
-        Long prevId = index > 0 ? orderedIds.get(index - 1) : null;
-        Long nextId = (index >= 0 && index < orderedIds.size() - 1) ? orderedIds.get(index + 1) : null;
+        Neighbors neighbors = inquiryQueryRepository.findNeighbors(inquiry, statusFilter, type, normalize(keyword));
 
         String operatorName = inquiry.isAnswered() ? resolveOperatorName(inquiry.getAnsweredBy()) : null;
 
@@ -105,8 +103,8 @@ public class AdminInquiryService {
                 .operatorName(operatorName)
                 .thread(buildThread(inquiry, operatorName))
                 .history(buildHistory(inquiry, operatorName))
-                .prevInquiryId(prevId)
-                .nextInquiryId(nextId)
+                .prevInquiryId(neighbors.prevId())
+                .nextInquiryId(neighbors.nextId())
                 .build();
     }
 
@@ -11,20 +11,16 @@ import showroomz.api.seller.auth.type.SellerStatus;
 import showroomz.domain.market.entity.Market;
 import showroomz.domain.market.repository.MarketRepository;
 import showroomz.domain.market.type.MarketStatus;
-import showroomz.domain.product.entity.Product;
-import showroomz.domain.product.repository.ProductRepository;
-import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.service.ProductStatusBulkUpdater;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class AdminMarketService {
 
     private final MarketRepository marketRepository;
-    private final ProductRepository productRepository;
+    private final ProductStatusBulkUpdater productStatusBulkUpdater;
 
     @Transactional(readOnly = true)
     public Page<AdminMarketDto.MarketResponse> getMarkets(
@@ -38,36 +34,32 @@ public class AdminMarketService {
                 pageable);
     }
 
+    /**
+     * 정지하면 마켓 상품을 모두 미진열로 돌리고, 다시 활성하면 정지 전 진열 상태로 되돌린다.
+     * 상품은 엔티티로 올리지 않고 {@link ProductStatusBulkUpdater}가 조각 단위로 바꾼다.
+     *
+     * @return 진열 상태가 바뀐 상품 수
+     */
     @Transactional
-    public void updateMarketStatus(Long marketId, AdminMarketDto.UpdateMarketStatusRequest request) {
+    public int updateMarketStatus(Long marketId, AdminMarketDto.UpdateMarketStatusRequest request) {
         Market market = marketRepository.findById(marketId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MARKET_NOT_FOUND));
 
         MarketStatus newStatus = request.getStatus();
 
         if (market.getStatus() == newStatus) {
-            return;
+            return 0;
         }
 
         market.setStatus(newStatus);
 
-        List<Product> products = productRepository.findAllByMarket(market);
-
         if (newStatus == MarketStatus.SUSPENDED) {
-            for (Product product : products) {
-                product.setPreviousDisplayStatus(product.getDisplayStatus());
-                product.setDisplayStatus(ProductDisplayStatus.HIDDEN);
-            }
-        } else if (newStatus == MarketStatus.ACTIVE) {
-            for (Product product : products) {
-                if (product.getPreviousDisplayStatus() != null) {
-                    product.setDisplayStatus(product.getPreviousDisplayStatus());
-                    product.setPreviousDisplayStatus(null);
-                } else {
-                    product.setDisplayStatus(ProductDisplayStatus.DISPLAY);
-                }
-            }
+            return productStatusBulkUpdater.suspendMarket(marketId).changed();
+        }
+        if (newStatus == MarketStatus.ACTIVE) {
+            return productStatusBulkUpdater.restoreMarket(marketId).changed();
         }
+        return 0;
     }
 
     @Transactional
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.admin.post.dto.AdminPostDto;
 import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostAppeal;
 import showroomz.domain.post.entity.PostImage;
@@ -62,6 +63,7 @@ public class AdminPostService {
     private final PostSuspensionRepository postSuspensionRepository;
     private final PostAppealRepository postAppealRepository;
     private final PostReportRepository postReportRepository;
+    private final CreatorRepository creatorRepository;
     private final PostNotificationService postNotificationService;
     private final PostProperties postProperties;
 
@@ -172,6 +174,7 @@ public class AdminPostService {
                 post, request.getReasonCode(), request.getReasonDetail(), request.getPolicyRef(),
                 operatorId, now, deadline));
         post.suspend();
+        creatorRepository.refreshLastPublishedAt(post.getCreator().getId());
 
         // 이 게시물에 걸려 있던 신고를 한꺼번에 닫는다. 신고 하나하나를 따로 처리하게 하면 같은
         // 게시물에 스무 건이 걸렸을 때 스무 번을 눌러야 하고, 그 사이 대기열이 조치가 끝난 건으로 찬다.
@@ -208,6 +211,7 @@ public class AdminPostService {
 
         Post post = appeal.getPost();
         post.republish();
+        creatorRepository.refreshLastPublishedAt(post.getCreator().getId());
 
         postNotificationService.notify(post, PostNotificationEvent.APPEAL_APPROVED,
                 PostNotificationService.payload(
@@ -9,6 +9,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import showroomz.api.admin.productinquiry.type.AdminProductInquiryStatusFilter;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.common.Neighbors.SortKey;
 import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.entity.QProductInquiry;
 import showroomz.domain.inquiry.type.InquiryExposureStatus;
@@ -54,16 +56,19 @@ public class AdminProductInquiryQueryRepository {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
-    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서를 따른다 (§18-3) */
-    public List<Long> findOrderedIds(AdminProductInquiryStatusFilter statusFilter, ProductInquiryType type,
-                                     String keyword) {
-        return queryFactory
+    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서에서 바로 앞·뒤 한 건씩만 읽는다 (§18-3) */
+    public Neighbors findNeighbors(ProductInquiry current, AdminProductInquiryStatusFilter statusFilter,
+                                   ProductInquiryType type, String keyword) {
+        List<SortKey> keys = List.of(
+                SortKey.desc(inquiry.createdAt, current.getCreatedAt()),
+                SortKey.desc(inquiry.id, current.getId()));
+        return Neighbors.seek(keys, (beyond, order) -> queryFactory
                 .select(inquiry.id)
                 .from(inquiry)
                 .join(inquiry.product, product)
-                .where(createWhere(statusFilter, type, keyword))
-                .orderBy(inquiry.createdAt.desc(), inquiry.id.desc())
-                .fetch();
+                .where(createWhere(statusFilter, type, keyword), beyond)
+                .orderBy(order)
+                .fetchFirst());
     }
 
     /** 탭 건수 — 유형·검색어는 그대로 반영하고 상태 조건만 제외한다 */
@@ -10,6 +10,7 @@ import showroomz.api.admin.productinquiry.dto.AdminProductInquiryDto;
 import showroomz.api.admin.productinquiry.repository.AdminProductInquiryQueryRepository;
 import showroomz.api.admin.productinquiry.type.AdminProductInquiryStatusFilter;
 import showroomz.api.seller.auth.repository.SellerRepository;
+import showroomz.domain.common.Neighbors;
 import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.entity.ProductInquiryHistory;
 import showroomz.domain.inquiry.repository.ProductInquiryHistoryRepository;
@@ -89,16 +90,13 @@ public class AdminProductInquiryService {
                                                             ProductInquiryType type, String keyword) {
         ProductInquiry inquiry = getInquiry(inquiryId);
 
-        List<Long> orderedIds = adminProductInquiryQueryRepository.findOrderedIds(
-                statusFilter, type, normalize(keyword));
-        int index = orderedIds.indexOf(inquiryId);
-        Long prevId = index > 0 ? orderedIds.get(index - 1) : null;
-        Long nextId = (index >= 0 && index < orderedIds.size() - 1) ? orderedIds.get(index + 1) : null;
+        Neighbors neighbors = adminProductInquiryQueryRepository.findNeighbors(
+                inquiry, statusFilter, type, normalize(keyword));
 
         List<ProductInquiryHistory> histories =
                 productInquiryHistoryRepository.findByInquiry_IdOrderByCreatedAtDescIdDesc(inquiryId);
 
-        return toDetailResponse(inquiry, prevId, nextId, histories);
+        return toDetailResponse(inquiry, neighbors.prevId(), neighbors.nextId(), histories);
     }
 
     /**
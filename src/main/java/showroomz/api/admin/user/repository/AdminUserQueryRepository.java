@@ -4,6 +4,7 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,9 +19,7 @@ import showroomz.api.app.auth.entity.RoleType;
 import showroomz.domain.history.entity.QUserStatusHistory;
 import showroomz.domain.member.user.entity.QUsers;
 import showroomz.domain.member.user.type.UserStatus;
-import showroomz.domain.order.entity.QOrder;
-import showroomz.domain.order.entity.QOrderProduct;
-import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.order.entity.QUserOrderStats;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -43,8 +42,7 @@ public class AdminUserQueryRepository {
     private final JPAQueryFactory queryFactory;
 
     private static final QUsers user = QUsers.users;
-    private static final QOrder order = QOrder.order;
-    private static final QOrderProduct orderProduct = QOrderProduct.orderProduct;
+    private static final QUserOrderStats orderStats = QUserOrderStats.userOrderStats;
     private static final QUserStatusHistory statusHistory = QUserStatusHistory.userStatusHistory;
 
     /** 정지 탭 요약의 "최근 30일 신규 정지" 기준 */
@@ -69,26 +67,96 @@ public class AdminUserQueryRepository {
     public Page<Row> search(AdminUserTab tab, String keyword, ProviderType providerType,
                             AdminUserSort sort, Pageable pageable) {
         BooleanBuilder where = createWhere(tab, keyword, providerType);
-        NumberExpression<Long> orderCount = orderCount();
+        List<Row> content = sort == AdminUserSort.ORDER_COUNT_DESC
+                ? searchByOrderCount(where, pageable)
+                : searchByUser(where, sort, pageable);
+
+        // 요약 조인은 PK 1:1이라 행 수를 늘리지 않지만, 전체 건수는 조인 없이 세는 편이 싸고 오해도 없다
+        Long total = queryFactory
+                .select(user.count())
+                .from(user)
+                .where(where)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
 
+    private List<Row> searchByUser(BooleanBuilder where, AdminUserSort sort, Pageable pageable) {
+        NumberExpression<Long> orderCount = orderCount();
         List<Tuple> rows = queryFactory
                 .select(user.id, user.nickname, user.name, user.phoneNumber,
                         user.providerType, user.createdAt, user.status, orderCount)
                 .from(user)
-                .leftJoin(order).on(order.user.id.eq(user.id))
-                .leftJoin(orderProduct).on(orderProduct.order.id.eq(order.id)
-                        .and(orderProduct.status.ne(OrderProductStatus.CANCELLED)))
+                .leftJoin(orderStats).on(orderStats.userId.eq(user.id))
                 .where(where)
-                .groupBy(user.id, user.nickname, user.name, user.phoneNumber,
-                        user.providerType, user.createdAt, user.status)
-                .orderBy(orderSpecifiers(sort, orderCount))
+                .orderBy(orderSpecifiers(sort))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+        return toRows(rows, orderCount);
+    }
+
+    /**
+     * 누적 주문 많은 순 — 주문이 있는 회원을 {@code idx_user_order_stats_count}에서 먼저 읽고, 모자란 자리를 주문이
+     * 없는 회원으로 채운다.
+     *
+     * <p>요약을 LEFT JOIN해 {@code COALESCE(order_count, 0)}으로 정렬하면 어느 인덱스로도 순서를 얻지 못해, 한
+     * 페이지를 위해 회원 전체를 정렬한다. 두 구간으로 나누면 앞 구간은 요약 인덱스를 거꾸로 읽다가 페이지가 차면
+     * 멈추고, 뒤 구간(0건)은 회원 PK를 거꾸로 읽는다 — 0건끼리는 원래도 회원번호 역순이었다. 뒤 구간의 OFFSET은
+     * 앞 구간의 행 수를 빼서 구하는데, 앞 구간이 이번 페이지에 한 행이라도 실렸으면 그 수는 따로 세지 않아도 나온다.
+     */
+    private List<Row> searchByOrderCount(BooleanBuilder where, Pageable pageable) {
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<Tuple> ordered = queryFactory
+                .select(user.id, user.nickname, user.name, user.phoneNumber,
+                        user.providerType, user.createdAt, user.status, orderStats.orderCount)
+                .from(orderStats)
+                .join(user).on(user.id.eq(orderStats.userId))
+                .where(where, orderStats.orderCount.gt(0L))
+                // 동점일 때 순서가 흔들리면 페이지를 넘길 때 같은 회원이 두 번 나온다 — 회원번호로 고정한다
+                .orderBy(orderStats.orderCount.desc(), orderStats.userId.desc())
+                .offset(offset)
+                .limit(size)
+                .fetch();
+        List<Row> content = toRows(ordered, orderStats.orderCount);
+        if (content.size() == size) {
+            return content;
+        }
+
+        long orderedTotal = ordered.isEmpty() ? countOrdered(where) : offset + ordered.size();
+        List<Tuple> withoutOrders = queryFactory
+                .select(user.id, user.nickname, user.name, user.phoneNumber,
+                        user.providerType, user.createdAt, user.status)
+                .from(user)
+                .where(where, JPAExpressions.selectOne()
+                        .from(orderStats)
+                        .where(orderStats.userId.eq(user.id), orderStats.orderCount.gt(0L))
+                        .notExists())
+                .orderBy(user.id.desc())
+                .offset(Math.max(0, offset - orderedTotal))
+                .limit(size - content.size())
+                .fetch();
+        content.addAll(toRows(withoutOrders, null));
+        return content;
+    }
+
+    private long countOrdered(BooleanBuilder where) {
+        Long count = queryFactory
+                .select(orderStats.count())
+                .from(orderStats)
+                .join(user).on(user.id.eq(orderStats.userId))
+                .where(where, orderStats.orderCount.gt(0L))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
 
+    /** {@code orderCount}가 null이면(주문 없는 구간) 0건으로 싣는다 */
+    private List<Row> toRows(List<Tuple> rows, NumberExpression<Long> orderCount) {
         List<Row> content = new ArrayList<>(rows.size());
         for (Tuple row : rows) {
-            Long count = row.get(orderCount);
+            Long count = orderCount != null ? row.get(orderCount) : null;
             content.add(new Row(
                     row.get(user.id),
                     row.get(user.nickname),
@@ -100,15 +168,7 @@ public class AdminUserQueryRepository {
                     count != null ? count : 0L
             ));
         }
-
-        // 주문 조인은 LEFT라 행 수를 늘리지 않지만, 전체 건수는 조인 없이 세는 편이 싸고 오해도 없다
-        Long total = queryFactory
-                .select(user.count())
-                .from(user)
-                .where(where)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return content;
     }
 
     /**
@@ -165,23 +225,22 @@ public class AdminUserQueryRepository {
      * 누적 주문 — 취소되지 않은 주문 상품이 하나라도 있는 <b>주문의 수</b>.
      *
      * <p>주문 상품 수가 아니라 주문 수인 것은 화면이 "14건"을 주문 건수로 읽기 때문이다.
-     * 전부 취소된 주문은 {@code orderProduct} 쪽이 null이 되어 {@code count(distinct ...)}에서
-     * 자연히 빠진다.
+     * 페이지마다 주문을 조인해 세지 않고 회원별 요약({@code user_order_stats})을 PK로 붙인다 — 요약 행이 없으면
+     * 주문이 없는 회원이라 0이다. 요약은 주문 쪽 쓰기가 같은 트랜잭션에서 고치고, 새벽 재집계가 원천과 맞춘다.
      *
      * <p>취소 포함 여부는 기획 확인 대기(§25-3 확인필요 ⓐ)다. 잠정적으로 취소를 제외한다 —
      * 이 숫자는 계정 정지 판단의 근거로 쓰이므로 실제로 산 적 없는 건을 세면 안 된다.
      */
     private NumberExpression<Long> orderCount() {
-        return orderProduct.order.id.countDistinct();
+        return orderStats.orderCount.coalesce(0L);
     }
 
-    private OrderSpecifier<?>[] orderSpecifiers(AdminUserSort sort, NumberExpression<Long> orderCount) {
+    /** 누적 주문 많은 순은 {@link #searchByOrderCount}가 따로 읽는다 */
+    private OrderSpecifier<?>[] orderSpecifiers(AdminUserSort sort) {
         AdminUserSort resolved = sort != null ? sort : AdminUserSort.RECENT_JOINED;
         return switch (resolved) {
-            // 동점일 때 순서가 흔들리면 페이지를 넘길 때 같은 회원이 두 번 나온다 — 회원번호로 고정한다
-            case ORDER_COUNT_DESC -> new OrderSpecifier<?>[]{orderCount.desc(), user.id.desc()};
             case MEMBER_NO -> new OrderSpecifier<?>[]{user.id.asc()};
-            case RECENT_JOINED -> new OrderSpecifier<?>[]{user.createdAt.desc(), user.id.desc()};
+            case RECENT_JOINED, ORDER_COUNT_DESC -> new OrderSpecifier<?>[]{user.createdAt.desc(), user.id.desc()};
         };
     }
 
@@ -25,6 +25,7 @@ import showroomz.api.app.user.service.UserService;
 import showroomz.domain.history.entity.UserConsentHistory;
 import showroomz.domain.history.repository.UserConsentHistoryRepository;
 import showroomz.domain.history.type.ConsentType;
+import showroomz.domain.member.service.TakenNameIndex;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.global.config.properties.AppProperties;
 import showroomz.global.error.exception.BusinessException;
@@ -52,6 +53,7 @@ public class AuthController implements AuthControllerDocs {
     private final AuthService authService;
     private final IdentityVerificationService identityVerificationService;
     private final UserConsentHistoryRepository userConsentHistoryRepository;
+    private final TakenNameIndex takenNameIndex;
     
     private final static long THREE_DAYS_MSEC = 259200000;
     private final static long REGISTER_TOKEN_EXPIRY_MSEC = 5 * 60 * 1000;
@@ -150,6 +152,7 @@ public class AuthController implements AuthControllerDocs {
         }
 
         user.setNickname(registerRequest.getNickname());
+        takenNameIndex.addNickname(registerRequest.getNickname());
 
         // 실명·생년월일·성별·연락처는 사용자 입력이 아니라 본인인증 결과로 저장
         user.setName(verification.getName());
@@ -19,6 +19,7 @@ import showroomz.api.app.auth.service.AuthService;
 import showroomz.api.app.user.DTO.NicknameCheckResponse;
 import showroomz.api.app.user.repository.UserRepository;
 import showroomz.api.app.user.service.UserService;
+import showroomz.domain.member.service.TakenNameIndex;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
@@ -43,6 +44,7 @@ public class LocalAuthController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
+    private final TakenNameIndex takenNameIndex;
 
     @PostMapping("/signup")
     public Map<String, String> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
@@ -86,6 +88,7 @@ public class LocalAuthController {
 
         user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
         userRepository.save(user);
+        takenNameIndex.addNickname(nickname);
 
         return Map.of("message", "회원가입이 완료되었습니다.");
     }
@@ -1,13 +1,16 @@
 package showroomz.api.app.auth.filter;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import showroomz.api.app.auth.entity.UserPrincipal;
 import showroomz.api.app.auth.token.AuthToken;
 import showroomz.api.app.auth.token.AuthTokenProvider;
+import showroomz.api.app.auth.token.VerifiedTokenCache;
 import showroomz.global.utils.HeaderUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,11 +18,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.Date;
 
+/**
+ * 요청당 토큰 파싱은 많아야 한 번이다 — 검증 캐시에 있으면 서명 검증 없이 주체를 꺼내 쓰고,
+ * 없을 때만 파싱해 만료 시각까지 캐시에 올려 둔다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final AuthTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -28,27 +37,45 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain)  throws ServletException, IOException {
 
         String tokenStr = HeaderUtil.getAccessToken(request);
-        
+
         // 토큰이 없으면 필터 통과
         if (tokenStr == null || tokenStr.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
-        
-        AuthToken token = tokenProvider.convertAuthToken(tokenStr);
+
+        UserPrincipal principal = verifiedTokenCache.get(tokenStr);
+        if (principal == null) {
+            principal = verify(tokenStr);
+        }
 
         // 토큰이 유효하고 role 클레임이 있는 경우만 인증 처리
-        if (token.validate()) {
-            try {
-                Authentication authentication = tokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            } catch (Exception e) {
-                // role이 없는 토큰(예: register 토큰)은 인증 처리하지 않고 통과
-                log.debug("Token authentication skipped: {}", e.getMessage());
-            }
+        if (principal != null) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    principal, tokenProvider.convertAuthToken(tokenStr), principal.getAuthorities()));
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UserPrincipal verify(String tokenStr) {
+        AuthToken token = tokenProvider.convertAuthToken(tokenStr);
+        Claims claims = token.getTokenClaims();
+        if (claims == null) {
+            return null;
+        }
+        try {
+            UserPrincipal principal = tokenProvider.getPrincipal(claims);
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                verifiedTokenCache.put(tokenStr, principal, expiration.getTime());
+            }
+            return principal;
+        } catch (Exception e) {
+            // role이 없는 토큰(예: register 토큰)은 인증 처리하지 않고 통과
+            log.debug("Token authentication skipped: {}", e.getMessage());
+            return null;
+        }
+    }
+
 }
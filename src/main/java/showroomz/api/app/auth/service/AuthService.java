@@ -14,14 +14,11 @@ import showroomz.api.app.auth.service.SocialLoginService.SocialLoginResult;
 import showroomz.api.app.auth.token.AuthToken;
 import showroomz.api.app.auth.token.AuthTokenProvider;
 import showroomz.api.app.user.repository.UserRepository;
-import showroomz.domain.history.entity.LoginHistory;
-import showroomz.domain.history.repository.LoginHistoryRepository;
-import showroomz.domain.history.type.LoginStatus;
+import showroomz.domain.history.service.LoginHistoryBuffer;
+import showroomz.domain.history.service.LoginHistoryBuffer.PendingLogin;
 import showroomz.global.config.properties.AppProperties;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
-import showroomz.global.service.GeoLocationService;
-import showroomz.global.service.GeoLocationService.GeoLocation;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -34,8 +31,7 @@ public class AuthService {
     private final AuthTokenProvider tokenProvider;
     private final UserRefreshTokenRepository userRefreshTokenRepository;
     private final UserRepository userRepository;
-    private final LoginHistoryRepository loginHistoryRepository;
-    private final GeoLocationService geoLocationService;
+    private final LoginHistoryBuffer loginHistoryBuffer;
     private final SocialLoginService socialLoginService;
 
     /**
@@ -140,26 +136,13 @@ public class AuthService {
     }
 
     /**
-     * 로그인 이력 저장
+     * 로그인 이력 저장 — 큐에 넣고 바로 돌아간다. 위치·디바이스 판정과 INSERT는 {@link LoginHistoryBuffer}가
+     * 모아서 한다.
      * @param userId 사용자 ID
      * @param ip 클라이언트 IP
      * @param userAgent User-Agent 정보
      */
-    @Transactional
     public void saveLoginHistory(Long userId, String ip, String userAgent) {
-        userRepository.findById(userId).ifPresent(user -> {
-            GeoLocation location = geoLocationService.getLocation(ip);
-
-            LoginHistory history = LoginHistory.builder()
-                    .user(user)
-                    .clientIp(ip)
-                    .userAgent(userAgent)
-                    .country(location.getCountry())
-                    .city(location.getCity())
-                    .status(LoginStatus.SUCCESS)
-                    .build();
-
-            loginHistoryRepository.save(history);
-        });
+        loginHistoryBuffer.offer(new PendingLogin(userId, ip, userAgent, LocalDateTime.now()));
     }
 }
@@ -9,6 +9,7 @@ import showroomz.api.app.auth.info.OAuth2UserInfo;
 import showroomz.api.app.auth.info.OAuth2UserInfoFactory;
 import showroomz.api.app.user.repository.UserRepository;
 import showroomz.api.admin.social.service.SocialPolicyService;
+import showroomz.domain.member.service.TakenNameIndex;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.domain.member.user.type.UserStatus;
 import io.jsonwebtoken.Claims;
@@ -46,6 +47,7 @@ import java.util.Map;
 public class SocialLoginService {
 
     private final UserRepository userRepository;
+    private final TakenNameIndex takenNameIndex;
     private final RestTemplate restTemplate; // Bean 주입 권장
     private final SocialPolicyService socialPolicyService; // 주입 추가
 
@@ -323,6 +325,8 @@ public class SocialLoginService {
         // 애플은 JWT에 name이 없으므로 클라이언트에서 받은 name 파라미터를 실명으로 우선 사용
         String realName = (name != null && !name.isEmpty()) ? name : userInfo.getRealName();
         user.setName(realName);
+        // 가입 전(GUEST)이어도 닉네임 중복 확인에는 잡힌다 — 필터도 같이 알아야 한다
+        takenNameIndex.addNickname(userName);
         return userRepository.save(user);
     }
 
@@ -72,7 +72,8 @@ public class AuthToken {
                     .build()
                     .parseClaimsJws(token)
                     .getBody();
-        } catch (SecurityException e) {
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            // java.lang.SecurityException이 아니다 — 서명 불일치(SignatureException)는 jjwt의 SecurityException이다
             log.info("Invalid JWT signature.");
         } catch (MalformedJwtException e) {
             log.info("Invalid JWT token.");
@@ -13,10 +13,9 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.security.Key;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @Slf4j
 public class AuthTokenProvider {
@@ -45,39 +44,40 @@ public class AuthTokenProvider {
         return new AuthToken(token, key);
     }
 
+    /**
+     * 토큰을 <b>한 번만</b> 파싱해 인증 객체를 만든다 — 서명 검증과 클레임 파싱은 같은 호출에서 끝난다.
+     */
     public Authentication getAuthentication(AuthToken authToken) {
-
-        if(authToken.validate()) {
-
-            Claims claims = authToken.getTokenClaims();
-            
-            // role 클레임이 없으면 예외 발생 (register 토큰 등)
-            Object roleClaim = claims.get(AUTHORITIES_KEY);
-            if (roleClaim == null) {
-                throw new TokenValidFailedException("Role claim is missing in token");
-            }
-            
-            Collection<? extends GrantedAuthority> authorities =
-                    Arrays.stream(new String[]{roleClaim.toString()})
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
-
-            log.debug("claims subject := [{}]", claims.getSubject());
-            String roleStr = roleClaim.toString();
-            RoleType roleType = RoleType.of(roleStr);
-            Long userId = claims.get(PK_KEY, Long.class);
-
-            UserPrincipal principal = new UserPrincipal(
-                    userId,
-                    claims.getSubject(),
-                    roleType,
-                    authorities
-            );
-
-            return new UsernamePasswordAuthenticationToken(principal, authToken, authorities);
-        } else {
+        Claims claims = authToken.getTokenClaims();
+        if (claims == null) {
             throw new TokenValidFailedException();
         }
+        UserPrincipal principal = getPrincipal(claims);
+        return new UsernamePasswordAuthenticationToken(principal, authToken, principal.getAuthorities());
+    }
+
+    /**
+     * 검증을 마친 클레임에서 인증 주체를 만든다. role 클레임이 없으면(register 토큰 등) 예외를 던진다.
+     */
+    public UserPrincipal getPrincipal(Claims claims) {
+        Object roleClaim = claims.get(AUTHORITIES_KEY);
+        if (roleClaim == null) {
+            throw new TokenValidFailedException("Role claim is missing in token");
+        }
+
+        String roleStr = roleClaim.toString();
+        Collection<? extends GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(roleStr));
+
+        log.debug("claims subject := [{}]", claims.getSubject());
+        RoleType roleType = RoleType.of(roleStr);
+        Long userId = claims.get(PK_KEY, Long.class);
+
+        return new UserPrincipal(
+                userId,
+                claims.getSubject(),
+                roleType,
+                authorities
+        );
     }
 
 }
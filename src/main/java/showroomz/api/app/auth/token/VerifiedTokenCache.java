@@ -0,0 +1,121 @@
+package showroomz.api.app.auth.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import showroomz.api.app.auth.entity.UserPrincipal;
+import showroomz.global.config.properties.AppProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 주체를 <b>토큰 만료 시각까지</b> 들고 있는 캐시.
+ *
+ * <p>안 읽은 알림 배지·홈 요약처럼 같은 토큰으로 주기적으로 호출하는 클라이언트가 많아서, 매 요청마다
+ * HMAC 검증과 클레임 JSON 파싱을 다시 하는 비용이 가장 흔한 요청에 그대로 얹힌다. 한 번 검증한 토큰은
+ * 만료 전까지 결과가 바뀌지 않으므로(토큰 자체가 불변이고 서명 키도 그대로다) 결과를 재사용해도 판정이 같다.
+ *
+ * <p><b>키는 토큰 원문이 아니라 SHA-256 다이제스트</b>다 — 힙 덤프에 쓸 수 있는 토큰이 남지 않게 하고,
+ * 키 크기도 토큰 길이와 무관하게 고정된다. 크기는 {@code app.auth.tokenCacheSize}로 제한하며
+ * 가득 차면 가장 오래 안 쓴 항목부터 밀어낸다(LRU). 실패한 검증은 캐시하지 않는다.
+ *
+ * <p>적중·미스는 {@code auth.token.cache.hits} / {@code auth.token.cache.misses},
+ * 현재 건수는 {@code auth.token.cache.size} 지표로 나간다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public VerifiedTokenCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this(appProperties.getAuth().getTokenCacheSize(), meterRegistry, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.maxSize = Math.max(0, maxSize);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("auth.token.cache.hits")
+                .description("검증 캐시로 서명 검증을 건너뛴 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("auth.token.cache.misses")
+                .description("토큰을 파싱·검증한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", this, VerifiedTokenCache::size)
+                .description("캐시에 들고 있는 검증된 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 만료 전의 검증된 주체, 없거나 만료됐으면 null
+     */
+    public UserPrincipal get(String token) {
+        if (maxSize == 0) {
+            misses.increment();
+            return null;
+        }
+        String key = digest(token);
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() > now) {
+                hits.increment();
+                return entry.principal();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @param expiresAtMillis 토큰의 exp 클레임 — 이 시각이 지나면 캐시에서도 무효다
+     */
+    public void put(String token, UserPrincipal principal, long expiresAtMillis) {
+        if (maxSize == 0 || expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(principal, expiresAtMillis));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,210 @@
+package showroomz.api.app.cart.service;
+
+import showroomz.domain.cart.entity.Cart;
+import showroomz.domain.cart.type.CartUnavailableReason;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductGroupBuyStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 금액 계산 — 담긴 줄을 한 번 훑어 줄·그룹(쇼룸)·전체 값을 함께 낸다.
+ *
+ * <p>목록, 그룹 배송비, 하단 요약, 선택 가능 수가 예전에는 각자 장바구니를 다시 훑었고 구매 가능 여부도
+ * 그때마다 다시 판정했다. 여기서는 줄마다 사유를 한 번만 판정해 들고 다닌다. 배송비가 그룹 단위로 매겨지므로
+ * 계산의 단위는 그룹 소계이고, 전체 합계는 그룹 소계를 더하기만 한다 — 그룹 배송비 줄과 하단 배송비 합계가
+ * 서로 다른 식으로 계산돼 어긋날 여지도 함께 없앴다.
+ *
+ * <p>입력 줄은 옵션·상품·마켓이 이미 채워져 있어야 한다({@code CartRepository#findAllByUser}의 엔티티 그래프).
+ * 여기서 지연 로딩이 일어나면 줄 수만큼 쿼리가 나간다.
+ */
+final class CartPricing {
+
+    /** 마켓이 비어 있는 데이터도 한 그룹으로 모이도록 0을 쓴다 — 합계에서 빠지지 않게 하기 위한 것이다 */
+    static final long NO_MARKET_KEY = 0L;
+
+    /** 줄 하나. 사유와 금액은 만들 때 한 번만 계산한다. */
+    record Line(Cart cart, CartUnavailableReason unavailableReason, boolean selected,
+                long regularTotal, long saleTotal) {
+    }
+
+    /**
+     * 그룹(쇼룸) 소계. 선택된 줄이 하나도 없으면 부과 배송비는 0이고 무료배송까지 남은 금액도 비워 둔다 —
+     * 아무것도 담기지 않은 그룹에 남은 금액을 띄우면 전액을 더 담아야 하는 것처럼 읽힌다.
+     */
+    record Group(long key, Market market, List<Line> lines, boolean closed,
+                 boolean hasSelectedItems, long selectedRegularTotal, long selectedSaleTotal,
+                 int deliveryFee, Integer freeShippingThreshold, boolean freeShipping,
+                 int chargedDeliveryFee, Long amountToFreeShipping) {
+
+        /** 선택된 줄이 있는데 무료배송 기준에 못 미친다 — 추천 영역이 이 쇼룸의 상품을 앞으로 당긴다 */
+        boolean shortOfFreeShipping() {
+            return amountToFreeShipping != null;
+        }
+    }
+
+    private final List<Group> groups;
+    private final Set<Long> selectedIds;
+    private final int selectableCount;
+    private final int totalCount;
+    private final long regularTotal;
+    private final long saleTotal;
+    private final long deliveryFeeTotal;
+
+    private CartPricing(List<Group> groups, Set<Long> selectedIds, int selectableCount, int totalCount) {
+        this.groups = groups;
+        this.selectedIds = selectedIds;
+        this.selectableCount = selectableCount;
+        this.totalCount = totalCount;
+
+        long regular = 0L;
+        long sale = 0L;
+        long deliveryFee = 0L;
+        for (Group group : groups) {
+            regular += group.selectedRegularTotal();
+            sale += group.selectedSaleTotal();
+            deliveryFee += group.chargedDeliveryFee();
+        }
+        this.regularTotal = regular;
+        this.saleTotal = sale;
+        this.deliveryFeeTotal = deliveryFee;
+    }
+
+    /**
+     * @param carts              표시 순서대로 정렬된 줄 — 그룹 순서는 각 그룹의 첫 줄이 나온 순서를 따른다
+     * @param requestedSelection 화면의 체크 상태. null이면 구매 가능한 줄 전체를 선택으로 본다. 값이 있어도
+     *                           살 수 없는 줄은 선택에서 빠진다 — 마감·품절 항목이 요청에 섞여 와도 합계에
+     *                           들어가지 않는다.
+     */
+    static CartPricing price(List<Cart> carts, Collection<Long> requestedSelection) {
+        Set<Long> requested = requestedSelection != null ? new HashSet<>(requestedSelection) : null;
+
+        Map<Long, List<Line>> linesByGroup = new LinkedHashMap<>();
+        Map<Long, Market> marketByGroup = new LinkedHashMap<>();
+        Set<Long> selectedIds = new HashSet<>();
+        int selectableCount = 0;
+
+        for (Cart cart : carts) {
+            ProductVariant variant = cart.getVariant();
+            CartUnavailableReason reason = unavailableReason(variant);
+            boolean selected = reason == null && (requested == null || requested.contains(cart.getId()));
+
+            int quantity = cart.getQuantity() != null ? cart.getQuantity() : 0;
+            long regular = variant.getRegularPrice() != null ? variant.getRegularPrice() : 0;
+            long sale = variant.getSalePrice() != null ? variant.getSalePrice() : 0;
+
+            if (reason == null) {
+                selectableCount++;
+            }
+            if (selected) {
+                selectedIds.add(cart.getId());
+            }
+
+            Market market = variant.getProduct().getMarket();
+            long key = market != null ? market.getId() : NO_MARKET_KEY;
+            marketByGroup.putIfAbsent(key, market);
+            linesByGroup.computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(new Line(cart, reason, selected, regular * quantity, sale * quantity));
+        }
+
+        List<Group> groups = new ArrayList<>(linesByGroup.size());
+        linesByGroup.forEach((key, lines) -> groups.add(group(key, marketByGroup.get(key), lines)));
+        return new CartPricing(groups, selectedIds, selectableCount, carts.size());
+    }
+
+    private static Group group(long key, Market market, List<Line> lines) {
+        long selectedRegular = 0L;
+        long selectedSale = 0L;
+        boolean hasSelected = false;
+        boolean closed = true;
+        for (Line line : lines) {
+            if (line.selected()) {
+                hasSelected = true;
+                selectedRegular += line.regularTotal();
+                selectedSale += line.saleTotal();
+            }
+            closed &= line.unavailableReason() == CartUnavailableReason.GROUP_BUY_CLOSED;
+        }
+
+        int deliveryFee = market != null && market.getDefaultDeliveryFee() != null ? market.getDefaultDeliveryFee() : 0;
+        Integer threshold = market != null ? market.getFreeShippingThreshold() : null;
+        boolean freeShipping = hasSelected && threshold != null && selectedSale >= threshold;
+        Long amountToFreeShipping = hasSelected && threshold != null && selectedSale < threshold
+                ? threshold - selectedSale
+                : null;
+
+        return new Group(key, market, List.copyOf(lines), closed,
+                hasSelected, selectedRegular, selectedSale,
+                deliveryFee, threshold, freeShipping,
+                hasSelected && !freeShipping ? deliveryFee : 0, amountToFreeShipping);
+    }
+
+    /**
+     * 담은 뒤 살 수 없게 된 사유. 살 수 있으면 null이다.
+     *
+     * <p>마감을 품절보다 먼저 본다 — 공구가 끝났으면 재고가 남아 있어도 살 수 없고, 이때는
+     * 다른 옵션으로 이어질 길도 없어 사유를 "품절"로 말하면 사용자를 헛걸음시킨다.
+     */
+    static CartUnavailableReason unavailableReason(ProductVariant variant) {
+        Product product = variant.getProduct();
+
+        ProductGroupBuyStatus groupBuyStatus = product.getGroupBuyStatus();
+        boolean isGroupBuyConnected = groupBuyStatus != null && groupBuyStatus.isConnected();
+        ProductDisplayStatus displayStatus = product.getDisplayStatus();
+        boolean isDisplayed = displayStatus != null && displayStatus.isVisible();
+        if (!isGroupBuyConnected || !isDisplayed) {
+            return CartUnavailableReason.GROUP_BUY_CLOSED;
+        }
+
+        int stock = variant.getStock() != null ? variant.getStock() : 0;
+        if (Boolean.TRUE.equals(product.getIsOutOfStockForced()) || stock <= 0) {
+            return CartUnavailableReason.SOLD_OUT;
+        }
+        return null;
+    }
+
+    List<Group> groups() {
+        return groups;
+    }
+
+    Set<Long> selectedIds() {
+        return selectedIds;
+    }
+
+    int selectableCount() {
+        return selectableCount;
+    }
+
+    int totalCount() {
+        return totalCount;
+    }
+
+    long regularTotal() {
+        return regularTotal;
+    }
+
+    long saleTotal() {
+        return saleTotal;
+    }
+
+    long discountTotal() {
+        return regularTotal - saleTotal;
+    }
+
+    long deliveryFeeTotal() {
+        return deliveryFeeTotal;
+    }
+
+    long finalTotal() {
+        return saleTotal + deliveryFeeTotal;
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import showroomz.api.app.cart.dto.CartDto;
 import showroomz.api.app.product.DTO.ProductDto;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.cart.entity.Cart;
 import showroomz.domain.cart.repository.CartRepository;
 import showroomz.domain.cart.type.CartUnavailableReason;
@@ -19,20 +19,15 @@ import showroomz.domain.product.entity.ProductOption;
 import showroomz.domain.product.entity.ProductVariant;
 import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.product.repository.ProductVariantRepository;
-import showroomz.domain.product.type.ProductDisplayStatus;
-import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,15 +42,14 @@ public class CartService {
     private static final int RECOMMENDATION_CANDIDATE_MULTIPLIER = 3;
 
     private final CartRepository cartRepository;
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final ProductVariantRepository productVariantRepository;
     private final ProductRepository productRepository;
     private final CreatorFollowRepository creatorFollowRepository;
 
     @Transactional
     public CartDto.AddCartResponse addCart(String username, CartDto.AddCartRequest request) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
         Cart saved = addCartForUser(user, request);
 
         return CartDto.AddCartResponse.builder()
@@ -72,8 +66,7 @@ public class CartService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "추가할 상품이 없습니다.");
         }
 
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         for (CartDto.AddCartRequest request : requests) {
             if (request == null) {
@@ -104,28 +97,24 @@ public class CartService {
      */
     @Transactional(readOnly = true)
     public CartDto.CartListResponse getCart(String username, List<Long> selectedCartItemIds) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         List<Cart> carts = sortedByRecentlyAdded(cartRepository.findAllByUser(user));
-        Set<Long> selectedIds = resolveSelection(carts, selectedCartItemIds);
-
-        List<CartDto.CartGroup> groups = buildGroups(carts, selectedIds);
-        CartSummaryData summaryData = calculateSummary(carts, selectedIds);
+        CartPricing pricing = CartPricing.price(carts, selectedCartItemIds);
 
         CartDto.CartSummary summary = CartDto.CartSummary.builder()
-                .regularTotal(summaryData.regularTotal)
-                .saleTotal(summaryData.saleTotal)
-                .discountTotal(summaryData.discountTotal)
-                .deliveryFeeTotal(summaryData.deliveryFeeTotal)
-                .finalTotal(summaryData.finalTotal)
-                .selectedCount(selectedIds.size())
-                .selectableCount((int) carts.stream().filter(cart -> unavailableReason(cart) == null).count())
-                .totalCount(carts.size())
+                .regularTotal(pricing.regularTotal())
+                .saleTotal(pricing.saleTotal())
+                .discountTotal(pricing.discountTotal())
+                .deliveryFeeTotal(pricing.deliveryFeeTotal())
+                .finalTotal(pricing.finalTotal())
+                .selectedCount(pricing.selectedIds().size())
+                .selectableCount(pricing.selectableCount())
+                .totalCount(pricing.totalCount())
                 .build();
 
         return CartDto.CartListResponse.builder()
-                .groups(groups)
+                .groups(pricing.groups().stream().map(this::toCartGroup).toList())
                 .summary(summary)
                 .build();
     }
@@ -140,14 +129,18 @@ public class CartService {
      * <p>{@code selectedCartItemIds}는 조회와 같은 뜻이다 — 수량을 하나 올렸을 때 하단 요약이
      * <b>체크된 항목만</b>으로 다시 계산돼야 화면이 목록을 다시 부르지 않는다. 생략하면 구매
      * 가능한 항목 전체를 선택한 것으로 본다.
+     *
+     * <p>장바구니는 처음에 한 번만 읽는다. 고칠 줄과 합칠 줄을 그 목록에서 찾고, 고친 뒤의 요약도 같은
+     * 목록으로 계산한다 — 바뀐 것은 메모리에 있는 그 줄뿐이라 다시 읽을 이유가 없다.
      */
     @Transactional
     public CartDto.UpdateCartResponse updateCart(String username, Long cartItemId, CartDto.UpdateCartRequest request,
                                                  List<Long> selectedCartItemIds) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
-        Cart cart = cartRepository.findByIdAndUser(cartItemId, user)
+        // 본인 장바구니 안에서만 찾으므로 남의 항목은 애초에 잡히지 않는다
+        List<Cart> carts = new ArrayList<>(cartRepository.findAllByUser(user));
+        Cart cart = findLine(carts, cartItemId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
 
         if (request.getVariantId() == null && request.getQuantity() == null) {
@@ -168,7 +161,7 @@ public class CartService {
 
         Cart mergedTarget = null;
         if (!targetVariant.getVariantId().equals(cart.getVariant().getVariantId())) {
-            mergedTarget = cartRepository.findByUserAndVariant(user, targetVariant).orElse(null);
+            mergedTarget = findLineOfVariant(carts, targetVariant.getVariantId()).orElse(null);
         }
 
         if (mergedTarget != null && !mergedTarget.getId().equals(cart.getId())) {
@@ -179,6 +172,7 @@ public class CartService {
             }
             mergedTarget.updateQuantity(finalQuantity);
             cartRepository.delete(cart);
+            carts.remove(cart);
             cart = cartRepository.save(mergedTarget);
         } else {
             requireWithinQuantityLimit(requestedQuantity);
@@ -190,10 +184,8 @@ public class CartService {
             cart = cartRepository.save(cart);
         }
 
-        List<Cart> carts = cartRepository.findAllByUser(user);
-        Set<Long> selectedIds =
-                resolveSelection(carts, carryOverSelection(selectedCartItemIds, cartItemId, cart.getId()));
-        CartDto.UpdateSummary summary = toUpdateSummary(calculateSummary(carts, selectedIds));
+        CartDto.UpdateSummary summary = toUpdateSummary(
+                CartPricing.price(carts, carryOverSelection(selectedCartItemIds, cartItemId, cart.getId())));
 
         return CartDto.UpdateCartResponse.builder()
                 .cartId(cart.getId())
@@ -208,6 +200,9 @@ public class CartService {
      * - cartItemIds가 null 또는 비어있으면: 전체 삭제
      * - cartItemIds가 있으면: 해당 ID들만 삭제 (본인 소유 검증 후 deleteAllByIdInBatch)
      *
+     * <p>소유 검증과 삭제 후 요약이 같은 목록을 쓴다 — 처음에 한 번 읽은 장바구니에서 지운 줄만 빼면
+     * 남은 장바구니가 되므로, 지운 뒤 다시 읽지 않는다.
+     *
      * <p>{@code selectedCartItemIds}는 삭제 후 요약을 계산할 <b>화면의 체크 상태</b>다. 지워진
      * 항목은 알아서 빠지므로 화면은 삭제 전 목록을 그대로 넘겨도 된다. 생략하면 남은 항목 중
      * 구매 가능한 것 전체를 선택한 것으로 본다.
@@ -215,16 +210,13 @@ public class CartService {
     @Transactional
     public CartDto.DeleteCartResponse deleteCart(String username, List<Long> cartItemIds,
                                                  List<Long> selectedCartItemIds) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
-        List<Long> deletedIds;
-        String message;
+        List<Cart> carts = cartRepository.findAllByUser(user);
 
         if (cartItemIds == null || cartItemIds.isEmpty()) {
             // 전체 삭제
-            long count = cartRepository.countByUser(user);
-            if (count == 0) {
+            if (carts.isEmpty()) {
                 return CartDto.DeleteCartResponse.builder()
                         .deletedCartItemIds(List.of())
                         .deletedCount(0)
@@ -232,34 +224,34 @@ public class CartService {
                         .summary(emptySummary())
                         .build();
             }
-            List<Cart> allCarts = cartRepository.findAllByUser(user);
-            deletedIds = allCarts.stream().map(Cart::getId).toList();
-            cartRepository.deleteByUser(user);
-            message = count == 1 ? "1개 항목이 삭제되었습니다." : count + "개 항목이 삭제되었습니다.";
-        } else {
-            // 선택 삭제: 본인 소유 검증 후 삭제. 같은 ID가 두 번 실려 와도 한 번 지운 것으로 본다
-            List<Long> requestedIds = cartItemIds.stream().distinct().toList();
-            List<Cart> toDelete = cartRepository.findByIdInAndUser(requestedIds, user);
-            if (toDelete.size() != requestedIds.size()) {
-                Set<Long> foundIds = toDelete.stream().map(Cart::getId).collect(Collectors.toSet());
-                List<Long> unauthorized = requestedIds.stream().filter(id -> !foundIds.contains(id)).toList();
-                throw new BusinessException(ErrorCode.FORBIDDEN,
-                        "장바구니 항목을 찾을 수 없거나 삭제 권한이 없습니다. cartItemIds: " + unauthorized);
-            }
-            deletedIds = toDelete.stream().map(Cart::getId).toList();
+            List<Long> deletedIds = carts.stream().map(Cart::getId).toList();
             cartRepository.deleteAllByIdInBatch(deletedIds);
-            int count = deletedIds.size();
-            message = count == 1 ? "1개 항목이 삭제되었습니다." : count + "개 항목이 삭제되었습니다.";
+            return CartDto.DeleteCartResponse.builder()
+                    .deletedCartItemIds(deletedIds)
+                    .deletedCount(deletedIds.size())
+                    .message(deletedMessage(deletedIds.size()))
+                    .summary(emptySummary())
+                    .build();
         }
 
-        List<Cart> remainingCarts = cartRepository.findAllByUser(user);
-        CartDto.UpdateSummary summary = toUpdateSummary(
-                calculateSummary(remainingCarts, resolveSelection(remainingCarts, selectedCartItemIds)));
+        // 선택 삭제: 본인 소유 검증 후 삭제. 같은 ID가 두 번 실려 와도 한 번 지운 것으로 본다
+        List<Long> deletedIds = cartItemIds.stream().distinct().toList();
+        Set<Long> ownedIds = carts.stream().map(Cart::getId).collect(Collectors.toSet());
+        List<Long> unauthorized = deletedIds.stream().filter(id -> !ownedIds.contains(id)).toList();
+        if (!unauthorized.isEmpty()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN,
+                    "장바구니 항목을 찾을 수 없거나 삭제 권한이 없습니다. cartItemIds: " + unauthorized);
+        }
+        cartRepository.deleteAllByIdInBatch(deletedIds);
+
+        Set<Long> deleted = new HashSet<>(deletedIds);
+        List<Cart> remainingCarts = carts.stream().filter(cart -> !deleted.contains(cart.getId())).toList();
+        CartDto.UpdateSummary summary = toUpdateSummary(CartPricing.price(remainingCarts, selectedCartItemIds));
 
         return CartDto.DeleteCartResponse.builder()
                 .deletedCartItemIds(deletedIds)
                 .deletedCount(deletedIds.size())
-                .message(message)
+                .message(deletedMessage(deletedIds.size()))
                 .summary(summary)
                 .build();
     }
@@ -279,8 +271,7 @@ public class CartService {
      */
     @Transactional(readOnly = true)
     public CartDto.RecommendationListResponse getRecommendations(String username, Integer limit) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         int size = resolveRecommendationLimit(limit);
 
@@ -337,30 +328,10 @@ public class CartService {
      * 본다 — 이 영역은 곁다리라 체크를 옮길 때마다 순서가 흔들릴 이유가 없다.
      */
     private Set<Long> marketsShortOfFreeShipping(List<Cart> carts) {
-        Set<Long> selectedIds = resolveSelection(carts, null);
-
-        Map<Long, Long> selectedTotalByMarket = new LinkedHashMap<>();
-        Map<Long, Integer> thresholdByMarket = new HashMap<>();
-        for (Cart cart : carts) {
-            if (!selectedIds.contains(cart.getId())) {
-                continue;
-            }
-            Long marketId = marketIdOf(cart);
-            selectedTotalByMarket.merge(marketId, lineSaleTotal(cart), Long::sum);
-            Market market = marketOf(cart);
-            if (market != null && market.getFreeShippingThreshold() != null) {
-                thresholdByMarket.put(marketId, market.getFreeShippingThreshold());
-            }
-        }
-
-        Set<Long> markets = new HashSet<>();
-        selectedTotalByMarket.forEach((marketId, total) -> {
-            Integer threshold = thresholdByMarket.get(marketId);
-            if (threshold != null && total < threshold) {
-                markets.add(marketId);
-            }
-        });
-        return markets;
+        return CartPricing.price(carts, null).groups().stream()
+                .filter(CartPricing.Group::shortOfFreeShipping)
+                .map(CartPricing.Group::key)
+                .collect(Collectors.toSet());
     }
 
     private boolean helpsFreeShipping(Product product, Set<Long> nearFreeShippingMarkets) {
@@ -405,123 +376,30 @@ public class CartService {
      * 머리의 D-day(마감 시각)는 아직 내려보내지 않는다. 대신 그룹 전체가 마감·미진열이면
      * {@code isClosed}로 알려, 화면이 끝난 공구에 D-day 자리를 비워 둘 수 있게 한다.
      */
-    private List<CartDto.CartGroup> buildGroups(List<Cart> carts, Set<Long> selectedIds) {
-        Map<Long, List<Cart>> byMarket = new LinkedHashMap<>();
-        for (Cart cart : carts) {
-            byMarket.computeIfAbsent(marketIdOf(cart), key -> new ArrayList<>()).add(cart);
-        }
-
-        List<CartDto.CartGroup> groups = new ArrayList<>();
-        for (List<Cart> groupCarts : byMarket.values()) {
-            Market market = marketOf(groupCarts.get(0));
-
-            List<CartDto.CartItem> items = groupCarts.stream()
-                    .map(cart -> toCartItem(cart, selectedIds.contains(cart.getId())))
-                    .toList();
-
-            boolean isClosed = groupCarts.stream()
-                    .allMatch(cart -> unavailableReason(cart) == CartUnavailableReason.GROUP_BUY_CLOSED);
-
-            groups.add(CartDto.CartGroup.builder()
-                    .marketId(market != null ? market.getId() : null)
-                    .marketName(market != null ? market.getMarketName() : null)
-                    .marketImageUrl(market != null ? market.getMarketImageUrl() : null)
-                    .isClosed(isClosed)
-                    .items(items)
-                    .shipping(buildGroupShipping(market, groupCarts, selectedIds))
-                    .build());
-        }
-        return groups;
-    }
-
-    /**
-     * 그룹 배송비 — 선택된 항목만으로 계산한다.
-     *
-     * <p>선택된 것이 하나도 없으면 부과 배송비는 0이고 "○○원 더 담으면 무료"도 내려보내지 않는다.
-     * 아무것도 담기지 않은 그룹에 남은 금액을 띄우면 전액을 더 담아야 하는 것처럼 읽힌다.
-     */
-    private CartDto.GroupShipping buildGroupShipping(Market market, List<Cart> groupCarts, Set<Long> selectedIds) {
-        int deliveryFee = market != null && market.getDefaultDeliveryFee() != null
-                ? market.getDefaultDeliveryFee()
-                : 0;
-        Integer threshold = market != null ? market.getFreeShippingThreshold() : null;
-
-        long selectedTotal = groupCarts.stream()
-                .filter(cart -> selectedIds.contains(cart.getId()))
-                .mapToLong(this::lineSaleTotal)
-                .sum();
-
-        boolean hasSelectedItems = groupCarts.stream().anyMatch(cart -> selectedIds.contains(cart.getId()));
-        boolean isFreeShipping = hasSelectedItems && threshold != null && selectedTotal >= threshold;
-
-        Long amountToFreeShipping = null;
-        if (hasSelectedItems && threshold != null && selectedTotal < threshold) {
-            amountToFreeShipping = threshold - selectedTotal;
-        }
-
-        return CartDto.GroupShipping.builder()
-                .deliveryFee(deliveryFee)
-                .freeShippingThreshold(threshold)
-                .hasSelectedItems(hasSelectedItems)
-                .selectedProductTotal(selectedTotal)
-                .chargedDeliveryFee(hasSelectedItems && !isFreeShipping ? deliveryFee : 0)
-                .isFreeShipping(isFreeShipping)
-                .amountToFreeShipping(amountToFreeShipping)
+    private CartDto.CartGroup toCartGroup(CartPricing.Group group) {
+        Market market = group.market();
+        return CartDto.CartGroup.builder()
+                .marketId(market != null ? market.getId() : null)
+                .marketName(market != null ? market.getMarketName() : null)
+                .marketImageUrl(market != null ? market.getMarketImageUrl() : null)
+                .isClosed(group.closed())
+                .items(group.lines().stream().map(this::toCartItem).toList())
+                .shipping(CartDto.GroupShipping.builder()
+                        .deliveryFee(group.deliveryFee())
+                        .freeShippingThreshold(group.freeShippingThreshold())
+                        .hasSelectedItems(group.hasSelectedItems())
+                        .selectedProductTotal(group.selectedSaleTotal())
+                        .chargedDeliveryFee(group.chargedDeliveryFee())
+                        .isFreeShipping(group.freeShipping())
+                        .amountToFreeShipping(group.amountToFreeShipping())
+                        .build())
                 .build();
     }
 
-    // ------------------------------------------------------------------ 선택·구매 가능 여부
-
-    /**
-     * 화면의 체크 상태를 서버 계산에 쓸 수 있는 형태로 정리한다.
-     *
-     * <p>{@code requested}가 null이면 구매 가능한 항목 전체를 선택으로 본다. 값이 있으면 그중
-     * 실제로 담겨 있고 살 수 있는 항목만 남긴다 — 마감·품절 항목이 요청에 섞여 들어와도
-     * 합계에 들어가지 않는다.
-     */
-    private Set<Long> resolveSelection(List<Cart> carts, Collection<Long> requested) {
-        Set<Long> purchasable = carts.stream()
-                .filter(cart -> unavailableReason(cart) == null)
-                .map(Cart::getId)
-                .collect(Collectors.toCollection(HashSet::new));
-
-        if (requested == null) {
-            return purchasable;
-        }
-        purchasable.retainAll(new HashSet<>(requested));
-        return purchasable;
-    }
-
-    /**
-     * 담은 뒤 살 수 없게 된 사유. 살 수 있으면 null이다.
-     *
-     * <p>마감을 품절보다 먼저 본다 — 공구가 끝났으면 재고가 남아 있어도 살 수 없고, 이때는
-     * 다른 옵션으로 이어질 길도 없어 사유를 "품절"로 말하면 사용자를 헛걸음시킨다.
-     */
-    private CartUnavailableReason unavailableReason(Cart cart) {
-        return unavailableReason(cart.getVariant());
-    }
-
-    private CartUnavailableReason unavailableReason(ProductVariant variant) {
-        Product product = variant.getProduct();
-
-        ProductGroupBuyStatus groupBuyStatus = product.getGroupBuyStatus();
-        boolean isGroupBuyConnected = groupBuyStatus != null && groupBuyStatus.isConnected();
-        ProductDisplayStatus displayStatus = product.getDisplayStatus();
-        boolean isDisplayed = displayStatus != null && displayStatus.isVisible();
-        if (!isGroupBuyConnected || !isDisplayed) {
-            return CartUnavailableReason.GROUP_BUY_CLOSED;
-        }
-
-        int stock = variant.getStock() != null ? variant.getStock() : 0;
-        if (Boolean.TRUE.equals(product.getIsOutOfStockForced()) || stock <= 0) {
-            return CartUnavailableReason.SOLD_OUT;
-        }
-        return null;
-    }
+    // ------------------------------------------------------------------ 구매 가능 여부
 
     private void requirePurchasable(ProductVariant variant) {
-        CartUnavailableReason reason = unavailableReason(variant);
+        CartUnavailableReason reason = CartPricing.unavailableReason(variant);
         if (reason != null) {
             throw new BusinessException(ErrorCode.CART_ITEM_NOT_PURCHASABLE, reason.getMessage());
         }
@@ -536,7 +414,8 @@ public class CartService {
 
     // ------------------------------------------------------------------ 매핑
 
-    private CartDto.CartItem toCartItem(Cart cart, boolean isSelected) {
+    private CartDto.CartItem toCartItem(CartPricing.Line line) {
+        Cart cart = line.cart();
         ProductVariant variant = cart.getVariant();
         Product product = variant.getProduct();
         Market market = product.getMarket();
@@ -566,8 +445,8 @@ public class CartService {
                 .price(priceInfo)
                 .deliveryFee(market != null && market.getDefaultDeliveryFee() != null ? market.getDefaultDeliveryFee() : 0)
                 .stock(stockInfo)
-                .availability(buildAvailability(unavailableReason(cart)))
-                .isSelected(isSelected)
+                .availability(buildAvailability(line.unavailableReason()))
+                .isSelected(line.selected())
                 .build();
     }
 
@@ -654,72 +533,14 @@ public class CartService {
      * <p>하단 요약과 [주문하기]가 같은 값을 써야 하므로 버튼 라벨에 들어가는 금액도 여기서 나온다.
      * 배송비는 그룹(쇼룸)마다 따로 매겨지고, 그 그룹에서 선택된 것이 없으면 부과하지 않는다.
      */
-    private CartSummaryData calculateSummary(List<Cart> carts, Set<Long> selectedIds) {
-        long regularTotal = 0L;
-        long saleTotal = 0L;
-
-        Map<Long, MarketShippingAccumulator> shippingByMarket = new HashMap<>();
-
-        for (Cart cart : carts) {
-            if (!selectedIds.contains(cart.getId())) {
-                continue;
-            }
-
-            ProductVariant variant = cart.getVariant();
-            int quantity = cart.getQuantity() != null ? cart.getQuantity() : 0;
-            long regular = variant.getRegularPrice() != null ? variant.getRegularPrice() : 0;
-            long sale = variant.getSalePrice() != null ? variant.getSalePrice() : 0;
-
-            regularTotal += regular * quantity;
-            saleTotal += sale * quantity;
-
-            Market market = marketOf(cart);
-
-            MarketShippingAccumulator acc = shippingByMarket.computeIfAbsent(
-                    marketIdOf(cart),
-                    key -> new MarketShippingAccumulator()
-            );
-            acc.saleTotal += sale * quantity;
-            Integer deliveryFee = market != null ? market.getDefaultDeliveryFee() : null;
-            if (deliveryFee != null && deliveryFee > acc.maxDeliveryFee) {
-                acc.maxDeliveryFee = deliveryFee;
-            }
-            Integer threshold = market != null ? market.getFreeShippingThreshold() : null;
-            if (threshold != null) {
-                if (acc.minFreeThreshold == null || threshold < acc.minFreeThreshold) {
-                    acc.minFreeThreshold = threshold;
-                }
-            }
-        }
-
-        long deliveryFeeTotal = 0L;
-        for (MarketShippingAccumulator acc : shippingByMarket.values()) {
-            if (acc.minFreeThreshold != null && acc.saleTotal >= acc.minFreeThreshold) {
-                continue;
-            }
-            deliveryFeeTotal += acc.maxDeliveryFee;
-        }
-
-        long discountTotal = regularTotal - saleTotal;
-        long finalTotal = saleTotal + deliveryFeeTotal;
-
-        return new CartSummaryData(
-                regularTotal,
-                saleTotal,
-                discountTotal,
-                deliveryFeeTotal,
-                finalTotal
-        );
-    }
-
-    private CartDto.UpdateSummary toUpdateSummary(CartSummaryData data) {
+    private CartDto.UpdateSummary toUpdateSummary(CartPricing pricing) {
         return CartDto.UpdateSummary.builder()
-                .regularTotal(data.regularTotal)
-                .saleTotal(data.saleTotal)
-                .discountTotal(data.discountTotal)
-                .deliveryFeeTotal(data.deliveryFeeTotal)
-                .totalProductPrice(data.saleTotal)
-                .expectedTotalPrice(data.finalTotal)
+                .regularTotal(pricing.regularTotal())
+                .saleTotal(pricing.saleTotal())
+                .discountTotal(pricing.discountTotal())
+                .deliveryFeeTotal(pricing.deliveryFeeTotal())
+                .totalProductPrice(pricing.saleTotal())
+                .expectedTotalPrice(pricing.finalTotal())
                 .build();
     }
 
@@ -741,33 +562,16 @@ public class CartService {
                 .toList();
     }
 
-    private long lineSaleTotal(Cart cart) {
-        long sale = cart.getVariant().getSalePrice() != null ? cart.getVariant().getSalePrice() : 0;
-        int quantity = cart.getQuantity() != null ? cart.getQuantity() : 0;
-        return sale * quantity;
-    }
-
-    private Market marketOf(Cart cart) {
-        return cart.getVariant().getProduct().getMarket();
+    private Optional<Cart> findLine(List<Cart> carts, Long cartItemId) {
+        return carts.stream().filter(cart -> cart.getId().equals(cartItemId)).findFirst();
     }
 
-    /** 마켓이 비어 있는 데이터도 한 그룹으로 모이도록 0을 쓴다 — 합계에서 빠지지 않게 하기 위한 것이다 */
-    private Long marketIdOf(Cart cart) {
-        Market market = marketOf(cart);
-        return market != null ? market.getId() : 0L;
+    /** 같은 옵션은 한 줄로만 담긴다(cart_uk) — 옵션을 바꿀 때 합칠 줄이 있는지 본다 */
+    private Optional<Cart> findLineOfVariant(List<Cart> carts, Long variantId) {
+        return carts.stream().filter(cart -> cart.getVariant().getVariantId().equals(variantId)).findFirst();
     }
 
-    private static class MarketShippingAccumulator {
-        private long saleTotal = 0L;
-        private int maxDeliveryFee = 0;
-        private Integer minFreeThreshold = null;
+    private String deletedMessage(int count) {
+        return count + "개 항목이 삭제되었습니다.";
     }
-
-    private record CartSummaryData(
-            long regularTotal,
-            long saleTotal,
-            long discountTotal,
-            long deliveryFeeTotal,
-            long finalTotal
-    ) {}
 }
@@ -1,6 +1,7 @@
 package showroomz.api.app.coupon.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -10,11 +11,12 @@ import showroomz.api.app.coupon.dto.CouponDownloadResponse;
 import showroomz.api.app.coupon.dto.CouponUseResponse;
 import showroomz.api.app.coupon.dto.ProductApplicableCouponDto;
 import showroomz.api.app.coupon.dto.UserCouponDto;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.coupon.entity.Coupon;
 import showroomz.domain.coupon.entity.UserCoupon;
 import showroomz.domain.coupon.repository.CouponRepository;
 import showroomz.domain.coupon.repository.UserCouponRepository;
+import showroomz.domain.coupon.service.CouponStockCounter;
 import showroomz.domain.coupon.type.DiscountType;
 import showroomz.domain.coupon.type.UserCouponStatus;
 import showroomz.domain.product.entity.Product;
@@ -35,15 +37,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserCouponService {
 
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final ProductRepository productRepository;
+    private final CouponStockCounter couponStockCounter;
 
     @Transactional(readOnly = true)
     public List<ProductApplicableCouponDto> getApplicableCouponsForProduct(String username, Long productId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Product product = productRepository.findByProductIdWithMarketAndSeller(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -61,8 +63,7 @@ public class UserCouponService {
 
     @Transactional(readOnly = true)
     public CouponUseResponse useCoupon(String username, Long userCouponId, BigDecimal orderAmount) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         UserCoupon userCoupon = userCouponRepository.findByIdAndUserIdWithCoupon(userCouponId, user.getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_COUPON_NOT_FOUND));
@@ -112,8 +113,7 @@ public class UserCouponService {
 
     @Transactional(readOnly = true)
     public PageResponse<UserCouponDto> getMyCoupons(String username, PagingRequest pagingRequest) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Pageable pageable = pagingRequest.toPageable(Sort.by(Sort.Direction.DESC, "registeredAt"));
         Page<UserCoupon> page = userCouponRepository.findByUserOrderByRegisteredAtDesc(user, pageable);
@@ -125,36 +125,38 @@ public class UserCouponService {
 
     @Transactional
     public UserCoupon registerCoupon(String username, String code) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
-        Coupon coupon = couponRepository.findByCodeForUpdate(code)
+        Coupon coupon = couponRepository.findByCode(code)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(coupon.getStartAt()) || now.isAfter(coupon.getEndAt())) {
-            throw new BusinessException(ErrorCode.COUPON_EXPIRED);
-        }
-
-        if (userCouponRepository.existsByUserAndCoupon(user, coupon)) {
-            throw new BusinessException(ErrorCode.COUPON_ALREADY_REGISTERED);
-        }
-
-        assertRemainingStock(coupon);
-
-        coupon.decreaseRemainingForIssuance();
-        UserCoupon userCoupon = userCouponRepository.save(new UserCoupon(user, coupon));
-        return userCoupon;
+        return issue(user, coupon);
     }
 
     @Transactional
     public CouponDownloadResponse downloadCoupon(String username, Long couponId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
-        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+        Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
 
+        UserCoupon saved = issue(user, coupon);
+        return CouponDownloadResponse.builder()
+                .userCouponId(saved.getId())
+                .message("쿠폰이 성공적으로 발급되었습니다.")
+                .build();
+    }
+
+    /**
+     * 쿠폰 행을 잠그지 않는 발급. 수량 한정 쿠폰은 메모리 계수기에서 한 장을 떼어 둔 뒤 조건부 차감을 보내고,
+     * 그다음에 발급 행을 넣는다 — 쿠폰 행 잠금은 그 UPDATE부터 커밋까지만 걸린다.
+     *
+     * <p>순서를 바꾸면 안 된다. 발급 행을 먼저 넣으면 user_coupon → coupon 외래 키 검사가 쿠폰 행에 공유 잠금을
+     * 걸고, 이어지는 UPDATE는 같은 행의 배타 잠금을 기다린다. 같은 쿠폰을 동시에 받는 두 요청이 서로의 공유 잠금을
+     * 기다리며 MySQL 교착으로 끝난다. 배타 잠금을 먼저 쥐면 외래 키 검사는 이미 쥔 잠금으로 지나간다.
+     * 같은 회원의 동시 요청은 (회원, 쿠폰) 유니크 제약이 막고, 예외로 트랜잭션이 되돌아가며 차감도 함께 되돌아간다.
+     */
+    private UserCoupon issue(Users user, Coupon coupon) {
         LocalDateTime now = LocalDateTime.now();
         if (now.isBefore(coupon.getStartAt()) || now.isAfter(coupon.getEndAt())) {
             throw new BusinessException(ErrorCode.COUPON_EXPIRED);
@@ -164,20 +166,21 @@ public class UserCouponService {
             throw new BusinessException(ErrorCode.COUPON_ALREADY_REGISTERED);
         }
 
-        assertRemainingStock(coupon);
-
-        coupon.decreaseRemainingForIssuance();
-        UserCoupon saved = userCouponRepository.save(new UserCoupon(user, coupon));
-        return CouponDownloadResponse.builder()
-                .userCouponId(saved.getId())
-                .message("쿠폰이 성공적으로 발급되었습니다.")
-                .build();
-    }
-
-    private static void assertRemainingStock(Coupon coupon) {
         Integer remaining = coupon.getRemainingQuantity();
-        if (remaining != null && remaining <= 0) {
-            throw new BusinessException(ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+        if (remaining != null) {
+            if (!couponStockCounter.tryReserve(coupon.getId(), remaining)) {
+                throw new BusinessException(ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+            }
+            if (couponRepository.decreaseRemainingIfAvailable(coupon.getId(), 1) == 0) {
+                couponStockCounter.markSoldOut(coupon.getId());
+                throw new BusinessException(ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+            }
+        }
+
+        try {
+            return userCouponRepository.saveAndFlush(new UserCoupon(user, coupon));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_REGISTERED);
         }
     }
 }
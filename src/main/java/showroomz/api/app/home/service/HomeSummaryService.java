@@ -4,12 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.app.home.dto.HomeSummaryResponse;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.cart.repository.CartRepository;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.user.entity.Users;
-import showroomz.global.error.exception.BusinessException;
-import showroomz.global.error.exception.ErrorCode;
 
 /**
  * C1 홈 상단 요약.
@@ -22,13 +20,12 @@ import showroomz.global.error.exception.ErrorCode;
 @Transactional(readOnly = true)
 public class HomeSummaryService {
 
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final CartRepository cartRepository;
     private final CreatorFollowRepository creatorFollowRepository;
 
     public HomeSummaryResponse getSummary(String username) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         return HomeSummaryResponse.builder()
                 .cartCount(cartRepository.countByUser(user))
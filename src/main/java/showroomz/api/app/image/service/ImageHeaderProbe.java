@@ -0,0 +1,151 @@
+package showroomz.api.app.image.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 업로드 이미지의 <b>헤더만</b> 읽어 실제 형식과 가로·세로를 판정한다 — JPEG SOF, PNG IHDR, GIF 논리 화면 기술자.
+ *
+ * <p>예전에는 {@code ImageIO.read()}로 통째로 디코딩해 크기를 읽었다. 20MB JPEG 한 장이 수십 MB짜리
+ * {@code BufferedImage}로 펼쳐져서, 256MB 힙 컨테이너에서 크리에이터 업로드 두 건이 겹치면 OOM이 났다.
+ * 크기 판정에 필요한 건 앞쪽 수십 바이트~수 KB뿐이라, 여기서는 읽기 버퍼 하나 외에 본문을 메모리에 올리지 않는다.
+ * JPEG의 EXIF·ICC 세그먼트처럼 SOF 앞에 놓인 큰 세그먼트는 읽지 않고 건너뛴다.
+ */
+@Component
+public class ImageHeaderProbe {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final byte[] PNG_SIGNATURE = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+
+    public enum Format {
+        JPEG("image/jpeg", List.of("jpg", "jpeg")),
+        PNG("image/png", List.of("png")),
+        GIF("image/gif", List.of("gif"));
+
+        private final String contentType;
+        private final List<String> extensions;
+
+        Format(String contentType, List<String> extensions) {
+            this.contentType = contentType;
+            this.extensions = extensions;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /** 이 형식으로 인정하는 확장자 중 하나라도 허용 목록에 있는가 */
+        public boolean isAllowedBy(List<String> allowedExtensions) {
+            return extensions.stream().anyMatch(allowedExtensions::contains);
+        }
+    }
+
+    public record ImageHeader(Format format, int width, int height) {
+    }
+
+    /**
+     * 스트림을 닫지 않는다 — 여는 쪽이 닫는다.
+     *
+     * @return 판정 결과, 세 형식 어디에도 맞지 않거나 헤더가 잘려 있으면 null
+     */
+    public ImageHeader probe(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(source, BUFFER_SIZE));
+        try {
+            int first = in.readUnsignedByte();
+            int second = in.readUnsignedByte();
+            if (first == 0xFF && second == 0xD8) {
+                return readJpeg(in);
+            }
+            if (first == (PNG_SIGNATURE[0] & 0xFF) && second == PNG_SIGNATURE[1]) {
+                return readPng(in);
+            }
+            if (first == 'G' && second == 'I') {
+                return readGif(in);
+            }
+            return null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private ImageHeader readPng(DataInputStream in) throws IOException {
+        for (int i = 2; i < PNG_SIGNATURE.length; i++) {
+            if (in.readUnsignedByte() != (PNG_SIGNATURE[i] & 0xFF)) {
+                return null;
+            }
+        }
+        in.readInt(); // IHDR 길이(13)
+        if (in.readInt() != 0x49484452) { // "IHDR" — PNG는 IHDR이 반드시 첫 청크다
+            return null;
+        }
+        return header(Format.PNG, in.readInt(), in.readInt());
+    }
+
+    private ImageHeader readGif(DataInputStream in) throws IOException {
+        byte[] rest = new byte[4];
+        in.readFully(rest);
+        String version = new String(rest, StandardCharsets.US_ASCII);
+        if (!version.equals("F87a") && !version.equals("F89a")) {
+            return null;
+        }
+        // 논리 화면 기술자 — 리틀 엔디언 16비트
+        int width = in.readUnsignedByte() | (in.readUnsignedByte() << 8);
+        int height = in.readUnsignedByte() | (in.readUnsignedByte() << 8);
+        return header(Format.GIF, width, height);
+    }
+
+    /**
+     * SOI 뒤로 세그먼트를 하나씩 건너뛰며 SOF(프레임 헤더)를 찾는다. SOF보다 스캔(SOS)이나 EOI가
+     * 먼저 나오면 올바른 JPEG가 아니다.
+     */
+    private ImageHeader readJpeg(DataInputStream in) throws IOException {
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) {
+                return null;
+            }
+            while (marker == 0xFF) { // 채움 바이트
+                marker = in.readUnsignedByte();
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) { // 길이 없는 단독 마커
+                continue;
+            }
+            int length = in.readUnsignedShort();
+            if (length < 2) {
+                return null;
+            }
+            if (isStartOfFrame(marker)) {
+                in.readUnsignedByte(); // 정밀도
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return header(Format.JPEG, width, height);
+            }
+            in.skipNBytes(length - 2L);
+        }
+    }
+
+    /** SOF0~SOF15 중 DHT(C4)·JPG(C8)·DAC(CC)를 뺀 것 */
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static ImageHeader header(Format format, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        return new ImageHeader(format, width, height);
+    }
+}
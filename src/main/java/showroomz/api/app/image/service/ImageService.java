@@ -14,14 +14,13 @@ import showroomz.global.config.properties.S3Properties;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
-import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import javax.imageio.ImageIO;
 
 @Slf4j
 @Service
@@ -30,6 +29,7 @@ public class ImageService {
 
     private final S3Client s3Client;
     private final S3Properties s3Properties;
+    private final ImageHeaderProbe imageHeaderProbe;
 
     private static final long MAX_FILE_SIZE = 20 * 1024 * 1024; // 20MB
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif");
@@ -65,25 +65,27 @@ public class ImageService {
             throw new BusinessException(ErrorCode.INVALID_FILE_EXTENSION);
         }
 
-        // 4. 대표 이미지(마켓·쇼룸 프로필)인 경우 해상도 및 비율 검증
+        // 4. 이미지는 확장자가 아니라 내용(헤더)으로 실제 형식을 확인한다. 서류(PDF 포함)는 대상이 아니다.
+        ImageHeaderProbe.ImageHeader header = isDocument(type) ? null : probeImage(file, type);
+
+        // 4-1. 대표 이미지(마켓·쇼룸 프로필)인 경우 해상도 및 비율 검증
         //    §22-1 쇼룸 프로필 이미지 규칙(최소 160×160 · 정비율 · 최대 20MB · JPG·PNG·GIF)이
         //    마켓 대표 이미지와 같으므로 같은 검증을 태운다.
         if (type == ImageType.MARKET || type == ImageType.SHOWROOM_PROFILE) {
-            validateSquareThumbnail(file);
+            validateSquareThumbnail(header);
         }
 
-        // 4-1. 게시물 사진은 실제 이미지인지 내용으로 확인하고 크기를 함께 돌려준다(§24-2)
-        Dimension dimension = type == ImageType.POST ? readImageSize(file) : null;
-
         // 5. S3에 업로드
         try {
             String fileName = generateFileName(type, extension);
             String s3Key = getS3Key(type, fileName);
-            String imageUrl = uploadToS3(file, s3Key);
+            String contentType = header != null ? header.format().getContentType() : file.getContentType();
+            String imageUrl = uploadToS3(file, s3Key, contentType);
 
-            return dimension == null
-                    ? new ImageUploadResponse(imageUrl)
-                    : new ImageUploadResponse(imageUrl, dimension.width(), dimension.height());
+            // 게시물 사진은 크기를 함께 돌려준다(§24-2)
+            return type == ImageType.POST
+                    ? new ImageUploadResponse(imageUrl, header.width(), header.height())
+                    : new ImageUploadResponse(imageUrl);
         } catch (IOException e) {
             log.error("파일 업로드 중 IO 오류 발생", e);
             throw new BusinessException(ErrorCode.FILE_UPLOAD_ERROR);
@@ -91,8 +93,12 @@ public class ImageService {
         // uploadToS3 내부에서 발생하는 BusinessException(S3 관련)은 그대로 전파됨
     }
 
+    private boolean isDocument(ImageType type) {
+        return type == ImageType.SIGNUP_DOCUMENT || type == ImageType.CREATOR_DOCUMENT || type == ImageType.CHANGE_REQUEST_DOCUMENT;
+    }
+
     private List<String> getAllowedExtensions(ImageType type) {
-        if (type == ImageType.SIGNUP_DOCUMENT || type == ImageType.CREATOR_DOCUMENT || type == ImageType.CHANGE_REQUEST_DOCUMENT) {
+        if (isDocument(type)) {
             return DOCUMENT_ALLOWED_EXTENSIONS;
         }
         if (type == ImageType.POST) {
@@ -102,28 +108,27 @@ public class ImageService {
     }
 
     /**
-     * 게시물 사진 — <b>내용으로</b> 이미지인지 판정하고 크기를 읽는다.
+     * <b>내용으로</b> 이미지인지 판정하고 크기를 읽는다.
      *
      * <p>확장자 문자열만 보면 {@code 아침루틴_영상.mp4}의 이름을 {@code .jpg}로 바꾼 파일이
-     * 그대로 통과한다(§24-4 와이어의 실패 케이스가 정확히 이것이다). {@code ImageIO.read()}가
-     * {@code null}을 돌려주면 디코더가 없다는 뜻이므로 거절한다 — 대표 이미지 검증이 이미 쓰는 방식이다.
+     * 그대로 통과한다(§24-4 와이어의 실패 케이스가 정확히 이것이다). 헤더가 JPEG·PNG·GIF 어디에도
+     * 맞지 않거나, 맞더라도 이 용도에서 받지 않는 형식(게시물의 GIF 등)이면 거절한다.
+     *
+     * <p>본문을 디코딩하지 않는다 — {@link ImageHeaderProbe} 참고.
      */
-    private Dimension readImageSize(MultipartFile file) {
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) {
+    private ImageHeaderProbe.ImageHeader probeImage(MultipartFile file, ImageType type) {
+        try (InputStream in = file.getInputStream()) {
+            ImageHeaderProbe.ImageHeader header = imageHeaderProbe.probe(in);
+            if (header == null || !header.format().isAllowedBy(getAllowedExtensions(type))) {
                 throw new BusinessException(ErrorCode.INVALID_FILE_EXTENSION);
             }
-            return new Dimension(image.getWidth(), image.getHeight());
+            return header;
         } catch (IOException e) {
             log.error("이미지 읽기 실패", e);
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
     }
 
-    private record Dimension(int width, int height) {
-    }
-
     private String getFileExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         if (lastDotIndex == -1 || lastDotIndex == filename.length() - 1) {
@@ -142,7 +147,10 @@ public class ImageService {
         return "uploads/" + folder + "/" + fileName;
     }
 
-    private String uploadToS3(MultipartFile file, String s3Key) throws IOException {
+    /**
+     * 본문은 멀티파트 스트림에서 S3로 바로 흘려보낸다 — 길이를 알려 주므로 SDK가 본문 전체를 메모리에 모으지 않는다.
+     */
+    private String uploadToS3(MultipartFile file, String s3Key, String contentType) throws IOException {
         try {
             // 1. S3 설정 검증
             String bucket = s3Properties.getBucket();
@@ -163,11 +171,12 @@ public class ImageService {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(s3Key)
-                    .contentType(file.getContentType())
+                    .contentType(contentType)
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
+            try (InputStream body = file.getInputStream()) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(body, file.getSize()));
+            }
 
             log.debug("S3 업로드 성공 - Key: {}", s3Key);
 
@@ -204,30 +213,18 @@ public class ImageService {
     /**
      * 대표 이미지 정밀 검증 (해상도 최소 160×160, 정비율) — 마켓 대표 이미지·쇼룸 프로필 이미지 공통.
      */
-    private void validateSquareThumbnail(MultipartFile file) {
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) {
-                throw new BusinessException(ErrorCode.INVALID_FILE_EXTENSION);
-            }
-
-            int width = image.getWidth();
-            int height = image.getHeight();
+    private void validateSquareThumbnail(ImageHeaderProbe.ImageHeader header) {
+        int width = header.width();
+        int height = header.height();
 
-            // 1. 해상도 검사: 160x160 미만인 경우
-            if (width < 160 || height < 160) {
-                throw new BusinessException(ErrorCode.IMAGE_RESOLUTION_TOO_LOW);
-            }
-
-            // 2. 비율 검사: 정비율(1:1)이 아닌 경우
-            if (width != height) {
-                throw new BusinessException(ErrorCode.IMAGE_RATIO_NOT_SQUARE);
-            }
+        // 1. 해상도 검사: 160x160 미만인 경우
+        if (width < 160 || height < 160) {
+            throw new BusinessException(ErrorCode.IMAGE_RESOLUTION_TOO_LOW);
+        }
 
-        } catch (IOException e) {
-            log.error("이미지 읽기 실패", e);
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        // 2. 비율 검사: 정비율(1:1)이 아닌 경우
+        if (width != height) {
+            throw new BusinessException(ErrorCode.IMAGE_RATIO_NOT_SQUARE);
         }
     }
 }
-
@@ -14,17 +14,23 @@ import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.entity.ProductInquiryHistory;
 import showroomz.domain.inquiry.repository.ProductInquiryHistoryRepository;
 import showroomz.domain.inquiry.repository.ProductInquiryRepository;
+import showroomz.domain.inquiry.support.ProductInquiryNumber;
 import showroomz.domain.inquiry.type.ProductInquiryHistoryType;
 import showroomz.domain.inquiry.type.InquiryStatus;
 import showroomz.domain.inquiry.type.ProductInquiryType;
 import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.domain.product.entity.Product;
 import showroomz.domain.product.entity.ProductImage;
 import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.sequence.service.SequenceAllocator;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,9 +40,12 @@ public class ProductInquiryService {
     private final ProductInquiryHistoryRepository productInquiryHistoryRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final SequenceAllocator sequenceAllocator;
+    private final ModerationService moderationService;
 
     @Transactional
     public Long registerInquiry(Long userId, Long productId, ProductInquiryRegisterRequest request) {
+        requireAppropriateContent(request.getContent());
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -44,6 +53,7 @@ public class ProductInquiryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
 
         ProductInquiry inquiry = ProductInquiry.builder()
+                .inquiryNumber(ProductInquiryNumber.issue(sequenceAllocator, LocalDate.now()))
                 .user(user)
                 .product(product)
                 .type(request.getType())
@@ -87,6 +97,7 @@ public class ProductInquiryService {
             throw new BusinessException(ErrorCode.INQUIRY_ALREADY_ANSWERED);
         }
         requireExposureNormal(inquiry);
+        requireAppropriateContent(request.getContent());
 
         inquiry.update(
                 request.getType(),
@@ -117,6 +128,13 @@ public class ProductInquiryService {
         return inquiry;
     }
 
+    /** 상품 문의는 상품 상세에 공개로 걸린다 — 1:1 문의(운영자만 본다)와 달리 금칙어를 거른다 */
+    private void requireAppropriateContent(String content) {
+        if (moderationService.containsBannedWord(ModerationTarget.PRODUCT_INQUIRY, content)) {
+            throw new BusinessException(ErrorCode.INQUIRY_CONTENT_INAPPROPRIATE);
+        }
+    }
+
     /** 삭제 요청 검토 중이거나 삭제 집행된 문의는 작성자도 손댈 수 없다 (§23-5) */
     private void requireExposureNormal(ProductInquiry inquiry) {
         if (inquiry.isDeleteRequested()) {
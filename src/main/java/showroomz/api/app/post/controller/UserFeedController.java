@@ -14,6 +14,8 @@ import showroomz.api.app.post.DTO.PostDto;
 import showroomz.api.app.post.docs.UserFeedControllerDocs;
 import showroomz.api.app.post.service.UserPostService;
 import showroomz.domain.post.type.LikedPostSort;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
@@ -51,4 +53,31 @@ public class UserFeedController implements UserFeedControllerDocs {
             @ParameterObject @ModelAttribute PagingRequest pagingRequest) {
         return ResponseEntity.ok(postService.getLikedPosts(userPrincipal.getUsername(), sort, pagingRequest));
     }
+
+    @Override
+    @GetMapping("/feed/following/cursor")
+    public ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getFollowingFeedByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest) {
+        return ResponseEntity.ok(postService.getFollowingFeedByCursor(userPrincipal.getUsername(), cursorRequest));
+    }
+
+    @Override
+    @GetMapping("/feed/recommended/cursor")
+    public ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getRecommendedFeedByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest) {
+        String username = userPrincipal != null ? userPrincipal.getUsername() : null;
+        return ResponseEntity.ok(postService.getRecommendedFeedByCursor(username, cursorRequest));
+    }
+
+    @Override
+    @GetMapping("/wishlist/contents/cursor")
+    public ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getLikedPostsByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "sort", required = false, defaultValue = "DEFAULT") LikedPostSort sort,
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest) {
+        return ResponseEntity.ok(
+                postService.getLikedPostsByCursor(userPrincipal.getUsername(), sort, cursorRequest));
+    }
 }
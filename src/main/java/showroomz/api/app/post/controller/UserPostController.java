@@ -15,6 +15,8 @@ import showroomz.api.app.auth.entity.UserPrincipal;
 import showroomz.api.app.post.DTO.PostDto;
 import showroomz.api.app.post.docs.PostControllerDocs;
 import showroomz.api.app.post.service.UserPostService;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
@@ -65,6 +67,25 @@ public class UserPostController implements PostControllerDocs {
         return ResponseEntity.ok(postService.getPostList(username, pagingRequest, showroomId));
     }
 
+    @Override
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getPostListByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest) {
+        String username = userPrincipal != null ? userPrincipal.getUsername() : null;
+        return ResponseEntity.ok(postService.getPostListByCursor(username, cursorRequest, null));
+    }
+
+    @Override
+    @GetMapping("/{showroomId}/posts/cursor")
+    public ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getPostListByShowroomByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable("showroomId") Long showroomId,
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest) {
+        String username = userPrincipal != null ? userPrincipal.getUsername() : null;
+        return ResponseEntity.ok(postService.getPostListByCursor(username, cursorRequest, showroomId));
+    }
+
     @Override
     @PostMapping("/posts/{postId}/wishlist")
     public ResponseEntity<Void> likePost(
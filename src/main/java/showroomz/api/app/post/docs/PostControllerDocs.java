@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import showroomz.api.app.auth.DTO.ErrorResponse;
 import showroomz.api.app.auth.entity.UserPrincipal;
 import showroomz.api.app.post.DTO.PostDto;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
@@ -135,6 +137,76 @@ public interface PostControllerDocs {
             @Parameter(description = "페이징 정보")
             @ParameterObject @ModelAttribute PagingRequest pagingRequest);
 
+    @Operation(summary = "전체 게시글 목록 조회 — 커서 (내부용)",
+            description = """
+                    `/posts`와 같은 목록을 커서로 이어 받는다.
+
+                    - **nextCursor** — 다음 페이지를 받을 때 `cursor`로 그대로 돌려보낸다. 값을 해석하거나
+                      고치지 않는다(서명돼 있어 고치면 400 `INVALID_CURSOR`). `hasNext=false`면 null이다
+                    - **전체 건수 없음** — 페이지 번호 목록의 `pageInfo` 대신 `hasNext`만 온다
+                    - **중간에 새 글이 올라와도** 이미 받은 카드가 다음 페이지에 다시 나오지 않는다.
+                      새 글은 당겨서 새로고침(커서 없이 첫 페이지)으로 받는다
+                    """)
+    ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getPostListByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "커서 정보 (cursor: 직전 응답의 nextCursor, size: 기본 20)")
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest);
+
+    @Operation(
+            summary = "쇼룸별 게시글 목록 조회 — 커서",
+            description = """
+                    `/{showroomId}/posts`와 같은 목록을 커서로 이어 받는다. 커서는 쇼룸별이라 다른 쇼룸의
+                    커서를 넣으면 400이다.
+
+                    - **nextCursor** — 다음 페이지를 받을 때 `cursor`로 그대로 돌려보낸다. 값을 해석하거나
+                      고치지 않는다(서명돼 있어 고치면 400 `INVALID_CURSOR`). `hasNext=false`면 null이다
+                    - **전체 건수 없음** — 페이지 번호 목록의 `pageInfo` 대신 `hasNext`만 온다
+                    - **중간에 새 글이 올라와도** 이미 받은 카드가 다음 페이지에 다시 나오지 않는다.
+                      새 글은 당겨서 새로고침(커서 없이 첫 페이지)으로 받는다
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class),
+                            examples = @ExampleObject(name = "success", value = """
+                                    {
+                                      "content": [
+                                        {
+                                          "contentType": "GENERAL",
+                                          "post": {
+                                            "postId": 123,
+                                            "showroomId": 10,
+                                            "showroomName": "리브의 방",
+                                            "showroomImageUrl": "https://cdn.example.com/showrooms/10.png",
+                                            "isFollowing": false,
+                                            "hasOngoingGroupBuy": false,
+                                            "content": "3주 루틴 기록",
+                                            "imageUrls": ["https://cdn.example.com/posts/123-0.jpg"],
+                                            "imageCount": 1,
+                                            "aspectRatio": 0.8000,
+                                            "impressionCount": 532,
+                                            "isLiked": false,
+                                            "likeCount": 12,
+                                            "likeLocked": false,
+                                            "publishedAt": "2026-03-04T12:34:56"
+                                          }
+                                        }
+                                      ],
+                                      "nextCursor": "MHwyMDI2LTAzLTA0VDEyOjM0OjU2fDEyMw.dGhlLXNpZ25hdHVyZQ",
+                                      "hasNext": true
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "INVALID_CURSOR — 고쳐졌거나 다른 목록의 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getPostListByShowroomByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "쇼룸 ID", required = true, example = "10", in = ParameterIn.PATH)
+            @PathVariable("showroomId") Long showroomId,
+            @Parameter(description = "커서 정보 (cursor: 직전 응답의 nextCursor, size: 기본 20)")
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest);
+
     @Operation(
             summary = "게시글 좋아요",
             description = """
@@ -17,6 +17,8 @@ import showroomz.api.app.auth.DTO.ErrorResponse;
 import showroomz.api.app.auth.entity.UserPrincipal;
 import showroomz.api.app.post.DTO.PostDto;
 import showroomz.domain.post.type.LikedPostSort;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
@@ -214,4 +216,181 @@ public interface UserFeedControllerDocs {
             @RequestParam(name = "sort", required = false, defaultValue = "DEFAULT") LikedPostSort sort,
             @Parameter(description = "페이징 정보 (page: 1부터, size: 기본 20)")
             @ParameterObject @ModelAttribute PagingRequest pagingRequest);
+
+    @Operation(
+            summary = "팔로잉 피드 조회 — 커서",
+            description = """
+                    `/feed/following`과 같은 목록을 커서로 이어 받는다. 무한 스크롤은 이쪽을 쓴다 —
+                    페이지 번호 목록은 깊이 내려갈수록 느려지고, 그 사이 새 글이 올라오면 카드가 한 칸씩 밀려
+                    같은 카드가 두 번 보인다.
+
+                    - **nextCursor** — 다음 페이지를 받을 때 `cursor`로 그대로 돌려보낸다. 값을 해석하거나
+                      고치지 않는다(서명돼 있어 고치면 400 `INVALID_CURSOR`). `hasNext=false`면 null이다
+                    - **전체 건수 없음** — 페이지 번호 목록의 `pageInfo` 대신 `hasNext`만 온다
+                    - **중간에 새 글이 올라와도** 이미 받은 카드가 다음 페이지에 다시 나오지 않는다.
+                      새 글은 당겨서 새로고침(커서 없이 첫 페이지)으로 받는다
+                    - **팔로잉 0명** — `content: []`, `hasNext: false`
+                    - **권한:** USER
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class),
+                            examples = @ExampleObject(name = "success", value = """
+                                    {
+                                      "content": [
+                                        {
+                                          "contentType": "GENERAL",
+                                          "post": {
+                                            "postId": 123,
+                                            "showroomId": 10,
+                                            "showroomName": "리브의 방",
+                                            "showroomImageUrl": "https://cdn.example.com/showrooms/10.png",
+                                            "isFollowing": true,
+                                            "hasOngoingGroupBuy": false,
+                                            "content": "3주 루틴 기록",
+                                            "imageUrls": ["https://cdn.example.com/posts/123-0.jpg"],
+                                            "imageCount": 1,
+                                            "aspectRatio": 0.8000,
+                                            "impressionCount": 532,
+                                            "isLiked": true,
+                                            "likeCount": 12,
+                                            "likeLocked": false,
+                                            "publishedAt": "2026-03-04T12:34:56"
+                                          }
+                                        }
+                                      ],
+                                      "nextCursor": "MHwyMDI2LTAzLTA0VDEyOjM0OjU2fDEyMw.dGhlLXNpZ25hdHVyZQ",
+                                      "hasNext": true
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "INVALID_CURSOR — 고쳐졌거나 다른 목록의 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "토큰의 사용자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getFollowingFeedByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "커서 정보 (cursor: 직전 응답의 nextCursor, size: 기본 20)")
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest);
+
+    @Operation(
+            summary = "추천 피드 조회 — 커서",
+            description = """
+                    `/feed/recommended`와 같은 목록을 커서로 이어 받는다. 팔로잉 피드 커서판의
+                    `hasNext`가 false가 된 뒤 이어 붙인다.
+
+                    - **nextCursor** — 다음 페이지를 받을 때 `cursor`로 그대로 돌려보낸다. 값을 해석하거나
+                      고치지 않는다(서명돼 있어 고치면 400 `INVALID_CURSOR`). `hasNext=false`면 null이다
+                    - **전체 건수 없음** — 페이지 번호 목록의 `pageInfo` 대신 `hasNext`만 온다
+                    - **중간에 새 글이 올라와도** 이미 받은 카드가 다음 페이지에 다시 나오지 않는다.
+                      새 글은 당겨서 새로고침(커서 없이 첫 페이지)으로 받는다
+                    - **스크롤 도중 팔로우한 쇼룸** — 다음 페이지부터 빠진다
+                    - **권한:** 없음(비로그인 허용)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class),
+                            examples = @ExampleObject(name = "success", value = """
+                                    {
+                                      "content": [
+                                        {
+                                          "contentType": "GENERAL",
+                                          "post": {
+                                            "postId": 123,
+                                            "showroomId": 10,
+                                            "showroomName": "리브의 방",
+                                            "showroomImageUrl": "https://cdn.example.com/showrooms/10.png",
+                                            "isFollowing": false,
+                                            "hasOngoingGroupBuy": false,
+                                            "content": "3주 루틴 기록",
+                                            "imageUrls": ["https://cdn.example.com/posts/123-0.jpg"],
+                                            "imageCount": 1,
+                                            "aspectRatio": 0.8000,
+                                            "impressionCount": 532,
+                                            "isLiked": false,
+                                            "likeCount": 12,
+                                            "likeLocked": false,
+                                            "publishedAt": "2026-03-04T12:34:56"
+                                          }
+                                        }
+                                      ],
+                                      "nextCursor": "MHwyMDI2LTAzLTA0VDEyOjM0OjU2fDEyMw.dGhlLXNpZ25hdHVyZQ",
+                                      "hasNext": true
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "INVALID_CURSOR — 고쳐졌거나 다른 목록의 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getRecommendedFeedByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "커서 정보 (cursor: 직전 응답의 nextCursor, size: 기본 20)")
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest);
+
+    @Operation(
+            summary = "좋아요한 게시글 목록 조회 — 커서",
+            description = """
+                    `/wishlist/contents`와 같은 목록을 커서로 이어 받는다.
+
+                    - **nextCursor** — 다음 페이지를 받을 때 `cursor`로 그대로 돌려보낸다. 값을 해석하거나
+                      고치지 않는다(서명돼 있어 고치면 400 `INVALID_CURSOR`). `hasNext=false`면 null이다
+                    - **전체 건수 없음** — 페이지 번호 목록의 `pageInfo` 대신 `hasNext`만 온다
+                    - **중간에 새 글이 올라와도** 이미 받은 카드가 다음 페이지에 다시 나오지 않는다.
+                      새 글은 당겨서 새로고침(커서 없이 첫 페이지)으로 받는다
+                    - **정렬을 바꾸면** 커서 없이 처음부터 다시 받는다. 다른 정렬의 커서는 400이다
+                    - **좋아요한 게시물 N** — 이 응답에는 없다. 상단 카운트는 `/wishlist/contents`의
+                      `pageInfo.totalResults`로 한 번 받는다
+                    - **권한:** USER
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class),
+                            examples = @ExampleObject(name = "success", value = """
+                                    {
+                                      "content": [
+                                        {
+                                          "contentType": "GENERAL",
+                                          "post": {
+                                            "postId": 123,
+                                            "showroomId": 10,
+                                            "showroomName": "리브의 방",
+                                            "showroomImageUrl": "https://cdn.example.com/showrooms/10.png",
+                                            "isFollowing": false,
+                                            "hasOngoingGroupBuy": false,
+                                            "content": "3주 루틴 기록",
+                                            "imageUrls": ["https://cdn.example.com/posts/123-0.jpg"],
+                                            "imageCount": 1,
+                                            "aspectRatio": 0.8000,
+                                            "impressionCount": 532,
+                                            "isLiked": true,
+                                            "likeCount": 12,
+                                            "likeLocked": false,
+                                            "publishedAt": "2026-03-04T12:34:56"
+                                          }
+                                        }
+                                      ],
+                                      "nextCursor": "MHwyMDI2LTAzLTA0VDEyOjM0OjU2fDEyMw.dGhlLXNpZ25hdHVyZQ",
+                                      "hasNext": true
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "INVALID_CURSOR — 고쳐졌거나 다른 목록의 커서",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "토큰의 사용자를 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorResponse<PostDto.FeedItemResponse>> getLikedPostsByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "정렬 기준 (기본 DEFAULT)")
+            @RequestParam(name = "sort", required = false, defaultValue = "DEFAULT") LikedPostSort sort,
+            @Parameter(description = "커서 정보 (cursor: 직전 응답의 nextCursor, size: 기본 20)")
+            @ParameterObject @ModelAttribute CursorRequest cursorRequest);
 }
@@ -5,17 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.app.post.DTO.PostImpressionRequest;
-import showroomz.api.app.user.repository.UserRepository;
-import showroomz.domain.member.user.entity.Users;
+import showroomz.api.app.user.service.UserReference;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostImpression;
 import showroomz.domain.post.repository.PostImpressionRepository;
 import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.service.PostAttributionIndex;
+import showroomz.domain.post.service.PostImpressionBuffer;
+import showroomz.domain.post.service.PostImpressionBuffer.PendingImpression;
 import showroomz.domain.post.service.PostAttributionService;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -29,11 +33,15 @@ import java.util.Set;
  *
  * <p>중복 노출은 쇼룸 방문(§22-4)과 <b>같은 30분 세션 규칙</b>으로 적재 시점에 거른다. 집계 때 접으면
  * 조회마다 원본 로그를 훑어야 하는데, 노출 로그는 이 서비스에서 가장 빨리 불어나는 데이터다.
+ *
+ * <p>로그와 카운터는 요청 안에서 쓰지 않고 {@link PostImpressionBuffer}에 넘긴다 — 플러셔가 둘을 한
+ * 트랜잭션으로 같이 쓰므로 "같은 자리에서 올린다"는 규칙은 그대로다. 세션 판정은 DB에 이미 쓴 노출과
+ * 버퍼에 대기 중인 노출을 함께 본다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class PostImpressionService {
 
     /**
@@ -46,15 +54,18 @@ public class PostImpressionService {
 
     private final PostRepository postRepository;
     private final PostImpressionRepository postImpressionRepository;
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
+    private final PostAttributionIndex postAttributionIndex;
+    private final PostImpressionBuffer postImpressionBuffer;
 
     /**
      * @param username 로그인 조회면 로그인 아이디, 비로그인 조회면 null
      */
     public void recordImpressions(String username, PostImpressionRequest request) {
-        Users viewer = username == null ? null : userRepository.findByUsername(username).orElse(null);
-        String viewerKey = PostAttributionService.viewerKeyOf(
-                viewer == null ? null : viewer.getId(), request.getVisitorId());
+        // 노출 행에는 조회자 id만 들어간다 — 회원 행을 읽을 필요 없이 캐시의 id로 충분하다
+        Long viewerId = username == null ? null
+                : userReferenceCache.find(username).map(UserReference::id).orElse(null);
+        String viewerKey = PostAttributionService.viewerKeyOf(viewerId, request.getVisitorId());
         if (viewerKey == null) {
             // 식별자가 없으면 같은 사람의 재노출을 접을 수 없어 노출 수가 부풀고 귀속도 성립하지 않는다.
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
@@ -68,20 +79,28 @@ public class PostImpressionService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime sessionStart = now.minusMinutes(PostImpression.SESSION_MINUTES);
 
-        // 배치 전체를 두 번의 조회로 판정한다 — 게시물 조회와 세션 판정을 카드마다 하면
-        // 상한(50건)까지 채운 요청 하나가 조회 100번이 된다.
-        Set<Long> alreadyCounted = Set.copyOf(
-                postImpressionRepository.findCountedPostIds(postIds, viewerKey, sessionStart));
-
+        List<PendingImpression> impressions = new ArrayList<>(postIds.size());
         for (Post post : postRepository.findAllById(postIds)) {
             // 없거나 이미 내려간 게시물의 노출은 조용히 버린다 — 화면에 떠 있던 카드가 그 사이 내려갔을 뿐이고,
             // 노출 적재 실패로 피드 스크롤이 멈출 이유는 없다. (없는 게시물은 조회 결과에서 그냥 빠진다)
-            if (!post.isVisibleToConsumer() || alreadyCounted.contains(post.getId())) {
-                continue;
+            if (post.isVisibleToConsumer()) {
+                impressions.add(new PendingImpression(
+                        post.getId(), post.getCreator().getId(), viewerId, viewerKey, now));
             }
-            postImpressionRepository.save(new PostImpression(
-                    post, post.getCreator().getId(), viewer, viewerKey, now));
-            post.increaseImpressionCount();
+        }
+        if (impressions.isEmpty()) {
+            return;
+        }
+
+        // 세션 판정은 배치 전체를 한 번의 조회로 한다 — 카드마다 하면 상한(50건)까지 채운 요청 하나가
+        // 조회 50번이 된다. 버퍼가 대기 중인 쌍을 먼저 잡은 뒤 부르므로 아직 쓰지 않은 노출도 걸러진다.
+        List<PendingImpression> accepted = postImpressionBuffer.offer(impressions, candidatePostIds ->
+                postImpressionRepository.findCountedPostIds(candidatePostIds, viewerKey, sessionStart));
+
+        for (PendingImpression impression : accepted) {
+            // 귀속 색인은 받는 즉시 올린다 — 방문·팔로우가 노출 로그를 다시 읽지 않게 하려는 것이고,
+            // 버퍼가 아직 쓰지 않은 노출에도 귀속이 성립해야 한다
+            postAttributionIndex.record(viewerKey, impression.creatorId(), impression.postId(), now);
         }
     }
 
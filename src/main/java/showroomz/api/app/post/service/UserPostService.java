@@ -3,12 +3,15 @@ package showroomz.api.app.post.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.app.post.DTO.PostDto;
 import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
@@ -20,12 +23,18 @@ import showroomz.domain.post.entity.PostLike;
 import showroomz.domain.post.policy.PostPolicies;
 import showroomz.domain.post.repository.PostImageRepository;
 import showroomz.domain.post.repository.PostLikeRepository;
+import showroomz.domain.post.repository.PostLikeRepositoryCustom.LikedPost;
 import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.repository.PostRepositoryCustom;
+import showroomz.domain.post.timeline.FollowingTimelines;
 import showroomz.domain.post.type.LikedPostSort;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
+import showroomz.global.utils.CursorCodec;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,6 +53,9 @@ import java.util.stream.Collectors;
  * <p>상세 조회에서 조회수를 올리지 않는다. 노출은 이제 뷰포트 진입을 기준으로
  * {@link PostImpressionService}가 적재한다 — 상세를 열 때마다 세면 피드에서 스쳐 지나간 노출과
  * 상세를 연 노출이 같은 지표에 뒤섞인다.
+ *
+ * <p>목록마다 커서판({@code ...ByCursor})이 따로 있다. 응답 모양만 다르고 고르는 게시물과 순서는 같다 —
+ * 페이지 번호 목록은 기존 앱 버전이 계속 부르므로 남겨 둔다.
  */
 @Slf4j
 @Service
@@ -59,6 +71,8 @@ public class UserPostService {
     private final UserRepository userRepository;
     private final ConnectionRepository connectionRepository;
     private final PostPolicies postPolicies;
+    private final CursorCodec cursorCodec;
+    private final FollowingTimelines followingTimelines;
 
     public PostDto.PostDetailResponse getPostById(String username, Long postId) {
         Post post = postRepository.findByIdWithImages(postId)
@@ -173,6 +187,91 @@ public class UserPostService {
         return toFeed(postPage, allLiked, followedCreatorIds(user, postPage.getContent()));
     }
 
+    // ------------------------------------------------------------------ 커서 목록
+
+    public CursorResponse<PostDto.FeedItemResponse> getPostListByCursor(
+            String username, CursorRequest cursorRequest, Long showroomId) {
+        String scope = showroomId != null ? "posts:showroom:" + showroomId : "posts";
+        SeekKey after = cursorCodec.decode(scope, cursorRequest.getCursor());
+        int size = cursorRequest.resolvedSize();
+        Slice<Post> slice = showroomId != null
+                ? postRepository.findDisplayedPostsByCreatorId(showroomId, after, size)
+                : postRepository.findDisplayedPosts(after, size);
+
+        Users user = findUser(username);
+        return toCursorFeed(scope, slice,
+                likedPostIds(user, slice.getContent()), followedCreatorIds(user, slice.getContent()));
+    }
+
+    /**
+     * {@link #getFollowingFeed}의 커서판. 팔로우한 쇼룸 전체로 DB를 읽는 대신 {@link FollowingTimelines}가 미리 줄
+     * 세워 둔 게시물 id에서 읽는다 — 고르는 게시물과 순서는 같다. 페이지 번호 목록은 전체 건수가 필요해 그대로
+     * DB에서 센다.
+     */
+    public CursorResponse<PostDto.FeedItemResponse> getFollowingFeedByCursor(
+            String username, CursorRequest cursorRequest) {
+        Users user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        SeekKey after = cursorCodec.decode("following", cursorRequest.getCursor());
+
+        Slice<Post> slice = followingTimelines.page(user.getId(), after, cursorRequest.resolvedSize());
+        if (slice.isEmpty()) {
+            return CursorResponse.empty();
+        }
+
+        // 이 목록은 정의상 전부 팔로우 중인 쇼룸이다 — 다시 물어볼 필요가 없다
+        Set<Long> followed = slice.getContent().stream()
+                .map(post -> post.getCreator().getId())
+                .collect(Collectors.toSet());
+        return toCursorFeed("following", slice, likedPostIds(user, slice.getContent()), followed);
+    }
+
+    /**
+     * {@link #getRecommendedFeed}의 커서판. 제외 목록은 페이지마다 새로 읽는다 — 스크롤 도중 팔로우한 쇼룸은
+     * 다음 페이지부터 빠지고, 순서 키가 게시 시각이라 이미 받은 카드가 다시 나오지는 않는다.
+     */
+    public CursorResponse<PostDto.FeedItemResponse> getRecommendedFeedByCursor(
+            String username, CursorRequest cursorRequest) {
+        Users user = findFeedUser(username);
+        SeekKey after = cursorCodec.decode("recommended", cursorRequest.getCursor());
+
+        List<Long> excluded = new ArrayList<>();
+        if (user != null) {
+            excluded.addAll(creatorFollowRepository.findCreatorIdsByUserId(user.getId()));
+            creatorRepository.findByUser_Id(user.getId()).ifPresent(creator -> excluded.add(creator.getId()));
+        }
+
+        Slice<Post> slice = postRepository.findRecommendedPosts(excluded, after, cursorRequest.resolvedSize());
+        return toCursorFeed("recommended", slice,
+                likedPostIds(user, slice.getContent()), Set.of());
+    }
+
+    /**
+     * {@link #getLikedPosts}의 커서판. 상단 "좋아요한 게시물 N"은 이 응답에 없다 — 그 숫자가 필요한 화면은
+     * 페이지 번호 목록의 첫 페이지에서 한 번만 받는다.
+     *
+     * <p>커서는 정렬 기준별로 따로다. 정렬을 바꾸면 키의 뜻이 달라지므로 처음부터 다시 받는다.
+     */
+    public CursorResponse<PostDto.FeedItemResponse> getLikedPostsByCursor(
+            String username, LikedPostSort sort, CursorRequest cursorRequest) {
+        Users user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        LikedPostSort resolved = sort != null ? sort : LikedPostSort.DEFAULT;
+        String scope = "liked:" + resolved.name();
+        SeekKey after = cursorCodec.decode(scope, cursorRequest.getCursor());
+
+        Slice<LikedPost> liked = postLikeRepository.findLikedPostsByUserId(
+                user.getId(), resolved, after, cursorRequest.resolvedSize());
+        List<Post> posts = liked.getContent().stream().map(LikedPost::post).toList();
+        Set<Long> allLiked = posts.stream().map(Post::getId).collect(Collectors.toSet());
+
+        String nextCursor = liked.hasNext()
+                ? cursorCodec.encode(scope, liked.getContent().get(liked.getNumberOfElements() - 1).seekKey())
+                : null;
+        return new CursorResponse<>(toFeedItems(posts, allLiked, followedCreatorIds(user, posts)),
+                nextCursor, liked.hasNext());
+    }
+
     @Transactional
     public void likePost(String username, Long postId) {
         Users user = userRepository.findByUsername(username)
@@ -214,10 +313,26 @@ public class UserPostService {
 
     private PageResponse<PostDto.FeedItemResponse> toFeed(
             Page<Post> postPage, Set<Long> likedPostIds, Set<Long> followedCreatorIds) {
-        Map<Long, List<String>> imagesByPost = imagesByPost(postPage.getContent());
-        Set<Long> ongoingGroupBuyCreatorIds = ongoingGroupBuyCreatorIds(postPage.getContent());
+        List<PostDto.FeedItemResponse> items = toFeedItems(postPage.getContent(), likedPostIds, followedCreatorIds);
+        return new PageResponse<>(new PageImpl<>(items, postPage.getPageable(), postPage.getTotalElements()));
+    }
+
+    private CursorResponse<PostDto.FeedItemResponse> toCursorFeed(
+            String scope, Slice<Post> slice, Set<Long> likedPostIds, Set<Long> followedCreatorIds) {
+        List<Post> posts = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? cursorCodec.encode(scope, PostRepositoryCustom.seekKeyOf(posts.get(posts.size() - 1)))
+                : null;
+        return new CursorResponse<>(toFeedItems(posts, likedPostIds, followedCreatorIds),
+                nextCursor, slice.hasNext());
+    }
+
+    private List<PostDto.FeedItemResponse> toFeedItems(
+            List<Post> posts, Set<Long> likedPostIds, Set<Long> followedCreatorIds) {
+        Map<Long, List<String>> imagesByPost = imagesByPost(posts);
+        Set<Long> ongoingGroupBuyCreatorIds = ongoingGroupBuyCreatorIds(posts);
 
-        Page<PostDto.FeedItemResponse> dtoPage = postPage.map(post -> {
+        return posts.stream().map(post -> {
             List<String> imageUrls = imagesByPost.getOrDefault(post.getId(), List.of());
             Creator creator = post.getCreator();
             PostDto.PostListItem item = PostDto.PostListItem.builder()
@@ -241,8 +356,7 @@ public class UserPostService {
                     .contentType(post.getPostType().name())
                     .post(item)
                     .build();
-        });
-        return new PageResponse<>(dtoPage);
+        }).toList();
     }
 
     private Set<Long> likedPostIds(Users user, List<Post> posts) {
@@ -125,6 +125,9 @@ public class ProductDto {
         @Schema(description = "리뷰 수", example = "850")
         private Long reviewCount;
 
+        @Schema(description = "평균 평점 (소수 첫째 자리). 리뷰가 없으면 0.0", example = "4.6")
+        private Double averageRating;
+
         @Schema(description = "찜 여부", example = "false")
         private Boolean isWished;
     }
@@ -235,6 +238,26 @@ public class ProductDto {
 
         @Schema(description = "판매자 정보 (판매자 정보 탭 · 전자상거래법 표시 항목)")
         private SellerInfo sellerInfo;
+
+        @Schema(description = "리뷰 요약 (평균 평점 · 점수별 분포) — 리뷰 목록은 별도 API")
+        private ReviewSummary reviewSummary;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "리뷰 요약")
+    public static class ReviewSummary {
+        @Schema(description = "리뷰 수", example = "850")
+        private Long reviewCount;
+
+        @Schema(description = "평균 평점 (소수 첫째 자리). 리뷰가 없으면 0.0", example = "4.6")
+        private Double averageRating;
+
+        @Schema(description = "점수별 리뷰 수 — 1점부터 5점까지 순서대로 다섯 칸", example = "[3, 5, 40, 202, 600]")
+        private List<Long> ratingCounts;
     }
 
     @Getter
@@ -0,0 +1,105 @@
+package showroomz.api.app.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.service.ProductReviewStatsService;
+import showroomz.domain.wishlist.repository.WishlistRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 카드 목록의 페이지 단위 보강 — 찜 여부 · 찜 수 · 재고 유무 · 리뷰 요약을 <b>페이지 전체에 대해 한 번씩</b> 읽는다.
+ *
+ * <p>카드마다 exists/count를 부르고 옵션 컬렉션을 지연 로딩하면 20개 페이지가 60번 넘게 DB를 왕복하고,
+ * 지연 시간이 페이지 크기에 비례해 늘어난다. 여기서는 페이지 크기와 무관하게 쿼리 수가 고정된다
+ * (비회원 3회, 회원 4회). 방식은 {@code CommonMarketService#getPopularProducts}의 Batch Fetching과 같다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductCardEnricher {
+
+    private final WishlistRepository wishlistRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final ProductReviewStatsService productReviewStatsService;
+
+    /**
+     * @param userId 찜 여부를 볼 회원 ID (비회원이면 null — 찜 여부 조회를 건너뛴다)
+     */
+    public ProductCardStats load(List<Product> products, Long userId) {
+        if (products == null || products.isEmpty()) {
+            return ProductCardStats.EMPTY;
+        }
+        List<Long> productIds = products.stream()
+                .map(Product::getProductId)
+                .distinct()
+                .toList();
+
+        Set<Long> wishedProductIds = userId != null
+                ? wishlistRepository.findProductIdsWishedByUserAndProductIdIn(userId, productIds)
+                : Set.of();
+        Map<Long, Long> wishCounts = toMapFromCountQuery(wishlistRepository.countWishlistByProductIds(productIds));
+        Set<Long> inStockProductIds = productVariantRepository.findProductIdsInStockByProductIdIn(productIds);
+        Map<Long, ProductReviewStats> reviewStats = productReviewStatsService.findByProductIds(productIds);
+
+        return new ProductCardStats(wishedProductIds, wishCounts, inStockProductIds, reviewStats);
+    }
+
+    private Map<Long, Long> toMapFromCountQuery(List<Object[]> rows) {
+        Map<Long, Long> map = new HashMap<>();
+        if (rows != null) {
+            for (Object[] row : rows) {
+                if (row.length >= 2 && row[0] instanceof Long productId && row[1] instanceof Number count) {
+                    map.put(productId, count.longValue());
+                }
+            }
+        }
+        return map;
+    }
+
+    /** 한 페이지 분량의 카드 보강 값. 결과에 없는 상품은 찜 0 · 미찜 · 재고 없음 · 리뷰 없음이다. */
+    public record ProductCardStats(
+            Set<Long> wishedProductIds,
+            Map<Long, Long> wishCounts,
+            Set<Long> inStockProductIds,
+            Map<Long, ProductReviewStats> reviewStats
+    ) {
+        static final ProductCardStats EMPTY = new ProductCardStats(Set.of(), Map.of(), Set.of(), Map.of());
+
+        public ProductCardStats {
+            wishedProductIds = wishedProductIds != null ? wishedProductIds : Set.of();
+            wishCounts = wishCounts != null ? wishCounts : Map.of();
+            inStockProductIds = inStockProductIds != null ? inStockProductIds : Set.of();
+            reviewStats = reviewStats != null ? reviewStats : Map.of();
+        }
+
+        public boolean isWished(Long productId) {
+            return wishedProductIds.contains(productId);
+        }
+
+        public long wishCount(Long productId) {
+            return wishCounts.getOrDefault(productId, 0L);
+        }
+
+        public boolean hasStock(Long productId) {
+            return inStockProductIds.contains(productId);
+        }
+
+        public long reviewCount(Long productId) {
+            ProductReviewStats stats = reviewStats.get(productId);
+            return stats != null ? stats.getReviewCount() : 0L;
+        }
+
+        public double averageRating(Long productId) {
+            ProductReviewStats stats = reviewStats.get(productId);
+            return stats != null ? stats.averageRating() : 0.0;
+        }
+    }
+}
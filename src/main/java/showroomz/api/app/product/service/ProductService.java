@@ -25,13 +25,15 @@ import showroomz.domain.product.repository.ProductOptionGroupRepository;
 import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.product.repository.ProductVariantRepository;
 import showroomz.domain.category.service.CategoryHierarchyService;
-import showroomz.domain.wishlist.repository.WishlistRepository;
+import showroomz.domain.review.service.ProductReviewStatsService;
+import showroomz.domain.search.KeywordSearchIndex;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -48,9 +50,16 @@ public class ProductService {
     private final FilterRepository filterRepository;
     private final ProductOptionGroupRepository productOptionGroupRepository;
     private final ProductVariantRepository productVariantRepository;
-    private final WishlistRepository wishlistRepository;
+    private final ProductCardEnricher productCardEnricher;
     private final ObjectMapper objectMapper;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final ProductReviewStatsService productReviewStatsService;
     private static final String DEFAULT_SORT = "RECOMMEND";
+    /**
+     * 색인 후보를 IN 목록으로 넘길 상한. 넘으면 "티"처럼 카탈로그 대부분에 걸리는 검색어라 PK 조회의 이점이
+     * 없고 문장만 길어지므로 예전 LIKE 쿼리로 간다.
+     */
+    static final int MAX_INDEXED_CANDIDATES = 1_000;
     private static final String SORT_FILTER_KEY = "sort";
 
     /**
@@ -83,19 +92,37 @@ public class ProductService {
         String sortType = parsedFilters.sortType != null ? parsedFilters.sortType : DEFAULT_SORT;
         List<ProductFilterCriteria> filterCriteria = buildFilterCriteria(parsedFilters.filters);
 
-        // 검색 실행
-        Page<Product> productPage = productRepository.searchProductsForUser(
-                keyword,
-                categoryIds,
-                request.getMarketId(),
-                filterCriteria,
-                sortType,
-                pageable
-        );
-
-        // DTO 변환
-        List<ProductDto.ProductItem> productItems = productPage.getContent().stream()
-                .map(product -> convertToProductItem(product, currentUser))
+        // 검색 실행 — 키워드는 색인이 후보 id로 바꿔 주면 그 안에서만 찾는다
+        long[] candidates = keyword != null ? keywordSearchIndex.findProductIds(keyword) : null;
+        Page<Product> productPage;
+        if (candidates != null && candidates.length == 0) {
+            productPage = Page.empty(pageable);
+        } else if (candidates != null && candidates.length <= MAX_INDEXED_CANDIDATES) {
+            productPage = productRepository.searchProductsForUserIn(
+                    Arrays.stream(candidates).boxed().toList(),
+                    categoryIds,
+                    request.getMarketId(),
+                    filterCriteria,
+                    sortType,
+                    pageable
+            );
+        } else {
+            productPage = productRepository.searchProductsForUser(
+                    keyword,
+                    categoryIds,
+                    request.getMarketId(),
+                    filterCriteria,
+                    sortType,
+                    pageable
+            );
+        }
+
+        // DTO 변환 — 찜 여부·찜 수·재고 유무는 페이지 단위로 한 번에 읽는다
+        List<Product> products = productPage.getContent();
+        ProductCardEnricher.ProductCardStats cardStats =
+                productCardEnricher.load(products, currentUser != null ? currentUser.getId() : null);
+        List<ProductDto.ProductItem> productItems = products.stream()
+                .map(product -> convertToProductItem(product, cardStats))
                 .collect(Collectors.toList());
 
         return new PageResponse<>(productItems, productPage);
@@ -145,9 +172,25 @@ public class ProductService {
                 .optionGroups(optionGroups)
                 .variants(variants)
                 .sellerInfo(buildSellerInfo(market))
+                .reviewSummary(buildReviewSummary(productId))
                 .build();
     }
 
+    /** 요약 행 하나를 PK로 읽는다 — 리뷰가 아직 없는 상품은 행이 없고 0으로 채운다 */
+    private ProductDto.ReviewSummary buildReviewSummary(Long productId) {
+        return productReviewStatsService.find(productId)
+                .map(stats -> ProductDto.ReviewSummary.builder()
+                        .reviewCount(stats.getReviewCount())
+                        .averageRating(stats.averageRating())
+                        .ratingCounts(stats.ratingCountList())
+                        .build())
+                .orElseGet(() -> ProductDto.ReviewSummary.builder()
+                        .reviewCount(0L)
+                        .averageRating(0.0)
+                        .ratingCounts(List.of(0L, 0L, 0L, 0L, 0L))
+                        .build());
+    }
+
     /**
      * 옵션별 재고 및 가격 다중 조회 (IN 절로 1회 쿼리)
      * 페이징 미적용 - 요청한 variantIds에 해당하는 결과만 반환
@@ -200,8 +243,10 @@ public class ProductService {
 
     /**
      * Product 엔티티를 ProductItem DTO로 변환
+     *
+     * @param cardStats {@link ProductCardEnricher}가 페이지 단위로 읽어 둔 찜·재고·리뷰 값 — 카드마다 DB를 다시 타지 않는다
      */
-    public ProductDto.ProductItem convertToProductItem(Product product, Users currentUser) {
+    public ProductDto.ProductItem convertToProductItem(Product product, ProductCardEnricher.ProductCardStats cardStats) {
         // 가격 정보 (최대 혜택가는 할인가와 동일하게 설정, 추후 할인 로직 추가 가능)
         Integer regularPrice = product.getRegularPrice();
         Integer salePrice = product.getSalePrice();
@@ -213,13 +258,10 @@ public class ProductService {
                 .maxBenefitPrice(salePrice) // TODO: 할인 로직 추가 시 수정
                 .build();
 
-        // 찜 여부 확인
-        Boolean isWished = false;
-        if (currentUser != null) {
-            isWished = wishlistRepository.existsByUserAndProduct(currentUser, product);
-        }
-        Long wishCount = wishlistRepository.countByProduct(product);
-        Long reviewCount = 0L; // TODO: MVP 제외, 추후 리뷰 집계 연동
+        Long productId = product.getProductId();
+        Boolean isWished = cardStats.isWished(productId);
+        Long wishCount = cardStats.wishCount(productId);
+        Long reviewCount = cardStats.reviewCount(productId);
 
         return ProductDto.ProductItem.builder()
                 .id(product.getProductId())
@@ -240,29 +282,30 @@ public class ProductService {
                 .productNotice(product.getProductNotice())
                 .description(product.getDescription())
                 .createdAt(product.getCreatedAt() != null ? product.getCreatedAt().toString() : null)
-                .status(buildStockStatus(product))
+                .status(buildStockStatus(product, cardStats.hasStock(productId)))
                 .likeCount(0L) // TODO: 실제 좋아요 수 조회
                 .wishCount(wishCount)
                 .reviewCount(reviewCount)
+                .averageRating(cardStats.averageRating(productId))
                 .isWished(isWished)
                 .build();
     }
 
-    private ProductDto.StockStatus buildStockStatus(Product product) {
-        return buildStockStatus(product, product.getVariants());
-    }
-
     /**
      * 상품 전체 품절 판정 — 재고는 옵션마다 소진되므로, <b>남은 옵션이 하나도 없을 때</b> 비로소
      * 상품 전체가 품절이다. 강제 품절은 그 위를 덮는다(재고가 남아 있어도 브랜드가 내려둘 수 있다).
      *
      * <p>상세는 이미 읽어 둔 옵션 목록으로 판정한다 — 엔티티의 지연 컬렉션을 다시 건드리면 같은
-     * 옵션을 두 번 읽는다.
+     * 옵션을 두 번 읽는다. 목록 카드는 {@link ProductCardEnricher}가 페이지 단위로 판정해 둔 값을 쓴다.
      */
     private ProductDto.StockStatus buildStockStatus(Product product, List<ProductVariant> variants) {
-        boolean isOutOfStockForced = Boolean.TRUE.equals(product.getIsOutOfStockForced());
         boolean hasStock = variants.stream()
                 .anyMatch(variant -> variant.getStock() != null && variant.getStock() > 0);
+        return buildStockStatus(product, hasStock);
+    }
+
+    private ProductDto.StockStatus buildStockStatus(Product product, boolean hasStock) {
+        boolean isOutOfStockForced = Boolean.TRUE.equals(product.getIsOutOfStockForced());
         boolean isOutOfStock = isOutOfStockForced || !hasStock;
 
         return ProductDto.StockStatus.builder()
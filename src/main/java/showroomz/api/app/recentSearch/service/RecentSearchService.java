@@ -8,7 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import showroomz.api.app.recentSearch.DTO.RecentSearchResponse;
 import showroomz.api.app.recentSearch.DTO.RecentSearchSyncRequest;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
@@ -31,7 +31,7 @@ import java.util.Set;
 public class RecentSearchService {
 
     private final RecentSearchRepository recentSearchRepository;
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final CreatorRepository creatorRepository;
     private final ConnectionRepository connectionRepository;
 
@@ -40,8 +40,7 @@ public class RecentSearchService {
      */
     @Transactional(readOnly = true)
     public PageResponse<RecentSearchResponse> getMyRecentSearches(String username, PagingRequest pagingRequest) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Pageable pageable = pagingRequest.toPageable();
         Page<RecentSearch> page = recentSearchRepository.findByUser(user, pageable);
@@ -71,8 +70,7 @@ public class RecentSearchService {
      */
     @Transactional
     public void deleteRecentSearch(String username, Long recentSearchId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         // 해당 ID의 검색 기록이 존재하고, 그 주인이 현재 사용자인지 확인
         RecentSearch recentSearch = recentSearchRepository.findByIdAndUser(recentSearchId, user)
@@ -86,8 +84,7 @@ public class RecentSearchService {
      */
     @Transactional
     public void deleteAllRecentSearches(String username) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         recentSearchRepository.deleteByUser(user);
     }
@@ -99,8 +96,7 @@ public class RecentSearchService {
      */
     @Transactional
     public void saveRecentSearch(String username, String keyword) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         // 이미 존재하는지 확인 (Optional)
         recentSearchRepository.findByUserAndTypeAndTerm(user, RecentSearchType.TERM, keyword)
@@ -121,8 +117,7 @@ public class RecentSearchService {
      */
     @Transactional
     public void saveRecentShowroom(String username, Long showroomId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Creator creator = creatorRepository.findById(showroomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SHOWROOM_NOT_FOUND));
@@ -144,8 +139,7 @@ public class RecentSearchService {
      */
     @Transactional
     public void syncRecentSearches(String username, List<RecentSearchSyncRequest.RecentSearchSyncItem> items) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         for (RecentSearchSyncRequest.RecentSearchSyncItem item : items) {
             if (item == null) continue;
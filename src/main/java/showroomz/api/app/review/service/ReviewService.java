@@ -21,6 +21,7 @@ import showroomz.domain.review.entity.ReviewImage;
 import showroomz.domain.review.entity.ReviewLike;
 import showroomz.domain.review.repository.ReviewLikeRepository;
 import showroomz.domain.review.repository.ReviewRepository;
+import showroomz.domain.review.service.ProductReviewStatsService;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
@@ -38,6 +39,7 @@ public class ReviewService {
     private final OrderProductRepository orderProductRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ProductReviewStatsService productReviewStatsService;
 
     public PageResponse<ReviewDto.WritableItem> getWritableList(Long userId) {
         List<OrderProduct> list = orderProductRepository.findWritableByUserId(
@@ -96,6 +98,7 @@ public class ReviewService {
         }
 
         Review saved = reviewRepository.save(review);
+        productReviewStatsService.reviewAdded(productIdOf(orderProduct), saved.getRating());
 
         return ReviewRegisterResponse.builder()
                 .reviewId(saved.getId())
@@ -116,6 +119,7 @@ public class ReviewService {
 
         validateReviewAuthor(review, userId);
 
+        int previousRating = review.getRating();
         review.update(request.getRating(), request.getContent());
 
         List<String> imageUrls = request.getImageUrls();
@@ -132,6 +136,8 @@ public class ReviewService {
         review.replaceImages(newImages);
 
         Review saved = reviewRepository.save(review);
+        productReviewStatsService.ratingChanged(
+                productIdOf(review.getOrderProduct()), previousRating, saved.getRating());
         return ReviewDto.UpdateResponse.builder()
                 .reviewId(saved.getId())
                 .message("리뷰가 성공적으로 수정되었습니다.")
@@ -147,6 +153,7 @@ public class ReviewService {
 
         Long deletedReviewId = review.getId();
         reviewRepository.delete(review);
+        productReviewStatsService.reviewRemoved(productIdOf(review.getOrderProduct()), review.getRating());
 
         return ReviewDto.DeleteResponse.builder()
                 .reviewId(deletedReviewId)
@@ -187,6 +194,10 @@ public class ReviewService {
         }
     }
 
+    private Long productIdOf(OrderProduct orderProduct) {
+        return orderProduct.getVariant().getProduct().getProductId();
+    }
+
     private void validateReviewAuthor(Review review, Long userId) {
         if (!review.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.REVIEW_ACCESS_DENIED);
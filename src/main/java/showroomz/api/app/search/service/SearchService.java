@@ -20,10 +20,14 @@ import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.PublicShowrooms;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.search.KeywordSearchIndex;
+import showroomz.domain.search.KeywordSearchIndex.ShowroomCandidate;
+import showroomz.domain.search.SearchText;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -44,9 +48,13 @@ public class SearchService {
     /** 결과 없음 화면의 "이런 쇼룸은 어떠세요" 목록 크기 — 탐색 시스템이 아니라 마중물이라 짧게 둔다. */
     private static final int DEFAULT_ACTIVE_SHOWROOM_SIZE = 10;
 
+    /** 색인 후보를 노출 확인 IN 목록으로 넘길 상한 — 넘으면 한두 글자 검색어라 예전 쿼리가 낫다 */
+    static final int MAX_INDEXED_CANDIDATES = 1_000;
+
     private final JPAQueryFactory queryFactory;
     private final PostRepository postRepository;
     private final ConnectionRepository connectionRepository;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     /**
      * C14 쇼룸 검색 — 검색 대상은 <b>쇼룸 이름과 아이디(@handle)</b>뿐이다(상품·카테고리는 범위 밖).
@@ -56,6 +64,8 @@ public class SearchService {
      *
      * <p>정렬은 "왜 걸렸는지"가 위로 오도록 이름 앞부분 일치 → 이름 부분 일치 → 아이디 앞부분 일치 →
      * 아이디 부분 일치 순이고, 같은 등급 안에서는 이름이 짧은 순이다.
+     *
+     * <p>걸리는 쇼룸은 키워드 색인이 정한다. 색인을 아직 못 채웠거나 후보가 너무 많으면 같은 조건의 SQL로 찾는다.
      */
     public PageResponse<ShowroomSearchItem> searchShowrooms(String keyword, PagingRequest pagingRequest) {
         Pageable pageable = pagingRequest.toPageable(Sort.unsorted());
@@ -67,6 +77,64 @@ public class SearchService {
             return emptyPage(pageable);
         }
 
+        List<ShowroomCandidate> candidates = keywordSearchIndex.findShowrooms(name, handle);
+        if (candidates == null || candidates.size() > MAX_INDEXED_CANDIDATES) {
+            return searchShowroomsByQuery(name, handle, pageable);
+        }
+        return searchShowroomsByCandidates(candidates, name, handle, pageable);
+    }
+
+    /**
+     * 색인 후보를 메모리에서 순위대로 세운다. DB에는 노출 조건(계정 상태는 색인이 모른다)만 PK로 묻고,
+     * 행은 페이지 몫만 읽는다 — 목록과 건수를 위해 테이블을 두 번 훑던 것이 없어진다.
+     */
+    private PageResponse<ShowroomSearchItem> searchShowroomsByCandidates(List<ShowroomCandidate> candidates,
+                                                                         String name, String handle,
+                                                                         Pageable pageable) {
+        if (candidates.isEmpty()) {
+            return emptyPage(pageable);
+        }
+        Set<Long> visible = new HashSet<>(queryFactory
+                .select(creator.id)
+                .from(creator)
+                .join(creator.user, users)
+                .where(publicShowroom().and(creator.id.in(
+                        candidates.stream().map(ShowroomCandidate::creatorId).toList())))
+                .fetch());
+
+        String nameKey = SearchText.normalize(name);
+        String handleKey = SearchText.normalize(handle);
+        List<Long> ranked = candidates.stream()
+                .filter(candidate -> visible.contains(candidate.creatorId()))
+                .sorted(Comparator.comparingInt((ShowroomCandidate c) -> matchRank(c, nameKey, handleKey))
+                        .thenComparingInt(c -> c.name().length())
+                        .thenComparingLong(ShowroomCandidate::creatorId))
+                .map(ShowroomCandidate::creatorId)
+                .toList();
+
+        List<Long> pageIds = ranked.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        List<ShowroomSearchItem> items = toItems(orderByGivenIds(pageIds, pageIds.size()));
+        return new PageResponse<>(items, new PageImpl<>(items, pageable, ranked.size()));
+    }
+
+    /** {@link #searchShowroomsByQuery}의 {@code CaseBuilder}와 같은 등급을 메모리에서 매긴다 */
+    private static int matchRank(ShowroomCandidate candidate, String name, String handle) {
+        if (SearchText.startsWith(candidate.name(), name)) {
+            return 0;
+        }
+        if (SearchText.contains(candidate.name(), name)) {
+            return 1;
+        }
+        if (SearchText.startsWith(candidate.address(), handle)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private PageResponse<ShowroomSearchItem> searchShowroomsByQuery(String name, String handle, Pageable pageable) {
         BooleanExpression match = handle.isEmpty()
                 ? creator.showroomName.containsIgnoreCase(name)
                 : creator.showroomName.containsIgnoreCase(name)
@@ -136,8 +204,64 @@ public class SearchService {
      *
      * <p>마켓 후보는 뺐다 — 소비자 앱에서 마켓(브랜드)은 조회되지 않는다. 이름을 눌러 들어갈 화면이
      * 없는 후보를 자동완성에 남겨 두면 탭했을 때 갈 곳이 없다.
+     *
+     * <p>키를 누를 때마다 불리므로 키워드 색인의 자동완성 trie에서 바로 낸다. 색인을 아직 못 채운 인스턴스만
+     * 같은 조건의 SQL로 찾는다.
+     *
+     * <p>trie가 고른 후보도 검색처럼 노출 조건을 PK로 다시 묻는다 — 다른 인스턴스에서 진열을 내렸거나 계정이
+     * 정지된 것을 색인은 재구성 때까지 모른다. 빠진 후보가 있으면 빈 자리를 메울 다음 순위가 trie에 없으므로
+     * 그 검색어만 SQL로 찾는다.
      */
     public AutoCompleteResponse getAutocomplete(String keyword) {
+        String handle = keyword.startsWith("@") ? keyword.substring(1) : keyword;
+        List<KeywordSearchIndex.Suggestion> products = keywordSearchIndex.suggestProducts(keyword);
+        List<KeywordSearchIndex.Suggestion> showrooms = keywordSearchIndex.suggestShowrooms(keyword, handle);
+        if (products == null || showrooms == null) {
+            return autocompleteByQuery(keyword, handle);
+        }
+        if (!allDisplayed(products) || !allPublic(showrooms)) {
+            return autocompleteByQuery(keyword, handle);
+        }
+        return AutoCompleteResponse.builder()
+                .products(toSearchDtos(products))
+                .showrooms(toSearchDtos(showrooms))
+                .build();
+    }
+
+    private boolean allDisplayed(List<KeywordSearchIndex.Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            return true;
+        }
+        Long displayed = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(product.productId.in(suggestions.stream().map(KeywordSearchIndex.Suggestion::id).toList())
+                        .and(product.displayStatus.eq(ProductDisplayStatus.DISPLAY)))
+                .fetchOne();
+        return displayed != null && displayed == suggestions.size();
+    }
+
+    private boolean allPublic(List<KeywordSearchIndex.Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            return true;
+        }
+        Long visible = queryFactory
+                .select(creator.count())
+                .from(creator)
+                .join(creator.user, users)
+                .where(publicShowroom().and(creator.id.in(
+                        suggestions.stream().map(KeywordSearchIndex.Suggestion::id).toList())))
+                .fetchOne();
+        return visible != null && visible == suggestions.size();
+    }
+
+    private static List<AutoCompleteResponse.SearchDto> toSearchDtos(List<KeywordSearchIndex.Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> new AutoCompleteResponse.SearchDto(suggestion.id(), suggestion.name()))
+                .toList();
+    }
+
+    private AutoCompleteResponse autocompleteByQuery(String keyword, String handle) {
 
         // 1. 상품 검색
         List<AutoCompleteResponse.SearchDto> products = queryFactory
@@ -153,7 +277,6 @@ public class SearchService {
                 .fetch();
 
         // 2. 쇼룸 검색 — 쇼룸은 마켓이 아니라 크리에이터다. 이름과 아이디(@handle) 모두에 걸린다.
-        String handle = keyword.startsWith("@") ? keyword.substring(1) : keyword;
         BooleanExpression showroomMatch = handle.isEmpty()
                 ? creator.showroomName.containsIgnoreCase(keyword)
                 : creator.showroomName.containsIgnoreCase(keyword)
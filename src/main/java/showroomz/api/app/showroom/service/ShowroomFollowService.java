@@ -1,22 +1,20 @@
 package showroomz.api.app.showroom.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import showroomz.api.app.showroom.DTO.FollowingShowroomResponse;
 import showroomz.api.app.showroom.type.FollowingShowroomSort;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.entity.CreatorFollow;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.member.user.entity.Users;
-import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.service.PostAttributionService;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
@@ -24,11 +22,8 @@ import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,8 +37,7 @@ public class ShowroomFollowService {
 
     private final CreatorFollowRepository creatorFollowRepository;
     private final CreatorRepository creatorRepository;
-    private final UserRepository userRepository;
-    private final PostRepository postRepository;
+    private final UserReferenceCache userReferenceCache;
     private final ConnectionRepository connectionRepository;
     private final PostAttributionService postAttributionService;
 
@@ -91,72 +85,44 @@ public class ShowroomFollowService {
     }
 
     /**
-     * 팔로우한 쇼룸 목록 조회.
-     * 정렬 기준이 팔로우 시각뿐 아니라 "최근 게시물"까지 걸쳐 있어 전체 목록을 모아 정렬한 뒤 수동 페이징한다.
+     * 팔로우한 쇼룸 목록 조회 — 정렬과 페이지 자르기를 모두 DB에서 한다.
+     * 최근 게시물 순은 쇼룸에 미리 들고 있는 최신 게시 시각({@code creator.last_published_at})으로 정렬한다.
      */
     @Transactional(readOnly = true)
     public PageResponse<FollowingShowroomResponse> getFollowedShowrooms(
             String username, FollowingShowroomSort sort, PagingRequest pagingRequest) {
 
         Users user = getUser(username);
-        List<CreatorFollow> follows = creatorFollowRepository.findAllByUserWithCreator(user);
-        List<CreatorFollow> sortedFollows = sortFollows(follows, sort);
+        Page<CreatorFollow> page = creatorFollowRepository.findPageByUserWithCreator(
+                user, pagingRequest.toPageable(sortOf(sort)));
 
-        // 수동 페이징 (정렬이 DB 밖에서 끝나므로 슬라이싱도 여기서 한다)
-        Pageable pageable = pagingRequest.toPageable(Sort.unsorted());
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), sortedFollows.size());
-        List<CreatorFollow> pageContent = start >= sortedFollows.size()
-                ? List.of()
-                : sortedFollows.subList(start, end);
+        Set<Long> ongoingGroupBuyShowroomIds = findOngoingGroupBuyShowroomIds(page.getContent());
 
-        Set<Long> ongoingGroupBuyShowroomIds = findOngoingGroupBuyShowroomIds(pageContent);
-
-        List<FollowingShowroomResponse> content = pageContent.stream()
+        List<FollowingShowroomResponse> content = page.getContent().stream()
                 .map(follow -> toResponse(follow, ongoingGroupBuyShowroomIds))
                 .toList();
 
-        return new PageResponse<>(content, new PageImpl<>(content, pageable, sortedFollows.size()));
+        return new PageResponse<>(content, page);
     }
 
-    private List<CreatorFollow> sortFollows(List<CreatorFollow> follows, FollowingShowroomSort sort) {
+    /**
+     * 정렬 키마다 마지막에 팔로우 id를 붙여 순서를 완전히 정한다 — 같은 시각이 겹치면 페이지 경계에서
+     * 같은 쇼룸이 두 번 나오거나 빠진다.
+     */
+    static Sort sortOf(FollowingShowroomSort sort) {
         FollowingShowroomSort target = sort != null ? sort : FollowingShowroomSort.DEFAULT;
 
         return switch (target) {
-            case FOLLOW_LATEST -> follows.stream()
-                    .sorted(Comparator.comparing(CreatorFollow::getCreatedAt).reversed())
-                    .toList();
-            case FOLLOW_OLDEST -> follows.stream()
-                    .sorted(Comparator.comparing(CreatorFollow::getCreatedAt))
-                    .toList();
-            case DEFAULT -> sortByLatestPost(follows);
+            case FOLLOW_LATEST -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            case FOLLOW_OLDEST -> Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+            // 게시물이 없는 쇼룸(null)은 뒤로, 그 안에서는 팔로우 최신순
+            case DEFAULT -> Sort.by(
+                    Sort.Order.desc("c.lastPublishedAt").nullsLast(),
+                    Sort.Order.desc("createdAt"),
+                    Sort.Order.desc("id"));
         };
     }
 
-    /** 기본 정렬 — 최근에 게시물을 올린 쇼룸 순, 게시물이 없으면 팔로우 최신순으로 뒤에 붙인다. */
-    private List<CreatorFollow> sortByLatestPost(List<CreatorFollow> follows) {
-        if (follows.isEmpty()) {
-            return List.of();
-        }
-
-        List<Long> showroomIds = follows.stream()
-                .map(follow -> follow.getCreator().getId())
-                .toList();
-
-        Map<Long, LocalDateTime> latestPostMap = new HashMap<>();
-        for (Object[] row : postRepository.findLatestPostCreatedAtByCreatorIds(showroomIds)) {
-            latestPostMap.put((Long) row[0], (LocalDateTime) row[1]);
-        }
-
-        Comparator<CreatorFollow> byLatestPost = Comparator.comparing(
-                (CreatorFollow follow) -> latestPostMap.get(follow.getCreator().getId()),
-                Comparator.nullsLast(Comparator.reverseOrder()));
-
-        return follows.stream()
-                .sorted(byLatestPost.thenComparing(CreatorFollow::getCreatedAt, Comparator.reverseOrder()))
-                .toList();
-    }
-
     /** 진행 중 공구 보유 쇼룸 — 연결된 브랜드의 상품 중 공구 상태가 진행중(IN_PROGRESS)인 건이 있는 쇼룸 */
     private Set<Long> findOngoingGroupBuyShowroomIds(List<CreatorFollow> follows) {
         if (follows.isEmpty()) {
@@ -187,8 +153,7 @@ public class ShowroomFollowService {
     }
 
     private Users getUser(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return userReferenceCache.getReference(username);
     }
 
     private Creator getCreator(Long showroomId) {
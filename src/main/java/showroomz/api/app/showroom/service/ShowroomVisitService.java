@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.api.app.showroom.DTO.ShowroomVisitRequest;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.member.user.entity.Users;
@@ -30,7 +30,7 @@ public class ShowroomVisitService {
 
     private final ShowroomVisitRepository showroomVisitRepository;
     private final CreatorRepository creatorRepository;
-    private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final PostAttributionService postAttributionService;
 
     /**
@@ -43,7 +43,7 @@ public class ShowroomVisitService {
         Creator creator = creatorRepository.findById(showroomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SHOWROOM_NOT_FOUND));
 
-        Users visitor = username == null ? null : userRepository.findByUsername(username).orElse(null);
+        Users visitor = username == null ? null : userReferenceCache.findReference(username).orElse(null);
         String visitorKey = resolveVisitorKey(visitor, request.getVisitorId());
 
         LocalDateTime now = LocalDateTime.now();
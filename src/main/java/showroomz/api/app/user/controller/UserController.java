@@ -77,7 +77,7 @@ public class UserController implements UserControllerDocs {
     public ResponseEntity<NicknameCheckResponse> checkNickname(@RequestParam("nickname") String nickname) {
         // 가입(C0-1)에서는 비로그인으로도 호출한다. 로그인 상태(C15-1)면 현재 닉네임을 넘겨
         // "자기 닉네임 그대로"를 중복이 아니라 UNCHANGED로 구분한다.
-        NicknameCheckResponse response = userService.checkNickname(nickname, findCurrentNickname());
+        NicknameCheckResponse response = userService.checkNicknameAvailability(nickname, findCurrentNickname());
         return ResponseEntity.ok(response);
     }
 
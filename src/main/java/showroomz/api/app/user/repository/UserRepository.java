@@ -1,16 +1,30 @@
 package showroomz.api.app.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import showroomz.api.app.user.service.UserReference;
 import showroomz.domain.member.user.entity.Users;
 
 @Repository
 public interface UserRepository extends JpaRepository<Users, Long>, JpaSpecificationExecutor<Users> {
     Optional<Users> findByUsername(String username);
+
+    /** 회원 참조 캐시 미스 때 쓴다 — 엔티티 전체가 아니라 id만 읽는다 */
+    @Query("SELECT new showroomz.api.app.user.service.UserReference(u.id) FROM Users u WHERE u.username = :username")
+    Optional<UserReference> findReferenceByUsername(@Param("username") String username);
+
+    /** 회원 요약 재집계가 회원 전체를 id 순으로 끊어 읽는다 */
+    @Query("SELECT u.id FROM Users u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     Boolean existsByUsername(String username);
     Boolean existsByNickname(String nickname);
     Boolean existsByEmail(String email);
@@ -0,0 +1,8 @@
+package showroomz.api.app.user.service;
+
+/**
+ * 로그인 아이디로 찾은 회원의 id — 대부분의 서비스가 회원 행에서 실제로 쓰는 것은 외래 키로 넘길 이 값뿐이다.
+ * 상태·권한처럼 바뀌는 값은 담지 않는다. 아이디와 id의 짝은 바뀌지 않으므로 캐시에 오래 머물러도 낡지 않는다.
+ */
+public record UserReference(Long id) {
+}
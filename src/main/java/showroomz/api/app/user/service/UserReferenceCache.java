@@ -0,0 +1,125 @@
+package showroomz.api.app.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.global.config.properties.AppProperties;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 아이디 → {@link UserReference}(id) 캐시.
+ *
+ * <p>앱 서비스 대부분이 {@code findByUsername}으로 시작하지만, 장바구니·위시리스트·쿠폰·팔로우처럼
+ * 회원 행에서 쓰는 것은 외래 키로 넘길 id뿐인 경우가 많다. 그런 서비스는 {@link #getReference(String)}로
+ * 캐시의 id에서 JPA 프록시를 만들어 쓰면 요청마다 나가던 회원 SELECT가 사라진다(프록시는 id 외의 필드를
+ * 읽기 전까지 초기화되지 않는다). 미스 때도 엔티티 전체가 아니라 id 한 컬럼만 읽는다.
+ *
+ * <p>상태·권한은 담지 않는다 — 읽는 곳이 없고, 담으면 탈퇴·정지·권한 변경 경로마다 무효화를 챙겨야 한다. 회원
+ * 행은 지우지 않고 아이디도 바뀌지 않으니 아이디와 id의 짝은 낡지 않는다. 그래도 운영 중 직접 고친 행까지
+ * 영원히 들고 있지 않도록 항목마다 수명({@code app.auth.userCacheTtlMillis})을 두고, 크기
+ * ({@code app.auth.userCacheSize})를 넘으면 가장 오래 안 쓴 항목부터 밀어낸다(LRU).
+ *
+ * <p>적중 한 번이 아낀 SELECT 한 번이다 — {@code user.reference.cache.hits}가 절약한 쿼리 수,
+ * hits / (hits + misses)가 적중률이다. 요청당 절약 수는 hits를 {@code http.server.requests} 건수로 나눠 본다.
+ */
+@Component
+public class UserReferenceCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public UserReferenceCache(UserRepository userRepository, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this(userRepository, appProperties.getAuth().getUserCacheSize(), appProperties.getAuth().getUserCacheTtlMillis(),
+                meterRegistry, System::currentTimeMillis);
+    }
+
+    UserReferenceCache(UserRepository userRepository, int maxSize, long ttlMillis,
+                       MeterRegistry meterRegistry, LongSupplier clock) {
+        this.userRepository = userRepository;
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserReferenceCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("user.reference.cache.hits")
+                .description("캐시로 회원 조회 SELECT를 건너뛴 횟수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("user.reference.cache.misses")
+                .description("회원 참조를 DB에서 읽은 횟수")
+                .register(meterRegistry);
+        Gauge.builder("user.reference.cache.size", this, UserReferenceCache::size)
+                .description("캐시에 들고 있는 회원 참조 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 회원 참조, 없는 아이디면 empty (없는 아이디는 캐시하지 않는다 — 곧 가입할 수 있다)
+     */
+    public Optional<UserReference> find(String username) {
+        long now = clock.getAsLong();
+        if (maxSize > 0) {
+            synchronized (entries) {
+                Entry entry = entries.get(username);
+                if (entry != null && entry.expiresAtMillis() > now) {
+                    hits.increment();
+                    return Optional.of(entry.reference());
+                }
+                if (entry != null) {
+                    entries.remove(username);
+                }
+            }
+        }
+        misses.increment();
+        Optional<UserReference> loaded = userRepository.findReferenceByUsername(username);
+        if (maxSize > 0) {
+            loaded.ifPresent(reference -> {
+                synchronized (entries) {
+                    entries.put(username, new Entry(reference, now + ttlMillis));
+                }
+            });
+        }
+        return loaded;
+    }
+
+    /**
+     * id만 채운 회원 프록시 — 외래 키로 넘기거나 {@code getId()}만 부르는 곳에서 쓴다.
+     * 다른 필드를 읽으면 그때 SELECT가 나가므로, 회원 정보가 필요한 곳은 {@code findByUsername}을 그대로 쓴다.
+     */
+    public Optional<Users> findReference(String username) {
+        return find(username).map(reference -> userRepository.getReferenceById(reference.id()));
+    }
+
+    public Users getReference(String username) {
+        return findReference(username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(UserReference reference, long expiresAtMillis) {
+    }
+}
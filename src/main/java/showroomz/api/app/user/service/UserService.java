@@ -23,10 +23,13 @@ import showroomz.domain.history.repository.UserStatusHistoryRepository;
 import showroomz.domain.history.type.ConsentType;
 import showroomz.domain.history.repository.WithdrawalHistoryRepository;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.member.service.TakenNameIndex;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.domain.member.user.type.UserStatus;
 import showroomz.domain.member.user.type.WithdrawalReason;
 import showroomz.domain.member.user.vo.RefundAccount;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.domain.order.repository.OrderProductRepository;
 import showroomz.domain.order.type.OrderProductStatus;
 import showroomz.domain.wishlist.repository.WishlistRepository;
@@ -52,6 +55,8 @@ public class UserService {
     private final WishlistRepository wishlistRepository;
     private final CartRepository cartRepository;
     private final OrderProductRepository orderProductRepository;
+    private final ModerationService moderationService;
+    private final TakenNameIndex takenNameIndex;
 
     /** 더 이상 진행 중이 아닌 주문 상태 — 이 둘을 뺀 나머지가 탈퇴를 막는다 */
     private static final Set<OrderProductStatus> FINISHED_ORDER_STATUSES =
@@ -119,6 +124,7 @@ public class UserService {
         // 닉네임 업데이트
         if (request.getNickname() != null && !request.getNickname().isEmpty()) {
             user.setNickname(request.getNickname());
+            takenNameIndex.addNickname(request.getNickname());
         }
 
         // 프로필 이미지 업데이트 — 빈 문자열이면 기본 이미지로 되돌린다
@@ -142,6 +148,21 @@ public class UserService {
      * @param currentNickname 호출자의 현재 닉네임 (가입 화면처럼 없을 수 있음)
      */
     public NicknameCheckResponse checkNickname(String nickname, String currentNickname) {
+        return checkNickname(nickname, currentNickname, false);
+    }
+
+    /**
+     * 입력 중 안내용 확인(GET /check-nickname). 규칙은 {@link #checkNickname(String, String)}과 같고, 중복 확인만
+     * {@link TakenNameIndex}가 "없다"고 하면 DB에 묻지 않는다.
+     *
+     * <p>저장 경로에서는 쓰지 않는다 — 필터는 다른 인스턴스가 방금 쓴 닉네임을 모를 수 있다. 안내가 한 번
+     * 틀려도 저장할 때 {@code DUPLICATE}로 다시 걸린다.
+     */
+    public NicknameCheckResponse checkNicknameAvailability(String nickname, String currentNickname) {
+        return checkNickname(nickname, currentNickname, true);
+    }
+
+    private NicknameCheckResponse checkNickname(String nickname, String currentNickname, boolean advisory) {
         // 0. 현재 닉네임 그대로 — 오류는 아니지만 저장할 것도 없다
         if (currentNickname != null && currentNickname.equals(nickname)) {
             return new NicknameCheckResponse(
@@ -185,8 +206,9 @@ public class UserService {
             );
         }
 
-        // 4. 중복 체크
-        if (userRepository.existsByNickname(nickname)) {
+        // 4. 중복 체크 — 안내용이면 필터가 "없다"고 한 닉네임은 DB까지 가지 않는다
+        boolean mightBeTaken = !advisory || takenNameIndex.mightContainNickname(nickname);
+        if (mightBeTaken && userRepository.existsByNickname(nickname)) {
             return new NicknameCheckResponse(
                     false,
                     "DUPLICATE",
@@ -231,24 +253,10 @@ public class UserService {
     }
 
     /**
-     * 닉네임 부적절한 단어 체크
+     * 닉네임 부적절한 단어 체크 — 목록·정규화는 {@link ModerationService}가 쇼룸명·게시물·문의와 함께 관리한다.
      */
     public boolean containsInappropriateWord(String nickname) {
-        // 부적절한 단어 목록 (실제로는 DB나 설정 파일에서 관리하는 것이 좋습니다)
-        String[] inappropriateWords = {
-            "관리자", "admin", "administrator", "운영자", "operator",
-            "시스템", "system", "서버", "server", "테스트", "test",
-            "공식", "official", "고객센터",
-            "욕설", "비속어", "fuck", "shit", "damn", "hell"
-        };
-        
-        String lowerNickname = nickname.toLowerCase();
-        for (String word : inappropriateWords) {
-            if (lowerNickname.contains(word.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
+        return moderationService.containsBannedWord(ModerationTarget.NICKNAME, nickname);
     }
 
     /**
@@ -8,7 +8,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import showroomz.api.app.product.DTO.ProductDto;
+import showroomz.api.app.product.service.ProductCardEnricher;
 import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.member.user.entity.Users;
 import showroomz.domain.product.entity.Product;
 import showroomz.domain.product.repository.ProductRepository;
@@ -30,7 +32,9 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final UserReferenceCache userReferenceCache;
     private final CategoryHierarchyService categoryHierarchyService;
+    private final ProductCardEnricher productCardEnricher;
 
     /**
      * 위시리스트 추가 (멱등성 보장)
@@ -38,8 +42,7 @@ public class WishlistService {
      */
     @Transactional
     public void addWishlist(String username, Long productId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -59,8 +62,7 @@ public class WishlistService {
      */
     @Transactional
     public void deleteWishlist(String username, Long productId) {
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -105,8 +107,7 @@ public class WishlistService {
             Long categoryId
     ) {
         // 사용자 조회
-        Users user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Users user = userReferenceCache.getReference(username);
 
         // 페이징 설정 (page는 1부터 시작)
         int pageNumber = (page != null && page > 0) ? page - 1 : 0;
@@ -134,9 +135,10 @@ public class WishlistService {
                 .map(Wishlist::getProduct)
                 .collect(Collectors.toList());
 
-        // ProductItem DTO 변환 (모든 상품의 isWished는 true)
+        // ProductItem DTO 변환 (모든 상품의 isWished는 true) — 찜 수·재고 유무·리뷰 요약은 페이지 단위로 한 번에 읽는다
+        ProductCardEnricher.ProductCardStats cardStats = productCardEnricher.load(products, null);
         List<ProductDto.ProductItem> productItems = products.stream()
-                .map(product -> convertToProductItem(product, user))
+                .map(product -> convertToProductItem(product, cardStats))
                 .collect(Collectors.toList());
 
         return new PageResponse<>(productItems, wishlistPage);
@@ -145,7 +147,7 @@ public class WishlistService {
     /**
      * Product 엔티티를 ProductItem DTO로 변환
      */
-    private ProductDto.ProductItem convertToProductItem(Product product, Users currentUser) {
+    private ProductDto.ProductItem convertToProductItem(Product product, ProductCardEnricher.ProductCardStats cardStats) {
         // 가격 정보
         Integer regularPrice = product.getRegularPrice();
         Integer salePrice = product.getSalePrice();
@@ -157,9 +159,8 @@ public class WishlistService {
                 .maxBenefitPrice(salePrice)
                 .build();
 
-        // 찜 수 조회
-        Long wishCount = wishlistRepository.countByProduct(product);
-        Long reviewCount = 0L; // TODO: MVP 제외, 추후 리뷰 집계 연동
+        Long wishCount = cardStats.wishCount(product.getProductId());
+        Long reviewCount = cardStats.reviewCount(product.getProductId());
 
         return ProductDto.ProductItem.builder()
                 .id(product.getProductId())
@@ -180,10 +181,11 @@ public class WishlistService {
                 .productNotice(product.getProductNotice())
                 .description(product.getDescription())
                 .createdAt(product.getCreatedAt() != null ? product.getCreatedAt().toString() : null)
-                .status(buildStockStatus(product))
+                .status(buildStockStatus(product, cardStats.hasStock(product.getProductId())))
                 .likeCount(0L) // TODO: 실제 좋아요 수 조회
                 .wishCount(wishCount)
                 .reviewCount(reviewCount)
+                .averageRating(cardStats.averageRating(product.getProductId()))
                 .isWished(true) // 위시리스트 조회 결과이므로 항상 true
                 .build();
     }
@@ -191,10 +193,8 @@ public class WishlistService {
     /**
      * 재고 상태 생성
      */
-    private ProductDto.StockStatus buildStockStatus(Product product) {
+    private ProductDto.StockStatus buildStockStatus(Product product, boolean hasStock) {
         boolean isOutOfStockForced = Boolean.TRUE.equals(product.getIsOutOfStockForced());
-        boolean hasStock = product.getVariants().stream()
-                .anyMatch(variant -> variant.getStock() != null && variant.getStock() > 0);
         boolean isOutOfStock = isOutOfStockForced || !hasStock;
 
         return ProductDto.StockStatus.builder()
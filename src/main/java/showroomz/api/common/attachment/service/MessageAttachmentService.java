@@ -10,6 +10,7 @@ import showroomz.api.common.attachment.dto.AttachmentDownloadResponse;
 import showroomz.api.common.attachment.dto.AttachmentSummary;
 import showroomz.api.common.attachment.dto.PresignRequest;
 import showroomz.api.common.attachment.dto.PresignResponse;
+import showroomz.api.common.attachment.service.PresignedUrlCache.PresignedUrl;
 import showroomz.domain.message.entity.MessageAttachment;
 import showroomz.domain.message.entity.MessageThread;
 import showroomz.domain.message.repository.MessageAttachmentRepository;
@@ -19,6 +20,7 @@ import showroomz.domain.message.type.ParticipantType;
 import showroomz.global.config.properties.S3Properties;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
+import showroomz.global.service.S3BatchDeleteService;
 import showroomz.global.utils.AllowedAttachmentExtensions;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -29,7 +31,6 @@ import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
@@ -38,6 +39,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -59,6 +61,8 @@ public class MessageAttachmentService {
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
     private final S3Properties s3Properties;
+    private final PresignedUrlCache presignedUrlCache;
+    private final S3BatchDeleteService s3BatchDeleteService;
 
     /** §4-1 ① — 확장자·개별 파일 크기를 먼저 검증하고 PENDING 행을 선(先)생성한다. */
     @Transactional
@@ -138,6 +142,9 @@ public class MessageAttachmentService {
      * `uuid.mp4`가 되고, 버킷/CloudFront가 비공개면 아예 열리지도 않는다. 서명 시점에
      * Content-Disposition을 심어야 브라우저가 원본 파일명으로 "저장"한다(미리보기가 아니라 다운로드 —
      * §13-8에서 문서는 예외 없이 전부 다운로드).
+     *
+     * <p>서명한 URL은 {@link PresignedUrlCache}가 만료 직전까지 다시 쓴다 — 스레드를 다시 열 때마다 같은
+     * 첨부를 새로 서명하지 않는다. 그래서 응답의 유효 시간은 캐시된 URL의 남은 시간이다.
      */
     public AttachmentDownloadResponse createDownloadUrl(MessageAttachment attachment,
                                                           ParticipantType viewerType, Long viewerId) {
@@ -150,21 +157,11 @@ public class MessageAttachmentService {
             throw new BusinessException(ErrorCode.ATTACHMENT_ACCESS_DENIED);
         }
 
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(s3Properties.getBucket())
-                .key(attachment.getS3Key())
-                .responseContentDisposition(ContentDisposition.attachment()
-                        .filename(attachment.getOriginalName(), StandardCharsets.UTF_8)
-                        .build().toString())
-                .build();
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(DOWNLOAD_EXPIRY)
-                .getObjectRequest(getObjectRequest)
-                .build();
-        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+        PresignedUrl presigned = presignedUrlCache.getOrSign(attachment.getS3Key(), DOWNLOAD_EXPIRY,
+                () -> presignDownload(attachment));
 
-        return new AttachmentDownloadResponse(attachment.getId(), presigned.url().toString(),
-                attachment.getOriginalName(), attachment.getSizeBytes(), DOWNLOAD_EXPIRY.toSeconds());
+        return new AttachmentDownloadResponse(attachment.getId(), presigned.url(),
+                attachment.getOriginalName(), attachment.getSizeBytes(), presigned.expiresInSeconds());
     }
 
     public AttachmentSummary toSummary(MessageAttachment attachment) {
@@ -188,12 +185,27 @@ public class MessageAttachmentService {
         return presigned.url().toString();
     }
 
+    private String presignDownload(MessageAttachment attachment) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(s3Properties.getBucket())
+                .key(attachment.getS3Key())
+                .responseContentDisposition(ContentDisposition.attachment()
+                        .filename(attachment.getOriginalName(), StandardCharsets.UTF_8)
+                        .build().toString())
+                .build();
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(DOWNLOAD_EXPIRY)
+                .getObjectRequest(getObjectRequest)
+                .build();
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+
     /**
      * §4-6 고아 정리 — 한 청크를 처리하고 다음 커서를 돌려준다. 스케줄러가 이 메서드를 반복 호출한다.
      *
      * <p><b>S3 객체를 먼저 지우고 성공했을 때만 행을 지운다.</b> 순서를 뒤집거나 실패해도 행을 지우면
      * S3 고아가 영구히 남아, 정확히 이 스케줄러가 존재하는 이유가 사라진다. 실패한 행은 그대로 두고
-     * 다음 회차에 다시 시도한다.
+     * 다음 회차에 다시 시도한다. 청크의 객체는 {@code DeleteObjects} 한 번으로 지우고 키별 결과로 행을 가른다.
      *
      * <p>청크마다 트랜잭션을 끊기 위해 스케줄러가 아니라 이 빈에 둔다 — 스케줄러 안에서 자기 자신을
      * 호출하면 프록시를 타지 않아 @Transactional이 걸리지 않는다.
@@ -207,9 +219,11 @@ public class MessageAttachmentService {
             return new PurgeChunk(0, 0, afterId);
         }
 
+        Set<String> deletedKeys = s3BatchDeleteService.deleteAll(
+                candidates.stream().map(MessageAttachment::getS3Key).toList());
         int deleted = 0;
         for (MessageAttachment attachment : candidates) {
-            if (!deleteObject(attachment.getS3Key())) {
+            if (!deletedKeys.contains(attachment.getS3Key())) {
                 continue;
             }
             attachmentRepository.delete(attachment);
@@ -225,20 +239,13 @@ public class MessageAttachmentService {
 
     private void deleteObjectSafely(String key) {
         // 삭제 실패해도 응답 자체를 막지 않는다 — 고아 정리 스케줄러(§4-6)가 최종적으로 정리한다.
-        deleteObject(key);
-    }
-
-    /** 삭제 성공 여부를 반환한다 — 정리 스케줄러는 실패 시 행을 남겨야 하므로 결과를 알아야 한다. */
-    private boolean deleteObject(String key) {
         try {
             s3Client.deleteObject(DeleteObjectRequest.builder()
                     .bucket(s3Properties.getBucket())
                     .key(key)
                     .build());
-            return true;
         } catch (Exception e) {
             log.warn("첨부 객체 삭제 실패 - key: {}", key, e);
-            return false;
         }
     }
 
@@ -0,0 +1,105 @@
+package showroomz.api.common.attachment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import showroomz.global.config.properties.S3Properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 첨부 다운로드 presigned URL을 만료 직전까지 다시 쓰는 캐시.
+ *
+ * <p>스레드 화면은 열릴 때마다 첨부 수만큼 다운로드 URL을 받아 가는데, 서명은 매번 SigV4 키 유도와
+ * HMAC 연쇄를 새로 돈다. 같은 객체에 같은 유효 시간으로 서명한 URL은 만료 전까지 누구에게 줘도 똑같이
+ * 열리므로, 접근 검증을 마친 뒤라면 앞서 만든 URL을 돌려줘도 결과가 같다.
+ *
+ * <p>키는 (S3 키, 서명 유효 시간)이다. Content-Disposition에 싣는 원본 파일명은 첨부마다 고정이고 S3 키도
+ * 첨부마다 하나라 키에 넣지 않는다. 남은 시간이 {@link #MIN_REMAINING} 아래로 내려간 URL은 돌려주지 않고
+ * 새로 서명한다 — 받아 간 브라우저가 쓰기도 전에 만료되면 안 된다. 크기는
+ * {@code aws.s3.presigned-url-cache-size}로 제한하고 가득 차면 오래 안 쓴 것부터 밀어낸다.
+ *
+ * <p>적중·미스는 {@code attachment.presign.cache.hits} / {@code attachment.presign.cache.misses}로 나간다.
+ */
+@Component
+public class PresignedUrlCache {
+
+    static final Duration MIN_REMAINING = Duration.ofMinutes(1);
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public PresignedUrlCache(S3Properties s3Properties, MeterRegistry meterRegistry) {
+        this(s3Properties.getPresignedUrlCacheSize(), meterRegistry, System::currentTimeMillis);
+    }
+
+    PresignedUrlCache(int maxSize, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.maxSize = Math.max(0, maxSize);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PresignedUrlCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("attachment.presign.cache.hits")
+                .description("캐시된 presigned URL을 돌려준 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("attachment.presign.cache.misses")
+                .description("presigned URL을 새로 서명한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param signer 캐시에 쓸 만한 URL이 없을 때 {@code ttl}로 서명해 URL을 돌려준다
+     * @return URL과 그 URL의 남은 유효 시간(초)
+     */
+    public PresignedUrl getOrSign(String s3Key, Duration ttl, Supplier<String> signer) {
+        Key key = new Key(s3Key, ttl);
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() - now >= MIN_REMAINING.toMillis()) {
+                hits.increment();
+                return entry.toUrl(now);
+            }
+        }
+        misses.increment();
+        // 서명은 락 밖에서 한다 — 같은 키가 동시에 빗나가면 둘 다 서명하고 나중 것이 남을 뿐이다
+        Entry signed = new Entry(signer.get(), now + ttl.toMillis());
+        if (maxSize > 0) {
+            synchronized (entries) {
+                entries.put(key, signed);
+            }
+        }
+        return signed.toUrl(now);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public record PresignedUrl(String url, long expiresInSeconds) {
+    }
+
+    private record Key(String s3Key, Duration ttl) {
+    }
+
+    private record Entry(String url, long expiresAtMillis) {
+
+        PresignedUrl toUrl(long now) {
+            return new PresignedUrl(url, (expiresAtMillis - now) / 1000);
+        }
+    }
+}
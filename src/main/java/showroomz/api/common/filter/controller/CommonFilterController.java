@@ -2,6 +2,7 @@ package showroomz.api.common.filter.controller;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 import showroomz.api.admin.filter.DTO.FilterDto;
 import showroomz.api.common.filter.docs.CommonFilterControllerDocs;
 import showroomz.api.common.filter.service.CommonFilterService;
+import showroomz.api.common.filter.service.FilterCatalog;
 
 import java.util.List;
 
@@ -28,7 +30,12 @@ public class CommonFilterController implements CommonFilterControllerDocs {
             @RequestParam(required = false) String filterKey,
             @RequestParam(required = false) Long categoryId
     ) {
-        List<FilterDto.FilterResponse> response = filterService.getFilters(filterKey, categoryId);
-        return ResponseEntity.ok(response);
+        // ETag는 카탈로그 전체 버전이다 — 파라미터가 달라도 같은 값이고, 어느 필터든 바뀌면 모두 새로 받는다.
+        // If-None-Match가 맞으면 ResponseEntity의 ETag를 보고 MVC가 본문 없이 304로 바꿔 보낸다.
+        FilterCatalog.Snapshot catalog = filterService.getCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.filters(filterKey, categoryId));
     }
 }
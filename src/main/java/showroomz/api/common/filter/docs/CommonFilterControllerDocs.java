@@ -20,6 +20,7 @@ public interface CommonFilterControllerDocs {
     @Operation(
             summary = "필터 목록 조회",
             description = "전체 또는 특정 필터 목록을 조회합니다.\n\n" +
+                    "응답에 ETag가 붙습니다. 다음 요청에 If-None-Match로 보내면 필터 구성이 바뀌지 않은 동안 304(본문 없음)를 받습니다.\n\n" +
                     "**권한:** 없음 (비회원 가능)"
     )
     @ApiResponses(value = {
@@ -49,7 +50,8 @@ public interface CommonFilterControllerDocs {
                                     )
                             }
                     )
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 현재 필터 구성이 같음")
     })
     ResponseEntity<List<FilterDto.FilterResponse>> getFilters(
             @Parameter(description = "필터 키 (선택)", required = false)
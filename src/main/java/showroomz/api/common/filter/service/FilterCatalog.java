@@ -0,0 +1,235 @@
+package showroomz.api.common.filter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import showroomz.api.admin.filter.DTO.FilterDto;
+import showroomz.domain.filter.entity.Filter;
+import showroomz.domain.filter.entity.FilterValue;
+import showroomz.domain.filter.repository.CategoryFilterRepository;
+import showroomz.domain.filter.repository.CategoryFilterValueRepository;
+import showroomz.domain.filter.repository.FilterRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 공용 필터 응답을 미리 만들어 두는 불변 스냅샷 — {@link showroomz.domain.category.service.CategoryHierarchyService}와
+ * 같은 방식으로 기동 시 한 번 읽고, 어드민이 필터·카테고리를 바꾸면 통째로 다시 만들어 참조만 갈아 끼운다.
+ *
+ * <p>예전에는 카테고리를 열 때마다 매핑·선택값·필터별 값 컬렉션을 다시 읽었고, 필터 하나마다 그 카테고리의
+ * 선택값 전체를 또 읽었다(N+1 안의 N+1). 필터 정의는 어드민만 바꾸고 바뀌는 일도 드물어서, 세 번의 조회로
+ * 전체를 읽어 카테고리별 응답까지 만들어 두면 요청은 맵 조회 한 번으로 끝난다.
+ *
+ * <p>스냅샷마다 내용에서 뽑은 ETag가 붙는다. 내용이 같으면 재기동·다른 인스턴스에서도 같은 값이라
+ * 클라이언트는 304로 재검증할 수 있다. 다시 만들기는 커밋 뒤에 한다 — 커밋 전에 만들면 롤백된 변경이 스냅샷에 남는다.
+ *
+ * <p>응답 객체는 모든 요청이 나눠 쓰므로 꺼낸 쪽에서 고치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FilterCatalog {
+
+    private static final Comparator<Filter> FILTER_ORDER =
+            Comparator.comparingInt((Filter filter) -> filter.getSortOrder() != null ? filter.getSortOrder() : 0)
+                    .thenComparing(Filter::getId);
+    private static final Comparator<FilterValue> VALUE_ORDER =
+            Comparator.comparingInt((FilterValue value) -> value.getSortOrder() != null ? value.getSortOrder() : 0)
+                    .thenComparing(FilterValue::getId);
+
+    private final FilterRepository filterRepository;
+    private final CategoryFilterRepository categoryFilterRepository;
+    private final CategoryFilterValueRepository categoryFilterValueRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void load() {
+        refresh();
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<Filter> active = filterRepository.findAllWithValues().stream()
+                .filter(Filter::getIsActive)
+                .sorted(FILTER_ORDER)
+                .toList();
+
+        Map<Long, FilterDto.FilterResponse> byId = new LinkedHashMap<>();
+        for (Filter filter : active) {
+            byId.put(filter.getId(), toResponse(filter));
+        }
+
+        Map<Long, Map<Long, Set<Long>>> selections = new HashMap<>();
+        for (CategoryFilterValueRepository.SelectedValue row : categoryFilterValueRepository.findAllSelections()) {
+            selections.computeIfAbsent(row.getCategoryId(), key -> new HashMap<>())
+                    .computeIfAbsent(row.getFilterId(), key -> new HashSet<>())
+                    .add(row.getFilterValueId());
+        }
+
+        Map<Long, Set<Long>> linkedFilterIds = new HashMap<>();
+        for (CategoryFilterRepository.CategoryFilterLink link : categoryFilterRepository.findAllLinks()) {
+            linkedFilterIds.computeIfAbsent(link.getCategoryId(), key -> new HashSet<>()).add(link.getFilterId());
+        }
+
+        Map<Long, List<FilterDto.FilterResponse>> byCategory = new TreeMap<>();
+        for (Map.Entry<Long, Set<Long>> entry : linkedFilterIds.entrySet()) {
+            Map<Long, Set<Long>> selected = selections.getOrDefault(entry.getKey(), Map.of());
+            List<FilterDto.FilterResponse> responses = new ArrayList<>();
+            // byId가 이미 정렬 순서라 그 순서대로 걸러 담으면 정렬이 따로 필요 없다
+            for (FilterDto.FilterResponse response : byId.values()) {
+                if (entry.getValue().contains(response.getId())) {
+                    responses.add(narrow(response, selected.get(response.getId())));
+                }
+            }
+            byCategory.put(entry.getKey(), List.copyOf(responses));
+        }
+
+        Map<String, FilterDto.FilterResponse> byKey = new HashMap<>();
+        byId.values().forEach(response -> byKey.put(response.getFilterKey(), response));
+
+        List<FilterDto.FilterResponse> all = List.copyOf(byId.values());
+        snapshot = new Snapshot(etagOf(all, byCategory), all, Map.copyOf(byKey), Map.copyOf(byCategory),
+                freeze(selections));
+    }
+
+    /**
+     * 어드민 변경 경로에서 부른다. 트랜잭션 안이면 커밋 뒤에, 아니면 바로 다시 만든다.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * @param etag        스냅샷 내용의 다이제스트 (따옴표 포함)
+     * @param selections  카테고리 → 필터 → 그 카테고리에서 고른 값 id. 필터 키와 카테고리를 같이 줄 때 쓴다.
+     */
+    public record Snapshot(
+            String etag,
+            List<FilterDto.FilterResponse> all,
+            Map<String, FilterDto.FilterResponse> byKey,
+            Map<Long, List<FilterDto.FilterResponse>> byCategory,
+            Map<Long, Map<Long, Set<Long>>> selections
+    ) {
+        static final Snapshot EMPTY = new Snapshot("\"empty\"", List.of(), Map.of(), Map.of(), Map.of());
+
+        /**
+         * 예전 조회와 같은 규칙이다 — 필터 키가 있으면 그 필터 하나, 없고 카테고리가 있으면 그 카테고리에
+         * 매핑된 필터, 둘 다 없으면 활성 필터 전체. 카테고리가 주어지면 값은 그 카테고리에서 고른 것으로 좁힌다
+         * (고른 값이 없으면 전체).
+         */
+        public List<FilterDto.FilterResponse> filters(String filterKey, Long categoryId) {
+            if (filterKey != null && !filterKey.isBlank()) {
+                FilterDto.FilterResponse response = byKey.get(filterKey);
+                if (response == null) {
+                    return List.of();
+                }
+                if (categoryId == null) {
+                    return List.of(response);
+                }
+                return List.of(narrow(response,
+                        selections.getOrDefault(categoryId, Map.of()).get(response.getId())));
+            }
+            if (categoryId != null) {
+                return byCategory.getOrDefault(categoryId, List.of());
+            }
+            return all;
+        }
+    }
+
+    private static FilterDto.FilterResponse narrow(FilterDto.FilterResponse response, Set<Long> selectedValueIds) {
+        if (selectedValueIds == null || selectedValueIds.isEmpty()) {
+            return response;
+        }
+        return FilterDto.FilterResponse.builder()
+                .id(response.getId())
+                .filterKey(response.getFilterKey())
+                .label(response.getLabel())
+                .filterType(response.getFilterType())
+                .condition(response.getCondition())
+                .sortOrder(response.getSortOrder())
+                .isActive(response.getIsActive())
+                .values(response.getValues().stream()
+                        .filter(value -> selectedValueIds.contains(value.getId()))
+                        .toList())
+                .build();
+    }
+
+    private static FilterDto.FilterResponse toResponse(Filter filter) {
+        List<FilterDto.FilterValueResponse> values = filter.getValues().stream()
+                .filter(FilterValue::getIsActive)
+                .sorted(VALUE_ORDER)
+                .map(value -> FilterDto.FilterValueResponse.builder()
+                        .id(value.getId())
+                        .value(value.getValue())
+                        .label(value.getLabel())
+                        .extra(value.getExtra())
+                        .sortOrder(value.getSortOrder())
+                        .isActive(value.getIsActive())
+                        .build())
+                .toList();
+
+        return FilterDto.FilterResponse.builder()
+                .id(filter.getId())
+                .filterKey(filter.getFilterKey())
+                .label(filter.getLabel())
+                .filterType(filter.getFilterType())
+                .condition(filter.getCondition())
+                .sortOrder(filter.getSortOrder())
+                .isActive(filter.getIsActive())
+                .values(values)
+                .build();
+    }
+
+    private static Map<Long, Map<Long, Set<Long>>> freeze(Map<Long, Map<Long, Set<Long>>> selections) {
+        Map<Long, Map<Long, Set<Long>>> frozen = new HashMap<>();
+        selections.forEach((categoryId, byFilter) -> {
+            Map<Long, Set<Long>> inner = new HashMap<>();
+            byFilter.forEach((filterId, valueIds) -> inner.put(filterId, Set.copyOf(valueIds)));
+            frozen.put(categoryId, Map.copyOf(inner));
+        });
+        return Map.copyOf(frozen);
+    }
+
+    /** 클라이언트가 받는 내용 그대로를 다이제스트한다 — 응답에 안 나가는 비활성 필터는 ETag를 바꾸지 않는다. */
+    private String etagOf(List<FilterDto.FilterResponse> all, Map<Long, List<FilterDto.FilterResponse>> byCategory) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(objectMapper.writeValueAsBytes(all));
+            sha256.update(objectMapper.writeValueAsString(byCategory).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(sha256.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("필터 카탈로그 ETag를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -25,7 +25,8 @@ import showroomz.domain.product.repository.ProductImageRepository;
 import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.product.repository.ProductVariantRepository;
 import showroomz.domain.product.type.ProductDisplayStatus;
-import showroomz.domain.review.repository.ReviewRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.service.ProductReviewStatsService;
 import showroomz.domain.wishlist.repository.WishlistRepository;
 import showroomz.global.dto.PagingRequest;
 
@@ -47,7 +48,7 @@ public class CommonMarketService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final WishlistRepository wishlistRepository;
-    private final ReviewRepository reviewRepository;
+    private final ProductReviewStatsService productReviewStatsService;
     private final ProductVariantRepository productVariantRepository;
 
     private static final int MAX_IMAGE_COUNT = 3;
@@ -129,9 +130,8 @@ public class CommonMarketService {
         Map<Long, Long> wishCountMap = toMapFromCountQuery(
                 wishlistRepository.countWishlistByProductIds(productIds));
 
-        // Batch: reviewCount
-        Map<Long, Long> reviewCountMap = toMapFromCountQuery(
-                reviewRepository.countByProductIds(productIds));
+        // Batch: 리뷰 요약 (리뷰 수 · 평균 평점) — 리뷰 조인 집계 대신 요약 행을 PK로 읽는다
+        Map<Long, ProductReviewStats> reviewStatsMap = productReviewStatsService.findByProductIds(productIds);
 
         // Batch: isWished (로그인 시)
         Set<Long> wishedProductIds = currentUserId != null
@@ -143,7 +143,7 @@ public class CommonMarketService {
                 productVariantRepository.sumStockByProductIds(productIds));
 
         List<ProductDto.ProductItem> items = products.stream()
-                .map(p -> toProductItem(p, repImageMap, wishCountMap, reviewCountMap, wishedProductIds, stockSumMap))
+                .map(p -> toProductItem(p, repImageMap, wishCountMap, reviewStatsMap, wishedProductIds, stockSumMap))
                 .toList();
 
         return PopularProductResponse.of(items);
@@ -165,7 +165,7 @@ public class CommonMarketService {
             Product product,
             Map<Long, String> repImageMap,
             Map<Long, Long> wishCountMap,
-            Map<Long, Long> reviewCountMap,
+            Map<Long, ProductReviewStats> reviewStatsMap,
             Set<Long> wishedProductIds,
             Map<Long, Long> stockSumMap) {
         Long productId = product.getProductId();
@@ -182,7 +182,9 @@ public class CommonMarketService {
 
         String representativeImageUrl = repImageMap.getOrDefault(productId, product.getThumbnailUrl());
         Long wishCount = wishCountMap.getOrDefault(productId, 0L);
-        Long reviewCount = reviewCountMap.getOrDefault(productId, 0L);
+        ProductReviewStats reviewStats = reviewStatsMap.get(productId);
+        Long reviewCount = reviewStats != null ? reviewStats.getReviewCount() : 0L;
+        Double averageRating = reviewStats != null ? reviewStats.averageRating() : 0.0;
         Boolean isWished = wishedProductIds.contains(productId);
 
         return ProductDto.ProductItem.builder()
@@ -208,6 +210,7 @@ public class CommonMarketService {
                 .likeCount(0L)
                 .wishCount(wishCount)
                 .reviewCount(reviewCount)
+                .averageRating(averageRating)
                 .isWished(isWished)
                 .build();
     }
@@ -10,13 +10,17 @@ import showroomz.api.common.review.dto.ProductReviewResponse;
 import showroomz.api.common.review.dto.ProductReviewSortType;
 import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.review.entity.Review;
+import showroomz.domain.review.entity.ReviewImage;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
+import showroomz.domain.review.repository.ReviewImageRepository;
 import showroomz.domain.review.repository.ReviewLikeRepository;
 import showroomz.domain.review.repository.ReviewRepository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,12 +30,15 @@ public class CommonProductReviewService {
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewImageRepository reviewImageRepository;
 
     /**
      * 상품 상세 페이지용 리뷰 목록 조회.
      * - 비회원: isLikedByMe = false
      * - 회원: ReviewLike 조회로 isLikedByMe 매핑
      * - authorName 마스킹 적용 (예: 이종훈 -> 이*훈)
+     * - 작성자·옵션은 목록 쿼리가 fetch join으로, 이미지와 좋아요 여부는 페이지 단위 IN 조회로 가져온다 —
+     *   페이지 크기와 무관하게 쿼리 수가 고정된다
      */
     public ProductReviewResponse getProductReviews(
             Long productId,
@@ -54,13 +61,19 @@ public class CommonProductReviewService {
             return ProductReviewResponse.of(List.of(), reviewPage);
         }
 
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
         Set<Long> likedReviewIds = currentUserId != null
-                ? reviewLikeRepository.findReviewIdsLikedByUserAndReviewIdIn(
-                        currentUserId, reviews.stream().map(Review::getId).toList())
+                ? reviewLikeRepository.findReviewIdsLikedByUserAndReviewIdIn(currentUserId, reviewIds)
                 : Set.of();
+        Map<Long, List<String>> imageUrlsByReviewId = reviewImageRepository
+                .findAllByReviewIdInOrderBySequence(reviewIds).stream()
+                .collect(Collectors.groupingBy(image -> image.getReview().getId(),
+                        Collectors.mapping(ReviewImage::getUrl, Collectors.toList())));
 
         List<ProductReviewResponse.ProductReviewItem> items = reviews.stream()
-                .map(review -> toProductReviewItem(review, likedReviewIds.contains(review.getId())))
+                .map(review -> toProductReviewItem(review,
+                        imageUrlsByReviewId.getOrDefault(review.getId(), List.of()),
+                        likedReviewIds.contains(review.getId())))
                 .toList();
 
         return ProductReviewResponse.of(items, reviewPage);
@@ -71,7 +84,8 @@ public class CommonProductReviewService {
         return PageRequest.of(pageNumber, size);
     }
 
-    private ProductReviewResponse.ProductReviewItem toProductReviewItem(Review review, boolean isLikedByMe) {
+    private ProductReviewResponse.ProductReviewItem toProductReviewItem(
+            Review review, List<String> imageUrls, boolean isLikedByMe) {
         String authorName = maskAuthorName(review.getUser().getNickname());
         if (authorName == null || authorName.isBlank()) {
             authorName = maskAuthorName(review.getUser().getName());
@@ -85,7 +99,7 @@ public class CommonProductReviewService {
                 .authorName(authorName)
                 .rating(review.getRating())
                 .content(review.getContent())
-                .imageUrls(review.getImageUrlsOrdered())
+                .imageUrls(imageUrls)
                 .createdAt(review.getCreatedAt())
                 .likeCount(review.getLikeCount())
                 .isLikedByMe(isLikedByMe)
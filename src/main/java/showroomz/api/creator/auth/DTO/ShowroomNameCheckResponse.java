@@ -16,7 +16,7 @@ public class ShowroomNameCheckResponse {
     @Schema(description = "사용 가능 여부", example = "true")
     private Boolean isAvailable;
 
-    @Schema(description = "응답 코드 (AVAILABLE / DUPLICATE / INVALID_FORMAT)", example = "AVAILABLE")
+    @Schema(description = "응답 코드 (AVAILABLE / DUPLICATE / INVALID_FORMAT / PROFANITY)", example = "AVAILABLE")
     private String code;
 
     @Schema(description = "결과 메시지", example = "사용 가능한 쇼룸명입니다.")
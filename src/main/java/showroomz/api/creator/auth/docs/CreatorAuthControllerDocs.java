@@ -149,7 +149,7 @@ public interface CreatorAuthControllerDocs {
                     "- 한글·영문·숫자·공백만 허용 (이모지·특수문자 불가)\n\n" +
                     "**응답:**\n" +
                     "- `isAvailable`: true면 사용 가능\n" +
-                    "- `code`: `AVAILABLE` / `DUPLICATE` / `INVALID_FORMAT`\n" +
+                    "- `code`: `AVAILABLE` / `DUPLICATE` / `INVALID_FORMAT` / `PROFANITY`\n" +
                     "- `message`: 결과 메시지"
     )
     @ApiResponses(value = {
@@ -25,7 +25,10 @@ import showroomz.domain.member.creator.repository.CreatorApplicationRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.member.creator.type.CreatorApplicationStatus;
 import showroomz.domain.member.creator.type.CreatorBusinessType;
+import showroomz.domain.member.service.TakenNameIndex;
 import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 import showroomz.global.utils.ClientUtils;
@@ -50,6 +53,8 @@ public class CreatorAuthService {
     private final AuthService authService;
     private final AuthTokenProvider tokenProvider;
     private final OperatorChannelService operatorChannelService;
+    private final ModerationService moderationService;
+    private final TakenNameIndex takenNameIndex;
 
     @Transactional
     public TokenResponse socialLogin(HttpServletRequest request, SocialLoginRequest socialLoginRequest) {
@@ -108,8 +113,11 @@ public class CreatorAuthService {
         creator.reissueConnectionCode(ConnectionCodeGenerator.generateUnique(creatorRepository::existsByConnectionCode));
 
         // §22-1 — 쇼룸 주소는 쇼룸명이 확정되는 이 시점에 자동 생성되고, 이후 쇼룸명을 바꿔도 따라 바뀌지 않는다.
+        // 꼬리표 후보는 필터가 "있을 수 있다"고 하면 DB에 묻지 않고 넘긴다(비어 있는 꼬리표 하나를 건너뛸 뿐이다).
         creator.assignShowroomAddressIfAbsent(ShowroomAddressGenerator.generateUnique(
-                request.getShowroomName(), creatorRepository::existsByShowroomAddress));
+                request.getShowroomName(), creatorRepository::existsByShowroomAddress,
+                takenNameIndex::probablyTakenShowroomAddress));
+        takenNameIndex.addShowroomAddress(creator.getShowroomAddress());
         // §22-1 — 공개용 인스타그램 URL의 기본값은 온보딩 채널 주소다(쇼룸 관리에서 독립 수정한다).
         creator.initializeInstagramUrlFromChannel();
 
@@ -178,6 +186,14 @@ public class CreatorAuthService {
             );
         }
 
+        if (moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, showroomName)) {
+            return new ShowroomNameCheckResponse(
+                    false,
+                    "PROFANITY",
+                    ShowroomNamePolicy.INAPPROPRIATE_MESSAGE
+            );
+        }
+
         if (creatorRepository.existsByShowroomName(showroomName)) {
             return new ShowroomNameCheckResponse(
                     false,
@@ -299,6 +315,9 @@ public class CreatorAuthService {
     }
 
     private void validateShowroomNameAvailable(String showroomName) {
+        if (moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, showroomName)) {
+            throw new BusinessException(ErrorCode.INAPPROPRIATE_SHOWROOM_NAME);
+        }
         if (creatorRepository.existsByShowroomName(showroomName)) {
             throw new BusinessException(ErrorCode.DUPLICATE_SHOWROOM_NAME);
         }
@@ -11,11 +11,11 @@ import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostSuspension;
-import showroomz.domain.post.repository.PostImpressionRepository;
 import showroomz.domain.post.repository.PostLikeRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
-import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.stats.service.PostImpressionStatsReader;
+import showroomz.domain.stats.service.ShowroomVisitStatsReader;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
@@ -31,9 +31,9 @@ import java.util.Map;
  * 목록의 빠른 표시를 위한 값이고, "최근 30일"·"연령 분포"·"이 게시물을 보고 한 행동"은 카운터로는
  * 만들 수 없다.
  *
- * <p>롤업 집계 테이블은 아직 만들지 않는다. 로그만 있으면 언제든 소급 생성되고, 초기 트래픽에서는
- * 인덱스 조회로 충분하다. 도입 기준선은 <b>{@code post_impression} 1천만 행</b> 또는
- * <b>이 API 응답 500ms 초과</b>다.
+ * <p>노출·귀속 방문은 일별 롤업({@code post_daily_stat}·{@code post_daily_viewer})의 온전한 날과 원천 로그의
+ * 나머지 조각을 합쳐 센다({@link PostImpressionStatsReader}). 롤업은 원천 로그에서 언제든 다시 만들 수 있는
+ * 파생값이라 숫자는 원천 집계와 같다. 좋아요·팔로우는 취소 시 행이 지워지므로 지금 값을 읽는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -47,10 +47,10 @@ public class PostInsightService {
     private static final int MINIMUM_SAMPLE_SIZE = 30;
 
     private final PostRepository postRepository;
-    private final PostImpressionRepository postImpressionRepository;
+    private final PostImpressionStatsReader postImpressionStatsReader;
     private final PostLikeRepository postLikeRepository;
     private final PostSuspensionRepository postSuspensionRepository;
-    private final ShowroomVisitRepository showroomVisitRepository;
+    private final ShowroomVisitStatsReader showroomVisitStatsReader;
     private final CreatorFollowRepository creatorFollowRepository;
     private final CreatorRepository creatorRepository;
 
@@ -74,9 +74,9 @@ public class PostInsightService {
         LocalDateTime to = truncated ? suspendedAt : now;
         LocalDateTime from = period.startOf(to);
 
-        long impressions = postImpressionRepository.countByPostIdInPeriod(postId, from, to);
+        long impressions = postImpressionStatsReader.countByPostIdInPeriod(postId, from, to);
         long likes = postLikeRepository.countByPostIdInPeriod(postId, from, to);
-        long visits = showroomVisitRepository.countAttributedVisits(postId, from, to);
+        long visits = showroomVisitStatsReader.countAttributedVisits(postId, from, to);
         long follows = creatorFollowRepository.countAttributedFollows(postId, from, to);
 
         return PostInsightDto.PostInsightResponse.builder()
@@ -109,7 +109,7 @@ public class PostInsightService {
      * 미확인을 숨기지 않고 항목으로 드러내야 인플루언서가 표본의 한계를 안다.
      */
     private PostInsightDto.ViewerStats buildViewerStats(Long postId, LocalDateTime from, LocalDateTime to) {
-        List<Object[]> rows = postImpressionRepository.findViewerDemographics(postId, from, to);
+        List<Object[]> rows = postImpressionStatsReader.findViewerDemographics(postId, from, to);
         long sampleSize = rows.size();
 
         if (sampleSize < MINIMUM_SAMPLE_SIZE) {
@@ -2,6 +2,7 @@ package showroomz.api.creator.post.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,8 @@ import showroomz.api.creator.post.DTO.PostDto;
 import showroomz.api.creator.post.type.PostSaveAction;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostAppeal;
 import showroomz.domain.post.entity.PostImage;
@@ -20,6 +23,7 @@ import showroomz.domain.post.repository.PostImageRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
 import showroomz.domain.post.service.PostNotificationService;
+import showroomz.domain.post.timeline.PostPublished;
 import showroomz.domain.post.type.PostAppealStatus;
 import showroomz.domain.post.type.PostDeleteReason;
 import showroomz.domain.post.type.PostNotificationEvent;
@@ -80,6 +84,8 @@ public class ShowroomPostService {
     private final PostPolicies postPolicies;
     private final PostNotificationService postNotificationService;
     private final PostProperties postProperties;
+    private final ModerationService moderationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ------------------------------------------------------------------ 작성·수정
 
@@ -104,6 +110,7 @@ public class ShowroomPostService {
         Post saved = postRepository.save(post);
 
         if (request.getAction() == PostSaveAction.PUBLISH) {
+            creatorRepository.refreshLastPublishedAt(creator.getId());
             notifyFollowers(saved);
         }
         return PostDto.PostIdResponse.of(saved);
@@ -143,6 +150,7 @@ public class ShowroomPostService {
 
         // 게시 후 수정은 팔로워 알림을 재발송하지 않는다(§24-3) — 처음 나갈 때만 통지한다
         if (firstPublish) {
+            creatorRepository.refreshLastPublishedAt(creator.getId());
             notifyFollowers(post);
         }
         return PostDto.PostIdResponse.of(post);
@@ -162,6 +170,7 @@ public class ShowroomPostService {
 
         postPolicies.of(post).validateForPublish(post);
         post.publish(LocalDateTime.now());
+        creatorRepository.refreshLastPublishedAt(creator.getId());
         notifyFollowers(post);
 
         return PostDto.PostIdResponse.of(post);
@@ -188,7 +197,12 @@ public class ShowroomPostService {
         postSuspensionRepository.findFirstByPost_IdAndResolutionIsNullOrderBySuspendedAtDesc(postId)
                 .ifPresent(suspension -> suspension.resolve(SuspensionResolution.DELETED_BY_SELF, now));
 
+        boolean wasPublished = post.getStatus() == PostStatus.PUBLISHED;
         post.softDelete(PostDeleteReason.SELF, now, now.plusMonths(postProperties.getRetentionMonths()));
+        if (wasPublished) {
+            // 지운 게 최신 게시물이었다면 팔로잉 목록에서 이 쇼룸의 자리가 그다음 게시물 기준으로 내려간다
+            creatorRepository.refreshLastPublishedAt(creator.getId());
+        }
 
         postNotificationService.notify(post, PostNotificationEvent.DELETED_BY_SELF,
                 PostNotificationService.payload(
@@ -356,6 +370,9 @@ public class ShowroomPostService {
         if (content != null && content.length() > Post.MAX_CONTENT_LENGTH) {
             throw new BusinessException(ErrorCode.POST_CONTENT_TOO_LONG);
         }
+        if (moderationService.containsBannedWord(ModerationTarget.POST_CONTENT, content)) {
+            throw new BusinessException(ErrorCode.POST_CONTENT_INAPPROPRIATE);
+        }
         if (action == PostSaveAction.DRAFT && images.isEmpty() && (content == null || content.isBlank())) {
             throw new BusinessException(ErrorCode.POST_EMPTY);
         }
@@ -538,10 +555,13 @@ public class ShowroomPostService {
     /**
      * 팔로워 신규 게시물 알림 (§24-8 ⓗ) — 발송 채널·시점이 확정되지 않았고 발송 인프라도 없다.
      * 이력만 남기고 실제 발송은 어댑터가 붙을 때 살아난다.
+     *
+     * <p>팔로워의 팔로잉 타임라인에도 이때 넣는다. 이벤트는 커밋 뒤에 반영되므로 롤백된 게시가 피드에 섞이지 않는다.
      */
     private void notifyFollowers(Post post) {
         postNotificationService.notify(post, PostNotificationEvent.PUBLISHED_TO_FOLLOWERS,
                 PostNotificationService.payload("publishedAt", String.valueOf(post.getPublishedAt())));
+        eventPublisher.publishEvent(new PostPublished(post.getId(), post.getCreator().getId(), post.getPublishedAt()));
     }
 
     private Creator getMyCreator(Long userId) {
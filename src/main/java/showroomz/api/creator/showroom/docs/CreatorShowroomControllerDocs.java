@@ -162,7 +162,7 @@ public interface CreatorShowroomControllerDocs {
     @Operation(
             summary = "쇼룸명 중복 확인 (§22-2)",
             description = "저장 전에 쇼룸명을 확인합니다. **자기 자신의 현재 쇼룸명은 중복으로 보지 않습니다.**\n\n" +
-                    "`code`는 `AVAILABLE` · `DUPLICATE` · `INVALID_FORMAT` 중 하나입니다.\n\n" +
+                    "`code`는 `AVAILABLE` · `DUPLICATE` · `INVALID_FORMAT` · `PROFANITY` 중 하나입니다.\n\n" +
                     "대소문자 · 공백 · 유사문자를 어떻게 볼지는 아직 확정되지 않아, 현재는 **입력값을 다듬은 뒤 완전 일치**로만 판정합니다.\n\n" +
                     "**권한:** CREATOR"
     )
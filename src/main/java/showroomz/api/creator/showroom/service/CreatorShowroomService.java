@@ -9,6 +9,8 @@ import showroomz.api.creator.showroom.dto.ShowroomProfileResponse;
 import showroomz.api.creator.showroom.dto.ShowroomProfileUpdateRequest;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 import showroomz.global.utils.ShowroomNamePolicy;
@@ -31,6 +33,7 @@ public class CreatorShowroomService {
     private static final String REQUIRED_URL_SCHEME = "https";
 
     private final CreatorRepository creatorRepository;
+    private final ModerationService moderationService;
 
     @Value("${app.base-url:https://showroomz.shop}")
     private String baseUrl;
@@ -82,6 +85,9 @@ public class CreatorShowroomService {
         if (!ShowroomNamePolicy.isValidFormat(candidate)) {
             return new ShowroomNameCheckResponse(false, "INVALID_FORMAT", ShowroomNamePolicy.FORMAT_MESSAGE);
         }
+        if (moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, candidate)) {
+            return new ShowroomNameCheckResponse(false, "PROFANITY", ShowroomNamePolicy.INAPPROPRIATE_MESSAGE);
+        }
         if (creatorRepository.existsByShowroomNameAndIdNot(candidate, creator.getId())) {
             return new ShowroomNameCheckResponse(false, "DUPLICATE", "이미 사용 중인 쇼룸명입니다. 다른 이름을 입력해주세요.");
         }
@@ -92,6 +98,9 @@ public class CreatorShowroomService {
         if (!ShowroomNamePolicy.isValidFormat(showroomName)) {
             throw new BusinessException(ErrorCode.INVALID_SHOWROOM_NAME_FORMAT);
         }
+        if (moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, showroomName)) {
+            throw new BusinessException(ErrorCode.INAPPROPRIATE_SHOWROOM_NAME);
+        }
         if (creatorRepository.existsByShowroomNameAndIdNot(showroomName, creator.getId())) {
             throw new BusinessException(ErrorCode.DUPLICATE_SHOWROOM_NAME);
         }
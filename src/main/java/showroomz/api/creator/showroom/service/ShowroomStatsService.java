@@ -21,8 +21,8 @@ import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.repository.PostRepository;
-import showroomz.domain.showroom.repository.ShowroomVisitRepository;
 import showroomz.domain.showroom.type.ShowroomVisitSource;
+import showroomz.domain.stats.service.ShowroomVisitStatsReader;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
@@ -40,6 +40,9 @@ import java.util.Map;
  * <p>이 서비스를 관통하는 규칙 하나: <b>개인 단위 정보는 어떤 카드에도 담기지 않는다.</b>
  * 방문 로그와 팔로우 관계에서 사람을 식별할 수 있는 값(사용자 ID·배송지 원문)은 여기서 비율로 접히고
  * 응답 밖으로 나가지 않는다. 개별 팔로워 목록과 언팔로우 수는 아예 계산하지 않는다.
+ *
+ * <p>방문 지표는 {@link ShowroomVisitStatsReader}가 일별 롤업과 오늘치 원천 로그를 합쳐 센다. 팔로우 관계는
+ * 언팔로우 시 행이 지워지므로 롤업하지 않고 지금 값을 읽는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -88,7 +91,7 @@ public class ShowroomStatsService {
 
     private final CreatorRepository creatorRepository;
     private final CreatorFollowRepository creatorFollowRepository;
-    private final ShowroomVisitRepository showroomVisitRepository;
+    private final ShowroomVisitStatsReader showroomVisitStatsReader;
     private final DeliveryAddressRepository deliveryAddressRepository;
     private final PostRepository postRepository;
 
@@ -143,8 +146,8 @@ public class ShowroomStatsService {
      * 재방문이 많은 사람이 분모를 키우면 전환율이 실제보다 낮게 나온다.
      */
     private ReachStats buildReachStats(Long creatorId, LocalDateTime from, LocalDateTime to, long newFollowers) {
-        long visits = showroomVisitRepository.countVisits(creatorId, from, to);
-        long visitors = showroomVisitRepository.countVisitors(creatorId, from, to);
+        long visits = showroomVisitStatsReader.countVisits(creatorId, from, to);
+        long visitors = showroomVisitStatsReader.countVisitors(creatorId, from, to);
         Double conversionRate = visitors == 0 ? null : round(newFollowers * 100.0 / visitors);
         return new ReachStats(visits, visitors, conversionRate);
     }
@@ -222,7 +225,7 @@ public class ShowroomStatsService {
 
     /** 팔로워 행동 — 팔로워 1인당 방문 횟수 목록 하나로 세 지표를 모두 낸다. */
     private BehaviorStats buildBehaviorStats(Long creatorId, LocalDateTime from, LocalDateTime to, long visitors) {
-        List<Long> visitsPerFollower = showroomVisitRepository.countVisitsPerFollower(creatorId, from, to);
+        List<Long> visitsPerFollower = showroomVisitStatsReader.countVisitsPerFollower(creatorId, from, to);
 
         long followerVisitors = visitsPerFollower.size();
         if (followerVisitors == 0) {
@@ -268,7 +271,7 @@ public class ShowroomStatsService {
      * 쇼룸 밖으로 나가는 행동이라 쇼룸 도달 지표와 성격이 다르다.
      */
     private List<TrafficSourceItem> buildSources(Long creatorId, LocalDateTime from, LocalDateTime to) {
-        List<Object[]> rows = showroomVisitRepository.countVisitsBySource(creatorId, from, to);
+        List<Object[]> rows = showroomVisitStatsReader.countVisitsBySource(creatorId, from, to);
 
         long total = 0;
         for (Object[] row : rows) {
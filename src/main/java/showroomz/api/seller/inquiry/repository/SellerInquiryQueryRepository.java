@@ -17,6 +17,9 @@ import showroomz.api.seller.inquiry.dto.SellerInquirySearchCondition;
 import showroomz.api.seller.inquiry.type.InquiryVisibility;
 import showroomz.api.seller.inquiry.type.SellerInquirySort;
 import showroomz.api.seller.inquiry.type.SellerInquiryStatusFilter;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.common.Neighbors.Group;
+import showroomz.domain.common.Neighbors.SortKey;
 import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.entity.QProductInquiry;
 import showroomz.domain.inquiry.type.InquiryExposureStatus;
@@ -43,6 +46,17 @@ public class SellerInquiryQueryRepository {
     private static final QProductInquiry inquiry = QProductInquiry.productInquiry;
     private static final QProduct product = QProduct.product;
 
+    // `답변대기 우선` 정렬 키 — 답변대기 묶음(0)은 오래 기다린 순, 나머지 묶음(1)은 최신순.
+    // 각 묶음에서 상대 묶음용 정렬 키는 NULL이라 서로의 순서에 끼어들지 않는다.
+    private static final BooleanExpression WAITING = inquiry.status.eq(InquiryStatus.WAITING)
+            .and(inquiry.exposureStatus.eq(InquiryExposureStatus.NORMAL));
+    private static final NumberExpression<Integer> WAITING_GROUP =
+            Expressions.numberTemplate(Integer.class, "CASE WHEN {0} THEN 0 ELSE 1 END", WAITING);
+    private static final DateTimeExpression<LocalDateTime> WAITING_OLDEST_FIRST =
+            Expressions.dateTimeTemplate(LocalDateTime.class, "CASE WHEN {0} THEN {1} END", WAITING, inquiry.createdAt);
+    private static final DateTimeExpression<LocalDateTime> REST_LATEST_FIRST =
+            Expressions.dateTimeTemplate(LocalDateTime.class, "CASE WHEN {0} THEN NULL ELSE {1} END", WAITING, inquiry.createdAt);
+
     public Page<ProductInquiry> search(Long marketId, SellerInquirySearchCondition condition, Pageable pageable) {
         BooleanBuilder where = createWhere(marketId, condition);
 
@@ -65,15 +79,31 @@ public class SellerInquiryQueryRepository {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
-    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서를 따른다 (§23-3) */
-    public List<Long> findOrderedIds(Long marketId, SellerInquirySearchCondition condition) {
-        return queryFactory
+    /** 상세의 ‹ 이전 · 다음 › — 현재 탭·필터의 목록 순서에서 바로 앞·뒤 한 건씩만 읽는다 (§23-3) */
+    public Neighbors findNeighbors(Long marketId, SellerInquirySearchCondition condition, ProductInquiry current) {
+        Neighbors.FirstIdQuery query = (beyond, order) -> queryFactory
                 .select(inquiry.id)
                 .from(inquiry)
                 .join(inquiry.product, product)
-                .where(createWhere(marketId, condition))
-                .orderBy(orderBy(condition))
-                .fetch();
+                .where(createWhere(marketId, condition), beyond)
+                .orderBy(order)
+                .fetchFirst();
+        if (resolveSort(condition) == SellerInquirySort.CREATED_AT) {
+            return Neighbors.seek(List.of(
+                    SortKey.desc(inquiry.createdAt, current.getCreatedAt()),
+                    SortKey.desc(inquiry.id, current.getId())), query);
+        }
+        // 답변대기 묶음과 나머지 묶음을 따로 찾는다 — 묶음을 CASE 정렬 키로 옮기면 인덱스가 순서를 주지 못한다
+        List<Group> groups = List.of(
+                new Group(WAITING, List.of(
+                        SortKey.asc(inquiry.createdAt, current.getCreatedAt()),
+                        SortKey.desc(inquiry.id, current.getId()))),
+                new Group(WAITING.not(), List.of(
+                        SortKey.desc(inquiry.createdAt, current.getCreatedAt()),
+                        SortKey.desc(inquiry.id, current.getId()))));
+        boolean waiting = current.getStatus() == InquiryStatus.WAITING
+                && current.getExposureStatus() == InquiryExposureStatus.NORMAL;
+        return Neighbors.seek(groups, waiting ? 0 : 1, query);
     }
 
     /**
@@ -211,34 +241,23 @@ public class SellerInquiryQueryRepository {
      * 그 안에서는 오래 기다린 순으로, 나머지는 최신순으로 늘어놓는다.
      */
     private OrderSpecifier<?>[] orderBy(SellerInquirySearchCondition condition) {
-        SellerInquirySort sort = condition != null && condition.getSort() != null
-                ? condition.getSort()
-                : SellerInquirySort.WAITING_FIRST;
-
-        if (sort == SellerInquirySort.CREATED_AT) {
+        if (resolveSort(condition) == SellerInquirySort.CREATED_AT) {
             return new OrderSpecifier<?>[]{inquiry.createdAt.desc(), inquiry.id.desc()};
         }
-
-        BooleanExpression waiting = inquiry.status.eq(InquiryStatus.WAITING)
-                .and(inquiry.exposureStatus.eq(InquiryExposureStatus.NORMAL));
-
-        // 답변대기 묶음을 위로 올리고(0) 그 안에서는 오래 기다린 순, 나머지 묶음(1)은 최신순으로 둔다.
-        // 각 묶음에서 상대 묶음용 정렬 키는 NULL이라 서로의 순서에 끼어들지 않는다.
-        NumberExpression<Integer> group =
-                Expressions.numberTemplate(Integer.class, "CASE WHEN {0} THEN 0 ELSE 1 END", waiting);
-        DateTimeExpression<LocalDateTime> waitingOldestFirst =
-                Expressions.dateTimeTemplate(LocalDateTime.class, "CASE WHEN {0} THEN {1} END", waiting, inquiry.createdAt);
-        DateTimeExpression<LocalDateTime> restLatestFirst =
-                Expressions.dateTimeTemplate(LocalDateTime.class, "CASE WHEN {0} THEN NULL ELSE {1} END", waiting, inquiry.createdAt);
-
         return new OrderSpecifier<?>[]{
-                group.asc(),
-                waitingOldestFirst.asc(),
-                restLatestFirst.desc(),
+                WAITING_GROUP.asc(),
+                WAITING_OLDEST_FIRST.asc(),
+                REST_LATEST_FIRST.desc(),
                 inquiry.id.desc()
         };
     }
 
+    private SellerInquirySort resolveSort(SellerInquirySearchCondition condition) {
+        return condition != null && condition.getSort() != null
+                ? condition.getSort()
+                : SellerInquirySort.WAITING_FIRST;
+    }
+
     private SellerInquiryStatusFilter resolveTab(InquiryStatus status, InquiryExposureStatus exposureStatus) {
         if (exposureStatus == InquiryExposureStatus.DELETE_REQUESTED) {
             return SellerInquiryStatusFilter.DELETE_REQUESTED;
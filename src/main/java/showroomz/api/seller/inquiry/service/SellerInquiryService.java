@@ -14,6 +14,7 @@ import showroomz.api.seller.inquiry.dto.SellerInquirySearchCondition;
 import showroomz.api.seller.inquiry.repository.SellerInquiryQueryRepository;
 import showroomz.api.seller.inquiry.type.InquiryVisibility;
 import showroomz.api.seller.inquiry.type.SellerInquiryStatusFilter;
+import showroomz.domain.common.Neighbors;
 import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.entity.ProductInquiryHistory;
 import showroomz.domain.inquiry.repository.ProductInquiryHistoryRepository;
@@ -97,15 +98,13 @@ public class SellerInquiryService {
         Long marketId = getMyMarketId(sellerEmail);
         ProductInquiry inquiry = getMyInquiry(inquiryId, marketId);
 
-        List<Long> orderedIds = sellerInquiryQueryRepository.findOrderedIds(marketId, condition);
-        int index = orderedIds.indexOf(inquiryId);
-        Long prevId = index > 0 ? orderedIds.get(index - 1) : null;
-        Long nextId = (index >= 0 && index < orderedIds.size() - 1) ? orderedIds.get(index + 1) : null;
+        Neighbors neighbors = sellerInquiryQueryRepository.findNeighbors(marketId, condition, inquiry);
 
         List<ProductInquiryHistory> histories =
                 productInquiryHistoryRepository.findByInquiry_IdOrderByCreatedAtDescIdDesc(inquiryId);
 
-        return ProductInquiryDetailResponse.of(inquiry, inquiryNumber(inquiry), histories, prevId, nextId);
+        return ProductInquiryDetailResponse.of(inquiry, inquiryNumber(inquiry), histories,
+                neighbors.prevId(), neighbors.nextId());
     }
 
     /** 답변 등록 (§23-4) — 등록 즉시 공개 콘텐츠로 전환된다. */
@@ -18,11 +18,13 @@ import showroomz.domain.member.seller.entity.Seller;
 import showroomz.domain.product.entity.*;
 import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.domain.product.service.ProductStatusBulkUpdater;
 import showroomz.domain.product.type.ProductDisplayStatus;
 import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.domain.product.type.ProductHideReasonType;
 import showroomz.domain.product.type.ProductListSortType;
 import showroomz.api.seller.auth.repository.SellerRepository;
+import showroomz.domain.sequence.service.SequenceAllocator;
 import showroomz.global.dto.PagingRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -46,6 +48,8 @@ public class ProductService {
     private final MarketRepository marketRepository;
     private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
     private final ProductProcessingHistoryService processingHistoryService;
+    private final SequenceAllocator sequenceAllocator;
+    private final ProductStatusBulkUpdater productStatusBulkUpdater;
 
     public ProductDto.CreateProductResponse createProduct(String adminEmail, ProductDto.CreateProductRequest request) {
         // 1. 카테고리 조회 및 검증 (카테고리 ID로 조회)
@@ -212,29 +216,12 @@ public class ProductService {
 
     /**
      * 상품 번호 생성 (SRZ-YYYYMMDD-XXX 형식)
-     * XXX는 해당 일자의 순차 번호 (001, 002, ...)
+     * XXX는 해당 일자의 순차 번호 (001, 002, ...) — 일자별 채번 행에서 받으므로 상품 테이블을 읽지 않는다.
+     * 번호 공백은 생길 수 있지만 중복은 없다({@link SequenceAllocator}).
      */
     private String generateProductNumber() {
-        String datePrefix = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String prefix = "SRZ-" + datePrefix + "-";
-        
-        // 해당 일자의 마지막 상품 번호 찾기
-        Optional<Product> lastProduct = productRepository.findAll().stream()
-                .filter(p -> p.getProductNumber() != null && p.getProductNumber().startsWith(prefix))
-                .max(Comparator.comparing(Product::getProductNumber));
-        
-        int sequenceNumber = 1;
-        if (lastProduct.isPresent()) {
-            String lastNumber = lastProduct.get().getProductNumber();
-            String lastSequence = lastNumber.substring(lastNumber.lastIndexOf("-") + 1);
-            try {
-                sequenceNumber = Integer.parseInt(lastSequence) + 1;
-            } catch (NumberFormatException e) {
-                sequenceNumber = 1;
-            }
-        }
-        
-        return prefix + String.format("%03d", sequenceNumber);
+        String prefix = "SRZ-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return prefix + "-" + String.format("%03d", sequenceAllocator.next(prefix));
     }
 
 
@@ -491,39 +478,15 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
         // 2. 상품 조회 및 권한 확인
-        List<Product> products = productRepository.findAllById(request.getProductIds());
-        
-        if (products.size() != request.getProductIds().size()) {
-            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
-        }
-        
-        // 3. 본인의 상품인지 확인 및 품절 상태 설정
-        List<Long> processedProductIds = new ArrayList<>();
-        List<Long> unauthorizedProductIds = new ArrayList<>();
-        
-        for (Product product : products) {
-            if (product.getMarket() == null || !product.getMarket().getId().equals(market.getId())) {
-                unauthorizedProductIds.add(product.getProductId());
-            } else {
-                // 요청받은 상태로 명시적 설정
-                product.setIsOutOfStockForced(request.getIsOutOfStocked());
-                processedProductIds.add(product.getProductId());
-            }
-        }
-        
-        // 권한이 없는 상품이 있으면 에러 발생
-        if (!unauthorizedProductIds.isEmpty()) {
-            String productIdsStr = unauthorizedProductIds.stream()
-                    .map(String::valueOf)
-                    .collect(java.util.stream.Collectors.joining(", "));
-            String errorMessage = String.format("productId: %s에 대한 권한이 없습니다.", productIdsStr);
-            throw new BusinessException(ErrorCode.FORBIDDEN, errorMessage);
-        }
+        List<ProductRepository.StatusRow> rows = findOwnedStatusRows(market, request.getProductIds());
+        List<Long> processedProductIds = rows.stream()
+                .map(ProductRepository.StatusRow::getProductId)
+                .collect(Collectors.toList());
         
-        // 4. 저장
-        productRepository.saveAll(products);
+        // 3. 품절 상태 일괄 설정
+        productStatusBulkUpdater.changeOutOfStockForced(processedProductIds, request.getIsOutOfStocked());
         
-        // 5. 응답 메시지 생성
+        // 4. 응답 메시지 생성
         String message;
         if (request.getIsOutOfStocked()) {
             message = String.format("%d개의 상품이 성공적으로 품절 처리되었습니다.", processedProductIds.size());
@@ -531,7 +494,7 @@ public class ProductService {
             message = String.format("%d개의 상품이 성공적으로 품절 해제되었습니다.", processedProductIds.size());
         }
         
-        // 6. 응답 생성
+        // 5. 응답 생성
         return ProductDto.BatchUpdateResponse.builder()
                 .productIds(processedProductIds)
                 .count(processedProductIds.size())
@@ -551,50 +514,54 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
         // 2. 상품 조회 및 권한 확인
-        List<Product> products = productRepository.findAllById(request.getProductIds());
+        List<ProductRepository.StatusRow> rows = findOwnedStatusRows(market, request.getProductIds());
+        List<Long> processedProductIds = rows.stream()
+                .map(ProductRepository.StatusRow::getProductId)
+                .collect(Collectors.toList());
         
-        if (products.size() != request.getProductIds().size()) {
-            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
-        }
+        // 3. 진열 상태 일괄 설정 — 이미 그 상태인 상품은 건너뛰고, 바뀐 상품만 이력을 남긴다
+        productStatusBulkUpdater.changeDisplayStatus(rows, request.getDisplayStatus());
         
-        // 3. 본인의 상품인지 확인 및 진열 상태 설정
-        List<Long> processedProductIds = new ArrayList<>();
-        List<Long> unauthorizedProductIds = new ArrayList<>();
+        // 4. 응답 메시지 생성
+        String message = String.format("%d개의 상품이 성공적으로 %s 처리되었습니다.",
+                processedProductIds.size(),
+                request.getDisplayStatus().getDescription());
         
-        for (Product product : products) {
-            if (product.getMarket() == null || !product.getMarket().getId().equals(market.getId())) {
-                unauthorizedProductIds.add(product.getProductId());
-            } else {
-                // 요청된 상태로 명시적 설정
-                ProductDisplayStatus previous = product.getDisplayStatus();
-                applySellerDisplayStatusChange(product, previous, request.getDisplayStatus());
-                processedProductIds.add(product.getProductId());
-            }
+        // 5. 응답 생성
+        return ProductDto.BatchUpdateResponse.builder()
+                .productIds(processedProductIds)
+                .count(processedProductIds.size())
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 일괄 변경 대상의 소유를 확인한다. 엔티티 대신 상태 컬럼만 읽는다 — 뒤이은 벌크 UPDATE가
+     * 영속성 컨텍스트를 거치지 않으므로 여기서 엔티티를 올려 두면 옛 값이 남는다.
+     */
+    private List<ProductRepository.StatusRow> findOwnedStatusRows(Market market, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProductRepository.StatusRow> rows = productRepository.findStatusRowsByIds(productIds);
+        
+        if (rows.size() != productIds.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
         }
         
         // 권한이 없는 상품이 있으면 에러 발생
+        List<Long> unauthorizedProductIds = rows.stream()
+                .filter(row -> !market.getId().equals(row.getMarketId()))
+                .map(ProductRepository.StatusRow::getProductId)
+                .collect(Collectors.toList());
         if (!unauthorizedProductIds.isEmpty()) {
             String productIdsStr = unauthorizedProductIds.stream()
                     .map(String::valueOf)
-                    .collect(java.util.stream.Collectors.joining(", "));
+                    .collect(Collectors.joining(", "));
             String errorMessage = String.format("productId: %s에 대한 권한이 없습니다.", productIdsStr);
             throw new BusinessException(ErrorCode.FORBIDDEN, errorMessage);
         }
-        
-        // 4. 저장
-        productRepository.saveAll(products);
-        
-        // 5. 응답 메시지 생성
-        String message = String.format("%d개의 상품이 성공적으로 %s 처리되었습니다.",
-                processedProductIds.size(),
-                request.getDisplayStatus().getDescription());
-        
-        // 6. 응답 생성
-        return ProductDto.BatchUpdateResponse.builder()
-                .productIds(processedProductIds)
-                .count(processedProductIds.size())
-                .message(message)
-                .build();
+        return rows;
     }
     
     public ProductDto.UpdateProductResponse updateProduct(String adminEmail, Long productId, ProductDto.UpdateProductRequest request) {
@@ -16,8 +16,6 @@ import java.util.List;
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByUserAndVariant(Users user, ProductVariant variant);
 
-    Optional<Cart> findByIdAndUser(Long id, Users user);
-
     @EntityGraph(attributePaths = {
             "variant",
             "variant.options",
@@ -27,6 +25,10 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     })
     Page<Cart> findByUser(Users user, Pageable pageable);
 
+    /**
+     * 장바구니 조회·수정·삭제가 요청마다 한 번씩만 부르는 적재 쿼리. 금액 계산이 줄마다 옵션·상품·마켓을
+     * 모두 보므로 한 번에 채워 온다 — 빠지는 연관이 있으면 줄 수만큼 지연 로딩이 나간다.
+     */
     @EntityGraph(attributePaths = {
             "variant",
             "variant.options",
@@ -39,9 +41,4 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     long countByUser(Users user);
 
     void deleteByUser(Users user);
-
-    /**
-     * 로그인한 유저 소유의 장바구니 ID 목록 조회 (삭제 전 소유권 검증용)
-     */
-    List<Cart> findByIdInAndUser(List<Long> ids, Users user);
 }
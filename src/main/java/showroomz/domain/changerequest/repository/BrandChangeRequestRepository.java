@@ -15,7 +15,8 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BrandChangeRequestRepository extends JpaRepository<BrandChangeRequest, Long> {
+public interface BrandChangeRequestRepository extends JpaRepository<BrandChangeRequest, Long>,
+        BrandChangeRequestRepositoryCustom {
 
     Optional<BrandChangeRequest> findByMarket_IdAndTypeAndStatus(Long marketId, ChangeRequestType type, ChangeRequestStatus status);
 
@@ -33,7 +34,7 @@ public interface BrandChangeRequestRepository extends JpaRepository<BrandChangeR
 
     /**
      * 어드민 목록(§16-1) — 검토 대기가 항상 위, 그 안에서 경과 내림차순(=요청일시 오름차순),
-     * 처리 완료 건은 요청일시 최신순으로 내려간다.
+     * 처리 완료 건은 요청일시 최신순으로 내려간다. 같은 시각은 id로 갈라 상세의 이전/다음과 순서가 같게 둔다.
      */
     @Query(value =
             "SELECT * FROM brand_change_request r " +
@@ -41,7 +42,8 @@ public interface BrandChangeRequestRepository extends JpaRepository<BrandChangeR
             "AND (:keyword IS NULL OR :keyword = '' OR EXISTS (" +
             "    SELECT 1 FROM market m WHERE m.market_id = r.market_id AND m.market_name LIKE CONCAT('%', :keyword, '%')" +
             ")) " +
-            "ORDER BY (r.status = 'PENDING') DESC, CASE WHEN r.status = 'PENDING' THEN r.requested_at END ASC, r.requested_at DESC",
+            "ORDER BY (r.status = 'PENDING') DESC, CASE WHEN r.status = 'PENDING' THEN r.requested_at END ASC, r.requested_at DESC, " +
+            "r.request_id DESC",
             countQuery =
             "SELECT COUNT(*) FROM brand_change_request r " +
             "WHERE r.status IN (:statuses) " +
@@ -53,14 +55,6 @@ public interface BrandChangeRequestRepository extends JpaRepository<BrandChangeR
                                      @Param("keyword") String keyword,
                                      Pageable pageable);
 
-    /** 상세의 이전/다음(§16-2) — 현재 탭과 동일한 정렬의 전체 id 목록. */
-    @Query(value =
-            "SELECT r.request_id FROM brand_change_request r " +
-            "WHERE r.status IN (:statuses) " +
-            "ORDER BY (r.status = 'PENDING') DESC, CASE WHEN r.status = 'PENDING' THEN r.requested_at END ASC, r.requested_at DESC",
-            nativeQuery = true)
-    List<Long> findOrderedIds(@Param("statuses") Collection<String> statuses);
-
     @Query("SELECT r.status, COUNT(r) FROM BrandChangeRequest r JOIN r.market m " +
             "WHERE (:keyword IS NULL OR :keyword = '' OR m.marketName LIKE CONCAT('%', :keyword, '%')) " +
             "GROUP BY r.status")
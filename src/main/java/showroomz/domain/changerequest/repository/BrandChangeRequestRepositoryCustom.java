@@ -0,0 +1,13 @@
+package showroomz.domain.changerequest.repository;
+
+import showroomz.domain.changerequest.entity.BrandChangeRequest;
+import showroomz.domain.changerequest.type.ChangeRequestStatus;
+import showroomz.domain.common.Neighbors;
+
+import java.util.Collection;
+
+public interface BrandChangeRequestRepositoryCustom {
+
+    /** 상세의 이전/다음(§16-2) — 현재 탭 목록({@link BrandChangeRequestRepository#search})의 순서에서 바로 앞·뒤 한 건 */
+    Neighbors findNeighbors(BrandChangeRequest current, Collection<ChangeRequestStatus> statuses);
+}
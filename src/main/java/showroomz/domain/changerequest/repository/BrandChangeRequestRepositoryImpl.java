@@ -0,0 +1,45 @@
+package showroomz.domain.changerequest.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import showroomz.domain.changerequest.entity.BrandChangeRequest;
+import showroomz.domain.changerequest.type.ChangeRequestStatus;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.common.Neighbors.Group;
+import showroomz.domain.common.Neighbors.SortKey;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static showroomz.domain.changerequest.entity.QBrandChangeRequest.brandChangeRequest;
+
+@RequiredArgsConstructor
+public class BrandChangeRequestRepositoryImpl implements BrandChangeRequestRepositoryCustom {
+
+    // 목록 정렬을 묶음으로 옮긴 것 — 검토 대기 묶음은 요청일시 오름차순, 처리 완료 묶음은 최신순, 같은 시각은 id.
+    // 검토 대기 묶음은 idx_brand_change_request_status (status, requested_at)를 따라 한 행만 읽는다.
+    private static final BooleanExpression PENDING = brandChangeRequest.status.eq(ChangeRequestStatus.PENDING);
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Neighbors findNeighbors(BrandChangeRequest current, Collection<ChangeRequestStatus> statuses) {
+        LocalDateTime requestedAt = current.getRequestedAt();
+        List<Group> groups = List.of(
+                new Group(PENDING, List.of(
+                        SortKey.asc(brandChangeRequest.requestedAt, requestedAt),
+                        SortKey.desc(brandChangeRequest.id, current.getId()))),
+                new Group(PENDING.not(), List.of(
+                        SortKey.desc(brandChangeRequest.requestedAt, requestedAt),
+                        SortKey.desc(brandChangeRequest.id, current.getId()))));
+
+        return Neighbors.seek(groups, current.isPending() ? 0 : 1, (condition, order) -> queryFactory
+                .select(brandChangeRequest.id)
+                .from(brandChangeRequest)
+                .where(brandChangeRequest.status.in(statuses), condition)
+                .orderBy(order)
+                .fetchFirst());
+    }
+}
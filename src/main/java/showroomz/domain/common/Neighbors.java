@@ -0,0 +1,110 @@
+package showroomz.domain.common;
+
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상세 화면의 ‹ 이전 · 다음 › — 목록 순서에서 지금 보는 행의 바로 앞·뒤 id. 끝이면 null이다.
+ *
+ * <p>목록의 id를 전부 읽어 자리를 찾으면 이력이 쌓일수록 상세를 열 때마다 느려진다. 대신 지금 행의 정렬 키를
+ * 기준으로 "키가 그보다 앞인 첫 행"과 "뒤인 첫 행"을 한 행씩만 읽는다({@link SeekKey}와 같은 키셋 방식).
+ * 목록 조건을 그대로 걸기 때문에 지금 행이 그 사이 탭을 벗어났어도(처리 완료 등) 원래 있던 자리의 앞뒤가 나온다.
+ */
+public record Neighbors(Long prevId, Long nextId) {
+
+    /**
+     * @param keys  목록의 ORDER BY를 앞에서부터 그대로 옮긴 키와, 지금 행이 그 키에서 갖는 값
+     * @param query 목록 조건에 {@code beyond}를 더하고 {@code order}로 정렬해 첫 행의 id를 읽는다
+     */
+    public static Neighbors seek(List<SortKey> keys, FirstIdQuery query) {
+        Long prevId = query.fetchFirstId(beyond(keys, true), orderSpecifiers(keys, true));
+        Long nextId = query.fetchFirstId(beyond(keys, false), orderSpecifiers(keys, false));
+        return new Neighbors(prevId, nextId);
+    }
+
+    /**
+     * 목록이 묶음 몇 개를 차례로 이은 것일 때(답변대기 먼저, 나머지는 최신순 등) — 묶음마다 따로 찾는다.
+     *
+     * <p>묶음 순서를 CASE 식 정렬 키로 옮겨 {@link #seek(List, FirstIdQuery)} 하나로 찾으면 어떤 인덱스도 그 식의
+     * 순서를 주지 못해 조건에 맞는 행을 전부 읽고 정렬한다. 묶음 조건을 WHERE에 걸고 묶음 안의 컬럼 키로만 찾으면
+     * 인덱스를 따라 한 행만 읽는다. 지금 묶음 안에 앞(뒤)이 없으면 앞(뒤) 묶음의 끝(첫) 행으로 넘어간다.
+     *
+     * @param groups  목록 순서대로의 묶음 — 조건은 서로 겹치지 않아야 한다
+     * @param current 지금 행이 속한 묶음의 자리. 다른 묶음의 키에 붙은 값은 쓰지 않는다
+     */
+    public static Neighbors seek(List<Group> groups, int current, FirstIdQuery query) {
+        Group here = groups.get(current);
+        Long prevId = query.fetchFirstId(
+                ExpressionUtils.and(here.condition(), beyond(here.keys(), true)), orderSpecifiers(here.keys(), true));
+        for (int i = current - 1; prevId == null && i >= 0; i--) {
+            Group group = groups.get(i);
+            prevId = query.fetchFirstId(group.condition(), orderSpecifiers(group.keys(), true));
+        }
+        Long nextId = query.fetchFirstId(
+                ExpressionUtils.and(here.condition(), beyond(here.keys(), false)), orderSpecifiers(here.keys(), false));
+        for (int i = current + 1; nextId == null && i < groups.size(); i++) {
+            Group group = groups.get(i);
+            nextId = query.fetchFirstId(group.condition(), orderSpecifiers(group.keys(), false));
+        }
+        return new Neighbors(prevId, nextId);
+    }
+
+    /**
+     * 목록 순서에서 지금 행보다 뒤(backward면 앞)인 행 — 앞 키들이 같고 이번 키가 진행 방향으로 넘어간 행들의 합이다.
+     */
+    private static Predicate beyond(List<SortKey> keys, boolean backward) {
+        List<Predicate> branches = new ArrayList<>();
+        List<Predicate> samePrefix = new ArrayList<>();
+        for (SortKey key : keys) {
+            Order toward = backward ? reverse(key.order()) : key.order();
+            List<Predicate> branch = new ArrayList<>(samePrefix);
+            branch.add(ExpressionUtils.predicate(toward == Order.ASC ? Ops.GT : Ops.LT,
+                    key.expression(), ConstantImpl.create(key.value())));
+            branches.add(ExpressionUtils.allOf(branch));
+            samePrefix.add(ExpressionUtils.predicate(Ops.EQ, key.expression(), ConstantImpl.create(key.value())));
+        }
+        return ExpressionUtils.anyOf(branches);
+    }
+
+    /** 이전 행은 목록을 거꾸로 읽어 첫 행이다 */
+    private static OrderSpecifier<?>[] orderSpecifiers(List<SortKey> keys, boolean backward) {
+        return keys.stream()
+                .map(key -> (backward ? reverse(key.order()) : key.order()) == Order.ASC
+                        ? key.expression().asc()
+                        : key.expression().desc())
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+    private static Order reverse(Order order) {
+        return order == Order.ASC ? Order.DESC : Order.ASC;
+    }
+
+    /** 정렬 키 하나 — 식과 방향, 지금 행의 값 */
+    public record SortKey(ComparableExpressionBase<?> expression, Order order, Object value) {
+
+        public static SortKey asc(ComparableExpressionBase<?> expression, Object value) {
+            return new SortKey(expression, Order.ASC, value);
+        }
+
+        public static SortKey desc(ComparableExpressionBase<?> expression, Object value) {
+            return new SortKey(expression, Order.DESC, value);
+        }
+    }
+
+    /** 목록의 한 묶음 — 묶음을 가르는 조건과, 묶음 안의 ORDER BY를 옮긴 키 */
+    public record Group(Predicate condition, List<SortKey> keys) {
+    }
+
+    @FunctionalInterface
+    public interface FirstIdQuery {
+        Long fetchFirstId(Predicate beyond, OrderSpecifier<?>[] order);
+    }
+}
@@ -0,0 +1,50 @@
+package showroomz.domain.common;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 요약 테이블 재집계의 한 조각 — 원천 id를 순서대로 끊어 조각 하나를 한 트랜잭션으로 다시 세고, 다른 행만 고친다.
+ * 중간에 실패해도 앞 조각은 커밋돼 남는다.
+ *
+ * <p>조각 트랜잭션은 READ COMMITTED로 돌고, 요약 행을 잠근 <b>뒤에</b> 원천을 센다. 잠그기 전에 커밋된 쓰기는 센
+ * 값에 들어 있고, 잠근 뒤의 쓰기는 잠금이 풀리길 기다렸다가 고친 값 위에 증감을 더한다. MySQL 기본값(REPEATABLE
+ * READ)이면 id를 읽는 순간 스냅숏이 고정돼, 잠금을 기다리는 사이 커밋된 쓰기가 잠근 요약 행에는 반영돼 있는데 세는
+ * 쪽에는 보이지 않는다 — 덮어쓰면 그 쓰기가 요약에서 빠진다.
+ *
+ * @param lastId    이번 조각의 마지막 원천 id — 다음 조각은 그 뒤부터
+ * @param corrected 새로 만들거나 고친 요약 행 수
+ * @param hasMore   뒤에 원천이 더 남았는지
+ */
+public record RebuildChunk(long lastId, int corrected, boolean hasMore) {
+
+    /** @param ids 이번 조각에서 훑은 id — {@code size}만큼 꽉 찼으면 뒤에 더 있을 수 있다 */
+    public static RebuildChunk of(long afterId, List<Long> ids, int corrected, int size) {
+        if (ids.isEmpty()) {
+            return new RebuildChunk(afterId, 0, false);
+        }
+        return new RebuildChunk(ids.get(ids.size() - 1), corrected, ids.size() == size);
+    }
+
+    /**
+     * 처음부터 끝까지 조각을 이어 돈다.
+     *
+     * @return 고친 요약 행 수의 합
+     * @throws IllegalStateException 조각 하나가 실패했을 때 — 어느 id 뒤에서 멈췄는지 메시지에 남긴다
+     */
+    public static int rebuildAll(LongFunction<RebuildChunk> rebuildChunk) {
+        long afterId = 0;
+        int corrected = 0;
+        RebuildChunk chunk;
+        do {
+            try {
+                chunk = rebuildChunk.apply(afterId);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("재집계 실패 (id > " + afterId + ")", e);
+            }
+            corrected += chunk.corrected();
+            afterId = chunk.lastId();
+        } while (chunk.hasMore());
+        return corrected;
+    }
+}
@@ -0,0 +1,20 @@
+package showroomz.domain.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋 페이징에서 "여기까지 봤다"를 나타내는 마지막 항목의 정렬 키.
+ *
+ * <p>OFFSET은 앞 페이지 행을 모두 읽고 버리므로 스크롤이 깊어질수록 느려지고, 그 사이 새 글이 올라오면 한 칸씩
+ * 밀려 같은 카드가 두 번 보인다. 마지막 항목의 키보다 "뒤"만 읽으면 둘 다 없어진다.
+ *
+ * @param rank 시각 앞에 오는 정렬 키(좋아요 많은순의 좋아요 수 등). 시각이 첫 키인 목록은 0이다
+ * @param at   시각 키 — 피드는 게시 시각, 좋아요 목록은 좋아요한 시각
+ * @param id   같은 시각끼리 순서를 정하는 마지막 키
+ */
+public record SeekKey(long rank, LocalDateTime at, long id) {
+
+    public static SeekKey of(LocalDateTime at, long id) {
+        return new SeekKey(0L, at, id);
+    }
+}
@@ -125,13 +125,6 @@ public class Coupon extends BaseTimeEntity {
         this.seller = seller;
     }
 
-    public void decreaseRemainingForIssuance() {
-        if (remainingQuantity == null) {
-            return;
-        }
-        this.remainingQuantity = remainingQuantity - 1;
-    }
-
     public void updateAdminFields(String name, CouponType couponType, TargetAudience targetAudience,
                                   Long showroomId, Boolean isQuantityLimited, DiscountUnit discountUnit,
                                   BigDecimal discountValue, BigDecimal minOrderAmount, Integer maxDiscountAmount,
@@ -1,8 +1,7 @@
 package showroomz.domain.coupon.repository;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,17 +20,20 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponRep
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Coupon c WHERE c.couponIssueNumber = :code")
     boolean existsByCode(@Param("code") String code);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM Coupon c WHERE c.id = :id")
-    Optional<Coupon> findByIdForUpdate(@Param("id") Long id);
-
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM Coupon c WHERE c.couponIssueNumber = :code")
-    Optional<Coupon> findByCodeForUpdate(@Param("code") String code);
+    /**
+     * 남은 수량이 n 이상일 때만 n을 뺀다 — 행을 미리 잠그지 않고도 수량이 음수로 내려가지 않는다.
+     * 영속성 컨텍스트의 쿠폰은 옛 수량을 들고 있지만 더티가 아니므로 덮어쓰지 않는다.
+     *
+     * @return 1이면 차감, 0이면 수량 부족
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.remainingQuantity = c.remainingQuantity - :n "
+            + "WHERE c.id = :id AND c.remainingQuantity >= :n")
+    int decreaseRemainingIfAvailable(@Param("id") Long id, @Param("n") int n);
 
     long countByIdIn(Collection<Long> ids);
 
-    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Coupon c SET c.status = :status WHERE c.id IN :couponIds")
     int bulkUpdateStatus(@Param("couponIds") Collection<Long> couponIds, @Param("status") CouponStatus status);
 }
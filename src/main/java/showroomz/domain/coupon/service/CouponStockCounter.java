@@ -0,0 +1,93 @@
+package showroomz.domain.coupon.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수량 한정 쿠폰의 남은 수량을 인스턴스 메모리에 들고 잠금 없이(CAS) 한 장씩 떼어 주는 계수기.
+ *
+ * <p>예전 발급은 쿠폰 행을 {@code PESSIMISTIC_WRITE}로 잡고 트랜잭션 끝까지 들고 있어서, 선착순 쿠폰 하나에
+ * 몰린 다운로드가 전부 그 행 잠금 앞에 줄을 섰다. 여기서 먼저 한 장을 떼어 두고, DB에는 트랜잭션 마지막에
+ * {@code remaining_quantity >= 1} 조건부 UPDATE만 보낸다 — 행 잠금은 그 UPDATE부터 커밋까지만 걸리고,
+ * 이미 바닥난 쿠폰은 DB에 닿지도 않고 거절된다.
+ *
+ * <p><b>메모리 값은 상한일 뿐이고 판정은 DB가 한다.</b> 남은 수량은 줄기만 하므로(늘리는 경로가 없다) 한 번 읽은
+ * DB 값은 이후의 실제 값보다 크거나 같다. 발급 요청은 어차피 쿠폰 행을 읽으므로 그 값이 계수기보다 작으면
+ * (다른 인스턴스가 가져갔으면) 계수기를 끌어내린다. 그래도 DB가 조건부 UPDATE를 거절하면
+ * {@link #markSoldOut(Long)}으로 0에 맞춘다. 발급 트랜잭션이 롤백되면 떼어 둔 한 장은 되돌린다.
+ *
+ * <p>쿠폰당 정수 하나라 따로 비우지 않는다. 지표는 {@code coupon.stock.reserved}(떼어 준 수),
+ * {@code coupon.stock.rejected}(DB에 닿지 않고 거절한 수), {@code coupon.stock.reconciled}(DB가 거절해
+ * 메모리를 맞춘 수)다.
+ */
+@Component
+public class CouponStockCounter {
+
+    private final Map<Long, AtomicInteger> slots = new ConcurrentHashMap<>();
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Counter reconciled;
+
+    public CouponStockCounter(MeterRegistry meterRegistry) {
+        this.reserved = Counter.builder("coupon.stock.reserved")
+                .description("메모리 계수기에서 떼어 준 쿠폰 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("coupon.stock.rejected")
+                .description("DB에 닿지 않고 소진으로 거절한 발급 요청 수")
+                .register(meterRegistry);
+        this.reconciled = Counter.builder("coupon.stock.reconciled")
+                .description("DB가 조건부 차감을 거절해 계수기를 0으로 맞춘 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 장을 떼어 둔다. 트랜잭션 안이면 롤백 때 되돌리도록 걸어 둔다.
+     *
+     * @param remainingInDb 방금 읽은 쿠폰 행의 남은 수량 — 잠그지 않고 읽은 값이라 실제보다 클 수는 있어도 작지는 않다
+     * @return 떼어 줬으면 true, 메모리상 소진이면 false
+     */
+    public boolean tryReserve(Long couponId, int remainingInDb) {
+        int ceiling = Math.max(0, remainingInDb);
+        AtomicInteger slot = slots.computeIfAbsent(couponId, id -> new AtomicInteger(ceiling));
+        int before = slot.getAndUpdate(left -> {
+            int capped = Math.min(left, ceiling);
+            return capped > 0 ? capped - 1 : capped;
+        });
+        if (Math.min(before, ceiling) <= 0) {
+            rejected.increment();
+            return false;
+        }
+        reserved.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // 떼어 간 그 계수기에 돌려준다 — 그 사이 markSoldOut으로 갈렸다면 버려진 쪽에 더해져 사라진다
+                        slot.incrementAndGet();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /** DB가 조건부 차감을 거절했다 — 다른 인스턴스가 마지막 수량까지 가져갔다. */
+    public void markSoldOut(Long couponId) {
+        slots.put(couponId, new AtomicInteger(0));
+        reconciled.increment();
+    }
+
+    /** @return 계수기가 아직 없으면 null */
+    Integer remaining(Long couponId) {
+        AtomicInteger slot = slots.get(couponId);
+        return slot == null ? null : slot.get();
+    }
+}
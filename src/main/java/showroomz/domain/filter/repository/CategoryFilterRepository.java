@@ -1,6 +1,7 @@
 package showroomz.domain.filter.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import showroomz.domain.filter.entity.CategoryFilter;
 
 import java.util.List;
@@ -9,4 +10,12 @@ public interface CategoryFilterRepository extends JpaRepository<CategoryFilter,
     List<CategoryFilter> findByCategory_CategoryId(Long categoryId);
     void deleteByFilter_Id(Long filterId);
     void deleteByCategory_CategoryId(Long categoryId);
+
+    @Query("select cf.category.categoryId as categoryId, cf.filter.id as filterId from CategoryFilter cf")
+    List<CategoryFilterLink> findAllLinks();
+
+    interface CategoryFilterLink {
+        Long getCategoryId();
+        Long getFilterId();
+    }
 }
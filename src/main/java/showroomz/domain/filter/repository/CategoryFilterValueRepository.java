@@ -1,6 +1,7 @@
 package showroomz.domain.filter.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import showroomz.domain.filter.entity.CategoryFilterValue;
 
 import java.util.List;
@@ -8,4 +9,14 @@ import java.util.List;
 public interface CategoryFilterValueRepository extends JpaRepository<CategoryFilterValue, Long> {
     List<CategoryFilterValue> findByCategoryFilter_Category_CategoryId(Long categoryId);
     void deleteByCategoryFilter_Category_CategoryId(Long categoryId);
+
+    @Query("select cfv.categoryFilter.category.categoryId as categoryId, cfv.categoryFilter.filter.id as filterId, "
+            + "cfv.filterValue.id as filterValueId from CategoryFilterValue cfv")
+    List<SelectedValue> findAllSelections();
+
+    interface SelectedValue {
+        Long getCategoryId();
+        Long getFilterId();
+        Long getFilterValueId();
+    }
 }
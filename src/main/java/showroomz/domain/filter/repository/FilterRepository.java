@@ -1,6 +1,7 @@
 package showroomz.domain.filter.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import showroomz.domain.filter.entity.Filter;
 
 import java.util.Collection;
@@ -11,4 +12,8 @@ public interface FilterRepository extends JpaRepository<Filter, Long> {
     Optional<Filter> findByFilterKey(String filterKey);
     List<Filter> findByFilterKeyIn(Collection<String> filterKeys);
     List<Filter> findByIsActiveTrueOrderBySortOrderAsc();
+
+    /** 필터 카탈로그 스냅샷용 — 값 컬렉션까지 한 번에 읽어 필터마다 값을 따로 읽지 않는다 */
+    @Query("select distinct f from Filter f left join fetch f.values")
+    List<Filter> findAllWithValues();
 }
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.history.type.DeviceType;
 import showroomz.domain.history.type.LoginStatus;
 
 import java.time.LocalDateTime;
@@ -13,7 +14,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "login_history")
+@Table(name = "login_history", indexes = {
+        // 어드민 이력 검색 — 디바이스로 거르고 최신순으로 읽는다
+        @Index(name = "idx_login_history_device_login_at", columnList = "device_type, login_at")
+})
 public class LoginHistory {
 
     @Id
@@ -27,6 +31,11 @@ public class LoginHistory {
     private String clientIp;
     private String userAgent; // 디바이스/브라우저 정보
 
+    /** 적재 시점에 User-Agent로 한 번 판정한 값 — {@link DeviceType#fromUserAgent} */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeviceType deviceType;
+
     private String country;
     private String city;
 
@@ -40,6 +49,7 @@ public class LoginHistory {
         this.user = user;
         this.clientIp = clientIp;
         this.userAgent = userAgent;
+        this.deviceType = DeviceType.fromUserAgent(userAgent);
         this.country = country;
         this.city = city;
         this.status = status;
@@ -78,26 +78,9 @@ public class LoginHistoryRepositoryImpl implements LoginHistoryRepositoryCustom
         }
     }
 
+    /** 적재 때 판정해 둔 컬럼으로 거른다 — (device_type, login_at) 인덱스를 탄다 */
     private BooleanExpression eqDeviceType(DeviceType deviceType) {
-        if (deviceType == null) {
-            return null;
-        }
-
-        switch (deviceType) {
-            case ANDROID:
-                return loginHistory.userAgent.containsIgnoreCase("Android");
-            case IPHONE:
-                return loginHistory.userAgent.containsIgnoreCase("iPhone");
-            case DESKTOP_CHROME:
-                // Edge도 내부적으로 Chrome 키워드를 포함하므로 Edge는 제외해야 순수 Chrome
-                return loginHistory.userAgent.containsIgnoreCase("Chrome")
-                        .and(loginHistory.userAgent.containsIgnoreCase("Edg").not())
-                        .and(loginHistory.userAgent.containsIgnoreCase("Mobile").not());
-            case DESKTOP_EDGE:
-                return loginHistory.userAgent.containsIgnoreCase("Edg");
-            default:
-                return null;
-        }
+        return deviceType != null ? loginHistory.deviceType.eq(deviceType) : null;
     }
 
     private BooleanExpression eqCountry(String country) {
@@ -0,0 +1,260 @@
+package showroomz.domain.history.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import showroomz.domain.history.type.DeviceType;
+import showroomz.domain.history.type.LoginStatus;
+import showroomz.global.config.properties.AppProperties;
+import showroomz.global.service.GeoLocationService;
+import showroomz.global.service.GeoLocationService.GeoLocation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 이력 쓰기 지연 버퍼.
+ *
+ * <p>로그인 응답은 이력을 기다릴 이유가 없다. 그런데 요청 안에서 쓰면 로그인마다 회원 재조회, GeoIP 조회,
+ * INSERT 한 번이 토큰 발급 뒤에 줄줄이 붙는다. 그래서 로그인은 (회원 id, IP, User-Agent, 시각)만 큐에 넣고
+ * 돌아가고, 플러셔가 위치·디바이스를 판정해 <b>다중 행 INSERT 한 번</b>으로 쓴다. 회원 id는 방금 인증한
+ * 회원의 것이라 다시 읽지 않는다.
+ *
+ * <ul>
+ *   <li>플러시 — {@code app.auth.login-history-flush-size}건이 쌓이거나
+ *       {@code app.auth.login-history-flush-interval-millis}가 지나면.</li>
+ *   <li>배압 — 큐({@code app.auth.login-history-buffer-capacity})가 차면 넣으려던 요청 스레드가 직접 플러시한다.
+ *       로그인 요청의 트랜잭션에는 합류하지 않는다.</li>
+ *   <li>종료 — 컨테이너가 내려갈 때 남은 이력을 마저 쓴다.</li>
+ * </ul>
+ *
+ * <p>쓰기에 실패한 배치는 다시 넣지 않고 버린다 — 감사 로그가 아니라 조회용 이력이고, 같은 배치를 되넣으면
+ * 실패가 반복될 때 큐가 막혀 로그인까지 배압에 걸린다. 지표: 받은 건수 {@code auth.login-history.buffer.accepted},
+ * 쓴 건수 {@code .flushed}, 버린 건수 {@code .dropped}, 배압 {@code .backpressure}, 플러시 소요 {@code .flush},
+ * 대기 건수 {@code .size}.
+ */
+@Slf4j
+@Component
+public class LoginHistoryBuffer {
+
+    private static final String INSERT_PREFIX = "INSERT INTO login_history "
+            + "(user_id, client_ip, user_agent, device_type, country, city, status, login_at) VALUES ";
+    private static final int COLUMNS = 8;
+    /** login_history.user_agent 길이 — 넘는 값 하나가 배치 전체를 실패시키지 않게 자른다 */
+    private static final int USER_AGENT_LENGTH = 255;
+
+    /** 받아 둔 로그인 한 건 — 위치·디바이스 판정은 플러셔가 한다 */
+    public record PendingLogin(Long userId, String clientIp, String userAgent, LocalDateTime loginAt) {
+    }
+
+    private final BlockingQueue<PendingLogin> queue;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final Consumer<List<PendingLogin>> writer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+
+    private final Counter accepted;
+    private final Counter flushed;
+    private final Counter dropped;
+    private final Counter backpressure;
+    private final Timer flushTimer;
+
+    @Autowired
+    public LoginHistoryBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              GeoLocationService geoLocationService, AppProperties appProperties,
+                              MeterRegistry meterRegistry) {
+        this(appProperties.getAuth().getLoginHistoryBufferCapacity(),
+                appProperties.getAuth().getLoginHistoryFlushSize(),
+                appProperties.getAuth().getLoginHistoryFlushIntervalMillis(),
+                jdbcWriter(jdbcTemplate, ownTransaction(transactionManager), geoLocationService), meterRegistry);
+    }
+
+    LoginHistoryBuffer(int capacity, int flushSize, long flushIntervalMillis,
+                       Consumer<List<PendingLogin>> writer, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.flushSize = Math.max(1, flushSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.writer = writer;
+        this.accepted = Counter.builder("auth.login-history.buffer.accepted")
+                .description("버퍼가 받은 로그인 이력 수")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("auth.login-history.buffer.flushed")
+                .description("DB에 쓴 로그인 이력 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("auth.login-history.buffer.dropped")
+                .description("쓰기 실패로 버린 로그인 이력 수")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("auth.login-history.buffer.backpressure")
+                .description("큐가 차서 로그인 요청이 직접 플러시한 횟수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.login-history.buffer.flush")
+                .description("플러시 한 번의 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("auth.login-history.buffer.size", queue, BlockingQueue::size)
+                .description("쓰기를 기다리는 로그인 이력 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (flushIntervalMillis <= 0) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-history-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 이력을 마저 쓴다 */
+    @PreDestroy
+    void drain() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly();
+    }
+
+    public void offer(PendingLogin login) {
+        while (!queue.offer(login)) {
+            backpressure.increment();
+            flush();
+        }
+        accepted.increment();
+        if (queue.size() >= flushSize) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * 큐를 비울 때까지 쓴다. 동시에 한 스레드만 쓴다.
+     *
+     * @return 쓴 이력 수(버린 건 제외)
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int total = 0;
+            List<PendingLogin> batch = new ArrayList<>(flushSize);
+            while (queue.drainTo(batch, flushSize) > 0) {
+                if (write(batch)) {
+                    total += batch.size();
+                }
+                batch.clear();
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private boolean write(List<PendingLogin> batch) {
+        long start = System.nanoTime();
+        try {
+            writer.accept(batch);
+            flushed.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            dropped.increment(batch.size());
+            log.error("로그인 이력 {}건 적재 실패 — 버린다", batch.size(), e);
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void requestFlush() {
+        if (flusher == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        flusher.execute(() -> {
+            flushRequested.set(false);
+            flushQuietly();
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("로그인 이력 버퍼 플러시 실패", e);
+        }
+    }
+
+    /**
+     * 배치는 늘 자기 트랜잭션으로 쓴다. 배압 플러시는 로그인 요청 스레드에서 돌고, 그 스레드는 소셜 로그인처럼 회원
+     * 저장 트랜잭션 안일 수 있다 — 거기에 합류하면 그 로그인이 롤백될 때 함께 큐에 있던 다른 회원의 이력까지 사라진다.
+     */
+    private static TransactionTemplate ownTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * 위치는 GeoIP 캐시를 거쳐, 디바이스는 User-Agent로 여기서 한 번 판정해 같이 쓴다. 판정은 트랜잭션 밖에서 끝내
+     * 커넥션은 INSERT 한 문장 동안만 잡는다.
+     */
+    private static Consumer<List<PendingLogin>> jdbcWriter(JdbcTemplate jdbcTemplate,
+                                                           TransactionTemplate transactionTemplate,
+                                                           GeoLocationService geoLocationService) {
+        return batch -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 26).append(INSERT_PREFIX);
+            Object[] args = new Object[batch.size() * COLUMNS];
+            for (int i = 0; i < batch.size(); i++) {
+                PendingLogin login = batch.get(i);
+                GeoLocation location = geoLocationService.getLocation(login.clientIp());
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?)");
+                int at = i * COLUMNS;
+                args[at] = login.userId();
+                args[at + 1] = login.clientIp();
+                args[at + 2] = truncate(login.userAgent());
+                args[at + 3] = DeviceType.fromUserAgent(login.userAgent()).name();
+                args[at + 4] = location.getCountry();
+                args[at + 5] = location.getCity();
+                args[at + 6] = LoginStatus.SUCCESS.name();
+                args[at + 7] = login.loginAt();
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql.toString(), args));
+        };
+    }
+
+    private static String truncate(String userAgent) {
+        return userAgent == null || userAgent.length() <= USER_AGENT_LENGTH
+                ? userAgent
+                : userAgent.substring(0, USER_AGENT_LENGTH);
+    }
+}
@@ -13,4 +13,30 @@ public enum DeviceType {
     UNKNOWN("알 수 없음");
 
     private final String description;
+
+    /**
+     * User-Agent로 디바이스를 가른다. 로그인 이력을 적재할 때 한 번만 부르고 결과를 컬럼에 남긴다 —
+     * 어드민 검색이 매번 User-Agent를 LIKE로 훑지 않게 하기 위해서다. V124 채우기 SQL이 같은 순서를 따른다.
+     *
+     * <p>순서가 판정이다. 안드로이드 크롬과 엣지도 "Chrome"을 싣고 다니므로 모바일 OS를 먼저 보고,
+     * 엣지(Edg)를 크롬보다 먼저 본다.
+     */
+    public static DeviceType fromUserAgent(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return UNKNOWN;
+        }
+        if (userAgent.contains("Android")) {
+            return ANDROID;
+        }
+        if (userAgent.contains("iPhone")) {
+            return IPHONE;
+        }
+        if (userAgent.contains("Edg")) {
+            return DESKTOP_EDGE;
+        }
+        if (userAgent.contains("Chrome") && !userAgent.contains("Mobile")) {
+            return DESKTOP_CHROME;
+        }
+        return UNKNOWN;
+    }
 }
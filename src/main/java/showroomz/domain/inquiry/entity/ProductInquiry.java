@@ -46,6 +46,13 @@ public class ProductInquiry extends BaseTimeEntity {
     @Column(name = "PRODUCT_INQUIRY_ID")
     private Long id;
 
+    /**
+     * 문의번호 QNA-YYYYMMDD-NNN (§23-3) — 등록 시점에 발급해 고정한다.
+     * 발급 이전에 쌓인 행은 V115가 채웠고, 그래도 비어 있으면 {@code ProductInquiryNumber}가 옛 방식으로 계산한다.
+     */
+    @Column(name = "INQUIRY_NUMBER", length = 20, unique = true)
+    private String inquiryNumber;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID", nullable = false)
     private Users user;
@@ -134,8 +141,9 @@ public class ProductInquiry extends BaseTimeEntity {
     private LocalDateTime deletedAt;
 
     @Builder
-    public ProductInquiry(Users user, Product product, ProductInquiryType type, String content,
-                          boolean secret, List<String> imageUrls) {
+    public ProductInquiry(String inquiryNumber, Users user, Product product, ProductInquiryType type,
+                          String content, boolean secret, List<String> imageUrls) {
+        this.inquiryNumber = inquiryNumber;
         this.user = user;
         this.product = product;
         this.type = type;
@@ -50,7 +50,7 @@ public interface ProductInquiryRepository extends JpaRepository<ProductInquiry,
            "WHERE pi.id = :inquiryId")
     java.util.Optional<ProductInquiry> findByIdWithUserAndProduct(@Param("inquiryId") Long inquiryId);
 
-    /** 문의번호(QNA-YYYYMMDD-NNN)의 일자 내 순번 (§23-3) */
+    /** 문의번호(QNA-YYYYMMDD-NNN)의 일자 내 순번 (§23-3) — 번호가 저장되지 않은 옛 행에만 쓴다 */
     long countByCreatedAtGreaterThanEqualAndCreatedAtLessThanAndIdLessThanEqual(
             LocalDateTime from, LocalDateTime to, Long inquiryId);
 }
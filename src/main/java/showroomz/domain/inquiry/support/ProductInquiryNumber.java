@@ -2,23 +2,40 @@ package showroomz.domain.inquiry.support;
 
 import showroomz.domain.inquiry.entity.ProductInquiry;
 import showroomz.domain.inquiry.repository.ProductInquiryRepository;
+import showroomz.domain.sequence.service.SequenceAllocator;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-/** 문의번호 QNA-YYYYMMDD-NNN (§23-3) — NNN은 등록 일자 내 순번이다. */
+/**
+ * 문의번호 QNA-YYYYMMDD-NNN (§23-3) — NNN은 등록 일자 내 순번이다.
+ *
+ * <p>번호는 등록 시점에 {@link #issue}로 발급해 행에 저장한다. 예전처럼 렌더링마다 그날 문의 수를 세면
+ * 목록 한 페이지가 행 수만큼 카운트 쿼리를 부르고, 앞선 문의가 지워지면 번호가 바뀌어 버린다.
+ */
 public final class ProductInquiryNumber {
 
+    private static final String PREFIX = "QNA-";
     private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private ProductInquiryNumber() {
     }
 
+    public static String issue(SequenceAllocator sequenceAllocator, LocalDate date) {
+        String prefix = PREFIX + date.format(DATE);
+        return prefix + "-" + String.format("%03d", sequenceAllocator.next(prefix));
+    }
+
     public static String of(ProductInquiry inquiry, ProductInquiryRepository repository) {
+        if (inquiry.getInquiryNumber() != null) {
+            return inquiry.getInquiryNumber();
+        }
+        // 번호 저장 이전 행(마이그레이션이 채우지 못한 경우) — 옛 계산 방식을 그대로 따른다
         LocalDateTime createdAt = inquiry.getCreatedAt();
         LocalDateTime dayStart = createdAt.toLocalDate().atStartOfDay();
         long sequence = repository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThanAndIdLessThanEqual(
                 dayStart, dayStart.plusDays(1), inquiry.getId());
-        return "QNA-" + createdAt.format(DATE) + "-" + String.format("%03d", sequence);
+        return PREFIX + createdAt.format(DATE) + "-" + String.format("%03d", sequence);
     }
 }
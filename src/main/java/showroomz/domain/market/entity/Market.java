@@ -8,6 +8,7 @@ import showroomz.domain.category.entity.Category;
 import showroomz.domain.member.seller.entity.Seller;
 import showroomz.domain.market.type.MarketStatus;
 import showroomz.domain.market.type.SnsType;
+import showroomz.domain.search.SearchDocumentListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Table(name = "MARKET")
+@EntityListeners(SearchDocumentListener.class)
 public class Market {
 
     @Id
@@ -10,11 +10,13 @@ import showroomz.domain.common.BaseTimeEntity;
 import showroomz.domain.market.type.SnsType;
 import showroomz.domain.member.creator.type.CreatorBusinessType;
 import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.search.SearchDocumentListener;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "CREATOR")
+@EntityListeners(SearchDocumentListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -103,6 +105,16 @@ public class Creator extends BaseTimeEntity {
     @Column(name = "BANKBOOK_IMAGE_URL", length = 1024)
     private String bankbookImageUrl;
 
+    /**
+     * 게시중 게시물의 최신 게시 시각 — 팔로잉 목록 기본 정렬 키다. 게시중 게시물이 없으면 null.
+     *
+     * <p>엔티티로는 쓰지 않는다({@code insertable/updatable = false}). 게시 전이마다
+     * {@code CreatorRepository#refreshLastPublishedAt}가 post에서 다시 계산해 넣는데, 같은 트랜잭션에서 다른
+     * 필드가 바뀐 쇼룸 엔티티가 flush되면서 읽어 둔 옛 값으로 덮어쓰면 안 되기 때문이다.
+     */
+    @Column(name = "LAST_PUBLISHED_AT", insertable = false, updatable = false)
+    private LocalDateTime lastPublishedAt;
+
     public void completeRegistration(
             String showroomName,
             CreatorBusinessType businessType,
@@ -1,5 +1,7 @@
 package showroomz.domain.member.creator.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,17 +22,38 @@ public interface CreatorFollowRepository extends JpaRepository<CreatorFollow, Lo
     /** C15-4 탈퇴 — 팔로잉 기록 파기 */
     void deleteByUser(Users user);
 
-    // 팔로잉 목록 조회 — 정렬(최근 게시물 순)이 서비스 단에서 끝나므로 전체를 한 번에 가져온다
-    @Query("SELECT cf FROM CreatorFollow cf " +
-           "JOIN FETCH cf.creator c " +
-           "JOIN FETCH c.user " +
-           "WHERE cf.user = :user")
-    List<CreatorFollow> findAllByUserWithCreator(@Param("user") Users user);
+    /**
+     * C2 팔로잉 목록 한 페이지 — 정렬·자르기를 DB가 한다.
+     *
+     * <p>정렬은 호출 쪽 {@link Pageable}이 정한다. 최근 게시물 순은 {@code c.lastPublishedAt}(조인 별칭)으로
+     * 건다 — 쇼룸마다 게시물을 모아 MAX를 내던 것을 쇼룸 행에 미리 들고 있다(V117).
+     */
+    @Query(value = "SELECT cf FROM CreatorFollow cf " +
+                   "JOIN FETCH cf.creator c " +
+                   "JOIN FETCH c.user " +
+                   "WHERE cf.user = :user",
+           countQuery = "SELECT COUNT(cf) FROM CreatorFollow cf WHERE cf.user = :user")
+    Page<CreatorFollow> findPageByUserWithCreator(@Param("user") Users user, Pageable pageable);
 
     // 팔로잉 피드용 — 팔로우한 쇼룸 ID 목록
     @Query("SELECT cf.creator.id FROM CreatorFollow cf WHERE cf.user.id = :userId")
     List<Long> findCreatorIdsByUserId(@Param("userId") Long userId);
 
+    /**
+     * 팔로잉 타임라인의 첫 페이지용 — 팔로우한 쇼룸과 그 쇼룸의 마지막 게시 시각({id, lastPublishedAt}) 행.
+     * 메모리에 든 타임라인이 그 사이 다른 인스턴스에서 올라온 게시물을 놓쳤는지를 이 시각으로 가린다.
+     */
+    @Query("SELECT c.id, c.lastPublishedAt FROM CreatorFollow cf JOIN cf.creator c WHERE cf.user.id = :userId")
+    List<Object[]> findFollowedCreatorPublishTimes(@Param("userId") Long userId);
+
+    /** 게시 팬아웃 — 이 쇼룸을 팔로우하는 사용자 id */
+    @Query("SELECT cf.user.id FROM CreatorFollow cf WHERE cf.creator.id = :creatorId")
+    List<Long> findFollowerIdsByCreatorId(@Param("creatorId") Long creatorId);
+
+    /** 팔로워가 {@code minFollowers}명 이상인 쇼룸 — 팔로잉 타임라인이 밀어 넣지 않고 읽을 때 합치는 쪽이다 */
+    @Query("SELECT cf.creator.id FROM CreatorFollow cf GROUP BY cf.creator.id HAVING COUNT(cf) >= :minFollowers")
+    List<Long> findCreatorIdsWithFollowersAtLeast(@Param("minFollowers") long minFollowers);
+
     /**
      * C1 피드 카드의 팔로우 버튼용 — <b>이 페이지에 실린 쇼룸만</b> 팔로우 여부를 확인한다.
      *
@@ -1,7 +1,9 @@
 package showroomz.domain.member.creator.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.user.entity.Users;
 
@@ -36,4 +38,18 @@ public interface CreatorRepository extends JpaRepository<Creator, Long> {
     @Query(value = "SELECT creator_id FROM creator " +
                    "WHERE connection_code = CONCAT('SZ', LPAD(creator_id, 8, '0'))", nativeQuery = true)
     List<Long> findIdsWithLegacyConnectionCode();
+
+    /**
+     * 쇼룸의 최신 게시 시각을 post에서 다시 계산한다 — 게시중 경계를 넘는 전이마다 부른다.
+     *
+     * <p>증감으로 맞추지 않고 매번 다시 계산하는 이유: 최신 게시물이 노출 중지·삭제되면 "그다음 최신"을 알아야 하는데
+     * 그건 post에만 있다. idx_post_creator_status_published로 쇼룸 하나를 찾는 것이라 싸다. 방금 바꾼 게시물
+     * 상태가 반영되도록 먼저 flush한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Creator c SET c.lastPublishedAt = " +
+           "(SELECT MAX(p.publishedAt) FROM Post p " +
+           " WHERE p.creator.id = :creatorId AND p.status = showroomz.domain.post.type.PostStatus.PUBLISHED) " +
+           "WHERE c.id = :creatorId")
+    int refreshLastPublishedAt(@Param("creatorId") Long creatorId);
 }
@@ -0,0 +1,212 @@
+package showroomz.domain.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 쓰이는 닉네임·쇼룸 주소의 블룸 필터 — "비어 있다"는 답 대부분을 DB 없이 낸다.
+ *
+ * <p>닉네임 확인은 입력할 때마다 불리고, 거의 항상 "사용 가능"으로 끝난다. 필터가 "없다"고 하면 그 값은
+ * 필터를 만든 뒤 이 인스턴스가 본 적이 없는 값이다. "있을 수 있다"면 호출자가 DB에 확인한다 — 오탐은 쿼리
+ * 한 번이 더 나갈 뿐 답이 틀리지 않는다.
+ *
+ * <p>틀릴 수 있는 쪽은 "없다"다. 다른 인스턴스에서 방금 가입한 닉네임은 다음 재구성 전까지 이 필터에 없다.
+ * 그래서 필터는 <b>안내용 확인에만</b> 쓰고, 저장 경로(가입·닉네임 변경)는 늘 DB로 확인한다. 쇼룸 주소
+ * 생성기도 필터의 "없다"를 믿지 않고 "있을 수 있다"만 건너뛰는 데 쓴다.
+ *
+ * <ul>
+ *   <li>채우기 — 기동을 마친 뒤 두 컬럼을 한 번 읽는다(그 전까지는 모든 조회를 DB로 넘긴다). 이후 가입·변경
+ *       경로가 값을 바로 넣는다(커밋 전이라도 괜찮다 — 롤백된 값은 오탐 하나가 될 뿐이다).</li>
+ *   <li>재구성 — {@code app.taken-names.rebuild-interval-millis}마다 새로 만든다. 다른 인스턴스가 쓴 값을
+ *       따라잡고, 바뀌어 풀린 옛 닉네임(블룸 필터는 지울 수 없다)을 걷어낸다. 만드는 동안 들어온 값은 따로
+ *       적어 두었다가 새 필터에 옮긴 뒤 갈아 끼운다.</li>
+ * </ul>
+ *
+ * <p>키는 소문자로 접는다. 컬럼 콜레이션({@code utf8mb4_unicode_ci})이 대소문자를 같게 보므로, DB가 중복이라고
+ * 할 값을 필터가 "없다"고 하면 안 된다. 지표: {@code member.taken_name.lookup} (result=absent|maybe).
+ */
+@Slf4j
+@Component
+public class TakenNameIndex {
+
+    private static final String COUNT_NICKNAMES = "SELECT COUNT(*) FROM users";
+    private static final String SELECT_NICKNAMES = "SELECT nickname FROM users";
+    private static final String COUNT_ADDRESSES = "SELECT COUNT(*) FROM creator WHERE showroom_address IS NOT NULL";
+    private static final String SELECT_ADDRESSES =
+            "SELECT showroom_address FROM creator WHERE showroom_address IS NOT NULL";
+
+    /** 재구성 사이에 늘어날 몫과 작은 테이블의 바닥값 — 넘으면 오탐률이 목표보다 올라갈 뿐이다 */
+    private static final double GROWTH_HEADROOM = 1.5;
+    private static final int MIN_EXPECTED = 10_000;
+
+    private record Filters(BloomFilter nicknames, BloomFilter addresses) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long rebuildIntervalMillis;
+    private final double falsePositiveRate;
+    private final Counter absent;
+    private final Counter maybe;
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    /** 첫 채우기 전에는 null — 그동안은 "있을 수 있다"로 답한다 */
+    private volatile Filters filters;
+    /** 재구성 중에만 null이 아니다 — 그 사이 들어온 값을 새 필터에 옮기기 위해 적어 둔다 */
+    private List<String> pendingNicknames;
+    private List<String> pendingAddresses;
+    private ScheduledExecutorService rebuilder;
+
+    public TakenNameIndex(JdbcTemplate jdbcTemplate,
+                          @Value("${app.taken-names.rebuild-interval-millis:600000}") long rebuildIntervalMillis,
+                          @Value("${app.taken-names.false-positive-rate:0.01}") double falsePositiveRate,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.falsePositiveRate = falsePositiveRate;
+        this.absent = Counter.builder("member.taken_name.lookup").tag("result", "absent")
+                .description("필터만으로 비어 있다고 답한 조회 수")
+                .register(meterRegistry);
+        this.maybe = Counter.builder("member.taken_name.lookup").tag("result", "maybe")
+                .description("DB 확인으로 넘긴 조회 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        // 첫 채우기에 실패해도 기동은 막지 않는다 — 다음 재구성까지 모든 조회가 DB로 갈 뿐이다
+        rebuildQuietly();
+        if (rebuildIntervalMillis <= 0) {
+            return;
+        }
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taken-name-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly,
+                rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /** false면 이 인스턴스가 아는 한 아무도 쓰지 않는 닉네임이다 */
+    public boolean mightContainNickname(String nickname) {
+        Filters current = filters;
+        return record(current == null || current.nicknames().mightContain(key(nickname)));
+    }
+
+    /**
+     * 쇼룸 주소 생성기의 건너뛰기 판정 — true면 DB에 묻지 않고 다음 후보로 넘어간다.
+     *
+     * <p>{@link #mightContainNickname}과 달리 채우기 전(기동 직후·채우기 실패)에는 false다. 그때
+     * "있을 수 있다"로 답하면 모든 후보가 건너뛰어져 생성기가 끝나지 않는다. 필터가 없으면 판단을 DB 확인에 넘긴다.
+     */
+    public boolean probablyTakenShowroomAddress(String showroomAddress) {
+        Filters current = filters;
+        return current != null && record(current.addresses().mightContain(key(showroomAddress)));
+    }
+
+    public void addNickname(String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        String key = key(nickname);
+        synchronized (writeLock) {
+            if (filters != null) {
+                filters.nicknames().put(key);
+            }
+            if (pendingNicknames != null) {
+                pendingNicknames.add(key);
+            }
+        }
+    }
+
+    public void addShowroomAddress(String showroomAddress) {
+        if (showroomAddress == null) {
+            return;
+        }
+        String key = key(showroomAddress);
+        synchronized (writeLock) {
+            if (filters != null) {
+                filters.addresses().put(key);
+            }
+            if (pendingAddresses != null) {
+                pendingAddresses.add(key);
+            }
+        }
+    }
+
+    /** 두 컬럼을 다시 읽어 새 필터를 만들고 갈아 끼운다 */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (writeLock) {
+                pendingNicknames = new ArrayList<>();
+                pendingAddresses = new ArrayList<>();
+            }
+            try {
+                BloomFilter nicknames = load(COUNT_NICKNAMES, SELECT_NICKNAMES);
+                BloomFilter addresses = load(COUNT_ADDRESSES, SELECT_ADDRESSES);
+                synchronized (writeLock) {
+                    pendingNicknames.forEach(nicknames::put);
+                    pendingAddresses.forEach(addresses::put);
+                    filters = new Filters(nicknames, addresses);
+                }
+            } finally {
+                synchronized (writeLock) {
+                    pendingNicknames = null;
+                    pendingAddresses = null;
+                }
+            }
+        }
+    }
+
+    private BloomFilter load(String countSql, String selectSql) {
+        Long count = jdbcTemplate.queryForObject(countSql, Long.class);
+        long expected = Math.max(MIN_EXPECTED, (long) ((count != null ? count : 0) * GROWTH_HEADROOM));
+        BloomFilter filter = BloomFilter.create(expected, falsePositiveRate);
+        jdbcTemplate.query(selectSql, rs -> {
+            String value = rs.getString(1);
+            if (value != null) {
+                filter.put(key(value));
+            }
+        });
+        return filter;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("닉네임·쇼룸 주소 필터를 다시 만들지 못했습니다. 이전 필터를 계속 씁니다.", e);
+        }
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? maybe : absent).increment();
+        return mightContain;
+    }
+
+    private static String key(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -12,6 +12,7 @@ import showroomz.domain.member.user.type.UserStatus;
 import showroomz.domain.member.user.vo.NotificationSetting;
 import showroomz.domain.member.user.vo.RefundAccount;
 import showroomz.domain.bank.entity.Bank;
+import showroomz.domain.search.SearchDocumentListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -23,6 +24,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @Table(name = "USERS")
+@EntityListeners(SearchDocumentListener.class)
 public class Users {
     @JsonIgnore
     @Id
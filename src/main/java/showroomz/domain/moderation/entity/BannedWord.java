@@ -0,0 +1,54 @@
+package showroomz.domain.moderation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import showroomz.domain.common.BaseTimeEntity;
+import showroomz.domain.moderation.type.BannedWordScope;
+
+/**
+ * 운영 중 추가하는 금칙어. 배포와 함께 가는 기본 목록은 설정({@code moderation.*})에 있고, 엔진이 둘을 합친다.
+ *
+ * <p>지우지 않고 {@code active}를 내린다 — 엔진은 행 수와 최종 수정 시각으로 변경을 알아채는데, 행을 지우면
+ * 같은 순간 다른 행이 추가됐을 때 둘 다 그대로인 것처럼 보일 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "banned_word")
+public class BannedWord extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "banned_word_id")
+    private Long id;
+
+    /** 입력 그대로 둔다 — 정규화(자모 분해·소문자화)는 엔진이 컴파일할 때 한다 */
+    @Column(name = "word", nullable = false, length = 50)
+    private String word;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 10)
+    private BannedWordScope scope;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    public BannedWord(String word, BannedWordScope scope) {
+        this.word = word;
+        this.scope = scope;
+        this.active = true;
+    }
+
+    public void deactivate() {
+        this.active = false;
+    }
+}
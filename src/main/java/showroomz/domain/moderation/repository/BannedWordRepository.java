@@ -0,0 +1,23 @@
+package showroomz.domain.moderation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import showroomz.domain.moderation.entity.BannedWord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BannedWordRepository extends JpaRepository<BannedWord, Long> {
+
+    List<BannedWord> findByActiveTrue();
+
+    /** 목록을 다시 읽을지 정하는 값 — 행이 늘거나 어느 행이든 고쳐지면 둘 중 하나가 바뀐다 */
+    interface Version {
+        long getCount();
+
+        LocalDateTime getLastModifiedAt();
+    }
+
+    @Query("SELECT COUNT(w) AS count, MAX(w.modifiedAt) AS lastModifiedAt FROM BannedWord w")
+    Version findVersion();
+}
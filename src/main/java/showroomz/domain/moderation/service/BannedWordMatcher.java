@@ -0,0 +1,165 @@
+package showroomz.domain.moderation.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 전체를 한 번에 찾는 Aho–Corasick 오토마톤. 만든 뒤에는 바뀌지 않아 여러 스레드가 그대로 나눠 쓴다.
+ *
+ * <p>단어마다 {@code contains}를 돌리면 글 길이 × 단어 수만큼 비교한다. 본문 2,000자에 단어가 수백 개면
+ * 게시물 저장 한 번에 수십만 번이다. 오토마톤은 글을 한 번 훑으면서 모든 단어를 같이 본다 — 단어 수가 늘어도
+ * 훑는 비용은 거의 그대로다.
+ *
+ * <p>상태마다 다음 글자를 정렬된 {@code char[]}로 들고 이분 탐색한다. 한글 자모·영문·숫자가 섞인 알파벳이라
+ * 상태마다 전이표를 통째로 두면 대부분 빈 칸이다. 실패 링크를 따라가면서 만나는 출력(더 짧은 단어)은
+ * 컴파일할 때 미리 합쳐 두어, 검사 중에는 실패 링크를 출력 때문에 따로 타지 않는다.
+ */
+public final class BannedWordMatcher {
+
+    private static final BannedWordMatcher EMPTY = compile(List.of());
+
+    private final char[][] keys;
+    private final int[][] next;
+    private final int[] fail;
+    /** 상태에서 끝나는 단어들의 길이(정규화 기준) — 시작 위치를 되짚어 음절 경계를 확인하는 데 쓴다 */
+    private final int[][] outputs;
+    private final int wordCount;
+
+    private BannedWordMatcher(char[][] keys, int[][] next, int[] fail, int[][] outputs, int wordCount) {
+        this.keys = keys;
+        this.next = next;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.wordCount = wordCount;
+    }
+
+    public static BannedWordMatcher empty() {
+        return EMPTY;
+    }
+
+    /** 단어는 {@link ModerationText#normalizeWord}로 접은 뒤 넣는다. 접어서 빈 단어는 버린다. */
+    public static BannedWordMatcher compile(Collection<String> words) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String word : words) {
+            String folded = ModerationText.normalizeWord(word);
+            if (!folded.isEmpty()) {
+                normalized.add(folded);
+            }
+        }
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminalLength = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminalLength.add(0);
+        for (String word : normalized) {
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer child = trie.get(state).get(word.charAt(i));
+                if (child == null) {
+                    child = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminalLength.add(0);
+                    trie.get(state).put(word.charAt(i), child);
+                }
+                state = child;
+            }
+            terminalLength.set(state, word.length());
+        }
+
+        int size = trie.size();
+        char[][] keys = new char[size][];
+        int[][] next = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> children = trie.get(state);
+            keys[state] = new char[children.size()];
+            next[state] = new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                keys[state][i] = child.getKey();
+                next[state][i] = child.getValue();
+                i++;
+            }
+        }
+
+        // 너비 우선으로 실패 링크를 건다 — 부모의 실패 링크가 먼저 정해져 있어야 자식 것을 구할 수 있다
+        int[] fail = new int[size];
+        int[][] outputs = new int[size][];
+        outputs[0] = new int[0];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : next[0]) {
+            fail[child] = 0;
+            outputs[child] = own(terminalLength.get(child), outputs[0]);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = next[state][i];
+                int fallback = fail[state];
+                int target;
+                while ((target = step(keys, next, fallback, c)) < 0 && fallback != 0) {
+                    fallback = fail[fallback];
+                }
+                fail[child] = Math.max(target, 0);
+                outputs[child] = own(terminalLength.get(child), outputs[fail[child]]);
+                queue.add(child);
+            }
+        }
+        return new BannedWordMatcher(keys, next, fail, outputs, normalized.size());
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /** 정규화 전 글을 받는다 */
+    public boolean matches(CharSequence text) {
+        return matches(ModerationText.normalize(text));
+    }
+
+    public boolean matches(ModerationText.Normalized text) {
+        if (wordCount == 0) {
+            return false;
+        }
+        char[] chars = text.chars();
+        boolean[] starts = text.starts();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = chars[i];
+            int target;
+            while ((target = step(keys, next, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(target, 0);
+            for (int length : outputs[state]) {
+                if (starts[i - length + 1]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int step(char[][] keys, int[][] next, int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index >= 0 ? next[state][index] : -1;
+    }
+
+    private static int[] own(int length, int[] inherited) {
+        if (length == 0) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(inherited, inherited.length + 1);
+        merged[inherited.length] = length;
+        return merged;
+    }
+}
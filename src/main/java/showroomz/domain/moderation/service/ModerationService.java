@@ -0,0 +1,120 @@
+package showroomz.domain.moderation.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import showroomz.domain.moderation.entity.BannedWord;
+import showroomz.domain.moderation.repository.BannedWordRepository;
+import showroomz.domain.moderation.type.BannedWordScope;
+import showroomz.domain.moderation.type.ModerationTarget;
+import showroomz.global.config.properties.ModerationProperties;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금칙어 검사 — 닉네임·쇼룸명·게시물 본문·상품 문의가 같은 목록, 같은 정규화를 쓴다.
+ *
+ * <p>설정의 기본 목록과 {@code banned_word}를 합쳐 매처 두 벌(이름용·글용)을 컴파일해 두고, 요청은 불변
+ * 스냅샷을 읽기만 한다. 변경 확인 스레드가 {@code moderation.reload-interval-millis}마다 테이블의 행 수·최종
+ * 수정 시각만 보고, 바뀌었을 때만 목록을 다시 읽어 참조를 갈아 끼운다 — 운영자가 단어를 더하면 재기동 없이
+ * 그 주기 안에 모든 인스턴스에 퍼진다.
+ *
+ * <p>다시 읽다 실패하면 이전 스냅샷을 그대로 쓴다. 목록을 못 읽었다고 검사를 끄면 그 사이 가입·게시가 금칙어를
+ * 그대로 통과한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModerationService {
+
+    private final BannedWordRepository bannedWordRepository;
+    private final ModerationProperties moderationProperties;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private ScheduledExecutorService reloader;
+
+    private record Snapshot(long count, LocalDateTime lastModifiedAt,
+                            BannedWordMatcher names, BannedWordMatcher texts) {
+
+        static final Snapshot EMPTY = new Snapshot(-1, null, BannedWordMatcher.empty(), BannedWordMatcher.empty());
+    }
+
+    @PostConstruct
+    void start() {
+        reload();
+        long interval = moderationProperties.getReloadIntervalMillis();
+        if (interval <= 0) {
+            return;
+        }
+        reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "banned-word-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloader.scheduleWithFixedDelay(this::reloadIfChangedQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    public boolean containsBannedWord(ModerationTarget target, String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return (target.isName() ? current.names() : current.texts()).matches(text);
+    }
+
+    /** 목록을 무조건 다시 읽는다 — 기동 시와 운영 도구용 */
+    public void reload() {
+        BannedWordRepository.Version version = bannedWordRepository.findVersion();
+        List<String> names = new ArrayList<>(moderationProperties.getNameWords());
+        List<String> texts = new ArrayList<>(moderationProperties.getWords());
+        for (BannedWord word : bannedWordRepository.findByActiveTrue()) {
+            if (word.getScope() == BannedWordScope.ALL) {
+                texts.add(word.getWord());
+            } else {
+                names.add(word.getWord());
+            }
+        }
+        // 이름에는 전체 범위 단어도 건다
+        names.addAll(texts);
+
+        BannedWordMatcher nameMatcher = BannedWordMatcher.compile(names);
+        BannedWordMatcher textMatcher = BannedWordMatcher.compile(texts);
+        snapshot = new Snapshot(version.getCount(), version.getLastModifiedAt(), nameMatcher, textMatcher);
+        log.info("금칙어 {}개(이름 전용 포함)를 컴파일했습니다.", nameMatcher.wordCount());
+    }
+
+    /** @return 다시 읽었으면 true */
+    boolean reloadIfChanged() {
+        BannedWordRepository.Version version = bannedWordRepository.findVersion();
+        Snapshot current = snapshot;
+        if (version.getCount() == current.count()
+                && Objects.equals(version.getLastModifiedAt(), current.lastModifiedAt())) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    private void reloadIfChangedQuietly() {
+        try {
+            reloadIfChanged();
+        } catch (RuntimeException e) {
+            log.warn("금칙어 목록을 다시 읽지 못했습니다. 이전 목록을 계속 씁니다.", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package showroomz.domain.moderation.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 금칙어 비교용 정규화 — 단어와 검사할 글을 같은 규칙으로 접는다.
+ *
+ * <ol>
+ *   <li>NFKC — 전각 영문(ＦＵＣＫ)·호환 문자를 보통 글자로 돌린다(한글은 제외, {@link #isHangul} 참고).</li>
+ *   <li>소문자화, 글자·숫자가 아닌 것(공백·문장부호·이모지) 제거 — "f u c k", "욕.설" 같은 끼워 넣기를 접는다.</li>
+ *   <li>한글 음절을 호환 자모로 풀고 겹모음·겹받침을 홑자모로 나눈다 — "ㅇㅛㄱㅅㅓㄹ"처럼 자모로 쳐도,
+ *       "욕ㅅ ㅓㄹ"처럼 섞어 쳐도 단어와 같은 열이 된다.</li>
+ * </ol>
+ *
+ * <p>음절을 풀면 앞 음절의 받침에서 시작하는 가짜 일치가 생긴다("맛보기"를 풀면 자모 약어 "ㅅㅂ"이 나온다).
+ * 그래서 각 자리가 음절의 첫 자모인지를 함께 남기고, 매처는 음절 중간에서 시작하는 일치를 버린다.
+ */
+public final class ModerationText {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char JAMO_FIRST = 'ㄱ';
+    private static final char JAMO_LAST = 'ㅣ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    /** 0번은 받침 없음 */
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    /** 호환 자모(ㄱ~ㅣ) → 홑자모 열. 겹받침·겹모음만 둘로 나뉜다(된소리 ㄲ·ㅆ 등은 다른 소리라 그대로 둔다). */
+    private static final String[] SPLIT = new String[JAMO_LAST - JAMO_FIRST + 1];
+
+    static {
+        for (char c = JAMO_FIRST; c <= JAMO_LAST; c++) {
+            SPLIT[c - JAMO_FIRST] = String.valueOf(c);
+        }
+        split('ㄳ', "ㄱㅅ");
+        split('ㄵ', "ㄴㅈ");
+        split('ㄶ', "ㄴㅎ");
+        split('ㄺ', "ㄹㄱ");
+        split('ㄻ', "ㄹㅁ");
+        split('ㄼ', "ㄹㅂ");
+        split('ㄽ', "ㄹㅅ");
+        split('ㄾ', "ㄹㅌ");
+        split('ㄿ', "ㄹㅍ");
+        split('ㅀ', "ㄹㅎ");
+        split('ㅄ', "ㅂㅅ");
+        split('ㅘ', "ㅗㅏ");
+        split('ㅙ', "ㅗㅐ");
+        split('ㅚ', "ㅗㅣ");
+        split('ㅝ', "ㅜㅓ");
+        split('ㅞ', "ㅜㅔ");
+        split('ㅟ', "ㅜㅣ");
+        split('ㅢ', "ㅡㅣ");
+    }
+
+    private ModerationText() {
+    }
+
+    /**
+     * 정규화한 글.
+     *
+     * @param chars  정규화된 글자 — 앞 {@code length}자만 유효하다
+     * @param starts 그 자리에서 일치가 시작돼도 되는지(음절 첫 자모이거나 한글 음절이 아닌 글자)
+     */
+    public record Normalized(char[] chars, boolean[] starts, int length) {
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+
+    /** 금칙어 단어용 — 시작 위치 정보는 필요 없다 */
+    public static String normalizeWord(String word) {
+        return normalize(word).toString();
+    }
+
+    public static Normalized normalize(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return new Normalized(new char[0], new boolean[0], 0);
+        }
+        // 음절 하나가 최대 5자(초성 + 겹모음 2 + 겹받침 2)로 늘어난다
+        Builder out = new Builder(text.length() * 2);
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.codePointAt(text, i);
+            i += Character.charCount(codePoint);
+
+            if (isHangul(codePoint) || codePoint < 0x80) {
+                fold(out, codePoint);
+            } else {
+                String folded = Normalizer.normalize(Character.toString(codePoint), Normalizer.Form.NFKC);
+                folded.codePoints().forEach(c -> fold(out, c));
+            }
+        }
+        return new Normalized(out.chars, out.starts, out.length);
+    }
+
+    /**
+     * 한글 음절·호환 자모는 NFKC를 거치지 않는다 — 호환 자모를 첫가끝 자모로 바꾸고, 이어 친 "ㅇㅛ"를 다시
+     * "요"로 합쳐 버려 자모로 친 글이 단어와 다른 열이 된다. 그래서 전체 글이 아니라 나머지 글자에만 한 자씩 건다.
+     */
+    private static boolean isHangul(int codePoint) {
+        return (codePoint >= SYLLABLE_FIRST && codePoint <= SYLLABLE_LAST)
+                || (codePoint >= JAMO_FIRST && codePoint <= JAMO_LAST);
+    }
+
+    private static void fold(Builder out, int codePoint) {
+        if (codePoint >= SYLLABLE_FIRST && codePoint <= SYLLABLE_LAST) {
+            int index = codePoint - SYLLABLE_FIRST;
+            out.append(CHOSEONG.charAt(index / 588), true);
+            out.appendSplit(JUNGSEONG.charAt(index % 588 / 28), false);
+            int jong = index % 28;
+            if (jong != 0) {
+                out.appendSplit(JONGSEONG.charAt(jong), false);
+            }
+        } else if (codePoint >= JAMO_FIRST && codePoint <= JAMO_LAST) {
+            // 따로 친 자모는 그 자체가 한 글자다 — 어디서든 일치가 시작될 수 있다
+            out.appendSplit((char) codePoint, true);
+        } else if (Character.isLetterOrDigit(codePoint)) {
+            for (char c : Character.toChars(Character.toLowerCase(codePoint))) {
+                out.append(c, true);
+            }
+        }
+    }
+
+    private static void split(char compound, String parts) {
+        SPLIT[compound - JAMO_FIRST] = parts;
+    }
+
+    private static final class Builder {
+
+        private char[] chars;
+        private boolean[] starts;
+        private int length;
+
+        Builder(int capacity) {
+            chars = new char[Math.max(capacity, 8)];
+            starts = new boolean[chars.length];
+        }
+
+        void append(char c, boolean start) {
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, length * 2);
+                starts = Arrays.copyOf(starts, length * 2);
+            }
+            chars[length] = c;
+            starts[length] = start;
+            length++;
+        }
+
+        void appendSplit(char jamo, boolean start) {
+            String parts = SPLIT[jamo - JAMO_FIRST];
+            for (int i = 0; i < parts.length(); i++) {
+                append(parts.charAt(i), start);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package showroomz.domain.moderation.type;
+
+/**
+ * 금칙어가 걸리는 범위.
+ */
+public enum BannedWordScope {
+
+    /** 닉네임·쇼룸명에만 — 문장 속에서는 평범하게 쓰이는 단어 */
+    NAME,
+
+    /** 이름·게시물 본문·상품 문의 전부 */
+    ALL
+}
@@ -0,0 +1,22 @@
+package showroomz.domain.moderation.type;
+
+/**
+ * 금칙어 검사 대상. 이름류는 {@link BannedWordScope#NAME} 단어까지, 글류는 {@link BannedWordScope#ALL} 단어만 본다.
+ */
+public enum ModerationTarget {
+
+    NICKNAME(true),
+    SHOWROOM_NAME(true),
+    POST_CONTENT(false),
+    PRODUCT_INQUIRY(false);
+
+    private final boolean name;
+
+    ModerationTarget(boolean name) {
+        this.name = name;
+    }
+
+    public boolean isName() {
+        return name;
+    }
+}
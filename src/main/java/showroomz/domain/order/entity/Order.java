@@ -33,4 +33,8 @@ public class Order extends BaseTimeEntity {
     public Order(Users user) {
         this.user = user;
     }
+
+    public void addOrderProduct(OrderProduct orderProduct) {
+        this.orderProducts.add(orderProduct);
+    }
 }
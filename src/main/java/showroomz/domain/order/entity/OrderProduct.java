@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import showroomz.domain.common.BaseTimeEntity;
 import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.order.type.StockHoldStatus;
 import showroomz.domain.product.entity.ProductVariant;
 import showroomz.domain.review.entity.Review;
 
@@ -54,6 +55,20 @@ public class OrderProduct extends BaseTimeEntity {
     @Column(name = "status", nullable = false, length = 30)
     private OrderProductStatus status = OrderProductStatus.PENDING;
 
+    /**
+     * 재고 예약 상태 — 예약 엔진을 거치지 않고 만들어진 주문 상품은 null이다.
+     * 상태가 바뀔 때마다 {@link #stockHoldChangedAt}이 함께 바뀌어, 행 자체가 마지막 단계의 기록이 된다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stock_hold_status", length = 20)
+    private StockHoldStatus stockHoldStatus;
+
+    @Column(name = "stock_held_until")
+    private LocalDateTime stockHeldUntil;
+
+    @Column(name = "stock_hold_changed_at")
+    private LocalDateTime stockHoldChangedAt;
+
     @OneToOne(mappedBy = "orderProduct", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Review review;
 
@@ -76,6 +91,11 @@ public class OrderProduct extends BaseTimeEntity {
         return status == OrderProductStatus.PURCHASE_CONFIRMED;
     }
 
+    /** 취소되지 않은 주문 상품 — 하나라도 남은 주문이 회원의 누적 주문에 들어간다 */
+    public boolean isLive() {
+        return status != OrderProductStatus.CANCELLED;
+    }
+
     public boolean hasReview() {
         return review != null;
     }
@@ -84,4 +104,35 @@ public class OrderProduct extends BaseTimeEntity {
         return Optional.ofNullable(review);
     }
 
+    /** 재고를 {@code until}까지 잡아 둔 주문 상품으로 표시한다 — 재고 차감은 호출자가 이미 끝냈다 */
+    public void holdStock(LocalDateTime until, LocalDateTime now) {
+        this.stockHoldStatus = StockHoldStatus.HELD;
+        this.stockHeldUntil = until;
+        this.stockHoldChangedAt = now;
+    }
+
+    public boolean isStockHeld() {
+        return stockHoldStatus == StockHoldStatus.HELD;
+    }
+
+    public boolean isStockHoldExpiredAt(LocalDateTime now) {
+        return isStockHeld() && stockHeldUntil != null && stockHeldUntil.isBefore(now);
+    }
+
+    public void commitStock(LocalDateTime now) {
+        this.stockHoldStatus = StockHoldStatus.COMMITTED;
+        this.stockHoldChangedAt = now;
+    }
+
+    /**
+     * 잡아 둔 재고를 돌려준 것으로 표시하고 주문 상품을 취소한다. 재고를 실제로 되돌리는 것은 호출자다.
+     *
+     * @param reason {@link StockHoldStatus#RELEASED} 또는 {@link StockHoldStatus#EXPIRED}
+     */
+    public void returnStock(StockHoldStatus reason, LocalDateTime now) {
+        this.stockHoldStatus = reason;
+        this.stockHoldChangedAt = now;
+        this.status = OrderProductStatus.CANCELLED;
+    }
+
 }
@@ -0,0 +1,65 @@
+package showroomz.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 회원별 주문 요약 — 누적 주문 수와 마지막 주문 시각.
+ *
+ * <p>어드민 소비자 목록은 페이지마다 orders → order_product를 조인해 회원 컬럼 일곱 개로 GROUP BY했고,
+ * "누적 주문 많은 순"이면 LIMIT 전에 회원 전체를 집계해야 했다. 여기 한 행을 PK로 붙이면 목록은 회원 수에만
+ * 비례한다. 주문 상품의 상태가 바뀌는 경로가 같은 트랜잭션에서 증감을 더하고
+ * ({@code UserOrderStatsRepository#applyDelta}), 어긋난 행은 재집계 배치가 원천에서 다시 맞춘다.
+ *
+ * <p>행이 없는 회원은 주문이 없는 회원이다 — 가입 때 만들지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "user_order_stats",
+        indexes = @Index(name = "idx_user_order_stats_count", columnList = "order_count, user_id")
+)
+public class UserOrderStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /** 취소되지 않은 주문 상품이 하나라도 남은 주문의 수 */
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    /** 마지막으로 주문한 시각 — 그 주문이 나중에 취소돼도 되돌리지 않는다 */
+    @Column(name = "last_ordered_at")
+    private LocalDateTime lastOrderedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UserOrderStats(Long userId, long orderCount, LocalDateTime lastOrderedAt) {
+        this.userId = userId;
+        overwrite(orderCount, lastOrderedAt);
+    }
+
+    /** 재집계 결과로 덮어쓴다 */
+    public void overwrite(long orderCount, LocalDateTime lastOrderedAt) {
+        this.orderCount = orderCount;
+        this.lastOrderedAt = lastOrderedAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** 원천에서 센 값과 같은지 — 재집계 배치가 바뀐 행만 고쳐 쓰려고 본다 */
+    public boolean matches(long orderCount, LocalDateTime lastOrderedAt) {
+        return this.orderCount == orderCount && Objects.equals(this.lastOrderedAt, lastOrderedAt);
+    }
+}
@@ -1,11 +1,16 @@
 package showroomz.domain.order.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import showroomz.domain.order.entity.OrderProduct;
 import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.order.type.StockHoldStatus;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -39,4 +44,41 @@ public interface OrderProductRepository extends JpaRepository<OrderProduct, Long
     long countOngoingByUserId(
             @Param("userId") Long userId,
             @Param("finishedStatuses") Collection<OrderProductStatus> finishedStatuses);
+
+    /**
+     * 재고 예약 전이용 — 한 주문의 상품 행을 잠그고 읽는다. 확정·취소·만료가 같은 주문에 겹쳐 와도 차례로
+     * 상태를 보고 움직이므로 재고가 두 번 돌아오지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT op FROM OrderProduct op WHERE op.order.id = :orderId ORDER BY op.id")
+    List<OrderProduct> findAllByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    /** 만료 배치 — 기한이 지난 재고 예약을 가진 주문. 잠그는 순서를 맞추려고 주문 id 순이다 */
+    @Query("""
+            SELECT op.order.id FROM OrderProduct op
+            WHERE op.stockHoldStatus = :held
+              AND op.stockHeldUntil < :now
+            GROUP BY op.order.id
+            ORDER BY op.order.id
+            """)
+    List<Long> findOrderIdsWithStockHeldBefore(
+            @Param("held") StockHoldStatus held,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * 회원 주문 요약 재집계용 — [회원 id, 취소되지 않은 주문 상품이 남은 주문 수, 마지막 주문 시각].
+     * 주문이 없는 회원은 결과에 없다.
+     */
+    @Query("""
+            SELECT o.user.id,
+                   COUNT(DISTINCT CASE WHEN op.status <> :cancelled THEN o.id END),
+                   MAX(op.orderDate)
+            FROM OrderProduct op JOIN op.order o
+            WHERE o.user.id IN :userIds
+            GROUP BY o.user.id
+            """)
+    List<Object[]> summarizeOrdersByUserIds(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("cancelled") OrderProductStatus cancelled);
 }
@@ -0,0 +1,45 @@
+package showroomz.domain.order.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.order.entity.UserOrderStats;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserOrderStatsRepository extends JpaRepository<UserOrderStats, Long> {
+
+    /** 재집계가 원천을 세기 전에 잡는다 — 그 뒤 들어온 주문의 증감은 이 잠금이 풀린 뒤 고친 값 위에 더해진다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserOrderStats s WHERE s.userId IN :userIds")
+    List<UserOrderStats> findAllByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주문 하나의 생성·전체 취소를 요약 행에 더한다. 행이 없으면 그 값으로 만든다.
+     *
+     * <p>마지막 주문 시각은 더 늦은 값일 때만 바꾼다 — 취소처럼 시각이 없는 증감({@code orderedAt = null})은
+     * 그대로 둔다. 같은 회원의 주문이 동시에 들어와도 문장 안에서 더하므로 한쪽이 사라지지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_order_stats (user_id, order_count, last_ordered_at, updated_at)
+            VALUES (:userId, :count, :orderedAt, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                order_count = order_count + VALUES(order_count),
+                last_ordered_at = CASE
+                    WHEN VALUES(last_ordered_at) IS NULL THEN last_ordered_at
+                    WHEN last_ordered_at IS NULL OR last_ordered_at < VALUES(last_ordered_at)
+                        THEN VALUES(last_ordered_at)
+                    ELSE last_ordered_at
+                END,
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("count") long count,
+                    @Param("orderedAt") LocalDateTime orderedAt);
+}
@@ -0,0 +1,99 @@
+package showroomz.domain.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import showroomz.global.config.properties.OrderProperties;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기한이 지난 재고 예약을 돌려주는 배경 작업.
+ *
+ * <p>하루 한 번 도는 cron 배치로는 모자라다 — 공구 재고는 결제를 포기한 주문이 잡고 있는 동안 다른 사람이 살 수
+ * 없으므로, 기한이 지나면 초 단위로 풀려야 한다. 그래서 {@code order.stock-hold-sweep-interval-millis} 간격으로
+ * 돌고, 한 번에 묶음 크기만큼 돌려준 뒤 묶음이 꽉 찼으면 이어서 돈다. 여러 인스턴스가 같은 주문을 훑어도 주문 상품
+ * 행을 잠그고 상태를 다시 보므로 재고는 한 번만 돌아온다.
+ *
+ * <p>지표: 만료시킨 주문 수 {@code order.stock.hold.expired}.
+ */
+@Slf4j
+@Component
+public class StockHoldSweeper {
+
+    private final StockReservationService stockReservationService;
+    private final OrderProperties orderProperties;
+    private final Counter expired;
+    private ScheduledExecutorService sweeper;
+
+    public StockHoldSweeper(StockReservationService stockReservationService, OrderProperties orderProperties,
+                            MeterRegistry meterRegistry) {
+        this.stockReservationService = stockReservationService;
+        this.orderProperties = orderProperties;
+        this.expired = Counter.builder("order.stock.hold.expired")
+                .description("기한이 지나 재고를 돌려준 주문 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = orderProperties.getStockHoldSweepIntervalMillis();
+        if (interval <= 0) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-stock-hold-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (sweeper == null) {
+            return;
+        }
+        sweeper.shutdown();
+        try {
+            sweeper.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 기한이 지난 예약이 없어질 때까지 묶음 단위로 돌려준다.
+     *
+     * @return 만료시킨 주문 수
+     */
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.max(1, orderProperties.getStockHoldSweepBatchSize());
+        int total = 0;
+        int batch;
+        do {
+            batch = stockReservationService.expireHolds(now);
+            total += batch;
+            expired.increment(batch);
+        } while (batch >= batchSize);
+        return total;
+    }
+
+    private void sweepQuietly() {
+        try {
+            int swept = sweep();
+            if (swept > 0) {
+                log.info("재고 예약 만료 — 주문 {}건의 재고를 돌려줬습니다", swept);
+            }
+        } catch (Exception e) {
+            log.error("재고 예약 만료 배치 실패", e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package showroomz.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.entity.Order;
+import showroomz.domain.order.entity.OrderProduct;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.order.type.StockHoldStatus;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.global.config.properties.OrderProperties;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 공구 주문의 옵션 재고 예약 — 확보(hold) · 확정(commit) · 반환(release) · 만료(expire).
+ *
+ * <p>확보는 주문 한 건의 모든 옵션을 한 트랜잭션에서 조건부 UPDATE로 뺀다. 하나라도 모자라면 트랜잭션째 롤백돼
+ * 앞에서 뺀 옵션도 돌아온다. 옵션은 id 순으로 빼서 두 주문이 같은 옵션들을 반대 순서로 잡아 교착하지 않게 한다.
+ * 그 앞에서 {@link VariantStockGate}가 어차피 모자랄 요청을 DB에 닿기 전에 거절한다.
+ *
+ * <p>확보된 재고는 주문 상품 행에 {@link StockHoldStatus#HELD}와 기한으로 남는다. 확정·반환·만료는 그 주문의 상품
+ * 행을 잠그고 상태를 본 뒤에만 움직이므로, 같은 요청이 다시 오거나 만료 배치와 겹쳐도 재고는 한 번만 돌아온다.
+ * 행의 상태와 {@code stock_hold_changed_at}이 곧 마지막으로 일어난 단계의 기록이다.
+ *
+ * <p>주문이 생기거나 마지막 상품까지 취소되면 같은 트랜잭션에서 회원 주문 요약({@link UserOrderStatsService})도 고친다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductVariantRepository productVariantRepository;
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final VariantStockGate variantStockGate;
+    private final OrderProperties orderProperties;
+    private final UserOrderStatsService userOrderStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문을 만들고 옵션 재고를 {@code order.stock-hold-ttl-seconds} 동안 잡아 둔다. 같은 옵션이 여러 줄이면 합친다.
+     *
+     * @throws BusinessException 재고가 모자라면 {@link ErrorCode#INSUFFICIENT_STOCK} — 아무 옵션도 빠지지 않는다
+     */
+    @Transactional
+    public StockHold hold(Users buyer, List<HoldLine> lines, LocalDateTime now) {
+        SortedMap<Long, Integer> quantities = mergeLines(lines);
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            if (variantStockGate.shedEarly(line.getKey(), line.getValue())) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+        }
+
+        Map<Long, ProductVariant> variants = productVariantRepository
+                .findAllWithProductByVariantIdIn(quantities.keySet()).stream()
+                .collect(Collectors.toMap(ProductVariant::getVariantId, Function.identity()));
+        if (variants.size() != quantities.size()) {
+            throw new BusinessException(ErrorCode.VARIANT_NOT_FOUND);
+        }
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            ProductVariant variant = variants.get(line.getKey());
+            if (!variantStockGate.tryAdmit(line.getKey(), line.getValue(), variant.getStock())) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+        }
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            if (productVariantRepository.decreaseStockIfAvailable(line.getKey(), line.getValue()) == 0) {
+                variantStockGate.reconcile(line.getKey(), line.getValue());
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+        }
+
+        LocalDateTime heldUntil = now.plusSeconds(orderProperties.getStockHoldTtlSeconds());
+        Order order = Order.builder().user(buyer).build();
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            ProductVariant variant = variants.get(line.getKey());
+            OrderProduct orderProduct = OrderProduct.builder()
+                    .order(order)
+                    .variant(variant)
+                    .productName(variant.getProduct().getName())
+                    .optionName(variant.getName())
+                    .quantity(line.getValue())
+                    .price(variant.getSalePrice())
+                    .imageUrl(variant.getProduct().getThumbnailUrl())
+                    .orderDate(now)
+                    .status(OrderProductStatus.PENDING)
+                    .build();
+            orderProduct.holdStock(heldUntil, now);
+            order.addOrderProduct(orderProduct);
+        }
+        orderRepository.save(order);
+        userOrderStatsService.orderPlaced(buyer.getId(), now);
+
+        return new StockHold(order.getId(), heldUntil,
+                order.getOrderProducts().stream().map(OrderProduct::getId).toList());
+    }
+
+    /**
+     * 잡아 둔 재고를 확정한다(결제 완료). 이미 확정된 주문이면 아무 일도 하지 않는다.
+     *
+     * @throws BusinessException 기한이 지났거나 이미 돌려준 예약이면 {@link ErrorCode#STOCK_HOLD_EXPIRED}
+     */
+    @Transactional
+    public void commit(Long orderId, LocalDateTime now) {
+        List<OrderProduct> lines = lockLines(orderId);
+        boolean lapsed = lines.stream().anyMatch(line -> line.isStockHoldExpiredAt(now)
+                || line.getStockHoldStatus() == StockHoldStatus.RELEASED
+                || line.getStockHoldStatus() == StockHoldStatus.EXPIRED);
+        if (lapsed) {
+            throw new BusinessException(ErrorCode.STOCK_HOLD_EXPIRED);
+        }
+        for (OrderProduct line : lines) {
+            if (line.isStockHeld()) {
+                line.commitStock(now);
+            }
+        }
+    }
+
+    /**
+     * 확정 전의 주문을 취소하고 재고를 돌려준다(결제 포기·실패). 이미 돌려준 줄과 확정된 줄은 건드리지 않는다.
+     *
+     * @return 이번에 돌려준 주문 상품 수
+     */
+    @Transactional
+    public int release(Long orderId, LocalDateTime now) {
+        return returnStock(lockLines(orderId), OrderProduct::isStockHeld, StockHoldStatus.RELEASED, now);
+    }
+
+    /**
+     * 기한이 지난 예약을 {@code order.stock-hold-sweep-batch-size}개 주문까지 돌려준다.
+     *
+     * <p>주문마다 따로 커밋한다. 묶음 전체를 한 트랜잭션으로 돌리면 앞 주문에서 더한 옵션 행을 묶음이 끝날 때까지
+     * 쥐고 있어, 인기 옵션의 확보가 그동안 줄줄이 기다린다. 게다가 주문마다 옵션 id 순이어도 주문을 넘어가면 순서가
+     * 섞여(앞 주문의 옵션 7 → 뒤 주문의 옵션 3), 옵션 3 → 7 순으로 잡는 확보와 교착한다. 한 주문만 쥐고 있으면
+     * 잠그는 순서가 확보와 같다.
+     *
+     * @return 훑은 주문 수 — 묶음 크기와 같으면 더 남았을 수 있다
+     */
+    public int expireHolds(LocalDateTime now) {
+        List<Long> orderIds = orderProductRepository.findOrderIdsWithStockHeldBefore(
+                StockHoldStatus.HELD, now, PageRequest.of(0, Math.max(1, orderProperties.getStockHoldSweepBatchSize())));
+        for (Long orderId : orderIds) {
+            transactionTemplate.executeWithoutResult(status -> returnStock(
+                    orderProductRepository.findAllByOrderIdForUpdate(orderId),
+                    line -> line.isStockHoldExpiredAt(now), StockHoldStatus.EXPIRED, now));
+        }
+        return orderIds.size();
+    }
+
+    private List<OrderProduct> lockLines(Long orderId) {
+        List<OrderProduct> lines = orderProductRepository.findAllByOrderIdForUpdate(orderId);
+        if (lines.isEmpty()) {
+            throw new BusinessException(ErrorCode.ORDER_PRODUCT_NOT_FOUND);
+        }
+        return lines;
+    }
+
+    /**
+     * 한 주문의 잠근 상품 행 중 {@code due}인 것의 재고를 돌려준다. 옵션 행은 확보와 같은 옵션 id 순으로 잠근다.
+     * 그로써 주문의 마지막 살아 있던 줄이 취소되면 회원 주문 요약에서 그 주문을 뺀다.
+     *
+     * @return 돌려준 주문 상품 수
+     */
+    private int returnStock(List<OrderProduct> lines, Predicate<OrderProduct> due, StockHoldStatus reason,
+                            LocalDateTime now) {
+        boolean wasLive = lines.stream().anyMatch(OrderProduct::isLive);
+        int returned = 0;
+        List<OrderProduct> byVariant = lines.stream()
+                .sorted(Comparator.comparing(line -> line.getVariant().getVariantId()))
+                .toList();
+        for (OrderProduct line : byVariant) {
+            if (!due.test(line)) {
+                continue;
+            }
+            Long variantId = line.getVariant().getVariantId();
+            line.returnStock(reason, now);
+            productVariantRepository.increaseStock(variantId, line.getQuantity());
+            variantStockGate.returnedOnCommit(variantId, line.getQuantity());
+            returned++;
+        }
+        if (returned > 0 && wasLive && lines.stream().noneMatch(OrderProduct::isLive)) {
+            userOrderStatsService.orderCancelled(lines.get(0).getOrder().getUser().getId());
+        }
+        return returned;
+    }
+
+    private static SortedMap<Long, Integer> mergeLines(List<HoldLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "주문할 옵션이 없습니다.");
+        }
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (HoldLine line : lines) {
+            if (line.variantId() == null || line.quantity() <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "옵션과 1개 이상의 수량이 필요합니다.");
+            }
+            quantities.merge(line.variantId(), line.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    public record HoldLine(Long variantId, int quantity) {
+    }
+
+    /**
+     * @param orderId         만들어진 주문
+     * @param heldUntil       이때까지 {@link #commit}하지 않으면 만료 배치가 돌려준다
+     * @param orderProductIds 옵션 id 순
+     */
+    public record StockHold(Long orderId, LocalDateTime heldUntil, List<Long> orderProductIds) {
+    }
+}
@@ -0,0 +1,88 @@
+package showroomz.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.order.entity.UserOrderStats;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.UserOrderStatsRepository;
+import showroomz.domain.order.type.OrderProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 주문 요약({@link UserOrderStats})의 유지.
+ *
+ * <p>주문 쪽은 호출자 트랜잭션 안에서 증감만 더한다 — 주문이 생기면 +1, 주문의 마지막 살아 있던 주문 상품이
+ * 취소되면 -1. 주문 상품 한 줄이 취소될 때마다가 아니라 주문 단위로 세는 것은 목록이 "14건"을 주문 건수로 읽기
+ * 때문이다. 증감이 빠지는 경로(직접 SQL로 고친 주문, 배포 전에 쓰인 주문)는 {@link #rebuildChunk}가 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserOrderStatsService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserOrderStatsRepository userOrderStatsRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public void orderPlaced(Long userId, LocalDateTime orderedAt) {
+        userOrderStatsRepository.applyDelta(userId, 1, orderedAt);
+    }
+
+    /** 주문의 주문 상품이 모두 취소됐다 — 한 줄이라도 남아 있으면 부르지 않는다 */
+    @Transactional
+    public void orderCancelled(Long userId) {
+        userOrderStatsRepository.applyDelta(userId, -1, null);
+    }
+
+    /**
+     * {@code afterUserId} 다음 회원 {@value #REBUILD_CHUNK_SIZE}명의 주문 건수와 마지막 주문 시각을 다시 센다.
+     * 취소된 주문 상품만 남은 주문은 세지 않는다. 격리 수준과 잠금 순서는 {@link RebuildChunk}.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public RebuildChunk rebuildChunk(long afterUserId) {
+        List<Long> userIds = userRepository.findUserIdsAfter(
+                afterUserId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+        if (userIds.isEmpty()) {
+            return RebuildChunk.of(afterUserId, userIds, 0, REBUILD_CHUNK_SIZE);
+        }
+
+        Map<Long, UserOrderStats> current = userOrderStatsRepository.findAllByUserIdInForUpdate(userIds).stream()
+                .collect(Collectors.toMap(UserOrderStats::getUserId, Function.identity()));
+        Map<Long, Object[]> actual = new HashMap<>();
+        for (Object[] row : orderProductRepository.summarizeOrdersByUserIds(
+                userIds, OrderProductStatus.CANCELLED)) {
+            actual.put((Long) row[0], row);
+        }
+
+        int corrected = 0;
+        for (Long userId : userIds) {
+            Object[] row = actual.get(userId);
+            long orderCount = row != null ? ((Number) row[1]).longValue() : 0;
+            LocalDateTime lastOrderedAt = row != null ? (LocalDateTime) row[2] : null;
+            UserOrderStats stats = current.get(userId);
+            if (stats == null) {
+                if (row != null) {
+                    userOrderStatsRepository.save(new UserOrderStats(userId, orderCount, lastOrderedAt));
+                    corrected++;
+                }
+            } else if (!stats.matches(orderCount, lastOrderedAt)) {
+                stats.overwrite(orderCount, lastOrderedAt);
+                corrected++;
+            }
+        }
+        return RebuildChunk.of(afterUserId, userIds, corrected, REBUILD_CHUNK_SIZE);
+    }
+}
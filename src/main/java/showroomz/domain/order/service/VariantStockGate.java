@@ -0,0 +1,156 @@
+package showroomz.domain.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import showroomz.global.config.properties.OrderProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 옵션 재고 예약 앞단의 메모리 판정 — 어차피 실패할 예약을 DB 행 잠금에 닿기 전에 돌려보낸다.
+ *
+ * <p>공구가 열리면 몇 안 되는 옵션 행에 수천 건이 몰린다. 조건부 UPDATE는 한 행에 대해 한 줄로 서므로, 재고가
+ * 100개인데 5,000건이 오면 4,900건이 줄을 서서 기다렸다가 "모자람"을 받는다. 옵션마다 (마지막으로 본 DB 재고,
+ * 이 인스턴스에서 아직 커밋되지 않은 예약 수량)을 들고, 앞의 값에서 뒤의 값을 빼도 모자라면 그 자리에서 거절한다.
+ * 옵션마다 칸이 따로라(ConcurrentHashMap + 칸마다 CAS) 서로 다른 옵션의 예약은 서로 기다리지 않는다.
+ *
+ * <p><b>쿠폰 계수기({@code CouponStockCounter})와 다른 점</b> — 쿠폰 수량은 줄기만 하지만 옵션 재고는 취소·만료·판매자
+ * 수정으로 늘어난다. 그래서 남은 수를 메모리에서 깎아 가지 않고, 매번 DB에서 읽은 재고를 기준으로 삼고 진행 중
+ * 수량만 메모리에 둔다. DB 재고를 읽지 않고 거절하는 것({@link #shedEarly})은 {@code order.stock-gate-recheck-millis}
+ * 안에 본 값일 때뿐이다.
+ *
+ * <p><b>판정은 DB가 한다.</b> 다른 인스턴스의 진행 중 예약은 여기서 보이지 않으므로 이 판정은 통과를 너무 많이
+ * 줄 수는 있어도 재고를 넘겨 팔게 하지는 않는다. 지표는 {@code order.stock.gate.admitted}(DB로 보낸 예약),
+ * {@code .shed}(DB에 닿지 않고 거절), {@code .reconciled}(DB가 거절해 본 값을 낮춘 횟수)다.
+ */
+@Component
+public class VariantStockGate {
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final OrderProperties orderProperties;
+    private final Counter admitted;
+    private final Counter shed;
+    private final Counter reconciled;
+
+    public VariantStockGate(OrderProperties orderProperties, MeterRegistry meterRegistry) {
+        this.orderProperties = orderProperties;
+        this.admitted = Counter.builder("order.stock.gate.admitted")
+                .description("메모리 판정을 통과해 조건부 차감으로 보낸 예약 수")
+                .register(meterRegistry);
+        this.shed = Counter.builder("order.stock.gate.shed")
+                .description("DB 행 잠금에 닿지 않고 재고 부족으로 거절한 예약 수")
+                .register(meterRegistry);
+        this.reconciled = Counter.builder("order.stock.gate.reconciled")
+                .description("조건부 차감이 거절돼 메모리의 재고를 낮춘 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB를 읽기 전의 판정. 최근에 본 재고에서 진행 중 수량을 빼도 {@code quantity}가 안 되면 true다. 본 적이 없거나
+     * 오래된 값이면 false — 판정하지 않고 DB로 넘긴다.
+     */
+    public boolean shedEarly(Long variantId, int quantity) {
+        Slot slot = slots.get(variantId);
+        if (slot == null || System.nanoTime() - slot.observedAt > recheckNanos()) {
+            return false;
+        }
+        if (slot.observed.get() - slot.inflight.get() < quantity) {
+            shed.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 방금 읽은 DB 재고로 판정하고, 통과하면 진행 중 수량에 더해 둔다. 트랜잭션이 끝나면 진행 중 수량에서 뺀다.
+     * 커밋돼도 본 재고는 그대로 둔다 — 그 사이 다른 요청이 커밋 뒤의 값을 봤을 수 있어 빼면 두 번 빠진다.
+     * 본 값이 실제보다 큰 쪽으로 틀리면 DB가 거절하고, 작은 쪽으로 틀리면 팔 수 있는 재고를 거절하게 된다.
+     *
+     * @param stockInDb 잠그지 않고 읽은 옵션 재고
+     * @return 통과면 true
+     */
+    public boolean tryAdmit(Long variantId, int quantity, int stockInDb) {
+        Slot slot = slots.computeIfAbsent(variantId, id -> new Slot());
+        slot.observe(stockInDb);
+        int inflight;
+        do {
+            inflight = slot.inflight.get();
+            if (stockInDb - inflight < quantity) {
+                shed.increment();
+                return false;
+            }
+        } while (!slot.inflight.compareAndSet(inflight, inflight + quantity));
+        admitted.increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    slot.inflight.addAndGet(-quantity);
+                }
+            });
+        } else {
+            slot.inflight.addAndGet(-quantity);
+        }
+        return true;
+    }
+
+    /**
+     * 조건부 차감이 {@code quantity}를 거절했다 — 다른 인스턴스나 판매자 수정이 먼저 줄였다. DB가 알려 준 것은 "남은
+     * 재고가 {@code quantity}보다 적다"뿐이라, 본 재고를 {@code quantity - 1} 아래로만 낮춘다. 0으로 맞추면 큰 수량
+     * 하나가 거절된 뒤 다시 읽을 때까지 남은 재고로 충분한 작은 주문까지 DB에 닿지 않고 거절된다.
+     */
+    public void reconcile(Long variantId, int quantity) {
+        Slot slot = slots.get(variantId);
+        if (slot != null) {
+            slot.observed.accumulateAndGet(quantity - 1, Math::min);
+            slot.observedAt = System.nanoTime();
+        }
+        reconciled.increment();
+    }
+
+    /** 취소·만료로 재고가 돌아왔다. 커밋된 뒤에 본 재고에 더한다 — 롤백되면 돌아온 것이 아니다 */
+    public void returnedOnCommit(Long variantId, int quantity) {
+        Slot slot = slots.get(variantId);
+        if (slot == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    slot.observed.addAndGet(quantity);
+                }
+            });
+        } else {
+            slot.observed.addAndGet(quantity);
+        }
+    }
+
+    /** 테스트용 — 이 인스턴스에서 커밋을 기다리는 예약 수량. 칸이 없으면 0 */
+    int inflight(Long variantId) {
+        Slot slot = slots.get(variantId);
+        return slot == null ? 0 : slot.inflight.get();
+    }
+
+    private long recheckNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(orderProperties.getStockGateRecheckMillis());
+    }
+
+    private static final class Slot {
+        private final AtomicInteger observed = new AtomicInteger();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile long observedAt;
+
+        private void observe(int stock) {
+            observed.set(stock);
+            observedAt = System.nanoTime();
+        }
+    }
+}
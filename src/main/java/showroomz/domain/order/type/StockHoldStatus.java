@@ -0,0 +1,19 @@
+package showroomz.domain.order.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 상품이 잡아 둔 재고의 상태. 재고는 {@link #HELD}로 들어올 때 한 번 빠지고, {@link #RELEASED}·{@link #EXPIRED}로
+ * 나갈 때 한 번 돌아온다. {@link #COMMITTED}는 재고를 건드리지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockHoldStatus {
+    HELD("재고 확보"),
+    COMMITTED("주문 확정"),
+    RELEASED("취소로 반환"),
+    EXPIRED("기한 만료로 반환");
+
+    private final String description;
+}
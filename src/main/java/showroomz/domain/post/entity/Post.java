@@ -27,6 +27,7 @@ import showroomz.domain.post.type.PostType;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -51,6 +52,7 @@ import java.util.List;
         name = "post",
         indexes = {
                 @Index(name = "idx_post_creator_status_published", columnList = "creator_id, status, published_at"),
+                @Index(name = "idx_post_status_published", columnList = "status, published_at"),
                 @Index(name = "idx_post_purge", columnList = "purge_at")
         }
 )
@@ -109,7 +111,11 @@ public class Post extends BaseTimeEntity {
     @Column(name = "like_count", nullable = false)
     private Long likeCount = 0L;
 
-    /** 작성중 → 게시중 전환 시각. <b>재게시해도 갱신하지 않는다</b> — 게시일은 처음 세상에 나온 때다 */
+    /**
+     * 작성중 → 게시중 전환 시각. <b>재게시해도 갱신하지 않는다</b> — 게시일은 처음 세상에 나온 때다.
+     * 컬럼 정밀도(마이크로초)로 잘라 찍는다 — 팔로잉 타임라인은 커밋 전 메모리의 값으로 순서를 잡으므로 DB가
+     * 반올림한 값과 달라지면 같은 게시물이 커서 앞뒤로 갈린다.
+     */
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
@@ -153,7 +159,7 @@ public class Post extends BaseTimeEntity {
     /** 곧바로 게시한다 — 사진이 최소 1장 있어야 한다 (§24-3) */
     public static Post published(Creator creator, String content, BigDecimal aspectRatio, LocalDateTime now) {
         Post post = new Post(creator, PostType.GENERAL, PostStatus.PUBLISHED, content, aspectRatio);
-        post.publishedAt = now;
+        post.publishedAt = now.truncatedTo(ChronoUnit.MICROS);
         return post;
     }
 
@@ -183,7 +189,7 @@ public class Post extends BaseTimeEntity {
     public void publish(LocalDateTime now) {
         this.status = PostStatus.PUBLISHED;
         if (this.publishedAt == null) {
-            this.publishedAt = now;
+            this.publishedAt = now.truncatedTo(ChronoUnit.MICROS);
         }
     }
 
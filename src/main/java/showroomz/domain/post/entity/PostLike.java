@@ -40,7 +40,8 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(name = "uk_post_like", columnNames = {"user_id", "post_id"})
         },
         indexes = {
-                @Index(name = "idx_post_like_post_time", columnList = "post_id, created_at")
+                @Index(name = "idx_post_like_post_time", columnList = "post_id, created_at"),
+                @Index(name = "idx_post_like_user_time", columnList = "user_id, created_at")
         }
 )
 public class PostLike {
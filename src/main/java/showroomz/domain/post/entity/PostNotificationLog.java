@@ -25,7 +25,12 @@ import java.time.LocalDateTime;
  * <p>{@code payload}에 통지 당시 문구를 그대로 굳히는 것도 같은 이유다. 사유·근거 규정·기한을
  * 나중에 게시물에서 다시 읽어 재구성하려 하면, 게시물이 사라진 뒤에는 재구성할 수 없다.
  *
- * <p>발송 인프라는 이번 범위 밖이라 {@code delivered}는 당분간 항상 false다.
+ * <p>발송 대기열(아웃박스)이기도 하다. 적재는 호출자 트랜잭션에서 하고, 발송은
+ * {@link showroomz.domain.post.service.PostNotificationDispatcher}가 커밋된 행을 가져가 한다.
+ * 발송 상태 컬럼({@code attempts} 이하)은 디스패처가 SQL로만 고치므로 엔티티는 적재 시 값만 정한다.
+ * 발송 채널이 붙지 않은 구성에서는 디스패처가 한 번 가져가 재시도 없이 대기열에서 내려놓는다 —
+ * {@code delivered = false}, {@code next_attempt_at = NULL}, {@code last_error}에 사유가 남아 무엇이 나가지
+ * 않았는지 그대로 읽힌다.
  */
 @Entity
 @Getter
@@ -33,7 +38,8 @@ import java.time.LocalDateTime;
 @Table(
         name = "post_notification_log",
         indexes = {
-                @Index(name = "idx_post_notification_creator", columnList = "creator_id, sent_at")
+                @Index(name = "idx_post_notification_creator", columnList = "creator_id, sent_at"),
+                @Index(name = "idx_post_notification_pending", columnList = "delivered, next_attempt_at")
         }
 )
 public class PostNotificationLog {
@@ -61,10 +67,24 @@ public class PostNotificationLog {
     @Column(name = "sent_at", nullable = false, updatable = false)
     private LocalDateTime sentAt;
 
-    /** 발송 인프라 도입 전에는 항상 false — 이력은 남았지만 실제로 나가지는 않았다는 뜻이다 */
+    /** 어댑터가 전달을 확인했을 때만 true — false면 이력은 남았지만 실제로 나가지는 않았다는 뜻이다 */
     @Column(name = "delivered", nullable = false)
     private Boolean delivered = false;
 
+    /** 디스패처가 가져간 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /** 다음 발송 시도 시각 — 전달됐거나 시도 횟수를 다 쓰면 NULL */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
     public PostNotificationLog(Long postId, Long creatorId, PostNotificationEvent eventType,
                                String payload, LocalDateTime sentAt) {
         this.postId = postId;
@@ -73,10 +93,7 @@ public class PostNotificationLog {
         this.payload = payload;
         this.sentAt = sentAt;
         this.delivered = false;
-    }
-
-    /** 발송 어댑터가 실제 전달에 성공했을 때만 호출한다 */
-    public void markDelivered() {
-        this.delivered = true;
+        this.attempts = 0;
+        this.nextAttemptAt = sentAt;
     }
 }
@@ -1,5 +1,6 @@
 package showroomz.domain.post.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,10 @@ import showroomz.domain.post.entity.PostImpression;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 기간 집계 쿼리의 {@code afterId}·{@code throughId}는 {@code ShowroomVisitRepository}와 같은 용도다
+ * ({@code PostImpressionStatsReader}).
+ */
 public interface PostImpressionRepository extends JpaRepository<PostImpression, Long> {
 
     /**
@@ -25,23 +30,32 @@ public interface PostImpressionRepository extends JpaRepository<PostImpression,
 
     /** §24-7 ① 노출 — 기간 내 행 수 */
     @Query("SELECT COUNT(i) FROM PostImpression i " +
-           "WHERE i.post.id = :postId AND i.viewedAt >= :from AND i.viewedAt < :to")
+           "WHERE i.post.id = :postId AND i.viewedAt >= :from AND i.viewedAt < :to " +
+           "AND i.id > :afterId AND i.id <= :throughId")
     long countByPostIdInPeriod(@Param("postId") Long postId,
                                @Param("from") LocalDateTime from,
-                               @Param("to") LocalDateTime to);
+                               @Param("to") LocalDateTime to,
+                               @Param("afterId") long afterId,
+                               @Param("throughId") long throughId);
+
+    default long countByPostIdInPeriod(Long postId, LocalDateTime from, LocalDateTime to) {
+        return countByPostIdInPeriod(postId, from, to, 0L, Long.MAX_VALUE);
+    }
 
     /**
-     * §24-7 라스트 터치 귀속 — 어떤 사람이 24시간 안에 <b>마지막으로 본</b> 이 쇼룸의 게시물.
+     * §24-7 라스트 터치 귀속 — 어떤 사람이 24시간 안에 <b>마지막으로 본</b> 이 쇼룸의 게시물과 그 시각.
      *
      * <p>쇼룸을 특정하는 이유 — 방문·팔로우는 쇼룸 단위 행동이라, 다른 쇼룸의 게시물에 귀속시키면
-     * 그 인플루언서의 인사이트에 남의 성과가 섞인다.
+     * 그 인플루언서의 인사이트에 남의 성과가 섞인다. 맨 앞 한 행만 쓰므로 {@code PageRequest.of(0, 1)}로
+     * 부른다 — 창 안의 노출을 전부 끌어오면 많이 보는 사람일수록 방문 한 번이 비싸진다.
      */
-    @Query("SELECT i.post.id FROM PostImpression i " +
+    @Query("SELECT i.post.id, i.viewedAt FROM PostImpression i " +
            "WHERE i.viewerKey = :viewerKey AND i.creatorId = :creatorId AND i.viewedAt >= :since " +
            "ORDER BY i.viewedAt DESC")
-    List<Long> findRecentlyViewedPostIds(@Param("viewerKey") String viewerKey,
-                                         @Param("creatorId") Long creatorId,
-                                         @Param("since") LocalDateTime since);
+    List<Object[]> findLatestViewedPost(@Param("viewerKey") String viewerKey,
+                                        @Param("creatorId") Long creatorId,
+                                        @Param("since") LocalDateTime since,
+                                        Pageable pageable);
 
     /**
      * §24-7 ③ 본 사람 — {viewerKey, 성별, 생년월일} 행.
@@ -52,10 +66,27 @@ public interface PostImpressionRepository extends JpaRepository<PostImpression,
      */
     @Query("SELECT DISTINCT i.viewerKey, u.gender, u.birthday FROM PostImpression i " +
            "LEFT JOIN i.user u " +
-           "WHERE i.post.id = :postId AND i.viewedAt >= :from AND i.viewedAt < :to")
+           "WHERE i.post.id = :postId AND i.viewedAt >= :from AND i.viewedAt < :to " +
+           "AND i.id > :afterId AND i.id <= :throughId")
     List<Object[]> findViewerDemographics(@Param("postId") Long postId,
                                           @Param("from") LocalDateTime from,
-                                          @Param("to") LocalDateTime to);
+                                          @Param("to") LocalDateTime to,
+                                          @Param("afterId") long afterId,
+                                          @Param("throughId") long throughId);
+
+    default List<Object[]> findViewerDemographics(Long postId, LocalDateTime from, LocalDateTime to) {
+        return findViewerDemographics(postId, from, to, 0L, Long.MAX_VALUE);
+    }
+
+    /** 일별 롤업 배치 — 워터마크 다음 행부터 id 순으로 {id, 게시물, 노출 시각, 조회자, 사용자}. */
+    @Query("SELECT i.id, i.post.id, i.viewedAt, i.viewerKey, u.id " +
+           "FROM PostImpression i LEFT JOIN i.user u " +
+           "WHERE i.id > :afterId ORDER BY i.id")
+    List<Object[]> findRollupRows(@Param("afterId") long afterId, Pageable pageable);
+
+    /** 롤업 구간에 늦게 들어온 행을 셀 id 범위의 끝 */
+    @Query("SELECT COALESCE(MAX(i.id), 0) FROM PostImpression i")
+    long findMaxId();
 
     /** 파기 배치 — 게시물 물리 삭제 전에 자식부터 지운다 */
     @Modifying
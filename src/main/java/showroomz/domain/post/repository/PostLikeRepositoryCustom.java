@@ -2,6 +2,8 @@ package showroomz.domain.post.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.type.LikedPostSort;
 
@@ -9,4 +11,19 @@ public interface PostLikeRepositoryCustom {
 
     /** 소비자가 좋아요한 게시물 목록 — 그 사이 내려간 게시물은 보이지 않는다 */
     Page<Post> findLikedPostsByUserId(Long userId, LikedPostSort sort, Pageable pageable);
+
+    /**
+     * 위 목록의 키셋판 — 무한 스크롤이 쓴다. 순서는 같고 전체 건수를 세지 않는다.
+     *
+     * @param after null이면 첫 페이지. 같은 {@code sort}로 받은 {@link LikedPost#seekKey()}여야 한다
+     */
+    Slice<LikedPost> findLikedPostsByUserId(Long userId, LikedPostSort sort, SeekKey after, int size);
+
+    /**
+     * 좋아요 목록의 한 줄 — 정렬 키가 좋아요 행에 있어 게시물만으로는 다음 페이지 위치를 정할 수 없다.
+     *
+     * @param seekKey 이 줄의 정렬 키(정렬 기준에 따라 좋아요 수·공구 여부, 좋아요한 시각, 좋아요 id)
+     */
+    record LikedPost(Post post, SeekKey seekKey) {
+    }
 }
@@ -1,20 +1,27 @@
 package showroomz.domain.post.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.type.LikedPostSort;
 import showroomz.domain.post.type.PostStatus;
 import showroomz.domain.post.type.PostType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static showroomz.domain.member.creator.entity.QCreator.creator;
@@ -68,19 +75,79 @@ public class PostLikeRepositoryImpl implements PostLikeRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public Slice<LikedPost> findLikedPostsByUserId(Long userId, LikedPostSort sort, SeekKey after, int size) {
+        LikedPostSort resolved = sort != null ? sort : LikedPostSort.DEFAULT;
+        List<Tuple> fetched = queryFactory
+                .select(post, postLike.id, postLike.createdAt)
+                .from(post)
+                .join(postLike).on(postLike.post.eq(post))
+                .join(post.creator, creator).fetchJoin()
+                .join(creator.user, users).fetchJoin()
+                .where(
+                        postLike.user.id.eq(userId),
+                        post.status.eq(PostStatus.PUBLISHED),
+                        after != null ? after(resolved, after) : null
+                )
+                .orderBy(orderOf(resolved))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = fetched.size() > size;
+        List<LikedPost> content = (hasNext ? fetched.subList(0, size) : fetched).stream()
+                .map(row -> {
+                    Post liked = row.get(post);
+                    return new LikedPost(liked, new SeekKey(rankOf(resolved, liked),
+                            row.get(postLike.createdAt), row.get(postLike.id)));
+                })
+                .toList();
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
     /**
-     * 어떤 기준으로 고르든 <b>좋아요한 시각</b>을 마지막 키로 붙인다. 좋아요 수나 게시물 타입은
-     * 값이 겹치는 게 정상이라 그것만으로 정렬하면 페이지 경계에서 순서가 흔들려 같은 게시물이
-     * 두 번 보이거나 건너뛰어진다.
+     * 어떤 기준으로 고르든 <b>좋아요한 시각</b>과 좋아요 id를 마지막 키로 붙인다. 좋아요 수나 게시물
+     * 타입은 값이 겹치는 게 정상이라 그것만으로 정렬하면 페이지 경계에서 순서가 흔들려 같은 게시물이
+     * 두 번 보이거나 건너뛰어진다. 시각도 겹칠 수 있어 id까지 붙여야 커서가 가리키는 자리가 하나로 정해진다.
      */
     private static OrderSpecifier<?>[] orderOf(LikedPostSort sort) {
         LikedPostSort resolved = sort != null ? sort : LikedPostSort.DEFAULT;
 
         return switch (resolved) {
-            case LIKED_OLDEST -> new OrderSpecifier<?>[]{postLike.createdAt.asc()};
-            case MOST_LIKED -> new OrderSpecifier<?>[]{post.likeCount.desc(), postLike.createdAt.desc()};
-            case GROUP_BUY_FIRST -> new OrderSpecifier<?>[]{GROUP_BUY_RANK.asc(), postLike.createdAt.desc()};
-            case DEFAULT -> new OrderSpecifier<?>[]{postLike.createdAt.desc()};
+            case LIKED_OLDEST -> new OrderSpecifier<?>[]{postLike.createdAt.asc(), postLike.id.asc()};
+            case MOST_LIKED -> new OrderSpecifier<?>[]{
+                    post.likeCount.desc(), postLike.createdAt.desc(), postLike.id.desc()};
+            case GROUP_BUY_FIRST -> new OrderSpecifier<?>[]{
+                    GROUP_BUY_RANK.asc(), postLike.createdAt.desc(), postLike.id.desc()};
+            case DEFAULT -> new OrderSpecifier<?>[]{postLike.createdAt.desc(), postLike.id.desc()};
+        };
+    }
+
+    /** {@link #orderOf}의 순서로 {@code key} 뒤에 오는 행 */
+    private static BooleanExpression after(LikedPostSort sort, SeekKey key) {
+        return switch (sort) {
+            case LIKED_OLDEST -> laterLike(key.at(), key.id());
+            case MOST_LIKED -> post.likeCount.lt(key.rank())
+                    .or(post.likeCount.eq(key.rank()).and(earlierLike(key.at(), key.id())));
+            case GROUP_BUY_FIRST -> GROUP_BUY_RANK.gt((int) key.rank())
+                    .or(GROUP_BUY_RANK.eq((int) key.rank()).and(earlierLike(key.at(), key.id())));
+            case DEFAULT -> earlierLike(key.at(), key.id());
+        };
+    }
+
+    private static BooleanExpression earlierLike(LocalDateTime at, long id) {
+        return postLike.createdAt.lt(at).or(postLike.createdAt.eq(at).and(postLike.id.lt(id)));
+    }
+
+    private static BooleanExpression laterLike(LocalDateTime at, long id) {
+        return postLike.createdAt.gt(at).or(postLike.createdAt.eq(at).and(postLike.id.gt(id)));
+    }
+
+    /** 시각 앞에 오는 정렬 키 — {@link #orderOf}의 첫 키와 같은 값이어야 한다 */
+    private static long rankOf(LikedPostSort sort, Post liked) {
+        return switch (sort) {
+            case MOST_LIKED -> liked.getLikeCount();
+            case GROUP_BUY_FIRST -> liked.getPostType() == PostType.GROUP_BUY ? 0 : 1;
+            case DEFAULT, LIKED_OLDEST -> 0;
         };
     }
 }
@@ -53,17 +53,6 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
                                       @Param("to") LocalDateTime to,
                                       Pageable pageable);
 
-    /**
-     * 쇼룸별 최근 게시 시각 (팔로잉 목록 기본 정렬용).
-     *
-     * <p>시그니처는 그대로 두고 기준만 게시 시각으로 옮겼다 — 소비자가 "최근 게시물 순"으로 기대하는 것은
-     * 작성 시각이 아니라 노출된 시각이다.
-     */
-    @Query("SELECT p.creator.id, MAX(p.publishedAt) FROM Post p " +
-           "WHERE p.status = showroomz.domain.post.type.PostStatus.PUBLISHED AND p.creator.id IN :creatorIds " +
-           "GROUP BY p.creator.id")
-    List<Object[]> findLatestPostCreatedAtByCreatorIds(@Param("creatorIds") List<Long> creatorIds);
-
     /**
      * 스튜디오 탭 카운트 — {상태, 개수} 행 (§24-1 "개수가 함께 보여야 조치가 필요한 게시물을 바로 찾는다").
      *
@@ -2,9 +2,12 @@ package showroomz.domain.post.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.type.PostStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepositoryCustom {
@@ -32,6 +35,36 @@ public interface PostRepositoryCustom {
      */
     Page<Post> findRecommendedPosts(List<Long> excludedCreatorIds, Pageable pageable);
 
+    /*
+     * 아래 네 개는 위 소비자 목록의 키셋판이다 — 무한 스크롤 피드가 쓴다. 순서는 같고(게시 시각, id 내림차순)
+     * 전체 건수를 세지 않는다. {@code after}가 null이면 첫 페이지, 아니면 그 키 다음부터 {@code size}개다.
+     */
+
+    Slice<Post> findDisplayedPosts(SeekKey after, int size);
+
+    Slice<Post> findDisplayedPostsByCreatorId(Long creatorId, SeekKey after, int size);
+
+    Slice<Post> findDisplayedPostsByCreatorIds(List<Long> creatorIds, SeekKey after, int size);
+
+    Slice<Post> findRecommendedPosts(List<Long> excludedCreatorIds, SeekKey after, int size);
+
+    /**
+     * 팔로잉 타임라인({@code FollowingTimelines})을 채울 키 — 이 쇼룸들의 게시중 게시물을 위 목록과 같은 순서로
+     * {@code limit}개, (게시 시각, id)만 읽는다. 엔티티와 연관을 만들지 않는다.
+     */
+    List<SeekKey> findDisplayedPostKeysByCreatorIds(List<Long> creatorIds, int limit);
+
+    /**
+     * id로 고른 게시물 중 지금도 게시중인 것. 타임라인이 들고 있던 id는 그 사이 노출 중지·삭제됐을 수 있어 상태로
+     * 다시 거른다. 순서는 정하지 않는다.
+     */
+    List<Post> findDisplayedPostsByIds(Collection<Long> postIds);
+
+    /** 소비자 목록의 정렬 키 — 마지막 게시물의 이 값이 다음 페이지의 {@code after}가 된다 */
+    static SeekKey seekKeyOf(Post post) {
+        return SeekKey.of(post.getPublishedAt(), post.getId());
+    }
+
     /**
      * 스튜디오 목록 — 탭(전체·게시중·노출중지·작성중)에 대응한다.
      *
@@ -6,12 +6,17 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.type.PostStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 import static showroomz.domain.member.creator.entity.QCreator.creator;
@@ -50,6 +55,62 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return findPublished(post.creator.id.notIn(excludedCreatorIds), pageable);
     }
 
+    @Override
+    public Slice<Post> findDisplayedPosts(SeekKey after, int size) {
+        return slicePublished(null, after, size);
+    }
+
+    @Override
+    public Slice<Post> findDisplayedPostsByCreatorId(Long creatorId, SeekKey after, int size) {
+        return slicePublished(post.creator.id.eq(creatorId), after, size);
+    }
+
+    @Override
+    public Slice<Post> findDisplayedPostsByCreatorIds(List<Long> creatorIds, SeekKey after, int size) {
+        if (creatorIds == null || creatorIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+        }
+        return slicePublished(post.creator.id.in(creatorIds), after, size);
+    }
+
+    @Override
+    public Slice<Post> findRecommendedPosts(List<Long> excludedCreatorIds, SeekKey after, int size) {
+        if (excludedCreatorIds == null || excludedCreatorIds.isEmpty()) {
+            return slicePublished(null, after, size);
+        }
+        return slicePublished(post.creator.id.notIn(excludedCreatorIds), after, size);
+    }
+
+    @Override
+    public List<SeekKey> findDisplayedPostKeysByCreatorIds(List<Long> creatorIds, int limit) {
+        if (creatorIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(post.publishedAt, post.id)
+                .from(post)
+                .where(post.status.eq(PostStatus.PUBLISHED), post.creator.id.in(creatorIds))
+                .orderBy(post.publishedAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> SeekKey.of(row.get(post.publishedAt), row.get(post.id)))
+                .toList();
+    }
+
+    @Override
+    public List<Post> findDisplayedPostsByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(post)
+                .join(post.creator, creator).fetchJoin()
+                .join(creator.user, users).fetchJoin()
+                .where(post.status.eq(PostStatus.PUBLISHED), post.id.in(postIds))
+                .fetch();
+    }
+
     @Override
     public Page<Post> findStudioPosts(Long creatorId, PostStatus status, Pageable pageable) {
         BooleanBuilder where = new BooleanBuilder()
@@ -139,4 +200,31 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
+
+    /**
+     * {@link #findPublished}의 키셋판 — 조건·순서·함께 읽는 연관이 같다. 마지막 키보다 뒤인 행만 읽으므로 몇 번째
+     * 페이지든 인덱스에서 바로 이어 읽고, 다음 페이지가 있는지는 한 행을 더 읽어 본다.
+     */
+    private Slice<Post> slicePublished(BooleanExpression extraCondition, SeekKey after, int size) {
+        BooleanBuilder where = new BooleanBuilder(post.status.eq(PostStatus.PUBLISHED));
+        if (extraCondition != null) {
+            where.and(extraCondition);
+        }
+        if (after != null) {
+            where.and(post.publishedAt.lt(after.at())
+                    .or(post.publishedAt.eq(after.at()).and(post.id.lt(after.id()))));
+        }
+
+        List<Post> fetched = queryFactory
+                .selectFrom(post)
+                .join(post.creator, creator).fetchJoin()
+                .join(creator.user, users).fetchJoin()
+                .where(where)
+                .orderBy(post.publishedAt.desc(), post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = fetched.size() > size;
+        return new SliceImpl<>(hasNext ? fetched.subList(0, size) : fetched, PageRequest.ofSize(size), hasNext);
+    }
 }
@@ -5,16 +5,22 @@ import org.springframework.stereotype.Component;
 import showroomz.domain.post.entity.PostNotificationLog;
 
 /**
- * 발송 인프라가 들어오기 전까지의 스텁. 로그만 남기고 아무것도 보내지 않는다.
+ * 발송 인프라가 들어오기 전까지의 스텁. 아무것도 보내지 않는다.
  *
- * <p>조용히 성공한 척하지 않는 것이 핵심이다 — {@code false}를 돌려주므로 이력에는
- * "통지 대상이었으나 전달되지 않음"이 남고, 나중에 발송 인프라가 붙었을 때 무엇이 나가지
- * 않았는지 이 테이블에서 그대로 읽힌다.
+ * <p>조용히 성공한 척하지 않는 것이 핵심이다 — {@link #isAvailable()}이 false라 디스패처가 통지를 미전달로
+ * 내려놓으므로 이력에는 "통지 대상이었으나 전달되지 않음"이 남고, 나중에 발송 인프라가 붙었을 때 무엇이 나가지
+ * 않았는지 이 테이블에서 그대로 읽힌다. 실패로 돌려주지 않는 것은 재시도해 봐야 전달될 리 없기 때문이다.
  */
 @Slf4j
 @Component
 public class NoOpPostNotificationSender implements PostNotificationSender {
 
+    @Override
+    public boolean isAvailable() {
+        return false;
+    }
+
+    /** 디스패처는 {@link #isAvailable()}을 보고 부르지 않는다. 직접 불리면 미전달이다 */
     @Override
     public boolean send(PostNotificationLog notificationLog) {
         log.info("게시물 통지 이력만 적재(발송 인프라 미도입) - postId={}, creatorId={}, event={}",
@@ -0,0 +1,141 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import showroomz.global.config.properties.PostProperties;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * §24-7 라스트 터치 귀속용 메모리 색인 — (viewerKey, 쇼룸) → 마지막으로 본 게시물과 그 시각.
+ *
+ * <p>쇼룸 방문·팔로우가 일어날 때마다 노출 로그를 되짚으면, 가장 빨리 불어나는 테이블을 가장 자주 불리는
+ * 경로에서 읽게 된다. 노출은 {@code PostImpressionService}가 적재하는 순간 여기에도 올리므로, 방문·팔로우는
+ * 대부분 메모리에서 끝난다. 재기동 직후처럼 색인에 없을 때만 {@link PostAttributionService}가 DB에서 한 행을 읽는다.
+ *
+ * <p><b>인스턴스 하나가 모든 노출을 본다는 전제</b>다. 인스턴스를 여럿 띄우면 다른 인스턴스에 적재된 더 최근 노출을
+ * 모를 수 있다 — 그때는 이 색인을 끄고({@code post.attribution-index-size=0}) 항상 DB에서 읽어야 한다.
+ *
+ * <p>크기는 {@code post.attribution-index-size}로 제한하고 가득 차면 가장 오래 안 쓴 항목부터 밀어낸다.
+ * 귀속 창(24시간)이 지난 항목은 읽을 때 버린다. 적중·미스는 {@code post.attribution.index.hits} /
+ * {@code post.attribution.index.misses}, 건수와 추정 점유 바이트는 {@code post.attribution.index.size} /
+ * {@code post.attribution.index.bytes}로 나간다 — 힙(256MB)에 맞춰 상한을 정하는 근거다.
+ */
+@Component
+public class PostAttributionIndex {
+
+    /**
+     * 항목 하나의 고정 비용 추정치 — 맵 엔트리·키/값 레코드·Long 둘·LocalDateTime(날짜·시각 포함)·
+     * 문자열 헤더를 64비트 압축 포인터 기준으로 더한 값이다. viewerKey 본문 길이는 따로 더한다.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 240;
+
+    private final int maxSize;
+    private final Map<Key, Touch> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private long keyChars;
+
+    @Autowired
+    public PostAttributionIndex(PostProperties postProperties, MeterRegistry meterRegistry) {
+        this(postProperties.getAttributionIndexSize(), meterRegistry);
+    }
+
+    PostAttributionIndex(int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = Math.max(0, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Touch> eldest) {
+                if (size() > PostAttributionIndex.this.maxSize) {
+                    keyChars -= eldest.getKey().viewerKey().length();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits = Counter.builder("post.attribution.index.hits")
+                .description("노출 로그를 읽지 않고 귀속을 정한 횟수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("post.attribution.index.misses")
+                .description("색인에 없어 노출 로그를 읽은 횟수")
+                .register(meterRegistry);
+        Gauge.builder("post.attribution.index.size", this, PostAttributionIndex::size)
+                .description("색인 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("post.attribution.index.bytes", this, PostAttributionIndex::estimatedBytes)
+                .description("색인이 점유한 힙 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param since 귀속 창의 시작 — 이보다 앞선 노출은 없는 것으로 본다
+     * @return 창 안에서 마지막으로 본 게시물 ID, 색인에 없으면 null(DB를 읽어야 한다)
+     */
+    public Long find(String viewerKey, Long creatorId, LocalDateTime since) {
+        if (maxSize == 0) {
+            misses.increment();
+            return null;
+        }
+        Key key = new Key(viewerKey, creatorId);
+        synchronized (entries) {
+            Touch touch = entries.get(key);
+            if (touch != null && !touch.viewedAt().isBefore(since)) {
+                hits.increment();
+                return touch.postId();
+            }
+            if (touch != null) {
+                remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /** 노출 한 건을 올린다. 이미 더 늦은 노출이 올라 있으면 그대로 둔다. */
+    public void record(String viewerKey, Long creatorId, Long postId, LocalDateTime viewedAt) {
+        if (maxSize == 0) {
+            return;
+        }
+        Key key = new Key(viewerKey, creatorId);
+        synchronized (entries) {
+            Touch current = entries.get(key);
+            if (current != null && current.viewedAt().isAfter(viewedAt)) {
+                return;
+            }
+            if (current == null) {
+                keyChars += viewerKey.length();
+            }
+            entries.put(key, new Touch(postId, viewedAt));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long estimatedBytes() {
+        synchronized (entries) {
+            return (long) entries.size() * ENTRY_OVERHEAD_BYTES + keyChars;
+        }
+    }
+
+    private void remove(Key key) {
+        if (entries.remove(key) != null) {
+            keyChars -= key.viewerKey().length();
+        }
+    }
+
+    private record Key(String viewerKey, Long creatorId) {
+    }
+
+    private record Touch(Long postId, LocalDateTime viewedAt) {
+    }
+}
@@ -1,6 +1,7 @@
 package showroomz.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.domain.post.entity.PostImpression;
@@ -28,8 +29,11 @@ import java.util.List;
 public class PostAttributionService {
 
     private final PostImpressionRepository postImpressionRepository;
+    private final PostAttributionIndex postAttributionIndex;
 
     /**
+     * 메모리 색인({@link PostAttributionIndex})을 먼저 보고, 없을 때만 노출 로그에서 한 행을 읽어 색인에 올린다.
+     *
      * @return 귀속될 게시물 ID. 귀속 창 안에 본 게시물이 없으면 {@code null}(귀속 불명)이다
      */
     public Long resolveAttributedPostId(String viewerKey, Long creatorId, LocalDateTime now) {
@@ -37,8 +41,19 @@ public class PostAttributionService {
             return null;
         }
         LocalDateTime since = now.minusHours(PostImpression.ATTRIBUTION_WINDOW_HOURS);
-        List<Long> recent = postImpressionRepository.findRecentlyViewedPostIds(viewerKey, creatorId, since);
-        return recent.isEmpty() ? null : recent.get(0);
+        Long indexed = postAttributionIndex.find(viewerKey, creatorId, since);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        List<Object[]> latest = postImpressionRepository.findLatestViewedPost(
+                viewerKey, creatorId, since, PageRequest.of(0, 1));
+        if (latest.isEmpty()) {
+            return null;
+        }
+        Long postId = (Long) latest.get(0)[0];
+        postAttributionIndex.record(viewerKey, creatorId, postId, (LocalDateTime) latest.get(0)[1]);
+        return postId;
     }
 
     /**
@@ -0,0 +1,315 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import showroomz.global.config.properties.PostProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 게시물 노출 쓰기 지연 버퍼 (§24-7).
+ *
+ * <p>노출 적재는 피드 스크롤마다 불리는 가장 잦은 쓰기다. 요청 안에서 카드마다 INSERT하고 {@code post} 행의
+ * 카운터를 올리면, 인기 게시물 행에 요청 수만큼 UPDATE가 몰려 행 잠금을 두고 줄을 선다. 그래서 요청은
+ * 노출을 이 큐에 넣고 바로 돌아가고, 플러셔가 모아서 <b>다중 행 INSERT 한 번</b>과 <b>게시물당 UPDATE 한 번</b>으로 쓴다.
+ *
+ * <ul>
+ *   <li>플러시 — {@code post.impression-flush-size}건이 쌓이거나 {@code post.impression-flush-interval-millis}가
+ *       지나면. 로그와 카운터는 한 트랜잭션이라 둘이 갈리지 않는다.</li>
+ *   <li>배압 — 큐({@code post.impression-buffer-capacity})가 차면 넣으려던 요청 스레드가 직접 플러시한다.
+ *       DB가 밀리면 요청도 그만큼 느려질 뿐 메모리가 무한정 늘지 않는다. 요청의 트랜잭션에는 합류하지 않는다.</li>
+ *   <li>종료 — 컨테이너가 내려갈 때 남은 노출을 마저 쓴다.</li>
+ * </ul>
+ *
+ * <p>30분 세션 판정은 DB만으로는 부족하다 — 아직 쓰지 않은 노출은 DB에 없다. 그래서 큐에 있거나 쓰는 중인
+ * (조회자, 게시물) 쌍을 들고 있다가 같은 쌍은 받지 않는다. 순서가 중요하다: <b>쌍을 먼저 잡고 나서 DB를 본다.</b>
+ * 쌍은 커밋 뒤에야 풀리므로, 잡는 데 성공했다면 앞선 같은 쌍은 이미 DB에 있어 판정에 보인다. 반대 순서면
+ * DB를 본 뒤 잡기 전 사이에 커밋·해제가 끼어 중복이 들어온다.
+ *
+ * <p>지표: 받은 건수 {@code post.impression.buffer.accepted}, 쓴 건수 {@code .flushed}, 실패로 버린 건수
+ * {@code .dropped}, 배압으로 요청이 직접 플러시한 횟수 {@code .backpressure}, 플러시 소요 {@code .flush},
+ * 적재 지연(노출 시각 → 커밋) {@code .lag}, 대기 건수 {@code .size}.
+ */
+@Slf4j
+@Component
+public class PostImpressionBuffer {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO post_impression (post_id, creator_id, user_id, viewer_key, viewed_at) VALUES ";
+    private static final String INCREASE_COUNT =
+            "UPDATE post SET impression_count = impression_count + ? WHERE post_id = ?";
+
+    /** 받아 둔 노출 한 건 — 엔티티를 들고 있지 않는다. 영속성 컨텍스트 밖에서 쓰기 때문이다. */
+    public record PendingImpression(Long postId, Long creatorId, Long userId, String viewerKey,
+                                    LocalDateTime viewedAt) {
+
+        private SessionKey sessionKey() {
+            return new SessionKey(viewerKey, postId);
+        }
+    }
+
+    private record SessionKey(String viewerKey, Long postId) {
+    }
+
+    private final BlockingQueue<PendingImpression> queue;
+    private final Set<SessionKey> pendingKeys = new HashSet<>();
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final Consumer<List<PendingImpression>> writer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+
+    private final Counter accepted;
+    private final Counter flushed;
+    private final Counter dropped;
+    private final Counter backpressure;
+    private final Timer flushTimer;
+    private final Timer lag;
+
+    @Autowired
+    public PostImpressionBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                PostProperties postProperties, MeterRegistry meterRegistry) {
+        this(postProperties.getImpressionBufferCapacity(), postProperties.getImpressionFlushSize(),
+                postProperties.getImpressionFlushIntervalMillis(),
+                jdbcWriter(jdbcTemplate, ownTransaction(transactionManager)), meterRegistry);
+    }
+
+    PostImpressionBuffer(int capacity, int flushSize, long flushIntervalMillis,
+                         Consumer<List<PendingImpression>> writer, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.flushSize = Math.max(1, flushSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.writer = writer;
+        this.accepted = Counter.builder("post.impression.buffer.accepted")
+                .description("버퍼가 받은 노출 수")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("post.impression.buffer.flushed")
+                .description("DB에 쓴 노출 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("post.impression.buffer.dropped")
+                .description("쓰기 실패로 버린 노출 수")
+                .register(meterRegistry);
+        this.backpressure = Counter.builder("post.impression.buffer.backpressure")
+                .description("큐가 차서 요청 스레드가 직접 플러시한 횟수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("post.impression.buffer.flush")
+                .description("플러시 한 번의 소요 시간")
+                .register(meterRegistry);
+        this.lag = Timer.builder("post.impression.buffer.lag")
+                .description("노출 시각부터 커밋까지 — 배치에서 가장 오래 기다린 건 기준")
+                .register(meterRegistry);
+        Gauge.builder("post.impression.buffer.size", queue, BlockingQueue::size)
+                .description("쓰기를 기다리는 노출 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (flushIntervalMillis <= 0) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "impression-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 노출을 마저 쓴다 — 의존하는 DataSource보다 먼저 내려가므로 여기서 쓸 수 있다 */
+    @PreDestroy
+    void drain() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly();
+    }
+
+    /**
+     * 같은 조회자의 노출을 받는다 — 버퍼에 대기 중인 쌍을 먼저 잡고, 잡은 것만 DB 세션 판정에 넘긴다.
+     *
+     * @param countedPostIds 잡은 게시물 ID 중 세션 안에 이미 DB에 쓰인 것을 돌려주는 판정
+     * @return 실제로 받은 노출 — 호출자는 이것만 "새 노출"로 취급한다
+     */
+    public List<PendingImpression> offer(List<PendingImpression> impressions,
+                                         Function<List<Long>, Collection<Long>> countedPostIds) {
+        List<PendingImpression> reserved = new ArrayList<>(impressions.size());
+        synchronized (pendingKeys) {
+            for (PendingImpression impression : impressions) {
+                if (pendingKeys.add(impression.sessionKey())) {
+                    reserved.add(impression);
+                }
+            }
+        }
+        if (reserved.isEmpty()) {
+            return reserved;
+        }
+
+        Set<Long> counted;
+        try {
+            counted = Set.copyOf(countedPostIds.apply(reserved.stream().map(PendingImpression::postId).toList()));
+        } catch (RuntimeException e) {
+            release(reserved);
+            throw e;
+        }
+        List<PendingImpression> fresh = new ArrayList<>(reserved.size());
+        List<PendingImpression> stale = new ArrayList<>();
+        for (PendingImpression impression : reserved) {
+            (counted.contains(impression.postId()) ? stale : fresh).add(impression);
+        }
+        release(stale);
+
+        for (PendingImpression impression : fresh) {
+            while (!queue.offer(impression)) {
+                backpressure.increment();
+                flush();
+            }
+        }
+        accepted.increment(fresh.size());
+        if (queue.size() >= flushSize) {
+            requestFlush();
+        }
+        return fresh;
+    }
+
+    /**
+     * 큐를 비울 때까지 쓴다. 동시에 한 스레드만 쓴다.
+     *
+     * @return 쓴 노출 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int total = 0;
+            List<PendingImpression> batch = new ArrayList<>(flushSize);
+            while (queue.drainTo(batch, flushSize) > 0) {
+                write(batch);
+                // 커밋(또는 포기) 뒤에 푼다 — 이후 같은 쌍을 잡는 요청은 DB에서 이 노출을 본다
+                release(batch);
+                total += batch.size();
+                batch.clear();
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void write(List<PendingImpression> batch) {
+        long start = System.nanoTime();
+        try {
+            writer.accept(batch);
+            flushed.increment(batch.size());
+            LocalDateTime oldest = batch.get(0).viewedAt();
+            lag.record(Duration.between(oldest, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 통계 로그다 — 같은 배치를 다시 넣으면 실패가 반복될 때 큐를 막는다
+            dropped.increment(batch.size());
+            log.error("노출 {}건 적재 실패 — 버린다", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release(List<PendingImpression> impressions) {
+        if (impressions.isEmpty()) {
+            return;
+        }
+        synchronized (pendingKeys) {
+            impressions.forEach(impression -> pendingKeys.remove(impression.sessionKey()));
+        }
+    }
+
+    private void requestFlush() {
+        if (flusher == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        flusher.execute(() -> {
+            flushRequested.set(false);
+            flushQuietly();
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("노출 버퍼 플러시 실패", e);
+        }
+    }
+
+    /**
+     * 배치는 늘 자기 트랜잭션으로 쓴다. 배압 플러시는 요청 스레드에서 돌고, 그 스레드는 보통 노출 서비스의 읽기 전용
+     * 트랜잭션 안이다 — 거기에 합류하면 쓰기가 거절되거나, 요청이 롤백될 때 다른 조회자의 노출까지 함께 사라진다.
+     * 새 트랜잭션은 커넥션을 하나 더 빌리지만 플러시는 한 스레드만 하므로 더 빌리는 것도 하나뿐이다.
+     */
+    private static TransactionTemplate ownTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /** 로그는 다중 행 INSERT 한 문장, 카운터는 게시물당 UPDATE 한 문장 — 한 트랜잭션으로 묶는다 */
+    private static Consumer<List<PendingImpression>> jdbcWriter(JdbcTemplate jdbcTemplate,
+                                                                TransactionTemplate transactionTemplate) {
+        return batch -> transactionTemplate.executeWithoutResult(status -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 18).append(INSERT_PREFIX);
+            Object[] args = new Object[batch.size() * 5];
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                PendingImpression impression = batch.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+                args[i * 5] = impression.postId();
+                args[i * 5 + 1] = impression.creatorId();
+                args[i * 5 + 2] = impression.userId();
+                args[i * 5 + 3] = impression.viewerKey();
+                args[i * 5 + 4] = impression.viewedAt();
+                deltas.merge(impression.postId(), 1L, Long::sum);
+            }
+            jdbcTemplate.update(sql.toString(), args);
+
+            List<Object[]> increments = new ArrayList<>(deltas.size());
+            deltas.forEach((postId, delta) -> increments.add(new Object[]{delta, postId}));
+            jdbcTemplate.batchUpdate(INCREASE_COUNT, increments);
+        });
+    }
+}
@@ -0,0 +1,342 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import showroomz.domain.post.entity.PostNotificationLog;
+import showroomz.domain.post.repository.PostNotificationLogRepository;
+import showroomz.global.config.properties.PostProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시물 통지 발송기 — {@code post_notification_log}를 아웃박스로 읽어 커밋된 미발송 통지를 보낸다 (§24-5).
+ *
+ * <p>한 번의 발송은 세 단계다.
+ * <ol>
+ *   <li>가져가기 — 짧은 트랜잭션에서 발송 시각이 된 행을 {@code FOR UPDATE SKIP LOCKED}로 묶음만큼 잡고,
+ *       시도 횟수를 올리며 {@code next_attempt_at}을 임대 시각({@code post.notification-lease-seconds})으로 민다.
+ *       다른 인스턴스는 잠긴 행을 건너뛰고, 커밋 뒤에는 임대 시각 때문에 다시 가져가지 않는다.</li>
+ *   <li>보내기 — 트랜잭션 밖에서 {@code post.notification-dispatch-concurrency}개 스레드로 어댑터를 부른다.
+ *       묶음 전체를 {@code post.notification-send-timeout-millis}까지만 기다리고 남은 건은 실패로 본다.</li>
+ *   <li>표시 — 전달된 행은 UPDATE 한 문장으로, 실패한 행은 지수 백오프한 다음 시각으로 한 번의 배치로 고친다.
+ *       시도 횟수를 다 쓴 행은 {@code next_attempt_at = NULL}로 대기열에서 빠지고 미전달로 남는다.</li>
+ * </ol>
+ *
+ * <p>보내다가 인스턴스가 죽으면 그 묶음은 임대가 끝난 뒤 다시 나간다. 즉 <b>최소 한 번</b> 전달이다.
+ *
+ * <p>어댑터에 발송 채널이 없으면({@link PostNotificationSender#isAvailable()}) 가져가면서 곧바로 미전달로
+ * 내려놓는다 — 보내지도, 재시도하지도 않는다.
+ *
+ * <p>지표: 대기열 깊이 {@code post.notification.outbox.depth}(발송 주기마다 갱신), 적재부터 전달까지
+ * {@code .lag}, 전달 {@code .delivered}, 실패한 시도 {@code .failed}, 포기 {@code .abandoned},
+ * 채널이 없어 내려놓음 {@code .skipped}, 묶음 하나의 소요 {@code .dispatch}.
+ */
+@Slf4j
+@Component
+public class PostNotificationDispatcher {
+
+    private static final String CLAIM =
+            "SELECT log_id FROM post_notification_log "
+                    + "WHERE delivered = FALSE AND next_attempt_at <= ? "
+                    + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_PREFIX =
+            "UPDATE post_notification_log SET attempts = attempts + 1, next_attempt_at = ? WHERE log_id IN ";
+    private static final String MARK_DELIVERED_PREFIX =
+            "UPDATE post_notification_log SET delivered = TRUE, delivered_at = ?, next_attempt_at = NULL, "
+                    + "last_error = NULL WHERE log_id IN ";
+    private static final String SKIP_PREFIX =
+            "UPDATE post_notification_log SET attempts = attempts + 1, next_attempt_at = NULL, "
+                    + "last_error = '발송 채널 없음' WHERE log_id IN ";
+    private static final String RESCHEDULE =
+            "UPDATE post_notification_log SET next_attempt_at = ?, last_error = ? WHERE log_id = ?";
+    private static final String COUNT_PENDING =
+            "SELECT COUNT(*) FROM post_notification_log WHERE delivered = FALSE AND next_attempt_at IS NOT NULL";
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostNotificationLogRepository postNotificationLogRepository;
+    private final PostNotificationSender postNotificationSender;
+    private final PostProperties postProperties;
+    private final ExecutorService senders;
+    private ScheduledExecutorService dispatcher;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter abandoned;
+    private final Counter skipped;
+    private final Timer dispatchTimer;
+    private final Timer lag;
+
+    public PostNotificationDispatcher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      PostNotificationLogRepository postNotificationLogRepository,
+                                      PostNotificationSender postNotificationSender,
+                                      PostProperties postProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postNotificationLogRepository = postNotificationLogRepository;
+        this.postNotificationSender = postNotificationSender;
+        this.postProperties = postProperties;
+        AtomicInteger senderIndex = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, postProperties.getNotificationDispatchConcurrency()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "post-notification-sender-" + senderIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.delivered = Counter.builder("post.notification.outbox.delivered")
+                .description("전달된 통지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("post.notification.outbox.failed")
+                .description("실패한 발송 시도 수 — 재시도분을 포함한다")
+                .register(meterRegistry);
+        this.abandoned = Counter.builder("post.notification.outbox.abandoned")
+                .description("시도 횟수를 다 써서 더 보내지 않는 통지 수")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("post.notification.outbox.skipped")
+                .description("발송 채널이 없어 보내지 않고 대기열에서 내려놓은 통지 수")
+                .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("post.notification.outbox.dispatch")
+                .description("묶음 하나를 가져가 보내고 표시하기까지")
+                .register(meterRegistry);
+        this.lag = Timer.builder("post.notification.outbox.lag")
+                .description("통지 적재부터 전달 표시까지")
+                .register(meterRegistry);
+        Gauge.builder("post.notification.outbox.depth", depth, AtomicLong::get)
+                .description("보낼 차례를 기다리는 통지 수 — 발송 주기마다 갱신")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = postProperties.getNotificationDispatchIntervalMillis();
+        if (interval <= 0) {
+            return;
+        }
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatchQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** 보내는 중인 묶음은 마저 보낸다. 남은 대기열은 다음 기동(또는 다른 인스턴스)이 가져간다. */
+    @PreDestroy
+    void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+            awaitQuietly(dispatcher);
+        }
+        senders.shutdown();
+        awaitQuietly(senders);
+    }
+
+    /**
+     * 발송 시각이 된 통지를 대기열이 빌 때까지 묶음 단위로 보내고 대기열 깊이를 갱신한다.
+     *
+     * @return 가져간 통지 수(전달·실패 합계)
+     */
+    public int dispatchAll() {
+        int total = 0;
+        int batch;
+        do {
+            batch = dispatchOnce();
+            total += batch;
+        } while (batch >= batchSize());
+        depth.set(jdbcTemplate.queryForObject(COUNT_PENDING, Long.class));
+        return total;
+    }
+
+    /** @return 가져간 통지 수 */
+    public int dispatchOnce() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        boolean available = postNotificationSender.isAvailable();
+        List<Long> claimed = transactionTemplate.execute(status -> claim(now, available));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        if (!available) {
+            skipped.increment(claimed.size());
+            dispatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claimed.size();
+        }
+        try {
+            List<PostNotificationLog> logs = postNotificationLogRepository.findAllById(claimed);
+            List<Outcome> outcomes = deliver(logs);
+            LocalDateTime finishedAt = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> record(outcomes, finishedAt));
+            return claimed.size();
+        } finally {
+            dispatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 보낼 수 있으면 임대 시각으로 밀고, 채널이 없으면 같은 잠금 안에서 미전달로 내려놓는다 */
+    private List<Long> claim(LocalDateTime now, boolean available) {
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM, Long.class, now, batchSize());
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        if (!available) {
+            jdbcTemplate.update(SKIP_PREFIX + placeholders(ids.size()), ids.toArray());
+            return ids;
+        }
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = now.plusSeconds(postProperties.getNotificationLeaseSeconds());
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(LEASE_PREFIX + placeholders(ids.size()), args);
+        return ids;
+    }
+
+    private record Outcome(PostNotificationLog log, String error) {
+
+        boolean delivered() {
+            return error == null;
+        }
+    }
+
+    private List<Outcome> deliver(List<PostNotificationLog> logs) {
+        List<Callable<Boolean>> tasks = new ArrayList<>(logs.size());
+        for (PostNotificationLog notificationLog : logs) {
+            tasks.add(() -> postNotificationSender.send(notificationLog));
+        }
+        List<Future<Boolean>> futures;
+        try {
+            futures = senders.invokeAll(tasks, postProperties.getNotificationSendTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures = Collections.nCopies(logs.size(), null);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(logs.size());
+        for (int i = 0; i < logs.size(); i++) {
+            outcomes.add(new Outcome(logs.get(i), errorOf(futures.get(i))));
+        }
+        return outcomes;
+    }
+
+    /** @return 전달됐으면 null, 아니면 {@code last_error}에 남길 사유 */
+    private static String errorOf(Future<Boolean> future) {
+        if (future == null) {
+            return "발송 중단";
+        }
+        try {
+            return Boolean.TRUE.equals(future.get()) ? null : "전달되지 않음";
+        } catch (CancellationException e) {
+            return "발송 한도 초과";
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "발송 중단";
+        }
+    }
+
+    private void record(List<Outcome> outcomes, LocalDateTime finishedAt) {
+        List<Long> deliveredIds = new ArrayList<>();
+        List<Object[]> rescheduled = new ArrayList<>();
+        int givenUp = 0;
+        for (Outcome outcome : outcomes) {
+            PostNotificationLog notificationLog = outcome.log();
+            if (outcome.delivered()) {
+                deliveredIds.add(notificationLog.getId());
+                lag.record(Duration.between(notificationLog.getSentAt(), finishedAt));
+                continue;
+            }
+            // 가져갈 때 이미 올린 값이다 — 첫 실패면 1
+            int attempts = notificationLog.getAttempts();
+            LocalDateTime next = null;
+            if (attempts < postProperties.getNotificationMaxAttempts()) {
+                next = finishedAt.plus(backoff(attempts));
+            } else {
+                givenUp++;
+                log.warn("게시물 통지 발송 포기 - logId={}, attempts={}, error={}",
+                        notificationLog.getId(), attempts, outcome.error());
+            }
+            rescheduled.add(new Object[]{next, truncate(outcome.error()), notificationLog.getId()});
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            Object[] args = new Object[deliveredIds.size() + 1];
+            args[0] = finishedAt;
+            for (int i = 0; i < deliveredIds.size(); i++) {
+                args[i + 1] = deliveredIds.get(i);
+            }
+            jdbcTemplate.update(MARK_DELIVERED_PREFIX + placeholders(deliveredIds.size()), args);
+        }
+        if (!rescheduled.isEmpty()) {
+            jdbcTemplate.batchUpdate(RESCHEDULE, rescheduled);
+        }
+        delivered.increment(deliveredIds.size());
+        failed.increment(rescheduled.size());
+        abandoned.increment(givenUp);
+    }
+
+    /** 첫 실패 뒤 기본 간격, 이후 두 배씩 — 상한에서 멈춘다 */
+    Duration backoff(int attempts) {
+        long base = Math.max(1, postProperties.getNotificationRetryBaseSeconds());
+        long max = Math.max(base, postProperties.getNotificationRetryMaxSeconds());
+        int shift = Math.min(Math.max(0, attempts - 1), 30);
+        return Duration.ofSeconds(Math.min(max, base << shift));
+    }
+
+    private int batchSize() {
+        return Math.max(1, postProperties.getNotificationDispatchBatchSize());
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatchAll();
+        } catch (Exception e) {
+            log.error("게시물 통지 발송 실패", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, ERROR_MAX_LENGTH);
+    }
+
+    private static void awaitQuietly(ExecutorService executor) {
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
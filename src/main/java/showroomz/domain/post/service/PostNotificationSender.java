@@ -10,12 +10,22 @@ import showroomz.domain.post.entity.PostNotificationLog;
  * 발송은 인프라가 생긴 뒤 이 인터페이스의 구현체를 바꿔 끼우면 된다.
  *
  * <p>어드민 회원관리 계획의 {@code IdentityVerificationService} 스텁과 같은 경계다.
+ *
+ * <p>{@link PostNotificationDispatcher}가 트랜잭션 밖에서 여러 스레드로 부른다. 구현체는 스레드 안전해야 하고,
+ * 같은 통지가 두 번 올 수 있다(전달 후 표시 전에 인스턴스가 죽으면 다시 보낸다) — {@code logId}로 거르면 된다.
  */
 public interface PostNotificationSender {
 
     /**
-     * @return 실제로 전달됐으면 true. 스텁은 언제나 false를 돌려주고,
-     *         그 값이 {@code post_notification_log.delivered}에 그대로 기록된다.
+     * @return 실제로 전달됐으면 true. false나 예외는 실패로 보고 백오프 뒤 다시 보낸다.
      */
     boolean send(PostNotificationLog log);
+
+    /**
+     * 보낼 채널이 있는지. false면 디스패처는 {@link #send}를 부르지 않고 가져간 통지를 미전달로 한 번에 내려놓는다
+     * — 어차피 전달되지 않을 통지를 재시도해 실패 지표와 경고 로그를 채우지 않는다.
+     */
+    default boolean isAvailable() {
+        return true;
+    }
 }
@@ -16,11 +16,12 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * 게시물 통지 — <b>이력을 먼저 남기고</b> 발송을 시도한다 (§24-5 · §24-6).
+ * 게시물 통지 — <b>이력만 남기고</b> 발송은 {@link PostNotificationDispatcher}에 맡긴다 (§24-5 · §24-6).
  *
  * <p>순서가 뒤집히면 안 된다. §24-5는 "알리지 않고 사라지는 경우는 없다"를 요구하고 §24-6은
  * 삭제 이력의 영구 보존을 요구하는데, 발송이 먼저면 발송 성공 후 적재 실패했을 때
- * 무슨 일이 있었는지가 사라진다.
+ * 무슨 일이 있었는지가 사라진다. 이력 행이 곧 발송 대기열이라 호출자 트랜잭션이 커밋돼야 발송되고,
+ * 롤백되면 나가지도 않는다. 노출 중지·이의 심사·파기 배치는 더 이상 발송을 기다리지 않는다.
  *
  * <p>{@code payload}에 통지 당시 문구를 굳히는 이유도 같다 — 게시물은 보관 기간이 끝나면 파기되므로,
  * 사유·근거 규정·기한을 나중에 게시물에서 다시 읽어 재구성할 수 없다.
@@ -32,7 +33,6 @@ import java.util.Map;
 public class PostNotificationService {
 
     private final PostNotificationLogRepository postNotificationLogRepository;
-    private final PostNotificationSender postNotificationSender;
     private final ObjectMapper objectMapper;
 
     public void notify(Post post, PostNotificationEvent event, Map<String, Object> payload) {
@@ -40,12 +40,8 @@ public class PostNotificationService {
     }
 
     public void notify(Long postId, Long creatorId, PostNotificationEvent event, Map<String, Object> payload) {
-        PostNotificationLog notificationLog = postNotificationLogRepository.save(new PostNotificationLog(
+        postNotificationLogRepository.save(new PostNotificationLog(
                 postId, creatorId, event, serialize(payload), LocalDateTime.now()));
-
-        if (postNotificationSender.send(notificationLog)) {
-            notificationLog.markDelivered();
-        }
     }
 
     /** 통지 문구를 만들 때 쓰는 편의 — 순서를 지키려고 {@link LinkedHashMap}을 쓴다 */
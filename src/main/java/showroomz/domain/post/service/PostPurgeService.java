@@ -5,8 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostImage;
 import showroomz.domain.post.repository.PostAppealRepository;
@@ -16,14 +14,19 @@ import showroomz.domain.post.repository.PostLikeRepository;
 import showroomz.domain.post.repository.PostReportRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.PostDailyViewerRepository;
 import showroomz.global.config.properties.PostProperties;
-import showroomz.global.config.properties.S3Properties;
+import showroomz.global.service.S3BatchDeleteService;
 
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 파기 — 보관 기간이 끝난 게시물을 <b>실제로</b> 지운다 (§24-6).
@@ -50,9 +53,10 @@ public class PostPurgeService {
     private final PostAppealRepository postAppealRepository;
     private final PostReportRepository postReportRepository;
     private final PostSuspensionRepository postSuspensionRepository;
+    private final PostDailyStatRepository postDailyStatRepository;
+    private final PostDailyViewerRepository postDailyViewerRepository;
     private final PostProperties postProperties;
-    private final S3Properties s3Properties;
-    private final S3Client s3Client;
+    private final S3BatchDeleteService s3BatchDeleteService;
 
     /**
      * @return 실제로 파기한 건수. 드라이런이면 0이고 대상만 로그로 남는다
@@ -71,9 +75,12 @@ public class PostPurgeService {
             return 0;
         }
 
+        // 가공본과 원본이 같은 URL인 이미지가 있어 키를 한 번씩만 센다
+        Set<String> objectKeys = new LinkedHashSet<>();
         for (Post post : targets) {
-            purgeOne(post);
+            objectKeys.addAll(purgeOne(post));
         }
+        deleteObjectsSafely(objectKeys);
         log.info("게시물 파기 완료 - {}건", targets.size());
         return targets.size();
     }
@@ -82,41 +89,54 @@ public class PostPurgeService {
      * 자식부터 지운다 — FK 역순이다. 순서를 어기면 제약에 걸려 배치가 통째로 멈춘다.
      *
      * <p>{@code post_appeal}이 {@code post_suspension}을 참조하므로 이의 신청이 조치보다 먼저다.
+     *
+     * @return 지워야 할 이미지 객체 키 — 호출하는 쪽이 회차 전체를 모아 한꺼번에 지운다
      */
-    private void purgeOne(Post post) {
+    private List<String> purgeOne(Post post) {
         Long postId = post.getId();
 
+        List<String> objectKeys = new ArrayList<>();
         for (PostImage image : postImageRepository.findByPost_IdOrderBySortOrderAsc(postId)) {
-            deleteObjectSafely(image.getImageUrl());
-            deleteObjectSafely(image.getOriginalUrl());
+            addObjectKey(objectKeys, image.getImageUrl());
+            addObjectKey(objectKeys, image.getOriginalUrl());
         }
 
         postImageRepository.deleteAllByPostId(postId);
         postLikeRepository.deleteAllByPostId(postId);
         postImpressionRepository.deleteAllByPostId(postId);
+        postDailyStatRepository.deleteAllByPostId(postId);
+        postDailyViewerRepository.deleteAllByPostId(postId);
         postReportRepository.deleteAllByPostId(postId);
         postAppealRepository.deleteAllByPostId(postId);
         postSuspensionRepository.deleteAllByPostId(postId);
         postRepository.delete(post);
+        return objectKeys;
     }
 
-    /**
-     * S3 객체 삭제 실패가 배치를 멈추게 하지 않는다 — DB 행은 지우고 객체만 남는 쪽이,
-     * 파기가 통째로 멈춰 보관 기간이 지난 자료가 계속 남는 것보다 낫다. 실패는 로그로 추적한다.
-     */
-    private void deleteObjectSafely(String url) {
+    private static void addObjectKey(List<String> objectKeys, String url) {
         String key = toS3Key(url);
         if (key == null) {
             log.warn("파기 대상 이미지의 S3 키를 알 수 없어 건너뛴다 - url={}", url);
             return;
         }
-        try {
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket(s3Properties.getBucket())
-                    .key(key)
-                    .build());
-        } catch (Exception e) {
-            log.warn("게시물 이미지 객체 삭제 실패 - key={}", key, e);
+        objectKeys.add(key);
+    }
+
+    /**
+     * S3 객체 삭제 실패가 배치를 멈추게 하지 않는다 — DB 행은 지우고 객체만 남는 쪽이,
+     * 파기가 통째로 멈춰 보관 기간이 지난 자료가 계속 남는 것보다 낫다. 키별 실패는 일괄 삭제가 로그로 남긴다.
+     *
+     * <p>게시물마다 이미지 둘씩 따로 지우면 회차 하나가 수백 번 왕복한다. 회차의 키를 모아
+     * {@code DeleteObjects}로 지우면 천 개당 한 번이다.
+     */
+    private void deleteObjectsSafely(Set<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        Set<String> deleted = s3BatchDeleteService.deleteAll(objectKeys);
+        if (deleted.size() < objectKeys.size()) {
+            log.warn("게시물 이미지 객체 일부 삭제 실패 - {}건 중 {}건 남음", objectKeys.size(),
+                    objectKeys.size() - deleted.size());
         }
     }
 
@@ -0,0 +1,486 @@
+package showroomz.domain.post.timeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import showroomz.domain.common.SeekKey;
+import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.post.entity.Post;
+import showroomz.domain.post.repository.PostRepository;
+import showroomz.global.config.properties.PostProperties;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팔로잉 피드의 메모리 타임라인 — 사용자마다 팔로우한 쇼룸의 최근 게시물 id를 미리 최신순으로 들고 있는다.
+ *
+ * <p>예전 팔로잉 피드는 요청마다 팔로우한 쇼룸 id를 전부 읽고 {@code creator_id IN (...) ORDER BY published_at}을
+ * 돌렸다. 팔로잉이 수백 개면 쇼룸마다 인덱스 범위를 열어 합친 뒤 정렬하는 쿼리가 스크롤 한 번마다 나간다.
+ * 타임라인이 있으면 한 페이지가 PK 조회 한 번이다.
+ *
+ * <ul>
+ *   <li>밀어 넣기(push) — 게시({@link PostPublished})가 커밋되면 그 쇼룸 팔로워 중 <b>지금 타임라인이 올라와 있는
+ *       사용자</b>에게만 넣는다. 없는 사용자는 읽을 때 만든다.</li>
+ *   <li>끌어오기(pull) — 팔로워가 {@code post.timeline-pull-threshold}명 이상인 쇼룸은 넣지 않는다. 게시 한 번이
+ *       수만 개의 버퍼를 건드리는 대신, 그 쇼룸을 팔로우한 사용자가 읽을 때 그 쇼룸들만 따로 읽어 합친다. 이런
+ *       쇼룸은 적어서 합치는 쿼리의 IN 목록이 짧다.</li>
+ *   <li>만들기 — 첫 페이지마다 팔로우 목록과 쇼룸별 마지막 게시 시각을 한 번 읽는다. 팔로우가 바뀌었거나, 이
+ *       인스턴스가 모르는 게시(다른 인스턴스에서 올라온 것)가 있으면 DB에서 새로 채운다. 모르는 게시는 쇼룸마다
+ *       본 시각과 대조한다 — 전체에서 가장 늦은 시각 하나와 견주면, 이 인스턴스가 더 늦게 올린 다른 쇼룸의 게시에
+ *       가려 그보다 이른 다른 인스턴스의 게시를 놓친다. 다음 페이지들은 이 확인 없이 버퍼를 이어 읽는다.</li>
+ *   <li>넘침 — 버퍼보다 깊이 내려가면 남은 페이지는 예전처럼 DB에서 읽는다.</li>
+ * </ul>
+ *
+ * <p>버퍼에는 id만 있으니 게시물은 읽을 때 PK로 다시 읽고, 그 사이 노출 중지·삭제된 것은 그 조회의 상태 조건에서
+ * 빠진다. 빠진 만큼 버퍼를 더 읽어 페이지를 채운다.
+ *
+ * <p>지표: {@code feed.timeline.users}, {@code feed.timeline.memory} (버퍼가 잡은 바이트 어림값),
+ * {@code feed.timeline.pull_creators}, {@code feed.timeline.fanout} (게시 한 번의 팬아웃 시간, p50·p99),
+ * {@code feed.timeline.fanout.deliveries} (버퍼에 넣은 횟수), {@code feed.timeline.rebuilds},
+ * {@code feed.timeline.db_fallbacks} (버퍼가 모자라 DB에서 이어 읽은 횟수).
+ */
+@Slf4j
+@Component
+public class FollowingTimelines {
+
+    private static final long FROM_START = Long.MAX_VALUE;
+    /** 사용자 하나에 버퍼 밖으로 붙는 것 — 맵 항목, 객체 머리, 배열 머리 */
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final CreatorFollowRepository creatorFollowRepository;
+    private final PostRepository postRepository;
+    private final PostProperties postProperties;
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    /** 끌어오기 쇼룸 목록을 바꾸는 쪽(집계와 팬아웃)끼리의 잠금 — 읽기는 volatile 참조로 잠그지 않는다 */
+    private final Object pullCreatorsLock = new Object();
+    private final Timer fanOutTimer;
+    private final Counter deliveries;
+    private final Counter rebuilds;
+    private final Counter fallbacks;
+    private volatile Set<Long> pullCreators = Set.of();
+    private ScheduledExecutorService refresher;
+
+    /** 한 사용자의 버퍼와, 그 버퍼를 만들 때의 팔로우 목록 */
+    private static final class Timeline {
+
+        final TimelineRing ring;
+        /** 버퍼에 넣는 쇼룸과 읽을 때 합치는 쇼룸, 각각 오름차순 */
+        final long[] pushCreators;
+        final long[] pullCreators;
+        /**
+         * {@code pushCreators}와 같은 자리의 쇼룸마다 이 버퍼가 반영한 마지막 게시 시각(마이크로초, 게시가 없으면
+         * {@link Long#MIN_VALUE}) — DB의 마지막 게시 시각이 이보다 늦은 쇼룸이 있으면 그 게시를 놓친 것이다
+         */
+        final long[] seenPublishedAt;
+        volatile long lastReadMillis;
+
+        Timeline(TimelineRing ring, long[] pushCreators, long[] pullCreators, long[] seenPublishedAt) {
+            this.ring = ring;
+            this.pushCreators = pushCreators;
+            this.pullCreators = pullCreators;
+            this.seenPublishedAt = seenPublishedAt;
+            this.lastReadMillis = System.currentTimeMillis();
+        }
+
+        /** 팬아웃으로 받은 게시를 그 쇼룸의 본 시각에 반영한다. 만든 뒤 팔로우한 쇼룸이면 다음 대조가 다시 만든다 */
+        void saw(long creatorId, long time) {
+            int index = Arrays.binarySearch(pushCreators, creatorId);
+            if (index >= 0) {
+                seenPublishedAt[index] = Math.max(seenPublishedAt[index], time);
+            }
+        }
+
+        /** DB의 쇼룸별 마지막 게시 시각({@code pushCreators} 순서) 중 본 것보다 늦은 것이 있는지 */
+        boolean missedAny(long[] publishedAt) {
+            for (int i = 0; i < publishedAt.length; i++) {
+                if (publishedAt[i] > seenPublishedAt[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long estimatedBytes() {
+            return ENTRY_OVERHEAD_BYTES
+                    + 2L * Long.BYTES * ring.capacity()
+                    + (long) Long.BYTES * (2 * pushCreators.length + pullCreators.length);
+        }
+    }
+
+    public FollowingTimelines(CreatorFollowRepository creatorFollowRepository, PostRepository postRepository,
+                              PostProperties postProperties, MeterRegistry meterRegistry) {
+        this.creatorFollowRepository = creatorFollowRepository;
+        this.postRepository = postRepository;
+        this.postProperties = postProperties;
+        Gauge.builder("feed.timeline.users", timelines, Map::size)
+                .description("팔로잉 타임라인을 들고 있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("feed.timeline.memory", this, FollowingTimelines::estimatedBytes)
+                .description("팔로잉 타임라인이 잡고 있는 힙 어림값")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("feed.timeline.pull_creators", this, store -> store.pullCreators.size())
+                .description("읽을 때 합치는(팔로워가 많은) 쇼룸 수")
+                .register(meterRegistry);
+        this.fanOutTimer = Timer.builder("feed.timeline.fanout")
+                .description("게시 한 번을 팔로워 타임라인에 넣는 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.deliveries = Counter.builder("feed.timeline.fanout.deliveries")
+                .description("팬아웃이 타임라인에 게시물을 넣은 횟수")
+                .register(meterRegistry);
+        this.rebuilds = Counter.builder("feed.timeline.rebuilds")
+                .description("타임라인을 DB에서 새로 채운 횟수")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("feed.timeline.db_fallbacks")
+                .description("타임라인보다 깊은 페이지를 DB에서 읽은 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        refreshPullCreatorsQuietly();
+        long interval = postProperties.getTimelinePullRefreshIntervalMillis();
+        if (interval <= 0) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timeline-pull-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshPullCreatorsQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 팔로우한 쇼룸의 게시중 게시물을 (게시 시각, id) 내림차순으로 {@code after} 다음부터 {@code size}개. 팔로잉이
+     * 없으면 빈 조각이다. 골라지는 게시물과 순서는 {@link PostRepository#findDisplayedPostsByCreatorIds}와 같다.
+     */
+    public Slice<Post> page(long userId, SeekKey after, int size) {
+        if (postProperties.getTimelineMaxUsers() <= 0) {
+            List<Long> followed = creatorFollowRepository.findCreatorIdsByUserId(userId);
+            return followed.isEmpty()
+                    ? emptySlice(size)
+                    : postRepository.findDisplayedPostsByCreatorIds(followed, after, size);
+        }
+
+        Timeline timeline = timelines.get(userId);
+        // 다음 페이지는 만들 때의 팔로우 목록으로 이어 읽는다 — 스크롤 도중 바뀐 팔로우는 새로고침에서 반영된다
+        if (after == null || timeline == null) {
+            timeline = current(userId, timeline);
+            if (timeline == null) {
+                return emptySlice(size);
+            }
+        }
+        timeline.lastReadMillis = System.currentTimeMillis();
+
+        int wanted = size + 1;
+        List<Post> posts = readPushed(timeline, after, wanted);
+        if (timeline.pullCreators.length > 0) {
+            List<Post> pulled = postRepository.findDisplayedPostsByCreatorIds(
+                    boxed(timeline.pullCreators), after, wanted).getContent();
+            posts = merge(posts, pulled, wanted);
+        }
+
+        boolean hasNext = posts.size() > size;
+        return new SliceImpl<>(hasNext ? posts.subList(0, size) : posts, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * 게시가 커밋됐다 — 팔로워 수가 기준 아래면 올라와 있는 팔로워 타임라인에 넣고, 기준 이상이면 그 쇼룸을 읽을 때
+     * 합치는 쪽으로 옮긴다. 실패해도 게시는 이미 커밋됐으므로 삼킨다 — 놓친 게시는 다음 첫 페이지의 게시 시각
+     * 확인에서 다시 채워진다.
+     */
+    @TransactionalEventListener
+    public void onPublished(PostPublished event) {
+        if (postProperties.getTimelineMaxUsers() <= 0 || timelines.isEmpty()
+                || pullCreators.contains(event.creatorId())) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            fanOut(event);
+        } catch (RuntimeException e) {
+            log.warn("팔로잉 타임라인 팬아웃 실패 - postId: {}", event.postId(), e);
+        } finally {
+            fanOutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 테스트가 사용자 id를 다시 쓰기 전에 비운다 */
+    public void clear() {
+        timelines.clear();
+    }
+
+    public int size() {
+        return timelines.size();
+    }
+
+    long estimatedBytes() {
+        long bytes = 0;
+        for (Timeline timeline : timelines.values()) {
+            bytes += timeline.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    Set<Long> pullCreators() {
+        return pullCreators;
+    }
+
+    void refreshPullCreators() {
+        Set<Long> refreshed = Set.copyOf(creatorFollowRepository.findCreatorIdsWithFollowersAtLeast(
+                postProperties.getTimelinePullThreshold()));
+        // 빠지거나 새로 든 쇼룸이 있으면 해당 사용자의 다음 첫 페이지가 팔로우 목록 대조에서 다시 만든다
+        synchronized (pullCreatorsLock) {
+            pullCreators = refreshed;
+        }
+    }
+
+    private void refreshPullCreatorsQuietly() {
+        try {
+            refreshPullCreators();
+        } catch (RuntimeException e) {
+            log.warn("팔로잉 타임라인 끌어오기 쇼룸 집계 실패 — 이전 목록을 유지한다", e);
+        }
+    }
+
+    private void fanOut(PostPublished event) {
+        long creatorId = event.creatorId();
+        if (creatorFollowRepository.countByCreator_Id(creatorId) >= postProperties.getTimelinePullThreshold()) {
+            // 복사해 바꿔 끼우는 사이 다른 팬아웃이나 집계가 끼면 한쪽이 지워진다
+            synchronized (pullCreatorsLock) {
+                Set<Long> grown = new HashSet<>(pullCreators);
+                grown.add(creatorId);
+                pullCreators = Set.copyOf(grown);
+            }
+            return;
+        }
+        long time = micros(event.publishedAt());
+        for (Long followerId : creatorFollowRepository.findFollowerIdsByCreatorId(creatorId)) {
+            Timeline timeline = timelines.get(followerId);
+            if (timeline == null) {
+                continue;
+            }
+            synchronized (timeline) {
+                if (timeline.ring.offer(time, event.postId())) {
+                    deliveries.increment();
+                }
+                timeline.saw(creatorId, time);
+            }
+        }
+    }
+
+    /**
+     * 첫 페이지의 확인 — 팔로우 목록과 쇼룸별 마지막 게시 시각을 읽어, 들고 있던 타임라인이 아직 맞으면 그대로,
+     * 아니면 새로 만든다. 팔로잉이 없으면 null.
+     */
+    private Timeline current(long userId, Timeline resident) {
+        List<Object[]> follows = creatorFollowRepository.findFollowedCreatorPublishTimes(userId);
+        if (follows.isEmpty()) {
+            timelines.remove(userId);
+            return null;
+        }
+
+        // 쇼룸 id 순으로 나눠 담아 밀어 넣는 쇼룸과 그 게시 시각이 같은 자리에 오게 한다
+        List<Object[]> sorted = new ArrayList<>(follows);
+        sorted.sort(Comparator.comparingLong(row -> (Long) row[0]));
+        Set<Long> pull = pullCreators;
+        long[] pushed = new long[sorted.size()];
+        long[] publishedAt = new long[sorted.size()];
+        long[] pulled = new long[sorted.size()];
+        int pushCount = 0;
+        int pullCount = 0;
+        for (Object[] row : sorted) {
+            long creatorId = (Long) row[0];
+            if (pull.contains(creatorId)) {
+                pulled[pullCount++] = creatorId;
+                continue;
+            }
+            publishedAt[pushCount] = row[1] == null ? Long.MIN_VALUE : micros((LocalDateTime) row[1]);
+            pushed[pushCount++] = creatorId;
+        }
+        pushed = Arrays.copyOf(pushed, pushCount);
+        publishedAt = Arrays.copyOf(publishedAt, pushCount);
+        pulled = Arrays.copyOf(pulled, pullCount);
+
+        if (resident != null && Arrays.equals(resident.pushCreators, pushed)
+                && Arrays.equals(resident.pullCreators, pulled)) {
+            synchronized (resident) {
+                if (!resident.missedAny(publishedAt)) {
+                    return resident;
+                }
+            }
+        }
+        return build(userId, pushed, pulled, publishedAt);
+    }
+
+    /**
+     * 본 시각은 버퍼를 채우는 쿼리보다 먼저 읽은 값이다. 그 사이에 올라온 게시는 버퍼에는 들어가도 본 시각에는 없어
+     * 다음 대조에서 한 번 더 만들 뿐, 놓치지는 않는다.
+     */
+    private Timeline build(long userId, long[] pushed, long[] pulled, long[] publishedAt) {
+        rebuilds.increment();
+        int capacity = postProperties.getTimelineCapacity();
+        TimelineRing ring = new TimelineRing(capacity);
+        if (pushed.length > 0) {
+            // 한 개 더 읽어 버퍼 밖에 더 있는지를 버퍼가 알게 한다
+            for (SeekKey key : postRepository.findDisplayedPostKeysByCreatorIds(boxed(pushed), capacity + 1)) {
+                ring.offer(micros(key.at()), key.id());
+            }
+        }
+        Timeline timeline = new Timeline(ring, pushed, pulled, publishedAt);
+        timelines.put(userId, timeline);
+        evictIfFull(userId);
+        return timeline;
+    }
+
+    /**
+     * 넘치면 가장 오래 읽지 않은 사용자부터 내려 상한의 9/10까지 줄인다 — 넣을 때마다 줄 세우지 않도록 한꺼번에
+     * 내린다. 방금 만든 사용자는 남긴다.
+     */
+    private void evictIfFull(long keptUserId) {
+        int maxUsers = postProperties.getTimelineMaxUsers();
+        if (timelines.size() <= maxUsers) {
+            return;
+        }
+        synchronized (evictionLock) {
+            int target = Math.max(1, maxUsers - maxUsers / 10);
+            List<Entry<Long, Timeline>> entries = new ArrayList<>(timelines.entrySet());
+            if (entries.size() <= maxUsers) {
+                return;
+            }
+            entries.sort((a, b) -> Long.compare(a.getValue().lastReadMillis, b.getValue().lastReadMillis));
+            int evicting = entries.size() - target;
+            for (int i = 0; i < entries.size() && evicting > 0; i++) {
+                Entry<Long, Timeline> entry = entries.get(i);
+                if (entry.getKey() != keptUserId && timelines.remove(entry.getKey(), entry.getValue())) {
+                    evicting--;
+                }
+            }
+        }
+    }
+
+    /**
+     * 버퍼에서 {@code after} 다음 게시물을 {@code wanted}개까지. 내려간 게시물로 모자라면 버퍼를 더 읽고, 버퍼가
+     * 끝났는데 그보다 오래된 게시물이 남아 있을 수 있으면 DB에서 이어 읽는다.
+     */
+    private List<Post> readPushed(Timeline timeline, SeekKey after, int wanted) {
+        List<Post> found = new ArrayList<>(wanted);
+        long[] times = new long[wanted];
+        long[] ids = new long[wanted];
+        long fromTime = after == null ? FROM_START : micros(after.at());
+        long fromId = after == null ? FROM_START : after.id();
+
+        while (found.size() < wanted) {
+            int count;
+            boolean truncated;
+            synchronized (timeline) {
+                count = timeline.ring.olderThan(fromTime, fromId, times, ids, wanted - found.size());
+                truncated = timeline.ring.isTruncated();
+            }
+            if (count == 0) {
+                if (truncated) {
+                    fallbacks.increment();
+                    SeekKey from = fromTime == FROM_START ? null : SeekKey.of(fromMicros(fromTime), fromId);
+                    found.addAll(postRepository.findDisplayedPostsByCreatorIds(
+                            boxed(timeline.pushCreators), from, wanted - found.size()).getContent());
+                }
+                break;
+            }
+
+            List<Long> batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(ids[i]);
+            }
+            Map<Long, Post> loaded = new HashMap<>();
+            for (Post post : postRepository.findDisplayedPostsByIds(batch)) {
+                loaded.put(post.getId(), post);
+            }
+            for (Long id : batch) {
+                Post post = loaded.get(id);
+                if (post != null) {
+                    found.add(post);
+                }
+            }
+            fromTime = times[count - 1];
+            fromId = ids[count - 1];
+        }
+        return found;
+    }
+
+    /** 둘 다 최신순인 목록을 합친다. 쇼룸이 두 쪽을 오간 직후에는 같은 게시물이 양쪽에 있을 수 있어 한 번만 싣는다 */
+    private static List<Post> merge(List<Post> pushed, List<Post> pulled, int limit) {
+        List<Post> merged = new ArrayList<>(Math.min(limit, pushed.size() + pulled.size()));
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < pushed.size() || j < pulled.size())) {
+            Post next;
+            if (j >= pulled.size() || (i < pushed.size() && newer(pushed.get(i), pulled.get(j)))) {
+                next = pushed.get(i++);
+            } else {
+                next = pulled.get(j++);
+            }
+            if (seen.add(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean newer(Post a, Post b) {
+        int byTime = a.getPublishedAt().compareTo(b.getPublishedAt());
+        return byTime != 0 ? byTime > 0 : a.getId() > b.getId();
+    }
+
+    private static Slice<Post> emptySlice(int size) {
+        return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+    }
+
+    private static List<Long> boxed(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    /** DB 컬럼과 같은 마이크로초 정밀도 — 그보다 잘게 비교하면 DB와 순서가 어긋난다 */
+    static long micros(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + at.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
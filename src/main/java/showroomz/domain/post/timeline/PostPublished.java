@@ -0,0 +1,11 @@
+package showroomz.domain.post.timeline;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물이 처음 게시됐다 — 팔로워의 팔로잉 타임라인에 밀어 넣을 때가 됐다. 커밋 뒤에 반영한다
+ * ({@link FollowingTimelines#onPublished}). 노출 중지 해제처럼 게시 시각이 그대로인 복귀는 내지 않는다 —
+ * 타임라인이 들고 있던 id를 읽을 때 상태로 다시 거르므로 빠진 적이 없다.
+ */
+public record PostPublished(long postId, long creatorId, LocalDateTime publishedAt) {
+}
@@ -0,0 +1,123 @@
+package showroomz.domain.post.timeline;
+
+import java.util.Arrays;
+
+/**
+ * 한 사용자의 팔로잉 타임라인 — 최근 게시물의 (게시 시각, id)를 최신순으로 {@code capacity}개까지 든 원형 버퍼.
+ *
+ * <p>게시물 하나가 두 개의 {@code long}이다. {@code List<SeekKey>}로 들면 항목마다 레코드와 시각·박싱 객체가 붙어
+ * 같은 수의 사용자를 담는 데 힙이 네댓 배 든다. 시각은 에포크 마이크로초로 줄였다 — DB 컬럼 정밀도와 같아서
+ * DB가 매기는 순서와 어긋나지 않는다.
+ *
+ * <p>새 게시물은 대개 맨 앞에 붙으므로 시작 칸만 한 칸 당긴다. 늦게 도착한 팬아웃(다른 게시물보다 먼저 게시됐지만
+ * 나중에 커밋된 것)은 제자리를 찾아 끼운다. 꽉 찼으면 가장 오래된 항목을 버리고 {@code truncated}를 켠다 — 그
+ * 뒤로는 이 버퍼가 끝났다고 목록도 끝난 것이 아니므로 호출자가 DB에서 이어 읽는다.
+ *
+ * <p>동기화는 하지 않는다 — {@link FollowingTimelines}가 버퍼마다 잠그고 쓴다.
+ */
+final class TimelineRing {
+
+    private final long[] times;
+    private final long[] ids;
+    private int head;
+    private int size;
+    private boolean truncated;
+
+    TimelineRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.times = new long[capacity];
+        this.ids = new long[capacity];
+    }
+
+    /**
+     * 게시물을 순서에 맞춰 넣는다. 이미 든 게시물이거나, 꽉 찬 버퍼의 어느 항목보다도 오래돼 들어갈 자리가 없으면
+     * false다.
+     */
+    boolean offer(long time, long id) {
+        int position = firstOlderThan(time, id);
+        if (position > 0 && times[slot(position - 1)] == time && ids[slot(position - 1)] == id) {
+            return false;
+        }
+        if (size == times.length) {
+            truncated = true;
+            if (position == size) {
+                return false;
+            }
+            size--;
+        }
+        if (position == 0) {
+            head = slot(times.length - 1);
+        } else {
+            for (int i = size; i > position; i--) {
+                times[slot(i)] = times[slot(i - 1)];
+                ids[slot(i)] = ids[slot(i - 1)];
+            }
+        }
+        times[slot(position)] = time;
+        ids[slot(position)] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * (time, id)보다 오래된 항목을 최신순으로 {@code max}개까지 적고 적은 개수를 돌려준다. 처음부터 읽으려면
+     * {@link Long#MAX_VALUE}를 두 번 넘긴다.
+     */
+    int olderThan(long time, long id, long[] outTimes, long[] outIds, int max) {
+        int from = firstOlderThan(time, id);
+        int count = Math.min(max, size - from);
+        for (int i = 0; i < count; i++) {
+            outTimes[i] = times[slot(from + i)];
+            outIds[i] = ids[slot(from + i)];
+        }
+        return count;
+    }
+
+    /** 가장 최근 항목의 시각. 비어 있으면 {@link Long#MIN_VALUE} */
+    long newestTime() {
+        return size == 0 ? Long.MIN_VALUE : times[head];
+    }
+
+    /** 버퍼보다 오래된 게시물이 더 있을 수 있는지 — 넘쳐서 버린 적이 있으면 true */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return times.length;
+    }
+
+    /** 테스트용 — 최신순 id */
+    long[] ids() {
+        long[] copy = new long[size];
+        Arrays.setAll(copy, i -> ids[slot(i)]);
+        return copy;
+    }
+
+    /** 최신순으로 (time, id)보다 오래된 첫 항목의 순번. 없으면 {@code size} — 이진 탐색이다 */
+    private int firstOlderThan(long time, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int at = slot(mid);
+            boolean older = times[at] < time || (times[at] == time && ids[at] < id);
+            if (older) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private int slot(int position) {
+        return (head + position) % times.length;
+    }
+}
@@ -10,6 +10,7 @@ import showroomz.domain.product.type.ProductDisplayStatus;
 import showroomz.domain.product.type.ProductGender;
 import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.domain.product.type.ProductHideReasonType;
+import showroomz.domain.search.SearchDocumentListener;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Table(name = "product")
+@EntityListeners(SearchDocumentListener.class)
 public class Product {
 
     @Id
@@ -4,12 +4,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import showroomz.domain.market.entity.Market;
 import showroomz.domain.product.entity.Product;
 import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductHideReasonType;
 
 import java.time.Instant;
 import java.util.Collection;
@@ -158,5 +160,81 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
             Pageable pageable
     );
 
-}
 
+    /**
+     * 일괄 상태 전이가 읽는 상품 한 줄 — 소유 확인과 처리 이력에 필요한 컬럼만 담는다.
+     * 엔티티를 올리지 않아야 뒤따르는 벌크 UPDATE와 영속성 컨텍스트가 어긋나지 않는다.
+     */
+    interface StatusRow {
+        Long getProductId();
+        Long getMarketId();
+        ProductDisplayStatus getDisplayStatus();
+        ProductDisplayStatus getPreviousDisplayStatus();
+        ProductHideReasonType getHideReasonType();
+        String getHideDetail();
+    }
+
+    @Query("SELECT p.productId AS productId, p.market.id AS marketId, p.displayStatus AS displayStatus, " +
+           "p.previousDisplayStatus AS previousDisplayStatus, p.hideReasonType AS hideReasonType, " +
+           "p.hideDetail AS hideDetail " +
+           "FROM Product p WHERE p.productId IN :productIds ORDER BY p.productId")
+    List<StatusRow> findStatusRowsByIds(@Param("productIds") Collection<Long> productIds);
+
+    /** 마켓 상품을 PK 순서로 {@code afterId} 다음부터 끊어 읽는다 — 페이지 크기는 {@code pageable}로 준다. */
+    @Query("SELECT p.productId AS productId, p.market.id AS marketId, p.displayStatus AS displayStatus, " +
+           "p.previousDisplayStatus AS previousDisplayStatus, p.hideReasonType AS hideReasonType, " +
+           "p.hideDetail AS hideDetail " +
+           "FROM Product p WHERE p.market.id = :marketId AND p.productId > :afterId ORDER BY p.productId")
+    List<StatusRow> findStatusRowsByMarketId(@Param("marketId") Long marketId,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    /**
+     * 마켓 정지 — 현재 진열 상태를 백업하고 미진열로 돌린다. 이미 백업이 있으면(정지 중 다른 상태를 거쳐
+     * 다시 정지된 경우) 원래 값을 덮어쓰지 않는다. MySQL은 SET을 왼쪽부터 적용하므로 백업이 먼저 와야 한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p " +
+           "SET p.previousDisplayStatus = COALESCE(p.previousDisplayStatus, p.displayStatus), " +
+           "p.displayStatus = showroomz.domain.product.type.ProductDisplayStatus.HIDDEN, " +
+           "p.modifiedAt = :now " +
+           "WHERE p.productId IN :productIds")
+    int suspendDisplayStatus(@Param("productIds") Collection<Long> productIds, @Param("now") Instant now);
+
+    /** 마켓 재활성 — 백업한 진열 상태로 되돌리고 백업을 비운다. 백업이 없으면 진열로 둔다. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p " +
+           "SET p.displayStatus = COALESCE(p.previousDisplayStatus, " +
+           "showroomz.domain.product.type.ProductDisplayStatus.DISPLAY), " +
+           "p.previousDisplayStatus = NULL, " +
+           "p.modifiedAt = :now " +
+           "WHERE p.productId IN :productIds")
+    int restoreDisplayStatus(@Param("productIds") Collection<Long> productIds, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.displayStatus = :displayStatus, p.hideReasonType = :hideReasonType, " +
+           "p.hideDetail = NULL, p.modifiedAt = :now WHERE p.productId IN :productIds")
+    int updateDisplayStatusWithHideReason(@Param("productIds") Collection<Long> productIds,
+                                          @Param("displayStatus") ProductDisplayStatus displayStatus,
+                                          @Param("hideReasonType") ProductHideReasonType hideReasonType,
+                                          @Param("now") Instant now);
+
+    /** 재검토 대기 전환은 미진열 사유를 그대로 둔다 — 검토자가 원래 사유를 봐야 한다. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.displayStatus = :displayStatus, p.modifiedAt = :now " +
+           "WHERE p.productId IN :productIds")
+    int updateDisplayStatus(@Param("productIds") Collection<Long> productIds,
+                            @Param("displayStatus") ProductDisplayStatus displayStatus,
+                            @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.isOutOfStockForced = :forced, p.modifiedAt = :now " +
+           "WHERE p.productId IN :productIds")
+    int updateOutOfStockForced(@Param("productIds") Collection<Long> productIds,
+                               @Param("forced") boolean forced,
+                               @Param("now") Instant now);
+
+    /** 상품 전체를 id 순으로 나눠 훑는 배치용 — OFFSET 없이 마지막 id 다음부터 읽는다 */
+    @Query("SELECT p.productId FROM Product p WHERE p.productId > :afterId ORDER BY p.productId")
+    List<Long> findProductIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
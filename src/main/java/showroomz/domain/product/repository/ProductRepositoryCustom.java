@@ -7,6 +7,7 @@ import showroomz.domain.product.type.ProductDisplayStatus;
 import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.domain.product.type.ProductListSortType;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepositoryCustom {
@@ -19,6 +20,19 @@ public interface ProductRepositoryCustom {
             Pageable pageable
     );
 
+    /**
+     * 키워드 대신 이미 정한 후보 id 안에서 찾는다 — 키워드 색인이 후보를 낸 경우다. 진열 여부와 나머지 조건은
+     * 여기서 다시 본다. 색인이 놓친 진열 중단을 DB가 거르기 위해서다.
+     */
+    Page<Product> searchProductsForUserIn(
+            Collection<Long> productIds,
+            List<Long> categoryIds,
+            Long marketId,
+            List<ProductFilterCriteria> filters,
+            String sortType,
+            Pageable pageable
+    );
+
     /**
      * 특정 마켓의 인기 상품 상위 N개 조회
      * - wishCount(Wishlist 수) DESC, createdAt DESC
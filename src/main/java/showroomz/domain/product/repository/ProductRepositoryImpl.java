@@ -4,6 +4,7 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -23,6 +24,7 @@ import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.domain.product.type.ProductListSortType;
 import showroomz.domain.wishlist.entitiy.QWishlist;
 
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -38,6 +40,34 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
             List<ProductFilterCriteria> filters,
             String sortType,
             Pageable pageable
+    ) {
+        QProduct product = QProduct.product;
+        Predicate match = keyword != null && !keyword.isBlank()
+                ? product.name.containsIgnoreCase(keyword).or(product.market.marketName.containsIgnoreCase(keyword))
+                : null;
+        return searchForUser(match, categoryIds, marketId, filters, sortType, pageable);
+    }
+
+    @Override
+    public Page<Product> searchProductsForUserIn(
+            Collection<Long> productIds,
+            List<Long> categoryIds,
+            Long marketId,
+            List<ProductFilterCriteria> filters,
+            String sortType,
+            Pageable pageable
+    ) {
+        return searchForUser(QProduct.product.productId.in(productIds),
+                categoryIds, marketId, filters, sortType, pageable);
+    }
+
+    private Page<Product> searchForUser(
+            Predicate match,
+            List<Long> categoryIds,
+            Long marketId,
+            List<ProductFilterCriteria> filters,
+            String sortType,
+            Pageable pageable
     ) {
         QProduct product = QProduct.product;
         QProductOptionGroup optionGroup = QProductOptionGroup.productOptionGroup;
@@ -45,13 +75,7 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
         BooleanBuilder where = new BooleanBuilder();
         where.and(product.displayStatus.eq(ProductDisplayStatus.DISPLAY));
-
-        if (keyword != null && !keyword.isBlank()) {
-            where.and(
-                    product.name.containsIgnoreCase(keyword)
-                            .or(product.market.marketName.containsIgnoreCase(keyword))
-            );
-        }
+        where.and(match);
 
         if (categoryIds != null && !categoryIds.isEmpty()) {
             where.and(product.category.categoryId.in(categoryIds));
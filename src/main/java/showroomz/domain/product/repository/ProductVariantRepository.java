@@ -1,13 +1,16 @@
 package showroomz.domain.product.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import showroomz.domain.product.entity.ProductVariant;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProductVariantRepository extends JpaRepository<ProductVariant, Long> {
@@ -33,4 +36,32 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
     @Query("SELECT v.product.productId, COALESCE(SUM(v.stock), 0) FROM ProductVariant v " +
            "WHERE v.product.productId IN :productIds GROUP BY v.product.productId")
     List<Object[]> sumStockByProductIds(@Param("productIds") List<Long> productIds);
+
+    /**
+     * 재고가 남은 옵션이 하나라도 있는 상품 ID 일괄 조회 (Batch Fetching)
+     * - 목록 카드의 품절 판정용. 옵션 컬렉션을 상품마다 지연 로딩하지 않는다.
+     */
+    @Query("SELECT DISTINCT v.product.productId FROM ProductVariant v " +
+           "WHERE v.product.productId IN :productIds AND v.stock > 0")
+    Set<Long> findProductIdsInStockByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /** 재고 예약용 — 주문 상품에 상품명·대표 이미지를 옮겨 적으므로 상품까지 함께 읽는다 */
+    @Query("SELECT v FROM ProductVariant v JOIN FETCH v.product WHERE v.variantId IN :variantIds")
+    List<ProductVariant> findAllWithProductByVariantIdIn(@Param("variantIds") Collection<Long> variantIds);
+
+    /**
+     * 남은 재고가 {@code quantity} 이상일 때만 뺀다. 판정과 차감이 한 문장이라 동시에 들어온 주문이 같은 재고를
+     * 두 번 가져가지 않는다.
+     *
+     * @return 뺐으면 1, 모자라면 0
+     */
+    @Modifying
+    @Query("UPDATE ProductVariant v SET v.stock = v.stock - :quantity "
+            + "WHERE v.variantId = :variantId AND v.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("variantId") Long variantId, @Param("quantity") int quantity);
+
+    /** 취소·만료된 재고 예약을 되돌린다 — 읽고 더하지 않고 문장 안에서 더한다 */
+    @Modifying
+    @Query("UPDATE ProductVariant v SET v.stock = v.stock + :quantity WHERE v.variantId = :variantId")
+    int increaseStock(@Param("variantId") Long variantId, @Param("quantity") int quantity);
 }
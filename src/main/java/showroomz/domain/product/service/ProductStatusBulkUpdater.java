@@ -0,0 +1,238 @@
+package showroomz.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductHideReasonType;
+import showroomz.domain.product.type.ProductProcessingHistoryType;
+import showroomz.domain.search.SearchDocumentChanged;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 진열·품절 상태를 집합 단위로 바꾸는 일괄 전이.
+ *
+ * <p>예전 경로는 상품을 전부 엔티티로 올려 하나씩 고치고, 더티 체킹이 상품 수만큼 UPDATE를, 이력이 상품 수만큼
+ * INSERT를 보냈다. 상품이 수천 개인 마켓을 정지하면 한 트랜잭션이 그 문장 수만큼 왕복한다. 여기서는 상품을
+ * PK 순서로 {@value #CHUNK_SIZE}개씩 끊어 읽고, 조각마다 벌크 UPDATE 한 번과 이력 다중 행 INSERT 한 번으로 끝낸다.
+ *
+ * <p>벌크 UPDATE는 영속성 컨텍스트를 거치지 않는다. 호출자는 같은 트랜잭션에서 대상 상품을 엔티티로 올려 두지
+ * 않아야 한다(올려 둔 엔티티는 옛 값을 들고 있게 된다). 같은 이유로 {@code modified_at}도 문장에서 직접 갱신한다.
+ *
+ * <p>이력은 읽어 둔 조각의 변경 전 값으로 만든다. 진열 상태가 실제로 바뀐 상품만 남긴다 — 이미 미진열인 상품을
+ * 정지해도 "미진열 → 미진열" 이력은 쓰지 않는다.
+ *
+ * <p>벌크 UPDATE는 엔티티 콜백도 부르지 않으므로 키워드 검색 색인에는 진열 여부가 바뀐 id를 직접 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStatusBulkUpdater {
+
+    static final int CHUNK_SIZE = 500;
+
+    /** 마켓 정지로 숨긴 상품의 이력 사유 — 판매자 요청이 아니라 운영 조치임을 남긴다 */
+    static final String MARKET_SUSPENDED_DETAIL = "마켓 이용 정지";
+
+    private static final String INSERT_HISTORY_PREFIX =
+            "INSERT INTO product_processing_history (product_id, history_type, previous_display_status, "
+                    + "new_display_status, hide_reason_type, hide_detail, created_at) VALUES ";
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param matched 대상으로 읽은 상품 수
+     * @param changed 진열(또는 품절) 상태가 실제로 바뀐 상품 수
+     */
+    public record Result(int matched, int changed) {
+
+        static final Result EMPTY = new Result(0, 0);
+
+        Result plus(Result other) {
+            return new Result(matched + other.matched, changed + other.changed);
+        }
+    }
+
+    /** 마켓 정지 — 마켓의 모든 상품을 미진열로 돌리고 원래 진열 상태를 백업한다. */
+    @Transactional
+    public Result suspendMarket(Long marketId) {
+        return forEachChunkOfMarket(marketId, rows -> {
+            Instant now = Instant.now();
+            Collection<Long> ids = idsOf(rows);
+            productRepository.suspendDisplayStatus(ids, now);
+            eventPublisher.publishEvent(new SearchDocumentChanged.ProductsDisplayChanged(ids, false));
+            List<HistoryRow> histories = new ArrayList<>();
+            for (ProductRepository.StatusRow row : rows) {
+                if (row.getDisplayStatus() != ProductDisplayStatus.HIDDEN) {
+                    histories.add(new HistoryRow(row.getProductId(), row.getDisplayStatus(),
+                            ProductDisplayStatus.HIDDEN, ProductHideReasonType.OTHER, MARKET_SUSPENDED_DETAIL));
+                }
+            }
+            insertHistories(histories, now);
+            return new Result(rows.size(), histories.size());
+        });
+    }
+
+    /** 마켓 재활성 — 백업해 둔 진열 상태로 되돌린다. 백업이 없는 상품은 진열로 둔다. */
+    @Transactional
+    public Result restoreMarket(Long marketId) {
+        return forEachChunkOfMarket(marketId, rows -> {
+            Instant now = Instant.now();
+            productRepository.restoreDisplayStatus(idsOf(rows), now);
+            List<HistoryRow> histories = new ArrayList<>();
+            List<Long> redisplayed = new ArrayList<>();
+            for (ProductRepository.StatusRow row : rows) {
+                ProductDisplayStatus restored = row.getPreviousDisplayStatus() != null
+                        ? row.getPreviousDisplayStatus()
+                        : ProductDisplayStatus.DISPLAY;
+                if (restored != row.getDisplayStatus()) {
+                    histories.add(transition(row, restored));
+                }
+                if (restored == ProductDisplayStatus.DISPLAY) {
+                    redisplayed.add(row.getProductId());
+                }
+            }
+            eventPublisher.publishEvent(new SearchDocumentChanged.ProductsDisplayChanged(redisplayed, true));
+            insertHistories(histories, now);
+            return new Result(rows.size(), histories.size());
+        });
+    }
+
+    /**
+     * 판매자 일괄 진열 상태 변경. 단건 수정과 같은 규칙이다 — 미진열·미진열 요청은 판매자 요청 사유를 달고,
+     * 진열은 사유를 지우고, 재검토 대기는 사유를 그대로 둔다. 이미 그 상태인 상품은 건드리지 않는다.
+     *
+     * @param rows 호출자가 소유를 확인하며 읽은 상품 — 다시 읽지 않는다
+     */
+    @Transactional
+    public Result changeDisplayStatus(List<ProductRepository.StatusRow> rows, ProductDisplayStatus next) {
+        if (next == null) {
+            return new Result(rows.size(), 0);
+        }
+        List<ProductRepository.StatusRow> targets = rows.stream()
+                .filter(row -> row.getDisplayStatus() != next)
+                .toList();
+        for (List<ProductRepository.StatusRow> chunk : chunks(targets)) {
+            Instant now = Instant.now();
+            Collection<Long> ids = idsOf(chunk);
+            switch (next) {
+                case HIDDEN, HIDE_REQUEST ->
+                        productRepository.updateDisplayStatusWithHideReason(ids, next,
+                                ProductHideReasonType.BRAND_REQUEST, now);
+                case DISPLAY -> productRepository.updateDisplayStatusWithHideReason(ids, next, null, now);
+                case PENDING_REVIEW -> productRepository.updateDisplayStatus(ids, next, now);
+            }
+            insertHistories(chunk.stream().map(row -> transition(row, next)).toList(), now);
+            eventPublisher.publishEvent(new SearchDocumentChanged.ProductsDisplayChanged(ids,
+                    next == ProductDisplayStatus.DISPLAY));
+        }
+        return new Result(rows.size(), targets.size());
+    }
+
+    /** 판매자 일괄 품절 지정·해제. 처리 이력 대상이 아니다(단건 경로도 남기지 않는다). */
+    @Transactional
+    public Result changeOutOfStockForced(Collection<Long> productIds, boolean forced) {
+        Result result = Result.EMPTY;
+        for (List<Long> chunk : chunks(List.copyOf(productIds))) {
+            int changed = productRepository.updateOutOfStockForced(chunk, forced, Instant.now());
+            result = result.plus(new Result(chunk.size(), changed));
+        }
+        return result;
+    }
+
+    private Result forEachChunkOfMarket(Long marketId,
+                                        Function<List<ProductRepository.StatusRow>, Result> work) {
+        Result result = Result.EMPTY;
+        long afterId = 0L;
+        while (true) {
+            List<ProductRepository.StatusRow> rows = productRepository.findStatusRowsByMarketId(
+                    marketId, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                return result;
+            }
+            result = result.plus(work.apply(rows));
+            if (rows.size() < CHUNK_SIZE) {
+                return result;
+            }
+            afterId = rows.get(rows.size() - 1).getProductId();
+        }
+    }
+
+    /**
+     * 판매자·운영 전이의 이력 유형은 도착 상태로 정해진다. 재검토 대기는 단건 경로처럼 상품의 미진열 사유를
+     * 이력에 옮겨 적고, 미진열·미진열 요청은 판매자 요청 사유를 적는다.
+     */
+    private static HistoryRow transition(ProductRepository.StatusRow row, ProductDisplayStatus next) {
+        return switch (next) {
+            case HIDDEN, HIDE_REQUEST -> new HistoryRow(row.getProductId(), row.getDisplayStatus(), next,
+                    ProductHideReasonType.BRAND_REQUEST, null);
+            case DISPLAY -> new HistoryRow(row.getProductId(), row.getDisplayStatus(), next, null, null);
+            case PENDING_REVIEW -> new HistoryRow(row.getProductId(), row.getDisplayStatus(), next,
+                    row.getHideReasonType(), row.getHideDetail());
+        };
+    }
+
+    private record HistoryRow(Long productId, ProductDisplayStatus previous, ProductDisplayStatus next,
+                              ProductHideReasonType hideReasonType, String hideDetail) {
+
+        ProductProcessingHistoryType type() {
+            return switch (next) {
+                case HIDDEN -> ProductProcessingHistoryType.HIDDEN;
+                case DISPLAY -> ProductProcessingHistoryType.REDISPLAYED;
+                case HIDE_REQUEST -> ProductProcessingHistoryType.HIDE_REQUESTED;
+                case PENDING_REVIEW -> ProductProcessingHistoryType.PENDING_REVIEW;
+            };
+        }
+    }
+
+    /**
+     * 이력은 다중 행 INSERT 한 문장으로 쓴다. 처리자({@code processed_by})는 남기지 않는다 — 판매자 경로도
+     * 운영자 id를 적지 않고, 마켓 상태 변경은 처리 운영자를 받지 않는다. {@code created_at}은 엔티티가 {@code Instant}를 쓰는 방식과 같게
+     * UTC 벽시계 값으로 넣는다 — 이력 화면의 정렬이 단건 경로에서 쓴 행과 섞여도 어긋나지 않는다.
+     */
+    private void insertHistories(List<HistoryRow> histories, Instant now) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        LocalDateTime createdAt = LocalDateTime.ofInstant(now, ZoneOffset.UTC);
+        StringBuilder sql = new StringBuilder(INSERT_HISTORY_PREFIX.length() + histories.size() * 28)
+                .append(INSERT_HISTORY_PREFIX);
+        Object[] args = new Object[histories.size() * 7];
+        for (int i = 0; i < histories.size(); i++) {
+            HistoryRow history = histories.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?)");
+            args[i * 7] = history.productId();
+            args[i * 7 + 1] = history.type().name();
+            args[i * 7 + 2] = history.previous() != null ? history.previous().name() : null;
+            args[i * 7 + 3] = history.next().name();
+            args[i * 7 + 4] = history.hideReasonType() != null ? history.hideReasonType().name() : null;
+            args[i * 7 + 5] = history.hideDetail();
+            args[i * 7 + 6] = createdAt;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private static Collection<Long> idsOf(List<ProductRepository.StatusRow> rows) {
+        return rows.stream().map(ProductRepository.StatusRow::getProductId).toList();
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,117 @@
+package showroomz.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품별 리뷰 요약 — 리뷰 수, 평점 합, 1~5점 분포.
+ *
+ * <p>카드 목록과 상세 화면이 평점을 보여 줄 때마다 review → order_product → product_variant를 조인해 세면
+ * 리뷰가 쌓일수록 느려진다. 여기 한 행을 PK로 읽으면 리뷰 수와 무관하다. 리뷰 등록·수정·삭제가 같은
+ * 트랜잭션에서 증감을 더하고({@code ProductReviewStatsRepository#applyDelta}), 어긋난 행은 재집계 배치가
+ * 원천에서 다시 맞춘다.
+ *
+ * <p>평균은 저장하지 않는다 — 합과 수가 있으면 언제든 나오고, 저장하면 둘과 어긋날 칸이 하나 늘어난다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_review_stats")
+public class ProductReviewStats {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * @param ratingCounts 1점부터 5점까지의 리뷰 수
+     */
+    public ProductReviewStats(Long productId, long[] ratingCounts) {
+        this.productId = productId;
+        overwrite(ratingCounts);
+    }
+
+    /** 재집계 결과로 덮어쓴다 — 리뷰 수와 평점 합은 분포에서 다시 계산한다 */
+    public void overwrite(long[] ratingCounts) {
+        this.rating1 = ratingCounts[0];
+        this.rating2 = ratingCounts[1];
+        this.rating3 = ratingCounts[2];
+        this.rating4 = ratingCounts[3];
+        this.rating5 = ratingCounts[4];
+        this.reviewCount = sum(ratingCounts, false);
+        this.ratingSum = sum(ratingCounts, true);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** 분포가 주어진 값과 같은지 — 재집계 배치가 바뀐 행만 고쳐 쓰려고 본다 */
+    public boolean matches(long[] ratingCounts) {
+        long[] current = ratingCounts();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != ratingCounts[i]) {
+                return false;
+            }
+        }
+        return reviewCount == sum(ratingCounts, false) && ratingSum == sum(ratingCounts, true);
+    }
+
+    /** 평균 평점 (소수 첫째 자리 반올림). 리뷰가 없으면 0.0 */
+    public double averageRating() {
+        return averageRating(reviewCount, ratingSum);
+    }
+
+    /** 1점부터 5점까지의 리뷰 수 */
+    public long[] ratingCounts() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+
+    public List<Long> ratingCountList() {
+        return List.of(rating1, rating2, rating3, rating4, rating5);
+    }
+
+    public static double averageRating(long reviewCount, long ratingSum) {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
+    }
+
+    private static long sum(long[] ratingCounts, boolean weighted) {
+        long total = 0;
+        for (int i = 0; i < ratingCounts.length; i++) {
+            total += weighted ? ratingCounts[i] * (i + 1) : ratingCounts[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,52 @@
+package showroomz.domain.review.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.review.entity.ProductReviewStats;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long> {
+
+    List<ProductReviewStats> findAllByProductIdIn(Collection<Long> productIds);
+
+    /** 재집계용 잠금 읽기 — 리뷰 쓰기의 {@link #applyDelta}와 같은 행에서 차례를 기다리게 한다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductReviewStats s WHERE s.productId IN :productIds")
+    List<ProductReviewStats> findAllByProductIdInForUpdate(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 리뷰 하나의 등록·수정·삭제를 요약 행에 더한다. 행이 없으면 그 값으로 만든다.
+     *
+     * <p>읽고-더하고-쓰면 같은 상품에 리뷰가 동시에 들어올 때 한쪽 증가가 사라진다. 더하기를 문장 안에서
+     * 하므로 행 잠금 한 번으로 직렬화된다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_review_stats
+                (product_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+            VALUES (:productId, :count, :sum, :r1, :r2, :r3, :r4, :r5, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                rating_sum = rating_sum + VALUES(rating_sum),
+                rating_1 = rating_1 + VALUES(rating_1),
+                rating_2 = rating_2 + VALUES(rating_2),
+                rating_3 = rating_3 + VALUES(rating_3),
+                rating_4 = rating_4 + VALUES(rating_4),
+                rating_5 = rating_5 + VALUES(rating_5),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    void applyDelta(@Param("productId") Long productId,
+                    @Param("count") long count,
+                    @Param("sum") long sum,
+                    @Param("r1") long r1,
+                    @Param("r2") long r2,
+                    @Param("r3") long r3,
+                    @Param("r4") long r4,
+                    @Param("r5") long r5);
+}
@@ -0,0 +1,23 @@
+package showroomz.domain.review.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.review.entity.ReviewImage;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
+
+    /**
+     * 리뷰 목록 한 페이지의 이미지를 한 번에 읽는다 — 리뷰마다 {@code images} 컬렉션을 지연 로딩하면
+     * 페이지 크기만큼 쿼리가 더 나간다.
+     */
+    @Query("""
+            SELECT ri FROM ReviewImage ri
+            WHERE ri.review.id IN :reviewIds
+            ORDER BY ri.review.id, ri.sequence
+            """)
+    List<ReviewImage> findAllByReviewIdInOrderBySequence(@Param("reviewIds") Collection<Long> reviewIds);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import showroomz.domain.review.entity.Review;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,15 +26,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRep
     Optional<Review> findByIdForUpdate(@Param("id") Long id);
 
     /**
-     * 상품별 리뷰 수 일괄 조회 (Batch Fetching)
-     * @return List of [productId, count]
+     * 상품별 평점 분포 재집계 — 요약 테이블({@code product_review_stats})의 원천이다.
+     * @return List of [productId, rating, count]
      */
     @Query("""
-            SELECT v.product.productId, COUNT(r) FROM Review r
+            SELECT v.product.productId, r.rating, COUNT(r) FROM Review r
             JOIN r.orderProduct op
             JOIN op.variant v
             WHERE v.product.productId IN :productIds
-            GROUP BY v.product.productId
+            GROUP BY v.product.productId, r.rating
             """)
-    List<Object[]> countByProductIds(@Param("productIds") List<Long> productIds);
+    List<Object[]> countByProductIdsAndRating(@Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,131 @@
+package showroomz.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.repository.ProductReviewStatsRepository;
+import showroomz.domain.review.repository.ReviewRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 리뷰 요약({@link ProductReviewStats})의 유지와 조회.
+ *
+ * <p>리뷰 쓰기 쪽은 호출자 트랜잭션 안에서 증감만 더한다 — 리뷰 행과 요약 행이 함께 커밋되거나 함께
+ * 롤백된다. 증감이 빠지는 경로(직접 SQL로 지운 리뷰, 배포 전 구버전이 쓴 리뷰)는 {@link #rebuildChunk}가
+ * 원천을 다시 세어 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductReviewStatsService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int RATINGS = 5;
+
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+
+    @Transactional
+    public void reviewAdded(Long productId, int rating) {
+        long[] delta = new long[RATINGS];
+        delta[bucket(rating)] = 1;
+        apply(productId, 1, rating, delta);
+    }
+
+    @Transactional
+    public void reviewRemoved(Long productId, int rating) {
+        long[] delta = new long[RATINGS];
+        delta[bucket(rating)] = -1;
+        apply(productId, -1, -rating, delta);
+    }
+
+    @Transactional
+    public void ratingChanged(Long productId, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        long[] delta = new long[RATINGS];
+        delta[bucket(from)] = -1;
+        delta[bucket(to)] = 1;
+        apply(productId, 0, to - from, delta);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProductReviewStats> find(Long productId) {
+        return productReviewStatsRepository.findById(productId);
+    }
+
+    /** 카드 한 페이지 분량을 한 번에 읽는다. 결과에 없는 상품은 리뷰가 없는 상품이다. */
+    @Transactional(readOnly = true)
+    public Map<Long, ProductReviewStats> findByProductIds(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productReviewStatsRepository.findAllByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductReviewStats::getProductId, Function.identity()));
+    }
+
+    /**
+     * {@code afterProductId} 다음 상품 {@value #REBUILD_CHUNK_SIZE}개의 요약을 원천에서 다시 세어, 다른 행만
+     * 고친다. 리뷰가 하나도 없는 상품은 요약 행을 만들지 않는다. 격리 수준과 잠금 순서는 {@link RebuildChunk}.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public RebuildChunk rebuildChunk(long afterProductId) {
+        List<Long> productIds = productRepository.findProductIdsAfter(
+                afterProductId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+        if (productIds.isEmpty()) {
+            return RebuildChunk.of(afterProductId, productIds, 0, REBUILD_CHUNK_SIZE);
+        }
+
+        Map<Long, ProductReviewStats> current = productReviewStatsRepository
+                .findAllByProductIdInForUpdate(productIds).stream()
+                .collect(Collectors.toMap(ProductReviewStats::getProductId, Function.identity()));
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : reviewRepository.countByProductIdsAndRating(productIds)) {
+            if (row[0] instanceof Long productId && row[1] instanceof Integer rating
+                    && row[2] instanceof Number count && rating >= 1 && rating <= RATINGS) {
+                actual.computeIfAbsent(productId, id -> new long[RATINGS])[rating - 1] = count.longValue();
+            }
+        }
+
+        int corrected = 0;
+        for (Long productId : productIds) {
+            long[] ratingCounts = actual.getOrDefault(productId, new long[RATINGS]);
+            ProductReviewStats stats = current.get(productId);
+            if (stats == null) {
+                if (actual.containsKey(productId)) {
+                    productReviewStatsRepository.save(new ProductReviewStats(productId, ratingCounts));
+                    corrected++;
+                }
+            } else if (!stats.matches(ratingCounts)) {
+                stats.overwrite(ratingCounts);
+                corrected++;
+            }
+        }
+        return RebuildChunk.of(afterProductId, productIds, corrected, REBUILD_CHUNK_SIZE);
+    }
+
+    private void apply(Long productId, long count, long sum, long[] ratingDelta) {
+        productReviewStatsRepository.applyDelta(productId, count, sum,
+                ratingDelta[0], ratingDelta[1], ratingDelta[2], ratingDelta[3], ratingDelta[4]);
+    }
+
+    private static int bucket(int rating) {
+        if (rating < 1 || rating > RATINGS) {
+            throw new IllegalArgumentException("rating must be 1-5: " + rating);
+        }
+        return rating - 1;
+    }
+}
@@ -0,0 +1,492 @@
+package showroomz.domain.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 2-gram 역색인 — "이 문자열을 포함하는 문서"를 전체를 훑지 않고 찾는다.
+ *
+ * <p>문서마다 정규화한 문자열의 연속한 두 글자를 키로, 그 키를 가진 문서 번호를 오름차순 {@code int} 배열로
+ * 적어 둔다. 찾을 때는 검색어의 2-gram 목록을 짧은 것부터 교집합하고, 남은 후보의 원문에 실제로 검색어가
+ * 들어 있는지 확인한다 — 2-gram이 모두 있다고 해서 이어져 있다는 보장은 없다("토너패드"의 "토너"·"너패"는
+ * "패드 토너"에도 있다). 한 글자 검색어는 키가 없으므로 원문을 모두 훑는다.
+ *
+ * <p>초성 검색용 목록은 한글 음절을 초성으로 바꾼 문자열에서 따로 만든다({@link SearchText}).
+ *
+ * <p>문서 번호는 넣은 순서대로 늘어나기만 한다. 그래야 목록 끝에 붙이는 것만으로 정렬이 유지된다. 그래서
+ * 문자열이 바뀐 문서는 옛 번호를 비워 두고 새 번호로 다시 넣는다. 빈 번호는 다음 재구성 때 사라진다.
+ * 문자열이 그대로면 그룹·활성 여부만 제자리에서 고친다 — 가격·진열 상태 변경이 목록을 늘리지 않는다.
+ *
+ * <p>문서마다 그룹(상품이면 마켓 id)과 활성 여부(진열 중인지)를 함께 든다. 검색은 활성 문서만 돌려준다.
+ * 읽기는 동시에, 쓰기는 하나씩 — 쓰기는 상품·쇼룸 변경 때만 일어나 드물다.
+ *
+ * <p>자동완성 개수를 주고 만들면 같은 문서 번호로 {@link SuggestionTrie}도 채운다 — 짧은 검색어의 앞 순위
+ * 문서를 후보 전체를 줄 세우지 않고 낸다. 순위는 넣을 때 정하며(기본은 이름 길이), 화면에 보일 원문은 정규화로
+ * 모양이 달라진 문서만 따로 적어 둔다.
+ */
+final class BigramIndex {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final long[] NONE = new long[0];
+    /** 자동완성 trie에 넣는 조각 길이 — 이보다 긴 검색어는 2-gram 후보를 바로 줄 세운다 */
+    static final int SUGGESTION_DEPTH = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Postings> grams = new HashMap<>();
+    private final Map<Integer, Postings> initialGrams = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet active = new BitSet();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] groups = new long[INITIAL_CAPACITY];
+    private String[] texts = new String[INITIAL_CAPACITY];
+    private int[] ranks = new int[INITIAL_CAPACITY];
+    /** 정규화로 모양이 바뀐 문서의 원문. 같으면 null */
+    private String[] displays = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /** 자동완성을 쓰지 않는 색인이면 null */
+    private final SuggestionTrie suggestions;
+    private final SuggestionTrie initialSuggestions;
+
+    BigramIndex() {
+        this.suggestions = null;
+        this.initialSuggestions = null;
+    }
+
+    /** 검색어마다 {@code suggestionLimit}개까지 자동완성을 낼 수 있는 색인 */
+    BigramIndex(int suggestionLimit) {
+        SuggestionTrie.Documents documents = new SuggestionTrie.Documents() {
+            @Override
+            public int rank(int ordinal) {
+                return ranks[ordinal];
+            }
+
+            @Override
+            public boolean isActive(int ordinal) {
+                return active.get(ordinal);
+            }
+        };
+        this.suggestions = new SuggestionTrie(SUGGESTION_DEPTH, suggestionLimit, documents);
+        this.initialSuggestions = new SuggestionTrie(SUGGESTION_DEPTH, suggestionLimit, documents);
+    }
+
+    /** 문서를 넣거나 고친다. 빈 문자열·null이면 지운다. 자동완성 순위는 문자열 길이다. */
+    void put(long id, String text, long group, boolean isActive) {
+        put(id, text, group, isActive, text == null ? 0 : text.length());
+    }
+
+    /** 자동완성 순위를 따로 정해 넣는다 — 쇼룸 아이디는 쇼룸명 길이로 줄 선다 */
+    void put(long id, String text, long group, boolean isActive, int rank) {
+        String normalized = SearchText.normalize(text);
+        if (normalized == null || normalized.isEmpty()) {
+            remove(id);
+            return;
+        }
+        String display = normalized.equals(text) ? null : text;
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(id);
+            if (existing != null) {
+                // 순위가 바뀌면 trie 목록의 정렬이 깨지므로 문자열이 바뀐 것과 같이 다룬다
+                if (normalized.equals(texts[existing]) && ranks[existing] == rank) {
+                    groups[existing] = group;
+                    displays[existing] = display;
+                    changeActive(existing, isActive);
+                    return;
+                }
+                texts[existing] = null;
+                displays[existing] = null;
+                active.clear(existing);
+            }
+            int ordinal = append(id, normalized, group, isActive);
+            ranks[ordinal] = rank;
+            displays[ordinal] = display;
+            ordinals.put(id, ordinal);
+            String initials = SearchText.initials(normalized);
+            addGrams(grams, normalized, ordinal);
+            addGrams(initialGrams, initials, ordinal);
+            if (suggestions != null) {
+                suggestions.add(normalized, ordinal);
+                initialSuggestions.add(initials, ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 문자열은 두고 활성 여부만 바꾼다. 모르는 문서면 아무것도 하지 않는다. */
+    void setActive(long id, boolean isActive) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                changeActive(ordinal, isActive);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 그룹에 속한 문서를 모두 켜거나 끈다 — 쇼룸 주인 계정의 상태가 바뀌었을 때 쓴다 */
+    void setActiveInGroup(long group, boolean isActive) {
+        lock.writeLock().lock();
+        try {
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (texts[ordinal] != null && groups[ordinal] == group) {
+                    changeActive(ordinal, isActive);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 꺼져 있다 켜진 문서는 trie에 다시 넣는다 — 꺼진 동안 다른 문서에 밀려 목록에서 빠졌을 수 있다. 끄는
+     * 쪽은 비트만 내린다. 목록의 빈자리는 읽을 때 메운다.
+     */
+    private void changeActive(int ordinal, boolean isActive) {
+        boolean wasActive = active.get(ordinal);
+        active.set(ordinal, isActive);
+        if (suggestions != null && isActive && !wasActive) {
+            suggestions.add(texts[ordinal], ordinal);
+            initialSuggestions.add(SearchText.initials(texts[ordinal]), ordinal);
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                texts[ordinal] = null;
+                displays[ordinal] = null;
+                active.clear(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 검색어를 포함하는 활성 문서의 id, 오름차순 */
+    long[] search(String keyword) {
+        String key = SearchText.normalize(keyword);
+        if (key == null || key.isEmpty()) {
+            return NONE;
+        }
+        lock.readLock().lock();
+        try {
+            int[] matched = matching(key);
+            long[] found = new long[matched.length];
+            for (int i = 0; i < matched.length; i++) {
+                found[i] = ids[matched[i]];
+            }
+            return sorted(found, found.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 활성 문서의 id, 순위 순으로 자동완성 개수까지. 자동완성 개수 없이 만든 색인에서는
+     * 쓸 수 없다.
+     *
+     * <p>{@link #SUGGESTION_DEPTH} 글자 이하면 trie 노드 하나를 읽고 끝난다 — 한두 글자처럼 걸리는 문서가
+     * 수만 개인 검색어일수록 이 차이가 크다. 노드 목록이 꺼진 문서 때문에 모자라면 그 검색어만 한 번 다시
+     * 골라 채운다. 더 긴 검색어는 걸리는 문서가 적으니 2-gram 후보에서 바로 고른다.
+     */
+    long[] suggest(String keyword) {
+        if (suggestions == null) {
+            throw new IllegalStateException("자동완성 개수 없이 만든 색인입니다");
+        }
+        String key = SearchText.normalize(keyword);
+        if (key == null || key.isEmpty()) {
+            return NONE;
+        }
+        SuggestionTrie trie = SearchText.isInitialsQuery(key) ? initialSuggestions : suggestions;
+        int[] picked = new int[trie.limit()];
+        if (key.length() > trie.depth()) {
+            lock.readLock().lock();
+            try {
+                return idsOf(picked, best(trie, matching(key), picked));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        lock.readLock().lock();
+        try {
+            int found = trie.collect(key, picked);
+            if (found >= 0) {
+                return idsOf(picked, found);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            int[] matched = matching(key);
+            int found = best(trie, matched, picked);
+            trie.replace(key, picked, found, matched.length > found);
+            return idsOf(picked, found);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 화면에 보일 원문. 없는 문서면 null */
+    String display(long id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null || texts[ordinal] == null) {
+                return null;
+            }
+            return displays[ordinal] != null ? displays[ordinal] : texts[ordinal];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 처음 보는 문서면 true — 상태를 모르는 채로 들어온 쇼룸은 일단 보이게 둔다 */
+    boolean isActiveOrUnknown(long id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal == null || active.get(ordinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** trie 노드 수 — 자동완성을 쓰지 않으면 0 */
+    int suggestionNodes() {
+        lock.readLock().lock();
+        try {
+            return suggestions == null ? 0 : suggestions.nodeCount() + initialSuggestions.nodeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** trie가 잡은 메모리 어림값(바이트) — 자동완성을 쓰지 않으면 0 */
+    long suggestionBytes() {
+        lock.readLock().lock();
+        try {
+            return suggestions == null ? 0 : suggestions.estimatedBytes() + initialSuggestions.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 주어진 그룹에 속한 활성 문서의 id, 오름차순 — 마켓 이름에 걸린 상품을 모을 때 쓴다 */
+    long[] inGroups(long[] sortedGroups) {
+        if (sortedGroups.length == 0) {
+            return NONE;
+        }
+        lock.readLock().lock();
+        try {
+            return scan(ordinal -> Arrays.binarySearch(sortedGroups, groups[ordinal]) >= 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 정규화한 문자열. 없는 문서면 null */
+    String text(long id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal != null ? texts[ordinal] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 검색어를 포함하는 활성 문서 번호, 오름차순. 락은 호출자가 잡는다. */
+    private int[] matching(String key) {
+        if (key.length() < 2) {
+            int[] found = new int[Math.min(size, 64)];
+            int count = 0;
+            for (int ordinal = active.nextSetBit(0); ordinal >= 0; ordinal = active.nextSetBit(ordinal + 1)) {
+                if (texts[ordinal] != null && SearchText.contains(texts[ordinal], key)) {
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, Math.max(16, count * 2));
+                    }
+                    found[count++] = ordinal;
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+        int[] candidates = intersect(SearchText.isInitialsQuery(key) ? initialGrams : grams, key);
+        int count = 0;
+        for (int ordinal : candidates) {
+            String text = texts[ordinal];
+            if (text != null && active.get(ordinal) && SearchText.contains(text, key)) {
+                candidates[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /** 후보 중 앞 순위를 {@code picked}에 순서대로 고르고 개수를 돌려준다 */
+    private static int best(SuggestionTrie trie, int[] candidates, int[] picked) {
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (count == picked.length && !trie.precedes(ordinal, picked[count - 1])) {
+                continue;
+            }
+            int position = Math.min(count, picked.length - 1);
+            while (position > 0 && trie.precedes(ordinal, picked[position - 1])) {
+                picked[position] = picked[position - 1];
+                position--;
+            }
+            picked[position] = ordinal;
+            count = Math.min(count + 1, picked.length);
+        }
+        return count;
+    }
+
+    private long[] idsOf(int[] ordinals, int count) {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[ordinals[i]];
+        }
+        return result;
+    }
+
+    private long[] scan(IntMatcher matcher) {
+        long[] found = new long[Math.min(size, 64)];
+        int count = 0;
+        for (int ordinal = active.nextSetBit(0); ordinal >= 0; ordinal = active.nextSetBit(ordinal + 1)) {
+            if (texts[ordinal] != null && matcher.matches(ordinal)) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, Math.max(16, count * 2));
+                }
+                found[count++] = ids[ordinal];
+            }
+        }
+        return sorted(found, count);
+    }
+
+    /** 검색어의 2-gram 목록 교집합 — 하나라도 없으면 빈 배열이다 */
+    private static int[] intersect(Map<Integer, Postings> index, String key) {
+        int[] keys = distinctGrams(key);
+        Postings[] lists = new Postings[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = index.get(keys[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        // 가장 짧은 목록이 후보 수의 상한이다 — 거기서 시작해야 나머지 목록에서 찾는 횟수가 줄어든다
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists[0].values, lists[0].size);
+        int length = result.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            length = retainAll(result, length, lists[i]);
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * {@code candidates} 앞쪽 {@code length}개 중 {@code postings}에도 있는 것만 앞으로 당긴다. 후보가 훨씬
+     * 적으므로 긴 목록은 처음부터 훑지 않고 지수 탐색으로 건너뛴다.
+     */
+    private static int retainAll(int[] candidates, int length, Postings postings) {
+        int[] values = postings.values;
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < length && from < postings.size; i++) {
+            int target = candidates[i];
+            int bound = 1;
+            while (from + bound < postings.size && values[from + bound] < target) {
+                bound <<= 1;
+            }
+            int found = Arrays.binarySearch(values, from, Math.min(from + bound + 1, postings.size), target);
+            if (found >= 0) {
+                candidates[kept++] = target;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private int append(long id, String normalized, long group, boolean isActive) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            groups = Arrays.copyOf(groups, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            ranks = Arrays.copyOf(ranks, capacity);
+            displays = Arrays.copyOf(displays, capacity);
+        }
+        int ordinal = size++;
+        ids[ordinal] = id;
+        groups[ordinal] = group;
+        texts[ordinal] = normalized;
+        active.set(ordinal, isActive);
+        return ordinal;
+    }
+
+    private static void addGrams(Map<Integer, Postings> index, String text, int ordinal) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            index.computeIfAbsent(gram(text, i), k -> new Postings()).add(ordinal);
+        }
+    }
+
+    private static int[] distinctGrams(String key) {
+        int[] keys = new int[key.length() - 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = gram(key, i);
+        }
+        return Arrays.stream(keys).distinct().toArray();
+    }
+
+    private static int gram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static long[] sorted(long[] values, int count) {
+        long[] result = Arrays.copyOf(values, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface IntMatcher {
+        boolean matches(int ordinal);
+    }
+
+    /** 문서 번호 목록. 번호가 늘어나는 순서로만 붙으므로 늘 정렬돼 있다. */
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            // 한 문서에 같은 2-gram이 여러 번 나와도 번호는 한 번만 적는다
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package showroomz.domain.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.domain.member.user.type.UserStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 상품·쇼룸 키워드 검색의 메모리 색인 — 검색어에 걸리는 id를 DB를 훑지 않고 낸다.
+ *
+ * <p>예전 검색은 {@code LIKE '%검색어%'}라 인덱스를 타지 못했고, 목록과 건수를 위해 같은 전체 스캔을 두 번
+ * 했다. 여기서 후보 id를 먼저 정하면 DB는 그 id의 행만 PK로 읽는다. 답이 틀릴 수 있는 쪽을 DB가 다시 거른다:
+ * 색인이 아직 모르는 진열 중단·탈퇴는 PK 조회의 조건에서 빠진다.
+ *
+ * <p>대상은 상품명·마켓명(상품 검색)과 쇼룸명·쇼룸 아이디(쇼룸 검색)다. 상품은 미진열도 색인에 두고 활성
+ * 여부만 끈다 — 일괄 재진열이 이름을 다시 읽지 않고 비트만 켜면 되도록. 쇼룸도 같은 식으로 주인 계정이
+ * 정상 크리에이터일 때만 켜 둔다.
+ *
+ * <p>자동완성도 여기서 낸다. 상품명과 쇼룸명·아이디 색인은 검색어마다 앞 순위(이름이 짧은 순) 몇 개를
+ * 미리 골라 둔 trie를 함께 들고 있어, 키를 누를 때마다 DB를 두 번 훑던 조회가 노드 몇 개를 읽는 것으로 끝난다.
+ *
+ * <ul>
+ *   <li>채우기 — 기동을 마친 뒤 세 테이블을 한 번 읽는다. 그 전까지 조회는 null을 돌려주고, 호출자는 예전
+ *       LIKE 쿼리로 간다.</li>
+ *   <li>변경 — 엔티티 콜백이 낸 {@link SearchDocumentChanged}를 <b>커밋 뒤에</b> 반영한다.</li>
+ *   <li>재구성 — {@code app.search-index.rebuild-interval-millis}마다 새로 만든다. 다른 인스턴스에서 생긴
+ *       변경은 이때 따라잡는다(그때까지 그 인스턴스에서 새로 만든 상품이 여기서는 검색되지 않는다). 문자열이
+ *       바뀌며 비워 둔 번호도 이때 걷힌다. 만드는 동안 들어온 변경은 따로 적어 두었다가 새 색인에 옮긴다.</li>
+ * </ul>
+ *
+ * <p>지표: {@code search.keyword_index.documents} (type=product|market|showroom),
+ * {@code search.keyword_index.suggestion_nodes} (type=product|showroom),
+ * {@code search.autocomplete.lookup} (자동완성 한 번의 색인 조회 시간, p50·p99).
+ */
+@Slf4j
+@Component
+public class KeywordSearchIndex {
+
+    private static final String SELECT_PRODUCTS =
+            "SELECT product_id, name, market_id, display_status FROM product";
+    private static final String SELECT_MARKETS = "SELECT market_id, market_name FROM market";
+    private static final String SELECT_SHOWROOMS =
+            "SELECT c.creator_id, c.showroom_name, c.showroom_address, c.user_id, u.status, u.role_type "
+                    + "FROM creator c JOIN users u ON u.user_id = c.user_id "
+                    + "WHERE c.showroom_name IS NOT NULL AND c.showroom_address IS NOT NULL";
+    private static final String DISPLAY = "DISPLAY";
+    private static final long[] NONE = new long[0];
+    /** 자동완성 칸 크기 — 화면이 상품 5개, 쇼룸 3개를 보여 준다 */
+    static final int PRODUCT_SUGGESTIONS = 5;
+    static final int SHOWROOM_SUGGESTIONS = 3;
+
+    /** 정규화한 쇼룸명·아이디 — 검색 화면이 "왜 걸렸는지"로 순위를 매길 때 쓴다 */
+    public record ShowroomCandidate(long creatorId, String name, String address) {
+    }
+
+    /** 자동완성 한 줄 — 이름은 사용자가 등록한 원문 그대로다 */
+    public record Suggestion(long id, String name) {
+    }
+
+    private record Indexes(BigramIndex products, BigramIndex markets,
+                           BigramIndex showroomNames, BigramIndex showroomAddresses) {
+
+        static Indexes empty() {
+            return new Indexes(new BigramIndex(PRODUCT_SUGGESTIONS), new BigramIndex(),
+                    new BigramIndex(SHOWROOM_SUGGESTIONS), new BigramIndex(SHOWROOM_SUGGESTIONS));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long rebuildIntervalMillis;
+    private final Timer autocompleteTimer;
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    /** 첫 채우기 전에는 null — 그동안은 호출자가 DB로 찾는다 */
+    private volatile Indexes indexes;
+    /** 재구성 중에만 null이 아니다 */
+    private List<SearchDocumentChanged> pending;
+    private ScheduledExecutorService rebuilder;
+
+    public KeywordSearchIndex(JdbcTemplate jdbcTemplate,
+                              @Value("${app.search-index.rebuild-interval-millis:300000}") long rebuildIntervalMillis,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        registerSize(meterRegistry, "product", Indexes::products);
+        registerSize(meterRegistry, "market", Indexes::markets);
+        registerSize(meterRegistry, "showroom", Indexes::showroomNames);
+        registerSuggestionNodes(meterRegistry, "product", current -> current.products().suggestionNodes());
+        registerSuggestionNodes(meterRegistry, "showroom",
+                current -> current.showroomNames().suggestionNodes() + current.showroomAddresses().suggestionNodes());
+        this.autocompleteTimer = Timer.builder("search.autocomplete.lookup")
+                .description("자동완성 한 번의 색인 조회 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        rebuildQuietly();
+        if (rebuildIntervalMillis <= 0) {
+            return;
+        }
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keyword-index-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly,
+                rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * 상품명이나 마켓명에 검색어가 든 진열 중 상품의 id, 오름차순. 색인을 아직 못 채웠으면 null이다.
+     */
+    public long[] findProductIds(String keyword) {
+        Indexes current = indexes;
+        if (current == null) {
+            return null;
+        }
+        long[] byName = current.products().search(keyword);
+        long[] markets = current.markets().search(keyword);
+        if (markets.length == 0) {
+            return byName;
+        }
+        return union(byName, current.products().inGroups(markets));
+    }
+
+    /**
+     * 쇼룸명에 {@code name}이, 또는 아이디에 {@code handle}이 든 등록 완료 쇼룸. 순서는 정하지 않는다.
+     * 색인을 아직 못 채웠으면 null이다. 주인 계정 상태는 색인이 아는 만큼만 거른다 — 다른 인스턴스에서 바뀐
+     * 상태는 재구성 때까지 모르므로 호출자가 DB에서 다시 거른다.
+     */
+    public List<ShowroomCandidate> findShowrooms(String name, String handle) {
+        Indexes current = indexes;
+        if (current == null) {
+            return null;
+        }
+        long[] ids = union(current.showroomNames().search(name),
+                handle.isEmpty() ? NONE : current.showroomAddresses().search(handle));
+        List<ShowroomCandidate> candidates = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            String showroomName = current.showroomNames().text(id);
+            String showroomAddress = current.showroomAddresses().text(id);
+            // 찾은 뒤 지워졌을 수 있다 — 반쯤 남은 항목은 순위를 매길 수 없으니 뺀다
+            if (showroomName != null && showroomAddress != null) {
+                candidates.add(new ShowroomCandidate(id, showroomName, showroomAddress));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 이름에 검색어가 든 진열 중 상품, 이름이 짧은 순으로 {@value #PRODUCT_SUGGESTIONS}개까지. 색인을 아직 못
+     * 채웠으면 null이다.
+     */
+    public List<Suggestion> suggestProducts(String keyword) {
+        Indexes current = indexes;
+        if (current == null) {
+            return null;
+        }
+        return autocompleteTimer.record(() -> {
+            BigramIndex products = current.products();
+            List<Suggestion> suggestions = new ArrayList<>(PRODUCT_SUGGESTIONS);
+            for (long id : products.suggest(keyword)) {
+                String name = products.display(id);
+                if (name != null) {
+                    suggestions.add(new Suggestion(id, name));
+                }
+            }
+            return suggestions;
+        });
+    }
+
+    /**
+     * 쇼룸명에 {@code name}이, 또는 아이디에 {@code handle}이 든 노출 중 쇼룸, 쇼룸명이 짧은 순으로
+     * {@value #SHOWROOM_SUGGESTIONS}개까지. 색인을 아직 못 채웠으면 null이다.
+     *
+     * <p>이름 쪽 앞 순위와 아이디 쪽 앞 순위는 둘 다 쇼룸명 길이로 줄 서 있으므로, 합친 목록의 앞 순위는 두
+     * 목록의 합집합 안에 있다.
+     */
+    public List<Suggestion> suggestShowrooms(String name, String handle) {
+        Indexes current = indexes;
+        if (current == null) {
+            return null;
+        }
+        return autocompleteTimer.record(() -> {
+            Set<Long> ids = new LinkedHashSet<>();
+            Arrays.stream(current.showroomNames().suggest(name)).forEach(ids::add);
+            if (!handle.isEmpty()) {
+                Arrays.stream(current.showroomAddresses().suggest(handle)).forEach(ids::add);
+            }
+            List<Suggestion> suggestions = new ArrayList<>(ids.size());
+            for (long id : ids) {
+                String showroomName = current.showroomNames().display(id);
+                if (showroomName != null) {
+                    suggestions.add(new Suggestion(id, showroomName));
+                }
+            }
+            return suggestions.stream()
+                    .sorted(Comparator.comparingInt((Suggestion s) -> s.name().length())
+                            .thenComparingLong(Suggestion::id))
+                    .limit(SHOWROOM_SUGGESTIONS)
+                    .toList();
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(SearchDocumentChanged event) {
+        synchronized (writeLock) {
+            if (indexes != null) {
+                apply(indexes, event);
+            }
+            if (pending != null) {
+                pending.add(event);
+            }
+        }
+    }
+
+    /** 세 테이블을 다시 읽어 새 색인을 만들고 갈아 끼운다 */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (writeLock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                Indexes rebuilt = load();
+                synchronized (writeLock) {
+                    pending.forEach(event -> apply(rebuilt, event));
+                    indexes = rebuilt;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    private Indexes load() {
+        Indexes loaded = Indexes.empty();
+        jdbcTemplate.query(SELECT_PRODUCTS, rs -> {
+            loaded.products().put(rs.getLong(1), rs.getString(2), rs.getLong(3), DISPLAY.equals(rs.getString(4)));
+        });
+        jdbcTemplate.query(SELECT_MARKETS, rs -> {
+            loaded.markets().put(rs.getLong(1), rs.getString(2), 0L, true);
+        });
+        jdbcTemplate.query(SELECT_SHOWROOMS, rs -> {
+            putShowroom(loaded, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4),
+                    UserStatus.NORMAL.name().equals(rs.getString(5)) && RoleType.CREATOR.name().equals(rs.getString(6)));
+        });
+        return loaded;
+    }
+
+    private static void apply(Indexes target, SearchDocumentChanged event) {
+        switch (event) {
+            case SearchDocumentChanged.ProductChanged product -> target.products().put(product.productId(),
+                    product.name(), product.marketId() != null ? product.marketId() : 0L, product.displayed());
+            case SearchDocumentChanged.MarketChanged market ->
+                    target.markets().put(market.marketId(), market.marketName(), 0L, true);
+            case SearchDocumentChanged.ShowroomChanged showroom -> putShowroom(target, showroom.creatorId(),
+                    showroom.showroomName(), showroom.showroomAddress(), showroom.userId(),
+                    showroom.ownerVisible() != null
+                            ? showroom.ownerVisible()
+                            : target.showroomNames().isActiveOrUnknown(showroom.creatorId()));
+            case SearchDocumentChanged.ShowroomOwnerChanged owner -> {
+                target.showroomNames().setActiveInGroup(owner.userId(), owner.visible());
+                target.showroomAddresses().setActiveInGroup(owner.userId(), owner.visible());
+            }
+            case SearchDocumentChanged.ProductsDisplayChanged products -> products.productIds()
+                    .forEach(id -> target.products().setActive(id, products.displayed()));
+        }
+    }
+
+    /**
+     * 이름과 아이디가 둘 다 있어야 등록을 마친 쇼룸이다({@code PublicShowrooms}와 같은 기준). 그룹은 주인
+     * 계정이라 계정 상태가 바뀌면 그 계정의 쇼룸을 한 번에 끈다. 아이디도 쇼룸명 길이로 줄 세운다.
+     */
+    private static void putShowroom(Indexes target, long creatorId, String name, String address,
+                                    long userId, boolean visible) {
+        if (name == null || name.isEmpty() || address == null) {
+            target.showroomNames().remove(creatorId);
+            target.showroomAddresses().remove(creatorId);
+            return;
+        }
+        target.showroomNames().put(creatorId, name, userId, visible);
+        target.showroomAddresses().put(creatorId, address, userId, visible, name.length());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("키워드 검색 색인을 다시 만들지 못했습니다. 이전 색인을 계속 씁니다.", e);
+        }
+    }
+
+    private void registerSize(MeterRegistry meterRegistry, String type, Function<Indexes, BigramIndex> part) {
+        ToDoubleFunction<KeywordSearchIndex> size = self -> {
+            Indexes current = self.indexes;
+            return current != null ? part.apply(current).size() : 0;
+        };
+        Gauge.builder("search.keyword_index.documents", this, size)
+                .tag("type", type)
+                .description("키워드 검색 색인에 든 문서 수")
+                .register(meterRegistry);
+    }
+
+    private void registerSuggestionNodes(MeterRegistry meterRegistry, String type, ToDoubleFunction<Indexes> nodes) {
+        Gauge.builder("search.keyword_index.suggestion_nodes", this, self -> {
+                    Indexes current = self.indexes;
+                    return current != null ? nodes.applyAsDouble(current) : 0;
+                })
+                .tag("type", type)
+                .description("자동완성 trie의 노드 수 — 점유 메모리는 대략 이 수에 비례한다")
+                .register(meterRegistry);
+    }
+
+    /** 두 오름차순 배열의 합집합, 오름차순 */
+    static long[] union(long[] a, long[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.length == 0) {
+            return b;
+        }
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            merged[count++] = next;
+        }
+        return Arrays.copyOf(merged, count);
+    }
+}
@@ -0,0 +1,36 @@
+package showroomz.domain.search;
+
+import java.util.Collection;
+
+/**
+ * 키워드 색인이 따라가야 할 변경. 커밋된 뒤에만 색인에 반영된다({@link KeywordSearchIndex}) — 롤백된 이름이
+ * 검색에 걸리면 없는 상품을 찾아 주는 셈이다.
+ */
+public sealed interface SearchDocumentChanged {
+
+    /** 상품 저장·삭제. 삭제는 {@code displayed=false}로 온다 — 색인에 남아도 검색에 걸리지 않는다. */
+    record ProductChanged(long productId, String name, Long marketId, boolean displayed)
+            implements SearchDocumentChanged {
+    }
+
+    /** 마켓 이름 변경. 이름이 null이면 색인에서 뺀다. */
+    record MarketChanged(long marketId, String marketName) implements SearchDocumentChanged {
+    }
+
+    /**
+     * 쇼룸명·아이디 변경. 둘 중 하나라도 없으면 아직 등록 전이라 색인에서 뺀다. {@code ownerVisible}은 주인
+     * 계정이 정상 크리에이터인지이고, 계정을 읽지 않은 채 저장됐으면 null이다 — 색인이 알던 상태를 그대로 둔다.
+     */
+    record ShowroomChanged(long creatorId, String showroomName, String showroomAddress,
+                           long userId, Boolean ownerVisible) implements SearchDocumentChanged {
+    }
+
+    /** 계정 상태·권한 변경 — 그 계정이 연 쇼룸을 노출에서 빼거나 되살린다 */
+    record ShowroomOwnerChanged(long userId, boolean visible) implements SearchDocumentChanged {
+    }
+
+    /** 벌크 UPDATE로 진열 상태가 바뀐 상품 — 엔티티 콜백을 거치지 않는 경로가 직접 알린다 */
+    record ProductsDisplayChanged(Collection<Long> productIds, boolean displayed)
+            implements SearchDocumentChanged {
+    }
+}
@@ -0,0 +1,82 @@
+package showroomz.domain.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.member.user.type.UserStatus;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.type.ProductDisplayStatus;
+
+/**
+ * 상품·마켓·쇼룸(과 쇼룸 주인 계정) 엔티티의 저장·삭제를 색인 변경 이벤트로 바꾼다.
+ *
+ * <p>이름을 바꾸는 경로가 판매자·운영·변경 요청 승인에 흩어져 있어, 서비스마다 이벤트를 챙기게 하면 하나쯤은
+ * 빠진다. 엔티티 콜백은 어느 경로든 DB에 쓰이는 순간 불린다. 벌크 UPDATE는 콜백을 거치지 않으므로 그
+ * 경로({@code ProductStatusBulkUpdater})만 따로 알린다.
+ *
+ * <p>Hibernate가 스프링 빈 컨테이너로 만들 때는 주입 생성자를 쓴다. 스프링 없이 메타모델만 올리는 경우(쿼리
+ * 파싱 검사)에는 기본 생성자로 만들어지고 아무것도 알리지 않는다.
+ */
+public class SearchDocumentListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SearchDocumentListener() {
+        this(null);
+    }
+
+    @Autowired
+    public SearchDocumentListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(Object entity) {
+        publish(entity, false);
+    }
+
+    @PostRemove
+    void onRemoved(Object entity) {
+        publish(entity, true);
+    }
+
+    private void publish(Object entity, boolean removed) {
+        SearchDocumentChanged event = switch (entity) {
+            case Product product -> new SearchDocumentChanged.ProductChanged(product.getProductId(),
+                    product.getName(),
+                    product.getMarket() != null ? product.getMarket().getId() : null,
+                    !removed && product.getDisplayStatus() == ProductDisplayStatus.DISPLAY);
+            case Market market -> new SearchDocumentChanged.MarketChanged(market.getId(),
+                    removed ? null : market.getMarketName());
+            case Creator creator -> new SearchDocumentChanged.ShowroomChanged(creator.getId(),
+                    removed ? null : creator.getShowroomName(),
+                    removed ? null : creator.getShowroomAddress(),
+                    creator.getUser().getId(),
+                    ownerVisible(creator.getUser()));
+            case Users user -> new SearchDocumentChanged.ShowroomOwnerChanged(user.getId(),
+                    !removed && isVisibleOwner(user));
+            default -> null;
+        };
+        if (event != null && eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /** 플러시 중에 지연 로딩을 일으키지 않도록, 이미 읽힌 계정만 본다 */
+    private static Boolean ownerVisible(Users owner) {
+        return Hibernate.isInitialized(owner) ? isVisibleOwner(owner) : null;
+    }
+
+    /** {@code PublicShowrooms#visible()}의 계정 조건 */
+    private static boolean isVisibleOwner(Users user) {
+        return user.getStatus() == UserStatus.NORMAL && user.getRoleType() == RoleType.CREATOR;
+    }
+}
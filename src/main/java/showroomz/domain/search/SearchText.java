@@ -0,0 +1,77 @@
+package showroomz.domain.search;
+
+import java.util.Locale;
+
+/**
+ * 검색어와 색인 대상 문자열을 같은 모양으로 맞추는 규칙.
+ *
+ * <p>기본은 DB의 {@code containsIgnoreCase}와 같은 뜻이다 — 소문자로 접을 뿐 공백·기호는 그대로 둔다. 색인이
+ * 찾은 결과와 색인을 못 쓸 때의 LIKE 결과가 달라지면, 같은 검색어가 인스턴스 상태에 따라 다른 목록을 낸다.
+ *
+ * <p>한 가지 더 받는 것이 초성 검색이다. 검색어가 한글 자음으로만 되어 있으면("ㅅㄹ") 한글 음절을 초성으로
+ * 바꾼 문자열에서 찾는다. 모바일 키보드로 이름을 다 치기 전에 찾는 사용자가 많고, 자음만 든 검색어는 예전
+ * LIKE로는 거의 아무것도 걸리지 않았으므로 기존 결과를 빼앗지 않는다. 음절이 아닌 글자는 초성 문자열에도
+ * 그대로 남기므로 이름에 실제로 적힌 "ㅋㅋ"도 여전히 걸린다.
+ */
+public final class SearchText {
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    /** 초성 하나가 묶는 음절 수 — 중성 21 × 종성 28 */
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char CONSONANT_FIRST = 'ㄱ';
+    private static final char CONSONANT_LAST = 'ㅎ';
+
+    private SearchText() {
+    }
+
+    /** 색인과 검색어 양쪽에 같은 규칙을 쓴다. null은 null로 돌려준다. */
+    public static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /** 한글 자음(과 띄어쓰기)만으로 된 검색어 — 초성 문자열에서 찾는다 */
+    public static boolean isInitialsQuery(String keyword) {
+        if (keyword == null) {
+            return false;
+        }
+        boolean hasConsonant = false;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c >= CONSONANT_FIRST && c <= CONSONANT_LAST) {
+                hasConsonant = true;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    /** 한글 음절을 초성으로 바꾼다. 음절이 아닌 글자는 그대로 둔다. */
+    public static String initials(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = text.charAt(i);
+            chars[i] = c >= HANGUL_FIRST && c <= HANGUL_LAST
+                    ? INITIALS[(c - HANGUL_FIRST) / SYLLABLES_PER_INITIAL]
+                    : c;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 검색어가 맞춰 볼 모양으로 바꾼 대상 문자열. 둘 다 {@link #normalize}를 거친 값이어야 한다.
+     */
+    public static String matchForm(String normalizedText, String normalizedKeyword) {
+        return isInitialsQuery(normalizedKeyword) ? initials(normalizedText) : normalizedText;
+    }
+
+    public static boolean contains(String normalizedText, String normalizedKeyword) {
+        return matchForm(normalizedText, normalizedKeyword).contains(normalizedKeyword);
+    }
+
+    public static boolean startsWith(String normalizedText, String normalizedKeyword) {
+        return matchForm(normalizedText, normalizedKeyword).startsWith(normalizedKeyword);
+    }
+}
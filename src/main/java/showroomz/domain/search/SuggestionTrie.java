@@ -0,0 +1,221 @@
+package showroomz.domain.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 자동완성용 trie — 노드마다 "이 문자열을 포함하는 문서 중 앞 순위 몇 개"를 미리 골라 둔다.
+ *
+ * <p>자동완성은 예전에도 지금도 부분 일치다("토너"로 "수분 토너"가 나온다). 그래서 이름의 앞부분만이 아니라
+ * 모든 위치에서 시작하는 조각을 넣는다 — 검색어로 내려간 노드가 곧 그 검색어를 포함하는 문서들의 자리다. 조각은
+ * {@code depth} 글자까지만 넣는다. 이름 길이만큼 다 넣으면 노드 수가 이름 길이의 제곱으로 늘고, 그보다 긴
+ * 검색어는 걸리는 문서가 적어 2-gram 후보를 바로 줄 세워도 싸다({@link BigramIndex#suggest}).
+ *
+ * <p>노드의 목록은 순위(작을수록 앞, 같으면 문서 번호 순)로 정렬돼 있고 {@code limit}개를 넘지 않는다. 넣을
+ * 때는 자리가 있거나 꼴찌보다 앞서면 끼운다 — 비활성 문서는 무엇보다 뒤라 먼저 밀려난다. 문서가 꺼져도 목록에서
+ * 빼지 않는다: 읽을 때 건너뛰고, 그 때문에 모자라면서 밀려난 문서가 있었던 노드({@code overflowed})만 호출자가
+ * 다시 채운다({@link #replace}). 다시 켜진 문서는 호출자가 {@link #add}로 다시 넣는다.
+ *
+ * <p>노드는 객체가 아니라 평행 배열의 번호다 — 20만 상품명에서 노드가 수십만 개라 객체 머리만으로도 힙을 꽤
+ * 먹는다. 자식은 형제 연결 목록으로 찾고, 가지가 가장 많은 뿌리만 글자로 바로 찾는 표를 둔다.
+ * 동기화는 하지 않는다 — {@link BigramIndex}의 락 안에서만 쓴다.
+ */
+final class SuggestionTrie {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_NODES = 1_024;
+
+    /** 문서 번호의 순위와 활성 여부 — 문서 표는 {@link BigramIndex}가 가진다 */
+    interface Documents {
+
+        int rank(int ordinal);
+
+        boolean isActive(int ordinal);
+    }
+
+    private final int depth;
+    private final int limit;
+    private final Documents documents;
+    private final int[] rootChildren = new int[Character.MAX_VALUE + 1];
+    private final BitSet overflowed = new BitSet();
+
+    private char[] labels = new char[INITIAL_NODES];
+    private int[] firstChild = new int[INITIAL_NODES];
+    private int[] nextSibling = new int[INITIAL_NODES];
+    private byte[] counts = new byte[INITIAL_NODES];
+    private int[] entries;
+    private int nodes = 1;
+
+    SuggestionTrie(int depth, int limit, Documents documents) {
+        if (limit > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("limit must fit in a byte: " + limit);
+        }
+        this.depth = depth;
+        this.limit = limit;
+        this.documents = documents;
+        this.entries = new int[INITIAL_NODES * limit];
+        Arrays.fill(rootChildren, NONE);
+        firstChild[ROOT] = NONE;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    /** 문서의 {@code depth} 글자 이하 조각을 모두 넣는다. 이미 든 노드에는 두 번 넣지 않는다. */
+    void add(String text, int ordinal) {
+        for (int start = 0; start < text.length(); start++) {
+            int node = ROOT;
+            int end = Math.min(text.length(), start + depth);
+            for (int i = start; i < end; i++) {
+                node = childOrCreate(node, text.charAt(i));
+                offer(node, ordinal);
+            }
+        }
+    }
+
+    /**
+     * 검색어 노드의 목록 중 활성 문서를 순위대로 적는다. 적은 개수를 돌려주고, 다시 채워야 하면(빠진 자리를
+     * 밀려난 문서가 메워야 하면) 음수로 돌려준다. 노드가 없으면 0 — 그 검색어를 포함한 문서가 없었다.
+     */
+    int collect(String key, int[] out) {
+        int node = find(key);
+        if (node == NONE) {
+            return 0;
+        }
+        int base = node * limit;
+        int found = 0;
+        for (int i = 0; i < counts[node]; i++) {
+            int ordinal = entries[base + i];
+            if (documents.isActive(ordinal)) {
+                out[found++] = ordinal;
+            }
+        }
+        return found < limit && overflowed.get(node) ? -1 : found;
+    }
+
+    /**
+     * 검색어 노드의 목록을 새로 정한다. {@code ranked}는 그 검색어를 포함하는 활성 문서 중 앞 순위를 차례로
+     * 담은 것이고, {@code more}는 그 밖에도 포함하는 활성 문서가 있었는지다.
+     */
+    void replace(String key, int[] ranked, int length, boolean more) {
+        int node = find(key);
+        if (node == NONE) {
+            return;
+        }
+        int kept = Math.min(length, limit);
+        System.arraycopy(ranked, 0, entries, node * limit, kept);
+        counts[node] = (byte) kept;
+        overflowed.set(node, more);
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int nodeCount() {
+        return nodes;
+    }
+
+    /** 배열이 잡고 있는 바이트 — 지표와 측정용 어림값이다(배열 머리와 여유 칸은 뺀다) */
+    long estimatedBytes() {
+        long perNode = Character.BYTES + 2L * Integer.BYTES + Byte.BYTES + (long) limit * Integer.BYTES;
+        return (long) rootChildren.length * Integer.BYTES + nodes * perNode + overflowed.size() / Byte.SIZE;
+    }
+
+    private int find(String key) {
+        if (key.isEmpty() || key.length() > depth) {
+            return NONE;
+        }
+        int node = rootChildren[key.charAt(0)];
+        for (int i = 1; i < key.length() && node != NONE; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int parent, char label) {
+        for (int node = firstChild[parent]; node != NONE; node = nextSibling[node]) {
+            if (labels[node] == label) {
+                return node;
+            }
+        }
+        return NONE;
+    }
+
+    private int childOrCreate(int parent, char label) {
+        int existing = parent == ROOT ? rootChildren[label] : child(parent, label);
+        if (existing != NONE) {
+            return existing;
+        }
+        int node = allocate(label);
+        if (parent == ROOT) {
+            rootChildren[label] = node;
+        } else {
+            nextSibling[node] = firstChild[parent];
+            firstChild[parent] = node;
+        }
+        return node;
+    }
+
+    private int allocate(char label) {
+        if (nodes == labels.length) {
+            int capacity = nodes + (nodes >> 1);
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            entries = Arrays.copyOf(entries, capacity * limit);
+        }
+        int node = nodes++;
+        labels[node] = label;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        return node;
+    }
+
+    private void offer(int node, int ordinal) {
+        int base = node * limit;
+        int count = counts[node];
+        for (int i = 0; i < count; i++) {
+            if (entries[base + i] == ordinal) {
+                return;
+            }
+        }
+        if (count == limit) {
+            int evict = lastInactive(base, count);
+            if (evict == NONE) {
+                overflowed.set(node);
+                if (!precedes(ordinal, entries[base + count - 1])) {
+                    return;
+                }
+                evict = count - 1;
+            }
+            System.arraycopy(entries, base + evict + 1, entries, base + evict, count - evict - 1);
+            count--;
+        }
+        int position = count;
+        while (position > 0 && precedes(ordinal, entries[base + position - 1])) {
+            entries[base + position] = entries[base + position - 1];
+            position--;
+        }
+        entries[base + position] = ordinal;
+        counts[node] = (byte) (count + 1);
+    }
+
+    private int lastInactive(int base, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (!documents.isActive(entries[base + i])) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    /** 순위가 작을수록, 같으면 먼저 들어온 문서가 앞이다 */
+    boolean precedes(int a, int b) {
+        int byRank = Integer.compare(documents.rank(a), documents.rank(b));
+        return byRank != 0 ? byRank < 0 : a < b;
+    }
+}
@@ -0,0 +1,46 @@
+package showroomz.domain.sequence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채번 키별로 <b>다음에 내줄 값</b>을 들고 있는 행 — 키는 번호 접두어 그대로다(예: {@code SRZ-20261018}).
+ *
+ * <p>행 하나가 "어디까지 나눠줬는가"만 기억한다. 나눠준 블록 안에서 실제로 몇 번까지 썼는지는
+ * 각 인스턴스 메모리에만 있어서, 재기동하면 남은 블록은 버려진다(번호 공백 허용). 행은 키의 첫 예약 때
+ * {@code SequenceAllocationRepository#insertIfAbsent}가 만든다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sequence_allocation")
+public class SequenceAllocation {
+
+    @Id
+    @Column(name = "sequence_key", length = 64)
+    private String sequenceKey;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    /**
+     * {@code [nextValue, nextValue + size)} 구간을 예약하고 시작값을 돌려준다.
+     * 행 잠금을 쥔 트랜잭션 안에서만 불러야 구간이 겹치지 않는다.
+     */
+    public long reserve(int size) {
+        long start = nextValue;
+        nextValue += size;
+        modifiedAt = LocalDateTime.now();
+        return start;
+    }
+}
@@ -0,0 +1,33 @@
+package showroomz.domain.sequence.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.sequence.entity.SequenceAllocation;
+
+import java.util.Optional;
+
+public interface SequenceAllocationRepository extends JpaRepository<SequenceAllocation, String> {
+
+    /**
+     * 키의 첫 행을 {@code next_value = 1}로 만든다. 이미 있으면 아무것도 바꾸지 않는다.
+     *
+     * <p>잠금 읽기보다 먼저 부른다 — 없는 키를 {@code FOR UPDATE}로 읽으면 두 인스턴스가 같은 간격에 gap lock을
+     * 나눠 잡고 나서 둘 다 INSERT하려다 교착한다. 이 문장은 키 자리에 곧바로 행 잠금을 잡으므로 뒤에 온 쪽은
+     * 먼저 온 쪽의 커밋을 기다렸다가 있는 행으로 지나간다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO sequence_allocation (sequence_key, next_value, modified_at)
+            VALUES (:key, 1, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE sequence_key = sequence_key
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("key") String key);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SequenceAllocation s WHERE s.sequenceKey = :key")
+    Optional<SequenceAllocation> findByKeyForUpdate(@Param("key") String key);
+}
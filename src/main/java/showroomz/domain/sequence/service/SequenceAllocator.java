@@ -0,0 +1,81 @@
+package showroomz.domain.sequence.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키별 단조 증가 번호 발급기 — 상품번호(SRZ-YYYYMMDD-NNN)·문의번호(QNA-YYYYMMDD-NNN)의 NNN을 낸다.
+ *
+ * <p>예전에는 상품번호 하나를 만들려고 상품 테이블 전체를 읽었고({@code findAll()}), 문의번호는 화면에
+ * 그릴 때마다 그날 문의 수를 셌다. 둘 다 데이터가 쌓일수록 느려지고, 동시 등록이면 같은 번호가 나온다.
+ * 여기서는 {@code sequence_allocation} 행에서 {@value #BLOCK_SIZE}개씩 구간을 떼어 와 메모리에서
+ * 하나씩 내준다 — DB는 블록이 바닥날 때만 한 번 닿는다.
+ *
+ * <p><b>보장하는 것</b>: 같은 키 안에서 중복 없음, 한 인스턴스 안에서 증가. <b>보장하지 않는 것</b>: 연속성.
+ * 재기동·롤백·다중 인스턴스에서 쓰지 못한 구간은 그대로 건너뛴다. 번호는 식별용이지 건수가 아니다.
+ */
+@Service
+public class SequenceAllocator {
+
+    static final int BLOCK_SIZE = 10;
+
+    private final SequenceBlockStore blockStore;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new HashMap<>();
+
+    @Autowired
+    public SequenceAllocator(SequenceBlockStore blockStore) {
+        this(blockStore, BLOCK_SIZE);
+    }
+
+    SequenceAllocator(SequenceBlockStore blockStore, int blockSize) {
+        this.blockStore = blockStore;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 키의 다음 번호. 블록이 남아 있으면 DB에 닿지 않는다.
+     *
+     * <p>날짜가 바뀌면 키도 바뀌므로, 새 키를 받는 시점에 다른 키의 블록은 내려놓는다 —
+     * 일자별 키가 메모리에 끝없이 쌓이지 않게 하려는 것이고, 지난 날짜 번호를 다시 낼 일은 없다.
+     */
+    public synchronized long next(String key) {
+        Block block = blocks.get(key);
+        if (block == null || block.exhausted()) {
+            if (block == null) {
+                blocks.keySet().removeIf(other -> sameFamily(other, key));
+            }
+            block = new Block(blockStore.reserve(key, blockSize), blockSize);
+            blocks.put(key, block);
+        }
+        return block.take();
+    }
+
+    /** {@code SRZ-20261018}과 {@code SRZ-20261017}처럼 마지막 '-' 앞 접두어가 같은 키 */
+    private static boolean sameFamily(String a, String b) {
+        int ai = a.lastIndexOf('-');
+        int bi = b.lastIndexOf('-');
+        return ai >= 0 && ai == bi && a.regionMatches(0, b, 0, ai);
+    }
+
+    private static final class Block {
+        private long next;
+        private final long limit;
+
+        private Block(long start, int size) {
+            this.next = start;
+            this.limit = start + size;
+        }
+
+        private boolean exhausted() {
+            return next >= limit;
+        }
+
+        private long take() {
+            return next++;
+        }
+    }
+}
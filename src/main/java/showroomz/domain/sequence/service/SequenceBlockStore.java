@@ -0,0 +1,31 @@
+package showroomz.domain.sequence.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.sequence.entity.SequenceAllocation;
+import showroomz.domain.sequence.repository.SequenceAllocationRepository;
+
+/**
+ * {@link SequenceAllocator}가 블록을 다 쓰면 부르는 DB 쪽 절반 — 키 행을 잠그고 구간을 떼어 준다.
+ *
+ * <p><b>왜 REQUIRES_NEW인가</b> — 호출자(상품 등록 등)의 트랜잭션에 합류하면 행 잠금이 그 트랜잭션이
+ * 끝날 때까지 유지돼, 같은 날 번호를 받으려는 다른 요청이 이미지 업로드·옵션 저장까지 통째로 기다린다.
+ * 따로 커밋하면 잠금은 UPDATE 한 번 동안만 잡힌다. 호출자가 롤백되면 받은 구간은 버려진다(공백 허용).
+ */
+@Service
+@RequiredArgsConstructor
+public class SequenceBlockStore {
+
+    private final SequenceAllocationRepository sequenceAllocationRepository;
+
+    /** @return 예약한 구간의 시작값 — {@code [start, start + size)}가 이 호출자 몫이다 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String key, int size) {
+        sequenceAllocationRepository.insertIfAbsent(key);
+        SequenceAllocation allocation = sequenceAllocationRepository.findByKeyForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("채번 행이 없습니다: " + key));
+        return allocation.reserve(size);
+    }
+}
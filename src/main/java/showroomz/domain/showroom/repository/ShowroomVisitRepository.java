@@ -1,5 +1,6 @@
 package showroomz.domain.showroom.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +9,10 @@ import showroomz.domain.showroom.entity.ShowroomVisit;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 기간 집계 쿼리의 {@code afterId}·{@code throughId}는 일별 롤업과 합칠 때 쓴다 — 롤업된 날짜 안에서 워터마크 뒤에
+ * 늦게 들어온 행만 id 범위로 센다({@code ShowroomVisitStatsReader}). 인자 없는 쪽은 원천 로그 전 구간이다.
+ */
 public interface ShowroomVisitRepository extends JpaRepository<ShowroomVisit, Long> {
 
     /** §22-4 30분 세션 판정 — 직전 세션 안에 이미 들어온 방문자면 순방문을 새로 세지 않는다. */
@@ -15,43 +20,108 @@ public interface ShowroomVisitRepository extends JpaRepository<ShowroomVisit, Lo
 
     /** 순방문 — 방문 횟수(적재 시점에 세션 중복을 걸렀으므로 행 수가 곧 순방문이다). */
     @Query("SELECT COUNT(v) FROM ShowroomVisit v " +
-           "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to")
+           "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId")
     long countVisits(@Param("creatorId") Long creatorId,
                      @Param("from") LocalDateTime from,
-                     @Param("to") LocalDateTime to);
+                     @Param("to") LocalDateTime to,
+                     @Param("afterId") long afterId,
+                     @Param("throughId") long throughId);
+
+    default long countVisits(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        return countVisits(creatorId, from, to, 0L, Long.MAX_VALUE);
+    }
 
     /** 방문자 수 — 중복 제거한 사람 수. 팔로우 전환율의 분모다(횟수가 아니라 사람 기준). */
     @Query("SELECT COUNT(DISTINCT v.visitorKey) FROM ShowroomVisit v " +
-           "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to")
+           "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId")
     long countVisitors(@Param("creatorId") Long creatorId,
                        @Param("from") LocalDateTime from,
-                       @Param("to") LocalDateTime to);
+                       @Param("to") LocalDateTime to,
+                       @Param("afterId") long afterId,
+                       @Param("throughId") long throughId);
+
+    default long countVisitors(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        return countVisitors(creatorId, from, to, 0L, Long.MAX_VALUE);
+    }
 
     /** 유입 경로 — {소스, 방문 횟수} 행. */
     @Query("SELECT v.source, COUNT(v) FROM ShowroomVisit v " +
            "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId " +
            "GROUP BY v.source")
     List<Object[]> countVisitsBySource(@Param("creatorId") Long creatorId,
                                        @Param("from") LocalDateTime from,
-                                       @Param("to") LocalDateTime to);
+                                       @Param("to") LocalDateTime to,
+                                       @Param("afterId") long afterId,
+                                       @Param("throughId") long throughId);
+
+    default List<Object[]> countVisitsBySource(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        return countVisitsBySource(creatorId, from, to, 0L, Long.MAX_VALUE);
+    }
 
     /**
      * §22-4 팔로워 행동 — 기간 내 방문한 <b>팔로워 1인당 방문 횟수</b> 목록.
      * 행 수 = 방문한 팔로워 수, 합 = 팔로워 방문 횟수, 2 이상인 행 수 = 재방문한 팔로워 수라서
-     * 평균 방문 횟수·재방문율·방문자 중 팔로워 비중을 이 목록 하나로 모두 계산한다(개인 식별자는 꺼내지 않는다).
+     * 평균 방문 횟수·재방문율·방문자 중 팔로워 비중을 이 목록 하나로 모두 계산한다.
+     *
+     * <p>{사용자 ID, 방문 횟수} 행이다 — 일별 롤업 구간과 합칠 때 같은 사람의 방문을 더해야 해서 ID를 함께 꺼낸다.
+     * ID는 집계 계층({@code ShowroomVisitStatsReader}) 밖으로 나가지 않는다.
      */
-    @Query("SELECT COUNT(v) FROM ShowroomVisit v " +
+    @Query("SELECT v.user.id, COUNT(v) FROM ShowroomVisit v " +
            "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId " +
            "AND v.user.id IN (SELECT cf.user.id FROM CreatorFollow cf WHERE cf.creator.id = :creatorId) " +
            "GROUP BY v.user.id")
-    List<Long> countVisitsPerFollower(@Param("creatorId") Long creatorId,
-                                      @Param("from") LocalDateTime from,
-                                      @Param("to") LocalDateTime to);
+    List<Object[]> countVisitsPerFollower(@Param("creatorId") Long creatorId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("afterId") long afterId,
+                                          @Param("throughId") long throughId);
+
+    default List<Object[]> countVisitsPerFollower(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        return countVisitsPerFollower(creatorId, from, to, 0L, Long.MAX_VALUE);
+    }
 
     /** §24-7 ② 행동 — 이 게시물에 귀속된 쇼룸 방문. 귀속은 적재 시점에 이미 정해져 있다. */
     @Query("SELECT COUNT(v) FROM ShowroomVisit v " +
-           "WHERE v.attributedPostId = :postId AND v.visitedAt >= :from AND v.visitedAt < :to")
+           "WHERE v.attributedPostId = :postId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId")
     long countAttributedVisits(@Param("postId") Long postId,
                                @Param("from") LocalDateTime from,
-                               @Param("to") LocalDateTime to);
+                               @Param("to") LocalDateTime to,
+                               @Param("afterId") long afterId,
+                               @Param("throughId") long throughId);
+
+    default long countAttributedVisits(Long postId, LocalDateTime from, LocalDateTime to) {
+        return countAttributedVisits(postId, from, to, 0L, Long.MAX_VALUE);
+    }
+
+    /** 방문자 집합 — 일별 롤업 구간과 합칠 때 중복 제거를 위해 키를 꺼낸다. 집계 계층 밖으로 나가지 않는다. */
+    @Query("SELECT DISTINCT v.visitorKey FROM ShowroomVisit v " +
+           "WHERE v.creator.id = :creatorId AND v.visitedAt >= :from AND v.visitedAt < :to " +
+           "AND v.id > :afterId AND v.id <= :throughId")
+    List<String> findVisitorKeys(@Param("creatorId") Long creatorId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("afterId") long afterId,
+                                 @Param("throughId") long throughId);
+
+    default List<String> findVisitorKeys(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        return findVisitorKeys(creatorId, from, to, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * 일별 롤업 배치 — 워터마크 다음 행부터 id 순으로 {id, 쇼룸, 방문 시각, 방문자, 사용자, 유입 경로, 귀속 게시물}.
+     * PK 범위 조회라 로그가 아무리 커도 조각 크기만큼만 읽는다.
+     */
+    @Query("SELECT v.id, v.creator.id, v.visitedAt, v.visitorKey, u.id, v.source, v.attributedPostId " +
+           "FROM ShowroomVisit v LEFT JOIN v.user u " +
+           "WHERE v.id > :afterId ORDER BY v.id")
+    List<Object[]> findRollupRows(@Param("afterId") long afterId, Pageable pageable);
+
+    /** 롤업 구간에 늦게 들어온 행을 셀 id 범위의 끝 — PK 끝을 한 번 짚는다 */
+    @Query("SELECT COALESCE(MAX(v.id), 0) FROM ShowroomVisit v")
+    long findMaxId();
 }
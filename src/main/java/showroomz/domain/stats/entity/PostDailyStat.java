@@ -0,0 +1,61 @@
+package showroomz.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * §24-7 게시물 인사이트 일별 롤업 — (게시물, 날짜)당 노출 수와 이 게시물에 귀속된 쇼룸 방문 수.
+ *
+ * <p>두 값은 원천이 다르다(노출 로그 · 방문 로그). 각자의 워터마크로 따로 접힌다.
+ * 좋아요·팔로우는 취소되면 행이 사라지는 관계 테이블이라 롤업하지 않는다 — 접어 두면 취소가 빠지지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_daily_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_post_daily_stat", columnNames = {"post_id", "stat_date"})
+)
+public class PostDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_daily_stat_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "impressions", nullable = false)
+    private long impressions;
+
+    @Column(name = "attributed_visits", nullable = false)
+    private long attributedVisits;
+
+    public PostDailyStat(Long postId, LocalDate statDate) {
+        this.postId = postId;
+        this.statDate = statDate;
+    }
+
+    public void addImpressions(long impressions) {
+        this.impressions += impressions;
+    }
+
+    public void addAttributedVisits(long visits) {
+        this.attributedVisits += visits;
+    }
+}
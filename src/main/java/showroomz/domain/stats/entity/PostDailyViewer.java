@@ -0,0 +1,63 @@
+package showroomz.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * §24-7 ③ 본 사람 일별 집합 — (게시물, 날짜, 조회자)당 한 행.
+ *
+ * <p>{@link ShowroomDailyVisitor}와 같은 이유로 근사 스케치가 아니라 정확한 집합이다.
+ * 성별·생년월일은 여기 복사하지 않고 읽을 때 사용자와 조인한다 — 원천 로그 집계도 그렇게 하므로
+ * 사용자가 정보를 고치거나 지워도 두 경로의 숫자가 같다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_daily_viewer",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_post_daily_viewer", columnNames = {"post_id", "stat_date", "viewer_key"})
+)
+public class PostDailyViewer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_daily_viewer_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "viewer_key", nullable = false, length = 64)
+    private String viewerKey;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "impressions", nullable = false)
+    private long impressions;
+
+    public PostDailyViewer(Long postId, LocalDate statDate, String viewerKey, Long userId) {
+        this.postId = postId;
+        this.statDate = statDate;
+        this.viewerKey = viewerKey;
+        this.userId = userId;
+    }
+
+    public void add(long impressions) {
+        this.impressions += impressions;
+    }
+}
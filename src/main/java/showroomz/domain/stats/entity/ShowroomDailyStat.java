@@ -0,0 +1,60 @@
+package showroomz.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import showroomz.domain.showroom.type.ShowroomVisitSource;
+
+import java.time.LocalDate;
+
+/**
+ * §22-4 쇼룸 방문 일별 롤업 — (쇼룸, 날짜, 유입 경로)당 순방문 수.
+ * 방문 수 카드와 유입 경로 카드가 모두 이 행의 합이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "showroom_daily_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_showroom_daily_stat", columnNames = {"creator_id", "stat_date", "source"})
+)
+public class ShowroomDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "showroom_daily_stat_id")
+    private Long id;
+
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private ShowroomVisitSource source;
+
+    @Column(name = "visits", nullable = false)
+    private long visits;
+
+    public ShowroomDailyStat(Long creatorId, LocalDate statDate, ShowroomVisitSource source) {
+        this.creatorId = creatorId;
+        this.statDate = statDate;
+        this.source = source;
+    }
+
+    public void add(long visits) {
+        this.visits += visits;
+    }
+}
@@ -0,0 +1,62 @@
+package showroomz.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 원천 로그별 롤업 진행 위치.
+ *
+ * <p>{@code lastId}까지의 행은 일별 테이블에 접혀 있다. {@code completedThrough}는 "이 날짜까지는 하루치가
+ * 빠짐없이 접혔다"는 뜻이고, 읽기 경로는 <b>이 날짜 이하의 온전한 날만</b> 롤업에서 읽는다 — 나머지는
+ * 원천 로그에서 센다. 그래서 배치가 밀려도 숫자는 틀리지 않고 느려지기만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stats_rollup_watermark")
+public class StatsRollupWatermark {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", length = 40)
+    private StatsRollupSource source;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "completed_through")
+    private LocalDate completedThrough;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    public StatsRollupWatermark(StatsRollupSource source) {
+        this.source = source;
+        this.lastId = 0L;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    /**
+     * @param completedThrough 하루치가 다 접힌 마지막 날짜, 이번 조각으로 확정되지 않았으면 null.
+     *                         뒤로 가지 않는다.
+     */
+    public void advance(long lastId, LocalDate completedThrough) {
+        this.lastId = Math.max(this.lastId, lastId);
+        if (completedThrough != null
+                && (this.completedThrough == null || completedThrough.isAfter(this.completedThrough))) {
+            this.completedThrough = completedThrough;
+        }
+        this.modifiedAt = LocalDateTime.now();
+    }
+}
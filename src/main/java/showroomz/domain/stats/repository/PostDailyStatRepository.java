@@ -0,0 +1,40 @@
+package showroomz.domain.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.stats.entity.PostDailyStat;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostDailyStatRepository extends JpaRepository<PostDailyStat, Long> {
+
+    List<PostDailyStat> findAllByPostIdInAndStatDateIn(Collection<Long> postIds, Collection<LocalDate> statDates);
+
+    @Query("SELECT COALESCE(SUM(s.impressions), 0) FROM PostDailyStat s " +
+           "WHERE s.postId = :postId AND s.statDate BETWEEN :firstDay AND :lastDay")
+    long sumImpressions(@Param("postId") Long postId,
+                        @Param("firstDay") LocalDate firstDay,
+                        @Param("lastDay") LocalDate lastDay);
+
+    @Query("SELECT COALESCE(SUM(s.attributedVisits), 0) FROM PostDailyStat s " +
+           "WHERE s.postId = :postId AND s.statDate BETWEEN :firstDay AND :lastDay")
+    long sumAttributedVisits(@Param("postId") Long postId,
+                             @Param("firstDay") LocalDate firstDay,
+                             @Param("lastDay") LocalDate lastDay);
+
+    /** 파기 배치 — 게시물이 물리 삭제되면 롤업도 함께 지운다 */
+    @Modifying
+    @Query("DELETE FROM PostDailyStat s WHERE s.postId = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 노출 로그 보관 정리와 짝 — 지운 날의 노출 수만 비운다. 귀속 방문은 방문 로그가 원천이라 남긴다.
+     */
+    @Modifying
+    @Query("UPDATE PostDailyStat s SET s.impressions = 0 WHERE s.statDate < :threshold")
+    int clearImpressionsBefore(@Param("threshold") LocalDate threshold);
+}
@@ -0,0 +1,37 @@
+package showroomz.domain.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.stats.entity.PostDailyViewer;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostDailyViewerRepository extends JpaRepository<PostDailyViewer, Long> {
+
+    List<PostDailyViewer> findAllByPostIdInAndStatDateInAndViewerKeyIn(Collection<Long> postIds,
+                                                                       Collection<LocalDate> statDates,
+                                                                       Collection<String> viewerKeys);
+
+    /**
+     * {viewerKey, 성별, 생년월일} 행 — {@code PostImpressionRepository.findViewerDemographics}와 같은 모양이다.
+     * 사용자 정보는 롤업에 복사하지 않고 지금 값으로 조인한다.
+     */
+    @Query("SELECT DISTINCT v.viewerKey, u.gender, u.birthday FROM PostDailyViewer v " +
+           "LEFT JOIN Users u ON u.id = v.userId " +
+           "WHERE v.postId = :postId AND v.statDate BETWEEN :firstDay AND :lastDay")
+    List<Object[]> findViewerDemographics(@Param("postId") Long postId,
+                                          @Param("firstDay") LocalDate firstDay,
+                                          @Param("lastDay") LocalDate lastDay);
+
+    @Modifying
+    @Query("DELETE FROM PostDailyViewer v WHERE v.postId = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostDailyViewer v WHERE v.statDate < :threshold")
+    int deleteOlderThan(@Param("threshold") LocalDate threshold);
+}
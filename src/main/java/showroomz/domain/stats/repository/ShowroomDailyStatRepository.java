@@ -0,0 +1,31 @@
+package showroomz.domain.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.stats.entity.ShowroomDailyStat;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface ShowroomDailyStatRepository extends JpaRepository<ShowroomDailyStat, Long> {
+
+    /** 롤업 배치가 이번 조각과 겹치는 기존 행을 한 번에 불러온다 */
+    List<ShowroomDailyStat> findAllByCreatorIdInAndStatDateIn(Collection<Long> creatorIds,
+                                                               Collection<LocalDate> statDates);
+
+    @Query("SELECT COALESCE(SUM(s.visits), 0) FROM ShowroomDailyStat s " +
+           "WHERE s.creatorId = :creatorId AND s.statDate BETWEEN :firstDay AND :lastDay")
+    long sumVisits(@Param("creatorId") Long creatorId,
+                   @Param("firstDay") LocalDate firstDay,
+                   @Param("lastDay") LocalDate lastDay);
+
+    /** {소스, 방문 횟수} 행 — {@code ShowroomVisitRepository.countVisitsBySource}와 같은 모양이다 */
+    @Query("SELECT s.source, SUM(s.visits) FROM ShowroomDailyStat s " +
+           "WHERE s.creatorId = :creatorId AND s.statDate BETWEEN :firstDay AND :lastDay " +
+           "GROUP BY s.source")
+    List<Object[]> sumVisitsBySource(@Param("creatorId") Long creatorId,
+                                     @Param("firstDay") LocalDate firstDay,
+                                     @Param("lastDay") LocalDate lastDay);
+}
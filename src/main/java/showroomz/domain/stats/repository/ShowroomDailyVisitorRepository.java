@@ -0,0 +1,41 @@
+package showroomz.domain.stats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.stats.entity.ShowroomDailyVisitor;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface ShowroomDailyVisitorRepository extends JpaRepository<ShowroomDailyVisitor, Long> {
+
+    List<ShowroomDailyVisitor> findAllByCreatorIdInAndStatDateInAndVisitorKeyIn(Collection<Long> creatorIds,
+                                                                                Collection<LocalDate> statDates,
+                                                                                Collection<String> visitorKeys);
+
+    @Query("SELECT COUNT(DISTINCT s.visitorKey) FROM ShowroomDailyVisitor s " +
+           "WHERE s.creatorId = :creatorId AND s.statDate BETWEEN :firstDay AND :lastDay")
+    long countDistinctVisitors(@Param("creatorId") Long creatorId,
+                               @Param("firstDay") LocalDate firstDay,
+                               @Param("lastDay") LocalDate lastDay);
+
+    /** 원천 로그 구간의 방문자 중 롤업 구간에도 있는 사람 — 두 구간을 합칠 때 겹치는 몫을 뺀다 */
+    @Query("SELECT DISTINCT s.visitorKey FROM ShowroomDailyVisitor s " +
+           "WHERE s.creatorId = :creatorId AND s.statDate BETWEEN :firstDay AND :lastDay " +
+           "AND s.visitorKey IN :visitorKeys")
+    List<String> findVisitorKeysIn(@Param("creatorId") Long creatorId,
+                                   @Param("firstDay") LocalDate firstDay,
+                                   @Param("lastDay") LocalDate lastDay,
+                                   @Param("visitorKeys") Collection<String> visitorKeys);
+
+    /** {사용자 ID, 방문 횟수} — 현재 팔로워만. 팔로우 관계는 읽는 시점 기준이다(원천 집계와 같다). */
+    @Query("SELECT s.userId, SUM(s.visits) FROM ShowroomDailyVisitor s " +
+           "WHERE s.creatorId = :creatorId AND s.statDate BETWEEN :firstDay AND :lastDay " +
+           "AND s.userId IN (SELECT cf.user.id FROM CreatorFollow cf WHERE cf.creator.id = :creatorId) " +
+           "GROUP BY s.userId")
+    List<Object[]> sumVisitsPerFollower(@Param("creatorId") Long creatorId,
+                                        @Param("firstDay") LocalDate firstDay,
+                                        @Param("lastDay") LocalDate lastDay);
+}
@@ -0,0 +1,19 @@
+package showroomz.domain.stats.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import showroomz.domain.stats.entity.StatsRollupWatermark;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.util.Optional;
+
+public interface StatsRollupWatermarkRepository extends JpaRepository<StatsRollupWatermark, StatsRollupSource> {
+
+    /** 인스턴스가 여럿이어도 같은 조각을 두 번 접지 않도록 워터마크 행을 잠근다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM StatsRollupWatermark w WHERE w.source = :source")
+    Optional<StatsRollupWatermark> findBySourceForUpdate(@Param("source") StatsRollupSource source);
+}
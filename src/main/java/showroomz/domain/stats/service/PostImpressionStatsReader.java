@@ -0,0 +1,65 @@
+package showroomz.domain.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.post.repository.PostImpressionRepository;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.PostDailyViewerRepository;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 노출 로그 집계 — {@link ShowroomVisitStatsReader}와 같은 방식으로 롤업과 원천 조각을 합친다.
+ * 메서드 이름과 반환 모양은 {@link PostImpressionRepository}의 원천 집계와 같다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostImpressionStatsReader {
+
+    private final PostImpressionRepository postImpressionRepository;
+    private final PostDailyStatRepository postDailyStatRepository;
+    private final PostDailyViewerRepository postDailyViewerRepository;
+    private final StatsRollupWindows rollupWindows;
+
+    public long countByPostIdInPeriod(Long postId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.POST_IMPRESSION, from, to);
+        long impressions = 0;
+        for (RollupWindow.Range range : window.rawRanges()) {
+            impressions += postImpressionRepository.countByPostIdInPeriod(postId,
+                    range.from(), range.to(), range.afterId(), range.throughId());
+        }
+        if (window.hasRollupDays()) {
+            impressions += postDailyStatRepository.sumImpressions(postId, window.firstDay(), window.lastDay());
+        }
+        return impressions;
+    }
+
+    /**
+     * {viewerKey, 성별, 생년월일} 행 — 두 경로의 조회자를 {@code viewerKey}로 합친다.
+     * 같은 키는 언제나 같은 사용자(또는 비로그인)라서 키로 접으면 원천 집계의 DISTINCT와 같아진다.
+     */
+    public List<Object[]> findViewerDemographics(Long postId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.POST_IMPRESSION, from, to);
+        Map<String, Object[]> viewers = new LinkedHashMap<>();
+        for (RollupWindow.Range range : window.rawRanges()) {
+            for (Object[] row : postImpressionRepository.findViewerDemographics(postId,
+                    range.from(), range.to(), range.afterId(), range.throughId())) {
+                viewers.putIfAbsent((String) row[0], row);
+            }
+        }
+        if (window.hasRollupDays()) {
+            for (Object[] row : postDailyViewerRepository.findViewerDemographics(
+                    postId, window.firstDay(), window.lastDay())) {
+                viewers.putIfAbsent((String) row[0], row);
+            }
+        }
+        return new ArrayList<>(viewers.values());
+    }
+}
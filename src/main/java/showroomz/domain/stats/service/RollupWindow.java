@@ -0,0 +1,74 @@
+package showroomz.domain.stats.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 집계 구간 [from, to)를 <b>롤업에서 읽을 온전한 날</b>과 <b>원천 로그에서 셀 조각</b>으로 나눈 것.
+ *
+ * <p>인사이트 기간은 "지금부터 30일 전"처럼 날짜 경계에 맞지 않는다. 첫날의 일부(머리)와 오늘(꼬리)은
+ * 하루치가 아니라서 롤업 값을 쓸 수 없으므로 원천 로그에서 세고, 그 사이의 온전한 날만 롤업에서 더한다.
+ * 롤업이 확정된 날짜({@code completedThrough}) 이후도 꼬리에 포함된다 — 배치가 밀려도 숫자는 같다.
+ *
+ * <p>롤업된 날에 늦게 들어온 행은 워터마크({@code lastId}) 뒤의 id라서, 가운데 조각은 날짜가 아니라 <b>id 범위
+ * (lastId, maxId]</b>로 좁힌다. 날짜로 열면 28~30일치 인덱스 범위를 훑으며 id를 하나씩 거르지만, id 범위는
+ * 마지막 배치 이후의 행뿐이다. 워터마크 뒤에 행이 없으면 그 조각은 아예 읽지 않는다.
+ */
+public record RollupWindow(List<Range> rawRanges, LocalDate firstDay, LocalDate lastDay) {
+
+    /** 원천 로그에서 셀 반열린 구간 [from, to) 중 id가 ({@code afterId}, {@code throughId}]인 행 */
+    public record Range(LocalDateTime from, LocalDateTime to, long afterId, long throughId) {
+
+        Range(LocalDateTime from, LocalDateTime to) {
+            this(from, to, 0L, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * @param maxId 원천 로그의 지금 가장 큰 id — 롤업된 날이 있을 때만 묻는다. 롤업·원천과 같은 읽기 트랜잭션에서
+     *              읽어야 그 사이 들어온 행이 빠지거나 겹치지 않는다
+     */
+    public static RollupWindow of(LocalDateTime from, LocalDateTime to, LocalDate completedThrough, long lastId,
+                                  LongSupplier maxId) {
+        if (completedThrough == null || !from.isBefore(to)) {
+            return rawOnly(from, to);
+        }
+        LocalDate firstDay = from.equals(from.toLocalDate().atStartOfDay())
+                ? from.toLocalDate()
+                : from.toLocalDate().plusDays(1);
+        // 날짜 d가 온전하려면 d 다음 날 0시가 to 이하여야 한다
+        LocalDate lastDay = to.toLocalDate().minusDays(1);
+        if (lastDay.isAfter(completedThrough)) {
+            lastDay = completedThrough;
+        }
+        if (firstDay.isAfter(lastDay)) {
+            return rawOnly(from, to);
+        }
+
+        List<Range> raw = new ArrayList<>(3);
+        LocalDateTime rollupStart = firstDay.atStartOfDay();
+        LocalDateTime rollupEnd = lastDay.plusDays(1).atStartOfDay();
+        if (from.isBefore(rollupStart)) {
+            raw.add(new Range(from, rollupStart));
+        }
+        long throughId = maxId.getAsLong();
+        if (throughId > lastId) {
+            raw.add(new Range(rollupStart, rollupEnd, lastId, throughId));
+        }
+        if (rollupEnd.isBefore(to)) {
+            raw.add(new Range(rollupEnd, to));
+        }
+        return new RollupWindow(List.copyOf(raw), firstDay, lastDay);
+    }
+
+    private static RollupWindow rawOnly(LocalDateTime from, LocalDateTime to) {
+        return new RollupWindow(List.of(new Range(from, to)), null, null);
+    }
+
+    public boolean hasRollupDays() {
+        return firstDay != null;
+    }
+}
@@ -0,0 +1,134 @@
+package showroomz.domain.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.showroom.type.ShowroomVisitSource;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.ShowroomDailyStatRepository;
+import showroomz.domain.stats.repository.ShowroomDailyVisitorRepository;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쇼룸 방문 로그 집계 — 온전한 날은 일별 롤업에서, 나머지 조각은 원천 로그에서 읽어 합친다.
+ *
+ * <p>메서드 이름과 반환 모양은 {@link ShowroomVisitRepository}의 원천 집계와 같다. 호출하는 쪽은 어느
+ * 경로로 셌는지 알 필요가 없고, 숫자도 원천 집계와 같아야 한다 — 방문자처럼 더할 수 없는 값은
+ * 두 경로의 집합이 겹치는 몫을 빼서 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShowroomVisitStatsReader {
+
+    /** 방문자 겹침 확인 시 IN 목록 한 번의 크기 */
+    private static final int KEY_CHUNK_SIZE = 1_000;
+
+    private final ShowroomVisitRepository showroomVisitRepository;
+    private final ShowroomDailyStatRepository showroomDailyStatRepository;
+    private final ShowroomDailyVisitorRepository showroomDailyVisitorRepository;
+    private final PostDailyStatRepository postDailyStatRepository;
+    private final StatsRollupWindows rollupWindows;
+
+    public long countVisits(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.SHOWROOM_VISIT, from, to);
+        long visits = 0;
+        for (RollupWindow.Range range : window.rawRanges()) {
+            visits += showroomVisitRepository.countVisits(creatorId, range.from(), range.to(), range.afterId(), range.throughId());
+        }
+        if (window.hasRollupDays()) {
+            visits += showroomDailyStatRepository.sumVisits(creatorId, window.firstDay(), window.lastDay());
+        }
+        return visits;
+    }
+
+    /** 방문자 수 = 롤업 구간 방문자 + 원천 조각 방문자 − 양쪽에 다 있는 방문자 */
+    public long countVisitors(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.SHOWROOM_VISIT, from, to);
+        if (!window.hasRollupDays()) {
+            RollupWindow.Range range = window.rawRanges().get(0);
+            return showroomVisitRepository.countVisitors(creatorId, range.from(), range.to(), range.afterId(), range.throughId());
+        }
+
+        Set<String> rawVisitors = new HashSet<>();
+        for (RollupWindow.Range range : window.rawRanges()) {
+            rawVisitors.addAll(showroomVisitRepository.findVisitorKeys(creatorId,
+                    range.from(), range.to(), range.afterId(), range.throughId()));
+        }
+        long rolledUp = showroomDailyVisitorRepository.countDistinctVisitors(
+                creatorId, window.firstDay(), window.lastDay());
+
+        long overlap = 0;
+        List<String> keys = new ArrayList<>(rawVisitors);
+        for (int i = 0; i < keys.size(); i += KEY_CHUNK_SIZE) {
+            overlap += showroomDailyVisitorRepository.findVisitorKeysIn(creatorId, window.firstDay(),
+                    window.lastDay(), keys.subList(i, Math.min(keys.size(), i + KEY_CHUNK_SIZE))).size();
+        }
+        return rolledUp + rawVisitors.size() - overlap;
+    }
+
+    /** {소스, 방문 횟수} 행 */
+    public List<Object[]> countVisitsBySource(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.SHOWROOM_VISIT, from, to);
+        Map<ShowroomVisitSource, Long> visits = new LinkedHashMap<>();
+        for (RollupWindow.Range range : window.rawRanges()) {
+            mergeInto(visits, showroomVisitRepository.countVisitsBySource(creatorId,
+                    range.from(), range.to(), range.afterId(), range.throughId()));
+        }
+        if (window.hasRollupDays()) {
+            mergeInto(visits, showroomDailyStatRepository.sumVisitsBySource(
+                    creatorId, window.firstDay(), window.lastDay()));
+        }
+        return toRows(visits);
+    }
+
+    /** 기간 내 방문한 <b>팔로워 1인당 방문 횟수</b> 목록 — 같은 사람의 방문은 두 경로를 합쳐 한 값이 된다 */
+    public List<Long> countVisitsPerFollower(Long creatorId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.SHOWROOM_VISIT, from, to);
+        Map<Long, Long> visits = new LinkedHashMap<>();
+        for (RollupWindow.Range range : window.rawRanges()) {
+            mergeInto(visits, showroomVisitRepository.countVisitsPerFollower(creatorId,
+                    range.from(), range.to(), range.afterId(), range.throughId()));
+        }
+        if (window.hasRollupDays()) {
+            mergeInto(visits, showroomDailyVisitorRepository.sumVisitsPerFollower(
+                    creatorId, window.firstDay(), window.lastDay()));
+        }
+        return new ArrayList<>(visits.values());
+    }
+
+    /** §24-7 ② 이 게시물에 귀속된 쇼룸 방문 */
+    public long countAttributedVisits(Long postId, LocalDateTime from, LocalDateTime to) {
+        RollupWindow window = rollupWindows.of(StatsRollupSource.SHOWROOM_VISIT, from, to);
+        long visits = 0;
+        for (RollupWindow.Range range : window.rawRanges()) {
+            visits += showroomVisitRepository.countAttributedVisits(postId, range.from(), range.to(), range.afterId(), range.throughId());
+        }
+        if (window.hasRollupDays()) {
+            visits += postDailyStatRepository.sumAttributedVisits(postId, window.firstDay(), window.lastDay());
+        }
+        return visits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> void mergeInto(Map<K, Long> target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            target.merge((K) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+    }
+
+    private static List<Object[]> toRows(Map<ShowroomVisitSource, Long> visits) {
+        List<Object[]> rows = new ArrayList<>(visits.size());
+        visits.forEach((source, count) -> rows.add(new Object[]{source, count}));
+        return rows;
+    }
+}
@@ -0,0 +1,271 @@
+package showroomz.domain.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import showroomz.domain.post.repository.PostImpressionRepository;
+import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.showroom.type.ShowroomVisitSource;
+import showroomz.domain.stats.entity.PostDailyStat;
+import showroomz.domain.stats.entity.PostDailyViewer;
+import showroomz.domain.stats.entity.ShowroomDailyStat;
+import showroomz.domain.stats.entity.ShowroomDailyVisitor;
+import showroomz.domain.stats.entity.StatsRollupWatermark;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.PostDailyViewerRepository;
+import showroomz.domain.stats.repository.ShowroomDailyStatRepository;
+import showroomz.domain.stats.repository.ShowroomDailyVisitorRepository;
+import showroomz.domain.stats.repository.StatsRollupWatermarkRepository;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방문·노출 원천 로그를 일별 롤업 테이블로 접는다.
+ *
+ * <p>워터마크({@code last_id}) 다음 행부터 id 순으로 한 조각씩 읽어 더하고, <b>오늘 날짜 행을 만나면 멈춘다</b>
+ * — 오늘은 아직 끝나지 않은 날이라 읽기 경로가 원천 로그에서 센다. 조각 하나가 한 트랜잭션이고 워터마크 행을
+ * 잠그므로 인스턴스가 여럿이어도 같은 행을 두 번 더하지 않는다.
+ *
+ * <p>이미 접힌 날에 늦게 들어온 행(오늘 행보다 id가 뒤인 어제 행)은 워터마크가 오늘 행을 지나는 다음 날 제 날짜로
+ * 더해진다 — 롤업은 날짜가 아니라 id로 진행한다. 그때까지는 읽기 경로가 {@code id > last_id} 조각으로 센다.
+ *
+ * <p>id는 IDENTITY라 발급 순서대로 커밋되지 않는다. 아직 커밋 안 된 행 앞뒤의 보이는 행을 접어 워터마크가 그 id를
+ * 넘으면, 뒤늦게 커밋된 그 행은 어디에도 더해지지 않는다. 그래서 멈추는 시각을 오늘 0시와 {@link #SETTLE} 전 중
+ * 이른 쪽으로 잡는다 — 접는 행은 모두 그만큼 전에 쓰였고, 그보다 앞선 id의 트랜잭션은 이미 끝났다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsRollupService {
+
+    static final int CHUNK_SIZE = 2_000;
+    /** 원천 행이 쓰이고 커밋되기까지 넉넉히 잡은 시간 — 노출 버퍼의 플러시 지연과 가장 긴 쓰기 트랜잭션보다 길어야 한다 */
+    static final Duration SETTLE = Duration.ofMinutes(5);
+
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final ShowroomVisitRepository showroomVisitRepository;
+    private final PostImpressionRepository postImpressionRepository;
+    private final ShowroomDailyStatRepository showroomDailyStatRepository;
+    private final ShowroomDailyVisitorRepository showroomDailyVisitorRepository;
+    private final PostDailyStatRepository postDailyStatRepository;
+    private final PostDailyViewerRepository postDailyViewerRepository;
+
+    /**
+     * 방문 로그 한 조각을 접는다. 귀속 방문은 게시물 일별 통계에도 더한다.
+     *
+     * @param now 기준 시각 — 오늘 0시와 {@link #SETTLE} 전 중 이른 쪽 앞의 행까지만 접는다
+     * @return 접을 행이 더 남아 있으면 true
+     */
+    @Transactional
+    public boolean foldShowroomVisits(LocalDateTime now) {
+        StatsRollupWatermark watermark = lockWatermark(StatsRollupSource.SHOWROOM_VISIT);
+        List<Object[]> rows = showroomVisitRepository.findRollupRows(
+                watermark.getLastId(), PageRequest.of(0, CHUNK_SIZE));
+        LocalDateTime cutoff = cutoff(now);
+
+        Map<ShowroomStatKey, Long> visits = new HashMap<>();
+        Map<VisitorKey, VisitorDelta> visitors = new HashMap<>();
+        Map<PostStatKey, Long> attributedVisits = new HashMap<>();
+        long lastId = watermark.getLastId();
+        boolean reachedCutoff = false;
+        for (Object[] row : rows) {
+            LocalDateTime visitedAt = (LocalDateTime) row[2];
+            if (!visitedAt.isBefore(cutoff)) {
+                reachedCutoff = true;
+                break;
+            }
+            lastId = (Long) row[0];
+            Long creatorId = (Long) row[1];
+            LocalDate day = visitedAt.toLocalDate();
+            visits.merge(new ShowroomStatKey(creatorId, day, (ShowroomVisitSource) row[5]), 1L, Long::sum);
+            visitors.computeIfAbsent(new VisitorKey(creatorId, day, (String) row[3]),
+                    key -> new VisitorDelta((Long) row[4])).count++;
+            if (row[6] != null) {
+                attributedVisits.merge(new PostStatKey((Long) row[6], day), 1L, Long::sum);
+            }
+        }
+
+        addShowroomVisits(visits);
+        addShowroomVisitors(visitors);
+        addPostStats(attributedVisits, true);
+        return advance(watermark, lastId, rows.size(), reachedCutoff, cutoff);
+    }
+
+    /**
+     * 노출 로그 한 조각을 접는다.
+     *
+     * @param now 기준 시각 — 오늘 0시와 {@link #SETTLE} 전 중 이른 쪽 앞의 행까지만 접는다
+     * @return 접을 행이 더 남아 있으면 true
+     */
+    @Transactional
+    public boolean foldPostImpressions(LocalDateTime now) {
+        StatsRollupWatermark watermark = lockWatermark(StatsRollupSource.POST_IMPRESSION);
+        List<Object[]> rows = postImpressionRepository.findRollupRows(
+                watermark.getLastId(), PageRequest.of(0, CHUNK_SIZE));
+        LocalDateTime cutoff = cutoff(now);
+
+        Map<PostStatKey, Long> impressions = new HashMap<>();
+        Map<ViewerKey, VisitorDelta> viewers = new HashMap<>();
+        long lastId = watermark.getLastId();
+        boolean reachedCutoff = false;
+        for (Object[] row : rows) {
+            LocalDateTime viewedAt = (LocalDateTime) row[2];
+            if (!viewedAt.isBefore(cutoff)) {
+                reachedCutoff = true;
+                break;
+            }
+            lastId = (Long) row[0];
+            Long postId = (Long) row[1];
+            LocalDate day = viewedAt.toLocalDate();
+            impressions.merge(new PostStatKey(postId, day), 1L, Long::sum);
+            viewers.computeIfAbsent(new ViewerKey(postId, day, (String) row[3]),
+                    key -> new VisitorDelta((Long) row[4])).count++;
+        }
+
+        addPostStats(impressions, false);
+        addPostViewers(viewers);
+        return advance(watermark, lastId, rows.size(), reachedCutoff, cutoff);
+    }
+
+    /** 마이그레이션이 워터마크 행을 심어 두지만, 비어 있는 스키마(테스트)에서도 돌도록 없으면 만든다 */
+    private StatsRollupWatermark lockWatermark(StatsRollupSource source) {
+        return watermarkRepository.findBySourceForUpdate(source)
+                .orElseGet(() -> watermarkRepository.saveAndFlush(new StatsRollupWatermark(source)));
+    }
+
+    static LocalDateTime cutoff(LocalDateTime now) {
+        LocalDateTime startOfToday = now.toLocalDate().atStartOfDay();
+        LocalDateTime settled = now.minus(SETTLE);
+        return settled.isBefore(startOfToday) ? settled : startOfToday;
+    }
+
+    /** 다 접었으면 멈춘 시각의 전날까지가 온전한 날이다 — 자정 직후라 0시 전에 멈췄으면 그저께까지 */
+    private static boolean advance(StatsRollupWatermark watermark, long lastId, int fetched,
+                                   boolean reachedCutoff, LocalDateTime cutoff) {
+        boolean drained = reachedCutoff || fetched < CHUNK_SIZE;
+        watermark.advance(lastId, drained ? cutoff.toLocalDate().minusDays(1) : null);
+        return !drained;
+    }
+
+    private void addShowroomVisits(Map<ShowroomStatKey, Long> visits) {
+        if (visits.isEmpty()) {
+            return;
+        }
+        Set<Long> creatorIds = new HashSet<>();
+        Set<LocalDate> days = new HashSet<>();
+        visits.keySet().forEach(key -> {
+            creatorIds.add(key.creatorId());
+            days.add(key.day());
+        });
+        Map<ShowroomStatKey, ShowroomDailyStat> existing = new HashMap<>();
+        for (ShowroomDailyStat stat : showroomDailyStatRepository.findAllByCreatorIdInAndStatDateIn(creatorIds, days)) {
+            existing.put(new ShowroomStatKey(stat.getCreatorId(), stat.getStatDate(), stat.getSource()), stat);
+        }
+        visits.forEach((key, count) -> existing
+                .computeIfAbsent(key, k -> new ShowroomDailyStat(k.creatorId(), k.day(), k.source()))
+                .add(count));
+        showroomDailyStatRepository.saveAll(existing.values());
+    }
+
+    private void addShowroomVisitors(Map<VisitorKey, VisitorDelta> visitors) {
+        if (visitors.isEmpty()) {
+            return;
+        }
+        Set<Long> creatorIds = new HashSet<>();
+        Set<LocalDate> days = new HashSet<>();
+        Set<String> visitorKeys = new HashSet<>();
+        visitors.keySet().forEach(key -> {
+            creatorIds.add(key.creatorId());
+            days.add(key.day());
+            visitorKeys.add(key.visitorKey());
+        });
+        Map<VisitorKey, ShowroomDailyVisitor> existing = new HashMap<>();
+        for (ShowroomDailyVisitor visitor : showroomDailyVisitorRepository
+                .findAllByCreatorIdInAndStatDateInAndVisitorKeyIn(creatorIds, days, visitorKeys)) {
+            existing.put(new VisitorKey(
+                    visitor.getCreatorId(), visitor.getStatDate(), visitor.getVisitorKey()), visitor);
+        }
+        visitors.forEach((key, delta) -> existing
+                .computeIfAbsent(key, k -> new ShowroomDailyVisitor(
+                        k.creatorId(), k.day(), k.visitorKey(), delta.userId))
+                .add(delta.count));
+        showroomDailyVisitorRepository.saveAll(existing.values());
+    }
+
+    private void addPostStats(Map<PostStatKey, Long> counts, boolean attributedVisits) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        Set<Long> postIds = new HashSet<>();
+        Set<LocalDate> days = new HashSet<>();
+        counts.keySet().forEach(key -> {
+            postIds.add(key.postId());
+            days.add(key.day());
+        });
+        Map<PostStatKey, PostDailyStat> existing = new HashMap<>();
+        for (PostDailyStat stat : postDailyStatRepository.findAllByPostIdInAndStatDateIn(postIds, days)) {
+            existing.put(new PostStatKey(stat.getPostId(), stat.getStatDate()), stat);
+        }
+        counts.forEach((key, count) -> {
+            PostDailyStat stat = existing.computeIfAbsent(key, k -> new PostDailyStat(k.postId(), k.day()));
+            if (attributedVisits) {
+                stat.addAttributedVisits(count);
+            } else {
+                stat.addImpressions(count);
+            }
+        });
+        postDailyStatRepository.saveAll(existing.values());
+    }
+
+    private void addPostViewers(Map<ViewerKey, VisitorDelta> viewers) {
+        if (viewers.isEmpty()) {
+            return;
+        }
+        Set<Long> postIds = new HashSet<>();
+        Set<LocalDate> days = new HashSet<>();
+        Set<String> viewerKeys = new HashSet<>();
+        viewers.keySet().forEach(key -> {
+            postIds.add(key.postId());
+            days.add(key.day());
+            viewerKeys.add(key.viewerKey());
+        });
+        Map<ViewerKey, PostDailyViewer> existing = new HashMap<>();
+        for (PostDailyViewer viewer : postDailyViewerRepository
+                .findAllByPostIdInAndStatDateInAndViewerKeyIn(postIds, days, viewerKeys)) {
+            existing.put(new ViewerKey(viewer.getPostId(), viewer.getStatDate(), viewer.getViewerKey()), viewer);
+        }
+        viewers.forEach((key, delta) -> existing
+                .computeIfAbsent(key, k -> new PostDailyViewer(k.postId(), k.day(), k.viewerKey(), delta.userId))
+                .add(delta.count));
+        postDailyViewerRepository.saveAll(existing.values());
+    }
+
+    private record ShowroomStatKey(Long creatorId, LocalDate day, ShowroomVisitSource source) {
+    }
+
+    private record VisitorKey(Long creatorId, LocalDate day, String visitorKey) {
+    }
+
+    private record PostStatKey(Long postId, LocalDate day) {
+    }
+
+    private record ViewerKey(Long postId, LocalDate day, String viewerKey) {
+    }
+
+    private static final class VisitorDelta {
+        private final Long userId;
+        private long count;
+
+        private VisitorDelta(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package showroomz.domain.stats.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import showroomz.domain.post.repository.PostImpressionRepository;
+import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.stats.repository.StatsRollupWatermarkRepository;
+import showroomz.domain.stats.type.StatsRollupSource;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원천별 워터마크를 보고 집계 구간을 {@link RollupWindow}로 나눈다.
+ *
+ * <p>워터마크와 롤업·원천 로그를 한 읽기 트랜잭션 안에서 읽어야 한다 — 그 사이에 배치가 커밋되면 같은 행이
+ * 롤업과 원천 조각 양쪽에 잡힌다. 호출하는 집계 계층이 {@code readOnly} 트랜잭션이라 InnoDB 일관 읽기가 이를 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsRollupWindows {
+
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final ShowroomVisitRepository showroomVisitRepository;
+    private final PostImpressionRepository postImpressionRepository;
+
+    public RollupWindow of(StatsRollupSource source, LocalDateTime from, LocalDateTime to) {
+        return watermarkRepository.findById(source)
+                .map(watermark -> RollupWindow.of(from, to, watermark.getCompletedThrough(), watermark.getLastId(),
+                        () -> maxId(source)))
+                .orElseGet(() -> RollupWindow.of(from, to, null, 0L, () -> 0L));
+    }
+
+    private long maxId(StatsRollupSource source) {
+        return switch (source) {
+            case SHOWROOM_VISIT -> showroomVisitRepository.findMaxId();
+            case POST_IMPRESSION -> postImpressionRepository.findMaxId();
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package showroomz.domain.stats.type;
+
+/** 일별 롤업이 접어 넣는 원천 로그 — 원천마다 따로 워터마크를 둔다. */
+public enum StatsRollupSource {
+    SHOWROOM_VISIT,
+    POST_IMPRESSION
+}
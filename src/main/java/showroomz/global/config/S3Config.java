@@ -1,14 +1,19 @@
 package showroomz.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import showroomz.global.config.properties.S3Properties;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3BaseClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @Configuration
 @RequiredArgsConstructor
 public class S3Config {
@@ -19,7 +24,7 @@ public class S3Config {
     public S3Client s3Client() {
         // [변경] AccessKey, SecretKey를 직접 주입받지 않고,
         // 실행 환경(EC2 IAM Role, 환경변수 등)에서 자동으로 자격 증명을 가져오는 DefaultCredentialsProvider 사용
-        return S3Client.builder()
+        return withEndpoint(S3Client.builder())
                 .region(Region.of(s3Properties.getRegion()))
                 .credentialsProvider(DefaultCredentialsProvider.create())
                 .build();
@@ -29,10 +34,22 @@ public class S3Config {
      *  서버는 서명만 담당한다. */
     @Bean
     public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(s3Properties.getRegion()))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
+                .credentialsProvider(DefaultCredentialsProvider.create());
+        if (StringUtils.hasText(s3Properties.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3Properties.getEndpoint()))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    /** S3 호환 저장소는 버킷 서브도메인을 풀지 못하는 경우가 많아 경로 방식으로 부른다. */
+    private <B extends S3BaseClientBuilder<B, ?>> B withEndpoint(B builder) {
+        if (StringUtils.hasText(s3Properties.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3Properties.getEndpoint())).forcePathStyle(true);
+        }
+        return builder;
     }
 }
 
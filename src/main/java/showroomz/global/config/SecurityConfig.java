@@ -7,6 +7,7 @@ import showroomz.api.app.auth.filter.TokenAuthenticationFilter;
 import showroomz.api.app.auth.handler.TokenAccessDeniedHandler;
 import showroomz.api.app.auth.service.CustomUserDetailsService;
 import showroomz.api.app.auth.token.AuthTokenProvider;
+import showroomz.api.app.auth.token.VerifiedTokenCache;
 import showroomz.global.config.properties.CorsProperties;
 
 import org.springframework.context.annotation.Bean;
@@ -36,6 +37,7 @@ public class SecurityConfig {
     private final AuthTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
     private final TokenAccessDeniedHandler tokenAccessDeniedHandler;
+    private final VerifiedTokenCache verifiedTokenCache;
     
     private static final String[] AUTH_WHITELIST = {
             "/", "/error", "/test/**",  // 기본
@@ -97,6 +99,7 @@ public class SecurityConfig {
             // 쇼룸 게시글 조회 API — 실제 경로는 `showrooms`(복수)다. 단수로 적혀 있던 동안
             // 비로그인 열람이 조용히 막혀 있었다(C4 §비로그인 — 열람은 자유, 팔로우·♥만 로그인).
             "/v1/user/showrooms/*/posts", "/v1/user/showrooms/posts/*",
+            "/v1/user/showrooms/*/posts/cursor",
 
             // 쇼룸 방문 기록 (§22-4) — 비로그인 방문도 쇼룸 도달 지표에 포함되므로 인증을 요구하지 않는다.
             // 토큰이 실려 오면 필터가 인증을 채워 주므로, 로그인 방문은 사용자 기준으로 집계된다.
@@ -109,7 +112,7 @@ public class SecurityConfig {
             // C1 추천·발견 피드 — 비로그인도 본다. 팔로우가 없는 상태에서 앱이 그리는 첫 화면이라
             // 로그인을 요구하면 볼 것이 없는 화면만 남는다. 팔로잉 피드(`/feed/following`)는
             // 정의상 내 팔로우 목록이라 그대로 로그인이 필요하다.
-            "/v1/user/feed/recommended",
+            "/v1/user/feed/recommended", "/v1/user/feed/recommended/cursor",
 
             // 신고 사유 목록 (C4 ⋯ 시트) — 사유 문구는 운영정책일 뿐 개인화된 값이 아니라 누가 물어도
             // 답이 같다. 시트를 열어 사유를 고르는 데까지는 토큰이 필요 없고, 실제 접수
@@ -140,6 +143,10 @@ public class SecurityConfig {
                 // ADMIN 전용
                 .requestMatchers("/v1/admin/**").hasAnyAuthority(RoleType.ADMIN.getCode())
 
+                // 운영 지표 — 헬스체크만 열고 나머지 actuator는 ADMIN 전용
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasAnyAuthority(RoleType.ADMIN.getCode())
+
                 // SELLER auth - logout, withdraw, images는 ADMIN과 SELLER, CREATOR 모두 접근 가능
                 .requestMatchers("/v1/seller/auth/logout", "/v1/seller/auth/withdraw", "/v1/seller/images")
                     .hasAnyAuthority(RoleType.ADMIN.getCode(), RoleType.SELLER.getCode(), RoleType.CREATOR.getCode())
@@ -194,7 +201,7 @@ public class SecurityConfig {
      */
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, verifiedTokenCache);
     }
 
     /*
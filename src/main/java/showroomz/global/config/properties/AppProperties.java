@@ -21,6 +21,18 @@ public class AppProperties {
         private String tokenSecret;
         private long tokenExpiry;
         private long refreshTokenExpiry;
+        /** 검증을 마친 액세스 토큰을 만료 시각까지 들고 있는 캐시의 최대 건수 — 0이면 캐시를 쓰지 않는다 */
+        private int tokenCacheSize = 10_000;
+        /** 로그인 아이디 → 회원 id 캐시의 최대 건수 — 0이면 캐시를 쓰지 않는다 */
+        private int userCacheSize = 10_000;
+        /** 회원 참조 캐시 항목의 수명 — 운영 중 회원 행을 직접 고쳐도 이 시간이 지나면 DB 값으로 돌아온다 */
+        private long userCacheTtlMillis = 300_000;
+        /** 적재를 기다리는 로그인 이력의 상한 — 차면 로그인 요청이 직접 플러시한다 */
+        private int loginHistoryBufferCapacity = 10_000;
+        /** 로그인 이력 한 번에 쓰는 건수(다중 행 INSERT 한 문장) */
+        private int loginHistoryFlushSize = 200;
+        /** 로그인 이력 주기 플러시 간격 — 0이면 플러셔를 띄우지 않는다(테스트가 직접 플러시) */
+        private long loginHistoryFlushIntervalMillis = 1_000;
     }
 
     @Getter
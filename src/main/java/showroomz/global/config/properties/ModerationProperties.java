@@ -0,0 +1,35 @@
+package showroomz.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 금칙어 기본 목록과 다시 읽기 주기.
+ *
+ * <p>설정 목록은 배포와 함께 가는 <b>바닥값</b>이다. 운영자가 수시로 더하는 단어는 {@code banned_word} 테이블에
+ * 넣고, 엔진은 두 목록을 합쳐 한 번에 컴파일한다. 설정에 두는 단어는 서비스 사칭처럼 정책으로 굳은 것만 둔다.
+ *
+ * <p>이름 전용 단어({@link #nameWords})는 닉네임·쇼룸명에만 건다. "test"·"hell"처럼 이름에서는 막아야 하지만
+ * 본문·문의에서 막으면 평범한 문장까지 걸리는 단어들이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "moderation")
+public class ModerationProperties {
+
+    /** 닉네임·쇼룸명에만 거는 단어 — 운영 주체 사칭과 이름으로만 부적절한 단어 */
+    private List<String> nameWords = new ArrayList<>(List.of(
+            "관리자", "admin", "administrator", "운영자", "operator",
+            "시스템", "system", "서버", "server", "테스트", "test",
+            "공식", "official", "고객센터", "damn", "hell"));
+
+    /** 모든 대상(닉네임·쇼룸명·게시물 본문·상품 문의)에 거는 단어 */
+    private List<String> words = new ArrayList<>(List.of("욕설", "비속어", "fuck", "shit"));
+
+    /** {@code banned_word} 변경 확인 주기 — 0이면 기동 시 한 번만 읽는다 */
+    private long reloadIntervalMillis = 60_000;
+}
@@ -0,0 +1,33 @@
+package showroomz.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 재고 예약 설정.
+ *
+ * <p>예약 기한은 결제 화면에 머무는 시간보다 길고, 공구가 열린 직후 몰린 주문이 결제를 포기했을 때 재고가
+ * 다시 풀리기까지 기다릴 만한 길이여야 한다. 기한이 지난 예약은 만료 배치가 돌려주므로, 기한에 배치 주기를
+ * 더한 만큼이 재고가 묶여 있을 수 있는 최대 시간이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order")
+public class OrderProperties {
+
+    /** 재고 예약 기한 — 이 안에 확정하지 않으면 만료된다 */
+    private long stockHoldTtlSeconds = 600;
+
+    /** 만료 배치 주기 — 0이면 끈다 */
+    private long stockHoldSweepIntervalMillis = 30_000;
+
+    /** 만료 배치가 한 트랜잭션에서 돌려주는 주문 수 */
+    private int stockHoldSweepBatchSize = 100;
+
+    /**
+     * 메모리 재고 판정이 DB를 읽지 않고 거절해도 되는 시간. 이보다 오래전에 본 재고는 믿지 않고 다시 읽는다 —
+     * 다른 인스턴스의 취소나 판매자의 재고 추가가 보이기까지의 지연이다.
+     */
+    private long stockGateRecheckMillis = 1_000;
+}
@@ -44,4 +44,69 @@ public class PostProperties {
 
     /** 노출 원천 로그 보관 일수. <b>0이면 삭제하지 않는다</b> (§24-8 ⓔ 미확정) */
     private int impressionRetentionDays = 0;
+
+    /**
+     * 라스트 터치 귀속 색인 상한(항목 수). 항목당 약 250바이트라 기본값이면 12MB 안팎이다.
+     * <b>0이면 색인을 끄고</b> 매번 노출 로그를 읽는다 — 인스턴스를 여럿 띄울 때의 설정이다.
+     */
+    private int attributionIndexSize = 50_000;
+
+    /**
+     * 노출 쓰기 버퍼가 들고 있을 최대 건수. 차면 요청 스레드가 직접 플러시한다(배압).
+     * 건당 200바이트 안팎이라 기본값이면 2MB 정도다.
+     */
+    private int impressionBufferCapacity = 10_000;
+
+    /** 이만큼 쌓이면 주기를 기다리지 않고 플러시한다 — 다중 행 INSERT 한 문장의 행 수이기도 하다 */
+    private int impressionFlushSize = 500;
+
+    /** 플러시 주기. 인사이트·목록 카운터는 이만큼 늦게 보인다. <b>0이면 주기 플러시를 끈다</b>(테스트용) */
+    private long impressionFlushIntervalMillis = 1_000;
+
+    /** 통지 발송 주기. 통지는 이만큼 늦게 나갈 수 있다. <b>0이면 주기 발송을 끈다</b>(테스트용) */
+    private long notificationDispatchIntervalMillis = 1_000;
+
+    /** 한 번에 가져가 보낼 통지 수 — 가져가는 트랜잭션이 잠그는 행 수이기도 하다 */
+    private int notificationDispatchBatchSize = 100;
+
+    /** 동시에 발송 어댑터를 부르는 스레드 수 */
+    private int notificationDispatchConcurrency = 4;
+
+    /** 한 묶음의 발송을 기다리는 한도. 넘기면 남은 건은 실패로 보고 다시 시도한다 */
+    private long notificationSendTimeoutMillis = 10_000;
+
+    /**
+     * 가져간 행을 다른 인스턴스가 다시 가져가지 못하게 미뤄 두는 시간. 발송 한도보다 길어야 한다 —
+     * 짧으면 보내는 중인 통지를 다른 인스턴스가 또 보낸다. 인스턴스가 죽으면 이 시간 뒤에 다시 나간다.
+     */
+    private int notificationLeaseSeconds = 300;
+
+    /** 이 횟수만큼 실패하면 더 보내지 않는다(행은 미전달로 남는다) */
+    private int notificationMaxAttempts = 8;
+
+    /** 재시도 간격 — 첫 실패 뒤 이만큼, 이후 두 배씩 늘려 {@link #notificationRetryMaxSeconds}에서 멈춘다 */
+    private int notificationRetryBaseSeconds = 30;
+
+    private int notificationRetryMaxSeconds = 3_600;
+
+    /**
+     * 팔로잉 타임라인이 사용자마다 들고 있을 최근 게시물 수. 이보다 깊은 스크롤은 DB에서 이어 읽는다.
+     * 항목당 16바이트다.
+     */
+    private int timelineCapacity = 100;
+
+    /**
+     * 타임라인을 들고 있을 최대 사용자 수. 넘치면 가장 오래 읽지 않은 사용자부터 내린다. 기본값이면 17MB
+     * 안팎이다. <b>0이면 타임라인을 끄고</b> 매번 팔로우한 쇼룸 전체로 DB를 읽는다.
+     */
+    private int timelineMaxUsers = 10_000;
+
+    /**
+     * 팔로워가 이만큼 이상인 쇼룸은 게시할 때 팔로워 타임라인에 밀어 넣지 않고, 읽을 때 따로 읽어 합친다 —
+     * 게시 한 번이 수십만 개의 타임라인을 건드리지 않게.
+     */
+    private int timelinePullThreshold = 5_000;
+
+    /** 위 기준을 넘는 쇼룸 목록을 다시 세는 주기. <b>0이면 기동 때 한 번만 센다</b> */
+    private long timelinePullRefreshIntervalMillis = 600_000;
 }
@@ -13,5 +13,9 @@ public class S3Properties {
     // private String accessKey; // 삭제: IAM Role/OIDC 사용 시 불필요
     // private String secretKey; // 삭제: IAM Role/OIDC 사용 시 불필요
     private String cloudFrontDomain;
+    /** S3 호환 저장소(MinIO·LocalStack 등)를 가리킬 때만 넣는다. 비우면 리전의 AWS 엔드포인트를 쓴다 */
+    private String endpoint;
+    /** 첨부 다운로드 presigned URL 캐시 상한(건). 0이면 매번 서명한다 */
+    private int presignedUrlCacheSize = 10_000;
 }
 
@@ -0,0 +1,27 @@
+package showroomz.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 무한 스크롤 목록의 요청 — {@link PagingRequest}의 커서판이다. 페이지 번호 대신 직전 응답의
+ * {@code nextCursor}를 그대로 돌려보낸다.
+ */
+@Getter
+@Setter
+public class CursorRequest {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    @Schema(description = "직전 응답의 nextCursor — 비우면 처음부터", example = "eyJ...", nullable = true)
+    private String cursor;
+
+    @Schema(description = "페이지당 항목 수", example = "20")
+    private int size = DEFAULT_SIZE;
+
+    /** 0 이하로 오면 기본값으로 본다 — {@link PagingRequest}와 달리 size+1을 읽으므로 음수가 그대로 가면 안 된다 */
+    public int resolvedSize() {
+        return size > 0 ? size : DEFAULT_SIZE;
+    }
+}
@@ -0,0 +1,33 @@
+package showroomz.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 무한 스크롤 목록의 응답. 전체 건수는 싣지 않는다 — 피드 화면은 건수를 보여 주지 않는데, 그 숫자를 위해
+ * 페이지마다 전체를 세는 것이 OFFSET 목록에서 가장 비싼 쿼리였다.
+ */
+@Getter
+public class CursorResponse<T> {
+
+    @Schema(description = "이번 페이지 항목")
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지 요청에 그대로 실어 보낼 값 — hasNext=false면 null", nullable = true)
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> CursorResponse<T> empty() {
+        return new CursorResponse<>(List.of(), null, false);
+    }
+}
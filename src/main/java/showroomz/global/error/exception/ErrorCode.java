@@ -14,6 +14,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "입력값이 올바르지 않습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND", "Resource not found"),
     NOT_FOUND_DATA(HttpStatus.NOT_FOUND, "NOT_FOUND_DATA", "데이터를 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "목록 위치 정보가 올바르지 않습니다. 처음부터 다시 불러와 주세요."),
 
     /* * 2. 소셜 로그인 (Social Login)
      */
@@ -108,6 +109,7 @@ public enum ErrorCode {
     VARIANT_NOT_FOUND(HttpStatus.NOT_FOUND, "VARIANT_NOT_FOUND", "존재하지 않는 옵션입니다."),
     VARIANT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "VARIANT_NOT_AVAILABLE", "노출되지 않는 옵션입니다."),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "INSUFFICIENT_STOCK", "재고가 부족합니다."),
+    STOCK_HOLD_EXPIRED(HttpStatus.CONFLICT, "STOCK_HOLD_EXPIRED", "재고 확보 시간이 지났습니다. 다시 주문해 주세요."),
     INVALID_VARIANT_OPTIONS(HttpStatus.BAD_REQUEST, "INVALID_VARIANT_OPTIONS", "옵션 조합이 올바르지 않습니다."),
     PRODUCT_EDIT_RESTRICTED(HttpStatus.BAD_REQUEST, "PRODUCT_EDIT_RESTRICTED",
             "진열 중이며 공구 진행 중인 상품은 옵션·재고만 수정할 수 있습니다."),
@@ -140,6 +142,7 @@ public enum ErrorCode {
     INQUIRY_DELETE_NOT_REQUESTED(HttpStatus.BAD_REQUEST, "INQUIRY_DELETE_NOT_REQUESTED", "삭제 요청이 없는 문의입니다."),
     INQUIRY_DELETE_REASON_DETAIL_REQUIRED(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "기타(직접 입력) 사유는 상세 설명이 필요합니다."),
     INQUIRY_ALREADY_DELETED(HttpStatus.BAD_REQUEST, "INQUIRY_ALREADY_DELETED", "이미 삭제된 문의입니다."),
+    INQUIRY_CONTENT_INAPPROPRIATE(HttpStatus.BAD_REQUEST, "INQUIRY_CONTENT_INAPPROPRIATE", "문의 내용에 사용할 수 없는 단어가 포함되어 있습니다."),
 
     /* 12. 쿠폰 (Coupon)
      */
@@ -174,6 +177,7 @@ public enum ErrorCode {
    POST_EMPTY(HttpStatus.BAD_REQUEST, "POST_EMPTY", "사진 또는 본문 중 하나는 입력해야 합니다."),
    POST_IMAGE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "POST_IMAGE_LIMIT_EXCEEDED", "사진은 게시물당 최대 20장까지 등록할 수 있습니다."),
    POST_CONTENT_TOO_LONG(HttpStatus.BAD_REQUEST, "POST_CONTENT_TOO_LONG", "본문은 최대 2,000자까지 입력할 수 있습니다."),
+   POST_CONTENT_INAPPROPRIATE(HttpStatus.BAD_REQUEST, "POST_CONTENT_INAPPROPRIATE", "본문에 사용할 수 없는 단어가 포함되어 있습니다."),
    POST_ASPECT_RATIO_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "POST_ASPECT_RATIO_OUT_OF_RANGE", "사진 비율은 1.91:1 ~ 4:5 범위여야 합니다."),
    POST_NOT_EDITABLE(HttpStatus.CONFLICT, "POST_NOT_EDITABLE", "노출 중지·심사 중인 게시물은 수정할 수 없습니다."),
    POST_NOT_DELETABLE(HttpStatus.CONFLICT, "POST_NOT_DELETABLE", "이의 심사 중인 게시물은 삭제할 수 없습니다."),
@@ -249,6 +253,7 @@ public enum ErrorCode {
     /* * 20. 쇼룸 관리 (Showroom, §22)
      */
     INVALID_SHOWROOM_NAME_FORMAT(HttpStatus.BAD_REQUEST, "INVALID_SHOWROOM_NAME_FORMAT", "쇼룸명은 2~20자, 한글·영문·숫자·공백만 사용할 수 있습니다."),
+    INAPPROPRIATE_SHOWROOM_NAME(HttpStatus.BAD_REQUEST, "INAPPROPRIATE_SHOWROOM_NAME", "쇼룸명에 사용할 수 없는 단어가 포함되어 있습니다."),
     SHOWROOM_INTRODUCTION_TOO_LONG(HttpStatus.BAD_REQUEST, "SHOWROOM_INTRODUCTION_TOO_LONG", "쇼룸 소개글은 최대 50자까지 입력할 수 있습니다."),
     INVALID_INSTAGRAM_URL(HttpStatus.BAD_REQUEST, "INVALID_INSTAGRAM_URL", "https://로 시작하는 올바른 URL을 입력해 주세요."),
     SHOWROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "SHOWROOM_NOT_FOUND", "존재하지 않는 쇼룸입니다.");
@@ -6,9 +6,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import showroomz.domain.post.repository.PostImpressionRepository;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.PostDailyViewerRepository;
 import showroomz.global.config.properties.PostProperties;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 
 /**
  * 노출 원천 로그 보관 정리 (§24-8 ⓔ).
@@ -17,6 +19,9 @@ import java.time.LocalDateTime;
  * 이 로그는 연령·성별을 사용자와 조인해 얻는 표본이라 개인정보 보관 기간과 얽혀 있고, 동시에
  * 인사이트를 소급 계산할 유일한 원천이다. 짧게 잡았다가 늘리는 것이 불가능한 쪽이라 기본값을
  * "지우지 않음"으로 둔다.
+ *
+ * <p>기준은 날짜 경계에 맞춘다 — 일별 롤업의 조회자·노출 수도 같은 날짜까지 함께 비워야 원천 로그를
+ * 지운 날이 롤업으로 되살아나지 않는다.
  */
 @Slf4j
 @Component
@@ -24,6 +29,8 @@ import java.time.LocalDateTime;
 public class PostImpressionRetentionScheduler {
 
     private final PostImpressionRepository postImpressionRepository;
+    private final PostDailyViewerRepository postDailyViewerRepository;
+    private final PostDailyStatRepository postDailyStatRepository;
     private final PostProperties postProperties;
 
     @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
@@ -35,8 +42,10 @@ public class PostImpressionRetentionScheduler {
         }
 
         try {
-            LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
-            int deleted = postImpressionRepository.deleteOlderThan(threshold);
+            LocalDate threshold = LocalDate.now().minusDays(retentionDays);
+            int deleted = postImpressionRepository.deleteOlderThan(threshold.atStartOfDay());
+            postDailyViewerRepository.deleteOlderThan(threshold);
+            postDailyStatRepository.clearImpressionsBefore(threshold);
             if (deleted > 0) {
                 log.info("노출 로그 보관 정리 완료 - {}건 (기준 {}일)", deleted, retentionDays);
             }
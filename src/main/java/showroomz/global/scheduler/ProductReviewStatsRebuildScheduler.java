@@ -0,0 +1,36 @@
+package showroomz.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.review.service.ProductReviewStatsService;
+
+/**
+ * 상품 리뷰 요약을 원천(review)에서 다시 세어 어긋난 행을 고친다.
+ *
+ * <p>평소에는 리뷰 쓰기가 요약을 함께 고치므로 고칠 행이 없어야 정상이다. 고친 행이 남으면 증감이 빠지는
+ * 쓰기 경로가 있다는 뜻이라 경고로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductReviewStatsRebuildScheduler {
+
+    private final ProductReviewStatsService productReviewStatsService;
+
+    @Scheduled(cron = "0 50 4 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        int corrected;
+        try {
+            corrected = RebuildChunk.rebuildAll(productReviewStatsService::rebuildChunk);
+        } catch (Exception e) {
+            log.error("상품 리뷰 요약 재집계 실패", e);
+            return;
+        }
+        if (corrected > 0) {
+            log.warn("상품 리뷰 요약 재집계 — 어긋난 행 {}개를 고쳤습니다", corrected);
+        }
+    }
+}
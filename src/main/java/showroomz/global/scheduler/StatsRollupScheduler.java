@@ -0,0 +1,43 @@
+package showroomz.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import showroomz.domain.stats.service.StatsRollupService;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방문·노출 로그를 일별 롤업으로 접는다.
+ *
+ * <p>매시 돌지만 접는 것은 어제까지의 행뿐이다 — 자정 직후 첫 실행이 전날을 확정하고, 나머지 실행은
+ * 늦게 들어온 행을 줍거나 밀린 만큼을 따라잡는다. 한 조각이 한 트랜잭션이라 중간에 실패해도
+ * 그때까지 접은 조각은 남고 다음 실행이 이어서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsRollupScheduler {
+
+    private final StatsRollupService statsRollupService;
+
+    @Scheduled(cron = "0 10 * * * *", zone = "Asia/Seoul")
+    public void rollup() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            while (statsRollupService.foldShowroomVisits(now)) {
+                // 어제까지의 방문 로그를 다 접을 때까지
+            }
+        } catch (Exception e) {
+            log.error("쇼룸 방문 롤업 실패", e);
+        }
+        try {
+            while (statsRollupService.foldPostImpressions(now)) {
+                // 어제까지의 노출 로그를 다 접을 때까지
+            }
+        } catch (Exception e) {
+            log.error("게시물 노출 롤업 실패", e);
+        }
+    }
+}
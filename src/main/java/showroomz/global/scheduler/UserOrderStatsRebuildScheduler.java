@@ -0,0 +1,36 @@
+package showroomz.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.order.service.UserOrderStatsService;
+
+/**
+ * 회원별 주문 요약을 원천(orders · order_product)에서 다시 세어 어긋난 행을 고친다.
+ *
+ * <p>주문 쪽 쓰기가 요약을 함께 고치므로 고칠 행이 없어야 정상이다. 고친 행이 남으면 증감을 빠뜨린 쓰기 경로가
+ * 생겼다는 신호다. 리뷰 요약 재집계(04:50)와 겹치지 않게 10분 뒤에 돈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserOrderStatsRebuildScheduler {
+
+    private final UserOrderStatsService userOrderStatsService;
+
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        int corrected;
+        try {
+            corrected = RebuildChunk.rebuildAll(userOrderStatsService::rebuildChunk);
+        } catch (Exception e) {
+            log.error("회원 주문 요약 재집계 실패", e);
+            return;
+        }
+        if (corrected > 0) {
+            log.warn("회원 주문 요약 재집계 — 어긋난 행 {}개를 고쳤습니다", corrected);
+        }
+    }
+}
@@ -6,12 +6,16 @@ import com.maxmind.geoip2.model.CityResponse;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * GeoIP 조회 서비스.
@@ -20,18 +24,48 @@ import java.net.InetAddress;
  * {@code File} 생성자는 기본적으로 메모리 매핑(mmap) 방식으로 로딩되어, {@code InputStream}
  * 생성자처럼 파일 전체를 힙에 올리지 않는다. 파일이 없으면(로컬 개발 등) 조회 불가로 처리하고
  * 애플리케이션 기동은 막지 않는다.
+ *
+ * <p>조회 결과는 IP별로 {@code geoip.cache-size}건까지 들고 있다(LRU). 같은 사람이 같은 망에서 하루에도
+ * 여러 번 로그인하는데, mmdb 조회는 매번 트리를 타고 내려가 레코드를 디코딩한다. 파일은 배포 때만 바뀌고
+ * 그때 프로세스도 새로 뜨므로 결과를 만료시킬 이유가 없다. DB에 없는 IP의 "Unknown"도 같은 답이 반복되니 담는다.
  */
 @Service
 @Slf4j
 public class GeoLocationService {
 
-    @Value("${geoip.db-path}")
-    private String dbPath;
+    private static final GeoLocation UNKNOWN = new GeoLocation("Unknown", "Unknown");
+
+    private final String dbPath;
+    private final int cacheSize;
+    private final Map<String, GeoLocation> cache;
 
     private DatabaseReader databaseReader;
+    private Function<String, GeoLocation> lookup;
+
+    @Autowired
+    public GeoLocationService(@Value("${geoip.db-path}") String dbPath,
+                              @Value("${geoip.cache-size:10000}") int cacheSize) {
+        this.dbPath = dbPath;
+        this.cacheSize = Math.max(0, cacheSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GeoLocation> eldest) {
+                return size() > GeoLocationService.this.cacheSize;
+            }
+        };
+    }
+
+    /** mmdb 없이 캐시만 확인하는 테스트용 — 조회를 바꿔 끼운다 */
+    GeoLocationService(int cacheSize, Function<String, GeoLocation> lookup) {
+        this(null, cacheSize);
+        this.lookup = lookup;
+    }
 
     @PostConstruct
     public void init() {
+        if (lookup != null) {
+            return;
+        }
         File dbFile = new File(dbPath);
         if (!dbFile.exists()) {
             log.warn("GeoIP Database not found at {}. Location lookup is disabled.", dbPath);
@@ -39,6 +73,7 @@ public class GeoLocationService {
         }
         try {
             databaseReader = new DatabaseReader.Builder(dbFile).build();
+            lookup = this::lookupCity;
             log.info("GeoIP Database loaded from {}", dbPath);
         } catch (IOException e) {
             log.error("Failed to load GeoIP Database: {}", e.getMessage());
@@ -47,11 +82,35 @@ public class GeoLocationService {
 
     public GeoLocation getLocation(String ip) {
         // 로컬호스트(127.0.0.1) 등 조회 불가능한 IP 처리
-        if (databaseReader == null || ip == null || 
+        if (lookup == null || ip == null ||
             ip.equals("127.0.0.1") || ip.equals("0:0:0:0:0:0:0:1")) {
-            return new GeoLocation("Unknown", "Unknown");
+            return UNKNOWN;
+        }
+        if (cacheSize == 0) {
+            return lookup.apply(ip);
         }
 
+        synchronized (cache) {
+            GeoLocation cached = cache.get(ip);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // 조회는 락 밖에서 한다 — 같은 IP가 동시에 빗나가면 둘 다 조회하고 같은 값을 넣을 뿐이다
+        GeoLocation location = lookup.apply(ip);
+        synchronized (cache) {
+            cache.put(ip, location);
+        }
+        return location;
+    }
+
+    int cachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private GeoLocation lookupCity(String ip) {
         try {
             InetAddress ipAddress = InetAddress.getByName(ip);
             CityResponse response = databaseReader.city(ipAddress);
@@ -87,7 +146,7 @@ public class GeoLocationService {
         } catch (IOException | GeoIp2Exception e) {
             // 사설 IP(로컬호스트 등)이거나 DB에 없는 IP일 경우 발생
             log.debug("Failed to get location for IP: {}, error: {}", ip, e.getMessage());
-            return new GeoLocation("Unknown", "Unknown");
+            return UNKNOWN;
         }
     }
 
@@ -0,0 +1,80 @@
+package showroomz.global.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import showroomz.global.config.properties.S3Properties;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * S3 객체를 {@code DeleteObjects} 한 번에 최대 {@value #MAX_KEYS_PER_REQUEST}개씩 지운다.
+ *
+ * <p>파기·고아 첨부 정리 배치는 한 회차에 수백 개를 지우는데, 객체마다 {@code DeleteObject}를 부르면
+ * 그만큼 왕복이 쌓여 배치 시간이 거의 전부 네트워크 대기가 된다. 일괄 삭제는 요청 하나에 결과가 키별로
+ * 돌아오므로, 호출하는 쪽은 <b>실제로 지워진 키만</b> 받아 "S3가 지워진 행만 DB에서 지운다" 같은 규칙을
+ * 그대로 지킬 수 있다.
+ *
+ * <p>예외를 던지지 않는다. 요청 자체가 실패하면 그 묶음의 키는 전부 실패로 돌려주고, 키별 오류는 키·코드를
+ * 로그로 남긴다. 없는 키는 S3가 삭제 성공으로 답하므로 재시도해도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3BatchDeleteService {
+
+    /** S3 {@code DeleteObjects} 한 요청의 키 상한 */
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3Client s3Client;
+    private final S3Properties s3Properties;
+
+    /**
+     * @return 지워진 키. 넘긴 키 중 여기 없는 것은 지우지 못했다
+     */
+    public Set<String> deleteAll(Collection<String> keys) {
+        List<String> distinct = keys.stream().filter(Objects::nonNull).distinct().toList();
+        Set<String> deleted = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<String> batch = distinct.subList(from, Math.min(distinct.size(), from + MAX_KEYS_PER_REQUEST));
+            deleted.addAll(deleteBatch(batch));
+        }
+        return deleted;
+    }
+
+    private Collection<String> deleteBatch(List<String> batch) {
+        DeleteObjectsResponse response;
+        try {
+            // quiet — 성공한 키는 응답에 싣지 않고 오류만 싣는다. 천 개짜리 응답 본문을 받을 이유가 없다
+            response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .delete(Delete.builder()
+                            .quiet(true)
+                            .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .build())
+                    .build());
+        } catch (Exception e) {
+            log.warn("S3 일괄 삭제 실패 - {}건, 첫 키: {}", batch.size(), batch.get(0), e);
+            return List.of();
+        }
+        if (!response.hasErrors() || response.errors().isEmpty()) {
+            return batch;
+        }
+        Set<String> failed = new HashSet<>();
+        for (S3Error error : response.errors()) {
+            failed.add(error.key());
+            log.warn("S3 객체 삭제 실패 - key: {}, code: {}, message: {}", error.key(), error.code(), error.message());
+        }
+        return batch.stream().filter(key -> !failed.contains(key)).toList();
+    }
+}
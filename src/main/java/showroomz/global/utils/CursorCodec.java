@@ -0,0 +1,83 @@
+package showroomz.global.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import showroomz.domain.common.SeekKey;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 목록 커서를 앱에 내보낼 문자열로 바꾸고 되돌린다.
+ *
+ * <p>커서는 서명한다. 속은 정렬 키뿐이라 비밀은 아니지만, 앱이 값을 고쳐 보내면 그 키 아래의 아무 위치나
+ * 찍어 읽을 수 있고, 그러면 커서가 "서버가 준 위치에서만 이어 읽는다"는 계약이 깨진다. 앱에는 뜻을 알 수 없는
+ * 문자열로만 보이게 두어 형식을 나중에 바꿀 수 있게 한다.
+ *
+ * <p>{@code scope}는 커서가 어느 목록의 것인지다(정렬 기준까지 포함). 좋아요순 목록의 커서를 최신순 목록에
+ * 넣으면 키의 뜻이 달라 엉뚱한 곳에서 이어지므로, 서명에 함께 묶어 다른 목록에서는 거절한다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    /** 서명은 앞 16바이트만 싣는다 — 위조를 막기엔 충분하고 URL이 짧아진다 */
+    private static final int SIGNATURE_BYTES = 16;
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(@Value("${app.cursor.secret:${jwt.secret}}") String secret) {
+        this.key = new SecretKeySpec(("cursor:" + secret).getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(String scope, SeekKey seekKey) {
+        String payload = seekKey.rank() + SEPARATOR + seekKey.at() + SEPARATOR + seekKey.id();
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(body) + "." + ENCODER.encodeToString(sign(scope, body));
+    }
+
+    /**
+     * 첫 페이지 요청(커서 없음)이면 null. 서명이 맞지 않거나 다른 목록의 커서면 400이다.
+     */
+    public SeekKey decode(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            int dot = cursor.indexOf('.');
+            byte[] body = DECODER.decode(cursor.substring(0, dot));
+            byte[] signature = DECODER.decode(cursor.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(scope, body))) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            String[] parts = new String(body, StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+            return new SeekKey(Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private byte[] sign(String scope, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Arrays.copyOf(mac.doFinal(body), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -23,6 +23,11 @@ public final class ShowroomAddressGenerator {
     private static final int FALLBACK_SUFFIX_LENGTH = 8;
     /** 숫자 꼬리표(`name_2`…)로 비켜갈 수 있는 횟수. 이 이상 겹치면 랜덤 핸들로 넘어간다. */
     private static final int MAX_NUMBERED_ATTEMPTS = 50;
+    /**
+     * 랜덤 핸들 재시도 상한. 후보가 33^8개라 진짜 충돌로 여기까지 올 일은 없다 — 닿았다면 판정 쪽이 모든 후보를
+     * "쓰인다"고 답하는 고장이므로, 요청 스레드를 붙잡고 도는 대신 실패시킨다.
+     */
+    private static final int MAX_RANDOM_ATTEMPTS = 20;
     private static final SecureRandom RANDOM = new SecureRandom();
 
     private ShowroomAddressGenerator() {
@@ -30,7 +35,18 @@ public final class ShowroomAddressGenerator {
 
     /** 쇼룸명에서 핸들 후보를 만들고, 이미 쓰이는 값이면 숫자 꼬리표 → 랜덤 순으로 비켜간다. */
     public static String generateUnique(String showroomName, Predicate<String> alreadyExists) {
+        return generateUnique(showroomName, alreadyExists, candidate -> false);
+    }
+
+    /**
+     * @param probablyTaken 꼬리표·랜덤 후보에만 먼저 묻는 값싼 판정(블룸 필터 등). true면 {@code alreadyExists}에
+     *                      묻지 않고 다음 후보로 넘어간다 — 틀려도 비어 있는 꼬리표 하나를 건너뛸 뿐이다.
+     *                      쇼룸명 그대로의 핸들은 영구 주소라 오탐으로 잃으면 안 되므로 늘 {@code alreadyExists}로 본다.
+     */
+    public static String generateUnique(String showroomName, Predicate<String> alreadyExists,
+                                        Predicate<String> probablyTaken) {
         String base = toHandle(showroomName);
+        Predicate<String> skipOrExists = candidate -> probablyTaken.test(candidate) || alreadyExists.test(candidate);
 
         if (base != null && !alreadyExists.test(base)) {
             return base;
@@ -38,17 +54,20 @@ public final class ShowroomAddressGenerator {
         if (base != null) {
             for (int suffix = 2; suffix <= MAX_NUMBERED_ATTEMPTS; suffix++) {
                 String candidate = withSuffix(base, "_" + suffix);
-                if (!alreadyExists.test(candidate)) {
+                if (!skipOrExists.test(candidate)) {
                     return candidate;
                 }
             }
         }
 
-        String candidate;
-        do {
-            candidate = randomHandle();
-        } while (alreadyExists.test(candidate));
-        return candidate;
+        for (int attempt = 0; attempt < MAX_RANDOM_ATTEMPTS; attempt++) {
+            String candidate = randomHandle();
+            if (!skipOrExists.test(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException(
+                "No free showroom address after " + MAX_RANDOM_ATTEMPTS + " random candidates");
     }
 
     /**
@@ -7,11 +7,15 @@ import java.util.regex.Pattern;
  *
  * <p>가입 온보딩과 쇼룸 관리(#8)가 <b>같은 규칙</b>을 써야 한다. 두 곳이 갈라지면 가입 때 통과한
  * 이름이 수정 화면에서 거부되는(혹은 그 반대의) 상황이 생기므로 규칙을 한곳에 둔다.
+ *
+ * <p>금칙어는 목록이 운영 중에 바뀌어 이 유틸에 둘 수 없다. 두 곳 모두 형식 다음에
+ * {@code ModerationService}({@code SHOWROOM_NAME})로 확인하고, 거절 문구만 여기서 같이 쓴다.
  */
 public final class ShowroomNamePolicy {
 
     public static final Pattern PATTERN = Pattern.compile("^[가-힣a-zA-Z0-9 ]{2,20}$");
     public static final String FORMAT_MESSAGE = "쇼룸명은 2~20자, 한글·영문·숫자·공백만 사용할 수 있습니다.";
+    public static final String INAPPROPRIATE_MESSAGE = "쇼룸명에 사용할 수 없는 단어가 포함되어 있습니다.";
 
     private ShowroomNamePolicy() {
     }
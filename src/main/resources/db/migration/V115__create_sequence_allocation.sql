@@ -0,0 +1,47 @@
+-- 일자별 채번 테이블 — 상품번호(SRZ-YYYYMMDD-NNN)·문의번호(QNA-YYYYMMDD-NNN)의 NNN을 여기서 낸다.
+--
+-- 상품번호는 등록할 때마다 product 전체를 읽어 그날 최댓값을 찾았고, 문의번호는 화면에 그릴 때마다
+-- 그날 문의 수를 셌다. 둘 다 행이 늘수록 느려지고 동시 등록이면 번호가 겹친다(상품은 UNIQUE 위반으로 실패).
+-- 이제 키(번호 접두어)별 행 하나가 "다음에 내줄 값"만 들고, 애플리케이션은 몇 개씩 구간을 떼어 가 메모리에서 쓴다.
+-- 재기동·롤백 때 쓰지 못한 구간은 버린다 — 번호에 공백은 생겨도 중복은 없다.
+
+CREATE TABLE `sequence_allocation` (
+  `sequence_key` VARCHAR(64) NOT NULL COMMENT '번호 접두어 — 예: SRZ-20261018, QNA-20261018',
+  `next_value`   BIGINT      NOT NULL COMMENT '다음에 떼어 줄 구간의 시작값',
+  `modified_at`  DATETIME(6) NOT NULL,
+  PRIMARY KEY (`sequence_key`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 상품번호에서 일자별 최댓값 + 1로 시작한다. 옛 생성기는 문자열로 비교했으므로(999 다음이 깨짐)
+-- 여기서는 숫자로 읽어 최댓값을 잡는다.
+INSERT INTO `sequence_allocation` (`sequence_key`, `next_value`, `modified_at`)
+SELECT SUBSTRING_INDEX(product_number, '-', 2),
+       MAX(CAST(SUBSTRING_INDEX(product_number, '-', -1) AS UNSIGNED)) + 1,
+       NOW(6)
+FROM product
+WHERE product_number REGEXP '^SRZ-[0-9]{8}-[0-9]+$'
+GROUP BY SUBSTRING_INDEX(product_number, '-', 2);
+
+-- 문의번호를 행에 고정한다. 지금까지 화면에 보이던 값(그날 id 순 순번)을 그대로 채워 번호가 바뀌지 않게 한다.
+ALTER TABLE product_inquiry
+    ADD COLUMN `inquiry_number` VARCHAR(20) NULL COMMENT 'QNA-YYYYMMDD-NNN — 등록 시 발급, 이후 불변' AFTER `product_inquiry_id`;
+
+-- NNN은 %03d와 같게 — 1000번째부터는 자릿수가 늘어난다(LPAD는 넘치는 자리를 잘라내므로 그대로 쓴다)
+UPDATE product_inquiry pi
+    JOIN (SELECT product_inquiry_id,
+                 DATE_FORMAT(created_at, '%Y%m%d') AS created_day,
+                 ROW_NUMBER() OVER (PARTITION BY DATE(created_at) ORDER BY product_inquiry_id) AS seq
+          FROM product_inquiry
+          WHERE created_at IS NOT NULL) numbered
+    ON numbered.product_inquiry_id = pi.product_inquiry_id
+SET pi.inquiry_number = CONCAT('QNA-', numbered.created_day, '-',
+                               IF(numbered.seq < 1000, LPAD(numbered.seq, 3, '0'), numbered.seq));
+
+ALTER TABLE product_inquiry
+    ADD UNIQUE KEY `uk_product_inquiry_number` (`inquiry_number`);
+
+INSERT INTO `sequence_allocation` (`sequence_key`, `next_value`, `modified_at`)
+SELECT CONCAT('QNA-', DATE_FORMAT(created_at, '%Y%m%d')), COUNT(*) + 1, NOW(6)
+FROM product_inquiry
+WHERE created_at IS NOT NULL
+GROUP BY DATE_FORMAT(created_at, '%Y%m%d');
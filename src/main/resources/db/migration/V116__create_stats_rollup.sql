@@ -0,0 +1,67 @@
+-- 쇼룸 현황(§22-4)·게시물 인사이트(§24-7)용 일별 롤업.
+--
+-- 두 화면은 기간 내 원천 로그(showroom_visit·post_impression)를 매번 COUNT / COUNT(DISTINCT) 했다. 로그가
+-- 쌓일수록 "최근 30일"이 30일치 행을 다 훑는다. 이제 배치가 어제까지의 로그를 (쇼룸|게시물, 날짜) 단위로
+-- 접어 두고, 읽기는 온전한 날만 여기서, 기간의 첫날 일부와 오늘은 원천 로그에서 센다.
+--
+-- 방문자·조회자 수는 더할 수 없는 값이라 근사 스케치(HLL) 대신 날짜별 방문자 집합을 정확히 둔다 —
+-- 화면 숫자가 원천 집계와 한 명도 달라지면 안 되기 때문이다. 집합의 행 수는 (날짜, 방문자)라서
+-- 원천 로그보다 훨씬 적다(같은 사람의 하루 재방문이 한 행으로 접힌다).
+--
+-- 팔로우·좋아요는 취소하면 행이 지워지는 "현재 상태"라 롤업하지 않는다.
+
+CREATE TABLE `stats_rollup_watermark` (
+  `source`            VARCHAR(40) NOT NULL COMMENT 'SHOWROOM_VISIT / POST_IMPRESSION',
+  `last_id`           BIGINT      NOT NULL COMMENT '여기까지의 원천 로그 id가 접혔다',
+  `completed_through` DATE        NULL     COMMENT '하루치가 빠짐없이 접힌 마지막 날짜 — 읽기는 이 날짜까지만 롤업을 쓴다',
+  `modified_at`       DATETIME(6) NOT NULL,
+  PRIMARY KEY (`source`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE `showroom_daily_stat` (
+  `showroom_daily_stat_id` BIGINT      NOT NULL AUTO_INCREMENT,
+  `creator_id`             BIGINT      NOT NULL,
+  `stat_date`              DATE        NOT NULL,
+  `source`                 VARCHAR(20) NOT NULL COMMENT '유입 경로(ShowroomVisitSource)',
+  `visits`                 BIGINT      NOT NULL,
+  PRIMARY KEY (`showroom_daily_stat_id`),
+  UNIQUE KEY `uk_showroom_daily_stat` (`creator_id`, `stat_date`, `source`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE `showroom_daily_visitor` (
+  `showroom_daily_visitor_id` BIGINT      NOT NULL AUTO_INCREMENT,
+  `creator_id`                BIGINT      NOT NULL,
+  `stat_date`                 DATE        NOT NULL,
+  `visitor_key`               VARCHAR(64) NOT NULL,
+  `user_id`                   BIGINT      NULL COMMENT '로그인 방문자 — 팔로워 행동 카드가 현재 팔로워와 조인한다',
+  `visits`                    BIGINT      NOT NULL,
+  PRIMARY KEY (`showroom_daily_visitor_id`),
+  UNIQUE KEY `uk_showroom_daily_visitor` (`creator_id`, `stat_date`, `visitor_key`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE `post_daily_stat` (
+  `post_daily_stat_id` BIGINT NOT NULL AUTO_INCREMENT,
+  `post_id`            BIGINT NOT NULL,
+  `stat_date`          DATE   NOT NULL,
+  `impressions`        BIGINT NOT NULL,
+  `attributed_visits`  BIGINT NOT NULL COMMENT '이 게시물에 귀속된 쇼룸 방문 — 방문 로그에서 접는다',
+  PRIMARY KEY (`post_daily_stat_id`),
+  UNIQUE KEY `uk_post_daily_stat` (`post_id`, `stat_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE `post_daily_viewer` (
+  `post_daily_viewer_id` BIGINT      NOT NULL AUTO_INCREMENT,
+  `post_id`              BIGINT      NOT NULL,
+  `stat_date`            DATE        NOT NULL,
+  `viewer_key`           VARCHAR(64) NOT NULL,
+  `user_id`              BIGINT      NULL COMMENT '연령·성별은 복사하지 않고 읽을 때 users와 조인한다',
+  `impressions`          BIGINT      NOT NULL,
+  PRIMARY KEY (`post_daily_viewer_id`),
+  UNIQUE KEY `uk_post_daily_viewer` (`post_id`, `stat_date`, `viewer_key`),
+  KEY `idx_post_daily_viewer_stat_date` (`stat_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 처음부터 접는다 — 첫 실행이 기존 로그 전체를 조각 단위로 따라잡는다
+INSERT INTO `stats_rollup_watermark` (`source`, `last_id`, `completed_through`, `modified_at`)
+VALUES ('SHOWROOM_VISIT', 0, NULL, NOW(6)),
+       ('POST_IMPRESSION', 0, NULL, NOW(6));
@@ -0,0 +1,23 @@
+-- C2 팔로잉 탭 기본 정렬(최근 게시물 순)을 DB로 내린다.
+--
+-- 지금까지는 팔로우 전체를 읽고 쇼룸마다 MAX(post.published_at)을 모은 뒤 애플리케이션에서 정렬·슬라이싱했다.
+-- 팔로우가 많은 사용자는 페이지마다 팔로우 수만큼 읽고 정렬한다. 쇼룸에 "게시중 게시물의 최신 게시 시각"을
+-- 들고 있으면 팔로우 목록을 creator와 조인해 ORDER BY … LIMIT으로 끝낼 수 있다.
+--
+-- 값은 게시중 경계를 넘는 전이(게시·노출 중지·재게시·삭제)에서 그 쇼룸 하나만 post 인덱스로 다시 계산한다.
+-- 게시중이 아닌 게시물끼리의 전이(이의 신청·기한 만료 삭제)는 값을 바꾸지 않는다. 게시중 게시물이 없으면 NULL이다.
+ALTER TABLE `creator`
+    ADD COLUMN `last_published_at` DATETIME(6) NULL COMMENT '게시중 게시물의 최신 게시 시각 — 팔로잉 목록 기본 정렬용';
+
+-- 기존 쇼룸 백필 — idx_post_creator_status_published로 쇼룸마다 한 번씩 찾는다.
+UPDATE `creator` c
+   SET c.`last_published_at` = (SELECT MAX(p.`published_at`)
+                                  FROM `post` p
+                                 WHERE p.`creator_id` = c.`creator_id`
+                                   AND p.`status` = 'PUBLISHED');
+
+-- 팔로잉 목록은 user_id로 좁힌 뒤 정렬한다. 정렬 키가 creator 쪽 컬럼이라 (user_id, last_published_at)를
+-- 한 인덱스로 묶을 수는 없다 — 사용자의 팔로우 행을 user_id로 찾고 creator는 PK로 붙인다.
+-- 팔로우 시각 정렬은 (user_id, created_at)만으로 인덱스 순서 그대로 읽는다.
+ALTER TABLE `creator_follow`
+    ADD KEY `idx_creator_follow_user_time` (`user_id`, `created_at`);
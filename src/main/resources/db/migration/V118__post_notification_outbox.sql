@@ -0,0 +1,23 @@
+-- post_notification_log를 발송 대기열(아웃박스)로 쓴다 (§24-5 "알리지 않고 사라지는 경우는 없다").
+--
+-- 지금까지는 통지를 적재한 트랜잭션 안에서 곧바로 발송 어댑터를 불렀다. 노출 중지·이의 심사·파기 배치가
+-- 발송을 기다리며 트랜잭션을 들고 있었고, 실패한 발송은 다시 읽는 곳이 없어 그대로 묻혔다.
+-- 이제 호출자는 행만 남기고, 디스패처가 커밋된 미발송 행을 묶음으로 가져가 보낸다.
+--
+-- next_attempt_at — 다음 발송 시도 시각. 디스패처가 가져가면 임대 시각(처리 중 표식)으로 밀어 두고,
+--                   실패하면 지수 백오프만큼 뒤로, 성공하거나 시도 횟수를 다 쓰면 NULL이 된다.
+-- attempts        — 가져간 횟수. 가져갈 때 올린다 — 보내다가 인스턴스가 죽어도 한 번으로 센다.
+ALTER TABLE `post_notification_log`
+    ADD COLUMN `attempts`        INT          NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    ADD COLUMN `next_attempt_at` DATETIME(6)  NULL COMMENT '다음 발송 시도 시각 — NULL이면 더 보내지 않는다',
+    ADD COLUMN `delivered_at`    DATETIME(6)  NULL COMMENT '전달 확인 시각',
+    ADD COLUMN `last_error`      VARCHAR(500) NULL COMMENT '마지막 실패 사유';
+
+-- 미발송 기존 행도 대기열에 올린다 — 예전에는 한 번 실패하면 다시 시도할 길이 없었다.
+UPDATE `post_notification_log`
+   SET `next_attempt_at` = `sent_at`
+ WHERE `delivered` = b'0';
+
+-- 디스패처는 (delivered = 0, next_attempt_at <= now) 범위를 시각 순으로 읽는다.
+ALTER TABLE `post_notification_log`
+    ADD KEY `idx_post_notification_pending` (`delivered`, `next_attempt_at`);
@@ -0,0 +1,18 @@
+-- 금칙어 목록을 코드에서 꺼낸다.
+--
+-- 지금까지는 UserService가 닉네임 검사 때마다 배열을 새로 만들어 단어마다 소문자 변환·부분 문자열 검색을 했고,
+-- 단어를 하나 더하려면 배포가 필요했다. 기본 목록(사칭 방지 등 정책으로 굳은 단어)은 설정으로 옮기고,
+-- 운영 중 추가분은 이 테이블에 둔다. 엔진은 두 목록을 합쳐 한 번 컴파일하고, 이 테이블의 행 수·최종 수정 시각이
+-- 바뀌면 재기동 없이 다시 컴파일한다.
+--
+-- scope: NAME — 닉네임·쇼룸명에만, ALL — 게시물 본문·상품 문의까지.
+-- 행은 지우지 않고 active를 내린다(변경 감지가 행 수·수정 시각을 보기 때문이다).
+CREATE TABLE `banned_word` (
+    `banned_word_id` BIGINT       NOT NULL AUTO_INCREMENT,
+    `word`           VARCHAR(50)  NOT NULL COMMENT '입력 그대로 — 자모 분해·소문자화는 엔진이 한다',
+    `scope`          VARCHAR(10)  NOT NULL COMMENT 'NAME | ALL',
+    `active`         BIT(1)       NOT NULL DEFAULT b'1',
+    `created_at`     DATETIME(6)  NULL,
+    `modified_at`    DATETIME(6)  NULL,
+    PRIMARY KEY (`banned_word_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,13 @@
+-- 소비자 피드·좋아요 목록을 커서(키셋)로도 읽는다.
+--
+-- 전체·추천 피드는 status = 'PUBLISHED'를 (published_at, post_id) 내림차순으로 읽는다. 지금 있는
+-- idx_post_creator_status_published는 creator_id가 앞이라 쇼룸을 고정하지 않는 목록에는 쓰이지 않고, 그래서
+-- 커서든 OFFSET이든 게시중 게시물 전체를 정렬한 뒤 잘랐다. InnoDB 보조 인덱스는 끝에 PK를 달고 있으므로
+-- (status, published_at)만으로 "(published_at, post_id) < 커서" 범위를 인덱스 순서 그대로 읽는다.
+ALTER TABLE `post`
+    ADD KEY `idx_post_status_published` (`status`, `published_at`);
+
+-- 좋아요 목록 기본 정렬(좋아요한 시각, post_like_id)도 같은 이유다 — uk_post_like는 (user_id, post_id)라
+-- 한 사용자의 좋아요를 시각 순으로 읽으려면 모두 모아 정렬해야 했다.
+ALTER TABLE `post_like`
+    ADD KEY `idx_post_like_user_time` (`user_id`, `created_at`);
@@ -0,0 +1,34 @@
+-- 상품별 리뷰 요약 — 리뷰 수 · 평점 합 · 1~5점 분포.
+--
+-- 카드 목록은 리뷰 수를 0으로 내려 보냈고(집계 쿼리가 review → order_product → product_variant 조인이라 카드마다
+-- 돌릴 수 없었다), 인기 상품 Top 10만 그 조인을 GROUP BY로 돌렸다. 리뷰 등록·수정·삭제가 같은 트랜잭션에서
+-- 이 행에 증감을 더하고, 새벽 재집계 배치가 원천과 어긋난 행을 고친다. 평균은 rating_sum / review_count로 읽는다.
+CREATE TABLE `product_review_stats` (
+    `product_id`   BIGINT      NOT NULL,
+    `review_count` BIGINT      NOT NULL DEFAULT 0,
+    `rating_sum`   BIGINT      NOT NULL DEFAULT 0,
+    `rating_1`     BIGINT      NOT NULL DEFAULT 0,
+    `rating_2`     BIGINT      NOT NULL DEFAULT 0,
+    `rating_3`     BIGINT      NOT NULL DEFAULT 0,
+    `rating_4`     BIGINT      NOT NULL DEFAULT 0,
+    `rating_5`     BIGINT      NOT NULL DEFAULT 0,
+    `updated_at`   DATETIME(6) NOT NULL,
+    PRIMARY KEY (`product_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+-- 이미 있는 리뷰로 채운다.
+INSERT INTO `product_review_stats`
+    (`product_id`, `review_count`, `rating_sum`, `rating_1`, `rating_2`, `rating_3`, `rating_4`, `rating_5`, `updated_at`)
+SELECT v.`product_id`,
+       COUNT(*),
+       SUM(r.`rating`),
+       SUM(r.`rating` = 1),
+       SUM(r.`rating` = 2),
+       SUM(r.`rating` = 3),
+       SUM(r.`rating` = 4),
+       SUM(r.`rating` = 5),
+       NOW(6)
+FROM `review` r
+         JOIN `order_product` op ON op.`order_product_id` = r.`order_product_id`
+         JOIN `product_variant` v ON v.`variant_id` = op.`variant_id`
+GROUP BY v.`product_id`;
@@ -0,0 +1,13 @@
+-- 공구 주문의 재고 예약 — 주문 상품 행이 자기 재고 예약의 상태를 들고 있는다.
+--
+-- 재고는 확보(HELD) 때 product_variant.stock에서 조건부 UPDATE로 빠지고, 확정(COMMITTED)되면 그대로 남고,
+-- 취소(RELEASED)·만료(EXPIRED)되면 돌아온다. 전이는 주문 상품 행을 잠근 채 상태를 보고 하므로 같은 요청이
+-- 두 번 와도 재고는 한 번만 움직인다. 예약 엔진을 거치지 않은 기존 행은 NULL이다.
+ALTER TABLE `order_product`
+    ADD COLUMN `stock_hold_status`     VARCHAR(20) NULL COMMENT 'HELD | COMMITTED | RELEASED | EXPIRED',
+    ADD COLUMN `stock_held_until`      DATETIME(6) NULL COMMENT '이 시각이 지나도록 확정되지 않으면 만료 배치가 돌려준다',
+    ADD COLUMN `stock_hold_changed_at` DATETIME(6) NULL;
+
+-- 만료 배치가 "기한이 지난 HELD"만 훑는다.
+ALTER TABLE `order_product`
+    ADD KEY `idx_order_product_stock_hold` (`stock_hold_status`, `stock_held_until`);
@@ -0,0 +1,26 @@
+-- 회원별 주문 요약 — 누적 주문 수 · 마지막 주문 시각.
+--
+-- 어드민 소비자 목록이 페이지마다 orders → order_product를 LEFT JOIN해 회원 컬럼으로 GROUP BY했고,
+-- "누적 주문 많은 순" 정렬은 LIMIT 전에 회원 전체를 집계했다. 주문 상품 상태가 바뀌는 경로가 같은 트랜잭션에서
+-- 이 행에 증감을 더하고, 새벽 재집계 배치가 원천과 어긋난 행을 고친다.
+CREATE TABLE `user_order_stats` (
+    `user_id`         BIGINT      NOT NULL,
+    `order_count`     BIGINT      NOT NULL DEFAULT 0,
+    `last_ordered_at` DATETIME(6) NULL,
+    `updated_at`      DATETIME(6) NOT NULL,
+    PRIMARY KEY (`user_id`),
+    KEY `idx_user_order_stats_count` (`order_count`, `user_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+-- 이미 있는 주문으로 채운다. 누적 주문은 취소되지 않은 주문 상품이 남은 주문만 센다(목록이 세던 기준 그대로).
+INSERT INTO `user_order_stats` (`user_id`, `order_count`, `last_ordered_at`, `updated_at`)
+SELECT o.`user_id`,
+       COUNT(DISTINCT CASE WHEN op.`status` <> 'CANCELLED' THEN o.`order_id` END),
+       MAX(op.`order_date`),
+       NOW(6)
+FROM `orders` o
+         JOIN `order_product` op ON op.`order_id` = o.`order_id`
+GROUP BY o.`user_id`;
+
+-- 탭 필터(role_type, status)와 기본 정렬(가입일 최신순)을 인덱스로 푼다. 탭 건수의 GROUP BY status도 이 앞부분을 탄다.
+CREATE INDEX `idx_users_role_status_created` ON `users` (`role_type`, `status`, `created_at`);
@@ -0,0 +1,23 @@
+-- 로그인 이력의 디바이스 — 적재할 때 User-Agent로 한 번 판정해 남긴다.
+--
+-- 어드민 이력 검색은 디바이스를 User-Agent LIKE '%Chrome%' AND NOT LIKE '%Edg%' 식으로 걸러 왔다. 앞뒤가
+-- 열린 LIKE는 인덱스를 못 타 검색마다 표 전체를 훑는다. 판정 결과를 컬럼으로 두고 (device_type, login_at)
+-- 인덱스로 "이 디바이스의 최신순"을 바로 읽는다.
+ALTER TABLE `login_history`
+    ADD COLUMN `device_type` VARCHAR(20) NOT NULL DEFAULT 'UNKNOWN'
+        COMMENT 'ANDROID | IPHONE | DESKTOP_CHROME | DESKTOP_EDGE | UNKNOWN' AFTER `user_agent`;
+
+-- 기존 행 채우기 — DeviceType.fromUserAgent와 같은 순서·같은 대소문자 구분(BINARY)으로 판정한다.
+UPDATE `login_history`
+SET `device_type` = CASE
+                        WHEN CAST(`user_agent` AS BINARY) LIKE '%Android%' THEN 'ANDROID'
+                        WHEN CAST(`user_agent` AS BINARY) LIKE '%iPhone%' THEN 'IPHONE'
+                        WHEN CAST(`user_agent` AS BINARY) LIKE '%Edg%' THEN 'DESKTOP_EDGE'
+                        WHEN CAST(`user_agent` AS BINARY) LIKE '%Chrome%'
+                            AND CAST(`user_agent` AS BINARY) NOT LIKE '%Mobile%' THEN 'DESKTOP_CHROME'
+                        ELSE 'UNKNOWN'
+    END
+WHERE `user_agent` IS NOT NULL;
+
+ALTER TABLE `login_history`
+    ADD KEY `idx_login_history_device_login_at` (`device_type`, `login_at`);
@@ -0,0 +1,13 @@
+-- 문의 상세의 ‹ 이전 · 다음 › — 목록 순서(created_at DESC, id DESC)에서 지금 문의의 바로 앞·뒤 한 건씩을
+-- 키셋으로 읽는다. 예전에는 탭의 id를 전부 읽어 자리를 찾았으므로 정렬 인덱스가 없어도 차이가 없었지만,
+-- 이제는 인덱스를 따라 한 행만 읽고 멈춰야 한다. InnoDB 보조 인덱스 끝에는 PK가 붙어 (…, created_at, id)로 읽힌다.
+--
+-- 어드민 1:1 문의(§17-3): 전체 탭은 created_at, 상태 탭은 (status, created_at).
+CREATE INDEX `idx_one_to_one_inquiry_created` ON `one_to_one_inquiry` (`created_at`);
+CREATE INDEX `idx_one_to_one_inquiry_status_created` ON `one_to_one_inquiry` (`status`, `created_at`);
+
+-- 어드민 상품 문의(§18-3): 전체 탭은 created_at, 상태 탭은 노출 상태·답변 상태를 함께 건다.
+-- 파트너센터(§23-3)는 마켓의 상품으로 먼저 좁히므로 기존 product_id 인덱스를 탄다.
+CREATE INDEX `idx_product_inquiry_created` ON `product_inquiry` (`created_at`);
+CREATE INDEX `idx_product_inquiry_exposure_status_created`
+    ON `product_inquiry` (`exposure_status`, `status`, `created_at`);
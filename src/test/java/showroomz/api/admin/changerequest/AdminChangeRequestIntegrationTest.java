@@ -373,6 +373,43 @@ class AdminChangeRequestIntegrationTest extends IntegrationTestSupport {
                     .andExpect(jsonPath("$.nextRequestId").value(third));
         }
 
+        @Test
+        @DisplayName("이전·다음은 검토 대기와 처리 완료 묶음의 경계를 넘고, 탭을 벗어난 요청은 원래 자리의 앞뒤를 준다")
+        void prevAndNextAcrossGroups() throws Exception {
+            long oldPending = pendingBusinessInfoRequest();
+            fixture.backdateRequestedAt(oldPending, LocalDateTime.now().minusDays(3));
+            long recentPending = changeRequests.createBusinessInfo(otherBrandToken, "상호 변경",
+                    Map.of("COMPANY_NAME", "주식회사 오하"));
+            fixture.backdateRequestedAt(recentPending, LocalDateTime.now().minusHours(1));
+            long recentProcessed = pendingSettlementRequest();
+            fixture.backdateRequestedAt(recentProcessed, LocalDateTime.now().minusDays(2));
+            reject(recentProcessed, "BANKBOOK_UNREADABLE", null);
+            long oldProcessed = pendingSettlementRequest();
+            fixture.backdateRequestedAt(oldProcessed, LocalDateTime.now().minusDays(5));
+            reject(oldProcessed, "BANKBOOK_UNREADABLE", null);
+
+            // 전체 탭: oldPending → recentPending → recentProcessed → oldProcessed
+            mockMvc.perform(get("/v1/admin/change-requests/{id}", recentPending)
+                            .param("status", "ALL")
+                            .header(HttpHeaders.AUTHORIZATION, opsToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.prevRequestId").value(oldPending))
+                    .andExpect(jsonPath("$.nextRequestId").value(recentProcessed));
+            mockMvc.perform(get("/v1/admin/change-requests/{id}", oldProcessed)
+                            .param("status", "ALL")
+                            .header(HttpHeaders.AUTHORIZATION, opsToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.prevRequestId").value(recentProcessed))
+                    .andExpect(jsonPath("$.nextRequestId").value(nullValue()));
+
+            // 검토 대기 탭에서 막 처리한 요청을 열어도 대기 목록의 끝 바로 뒤 자리로 이어진다
+            mockMvc.perform(get("/v1/admin/change-requests/{id}", recentProcessed)
+                            .header(HttpHeaders.AUTHORIZATION, opsToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.prevRequestId").value(recentPending))
+                    .andExpect(jsonPath("$.nextRequestId").value(nullValue()));
+        }
+
         @Test
         @DisplayName("존재하지 않는 요청은 404")
         void unknownRequest() throws Exception {
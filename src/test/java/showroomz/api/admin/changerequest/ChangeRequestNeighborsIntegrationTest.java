@@ -0,0 +1,73 @@
+package showroomz.api.admin.changerequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.admin.changerequest.type.AdminChangeRequestStatusFilter;
+import showroomz.domain.changerequest.entity.BrandChangeRequest;
+import showroomz.domain.changerequest.type.ChangeRequestType;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.market.entity.Market;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 요청 상세의 이전/다음 — 묶음마다 따로 찾은 앞·뒤가 목록 한 페이지에 전부 펼친 순서의 바로 앞·뒤와 같은지.
+ *
+ * <p>검토 대기 묶음은 오래된 순, 처리 완료 묶음은 최신순이라 묶음 경계에서 앞 묶음의 끝·뒤 묶음의 첫 행으로
+ * 넘어가야 한다. 같은 요청일시를 일부러 섞어 id로만 갈리는 자리도 만든다.
+ */
+class ChangeRequestNeighborsIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUpRequests() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        LocalDateTime base = LocalDateTime.now().minusDays(10).withNano(0);
+        for (int i = 0; i < 9; i++) {
+            BrandChangeRequest request = BrandChangeRequest.create("CR-" + i, market,
+                    ChangeRequestType.BUSINESS_INFO, "상호 변경", "김제니",
+                    "https://cdn.test/evidence.pdf", "evidence.pdf", 1024L);
+            if (i % 3 == 1) {
+                request.approve(1L);
+            } else if (i % 3 == 2) {
+                request.reject(1L, "DOCUMENT", null);
+            }
+            Long id = changeRequestRepository.save(request).getId();
+            // 둘씩 같은 요청일시 — id만으로 순서가 갈린다
+            jdbc.update("UPDATE brand_change_request SET requested_at = ? WHERE request_id = ?",
+                    base.plusHours(i / 2), id);
+        }
+    }
+
+    @Test
+    @DisplayName("탭마다 목록의 바로 앞·뒤와 같다")
+    void neighborsMatchListOrder() {
+        for (AdminChangeRequestStatusFilter tab : AdminChangeRequestStatusFilter.values()) {
+            List<Long> listed = changeRequestRepository
+                    .search(tab.getStatusNames(), null, PageRequest.of(0, 100))
+                    .map(BrandChangeRequest::getId)
+                    .getContent();
+
+            for (int i = 0; i < listed.size(); i++) {
+                BrandChangeRequest current = changeRequestRepository.findById(listed.get(i)).orElseThrow();
+
+                Neighbors neighbors = changeRequestRepository.findNeighbors(current, tab.getStatuses());
+
+                assertThat(neighbors.prevId()).as("%s prev of #%d", tab, i)
+                        .isEqualTo(i > 0 ? listed.get(i - 1) : null);
+                assertThat(neighbors.nextId()).as("%s next of #%d", tab, i)
+                        .isEqualTo(i < listed.size() - 1 ? listed.get(i + 1) : null);
+            }
+        }
+    }
+}
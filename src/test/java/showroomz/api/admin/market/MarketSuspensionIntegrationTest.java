@@ -0,0 +1,240 @@
+package showroomz.api.admin.market;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.support.BrandFixture;
+import showroomz.support.IntegrationTestSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 마켓 정지·재활성과 판매자 일괄 변경 — 상품을 엔티티로 올리지 않는 벌크 전이가 예전 루프와 같은 결과를 내는지 본다.
+ *
+ * <p>벌크 UPDATE는 영속성 컨텍스트를 건너뛰므로 응답만으로는 부족하다. 진열 상태·백업 컬럼·처리 이력을
+ * 모두 DB에서 직접 읽어 확인한다.
+ */
+@DisplayName("[통합] 마켓 정지·재활성과 상품 일괄 상태 변경")
+class MarketSuspensionIntegrationTest extends IntegrationTestSupport {
+
+    private static final String MARKET_STATUS = "/v1/admin/markets/%d/status";
+    private static final String BATCH_DISPLAY = "/v1/seller/products/batch/display-status";
+    private static final String BATCH_STOCK = "/v1/seller/products/batch/stock-status";
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private BrandFixture.Brand brand;
+    private String brandToken;
+    private String operatorToken;
+    private Category category;
+
+    @BeforeEach
+    void setUpParties() {
+        brand = fixture.createBrand("brand@showroomz.test", "소연뷰티");
+        brandToken = sellerToken(brand.seller());
+        operatorToken = adminToken(fixture.createAdmin("admin@showroomz.test", "운영자김"));
+
+        category = new Category();
+        category.setName("스킨케어");
+        category.setOrder(1);
+        categoryRepository.save(category);
+    }
+
+    @Nested
+    @DisplayName("마켓 정지·재활성")
+    class Suspension {
+
+        @Test
+        @DisplayName("정지하면 모두 미진열로 돌리고, 재활성하면 정지 전 상태로 되돌린다")
+        void suspendThenRestore() throws Exception {
+            Long shown = createProduct(brand.market(), "토너", ProductDisplayStatus.DISPLAY);
+            Long requested = createProduct(brand.market(), "세럼", ProductDisplayStatus.HIDE_REQUEST);
+            Long hidden = createProduct(brand.market(), "크림", ProductDisplayStatus.HIDDEN);
+
+            changeMarketStatus("SUSPENDED");
+
+            assertThat(displayOf(shown, requested, hidden)).containsOnly("HIDDEN");
+            assertThat(previousOf(shown)).isEqualTo("DISPLAY");
+            assertThat(previousOf(requested)).isEqualTo("HIDE_REQUEST");
+            assertThat(previousOf(hidden)).isEqualTo("HIDDEN");
+            // 원래 미진열이던 상품은 상태가 바뀌지 않았으므로 이력이 없다
+            assertThat(histories()).containsExactlyInAnyOrder(
+                    shown + ":HIDDEN:DISPLAY:HIDDEN:OTHER",
+                    requested + ":HIDDEN:HIDE_REQUEST:HIDDEN:OTHER");
+
+            changeMarketStatus("ACTIVE");
+
+            assertThat(displayOf(shown, requested, hidden)).containsExactly("DISPLAY", "HIDE_REQUEST", "HIDDEN");
+            assertThat(previousOf(shown)).isNull();
+            assertThat(previousOf(hidden)).isNull();
+            assertThat(histories()).contains(
+                    shown + ":REDISPLAYED:HIDDEN:DISPLAY:null",
+                    requested + ":HIDE_REQUESTED:HIDDEN:HIDE_REQUEST:BRAND_REQUEST")
+                    .hasSize(4);
+        }
+
+        @Test
+        @DisplayName("정지 중 휴면을 거쳐 다시 정지해도 처음 백업한 진열 상태를 지킨다")
+        void resuspensionKeepsOriginalBackup() throws Exception {
+            Long shown = createProduct(brand.market(), "토너", ProductDisplayStatus.DISPLAY);
+
+            changeMarketStatus("SUSPENDED");
+            changeMarketStatus("DORMANT");
+            changeMarketStatus("SUSPENDED");
+            changeMarketStatus("ACTIVE");
+
+            assertThat(displayOf(shown)).containsExactly("DISPLAY");
+        }
+
+        @Test
+        @DisplayName("조각 크기를 넘는 마켓도 끝까지 정지한다")
+        void suspendsAcrossChunks() throws Exception {
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 501; i++) {
+                products.add(product(brand.market(), "상품 " + i, ProductDisplayStatus.DISPLAY));
+            }
+            productRepository.saveAll(products);
+
+            changeMarketStatus("SUSPENDED");
+
+            assertThat(jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM product WHERE display_status = 'HIDDEN' AND previous_display_status = 'DISPLAY'",
+                    Integer.class)).isEqualTo(501);
+            assertThat(jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM product_processing_history WHERE history_type = 'HIDDEN'",
+                    Integer.class)).isEqualTo(501);
+        }
+    }
+
+    @Nested
+    @DisplayName("판매자 일괄 변경")
+    class SellerBatch {
+
+        @Test
+        @DisplayName("미진열 일괄 처리는 이미 미진열인 상품을 건너뛰고 바뀐 상품만 이력을 남긴다")
+        void batchHideSkipsUnchanged() throws Exception {
+            Long shown = createProduct(brand.market(), "토너", ProductDisplayStatus.DISPLAY);
+            Long hidden = createProduct(brand.market(), "크림", ProductDisplayStatus.HIDDEN);
+
+            mockMvc.perform(post(BATCH_DISPLAY)
+                            .header(HttpHeaders.AUTHORIZATION, brandToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of("productIds", List.of(shown, hidden), "displayStatus", "HIDDEN"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count").value(2));
+
+            assertThat(displayOf(shown, hidden)).containsOnly("HIDDEN");
+            assertThat(jdbc.queryForObject("SELECT hide_reason_type FROM product WHERE product_id = ?",
+                    String.class, shown)).isEqualTo("BRAND_REQUEST");
+            assertThat(histories()).containsExactly(shown + ":HIDDEN:DISPLAY:HIDDEN:BRAND_REQUEST");
+        }
+
+        @Test
+        @DisplayName("다른 마켓 상품이 섞이면 아무것도 바꾸지 않고 거절한다")
+        void foreignProductIsForbidden() throws Exception {
+            BrandFixture.Brand rival = fixture.createBrand("rival@showroomz.test", "경쟁뷰티");
+            Long mine = createProduct(brand.market(), "토너", ProductDisplayStatus.DISPLAY);
+            Long theirs = createProduct(rival.market(), "세럼", ProductDisplayStatus.DISPLAY);
+
+            mockMvc.perform(post(BATCH_STOCK)
+                            .header(HttpHeaders.AUTHORIZATION, brandToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of("productIds", List.of(mine, theirs), "isOutOfStocked", true))))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.message").value("productId: " + theirs + "에 대한 권한이 없습니다."));
+
+            assertThat(forcedOutOfStock(mine)).isFalse();
+        }
+
+        @Test
+        @DisplayName("품절 일괄 처리는 선택한 상품의 강제 품절 플래그를 바꾼다")
+        void batchStockStatus() throws Exception {
+            Long first = createProduct(brand.market(), "토너", ProductDisplayStatus.DISPLAY);
+            Long second = createProduct(brand.market(), "세럼", ProductDisplayStatus.DISPLAY);
+
+            mockMvc.perform(post(BATCH_STOCK)
+                            .header(HttpHeaders.AUTHORIZATION, brandToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of("productIds", List.of(first, second), "isOutOfStocked", true))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("2개의 상품이 성공적으로 품절 처리되었습니다."));
+
+            assertThat(forcedOutOfStock(first)).isTrue();
+            assertThat(forcedOutOfStock(second)).isTrue();
+        }
+    }
+
+    private void changeMarketStatus(String status) throws Exception {
+        mockMvc.perform(patch(MARKET_STATUS.formatted(brand.marketId()))
+                        .header(HttpHeaders.AUTHORIZATION, operatorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("status", status))))
+                .andExpect(status().isOk());
+    }
+
+    private List<String> displayOf(Long... productIds) {
+        List<String> statuses = new ArrayList<>();
+        for (Long productId : productIds) {
+            statuses.add(jdbc.queryForObject(
+                    "SELECT display_status FROM product WHERE product_id = ?", String.class, productId));
+        }
+        return statuses;
+    }
+
+    private String previousOf(Long productId) {
+        return jdbc.queryForObject(
+                "SELECT previous_display_status FROM product WHERE product_id = ?", String.class, productId);
+    }
+
+    private boolean forcedOutOfStock(Long productId) {
+        return jdbc.queryForObject(
+                "SELECT is_out_of_stock_forced FROM product WHERE product_id = ?", Boolean.class, productId);
+    }
+
+    /** 상품:유형:이전:이후:사유 */
+    private List<String> histories() {
+        return jdbc.query("SELECT product_id, history_type, previous_display_status, new_display_status, "
+                        + "hide_reason_type FROM product_processing_history ORDER BY id",
+                (rs, rowNum) -> rs.getLong(1) + ":" + rs.getString(2) + ":" + rs.getString(3) + ":"
+                        + rs.getString(4) + ":" + rs.getString(5));
+    }
+
+    private Long createProduct(Market market, String name, ProductDisplayStatus displayStatus) {
+        return productRepository.save(product(market, name, displayStatus)).getProductId();
+    }
+
+    private Product product(Market market, String name, ProductDisplayStatus displayStatus) {
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName(name);
+        product.setRegularPrice(32000);
+        product.setSalePrice(24000);
+        product.setDisplayStatus(displayStatus);
+        return product;
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.admin.post.dto.AdminPostDto;
 import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostAppeal;
 import showroomz.domain.post.entity.PostReport;
@@ -43,6 +44,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 /**
  * §24-5 운영자 조치 — 세 갈래 중 사람이 조작하는 두 갈래(승인·반려)를 검증한다.
@@ -68,6 +70,8 @@ class AdminPostServiceTest {
     @Mock
     private PostReportRepository postReportRepository;
     @Mock
+    private CreatorRepository creatorRepository;
+    @Mock
     private PostNotificationService postNotificationService;
 
     private final PostProperties postProperties = new PostProperties();
@@ -79,7 +83,7 @@ class AdminPostServiceTest {
     void setUp() {
         creator = Creator.builder().id(5L).showroomName("뷰티 소연").build();
         adminPostService = new AdminPostService(postRepository, postImageRepository, postSuspensionRepository,
-                postAppealRepository, postReportRepository, postNotificationService, postProperties);
+                postAppealRepository, postReportRepository, creatorRepository, postNotificationService, postProperties);
 
         given(postSuspensionRepository.save(any(PostSuspension.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
@@ -174,6 +178,21 @@ class AdminPostServiceTest {
         assertThat(appeal.getSuspension().getResolution()).isEqualTo(SuspensionResolution.REPUBLISHED);
     }
 
+    /** 내린 게 그 쇼룸의 최신 게시물이면 팔로잉 목록 순서가 바뀐다 — 중지와 재게시 모두 정렬 키를 다시 잡는다. */
+    @Test
+    @DisplayName("중지·재게시는 쇼룸의 최신 게시 시각을 다시 계산한다")
+    void suspendAndRepublishRefreshLastPublishedAt() {
+        Post post = publishedPost();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(post));
+        adminPostService.suspend(OPERATOR_ID, POST_ID, suspendRequest(PostSuspensionReason.AD_DISCLOSURE, null));
+        post.startReview();
+        given(postAppealRepository.findById(APPEAL_ID)).willReturn(Optional.of(pendingAppeal(post)));
+
+        adminPostService.approveAppeal(OPERATOR_ID, APPEAL_ID, review("재게시합니다"));
+
+        then(creatorRepository).should(times(2)).refreshLastPublishedAt(creator.getId());
+    }
+
     @Test
     @DisplayName("반려는 곧 영구 삭제이며, 원본 내려받기 유예를 함께 연다")
     void rejectDeletesAndOpensGracePeriod() {
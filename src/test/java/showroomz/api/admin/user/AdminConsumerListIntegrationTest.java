@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.user.repository.UserRepository;
@@ -20,6 +21,7 @@ import showroomz.domain.order.entity.Order;
 import showroomz.domain.order.entity.OrderProduct;
 import showroomz.domain.order.repository.OrderProductRepository;
 import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.service.UserOrderStatsService;
 import showroomz.domain.order.type.OrderProductStatus;
 import showroomz.domain.product.entity.Product;
 import showroomz.domain.product.entity.ProductVariant;
@@ -61,6 +63,10 @@ class AdminConsumerListIntegrationTest extends IntegrationTestSupport {
     private OrderRepository orderRepository;
     @Autowired
     private OrderProductRepository orderProductRepository;
+    @Autowired
+    private UserOrderStatsService userOrderStatsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private String adminToken;
     private ProductVariant variant;
@@ -91,6 +97,8 @@ class AdminConsumerListIntegrationTest extends IntegrationTestSupport {
         placeOrder(hong, OrderProductStatus.PENDING);
         placeOrder(hong, OrderProductStatus.CANCELLED);
         placeOrder(dohyun, OrderProductStatus.PURCHASE_CONFIRMED);
+        // 주문을 저장소로 바로 넣었으니 목록이 읽는 회원 주문 요약은 재집계로 채운다
+        userOrderStatsService.rebuildChunk(0);
     }
 
     @Test
@@ -197,6 +205,22 @@ class AdminConsumerListIntegrationTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.content[2].orderCount").value(0));
     }
 
+    @Test
+    @DisplayName("누적 주문순 페이지는 주문 있는 회원 뒤에 0건 회원을 회원번호 역순으로 잇는다 — 요약 행이 0인 회원도 0건 쪽이다")
+    void orderCountPagesContinueIntoMembersWithoutOrders() throws Exception {
+        Users minji = createConsumer("minji", "민지", "김민지", "010-4444-4455",
+                ProviderType.KAKAO, UserStatus.NORMAL);
+        // 주문이 모두 취소돼 요약 행만 0으로 남은 회원
+        jdbcTemplate.update("INSERT INTO user_order_stats (user_id, order_count, last_ordered_at, updated_at) "
+                + "VALUES (?, 0, NULL, CURRENT_TIMESTAMP)", minji.getId());
+
+        assertOrderCountPage(1, 2, hong, dohyun);
+        assertOrderCountPage(2, 2, minji, yuri);
+        assertOrderCountPage(1, 3, hong, dohyun, minji);
+        assertOrderCountPage(2, 3, yuri);
+        assertOrderCountPage(3, 2);
+    }
+
     @Test
     @DisplayName("가입 수단 필터는 탭 건수에도 함께 반영된다 — 탭 숫자가 지금 보는 범위와 어긋나면 안 된다")
     void providerFilterAlsoNarrowsTheSummary() throws Exception {
@@ -211,6 +235,19 @@ class AdminConsumerListIntegrationTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.summary.withdrawn").value(0));
     }
 
+    private void assertOrderCountPage(int page, int size, Users... expected) throws Exception {
+        var result = mockMvc.perform(get(PATH)
+                        .param("sort", "ORDER_COUNT_DESC")
+                        .param("page", String.valueOf(page))
+                        .param("size", String.valueOf(size))
+                        .header(HttpHeaders.AUTHORIZATION, adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            result.andExpect(jsonPath("$.content[" + i + "].userId").value(expected[i].getId()));
+        }
+    }
+
     // ------------------------------------------------------------------ 픽스처
 
     private Users createConsumer(String username, String nickname, String name, String phoneNumber,
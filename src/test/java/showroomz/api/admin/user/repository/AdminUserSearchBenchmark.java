@@ -0,0 +1,196 @@
+package showroomz.api.admin.user.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import showroomz.api.admin.user.type.AdminUserSort;
+import showroomz.api.admin.user.type.AdminUserTab;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.QUsers;
+import showroomz.domain.order.entity.QOrder;
+import showroomz.domain.order.entity.QOrderProduct;
+import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 어드민 소비자 목록 — 주문을 조인해 GROUP BY로 세던 옛 쿼리와 회원 주문 요약(user_order_stats)을 PK로 붙이는 지금
+ * 쿼리를 같은 데이터에서 비교한다. 두 쪽이 같은 회원을 같은 순서·같은 누적 주문으로 내는지 먼저 확인한다.
+ *
+ * <p>회원 {@value #USERS}명 중 다섯에 한 명이 주문하고, 주문 {@value #ORDERS}건은 일부 회원에게 몰리게 나눈다(열에
+ * 하나는 취소). 행은 H2의 {@code SYSTEM_RANGE}로 한 문장씩 넣고, 요약은 V123 마이그레이션의 채우기 SQL로 만든다.
+ *
+ * <p>옛 쿼리는 정렬과 상관없이 LIMIT 전에 회원 전체를 주문과 조인해 묶어야 하고, "누적 주문 많은 순"은 그 묶음 결과를
+ * 다시 정렬한다. 지금 쿼리는 요약 행을 PK로 붙일 뿐이라 회원 수에만 비례한다. H2는 인덱스로 정렬을 끊어 읽는
+ * 범위가 MySQL보다 좁아 기본 정렬의 격차는 운영보다 작게 나온다.
+ *
+ * <p>H2는 같은 세션에서 같은 문장·같은 인자가 다시 오면 데이터가 그대로일 때 앞 결과를 돌려준다. 그러면 두 쪽
+ * 모두 첫 실행 이후로는 쿼리를 재지 않게 되므로, 이 벤치마크만 따로 DB를 띄워 문장 캐시({@code QUERY_CACHE_SIZE})를 끈다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*AdminUserSearchBenchmark'}
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:showroomz-admin-user-bench;MODE=MySQL;"
+        + "DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=VALUE;QUERY_CACHE_SIZE=0;"
+        + "DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class AdminUserSearchBenchmark extends IntegrationTestSupport {
+
+    private static final int USERS = 100_000;
+    private static final int ORDERING_USERS = USERS / 5;
+    private static final int ORDERS = 50_000;
+    private static final int SEED_CHUNK = 20_000;
+    private static final int PAGE = 20;
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 10;
+
+    private static final QUsers user = QUsers.users;
+    private static final QOrder order = QOrder.order;
+    private static final QOrderProduct orderProduct = QOrderProduct.orderProduct;
+
+    @Autowired
+    private AdminUserQueryRepository adminUserQueryRepository;
+    @Autowired
+    private JPAQueryFactory queryFactory;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        Long variantId = seedVariant();
+        inChunks(USERS, """
+                INSERT INTO users (user_id, username, nickname, password, email, email_verified_yn, provider_type, role_type,
+                                   status, created_at, modified_at, age_agree, service_agree, privacy_agree,
+                                   marketing_agree, follow_post_push_agree)
+                SELECT X, 'u' || X, 'n' || X, 'NO_PASS', 'u' || X || '@b.test', 'Y',
+                       CASE MOD(X, 3) WHEN 0 THEN 'KAKAO' WHEN 1 THEN 'NAVER' ELSE 'APPLE' END, 'USER',
+                       CASE MOD(X, 20) WHEN 0 THEN 'SUSPENDED' WHEN 1 THEN 'WITHDRAWN' ELSE 'NORMAL' END,
+                       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'),
+                       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'),
+                       TRUE, TRUE, TRUE, FALSE, TRUE
+                FROM SYSTEM_RANGE(?, ?)
+                """);
+        // 주문하는 회원(5의 배수)에게 제곱 나머지로 나눠 몇몇에게 주문이 몰리게 한다
+        inChunks(ORDERS, """
+                INSERT INTO orders (order_id, user_id, created_at, modified_at)
+                SELECT X, 5 * (1 + MOD(X * X, %d)), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(ORDERING_USERS));
+        inChunks(ORDERS, """
+                INSERT INTO order_product (order_id, variant_id, product_name, quantity, price, order_date, status,
+                                           created_at, modified_at)
+                SELECT X, %d, '시카 리페어 앰플 30ml', 1, 24900,
+                       DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00'),
+                       CASE WHEN MOD(X, 10) = 0 THEN 'CANCELLED' ELSE 'PURCHASE_CONFIRMED' END,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(variantId));
+        jdbc.update("""
+                INSERT INTO user_order_stats (user_id, order_count, last_ordered_at, updated_at)
+                SELECT o.user_id,
+                       COUNT(DISTINCT CASE WHEN op.status <> 'CANCELLED' THEN o.order_id END),
+                       MAX(op.order_date),
+                       CURRENT_TIMESTAMP
+                FROM orders o
+                         JOIN order_product op ON op.order_id = o.order_id
+                GROUP BY o.user_id
+                """);
+    }
+
+    @Test
+    @DisplayName("회원 10만 명 — 기본 정렬·누적 주문순 첫 페이지와 탭 건수의 지연")
+    void compareGroupByAndSummaryJoin() {
+        for (AdminUserSort sort : List.of(AdminUserSort.RECENT_JOINED, AdminUserSort.ORDER_COUNT_DESC)) {
+            List<Long[]> before = legacyFirstPage(sort);
+            List<Long[]> after = currentFirstPage(sort);
+            assertThat(after).hasSize(PAGE);
+            assertThat(after).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(before);
+
+            Benchmark.measure("GROUP BY join, " + sort, WARMUP, ITERATIONS, () -> legacyFirstPage(sort));
+            Benchmark.measure("user_order_stats, " + sort, WARMUP, ITERATIONS, () -> currentFirstPage(sort));
+        }
+        Supplier<Map<?, Long>> tabCounts = () -> adminUserQueryRepository.countByStatus(null, null);
+        Benchmark.measure("countByStatus", WARMUP, ITERATIONS, tabCounts::get);
+        assertThat(tabCounts.get().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(USERS);
+    }
+
+    /** [회원 id, 누적 주문] — 지금 쿼리 */
+    private List<Long[]> currentFirstPage(AdminUserSort sort) {
+        return adminUserQueryRepository.search(AdminUserTab.ALL, null, null, sort, PageRequest.of(0, PAGE))
+                .getContent().stream()
+                .map(row -> new Long[]{row.userId(), row.orderCount()})
+                .toList();
+    }
+
+    /** [회원 id, 누적 주문] — 요약 테이블 이전의 쿼리를 그대로 옮겼다(전체 건수 쿼리는 두 쪽이 같아 뺀다) */
+    private List<Long[]> legacyFirstPage(AdminUserSort sort) {
+        NumberExpression<Long> orderCount = orderProduct.order.id.countDistinct();
+        OrderSpecifier<?>[] orderBy = sort == AdminUserSort.ORDER_COUNT_DESC
+                ? new OrderSpecifier<?>[]{orderCount.desc(), user.id.desc()}
+                : new OrderSpecifier<?>[]{user.createdAt.desc(), user.id.desc()};
+        return queryFactory
+                .select(user.id, user.nickname, user.name, user.phoneNumber,
+                        user.providerType, user.createdAt, user.status, orderCount)
+                .from(user)
+                .leftJoin(order).on(order.user.id.eq(user.id))
+                .leftJoin(orderProduct).on(orderProduct.order.id.eq(order.id)
+                        .and(orderProduct.status.ne(OrderProductStatus.CANCELLED)))
+                .where(user.roleType.eq(RoleType.USER))
+                .groupBy(user.id, user.nickname, user.name, user.phoneNumber,
+                        user.providerType, user.createdAt, user.status)
+                .orderBy(orderBy)
+                .limit(PAGE)
+                .fetch().stream()
+                .map(row -> new Long[]{row.get(user.id), row.get(orderCount)})
+                .toList();
+    }
+
+    /** 한 문장에 다 넣으면 H2가 되돌리기 기록을 힙에 쌓아 256MB를 넘는다 — 나눠 넣는다 */
+    private void inChunks(int rows, String insertFromRange) {
+        for (int from = 1; from <= rows; from += SEED_CHUNK) {
+            jdbc.update(insertFromRange, from, Math.min(rows, from + SEED_CHUNK - 1));
+        }
+    }
+
+    private Long seedVariant() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        return productVariantRepository.save(new ProductVariant(product, "단품", 38000, 24900, 0, true))
+                .getVariantId();
+    }
+}
@@ -0,0 +1,85 @@
+package showroomz.api.app.auth.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.auth.token.AuthToken;
+import showroomz.api.app.auth.token.AuthTokenProvider;
+import showroomz.api.app.auth.token.VerifiedTokenCache;
+import showroomz.global.config.properties.AppProperties;
+import showroomz.support.Benchmark;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 인증 필터 — 옛 경로(validate → getAuthentication 안에서 validate + getTokenClaims, 파싱 3회)와
+ * 새 경로(캐시 적중 시 파싱 0회)를 같은 토큰으로 비교한다. 폴링 클라이언트가 같은 토큰을 반복해서 싣는
+ * 상황이 대상이라, 새 경로는 첫 요청 이후 전부 캐시 적중이다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*TokenAuthenticationFilterBenchmark'}
+ */
+@Tag("benchmark")
+class TokenAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-token-secret-key-must-be-long-enough-for-hs256";
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final AuthTokenProvider tokenProvider = new AuthTokenProvider(SECRET);
+
+    @Test
+    @DisplayName("같은 토큰 반복 인증 — 옛 경로 대비 새 경로")
+    void compareLegacyAndCachedPaths() {
+        String token = tokenProvider.createAuthToken("mia", RoleType.USER.getCode(), 7L,
+                new Date(System.currentTimeMillis() + 30 * 60_000L)).getToken();
+
+        Benchmark.Result legacy = Benchmark.measure("legacy (validate x2 + claims)", WARMUP, ITERATIONS,
+                () -> legacyAuthenticate(token));
+
+        TokenAuthenticationFilter filter = new TokenAuthenticationFilter(
+                tokenProvider, new VerifiedTokenCache(new AppProperties(), new SimpleMeterRegistry()));
+        Benchmark.Result cached = Benchmark.measure("filter (verified-token cache)", WARMUP, ITERATIONS,
+                () -> filterAuthenticate(filter, token));
+
+        Benchmark.Result uncached = Benchmark.measure("filter (cache disabled)", WARMUP, ITERATIONS, () -> {
+            AppProperties noCache = new AppProperties();
+            noCache.getAuth().setTokenCacheSize(0);
+            filterAuthenticate(new TokenAuthenticationFilter(
+                    tokenProvider, new VerifiedTokenCache(noCache, new SimpleMeterRegistry())), token);
+        });
+
+        System.out.printf("[benchmark] cached path speedup over legacy: %.1fx (single-parse without cache: %.1fx)%n",
+                legacy.meanMicros() / cached.meanMicros(), legacy.meanMicros() / uncached.meanMicros());
+        assertThat(cached.meanMicros()).isLessThan(legacy.meanMicros());
+    }
+
+    /** 변경 전 필터가 하던 일 — 같은 토큰을 세 번 파싱한다. */
+    private void legacyAuthenticate(String tokenStr) {
+        AuthToken token = tokenProvider.convertAuthToken(tokenStr);
+        if (token.validate() && token.validate()) {
+            Authentication authentication = tokenProvider.getAuthentication(token);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    private void filterAuthenticate(TokenAuthenticationFilter filter, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        SecurityContextHolder.clearContext();
+    }
+}
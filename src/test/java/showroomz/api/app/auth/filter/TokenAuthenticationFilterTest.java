@@ -0,0 +1,92 @@
+package showroomz.api.app.auth.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.auth.entity.UserPrincipal;
+import showroomz.api.app.auth.token.AuthTokenProvider;
+import showroomz.api.app.auth.token.VerifiedTokenCache;
+import showroomz.global.config.properties.AppProperties;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 인증 필터 — 파싱은 요청당 많아야 한 번, 같은 토큰의 두 번째 요청부터는 캐시에서 주체를 꺼낸다.
+ */
+class TokenAuthenticationFilterTest {
+
+    private static final String SECRET = "unit-test-token-secret-key-must-be-long-enough-for-hs256";
+
+    private final AuthTokenProvider tokenProvider = new AuthTokenProvider(SECRET);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(
+            tokenProvider, new VerifiedTokenCache(new AppProperties(), meterRegistry));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Date inMinutes(int minutes) {
+        return new Date(System.currentTimeMillis() + minutes * 60_000L);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청은 파싱 없이 캐시에서 같은 주체로 인증된다")
+    void secondRequestIsServedFromCache() throws Exception {
+        String token = tokenProvider.createAuthToken("mia", RoleType.USER.getCode(), 7L, inMinutes(30)).getToken();
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertThat(((UserPrincipal) first.getPrincipal()).getUserId()).isEqualTo(7L);
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly(RoleType.USER.getCode());
+        assertThat(meterRegistry.counter("auth.token.cache.misses").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("auth.token.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("role이 없는 가입용 토큰은 인증하지 않고 캐시에도 올리지 않는다")
+    void registerTokenIsNotAuthenticated() throws Exception {
+        String token = tokenProvider.createAuthToken("mia", inMinutes(30)).getToken();
+
+        assertThat(authenticate(token)).isNull();
+        assertThat(authenticate(token)).isNull();
+        assertThat(meterRegistry.counter("auth.token.cache.hits").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 인증하지 않는다")
+    void foreignSignatureIsRejected() throws Exception {
+        String token = new AuthTokenProvider(SECRET + "-other")
+                .createAuthToken("mia", RoleType.USER.getCode(), 7L, inMinutes(30)).getToken();
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증하지 않는다")
+    void expiredTokenIsRejected() throws Exception {
+        String token = tokenProvider.createAuthToken("mia", RoleType.USER.getCode(), 7L, inMinutes(-1)).getToken();
+
+        assertThat(authenticate(token)).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package showroomz.api.app.auth.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.auth.entity.UserPrincipal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 토큰 캐시 — 토큰의 exp까지만 유효하고, 크기 상한을 넘으면 오래 안 쓴 항목부터 밀려난다.
+ *
+ * <p>캐시가 만료를 넘겨 주체를 돌려주면 만료 토큰으로 인증이 통과한다. 이 클래스에서 가장 중요한
+ * 계약이라 시계를 직접 움직여 확인한다.
+ */
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private VerifiedTokenCache cache(int maxSize) {
+        return new VerifiedTokenCache(maxSize, meterRegistry, now::get);
+    }
+
+    private UserPrincipal principal(long userId) {
+        return new UserPrincipal(userId, "user-" + userId, RoleType.USER,
+                List.of(new SimpleGrantedAuthority(RoleType.USER.getCode())));
+    }
+
+    @Test
+    @DisplayName("만료 전에는 같은 주체를 돌려주고 적중으로 센다")
+    void returnsPrincipalUntilExpiry() {
+        VerifiedTokenCache cache = cache(10);
+        UserPrincipal principal = principal(1L);
+        cache.put("token-a", principal, now.get() + 60_000);
+
+        assertThat(cache.get("token-a")).isSameAs(principal);
+        assertThat(meterRegistry.counter("auth.token.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("exp가 지나면 캐시에 남아 있어도 주체를 돌려주지 않는다")
+    void expiredEntryIsNotServed() {
+        VerifiedTokenCache cache = cache(10);
+        cache.put("token-a", principal(1L), now.get() + 60_000);
+
+        now.addAndGet(60_000);
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.counter("auth.token.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 올리지 않는다")
+    void alreadyExpiredTokenIsNotStored() {
+        VerifiedTokenCache cache = cache(10);
+
+        cache.put("token-a", principal(1L), now.get());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 안 쓴 토큰부터 밀려난다")
+    void evictsLeastRecentlyUsed() {
+        VerifiedTokenCache cache = cache(2);
+        cache.put("token-a", principal(1L), now.get() + 60_000);
+        cache.put("token-b", principal(2L), now.get() + 60_000);
+        cache.get("token-a");
+
+        cache.put("token-c", principal(3L), now.get() + 60_000);
+
+        assertThat(cache.get("token-a")).isNotNull();
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.get("token-c")).isNotNull();
+        assertThat(meterRegistry.get("auth.token.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("크기를 0으로 두면 캐시를 쓰지 않는다")
+    void zeroSizeDisablesCache() {
+        VerifiedTokenCache cache = cache(0);
+        cache.put("token-a", principal(1L), now.get() + 60_000);
+
+        assertThat(cache.get("token-a")).isNull();
+    }
+}
@@ -0,0 +1,153 @@
+package showroomz.api.app.cart.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.cart.dto.CartDto;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.cart.entity.Cart;
+import showroomz.domain.cart.repository.CartRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductGroupBuyStatus;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 화면의 세 경로(조회·수량 변경·선택 삭제)를 100줄·20쇼룸 장바구니로 잰다 — 요청당 SQL 문 수와 지연.
+ *
+ * <p>문 수는 Hibernate 통계의 준비된 문 수다. 변경 경로는 매번 롤백해 같은 장바구니로 반복하고, 커밋 시점에
+ * 나갈 UPDATE가 빠지지 않도록 롤백 전에 flush한다. 문 수는 줄 수와 무관해야 하므로 상한을 단언하고, 지연은
+ * 출력만 한다(H2라 절대값은 참고용이다).
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*CartPricingBenchmark'}
+ */
+@Tag("benchmark")
+class CartPricingBenchmark extends IntegrationTestSupport {
+
+    private static final int SHOWROOMS = 20;
+    private static final int LINES_PER_SHOWROOM = 5;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+    private static final String USERNAME = "cart-benchmark";
+
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> cartIds;
+
+    @BeforeEach
+    void seedCart() {
+        LocalDateTime now = LocalDateTime.now();
+        Users user = userRepository.save(new Users(USERNAME, "장바구니측정", USERNAME + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now));
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+
+        cartIds = new ArrayList<>();
+        for (int s = 0; s < SHOWROOMS; s++) {
+            Market market = fixture.createBrand("brand" + s + "@showroomz.test", "쇼룸" + s).market();
+            market.setDefaultDeliveryFee(3000);
+            market.setFreeShippingThreshold(s % 2 == 0 ? 30000 : 300000);
+            marketRepository.save(market);
+            for (int i = 0; i < LINES_PER_SHOWROOM; i++) {
+                ProductVariant variant = productVariantRepository.save(
+                        new ProductVariant(product(market, category, "상품 " + s + "-" + i), "단품", 12000, 9900, 50, true));
+                cartIds.add(cartRepository.save(new Cart(user, variant, 1 + i % 3)).getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("100줄·20쇼룸 — 조회·수량 변경·선택 삭제의 SQL 문 수와 지연")
+    void measureCartPaths() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        Long firstLine = cartIds.get(0);
+        List<Long> pageOfLines = cartIds.subList(0, 10);
+        CartDto.UpdateCartRequest changeQuantity = CartDto.UpdateCartRequest.builder().quantity(3).build();
+
+        long getStatements = statements(statistics, () -> cartService.getCart(USERNAME, null));
+        long updateStatements = statements(statistics,
+                () -> rolledBack(() -> cartService.updateCart(USERNAME, firstLine, changeQuantity, null)));
+        long deleteStatements = statements(statistics,
+                () -> rolledBack(() -> cartService.deleteCart(USERNAME, pageOfLines, null)));
+
+        Benchmark.measure("getCart (100 lines)", WARMUP, ITERATIONS, () -> cartService.getCart(USERNAME, null));
+        Benchmark.measure("updateCart quantity", WARMUP, ITERATIONS,
+                () -> rolledBack(() -> cartService.updateCart(USERNAME, firstLine, changeQuantity, null)));
+        Benchmark.measure("deleteCart 10 lines", WARMUP, ITERATIONS,
+                () -> rolledBack(() -> cartService.deleteCart(USERNAME, pageOfLines, null)));
+
+        System.out.printf("[benchmark] statements per request — get: %d, update: %d, delete: %d%n",
+                getStatements, updateStatements, deleteStatements);
+        // 회원 조회 + 장바구니 적재 (+ UPDATE / 일괄 DELETE) — 줄 수가 늘어도 그대로여야 한다
+        assertThat(getStatements).isLessThanOrEqualTo(2);
+        assertThat(updateStatements).isLessThanOrEqualTo(3);
+        assertThat(deleteStatements).isLessThanOrEqualTo(3);
+    }
+
+    private Product product(Market market, Category category, String name) {
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName(name);
+        product.setRegularPrice(12000);
+        product.setSalePrice(9900);
+        product.setGroupBuyStatus(ProductGroupBuyStatus.IN_PROGRESS);
+        product.setDisplayStatus(ProductDisplayStatus.DISPLAY);
+        product.setIsOutOfStockForced(false);
+        return productRepository.save(product);
+    }
+
+    private long statements(Statistics statistics, Runnable request) {
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void rolledBack(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> {
+            work.run();
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+    }
+}
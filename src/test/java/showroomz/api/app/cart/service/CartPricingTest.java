@@ -0,0 +1,118 @@
+package showroomz.api.app.cart.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import showroomz.domain.cart.entity.Cart;
+import showroomz.domain.cart.type.CartUnavailableReason;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductGroupBuyStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 금액 계산 — 전체 합계가 그룹 소계의 합과 어긋나지 않는지, 그룹 경계가 어떻게 잡히는지를 본다.
+ * 선택·사유가 화면 응답에 어떻게 실리는지는 {@link CartServiceTest}가 맡는다.
+ */
+class CartPricingTest {
+
+    private final Users user = new Users();
+
+    @Test
+    @DisplayName("전체 배송비는 그룹마다 부과한 배송비의 합이다 — 그룹 배송비 줄과 하단 합계가 같은 값을 쓴다")
+    void totalsAreSumsOfGroupSubtotals() {
+        Market free = market(5L, 3000, 30000);
+        Market charged = market(7L, 2500, 50000);
+        CartPricing pricing = CartPricing.price(List.of(
+                cart(10L, variant(free, ProductGroupBuyStatus.IN_PROGRESS, 40000, 32000, 10), 1),
+                cart(11L, variant(charged, ProductGroupBuyStatus.IN_PROGRESS, 20000, 15000, 10), 2),
+                cart(12L, variant(charged, ProductGroupBuyStatus.IN_PROGRESS, 9000, 9000, 10), 1)
+        ), null);
+
+        assertThat(pricing.groups()).extracting(CartPricing.Group::chargedDeliveryFee).containsExactly(0, 2500);
+        assertThat(pricing.groups().get(1).amountToFreeShipping()).isEqualTo(11_000L);
+        assertThat(pricing.deliveryFeeTotal()).isEqualTo(2_500L);
+        assertThat(pricing.saleTotal()).isEqualTo(32_000L + 39_000L);
+        assertThat(pricing.regularTotal()).isEqualTo(40_000L + 49_000L);
+        assertThat(pricing.finalTotal()).isEqualTo(71_000L + 2_500L);
+    }
+
+    @Test
+    @DisplayName("그룹은 각 쇼룸의 첫 줄이 나온 순서로 놓이고, 마켓이 없는 줄도 한 그룹으로 모여 합계에 들어간다")
+    void groupsFollowFirstAppearanceAndKeepMarketlessLines() {
+        Market market = market(5L, 3000, 30000);
+        CartPricing pricing = CartPricing.price(List.of(
+                cart(12L, variant(null, ProductGroupBuyStatus.IN_PROGRESS, 10000, 10000, 10), 1),
+                cart(11L, variant(market, ProductGroupBuyStatus.IN_PROGRESS, 10000, 8000, 10), 1),
+                cart(10L, variant(null, ProductGroupBuyStatus.IN_PROGRESS, 10000, 10000, 10), 1)
+        ), null);
+
+        assertThat(pricing.groups()).extracting(CartPricing.Group::key)
+                .containsExactly(CartPricing.NO_MARKET_KEY, 5L);
+        assertThat(pricing.groups().get(0).lines()).hasSize(2);
+        assertThat(pricing.saleTotal()).isEqualTo(28_000L);
+    }
+
+    @Test
+    @DisplayName("살 수 없는 줄은 사유를 한 번 달고 선택·선택 가능 수에서 빠진다")
+    void unavailableLinesCarryReasonAndStayUnselected() {
+        Market market = market(5L, 3000, 30000);
+        CartPricing pricing = CartPricing.price(List.of(
+                cart(10L, variant(market, ProductGroupBuyStatus.NOT_CONNECTED, 10000, 10000, 10), 1),
+                cart(11L, variant(market, ProductGroupBuyStatus.IN_PROGRESS, 10000, 10000, 0), 1),
+                cart(12L, variant(market, ProductGroupBuyStatus.IN_PROGRESS, 10000, 10000, 10), 1)
+        ), List.of(10L, 11L, 12L));
+
+        assertThat(pricing.groups().get(0).lines()).extracting(CartPricing.Line::unavailableReason)
+                .containsExactly(CartUnavailableReason.GROUP_BUY_CLOSED, CartUnavailableReason.SOLD_OUT, null);
+        assertThat(pricing.selectedIds()).containsExactly(12L);
+        assertThat(pricing.selectableCount()).isEqualTo(1);
+        assertThat(pricing.totalCount()).isEqualTo(3);
+        assertThat(pricing.groups().get(0).closed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("선택된 줄이 없는 그룹은 배송비도, 무료배송까지 남은 금액도 내지 않는다")
+    void unselectedGroupChargesNothing() {
+        Market market = market(5L, 3000, 30000);
+        CartPricing pricing = CartPricing.price(List.of(
+                cart(10L, variant(market, ProductGroupBuyStatus.IN_PROGRESS, 10000, 10000, 10), 1)
+        ), List.of());
+
+        CartPricing.Group group = pricing.groups().get(0);
+        assertThat(group.hasSelectedItems()).isFalse();
+        assertThat(group.chargedDeliveryFee()).isZero();
+        assertThat(group.shortOfFreeShipping()).isFalse();
+        assertThat(pricing.finalTotal()).isZero();
+    }
+
+    private Market market(Long id, Integer deliveryFee, Integer freeShippingThreshold) {
+        Market market = new Market();
+        market.setId(id);
+        market.setDefaultDeliveryFee(deliveryFee);
+        market.setFreeShippingThreshold(freeShippingThreshold);
+        return market;
+    }
+
+    private ProductVariant variant(Market market, ProductGroupBuyStatus groupBuyStatus,
+                                   int regularPrice, int salePrice, int stock) {
+        Product product = new Product();
+        product.setMarket(market);
+        product.setGroupBuyStatus(groupBuyStatus);
+        product.setDisplayStatus(ProductDisplayStatus.DISPLAY);
+        product.setIsOutOfStockForced(false);
+        return new ProductVariant(product, "기본", regularPrice, salePrice, stock, true);
+    }
+
+    private Cart cart(Long cartId, ProductVariant variant, int quantity) {
+        Cart cart = new Cart(user, variant, quantity);
+        ReflectionTestUtils.setField(cart, "id", cartId);
+        return cart;
+    }
+}
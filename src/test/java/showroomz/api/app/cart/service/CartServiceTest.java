@@ -13,7 +13,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.app.cart.dto.CartDto;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.cart.entity.Cart;
 import showroomz.domain.cart.repository.CartRepository;
 import showroomz.domain.market.entity.Market;
@@ -28,6 +28,7 @@ import showroomz.domain.product.type.ProductGroupBuyStatus;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -61,7 +62,7 @@ class CartServiceTest {
     @Mock
     private CartRepository cartRepository;
     @Mock
-    private UserRepository userRepository;
+    private UserReferenceCache userReferenceCache;
     @Mock
     private ProductVariantRepository productVariantRepository;
     @Mock
@@ -207,8 +208,7 @@ class CartServiceTest {
         Market market = market(5L, "제니의 뷰티룸", 3000, 30000);
         Cart closed = cart(10L, variant(1L, product(market, ProductGroupBuyStatus.NOT_CONNECTED, 10), 38000, 24900, 10), 1);
 
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-        given(cartRepository.findByIdAndUser(10L, user)).willReturn(Optional.of(closed));
+        givenCart(List.of(closed));
 
         CartDto.UpdateCartRequest request = CartDto.UpdateCartRequest.builder().quantity(2).build();
 
@@ -225,8 +225,7 @@ class CartServiceTest {
         Cart alive = cart(10L, variant(1L, product, 38000, 24900, 10), 1);
         ProductVariant soldOutVariant = variant(2L, product(market, ProductGroupBuyStatus.IN_PROGRESS, 0), 38000, 24900, 0);
 
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-        given(cartRepository.findByIdAndUser(10L, user)).willReturn(Optional.of(alive));
+        givenCart(List.of(alive));
         given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(soldOutVariant));
 
         CartDto.UpdateCartRequest request = CartDto.UpdateCartRequest.builder().variantId(2L).build();
@@ -242,7 +241,7 @@ class CartServiceTest {
         Market market = market(5L, "제니의 뷰티룸", 3000, 30000);
         ProductVariant closedVariant = variant(1L, product(market, ProductGroupBuyStatus.NOT_CONNECTED, 10), 38000, 24900, 10);
 
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         given(productVariantRepository.findByVariantId(1L)).willReturn(Optional.of(closedVariant));
 
         List<CartDto.AddCartRequest> requests = List.of(
@@ -338,7 +337,7 @@ class CartServiceTest {
         @Test
         @DisplayName("없는 옵션은 담을 수 없다")
         void unknownVariantIsRejected() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+            given(userReferenceCache.getReference(USERNAME)).willReturn(user);
             given(productVariantRepository.findByVariantId(1L)).willReturn(Optional.empty());
 
             assertThatThrownBy(() -> cartService.addCart(USERNAME, addRequest(1L, 1)))
@@ -363,7 +362,7 @@ class CartServiceTest {
         void bulkAddSavesEveryRequest() {
             ProductVariant first = purchasableVariant(1L, 10);
             ProductVariant second = purchasableVariant(2L, 10);
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+            given(userReferenceCache.getReference(USERNAME)).willReturn(user);
             given(productVariantRepository.findByVariantId(1L)).willReturn(Optional.of(first));
             given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(second));
             given(cartRepository.findByUserAndVariant(any(), any())).willReturn(Optional.empty());
@@ -382,7 +381,7 @@ class CartServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
 
-            verify(userRepository, never()).findByUsername(anyString());
+            verify(userReferenceCache, never()).getReference(anyString());
         }
     }
 
@@ -446,7 +445,6 @@ class CartServiceTest {
 
             givenUpdatable(item);
             given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(next));
-            given(cartRepository.findByUserAndVariant(user, next)).willReturn(Optional.empty());
 
             cartService.updateCart(USERNAME, 10L,
                     CartDto.UpdateCartRequest.builder().variantId(2L).build(), null);
@@ -467,9 +465,8 @@ class CartServiceTest {
             Cart item = cart(10L, current, 2);
             Cart alreadyHeld = cart(11L, next, 3);
 
-            givenUpdatable(item);
+            givenUpdatable(item, alreadyHeld);
             given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(next));
-            given(cartRepository.findByUserAndVariant(user, next)).willReturn(Optional.of(alreadyHeld));
 
             CartDto.UpdateCartResponse response = cartService.updateCart(USERNAME, 10L,
                     CartDto.UpdateCartRequest.builder().variantId(2L).build(), null);
@@ -488,9 +485,8 @@ class CartServiceTest {
             ProductVariant next = variant(2L, product, 38000, 24900, 4);
             Cart item = cart(10L, current, 2);
 
-            givenUpdatable(item);
+            givenUpdatable(item, cart(11L, next, 3));
             given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(next));
-            given(cartRepository.findByUserAndVariant(user, next)).willReturn(Optional.of(cart(11L, next, 3)));
 
             assertThatThrownBy(() -> cartService.updateCart(USERNAME, 10L,
                     CartDto.UpdateCartRequest.builder().variantId(2L).build(), null))
@@ -500,12 +496,28 @@ class CartServiceTest {
             verify(cartRepository, never()).delete(any());
         }
 
-        /** 조회를 (id, user)로 좁히므로 남의 항목은 애초에 잡히지 않는다. */
+        /** 고친 줄은 메모리에 있는 그 줄뿐이다 — 요약을 내려고 장바구니를 다시 읽으면 쿼리가 두 배가 된다. */
+        @Test
+        @DisplayName("수정은 장바구니를 한 번만 읽고, 합칠 줄도 그 목록에서 찾는다")
+        void updateLoadsCartOnce() {
+            Market market = market(5L, "제니의 뷰티룸", 3000, 30000);
+            Product product = product(market, ProductGroupBuyStatus.IN_PROGRESS, 10);
+            ProductVariant next = variant(2L, product, 38000, 24900, 10);
+            Cart item = cart(10L, variant(1L, product, 38000, 24900, 10), 2);
+            givenUpdatable(item, cart(11L, next, 3));
+            given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(next));
+
+            cartService.updateCart(USERNAME, 10L, CartDto.UpdateCartRequest.builder().variantId(2L).build(), null);
+
+            verify(cartRepository, times(1)).findAllByUser(user);
+            verify(cartRepository, never()).findByUserAndVariant(any(), any());
+        }
+
+        /** 항목을 본인 장바구니 안에서만 찾으므로 남의 항목은 애초에 잡히지 않는다. */
         @Test
         @DisplayName("남의 장바구니 항목은 수정할 수 없다")
         void othersItemIsNotUpdatable() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdAndUser(10L, user)).willReturn(Optional.empty());
+            givenCart(List.of(cart(11L, purchasableVariant(1L, 10), 1)));
 
             assertThatThrownBy(() -> cartService.updateCart(
                     USERNAME, 10L, CartDto.UpdateCartRequest.builder().quantity(2).build(), null))
@@ -523,9 +535,7 @@ class CartServiceTest {
         void selectedItemsAreDeleted() {
             ProductVariant target = purchasableVariant(1L, 10);
             Cart first = cart(10L, target, 1);
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdInAndUser(List.of(10L), user)).willReturn(List.of(first));
-            given(cartRepository.findAllByUser(user)).willReturn(List.of());
+            givenCart(List.of(first));
 
             CartDto.DeleteCartResponse response = cartService.deleteCart(USERNAME, List.of(10L), null);
 
@@ -542,9 +552,7 @@ class CartServiceTest {
         @DisplayName("남의 항목 ID가 섞이면 하나도 지우지 않고 거절한다")
         void mixedOwnershipDeletesNothing() {
             ProductVariant target = purchasableVariant(1L, 10);
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdInAndUser(List.of(10L, 999L), user))
-                    .willReturn(List.of(cart(10L, target, 1)));
+            givenCart(List.of(cart(10L, target, 1)));
 
             assertThatThrownBy(() -> cartService.deleteCart(USERNAME, List.of(10L, 999L), null))
                     .isInstanceOf(BusinessException.class)
@@ -557,29 +565,39 @@ class CartServiceTest {
         @DisplayName("ID를 주지 않으면 전체 삭제다")
         void nullIdsClearsEverything() {
             ProductVariant target = purchasableVariant(1L, 10);
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.countByUser(user)).willReturn(2L);
-            given(cartRepository.findAllByUser(user))
-                    .willReturn(List.of(cart(10L, target, 1), cart(11L, target, 1)), List.of());
+            givenCart(List.of(cart(10L, target, 1), cart(11L, target, 1)));
 
             CartDto.DeleteCartResponse response = cartService.deleteCart(USERNAME, null, null);
 
             assertThat(response.getDeletedCount()).isEqualTo(2);
-            verify(cartRepository).deleteByUser(user);
+            verify(cartRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        }
+
+        @Test
+        @DisplayName("삭제 후 요약은 처음 읽은 목록에서 지운 줄만 빼고 계산한다 — 다시 읽지 않는다")
+        void deleteLoadsCartOnce() {
+            Market market = market(5L, "제니의 뷰티룸", 3000, 100000);
+            Product product = product(market, ProductGroupBuyStatus.IN_PROGRESS, 10);
+            givenCart(List.of(cart(10L, variant(1L, product, 38000, 24900, 10), 1),
+                    cart(11L, variant(2L, product, 26000, 17500, 10), 2)));
+
+            CartDto.DeleteCartResponse response = cartService.deleteCart(USERNAME, List.of(10L), null);
+
+            assertThat(response.getSummary().getTotalProductPrice()).isEqualTo(35_000L);
+            verify(cartRepository, times(1)).findAllByUser(user);
         }
 
         /** 이미 빈 장바구니에 전체 삭제를 부르는 것은 오류가 아니다 — 결과가 같기 때문이다. */
         @Test
         @DisplayName("이미 비어 있으면 지우지 않고 비어 있다고 알려준다")
         void clearingEmptyCartIsNoOp() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.countByUser(user)).willReturn(0L);
+            givenCart(List.of());
 
             CartDto.DeleteCartResponse response = cartService.deleteCart(USERNAME, null, null);
 
             assertThat(response.getDeletedCount()).isZero();
             assertThat(response.getSummary().getExpectedTotalPrice()).isZero();
-            verify(cartRepository, never()).deleteByUser(any());
+            verify(cartRepository, never()).deleteAllByIdInBatch(any());
         }
     }
 
@@ -655,7 +673,7 @@ class CartServiceTest {
         @Test
         @DisplayName("없는 회원이면 404를 낸다")
         void unknownUserIsRejected() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+            given(userReferenceCache.getReference(USERNAME)).willThrow(new BusinessException(ErrorCode.USER_NOT_FOUND));
 
             assertThatThrownBy(() -> cartService.getCart(USERNAME, null))
                     .isInstanceOf(BusinessException.class)
@@ -676,10 +694,7 @@ class CartServiceTest {
             Cart changed = cart(10L, variant(1L, product, 38000, 24900, 10), 1);
             Cart unchecked = cart(11L, variant(2L, product, 26000, 17500, 10), 1);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdAndUser(10L, user)).willReturn(Optional.of(changed));
-            given(cartRepository.save(any(Cart.class))).willAnswer(invocation -> invocation.getArgument(0));
-            given(cartRepository.findAllByUser(user)).willReturn(List.of(changed, unchecked));
+            givenUpdatable(changed, unchecked);
 
             CartDto.UpdateCartResponse response = cartService.updateCart(
                     USERNAME, 10L, CartDto.UpdateCartRequest.builder().quantity(2).build(), List.of(10L));
@@ -700,12 +715,8 @@ class CartServiceTest {
             Cart item = cart(10L, current, 2);
             Cart alreadyHeld = cart(11L, next, 3);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdAndUser(10L, user)).willReturn(Optional.of(item));
-            given(cartRepository.save(any(Cart.class))).willAnswer(invocation -> invocation.getArgument(0));
+            givenUpdatable(item, alreadyHeld);
             given(productVariantRepository.findByVariantId(2L)).willReturn(Optional.of(next));
-            given(cartRepository.findByUserAndVariant(user, next)).willReturn(Optional.of(alreadyHeld));
-            given(cartRepository.findAllByUser(user)).willReturn(List.of(alreadyHeld));
 
             CartDto.UpdateCartResponse response = cartService.updateCart(USERNAME, 10L,
                     CartDto.UpdateCartRequest.builder().variantId(2L).build(), List.of(10L));
@@ -724,9 +735,7 @@ class CartServiceTest {
             Cart remaining = cart(11L, variant(2L, product, 26000, 17500, 10), 1);
             Cart unchecked = cart(12L, variant(3L, product, 26000, 17500, 10), 1);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdInAndUser(List.of(10L), user)).willReturn(List.of(deleted));
-            given(cartRepository.findAllByUser(user)).willReturn(List.of(remaining, unchecked));
+            givenCart(List.of(deleted, remaining, unchecked));
 
             CartDto.DeleteCartResponse response =
                     cartService.deleteCart(USERNAME, List.of(10L), List.of(10L, 11L));
@@ -742,9 +751,7 @@ class CartServiceTest {
             Cart item = cart(10L, variant(1L, product(market, ProductGroupBuyStatus.IN_PROGRESS, 10),
                     38000, 24900, 10), 1);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-            given(cartRepository.findByIdInAndUser(List.of(10L), user)).willReturn(List.of(item));
-            given(cartRepository.findAllByUser(user)).willReturn(List.of());
+            givenCart(List.of(item));
 
             CartDto.DeleteCartResponse response = cartService.deleteCart(USERNAME, List.of(10L, 10L), null);
 
@@ -760,7 +767,7 @@ class CartServiceTest {
         @Test
         @DisplayName("팔로우한 쇼룸이 없으면 빈 목록이다 — 화면은 영역을 그리지 않는다")
         void noFollowYieldsEmptyList() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+            given(userReferenceCache.getReference(USERNAME)).willReturn(user);
             given(creatorFollowRepository.findCreatorIdsByUserId(1L)).willReturn(List.of());
 
             assertThat(cartService.getRecommendations(USERNAME, null).getProducts()).isEmpty();
@@ -776,7 +783,7 @@ class CartServiceTest {
             Cart held = cart(10L, variant(1L, product(inCart, ProductGroupBuyStatus.IN_PROGRESS, 10),
                     38000, 24900, 10), 1);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+            given(userReferenceCache.getReference(USERNAME)).willReturn(user);
             given(creatorFollowRepository.findCreatorIdsByUserId(1L)).willReturn(List.of(3L));
             given(cartRepository.findAllByUser(user)).willReturn(List.of(held));
             given(productRepository.findOngoingGroupBuyProductsOfShowrooms(
@@ -804,7 +811,7 @@ class CartServiceTest {
             Product held = product(market, ProductGroupBuyStatus.IN_PROGRESS, 10);
             held.setProductId(1024L);
 
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+            given(userReferenceCache.getReference(USERNAME)).willReturn(user);
             given(creatorFollowRepository.findCreatorIdsByUserId(1L)).willReturn(List.of(3L));
             given(cartRepository.findAllByUser(user))
                     .willReturn(List.of(cart(10L, variant(1L, held, 38000, 24900, 10), 1)));
@@ -830,18 +837,19 @@ class CartServiceTest {
     }
 
     private void givenAddable(ProductVariant target) {
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         given(productVariantRepository.findByVariantId(target.getVariantId())).willReturn(Optional.of(target));
         // 저장은 통과시킨다 — 담기 테스트의 관심사는 저장 전 검사와 합산 수량이다.
         given(cartRepository.save(any(Cart.class))).willAnswer(invocation -> invocation.getArgument(0));
     }
 
-    private void givenUpdatable(Cart item) {
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
-        given(cartRepository.findByIdAndUser(item.getId(), user)).willReturn(Optional.of(item));
+    /** 수정할 줄({@code item})과 함께 장바구니에 담겨 있는 나머지 줄 */
+    private void givenUpdatable(Cart item, Cart... others) {
+        List<Cart> carts = new ArrayList<>(List.of(item));
+        carts.addAll(List.of(others));
+        givenCart(carts);
         given(cartRepository.save(org.mockito.ArgumentMatchers.any(Cart.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
-        given(cartRepository.findAllByUser(user)).willReturn(List.of(item));
     }
 
     private CartDto.AddCartRequest addRequest(Long variantId, int quantity) {
@@ -849,7 +857,7 @@ class CartServiceTest {
     }
 
     private void givenCart(List<Cart> carts) {
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         given(cartRepository.findAllByUser(user)).willReturn(carts);
     }
 
@@ -0,0 +1,240 @@
+package showroomz.api.app.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.coupon.service.UserCouponService;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
+import showroomz.domain.coupon.entity.Coupon;
+import showroomz.domain.coupon.repository.CouponRepository;
+import showroomz.domain.coupon.repository.UserCouponRepository;
+import showroomz.domain.coupon.service.CouponStockCounter;
+import showroomz.domain.coupon.type.CouponStatus;
+import showroomz.domain.coupon.type.CouponType;
+import showroomz.domain.coupon.type.DiscountUnit;
+import showroomz.domain.coupon.type.TargetAudience;
+import showroomz.domain.coupon.type.ValidityType;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+import showroomz.support.IntegrationTestSupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 선착순 쿠폰 동시 발급 — 쿠폰 행을 잠그지 않아도 발급 수가 총수량을 넘지 않아야 한다.
+ *
+ * <p>인스턴스마다 메모리 계수기를 따로 들고 있는 상황을 그대로 만든다: 계수기가 다른 발급 서비스 둘이
+ * 같은 DB를 나눠 쓴다. 메모리는 각자 처음 읽은 수량을 믿으므로 둘을 합하면 총수량의 두 배까지 받아 주려 하고,
+ * 그 초과분을 조건부 차감이 막는지가 이 테스트의 요점이다. 트랜잭션 경계는 서비스 프록시 대신
+ * {@code transactionTemplate}으로 건다(계수기를 인스턴스별로 갈아 끼우기 위해서다).
+ */
+class CouponIssuanceConcurrencyIntegrationTest extends IntegrationTestSupport {
+
+    private static final int TOTAL_QUANTITY = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserReferenceCache userReferenceCache;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UserCouponService instance() {
+        return new UserCouponService(userReferenceCache, couponRepository, userCouponRepository, productRepository,
+                new CouponStockCounter(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("두 인스턴스에 다운로드가 몰려도 발급 수는 총수량을 넘지 않는다")
+    void concurrentDownloadsNeverExceedTotalQuantity() throws Exception {
+        Long couponId = createCoupon(TOTAL_QUANTITY).getId();
+        int threads = 8;
+        int usersPerThread = 5;
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < threads * usersPerThread; i++) {
+            usernames.add(createUser("buyer-" + i).getUsername());
+        }
+        List<UserCouponService> instances = List.of(instance(), instance());
+
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                UserCouponService service = instances.get(t % instances.size());
+                List<String> mine = usernames.subList(t * usersPerThread, (t + 1) * usersPerThread);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (String username : mine) {
+                        try {
+                            transactionTemplate.executeWithoutResult(
+                                    status -> service.downloadCoupon(username, couponId));
+                            issued.incrementAndGet();
+                        } catch (BusinessException e) {
+                            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+                            exhausted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasValue(TOTAL_QUANTITY);
+        assertThat(exhausted).hasValue(threads * usersPerThread - TOTAL_QUANTITY);
+        assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(TOTAL_QUANTITY);
+        assertThat(remainingInDb(couponId)).isZero();
+    }
+
+    /**
+     * 발급 행이 쿠폰 행을 외래 키로 가리키는 스키마에서, 모든 요청이 한 쿠폰에 한꺼번에 몰린다. 발급 행을 차감보다
+     * 먼저 넣으면 MySQL에서는 외래 키 검사의 공유 잠금과 차감의 배타 잠금이 엇갈려 교착이 나므로, 수량 소진 외의
+     * 예외(교착·잠금 대기 초과)가 하나라도 나오면 실패한다. 차감이 먼저인지는 {@code UserCouponServiceTest}가 본다.
+     */
+    @Test
+    @DisplayName("외래 키가 걸린 스키마에서 한 쿠폰에 동시 발급이 몰려도 수량 소진 외의 오류가 없다")
+    void concurrentDownloadsUnderForeignKey() throws Exception {
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.referential_constraints rc
+                JOIN information_schema.key_column_usage k
+                  ON k.constraint_name = rc.constraint_name AND k.table_name = 'user_coupon'
+                WHERE k.column_name = 'coupon_id'
+                """, Integer.class)).isPositive();
+        Long couponId = createCoupon(TOTAL_QUANTITY).getId();
+        int threads = 16;
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            usernames.add(createUser("racer-" + i).getUsername());
+        }
+        UserCouponService service = instance();
+
+        AtomicInteger issued = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String username : usernames) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> service.downloadCoupon(username, couponId));
+                        issued.incrementAndGet();
+                    } catch (BusinessException e) {
+                        if (e.getErrorCode() != ErrorCode.COUPON_QUANTITY_EXHAUSTED) {
+                            unexpected.add(e);
+                        }
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(issued).hasValue(TOTAL_QUANTITY);
+        assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(TOTAL_QUANTITY);
+        assertThat(remainingInDb(couponId)).isZero();
+    }
+
+    /** 메모리는 아직 남았다고 믿지만 DB는 소진 — 다른 인스턴스가 그 사이 마지막 수량을 가져간 경우다. */
+    @Test
+    @DisplayName("계수기가 남았다고 해도 DB 조건부 차감이 거절하면 발급 행까지 되돌린다")
+    void staleCounterIsCorrectedByConditionalUpdate() {
+        Long couponId = createCoupon(2).getId();
+        UserCouponService service = instance();
+        String first = createUser("buyer-1").getUsername();
+        String second = createUser("buyer-2").getUsername();
+        transactionTemplate.executeWithoutResult(status -> service.downloadCoupon(first, couponId));
+        // 다른 인스턴스가 가져간 것처럼 DB만 0으로 만든다 — 이 계수기는 1이 남았다고 믿는다
+        jdbc.update("UPDATE coupon SET remaining_quantity = 0 WHERE coupon_id = ?", couponId);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> service.downloadCoupon(second, couponId)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+
+        assertThat(userCouponRepository.countByCouponId(couponId)).isEqualTo(1);
+        assertThat(remainingInDb(couponId)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 두 번 받으면 중복으로 거절하고 수량은 한 장만 줄어든다")
+    void duplicateDownloadIsRejected() {
+        Long couponId = createCoupon(TOTAL_QUANTITY).getId();
+        UserCouponService service = instance();
+        String username = createUser("buyer-1").getUsername();
+        transactionTemplate.executeWithoutResult(status -> service.downloadCoupon(username, couponId));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> service.downloadCoupon(username, couponId)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_ALREADY_REGISTERED);
+
+        assertThat(remainingInDb(couponId)).isEqualTo(TOTAL_QUANTITY - 1);
+    }
+
+    private Integer remainingInDb(Long couponId) {
+        return jdbc.queryForObject(
+                "SELECT remaining_quantity FROM coupon WHERE coupon_id = ?", Integer.class, couponId);
+    }
+
+    private Users createUser(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users(
+                username, username, username + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now));
+    }
+
+    private Coupon createCoupon(int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return couponRepository.save(new Coupon(
+                "선착순 10% 할인", "FIRST-COME-" + quantity, CouponType.DIRECT, TargetAudience.GENERAL,
+                null, true, DiscountUnit.PERCENT, new BigDecimal("10"),
+                null, null, false,
+                now.minusDays(1), now.plusDays(1), ValidityType.PERIOD,
+                now.minusDays(1), now.plusDays(30), null,
+                CouponStatus.ACTIVE, quantity, quantity, null));
+    }
+}
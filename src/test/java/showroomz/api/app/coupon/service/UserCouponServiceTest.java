@@ -0,0 +1,110 @@
+package showroomz.api.app.coupon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.service.UserReferenceCache;
+import showroomz.domain.coupon.entity.Coupon;
+import showroomz.domain.coupon.entity.UserCoupon;
+import showroomz.domain.coupon.repository.CouponRepository;
+import showroomz.domain.coupon.repository.UserCouponRepository;
+import showroomz.domain.coupon.service.CouponStockCounter;
+import showroomz.domain.coupon.type.CouponStatus;
+import showroomz.domain.coupon.type.CouponType;
+import showroomz.domain.coupon.type.DiscountUnit;
+import showroomz.domain.coupon.type.TargetAudience;
+import showroomz.domain.coupon.type.ValidityType;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 수량 한정 쿠폰 발급의 문장 순서 — 쿠폰 행의 조건부 차감이 발급 행 INSERT보다 먼저 나가야 한다.
+ * 거꾸로면 외래 키 검사의 공유 잠금과 차감의 배타 잠금이 엇갈려 MySQL에서 동시 발급끼리 교착한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserCouponServiceTest {
+
+    private static final long COUPON_ID = 7L;
+    private static final String USERNAME = "buyer";
+
+    @Mock
+    private UserReferenceCache userReferenceCache;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private UserCouponRepository userCouponRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private CouponStockCounter couponStockCounter;
+
+    @InjectMocks
+    private UserCouponService userCouponService;
+
+    private Users user;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = new Users(USERNAME, USERNAME, USERNAME + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now);
+        coupon = new Coupon("선착순 10% 할인", "FIRST-COME", CouponType.DIRECT, TargetAudience.GENERAL,
+                null, true, DiscountUnit.PERCENT, new BigDecimal("10"),
+                null, null, false,
+                now.minusDays(1), now.plusDays(1), ValidityType.PERIOD,
+                now.minusDays(1), now.plusDays(30), null,
+                CouponStatus.ACTIVE, 10, 10, null);
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
+        given(couponRepository.findById(COUPON_ID)).willReturn(Optional.of(coupon));
+        given(couponStockCounter.tryReserve(COUPON_ID, 10)).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("조건부 차감을 먼저 보내고, 통과한 뒤에야 발급 행을 넣는다")
+    void decrementsBeforeInsertingIssuance() {
+        given(couponRepository.decreaseRemainingIfAvailable(COUPON_ID, 1)).willReturn(1);
+        given(userCouponRepository.saveAndFlush(any(UserCoupon.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        userCouponService.downloadCoupon(USERNAME, COUPON_ID);
+
+        InOrder order = inOrder(couponRepository, userCouponRepository);
+        order.verify(couponRepository).decreaseRemainingIfAvailable(COUPON_ID, 1);
+        order.verify(userCouponRepository).saveAndFlush(any(UserCoupon.class));
+    }
+
+    @Test
+    @DisplayName("차감이 거절되면 발급 행을 넣지 않고 계수기를 소진으로 맞춘다")
+    void refusedDecrementInsertsNothing() {
+        given(couponRepository.decreaseRemainingIfAvailable(COUPON_ID, 1)).willReturn(0);
+
+        assertThatThrownBy(() -> userCouponService.downloadCoupon(USERNAME, COUPON_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.COUPON_QUANTITY_EXHAUSTED);
+
+        verify(couponStockCounter).markSoldOut(COUPON_ID);
+        verify(userCouponRepository, never()).saveAndFlush(any(UserCoupon.class));
+    }
+}
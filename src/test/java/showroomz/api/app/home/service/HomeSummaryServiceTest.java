@@ -9,7 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.home.dto.HomeSummaryResponse;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.cart.repository.CartRepository;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.user.entity.Users;
@@ -37,7 +37,7 @@ class HomeSummaryServiceTest {
     private static final String USERNAME = "mia";
 
     @Mock
-    private UserRepository userRepository;
+    private UserReferenceCache userReferenceCache;
     @Mock
     private CartRepository cartRepository;
     @Mock
@@ -50,7 +50,7 @@ class HomeSummaryServiceTest {
         LocalDateTime now = LocalDateTime.now();
         Users user = new Users(USERNAME, "미아", "mia@showroomz.test", "Y", null,
                 ProviderType.LOCAL, RoleType.USER, now, now);
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         return user;
     }
 
@@ -97,7 +97,7 @@ class HomeSummaryServiceTest {
     @Test
     @DisplayName("없는 회원이면 세지 않고 404를 낸다")
     void unknownUserIsRejectedBeforeCounting() {
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+        given(userReferenceCache.getReference(USERNAME)).willThrow(new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         assertThatThrownBy(() -> homeSummaryService.getSummary(USERNAME))
                 .isInstanceOf(BusinessException.class)
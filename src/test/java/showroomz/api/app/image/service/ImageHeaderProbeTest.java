@@ -0,0 +1,84 @@
+package showroomz.api.app.image.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 헤더만으로 형식·크기를 판정한다 — ImageIO로 실제 인코딩한 파일과 같은 값을 내는지,
+ * 이름만 바꾼 파일·잘린 파일을 걸러내는지를 고정한다.
+ */
+class ImageHeaderProbeTest {
+
+    private final ImageHeaderProbe probe = new ImageHeaderProbe();
+
+    private static byte[] encode(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private ImageHeaderProbe.ImageHeader probe(byte[] bytes) throws IOException {
+        return probe.probe(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    @DisplayName("JPEG는 앞선 세그먼트를 건너뛰고 SOF에서 크기를 읽는다")
+    void readsJpegFrameHeader() throws IOException {
+        ImageHeaderProbe.ImageHeader header = probe(encode("jpg", 321, 160));
+
+        assertThat(header).isEqualTo(new ImageHeaderProbe.ImageHeader(ImageHeaderProbe.Format.JPEG, 321, 160));
+    }
+
+    @Test
+    @DisplayName("PNG는 IHDR에서 크기를 읽는다")
+    void readsPngHeader() throws IOException {
+        ImageHeaderProbe.ImageHeader header = probe(encode("png", 200, 640));
+
+        assertThat(header).isEqualTo(new ImageHeaderProbe.ImageHeader(ImageHeaderProbe.Format.PNG, 200, 640));
+    }
+
+    @Test
+    @DisplayName("GIF는 논리 화면 기술자에서 크기를 읽는다")
+    void readsGifHeader() throws IOException {
+        ImageHeaderProbe.ImageHeader header = probe(encode("gif", 300, 17));
+
+        assertThat(header).isEqualTo(new ImageHeaderProbe.ImageHeader(ImageHeaderProbe.Format.GIF, 300, 17));
+    }
+
+    /** §24-4 와이어의 실패 케이스 — 영상 파일의 확장자만 .jpg로 바꾼 경우 */
+    @Test
+    @DisplayName("이미지가 아닌 파일은 판정하지 않는다")
+    void rejectsNonImage() throws IOException {
+        byte[] mp4 = "\0\0\0\u0018ftypmp42isommp42".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(probe(mp4)).isNull();
+        assertThat(probe(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더가 중간에 잘린 파일은 판정하지 않는다")
+    void rejectsTruncatedHeader() throws IOException {
+        byte[] png = encode("png", 10, 10);
+
+        assertThat(probe(Arrays.copyOf(png, 20))).isNull();
+    }
+
+    @Test
+    @DisplayName("JPEG 형식은 jpg·jpeg 어느 확장자 목록에서도 허용된다")
+    void jpegMatchesEitherExtension() {
+        assertThat(ImageHeaderProbe.Format.JPEG.isAllowedBy(List.of("jpeg"))).isTrue();
+        assertThat(ImageHeaderProbe.Format.GIF.isAllowedBy(List.of("jpg", "jpeg", "png"))).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package showroomz.api.app.image.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import showroomz.support.Benchmark;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 한 건의 크기 판정 비용 — 옛 경로(ImageIO 전체 디코딩)와 헤더 판정의 호출당 할당 바이트를 비교한다.
+ *
+ * <p>3000×3000 사진은 크리에이터 원본으로 흔한 크기다. 디코딩하면 픽셀 버퍼만 수십 MB가 된다.
+ */
+@Tag("benchmark")
+class ImageUploadBenchmark {
+
+    private static byte[] jpeg;
+    private static byte[] png;
+
+    private final ImageHeaderProbe probe = new ImageHeaderProbe();
+
+    @BeforeAll
+    static void encodeSamples() throws IOException {
+        BufferedImage image = new BufferedImage(3000, 3000, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y += 7) {
+            for (int x = 0; x < image.getWidth(); x += 5) {
+                image.setRGB(x, y, x * 31 + y * 17);
+            }
+        }
+        jpeg = encode(image, "jpg");
+        png = encode(image, "png");
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("JPEG: 전체 디코딩 vs 헤더 판정")
+    void jpeg() {
+        compare("jpeg", jpeg);
+    }
+
+    @Test
+    @DisplayName("PNG: 전체 디코딩 vs 헤더 판정")
+    void png() {
+        compare("png", png);
+    }
+
+    private void compare(String label, byte[] bytes) {
+        Benchmark.Result decode = Benchmark.measure(label + " ImageIO.read", 2, 8, () -> {
+            try {
+                assertThat(ImageIO.read(new ByteArrayInputStream(bytes)).getWidth()).isEqualTo(3000);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Benchmark.Result header = Benchmark.measure(label + " header probe", 200, 2_000, () -> {
+            try {
+                assertThat(probe.probe(new ByteArrayInputStream(bytes)).width()).isEqualTo(3000);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        assertThat(header.meanMicros()).isLessThanOrEqualTo(decode.meanMicros());
+        if (decode.allocatedBytesPerOp() >= 0) {
+            assertThat(header.allocatedBytesPerOp()).isLessThan(decode.allocatedBytesPerOp());
+        }
+    }
+}
@@ -26,11 +26,16 @@ import showroomz.domain.inquiry.type.ProductInquiryHistoryType;
 import showroomz.domain.inquiry.type.ProductInquiryType;
 import showroomz.domain.market.entity.Market;
 import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.domain.product.entity.Product;
+import showroomz.domain.sequence.service.SequenceAllocator;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +70,10 @@ class ProductInquiryServiceTest {
     private UserRepository userRepository;
     @Mock
     private showroomz.domain.product.repository.ProductRepository productRepository;
+    @Mock
+    private SequenceAllocator sequenceAllocator;
+    @Mock
+    private ModerationService moderationService;
 
     @InjectMocks
     private ProductInquiryService productInquiryService;
@@ -145,6 +154,22 @@ class ProductInquiryServiceTest {
             assertThat(history.getValue().getHistoryType()).isEqualTo(ProductInquiryHistoryType.REGISTERED);
         }
 
+        /** 번호는 등록 시점에 고정된다 — 앞선 문의가 지워져도 화면의 번호가 바뀌지 않아야 한다. */
+        @Test
+        @DisplayName("등록하면 그날 접두어의 다음 순번으로 문의번호가 발급된다")
+        void issuesInquiryNumberOnRegister() {
+            given(userRepository.findById(USER_ID)).willReturn(Optional.of(user(USER_ID)));
+            given(productRepository.findById(PRODUCT_ID)).willReturn(Optional.of(product()));
+            String prefix = "QNA-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            given(sequenceAllocator.next(prefix)).willReturn(12L);
+
+            productInquiryService.registerInquiry(USER_ID, PRODUCT_ID, registerRequest(false, List.of()));
+
+            ArgumentCaptor<ProductInquiry> saved = ArgumentCaptor.forClass(ProductInquiry.class);
+            verify(productInquiryRepository).save(saved.capture());
+            assertThat(saved.getValue().getInquiryNumber()).isEqualTo(prefix + "-012");
+        }
+
         /** 이력 문구로 비밀글 여부가 드러나야 브랜드가 상세에서 공개 범위를 알 수 있다 (§23-3). */
         @Test
         @DisplayName("비밀글이면 등록 이력에 비밀글로 표기된다")
@@ -185,6 +210,20 @@ class ProductInquiryServiceTest {
 
             verify(productInquiryRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("금칙어가 든 문의는 상품 페이지에 걸리기 전에 거절한다")
+        void bannedContentIsRejected() {
+            given(moderationService.containsBannedWord(ModerationTarget.PRODUCT_INQUIRY, "민감성 피부도 쓸 수 있나요?"))
+                    .willReturn(true);
+
+            assertThatThrownBy(() -> productInquiryService.registerInquiry(
+                    USER_ID, PRODUCT_ID, registerRequest(false, List.of())))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INQUIRY_CONTENT_INAPPROPRIATE);
+
+            verify(productInquiryRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -0,0 +1,269 @@
+package showroomz.api.app.post;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.market.type.SnsType;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.entity.CreatorFollow;
+import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.post.entity.Post;
+import showroomz.domain.post.entity.PostLike;
+import showroomz.domain.post.repository.PostLikeRepository;
+import showroomz.domain.post.repository.PostRepository;
+import showroomz.support.IntegrationTestSupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 피드 커서판 — 끝까지 넘겨 읽었을 때 페이지 번호 목록과 같은 게시물이 같은 순서로, 빠짐·겹침 없이 나오는지 본다.
+ *
+ * <p>게시 시각이 같은 게시물을 일부러 여럿 둔다. 시각만으로 위치를 정하면 그 묶음이 페이지 경계에 걸릴 때 빠지거나
+ * 겹친다 — id까지 키에 든 것을 이 데이터가 확인한다. 시각 동률은 JDBC로 맞춘다(엔티티 저장은 시각이 조금씩 다르다).
+ */
+@DisplayName("[통합] 피드 커서 페이징")
+class FeedCursorIntegrationTest extends IntegrationTestSupport {
+
+    private static final String POSTS = "/v1/user/showrooms/posts";
+    private static final String SHOWROOM_POSTS = "/v1/user/showrooms/{showroomId}/posts";
+    private static final String FOLLOWING = "/v1/user/feed/following";
+    private static final String RECOMMENDED = "/v1/user/feed/recommended";
+    private static final String LIKED = "/v1/user/wishlist/contents";
+    private static final LocalDateTime TIE = LocalDateTime.of(2026, 3, 4, 12, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private CreatorFollowRepository creatorFollowRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Users viewer;
+    private String userToken;
+    private Creator followed;
+    private Creator other;
+
+    @BeforeEach
+    void setUpPosts() {
+        viewer = createUser("mia", "미아");
+        userToken = bearerToken(viewer.getUsername(), RoleType.USER, viewer.getId());
+        followed = createShowroom("제니의 뷰티룸");
+        other = createShowroom("소연의 살림");
+        creatorFollowRepository.save(new CreatorFollow(viewer, followed));
+
+        // 쇼룸마다 7개 — 가운데 4개는 게시 시각이 같다
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime publishedAt = i >= 2 && i < 6 ? TIE : TIE.minusHours(i + 1L);
+            createPublishedPost(followed, "팔로우 " + i, publishedAt, i);
+            createPublishedPost(other, "기타 " + i, publishedAt, 7 - i);
+        }
+        Post suspended = postRepository.save(
+                Post.published(followed, "내려간 게시물", new BigDecimal("0.8000"), LocalDateTime.now()));
+        suspended.suspend();
+        postRepository.save(suspended);
+    }
+
+    @Test
+    @DisplayName("전체 목록 — 커서로 끝까지 읽으면 페이지 번호 목록과 같은 게시물이 같은 순서로 나온다")
+    void walkingAllPagesMatchesOffsetListing() throws Exception {
+        List<Long> byCursor = walk(() -> get(POSTS + "/cursor"), 3);
+        List<Long> byOffset = offsetIds(get(POSTS).param("size", "100").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertThat(byCursor).hasSize(14).doesNotHaveDuplicates().containsExactlyElementsOf(byOffset);
+    }
+
+    @Test
+    @DisplayName("쇼룸·팔로잉·추천 피드도 같은 순서로 끝까지 이어진다")
+    void scopedFeedsWalkToTheEnd() throws Exception {
+        assertThat(walk(() -> get(SHOWROOM_POSTS + "/cursor", followed.getId()), 2))
+                .containsExactlyElementsOf(offsetIds(get(SHOWROOM_POSTS, followed.getId()).param("size", "100")));
+        assertThat(walk(() -> get(FOLLOWING + "/cursor").header(HttpHeaders.AUTHORIZATION, userToken), 2))
+                .containsExactlyElementsOf(offsetIds(get(FOLLOWING).param("size", "100")
+                        .header(HttpHeaders.AUTHORIZATION, userToken)));
+        assertThat(walk(() -> get(RECOMMENDED + "/cursor").header(HttpHeaders.AUTHORIZATION, userToken), 2))
+                .hasSize(7)
+                .containsExactlyElementsOf(offsetIds(get(RECOMMENDED).param("size", "100")
+                        .header(HttpHeaders.AUTHORIZATION, userToken)));
+    }
+
+    /** OFFSET 목록은 이 상황에서 한 칸 밀려 직전 페이지의 마지막 카드를 다시 보여 준다 */
+    @Test
+    @DisplayName("읽는 도중 새 글이 올라와도 이미 받은 카드가 다시 나오지 않는다")
+    void newPostDoesNotShiftLaterPages() throws Exception {
+        JsonNode first = read(get(POSTS + "/cursor").param("size", "5"));
+        createPublishedPost(other, "새 글", LocalDateTime.now(), 0);
+
+        JsonNode second = read(get(POSTS + "/cursor").param("size", "5")
+                .param("cursor", first.get("nextCursor").asText()));
+
+        assertThat(ids(second)).doesNotContainAnyElementsOf(ids(first));
+        assertThat(ids(second)).containsExactlyElementsOf(
+                offsetIds(get(POSTS).param("size", "100").header(HttpHeaders.AUTHORIZATION, userToken)).subList(6, 11));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 hasNext=false, nextCursor=null이고 전체 건수는 싣지 않는다")
+    void lastPageHasNoCursor() throws Exception {
+        mockMvc.perform(get(SHOWROOM_POSTS + "/cursor", followed.getId()).param("size", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(7))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.pageInfo").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("고친 커서는 400 INVALID_CURSOR다")
+    void tamperedCursorIsRejected() throws Exception {
+        String cursor = read(get(POSTS + "/cursor").param("size", "2")).get("nextCursor").asText();
+        String tampered = (cursor.charAt(0) == 'A' ? 'B' : 'A') + cursor.substring(1);
+
+        mockMvc.perform(get(POSTS + "/cursor").param("cursor", tampered))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    @DisplayName("다른 쇼룸의 커서를 넣으면 400이다 — 커서는 목록마다 따로다")
+    void cursorFromAnotherShowroomIsRejected() throws Exception {
+        String cursor = read(get(SHOWROOM_POSTS + "/cursor", followed.getId()).param("size", "2"))
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get(SHOWROOM_POSTS + "/cursor", other.getId()).param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 — 정렬마다 커서로 끝까지 읽으면 페이지 번호 목록과 같다")
+    void likedPostsWalkPerSort() throws Exception {
+        List<Long> postIds = jdbc.queryForList(
+                "SELECT post_id FROM post WHERE status = 'PUBLISHED' ORDER BY post_id", Long.class);
+        LocalDateTime likedAt = TIE.plusDays(1);
+        for (int i = 0; i < postIds.size(); i++) {
+            // 좋아요 시각도 셋씩 겹치게 둔다 — 좋아요 id가 마지막 키로 쓰이는지 본다
+            like(postIds.get(i), likedAt.minusMinutes(i / 3));
+        }
+
+        for (String sort : new String[]{"DEFAULT", "LIKED_OLDEST", "MOST_LIKED", "GROUP_BUY_FIRST"}) {
+            List<Long> byCursor = walk(() -> get(LIKED + "/cursor").param("sort", sort)
+                    .header(HttpHeaders.AUTHORIZATION, userToken), 4);
+            List<Long> byOffset = offsetIds(get(LIKED).param("sort", sort).param("size", "100")
+                    .header(HttpHeaders.AUTHORIZATION, userToken));
+            assertThat(byCursor).as(sort).hasSize(14).containsExactlyElementsOf(byOffset);
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 — 다른 정렬의 커서는 400이다")
+    void likedCursorIsBoundToSort() throws Exception {
+        jdbc.queryForList("SELECT post_id FROM post WHERE status = 'PUBLISHED'", Long.class)
+                .forEach(postId -> like(postId, TIE));
+        String cursor = read(get(LIKED + "/cursor").param("sort", "MOST_LIKED").param("size", "2")
+                .header(HttpHeaders.AUTHORIZATION, userToken)).get("nextCursor").asText();
+
+        mockMvc.perform(get(LIKED + "/cursor").param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, userToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    // ------------------------------------------------------------------ 헬퍼
+
+    /** 커서가 끊길 때까지 {@code size}씩 받아 게시물 id를 이어 붙인다. 중간 페이지는 꽉 차 있어야 한다. */
+    private List<Long> walk(Supplier<MockHttpServletRequestBuilder> requests, int size) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        for (int guard = 0; guard < 100; guard++) {
+            MockHttpServletRequestBuilder request = requests.get().param("size", String.valueOf(size));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = read(request);
+            ids.addAll(ids(page));
+            if (!page.get("hasNext").asBoolean()) {
+                return ids;
+            }
+            assertThat(page.get("content")).hasSize(size);
+            cursor = page.get("nextCursor").asText();
+        }
+        throw new AssertionError("cursor did not terminate");
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private List<Long> offsetIds(MockHttpServletRequestBuilder request) throws Exception {
+        return ids(read(request));
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("content").forEach(item -> ids.add(item.get("post").get("postId").asLong()));
+        return ids;
+    }
+
+    private Users createUser(String username, String nickname) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users(
+                username, nickname, username + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now));
+    }
+
+    private Creator createShowroom(String showroomName) {
+        Users owner = createUser("creator-" + showroomName, showroomName);
+        return creatorRepository.save(Creator.builder()
+                .user(owner)
+                .snsType(SnsType.INSTAGRAM)
+                .channelUrl("https://instagram.com/showroomz")
+                .accountId("showroomz")
+                .followerCount(1000)
+                .businessEmail("biz@showroomz.test")
+                .showroomName(showroomName)
+                .build());
+    }
+
+    private void createPublishedPost(Creator showroom, String content, LocalDateTime publishedAt, int likeCount) {
+        Post post = Post.published(showroom, content, new BigDecimal("0.8000"), publishedAt);
+        for (int i = 0; i < likeCount; i++) {
+            post.increaseLikeCount();
+        }
+        Long postId = postRepository.save(post).getId();
+        jdbc.update("UPDATE post SET published_at = ? WHERE post_id = ?", publishedAt, postId);
+    }
+
+    private void like(Long postId, LocalDateTime likedAt) {
+        postLikeRepository.save(new PostLike(viewer, postRepository.getReferenceById(postId)));
+        jdbc.update("UPDATE post_like SET created_at = ? WHERE user_id = ? AND post_id = ?",
+                likedAt, viewer.getId(), postId);
+    }
+}
@@ -1,5 +1,6 @@
 package showroomz.api.app.post.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,32 +12,35 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
-import showroomz.api.app.auth.entity.ProviderType;
-import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.post.DTO.PostImpressionRequest;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReference;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.member.creator.entity.Creator;
-import showroomz.domain.member.user.entity.Users;
 import showroomz.domain.post.entity.Post;
-import showroomz.domain.post.entity.PostImpression;
 import showroomz.domain.post.repository.PostImpressionRepository;
 import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.service.PostAttributionIndex;
+import showroomz.domain.post.service.PostImpressionBuffer;
+import showroomz.domain.post.service.PostImpressionBuffer.PendingImpression;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -46,8 +50,8 @@ import static org.mockito.Mockito.verify;
  * 중복은 쇼룸 방문(§22-4)과 같은 30분 세션 규칙으로 거르고, 한 요청이 실을 수 있는 건수도 제한한다.
  * 상한이 없으면 노출 적재가 곧 대량 쓰기 창구가 된다.
  *
- * <p>카운터와 로그를 <b>같은 자리에서</b> 올려야 목록의 숫자와 인사이트의 숫자가 갈리지 않는다 —
- * 저장과 카운터 증가가 함께 일어나는지도 함께 본다.
+ * <p>로그와 카운터는 요청 안에서 쓰지 않고 쓰기 버퍼로 넘긴다 — 둘을 한 트랜잭션으로 같이 쓰는 것은
+ * 버퍼의 몫이고({@code PostImpressionBufferTest}), 여기서는 무엇을 넘기는지를 본다.
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -62,17 +66,39 @@ class PostImpressionServiceTest {
     @Mock
     private PostImpressionRepository postImpressionRepository;
     @Mock
-    private UserRepository userRepository;
+    private UserReferenceCache userReferenceCache;
+    @Mock
+    private PostAttributionIndex postAttributionIndex;
+    @Mock
+    private PostImpressionBuffer postImpressionBuffer;
 
     @InjectMocks
     private PostImpressionService postImpressionService;
 
-    private Users user(long id) {
-        LocalDateTime now = LocalDateTime.now();
-        Users user = new Users(USERNAME, "미아", "mia@showroomz.test", "Y", null,
-                ProviderType.LOCAL, RoleType.USER, now, now);
-        ReflectionTestUtils.setField(user, "id", id);
-        return user;
+    private final List<PendingImpression> accepted = new ArrayList<>();
+
+    /**
+     * 버퍼는 대기 중인 쌍이 없다고 보고 DB 세션 판정만 적용해 받는다 — 대기 중인 쌍을 거르는 테스트만 이를 뒤집는다.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void bufferDefersToSessionCheck() {
+        given(postImpressionBuffer.offer(any(), any())).willAnswer(invocation -> {
+            List<PendingImpression> impressions = invocation.getArgument(0);
+            Function<List<Long>, Collection<Long>> countedPostIds = invocation.getArgument(1);
+            Collection<Long> counted = countedPostIds.apply(
+                    impressions.stream().map(PendingImpression::postId).toList());
+            List<PendingImpression> fresh = impressions.stream()
+                    .filter(impression -> !counted.contains(impression.postId()))
+                    .toList();
+            accepted.addAll(fresh);
+            return fresh;
+        });
+    }
+
+    /** 버퍼가 받은 노출 전부 — 받은 적이 없으면 빈 목록 */
+    private List<PendingImpression> offered() {
+        return accepted;
     }
 
     private Post visiblePost(long id) {
@@ -113,17 +139,17 @@ class PostImpressionServiceTest {
         @Test
         @DisplayName("로그인 조회는 사용자 기준으로 적재된다 — 디바이스 식별자는 무시한다")
         void loggedInImpressionIsKeyedByUser() {
-            Users viewer = user(7L);
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(viewer));
+            given(userReferenceCache.find(USERNAME))
+                    .willReturn(Optional.of(new UserReference(7L)));
             givenPostsExist();
             givenNoRecentImpression();
 
             postImpressionService.recordImpressions(USERNAME, request(List.of(POST_ID), "device-abc"));
 
-            ArgumentCaptor<PostImpression> captor = ArgumentCaptor.forClass(PostImpression.class);
-            verify(postImpressionRepository).save(captor.capture());
-            assertThat(captor.getValue().getViewerKey()).isEqualTo("u:7");
-            assertThat(captor.getValue().getUser()).isSameAs(viewer);
+            assertThat(offered()).singleElement().satisfies(impression -> {
+                assertThat(impression.viewerKey()).isEqualTo("u:7");
+                assertThat(impression.userId()).isEqualTo(7L);
+            });
         }
 
         /** 비로그인 조회도 노출에 포함된다 — 다만 표본은 "미확인"으로 분류된다. */
@@ -135,10 +161,10 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            ArgumentCaptor<PostImpression> captor = ArgumentCaptor.forClass(PostImpression.class);
-            verify(postImpressionRepository).save(captor.capture());
-            assertThat(captor.getValue().getViewerKey()).isEqualTo("d:device-abc");
-            assertThat(captor.getValue().getUser()).isNull();
+            assertThat(offered()).singleElement().satisfies(impression -> {
+                assertThat(impression.viewerKey()).isEqualTo("d:device-abc");
+                assertThat(impression.userId()).isNull();
+            });
         }
 
         /** 식별자가 없으면 같은 사람의 재노출을 접을 수 없어 노출 수가 부풀고 귀속도 성립하지 않는다. */
@@ -150,22 +176,21 @@ class PostImpressionServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
 
-            verify(postImpressionRepository, never()).save(any());
+            assertThat(offered()).isEmpty();
         }
 
         /** 토큰이 유효해도 그 사이 탈퇴했으면 사용자를 못 찾는다 — 디바이스 식별자로 이어받는다. */
         @Test
         @DisplayName("토큰의 사용자를 못 찾으면 디바이스 식별자로 적재한다")
         void unknownUserFallsBackToDevice() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+            given(userReferenceCache.find(USERNAME)).willReturn(Optional.empty());
             givenPostsExist();
             givenNoRecentImpression();
 
             postImpressionService.recordImpressions(USERNAME, request(List.of(POST_ID), "device-abc"));
 
-            ArgumentCaptor<PostImpression> captor = ArgumentCaptor.forClass(PostImpression.class);
-            verify(postImpressionRepository).save(captor.capture());
-            assertThat(captor.getValue().getViewerKey()).isEqualTo("d:device-abc");
+            assertThat(offered()).singleElement()
+                    .extracting(PendingImpression::viewerKey).isEqualTo("d:device-abc");
         }
     }
 
@@ -183,8 +208,9 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            verify(postImpressionRepository, never()).save(any());
+            assertThat(offered()).isEmpty();
             assertThat(post.getImpressionCount()).isZero();
+            verify(postAttributionIndex, never()).record(any(), any(), any(), any());
         }
 
         /** 스크롤 중 같은 카드가 여러 번 담겨 오는 일이 흔하다 — DB에 가기 전에 접는다. */
@@ -197,7 +223,7 @@ class PostImpressionServiceTest {
             postImpressionService.recordImpressions(null,
                     request(List.of(POST_ID, POST_ID, POST_ID), "device-abc"));
 
-            verify(postImpressionRepository, times(1)).save(any());
+            assertThat(offered()).hasSize(1);
             verify(postRepository).findAllById(List.of(POST_ID));
         }
 
@@ -212,7 +238,7 @@ class PostImpressionServiceTest {
             ids.add(POST_ID);
             postImpressionService.recordImpressions(null, request(ids, "device-abc"));
 
-            verify(postImpressionRepository, times(1)).save(any());
+            assertThat(offered()).hasSize(1);
         }
     }
 
@@ -237,7 +263,7 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(ids, "device-abc"));
 
-            verify(postImpressionRepository, times(50)).save(any());
+            assertThat(offered()).hasSize(50);
         }
 
         @Test
@@ -272,7 +298,7 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            verify(postImpressionRepository, never()).save(any());
+            assertThat(offered()).isEmpty();
         }
 
         @Test
@@ -285,21 +311,22 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            verify(postImpressionRepository, never()).save(any());
+            assertThat(offered()).isEmpty();
         }
 
-        /** 목록의 숫자와 인사이트의 숫자가 갈리지 않도록 로그와 카운터를 같은 자리에서 올린다. */
+        /** 인기 게시물 행에 요청마다 UPDATE가 몰리지 않도록 카운터는 버퍼가 플러시 때 게시물당 한 번 올린다. */
         @Test
-        @DisplayName("적재와 카운터 증가가 함께 일어난다")
-        void logAndCounterMoveTogether() {
+        @DisplayName("요청 안에서는 로그도 카운터도 쓰지 않고 버퍼로 넘긴다")
+        void requestOnlyHandsOffToBuffer() {
             Post post = visiblePost(POST_ID);
             given(postRepository.findAllById(any())).willReturn(List.of(post));
             givenNoRecentImpression();
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            verify(postImpressionRepository).save(any());
-            assertThat(post.getImpressionCount()).isEqualTo(1);
+            assertThat(offered()).singleElement().extracting(PendingImpression::postId).isEqualTo(POST_ID);
+            verify(postImpressionRepository, never()).save(any());
+            assertThat(post.getImpressionCount()).isZero();
         }
 
         @Test
@@ -310,9 +337,33 @@ class PostImpressionServiceTest {
 
             postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
 
-            ArgumentCaptor<PostImpression> captor = ArgumentCaptor.forClass(PostImpression.class);
-            verify(postImpressionRepository).save(captor.capture());
-            assertThat(captor.getValue().getCreatorId()).isEqualTo(SHOWROOM_ID);
+            assertThat(offered()).singleElement()
+                    .extracting(PendingImpression::creatorId).isEqualTo(SHOWROOM_ID);
+        }
+
+        /** 방문·팔로우의 귀속이 노출 로그를 다시 읽지 않으려면 적재와 같은 자리에서 색인에 올라가야 한다. */
+        @Test
+        @DisplayName("적재한 노출은 귀속 색인에도 올라간다")
+        void storedImpressionIsIndexedForAttribution() {
+            givenPostsExist();
+            givenNoRecentImpression();
+
+            postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
+
+            verify(postAttributionIndex).record(eq("d:device-abc"), eq(SHOWROOM_ID), eq(POST_ID), any());
+        }
+
+        /** 아직 DB에 쓰이지 않은 노출도 세션 안이면 중복이다 — 버퍼가 거른 노출은 색인에도 올리지 않는다. */
+        @Test
+        @DisplayName("버퍼에 대기 중인 노출과 겹치면 귀속 색인에 올리지 않는다")
+        void pendingDuplicateIsNotIndexed() {
+            givenPostsExist();
+            givenNoRecentImpression();
+            willReturn(List.of()).given(postImpressionBuffer).offer(any(), any());
+
+            postImpressionService.recordImpressions(null, request(List.of(POST_ID), "device-abc"));
+
+            verify(postAttributionIndex, never()).record(any(), any(), any(), any());
         }
     }
 }
@@ -1,5 +1,6 @@
 package showroomz.api.app.post.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,10 +12,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.app.post.DTO.PostDto;
 import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.common.SeekKey;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
@@ -25,12 +29,18 @@ import showroomz.domain.post.policy.GeneralPostPolicy;
 import showroomz.domain.post.policy.PostPolicies;
 import showroomz.domain.post.repository.PostImageRepository;
 import showroomz.domain.post.repository.PostLikeRepository;
+import showroomz.domain.post.repository.PostLikeRepositoryCustom.LikedPost;
 import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.timeline.FollowingTimelines;
 import showroomz.domain.post.type.LikedPostSort;
+import showroomz.global.config.properties.PostProperties;
+import showroomz.global.dto.CursorRequest;
+import showroomz.global.dto.CursorResponse;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
+import showroomz.global.utils.CursorCodec;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -40,6 +50,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -85,7 +96,9 @@ class UserPostServiceTest {
         userPostService = new UserPostService(
                 postRepository, postLikeRepository, postImageRepository,
                 creatorFollowRepository, creatorRepository, userRepository,
-                connectionRepository, postPolicies);
+                connectionRepository, postPolicies, new CursorCodec("test-secret"),
+                new FollowingTimelines(creatorFollowRepository, postRepository, new PostProperties(),
+                        new SimpleMeterRegistry()));
 
         Users user = new Users();
         user.setId(USER_ID);
@@ -485,6 +498,62 @@ class UserPostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 목록")
+    class CursorLists {
+
+        private final CursorCodec codec = new CursorCodec("test-secret");
+
+        /** 다음 커서는 서비스가 마지막 항목에서 만든다 — 좋아요 목록은 게시물이 아니라 좋아요 행의 키여야 한다 */
+        @Test
+        @DisplayName("좋아요 목록의 다음 커서는 마지막 좋아요 행의 정렬 키를 담는다")
+        void likedCursorCarriesLastLikeKey() {
+            SeekKey last = new SeekKey(40L, LocalDateTime.of(2026, 3, 1, 9, 0), 77L);
+            given(postLikeRepository.findLikedPostsByUserId(eq(USER_ID), eq(LikedPostSort.MOST_LIKED), any(), eq(1)))
+                    .willReturn(new SliceImpl<>(List.of(new LikedPost(publishedPost(), last)),
+                            PageRequest.ofSize(1), true));
+            CursorRequest request = new CursorRequest();
+            request.setSize(1);
+
+            CursorResponse<PostDto.FeedItemResponse> response =
+                    userPostService.getLikedPostsByCursor(USERNAME, LikedPostSort.MOST_LIKED, request);
+
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(codec.decode("liked:MOST_LIKED", response.getNextCursor())).isEqualTo(last);
+            assertThat(response.getContent()).singleElement()
+                    .satisfies(item -> assertThat(item.getPost().getIsLiked()).isTrue());
+        }
+
+        @Test
+        @DisplayName("받은 커서를 풀어 그 다음부터 조회한다")
+        void decodesCursorIntoSeekKey() {
+            SeekKey after = SeekKey.of(LocalDateTime.of(2026, 3, 1, 9, 0), 500L);
+            given(postRepository.findDisplayedPosts(any(SeekKey.class), eq(20)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(20), false));
+            CursorRequest request = new CursorRequest();
+            request.setCursor(codec.encode("posts", after));
+
+            CursorResponse<PostDto.FeedItemResponse> response = userPostService.getPostListByCursor(null, request, null);
+
+            verify(postRepository).findDisplayedPosts(after, 20);
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.isHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("팔로우한 쇼룸이 없으면 빈 목록이다 — 게시물 쿼리를 보내지 않는다")
+        void followingCursorIsEmptyWithoutFollowing() {
+            given(creatorFollowRepository.findCreatorIdsByUserId(USER_ID)).willReturn(List.of());
+
+            CursorResponse<PostDto.FeedItemResponse> response =
+                    userPostService.getFollowingFeedByCursor(USERNAME, new CursorRequest());
+
+            assertThat(response.getContent()).isEmpty();
+            assertThat(response.isHasNext()).isFalse();
+            verify(postRepository, never()).findDisplayedPostsByCreatorIds(any(), any(), anyInt());
+        }
+    }
+
     // ------------------------------------------------------------------ 픽스처
 
     private Users user() {
@@ -0,0 +1,184 @@
+package showroomz.api.app.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.ResultActions;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.service.ProductStatusBulkUpdater;
+import showroomz.domain.product.type.ProductDisplayStatus;
+import showroomz.domain.product.type.ProductGroupBuyStatus;
+import showroomz.domain.search.KeywordSearchIndex;
+import showroomz.support.IntegrationTestSupport;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 키워드 검색 — 통합 테스트.
+ *
+ * <p>키워드는 메모리 색인이 후보 id로 바꾸고 DB는 그 id만 읽는다. 색인이 엔티티 변경을 <b>커밋 뒤에</b> 따라가는지,
+ * 엔티티를 거치지 않는 벌크 UPDATE와 다른 인스턴스의 변경(재구성)도 따라가는지를 실제 요청으로 본다.
+ */
+@DisplayName("[통합] 상품 키워드 검색")
+class ProductKeywordSearchIntegrationTest extends IntegrationTestSupport {
+
+    private static final String SEARCH_PATH = "/v1/common/products";
+    private static final String AUTOCOMPLETE_PATH = "/v1/user/search/autocomplete";
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductStatusBulkUpdater productStatusBulkUpdater;
+    @Autowired
+    private KeywordSearchIndex keywordSearchIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+    private Market market;
+
+    @BeforeEach
+    void setUpCatalog() {
+        category = new Category();
+        category.setName("스킨케어");
+        categoryRepository.save(category);
+        market = fixture.createBrand("glow@showroomz.test", "글로우랩").market();
+    }
+
+    @Test
+    @DisplayName("상품명이나 마켓명에 걸린 진열 중 상품만 나온다")
+    void matchesProductOrMarketName() throws Exception {
+        Product toner = product(market, "수분 토너", ProductDisplayStatus.DISPLAY);
+        product(market, "진정 앰플", ProductDisplayStatus.DISPLAY);
+        product(market, "숨김 토너", ProductDisplayStatus.HIDDEN);
+        Market other = fixture.createBrand("calm@showroomz.test", "카밍").market();
+        Product otherToner = product(other, "토너 패드", ProductDisplayStatus.DISPLAY);
+
+        search("토너")
+                .andExpect(jsonPath("$.pageInfo.totalResults").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(containsInAnyOrder(
+                        toner.getProductId().intValue(), otherToner.getProductId().intValue())));
+        search("글로우")
+                .andExpect(jsonPath("$.pageInfo.totalResults").value(2));
+        search("없는상품")
+                .andExpect(jsonPath("$.pageInfo.totalResults").value(0));
+    }
+
+    @Test
+    @DisplayName("커밋된 이름 변경은 바로 검색에 반영되고, 롤백된 변경은 반영되지 않는다")
+    void followsCommittedRenamesOnly() throws Exception {
+        Product product = product(market, "수분 토너", ProductDisplayStatus.DISPLAY);
+
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.findById(product.getProductId()).orElseThrow().setName("진정 앰플"));
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.findById(product.getProductId()).orElseThrow().setName("광채 세럼");
+            productRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        search("토너").andExpect(jsonPath("$.pageInfo.totalResults").value(0));
+        search("앰플").andExpect(jsonPath("$.pageInfo.totalResults").value(1));
+        search("세럼").andExpect(jsonPath("$.pageInfo.totalResults").value(0));
+    }
+
+    @Test
+    @DisplayName("마켓 정지·재활성의 벌크 UPDATE도 검색 결과를 따라간다")
+    void followsBulkSuspension() throws Exception {
+        product(market, "수분 토너", ProductDisplayStatus.DISPLAY);
+
+        productStatusBulkUpdater.suspendMarket(market.getId());
+        search("토너").andExpect(jsonPath("$.pageInfo.totalResults").value(0));
+
+        productStatusBulkUpdater.restoreMarket(market.getId());
+        search("토너").andExpect(jsonPath("$.pageInfo.totalResults").value(1));
+    }
+
+    /** 다른 인스턴스가 바꾼 이름은 이 인스턴스의 콜백을 거치지 않는다 — 재구성이 따라잡는다. */
+    @Test
+    @DisplayName("엔티티를 거치지 않은 변경은 재구성 뒤에 검색된다")
+    void rebuildCatchesUpExternalWrites() throws Exception {
+        Product product = product(market, "수분 토너", ProductDisplayStatus.DISPLAY);
+        jdbcTemplate.update("UPDATE product SET name = ? WHERE product_id = ?", "비타민 세럼", product.getProductId());
+
+        keywordSearchIndex.rebuild();
+
+        search("세럼").andExpect(jsonPath("$.pageInfo.totalResults").value(1));
+        search("토너").andExpect(jsonPath("$.pageInfo.totalResults").value(0));
+    }
+
+    /** 진열 상태는 색인이 바로 따라가야 자동완성이 trie에서 끝난다 — 벌크 숨김 뒤 자리를 다음 상품이 메운다. */
+    @Test
+    @DisplayName("자동완성은 진열 중 상품을 이름이 짧은 순으로 5개까지 내고, 숨긴 상품 자리는 다음이 메운다")
+    void autocompleteFollowsDisplayStatus() throws Exception {
+        product(market, "토너", ProductDisplayStatus.DISPLAY);
+        for (String name : new String[]{"수분 토너", "진정 토너", "토너 패드 대용량", "미백 토너 세트", "Glow 토너 미니"}) {
+            product(market, name, ProductDisplayStatus.DISPLAY);
+        }
+        product(market, "숨김 토너", ProductDisplayStatus.HIDDEN);
+
+        autocomplete("토너")
+                .andExpect(jsonPath("$.products.length()").value(5))
+                .andExpect(jsonPath("$.products[0].name").value("토너"))
+                .andExpect(jsonPath("$.products[*].name").value(not(hasItem("숨김 토너"))));
+        autocomplete("glow").andExpect(jsonPath("$.products[0].name").value("Glow 토너 미니"));
+
+        productStatusBulkUpdater.suspendMarket(market.getId());
+        autocomplete("토너").andExpect(jsonPath("$.products.length()").value(0));
+
+        productStatusBulkUpdater.restoreMarket(market.getId());
+        autocomplete("토너").andExpect(jsonPath("$.products.length()").value(5));
+    }
+
+    /** 다른 인스턴스가 내린 진열은 재구성 전까지 색인이 모른다 — 자동완성이 PK로 다시 묻고 빈 자리를 채운다. */
+    @Test
+    @DisplayName("엔티티를 거치지 않고 숨긴 상품도 자동완성에 나오지 않는다")
+    void autocompleteRechecksDisplayStatus() throws Exception {
+        Product shortest = product(market, "토너", ProductDisplayStatus.DISPLAY);
+        for (String name : new String[]{"수분 토너", "진정 토너", "토너 패드 대용량", "미백 토너 세트", "Glow 토너 미니"}) {
+            product(market, name, ProductDisplayStatus.DISPLAY);
+        }
+        jdbcTemplate.update("UPDATE product SET display_status = ? WHERE product_id = ?",
+                ProductDisplayStatus.HIDDEN.name(), shortest.getProductId());
+
+        autocomplete("토너")
+                .andExpect(jsonPath("$.products.length()").value(5))
+                .andExpect(jsonPath("$.products[*].name").value(not(hasItem("토너"))));
+    }
+
+    private ResultActions autocomplete(String keyword) throws Exception {
+        return mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", keyword))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions search(String keyword) throws Exception {
+        return mockMvc.perform(get(SEARCH_PATH).param("q", keyword))
+                .andExpect(status().isOk());
+    }
+
+    private Product product(Market owner, String name, ProductDisplayStatus displayStatus) {
+        Product product = new Product();
+        product.setMarket(owner);
+        product.setCategory(category);
+        product.setName(name);
+        product.setRegularPrice(20000);
+        product.setSalePrice(18000);
+        product.setGroupBuyStatus(ProductGroupBuyStatus.IN_PROGRESS);
+        product.setDisplayStatus(displayStatus);
+        product.setIsOutOfStockForced(false);
+        return productRepository.save(product);
+    }
+}
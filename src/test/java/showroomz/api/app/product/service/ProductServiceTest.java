@@ -22,19 +22,30 @@ import showroomz.domain.product.repository.ProductRepository;
 import showroomz.domain.product.repository.ProductVariantRepository;
 import showroomz.domain.product.type.ProductDisplayStatus;
 import showroomz.domain.product.type.ProductGroupBuyStatus;
-import showroomz.domain.wishlist.repository.WishlistRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.service.ProductReviewStatsService;
+import showroomz.domain.search.KeywordSearchIndex;
 import showroomz.global.error.exception.BusinessException;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.global.dto.PagingRequest;
 import showroomz.global.error.exception.ErrorCode;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -61,9 +72,13 @@ class ProductServiceTest {
     @Mock
     private ProductVariantRepository productVariantRepository;
     @Mock
-    private WishlistRepository wishlistRepository;
+    private ProductCardEnricher productCardEnricher;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+    @Mock
+    private ProductReviewStatsService productReviewStatsService;
 
     @InjectMocks
     private ProductService productService;
@@ -110,6 +125,30 @@ class ProductServiceTest {
         assertThat(response.getGroupBuyStatus()).isEqualTo("PREPARING");
     }
 
+    @Test
+    @DisplayName("상세의 리뷰 요약은 요약 행에서 옮기고, 행이 없는 상품은 0으로 채운다")
+    void detailCarriesReviewSummary() {
+        given(productRepository.findDetailByProductId(PRODUCT_ID))
+                .willReturn(Optional.of(product(ProductGroupBuyStatus.IN_PROGRESS)));
+        given(productOptionGroupRepository.findByProductIdWithOptions(PRODUCT_ID)).willReturn(List.of());
+        given(productVariantRepository.findByProductIdWithOptions(PRODUCT_ID)).willReturn(List.of());
+        given(productReviewStatsService.find(PRODUCT_ID))
+                .willReturn(Optional.of(new ProductReviewStats(PRODUCT_ID, new long[]{1, 0, 0, 2, 4})));
+
+        ProductDto.ReviewSummary summary = productService.getProductDetail(PRODUCT_ID).getReviewSummary();
+
+        assertThat(summary.getReviewCount()).isEqualTo(7L);
+        assertThat(summary.getAverageRating()).isEqualTo(4.1);
+        assertThat(summary.getRatingCounts()).containsExactly(1L, 0L, 0L, 2L, 4L);
+
+        given(productReviewStatsService.find(PRODUCT_ID)).willReturn(Optional.empty());
+        ProductDto.ReviewSummary empty = productService.getProductDetail(PRODUCT_ID).getReviewSummary();
+
+        assertThat(empty.getReviewCount()).isZero();
+        assertThat(empty.getAverageRating()).isZero();
+        assertThat(empty.getRatingCounts()).containsExactly(0L, 0L, 0L, 0L, 0L);
+    }
+
     @Test
     @DisplayName("미진열 상품은 공구에 연결되어 있어도 상세가 404다")
     void detailOfHiddenProductIsNotFoundEvenIfGroupBuyConnected() {
@@ -531,8 +570,147 @@ class ProductServiceTest {
         }
     }
 
+    /**
+     * 검색 목록 카드 — 찜 여부·찜 수·품절은 <b>페이지 단위로 한 번</b> 읽은 값으로 채운다.
+     *
+     * <p>카드마다 exists/count를 부르면 20개 페이지가 40번 넘게 DB를 왕복한다. 카드 값이 보강 결과와
+     * 어긋나지 않는지, 보강이 페이지당 한 번만 일어나는지 함께 본다.
+     */
+    @Nested
+    @DisplayName("검색 목록 카드")
+    class SearchCards {
+
+        private Product listed(long productId) {
+            Product target = product(ProductGroupBuyStatus.IN_PROGRESS);
+            target.setProductId(productId);
+            return target;
+        }
+
+        private List<ProductDto.ProductItem> search(List<Product> page, Users currentUser,
+                                                    ProductCardEnricher.ProductCardStats stats) {
+            given(productRepository.searchProductsForUser(any(), any(), any(), any(), any(), any()))
+                    .willReturn(new PageImpl<>(page, PageRequest.of(0, 20), page.size()));
+            given(productCardEnricher.load(any(), any())).willReturn(stats);
+            return productService.searchProducts(
+                    ProductDto.ProductSearchRequest.builder().build(), new PagingRequest(), currentUser)
+                    .getContent();
+        }
+
+        @Test
+        @DisplayName("찜 여부·찜 수·품절을 페이지 보강 결과에서 그대로 옮긴다")
+        void cardsCarryPageLevelStats() {
+            Users viewer = new Users();
+            viewer.setId(7L);
+            ProductCardEnricher.ProductCardStats stats = new ProductCardEnricher.ProductCardStats(
+                    Set.of(1L), Map.of(1L, 12L, 2L, 3L), Set.of(2L), Map.of());
+
+            List<ProductDto.ProductItem> items = search(List.of(listed(1L), listed(2L)), viewer, stats);
+
+            assertThat(items).extracting(ProductDto.ProductItem::getIsWished).containsExactly(true, false);
+            assertThat(items).extracting(ProductDto.ProductItem::getWishCount).containsExactly(12L, 3L);
+            assertThat(items).extracting(item -> item.getStatus().getIsOutOfStock()).containsExactly(true, false);
+            verify(productCardEnricher, times(1)).load(any(), eq(7L));
+        }
+
+        @Test
+        @DisplayName("비회원은 회원 ID 없이 보강한다 — 찜 여부 조회를 건너뛴다")
+        void guestIsEnrichedWithoutUserId() {
+            search(List.of(listed(1L)), null, new ProductCardEnricher.ProductCardStats(Set.of(), Map.of(), Set.of(1L), Map.of()));
+
+            verify(productCardEnricher).load(any(), isNull());
+        }
+
+        /** 보강 결과에 없는 상품은 찜 0이다 — GROUP BY 집계는 0건인 상품을 돌려주지 않는다. */
+        @Test
+        @DisplayName("집계에 없는 상품의 찜 수는 0이다")
+        void missingCountIsZero() {
+            List<ProductDto.ProductItem> items = search(List.of(listed(1L)), null,
+                    new ProductCardEnricher.ProductCardStats(Set.of(), Map.of(), Set.of(), Map.of()));
+
+            assertThat(items.get(0).getWishCount()).isZero();
+            assertThat(items.get(0).getIsWished()).isFalse();
+        }
+
+        @Test
+        @DisplayName("리뷰 수와 평균 평점을 요약 행에서 옮긴다 — 요약이 없는 상품은 0이다")
+        void cardsCarryReviewSummary() {
+            ProductCardEnricher.ProductCardStats stats = new ProductCardEnricher.ProductCardStats(
+                    Set.of(), Map.of(), Set.of(), Map.of(1L, new ProductReviewStats(1L, new long[]{0, 0, 1, 1, 1})));
+
+            List<ProductDto.ProductItem> items = search(List.of(listed(1L), listed(2L)), null, stats);
+
+            assertThat(items).extracting(ProductDto.ProductItem::getReviewCount).containsExactly(3L, 0L);
+            assertThat(items).extracting(ProductDto.ProductItem::getAverageRating).containsExactly(4.0, 0.0);
+        }
+    }
+
     // ------------------------------------------------------------------ 픽스처
 
+    /**
+     * 키워드 검색 경로 — 색인이 후보를 내면 DB는 그 id 안에서만 찾고, 색인을 못 쓰면 예전 LIKE 쿼리로 간다.
+     */
+    @Nested
+    @DisplayName("키워드 검색 경로")
+    class KeywordRouting {
+
+        private void search(String keyword) {
+            given(productRepository.searchProductsForUserIn(any(), any(), any(), any(), any(), any()))
+                    .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+            given(productRepository.searchProductsForUser(any(), any(), any(), any(), any(), any()))
+                    .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+            given(productCardEnricher.load(any(), any()))
+                    .willReturn(new ProductCardEnricher.ProductCardStats(Set.of(), Map.of(), Set.of(), Map.of()));
+            productService.searchProducts(
+                    ProductDto.ProductSearchRequest.builder().q(keyword).build(), new PagingRequest(), null);
+        }
+
+        @Test
+        @DisplayName("색인 후보가 있으면 후보 id 안에서만 찾는다")
+        void searchesWithinCandidates() {
+            given(keywordSearchIndex.findProductIds("토너")).willReturn(new long[]{3L, 8L});
+
+            search("  토너 ");
+
+            verify(productRepository).searchProductsForUserIn(eq(List.of(3L, 8L)), any(), any(), any(), any(), any());
+            verify(productRepository, never()).searchProductsForUser(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("색인에 걸린 상품이 없으면 DB에 묻지 않는다")
+        void emptyCandidatesSkipDatabase() {
+            given(keywordSearchIndex.findProductIds("없는상품")).willReturn(new long[0]);
+
+            search("없는상품");
+
+            verifyNoInteractions(productRepository);
+        }
+
+        @Test
+        @DisplayName("색인을 아직 못 채웠으면 LIKE 쿼리로 찾는다")
+        void fallsBackWhenIndexNotReady() {
+            given(keywordSearchIndex.findProductIds("토너")).willReturn(null);
+
+            search("토너");
+
+            verify(productRepository).searchProductsForUser(eq("토너"), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("후보가 상한을 넘으면 IN 목록 대신 LIKE 쿼리로 찾는다")
+        void fallsBackWhenTooManyCandidates() {
+            long[] broad = new long[ProductService.MAX_INDEXED_CANDIDATES + 1];
+            for (int i = 0; i < broad.length; i++) {
+                broad[i] = i + 1;
+            }
+            given(keywordSearchIndex.findProductIds("티")).willReturn(broad);
+
+            search("티");
+
+            verify(productRepository).searchProductsForUser(eq("티"), any(), any(), any(), any(), any());
+            verify(productRepository, never()).searchProductsForUserIn(any(), any(), any(), any(), any(), any());
+        }
+    }
+
     private ProductVariant variant(Product target, Long variantId, Integer regularPrice,
                                    Integer salePrice, Integer stock) {
         ProductVariant variant = new ProductVariant(target, "기본", regularPrice, salePrice, stock, true);
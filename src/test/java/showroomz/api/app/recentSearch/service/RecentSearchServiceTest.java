@@ -12,7 +12,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.recentSearch.DTO.RecentSearchSyncRequest;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
@@ -52,7 +52,7 @@ class RecentSearchServiceTest {
     @Mock
     private RecentSearchRepository recentSearchRepository;
     @Mock
-    private UserRepository userRepository;
+    private UserReferenceCache userReferenceCache;
     @Mock
     private CreatorRepository creatorRepository;
     @Mock
@@ -68,7 +68,7 @@ class RecentSearchServiceTest {
         user = new Users(USERNAME, "미아", "mia@showroomz.test", "Y", null,
                 ProviderType.LOCAL, RoleType.USER, now, now);
         ReflectionTestUtils.setField(user, "id", 7L);
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         return user;
     }
 
@@ -284,7 +284,7 @@ class RecentSearchServiceTest {
     @Test
     @DisplayName("없는 회원이면 아무것도 저장하지 않는다")
     void unknownUserIsRejected() {
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+        given(userReferenceCache.getReference(USERNAME)).willThrow(new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         assertThatThrownBy(() -> recentSearchService.saveRecentSearch(USERNAME, "토너"))
                 .isInstanceOf(BusinessException.class)
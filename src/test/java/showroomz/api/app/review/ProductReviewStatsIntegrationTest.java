@@ -0,0 +1,223 @@
+package showroomz.api.app.review;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.entity.Order;
+import showroomz.domain.order.entity.OrderProduct;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.repository.ProductReviewStatsRepository;
+import showroomz.domain.review.service.ProductReviewStatsService;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 리뷰 요약(product_review_stats) — 리뷰 쓰기가 같은 트랜잭션에서 요약을 고치는지, 재집계가 어긋난 행을
+ * 원천으로 되돌리는지, 리뷰 목록이 이미지를 페이지 단위로 읽어도 순서가 유지되는지.
+ *
+ * <p>요약 갱신은 MySQL의 {@code INSERT ... ON DUPLICATE KEY UPDATE}라 H2 MySQL 모드에서 같은 문장이 도는지도
+ * 여기서 확인된다.
+ */
+@DisplayName("[통합] 상품 리뷰 요약")
+class ProductReviewStatsIntegrationTest extends IntegrationTestSupport {
+
+    private static final String CONTENT = "발림성이 좋고 향도 은은해서 재구매 의사 있습니다.";
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private ProductReviewStatsRepository productReviewStatsRepository;
+    @Autowired
+    private ProductReviewStatsService productReviewStatsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProductVariant variant;
+
+    @BeforeEach
+    void setUpProduct() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        variant = productVariantRepository.save(new ProductVariant(product, "단품", 38000, 24900, 10, true));
+    }
+
+    @Test
+    @DisplayName("등록·평점 수정·삭제가 요약의 리뷰 수·평점 합·분포를 함께 고친다")
+    void writesMaintainSummary() throws Exception {
+        Reviewer first = reviewer("first");
+        Reviewer second = reviewer("second");
+        Reviewer third = reviewer("third");
+
+        long firstReview = register(first, 5, List.of());
+        register(second, 4, List.of());
+        long thirdReview = register(third, 5, List.of());
+
+        assertStats(3, 14, 0, 0, 0, 1, 2);
+        assertThat(stats().averageRating()).isEqualTo(4.7);
+
+        mockMvc.perform(put("/v1/user/reviews/{reviewId}", firstReview)
+                        .header(HttpHeaders.AUTHORIZATION, first.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("rating", 2, "content", CONTENT))))
+                .andExpect(status().isOk());
+        assertStats(3, 11, 0, 1, 0, 1, 1);
+
+        mockMvc.perform(delete("/v1/user/reviews/{reviewId}", thirdReview)
+                        .header(HttpHeaders.AUTHORIZATION, third.token()))
+                .andExpect(status().isOk());
+        assertStats(2, 6, 0, 1, 0, 1, 0);
+        assertThat(stats().averageRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("재집계는 원천과 어긋난 행만 고치고, 맞는 행은 건드리지 않는다")
+    void rebuildRepairsDrift() throws Exception {
+        register(reviewer("first"), 5, List.of());
+        register(reviewer("second"), 3, List.of());
+        jdbcTemplate.update("UPDATE product_review_stats SET review_count = 7, rating_sum = 30, rating_5 = 6");
+
+        RebuildChunk repaired = productReviewStatsService.rebuildChunk(0);
+
+        assertThat(repaired.corrected()).isEqualTo(1);
+        assertThat(repaired.hasMore()).isFalse();
+        assertStats(2, 8, 0, 0, 1, 0, 1);
+        assertThat(productReviewStatsService.rebuildChunk(0).corrected()).isZero();
+    }
+
+    @Test
+    @DisplayName("요약 행이 아예 없던 상품도 재집계가 만든다 — 배포 전에 쓰인 리뷰")
+    void rebuildCreatesMissingRows() throws Exception {
+        register(reviewer("first"), 4, List.of());
+        jdbcTemplate.update("DELETE FROM product_review_stats");
+
+        assertThat(productReviewStatsService.rebuildChunk(0).corrected()).isEqualTo(1);
+        assertStats(1, 4, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("리뷰 목록은 이미지를 페이지 단위로 읽어도 리뷰마다 등록 순서대로 싣는다")
+    void reviewListCarriesImagesInOrder() throws Exception {
+        register(reviewer("first"), 5, List.of("https://cdn.test/a-1.jpg", "https://cdn.test/a-2.jpg"));
+        register(reviewer("second"), 4, List.of());
+        register(reviewer("third"), 3, List.of("https://cdn.test/c-1.jpg"));
+
+        String body = mockMvc.perform(get("/v1/common/products/{productId}/reviews", productId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode content = objectMapper.readTree(body).get("content");
+        assertThat(content).hasSize(3);
+        for (JsonNode item : content) {
+            List<String> urls = objectMapper.convertValue(item.get("imageUrls"),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+            switch (item.get("rating").asInt()) {
+                case 5 -> assertThat(urls).containsExactly("https://cdn.test/a-1.jpg", "https://cdn.test/a-2.jpg");
+                case 4 -> assertThat(urls).isEmpty();
+                default -> assertThat(urls).containsExactly("https://cdn.test/c-1.jpg");
+            }
+        }
+    }
+
+    private long register(Reviewer reviewer, int rating, List<String> imageUrls) throws Exception {
+        String body = mockMvc.perform(post("/v1/user/reviews")
+                        .header(HttpHeaders.AUTHORIZATION, reviewer.token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of(
+                                "orderProductId", reviewer.orderProductId(),
+                                "rating", rating,
+                                "content", CONTENT,
+                                "imageUrls", imageUrls,
+                                "isPromotionAgreed", false,
+                                "isPersonalInfoAgreed", true))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("reviewId").asLong();
+    }
+
+    private void assertStats(long count, long sum, long... ratingCounts) {
+        ProductReviewStats stats = stats();
+        assertThat(stats.getReviewCount()).isEqualTo(count);
+        assertThat(stats.getRatingSum()).isEqualTo(sum);
+        assertThat(stats.ratingCounts()).containsExactly(ratingCounts);
+    }
+
+    private ProductReviewStats stats() {
+        return productReviewStatsRepository.findById(productId()).orElseThrow();
+    }
+
+    private Long productId() {
+        return variant.getProduct().getProductId();
+    }
+
+    /** 구매 확정된 주문 상품 하나를 가진 소비자 */
+    private Reviewer reviewer(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        Users user = userRepository.save(new Users(username, username, username + "@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+        Order order = orderRepository.save(Order.builder().user(user).build());
+        OrderProduct orderProduct = orderProductRepository.save(OrderProduct.builder()
+                .order(order)
+                .variant(variant)
+                .productName("시카 리페어 앰플 30ml")
+                .optionName("단품")
+                .quantity(1)
+                .price(24900)
+                .orderDate(now)
+                .status(OrderProductStatus.PURCHASE_CONFIRMED)
+                .build());
+        return new Reviewer(bearerToken(user.getEmail(), RoleType.USER, user.getId()), orderProduct.getId());
+    }
+
+    private record Reviewer(String token, Long orderProductId) {
+    }
+}
@@ -0,0 +1,182 @@
+package showroomz.api.app.review;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.entity.Order;
+import showroomz.domain.order.entity.OrderProduct;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.type.OrderProductStatus;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.domain.review.entity.ProductReviewStats;
+import showroomz.domain.review.repository.ProductReviewStatsRepository;
+import showroomz.domain.review.service.ProductReviewStatsService;
+import showroomz.support.IntegrationTestSupport;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 재집계 조각이 상품 id를 읽은 뒤 요약 행을 잠그기 전에 다른 리뷰가 커밋되는 경우.
+ *
+ * <p>운영 MySQL의 기본 격리 수준은 REPEATABLE READ라 첫 읽기에서 스냅숏이 고정된다. 그 뒤 커밋된 리뷰는 잠금
+ * 읽기로 가져온 요약 행에는 반영돼 있지만 원천을 세는 일반 읽기에는 보이지 않는다 — 재집계가 그 리뷰를 지운다.
+ * H2의 기본값은 READ COMMITTED여서 이 클래스만 풀의 격리 수준을 REPEATABLE READ로 올려 따로 DB를 띄운다.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:showroomz-review-rebuild;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ"
+})
+@DisplayName("[통합] 상품 리뷰 요약 재집계 — 동시 리뷰")
+class ProductReviewStatsRebuildRaceTest extends IntegrationTestSupport {
+
+    private static final String CONTENT = "발림성이 좋고 향도 은은해서 재구매 의사 있습니다.";
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private ProductReviewStatsRepository productReviewStatsRepository;
+    @Autowired
+    private ProductReviewStatsService productReviewStatsService;
+
+    private ProductVariant variant;
+
+    @BeforeEach
+    void setUpProduct() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        variant = productVariantRepository.save(new ProductVariant(product, "단품", 38000, 24900, 10, true));
+    }
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(AopTestUtils.<Object>getTargetObject(productReviewStatsService),
+                "productRepository", productRepository);
+    }
+
+    @Test
+    @DisplayName("id를 읽은 뒤 잠그기 전에 커밋된 리뷰도 재집계 결과에 남는다")
+    void reviewCommittedBetweenScanAndLockIsKept() {
+        register(reviewer("first"), 5);
+        Reviewer late = reviewer("late");
+        afterProductIdScan(() -> CompletableFuture.runAsync(() -> register(late, 3)).join());
+
+        productReviewStatsService.rebuildChunk(0);
+
+        ProductReviewStats stats = productReviewStatsRepository.findById(productId()).orElseThrow();
+        assertThat(stats.getReviewCount()).isEqualTo(2);
+        assertThat(stats.getRatingSum()).isEqualTo(8);
+        assertThat(stats.ratingCounts()).containsExactly(0, 0, 1, 0, 1);
+    }
+
+    /** 재집계가 상품 id를 읽고 난 바로 뒤에 {@code between}을 끼워 넣는다. */
+    private void afterProductIdScan(Runnable between) {
+        ProductRepository scanning = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(productRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findProductIdsAfter")) {
+                        between.run();
+                    }
+                    return result;
+                });
+        ReflectionTestUtils.setField(AopTestUtils.<Object>getTargetObject(productReviewStatsService),
+                "productRepository", scanning);
+    }
+
+    private void register(Reviewer reviewer, int rating) {
+        try {
+            mockMvc.perform(post("/v1/user/reviews")
+                            .header(HttpHeaders.AUTHORIZATION, reviewer.token())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of(
+                                    "orderProductId", reviewer.orderProductId(),
+                                    "rating", rating,
+                                    "content", CONTENT,
+                                    "imageUrls", List.of(),
+                                    "isPromotionAgreed", false,
+                                    "isPersonalInfoAgreed", true))))
+                    .andExpect(status().isCreated());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long productId() {
+        return variant.getProduct().getProductId();
+    }
+
+    /** 구매 확정된 주문 상품 하나를 가진 소비자 */
+    private Reviewer reviewer(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        Users user = userRepository.save(new Users(username, username, username + "@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+        Order order = orderRepository.save(Order.builder().user(user).build());
+        OrderProduct orderProduct = orderProductRepository.save(OrderProduct.builder()
+                .order(order)
+                .variant(variant)
+                .productName("시카 리페어 앰플 30ml")
+                .optionName("단품")
+                .quantity(1)
+                .price(24900)
+                .orderDate(now)
+                .status(OrderProductStatus.PURCHASE_CONFIRMED)
+                .build());
+        return new Reviewer(bearerToken(user.getEmail(), RoleType.USER, user.getId()), orderProduct.getId());
+    }
+
+    private record Reviewer(String token, Long orderProductId) {
+    }
+}
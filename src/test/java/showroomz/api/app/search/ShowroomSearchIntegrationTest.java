@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.user.repository.UserRepository;
@@ -43,6 +44,8 @@ class ShowroomSearchIntegrationTest extends IntegrationTestSupport {
     private UserRepository userRepository;
     @Autowired
     private CreatorRepository creatorRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
 
     private String userToken;
 
@@ -272,6 +275,70 @@ class ShowroomSearchIntegrationTest extends IntegrationTestSupport {
                     .andExpect(jsonPath("$.products").isArray());
         }
 
+        @Test
+        @DisplayName("쇼룸은 이름 짧은 순 3개까지이고, @아이디로도 걸린다")
+        void showroomsShortestFirstAndByHandle() throws Exception {
+            createShowroom("소연의 뷰티 라운지", "soyeon.lounge");
+            createShowroom("소연 뷰티", "soyeon");
+            createShowroom("소연 메이크업룸", "soyeon.makeup");
+            createShowroom("데일리 글로우", "daily.soyeon");
+
+            mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", "소연"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.showrooms.length()").value(3))
+                    .andExpect(jsonPath("$.showrooms[0].name").value("소연 뷰티"))
+                    .andExpect(jsonPath("$.showrooms[1].name").value("소연 메이크업룸"));
+
+            mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", "@SOYEON"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.showrooms.length()").value(3))
+                    .andExpect(jsonPath("$.showrooms[0].name").value("소연 뷰티"))
+                    .andExpect(jsonPath("$.showrooms[1].name").value("데일리 글로우"));
+        }
+
+        /** 색인이 계정 상태 변경을 바로 따라가야 한다 — 놓치면 그 검색어의 자동완성이 매번 SQL로 떨어진다. */
+        @Test
+        @DisplayName("탈퇴한 쇼룸은 자동완성에서 바로 빠지고, 되살리면 돌아온다")
+        void withdrawnShowroomLeavesAutocomplete() throws Exception {
+            Creator creator = createShowroom("소연 뷰티", "soyeon");
+            Users owner = creator.getUser();
+            owner.updateStatus(UserStatus.WITHDRAWN);
+            userRepository.save(owner);
+
+            mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", "소연"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.showrooms").isEmpty());
+
+            owner.updateStatus(UserStatus.NORMAL);
+            userRepository.save(owner);
+
+            mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", "소연"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.showrooms.length()").value(1));
+        }
+
+        /**
+         * 다른 인스턴스에서 정지된 계정은 재구성 전까지 색인에 살아 있다. 색인을 거치지 않고 DB만 바꿔 그 상태를
+         * 만든다 — 정지된 쇼룸은 빠지고, 빈 자리는 다음 순위가 메운다.
+         */
+        @Test
+        @DisplayName("색인이 모르는 사이 정지된 쇼룸도 자동완성에 나오지 않고, 다음 순위가 자리를 채운다")
+        void showroomSuspendedElsewhereIsFilteredAndBackfilled() throws Exception {
+            createShowroom("소연의 뷰티 라운지", "soyeon.lounge");
+            Creator shortest = createShowroom("소연 뷰티", "soyeon");
+            createShowroom("소연 메이크업룸", "soyeon.makeup");
+            createShowroom("소연 스킨랩", "soyeon.skin");
+            jdbc.update("UPDATE users SET status = ? WHERE user_id = ?",
+                    UserStatus.SUSPENDED.name(), shortest.getUser().getId());
+
+            mockMvc.perform(get(AUTOCOMPLETE_PATH).param("keyword", "소연"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.showrooms.length()").value(3))
+                    .andExpect(jsonPath("$.showrooms[0].name").value("소연 스킨랩"))
+                    .andExpect(jsonPath("$.showrooms[1].name").value("소연 메이크업룸"))
+                    .andExpect(jsonPath("$.showrooms[2].name").value("소연의 뷰티 라운지"));
+        }
+
         /**
          * 마켓 후보는 기획에서 빠졌다 — 소비자 앱에서 마켓(브랜드)은 조회되지 않는다.
          * 되살아나면 탭했을 때 갈 화면이 없는 후보가 자동완성에 다시 낀다.
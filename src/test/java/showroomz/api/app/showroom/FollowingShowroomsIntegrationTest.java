@@ -249,6 +249,8 @@ class FollowingShowroomsIntegrationTest extends IntegrationTestSupport {
         Post post = Post.published(showroom, "본문", new BigDecimal("0.8000"), createdAt);
         Long postId = postRepository.save(post).getId();
         jdbc.update("UPDATE post SET created_at = ? WHERE post_id = ?", createdAt, postId);
+        // 게시 API를 거치지 않으므로 그 경로가 하는 정렬 키 갱신을 직접 한다
+        transactionTemplate.executeWithoutResult(status -> creatorRepository.refreshLastPublishedAt(creatorId));
     }
 
     private Users createUser(String username, String nickname, RoleType roleType) {
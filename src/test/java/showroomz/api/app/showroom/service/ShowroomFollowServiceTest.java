@@ -10,19 +10,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.showroom.DTO.FollowingShowroomResponse;
 import showroomz.api.app.showroom.type.FollowingShowroomSort;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.connection.repository.ConnectionRepository;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.entity.CreatorFollow;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.member.user.entity.Users;
-import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.service.PostAttributionService;
 import showroomz.global.dto.PageResponse;
 import showroomz.global.dto.PagingRequest;
@@ -38,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -50,7 +53,7 @@ import static org.mockito.Mockito.verify;
  * 두 번 오는 일이 흔하다.
  *
  * <p>둘째 <b>정렬</b>: 기본 정렬이 "최근 게시물을 올린 쇼룸 순"이고 게시물이 없는 쇼룸은 뒤로 밀린다.
- * 정렬이 DB 밖에서 끝나므로 페이징도 손으로 자르며, 그 슬라이싱 경계까지 함께 본다.
+ * 정렬·자르기는 DB가 하므로 여기서는 어떤 정렬 키로 물었는지를 본다. 실제 순서는 통합 테스트가 본다.
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -64,9 +67,7 @@ class ShowroomFollowServiceTest {
     @Mock
     private CreatorRepository creatorRepository;
     @Mock
-    private UserRepository userRepository;
-    @Mock
-    private PostRepository postRepository;
+    private UserReferenceCache userReferenceCache;
     @Mock
     private ConnectionRepository connectionRepository;
     @Mock
@@ -82,7 +83,7 @@ class ShowroomFollowServiceTest {
         user = new Users(USERNAME, "미아", "mia@showroomz.test", "Y", null,
                 ProviderType.LOCAL, RoleType.USER, now, now);
         ReflectionTestUtils.setField(user, "id", 7L);
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        given(userReferenceCache.getReference(USERNAME)).willReturn(user);
         return user;
     }
 
@@ -98,6 +99,11 @@ class ShowroomFollowServiceTest {
         return follow;
     }
 
+    private void givenPage(List<CreatorFollow> follows, long total) {
+        given(creatorFollowRepository.findPageByUserWithCreator(eq(user), any(Pageable.class)))
+                .willAnswer(invocation -> new PageImpl<>(follows, invocation.getArgument(1), total));
+    }
+
     private PagingRequest paging(int page, int size) {
         PagingRequest request = new PagingRequest();
         request.setPage(page);
@@ -230,7 +236,7 @@ class ShowroomFollowServiceTest {
         @Test
         @DisplayName("없는 회원이면 404를 낸다")
         void unknownUserIsRejected() {
-            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+            given(userReferenceCache.getReference(USERNAME)).willThrow(new BusinessException(ErrorCode.USER_NOT_FOUND));
 
             assertThatThrownBy(() -> showroomFollowService.followShowroom(USERNAME, SHOWROOM_ID))
                     .isInstanceOf(BusinessException.class)
@@ -242,152 +248,90 @@ class ShowroomFollowServiceTest {
     @DisplayName("팔로잉 목록 정렬")
     class Sorting {
 
-        private Creator early;
-        private Creator middle;
-        private Creator late;
-
-        private void givenThreeFollows() {
+        private Pageable requestedWith(FollowingShowroomSort sort) {
             givenUser();
-            early = showroom(1L, "가장 먼저 팔로우");
-            middle = showroom(2L, "두 번째로 팔로우");
-            late = showroom(3L, "가장 최근에 팔로우");
-
-            given(creatorFollowRepository.findAllByUserWithCreator(user)).willReturn(List.of(
-                    follow(early, LocalDateTime.now().minusDays(30)),
-                    follow(middle, LocalDateTime.now().minusDays(7)),
-                    follow(late, LocalDateTime.now().minusHours(3))));
-            given(connectionRepository.findCreatorIdsWithOngoingGroupBuy(any())).willReturn(List.of());
-        }
+            givenPage(List.of(), 0);
 
-        /** C2 기본 정렬 — 팔로우 시각이 아니라 쇼룸의 최근 게시물 시각이 기준이다. */
-        @Test
-        @DisplayName("기본 정렬은 최근에 게시물을 올린 쇼룸 순이다")
-        void defaultSortIsLatestPost() {
-            givenThreeFollows();
-            given(postRepository.findLatestPostCreatedAtByCreatorIds(any())).willReturn(List.of(
-                    new Object[]{1L, LocalDateTime.now().minusHours(1)},
-                    new Object[]{3L, LocalDateTime.now().minusDays(5)}));
-
-            PageResponse<FollowingShowroomResponse> result =
-                    showroomFollowService.getFollowedShowrooms(USERNAME, FollowingShowroomSort.DEFAULT, paging(1, 20));
+            showroomFollowService.getFollowedShowrooms(USERNAME, sort, paging(1, 20));
 
-            assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
-                    .containsExactly(1L, 3L, 2L);
+            ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+            verify(creatorFollowRepository).findPageByUserWithCreator(eq(user), pageable.capture());
+            return pageable.getValue();
         }
 
-        /** 게시물이 없는 쇼룸을 앞에 두면 목록 첫 화면이 빈 쇼룸으로 채워진다. */
+        /** C2 기본 정렬 — 팔로우 시각이 아니라 쇼룸의 최근 게시 시각이 기준이다. */
         @Test
-        @DisplayName("게시물이 없는 쇼룸은 뒤로 밀리고 그 안에서는 팔로우 최신순이다")
-        void showroomsWithoutPostsGoLast() {
-            givenThreeFollows();
-            given(postRepository.findLatestPostCreatedAtByCreatorIds(any())).willReturn(List.of());
-
-            PageResponse<FollowingShowroomResponse> result =
-                    showroomFollowService.getFollowedShowrooms(USERNAME, FollowingShowroomSort.DEFAULT, paging(1, 20));
-
-            assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
-                    .containsExactly(3L, 2L, 1L);
+        @DisplayName("기본 정렬은 최근 게시 시각 순이고 게시물이 없는 쇼룸은 뒤로, 그 안에서는 팔로우 최신순이다")
+        void defaultSortIsLatestPost() {
+            Sort sort = requestedWith(FollowingShowroomSort.DEFAULT).getSort();
+
+            assertThat(sort.getOrderFor("c.lastPublishedAt"))
+                    .satisfies(order -> {
+                        assertThat(order.getDirection()).isEqualTo(Sort.Direction.DESC);
+                        assertThat(order.getNullHandling()).isEqualTo(Sort.NullHandling.NULLS_LAST);
+                    });
+            assertThat(sort).extracting(Sort.Order::getProperty)
+                    .containsExactly("c.lastPublishedAt", "createdAt", "id");
         }
 
         @Test
         @DisplayName("팔로우 최신순은 가장 최근에 팔로우한 쇼룸부터다")
         void followLatestSort() {
-            givenThreeFollows();
-
-            PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
-                    USERNAME, FollowingShowroomSort.FOLLOW_LATEST, paging(1, 20));
+            Sort sort = requestedWith(FollowingShowroomSort.FOLLOW_LATEST).getSort();
 
-            assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
-                    .containsExactly(3L, 2L, 1L);
+            assertThat(sort).containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
         }
 
         @Test
         @DisplayName("팔로우 오래된순은 가장 먼저 팔로우한 쇼룸부터다")
         void followOldestSort() {
-            givenThreeFollows();
-
-            PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
-                    USERNAME, FollowingShowroomSort.FOLLOW_OLDEST, paging(1, 20));
+            Sort sort = requestedWith(FollowingShowroomSort.FOLLOW_OLDEST).getSort();
 
-            assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
-                    .containsExactly(1L, 2L, 3L);
+            assertThat(sort).containsExactly(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
         }
 
         @Test
         @DisplayName("정렬을 지정하지 않으면 기본 정렬을 쓴다")
         void nullSortFallsBackToDefault() {
-            givenThreeFollows();
-            given(postRepository.findLatestPostCreatedAtByCreatorIds(any())).willReturn(List.of());
-
-            PageResponse<FollowingShowroomResponse> result =
-                    showroomFollowService.getFollowedShowrooms(USERNAME, null, paging(1, 20));
-
-            assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
-                    .containsExactly(3L, 2L, 1L);
+            assertThat(requestedWith(null).getSort())
+                    .isEqualTo(ShowroomFollowService.sortOf(FollowingShowroomSort.DEFAULT));
         }
     }
 
     @Nested
-    @DisplayName("팔로잉 목록 페이징 (수동 슬라이싱)")
+    @DisplayName("팔로잉 목록 페이징")
     class Paging {
 
-        private void givenThreeFollows() {
-            givenUser();
-            given(creatorFollowRepository.findAllByUserWithCreator(user)).willReturn(List.of(
-                    follow(showroom(1L, "A"), LocalDateTime.now().minusDays(30)),
-                    follow(showroom(2L, "B"), LocalDateTime.now().minusDays(7)),
-                    follow(showroom(3L, "C"), LocalDateTime.now().minusHours(3))));
-            given(connectionRepository.findCreatorIdsWithOngoingGroupBuy(any())).willReturn(List.of());
-        }
-
-        @Test
-        @DisplayName("페이지를 잘라도 전체 개수는 그대로다")
-        void totalSurvivesPaging() {
-            givenThreeFollows();
-
-            PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
-                    USERNAME, FollowingShowroomSort.FOLLOW_OLDEST, paging(1, 2));
-
-            assertThat(result.getContent()).hasSize(2);
-            assertThat(result.getPageInfo().getTotalResults()).isEqualTo(3);
-        }
-
         @Test
-        @DisplayName("마지막 페이지는 남은 만큼만 준다")
-        void lastPageReturnsRemainder() {
-            givenThreeFollows();
+        @DisplayName("1부터 세는 페이지 번호를 DB 페이지로 넘기고, 전체 개수는 DB 카운트를 그대로 쓴다")
+        void pageIsDelegatedToDatabase() {
+            givenUser();
+            givenPage(List.of(follow(showroom(3L, "C"), LocalDateTime.now())), 3);
 
             PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
                     USERNAME, FollowingShowroomSort.FOLLOW_OLDEST, paging(2, 2));
 
+            ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+            verify(creatorFollowRepository).findPageByUserWithCreator(eq(user), pageable.capture());
+            assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+            assertThat(pageable.getValue().getPageSize()).isEqualTo(2);
             assertThat(result.getContent()).extracting(FollowingShowroomResponse::getShowroomId)
                     .containsExactly(3L);
-        }
-
-        /** 손으로 자르는 코드라 범위를 넘는 페이지에서 IndexOutOfBounds가 나기 쉽다. */
-        @Test
-        @DisplayName("범위를 넘는 페이지는 빈 목록을 준다 — 예외로 터지지 않는다")
-        void pageBeyondRangeIsEmpty() {
-            givenThreeFollows();
-
-            PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
-                    USERNAME, FollowingShowroomSort.FOLLOW_OLDEST, paging(9, 2));
-
-            assertThat(result.getContent()).isEmpty();
             assertThat(result.getPageInfo().getTotalResults()).isEqualTo(3);
         }
 
         @Test
-        @DisplayName("팔로우한 쇼룸이 없으면 빈 목록을 준다")
+        @DisplayName("팔로우한 쇼룸이 없으면 빈 목록을 주고 공구 조회도 하지 않는다")
         void noFollowsReturnsEmpty() {
             givenUser();
-            given(creatorFollowRepository.findAllByUserWithCreator(user)).willReturn(List.of());
+            givenPage(List.of(), 0);
 
             PageResponse<FollowingShowroomResponse> result =
                     showroomFollowService.getFollowedShowrooms(USERNAME, null, paging(1, 20));
 
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getPageInfo().getTotalResults()).isZero();
+            verify(connectionRepository, never()).findCreatorIdsWithOngoingGroupBuy(any());
         }
     }
 
@@ -399,9 +343,9 @@ class ShowroomFollowServiceTest {
         @DisplayName("공구 진행 중인 쇼룸만 표시가 붙는다 — 아바타 링의 근거다")
         void onlyOngoingGroupBuyIsFlagged() {
             givenUser();
-            given(creatorFollowRepository.findAllByUserWithCreator(user)).willReturn(List.of(
+            givenPage(List.of(
                     follow(showroom(1L, "공구 중"), LocalDateTime.now().minusDays(2)),
-                    follow(showroom(2L, "공구 없음"), LocalDateTime.now().minusDays(1))));
+                    follow(showroom(2L, "공구 없음"), LocalDateTime.now().minusDays(1))), 2);
             given(connectionRepository.findCreatorIdsWithOngoingGroupBuy(any())).willReturn(List.of(1L));
 
             PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
@@ -418,8 +362,7 @@ class ShowroomFollowServiceTest {
             givenUser();
             Creator unnamed = showroom(1L, null);
             ReflectionTestUtils.setField(unnamed.getUser(), "nickname", "미등록 쇼룸");
-            given(creatorFollowRepository.findAllByUserWithCreator(user))
-                    .willReturn(List.of(follow(unnamed, LocalDateTime.now())));
+            givenPage(List.of(follow(unnamed, LocalDateTime.now())), 1);
             given(connectionRepository.findCreatorIdsWithOngoingGroupBuy(any())).willReturn(List.of());
 
             PageResponse<FollowingShowroomResponse> result = showroomFollowService.getFollowedShowrooms(
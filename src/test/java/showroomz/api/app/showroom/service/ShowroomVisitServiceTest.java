@@ -8,7 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import showroomz.api.app.showroom.DTO.ShowroomVisitRequest;
-import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.app.user.service.UserReferenceCache;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.member.user.entity.Users;
@@ -41,7 +41,7 @@ class ShowroomVisitServiceTest {
     @Mock
     private CreatorRepository creatorRepository;
     @Mock
-    private UserRepository userRepository;
+    private UserReferenceCache userReferenceCache;
     /** §24-7 귀속은 방문 적재의 곁가지다 — 귀속 대상이 없으면 null이고 방문은 그대로 쌓인다 */
     @Mock
     private PostAttributionService postAttributionService;
@@ -68,7 +68,7 @@ class ShowroomVisitServiceTest {
     @DisplayName("로그인 방문은 사용자 기준으로 센다 — 디바이스 식별자는 무시된다")
     void loggedInVisitIsKeyedByUser() {
         given(creatorRepository.findById(SHOWROOM_ID)).willReturn(Optional.of(showroom));
-        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user(7L)));
+        given(userReferenceCache.findReference(USERNAME)).willReturn(Optional.of(user(7L)));
         given(showroomVisitRepository.existsByCreator_IdAndVisitorKeyAndVisitedAtAfter(
                 anyLong(), anyString(), any())).willReturn(false);
 
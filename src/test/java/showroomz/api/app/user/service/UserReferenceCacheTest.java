@@ -0,0 +1,134 @@
+package showroomz.api.app.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 참조 캐시 — 적중하면 SELECT가 나가지 않고, 수명·크기 상한을 넘긴 항목은 다시 읽는다.
+ */
+class UserReferenceCacheTest {
+
+    private static final String USERNAME = "mia";
+    private static final long TTL_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        given(userRepository.findReferenceByUsername(USERNAME)).willReturn(Optional.of(reference()));
+    }
+
+    private UserReferenceCache cache(int maxSize) {
+        return new UserReferenceCache(userRepository, maxSize, TTL_MILLIS, meterRegistry, now::get);
+    }
+
+    private static UserReference reference() {
+        return new UserReference(7L);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 읽지 않고 적중으로 센다")
+    void secondLookupSkipsDatabase() {
+        UserReferenceCache cache = cache(10);
+
+        cache.find(USERNAME);
+        assertThat(cache.find(USERNAME)).contains(reference());
+
+        verify(userRepository, times(1)).findReferenceByUsername(USERNAME);
+        assertThat(counter("user.reference.cache.hits")).isEqualTo(1.0);
+        assertThat(counter("user.reference.cache.misses")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("프록시는 캐시의 id로 만든다")
+    void referenceIsBuiltFromCachedId() {
+        Users proxy = mock(Users.class);
+        given(userRepository.getReferenceById(7L)).willReturn(proxy);
+        UserReferenceCache cache = cache(10);
+
+        assertThat(cache.getReference(USERNAME)).isSameAs(proxy);
+    }
+
+    /** 곧 가입할 수 있는 아이디다 — 없음을 캐시하면 가입 직후 요청이 USER_NOT_FOUND로 떨어진다. */
+    @Test
+    @DisplayName("없는 아이디는 캐시하지 않고 USER_NOT_FOUND로 거절한다")
+    void unknownUsernameIsNotCached() {
+        given(userRepository.findReferenceByUsername("ghost")).willReturn(Optional.empty());
+        UserReferenceCache cache = cache(10);
+
+        assertThatThrownBy(() -> cache.getReference("ghost"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+        cache.find("ghost");
+
+        verify(userRepository, times(2)).findReferenceByUsername("ghost");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("수명이 지나면 다시 읽는다")
+    void expiredEntryIsReloaded() {
+        UserReferenceCache cache = cache(10);
+        cache.find(USERNAME);
+
+        now.addAndGet(TTL_MILLIS);
+        cache.find(USERNAME);
+
+        verify(userRepository, times(2)).findReferenceByUsername(USERNAME);
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 가장 오래 안 쓴 항목부터 밀려난다")
+    void leastRecentlyUsedIsEvicted() {
+        given(userRepository.findReferenceByUsername("a")).willReturn(Optional.of(reference()));
+        given(userRepository.findReferenceByUsername("b")).willReturn(Optional.of(reference()));
+        UserReferenceCache cache = cache(2);
+        cache.find("a");
+        cache.find("b");
+        cache.find("a");
+
+        cache.find(USERNAME);
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.find("a");
+        cache.find("b");
+        verify(userRepository, times(1)).findReferenceByUsername("a");
+        verify(userRepository, times(2)).findReferenceByUsername("b");
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 캐시 없이 매번 읽는다")
+    void zeroSizeDisablesCache() {
+        UserReferenceCache cache = cache(0);
+
+        cache.find(USERNAME);
+        cache.find(USERNAME);
+
+        verify(userRepository, times(2)).findReferenceByUsername(USERNAME);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -1,5 +1,7 @@
 package showroomz.api.common.attachment.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,13 +27,17 @@ import showroomz.domain.message.type.ThreadStatus;
 import showroomz.global.config.properties.S3Properties;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
+import showroomz.global.service.S3BatchDeleteService;
 import showroomz.global.utils.AllowedAttachmentExtensions;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -42,16 +48,15 @@ import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +80,15 @@ class MessageAttachmentServiceTest {
     private final MessageThread thread = MessageThread.builder()
             .id(THREAD_ID).status(ThreadStatus.OPEN).build();
 
+    /** 캐시와 일괄 삭제는 실제 구현을 모의 S3 위에 얹는다 — 서명·삭제 요청이 S3Presigner·S3Client까지 가는지 본다. */
+    @BeforeEach
+    void wireS3Helpers() {
+        ReflectionTestUtils.setField(messageAttachmentService, "presignedUrlCache",
+                new PresignedUrlCache(100, new SimpleMeterRegistry(), System::currentTimeMillis));
+        ReflectionTestUtils.setField(messageAttachmentService, "s3BatchDeleteService",
+                new S3BatchDeleteService(s3Client, s3Properties));
+    }
+
     private static PresignRequest request(String fileName, String contentType, long sizeBytes) {
         PresignRequest request = new PresignRequest();
         request.setFileName(fileName);
@@ -86,7 +100,7 @@ class MessageAttachmentServiceTest {
     private MessageAttachment pendingAttachment(long id) {
         MessageAttachment attachment = MessageAttachment.pending(
                 thread, ParticipantType.SELLER, UPLOADER_ID, AttachmentType.IMAGE,
-                "uploads/message/1/uuid.jpg", "https://cdn.example/uuid.jpg",
+                "uploads/message/1/uuid-" + id + ".jpg", "https://cdn.example/uuid-" + id + ".jpg",
                 "shot.jpg", "jpg", "image/jpeg", 1024L);
         ReflectionTestUtils.setField(attachment, "id", id);
         return attachment;
@@ -315,6 +329,21 @@ class MessageAttachmentServiceTest {
                     .contains("filename*=UTF-8''");
         }
 
+        @Test
+        @DisplayName("같은 첨부를 다시 열면 앞서 서명한 URL을 그대로 준다")
+        void repeatedDownloadReusesSignedUrl() throws Exception {
+            givenDownloadPresignUrl();
+            MessageAttachment sent = sentAttachment("촬영본.mp4");
+
+            AttachmentDownloadResponse first = messageAttachmentService.createDownloadUrl(sent, VIEWER_TYPE, VIEWER_ID);
+            AttachmentDownloadResponse second = messageAttachmentService.createDownloadUrl(
+                    sent, ParticipantType.SELLER, UPLOADER_ID);
+
+            assertThat(second.getDownloadUrl()).isEqualTo(first.getDownloadUrl());
+            assertThat(second.getExpiresInSeconds()).isLessThanOrEqualTo(first.getExpiresInSeconds());
+            verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+        }
+
         @Test
         @DisplayName("업로드가 끝나지 않은 첨부는 받을 수 없다")
         void notUploadedIsRejected() {
@@ -382,13 +411,9 @@ class MessageAttachmentServiceTest {
                     eq(AttachmentStatus.PENDING), eq(threshold), eq(0L), any(Pageable.class)))
                     .willReturn(List.of(ok, fail));
 
-            AtomicInteger calls = new AtomicInteger();
-            doAnswer(inv -> {
-                if (calls.getAndIncrement() == 0) {
-                    return null;
-                }
-                throw new RuntimeException("s3 down");
-            }).when(s3Client).deleteObject(any(DeleteObjectRequest.class));
+            given(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).willReturn(DeleteObjectsResponse.builder()
+                    .errors(S3Error.builder().key(fail.getS3Key()).code("SlowDown").build())
+                    .build());
 
             MessageAttachmentService.PurgeChunk chunk = messageAttachmentService.purgeOrphanChunk(
                     AttachmentStatus.PENDING, threshold, 0L, 100);
@@ -398,6 +423,7 @@ class MessageAttachmentServiceTest {
             assertThat(chunk.lastId()).isEqualTo(11L);
             verify(attachmentRepository).delete(ok);
             verify(attachmentRepository, never()).delete(fail);
+            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
         }
     }
 }
@@ -0,0 +1,89 @@
+package showroomz.api.common.attachment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.api.common.attachment.service.PresignedUrlCache.PresignedUrl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * presigned URL 캐시 — 남은 시간이 넉넉할 때만 다시 쓰고, 돌려주는 유효 시간은 실제로 남은 시간이다.
+ *
+ * <p>만료가 코앞인 URL을 내주면 브라우저가 받자마자 403을 맞는다. 시계를 직접 움직여 그 경계를 확인한다.
+ */
+class PresignedUrlCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger signed = new AtomicInteger();
+
+    private final Supplier<String> signer = () -> "https://s3.test/a.mp4?sig=" + signed.incrementAndGet();
+
+    private PresignedUrlCache cache(int maxSize) {
+        return new PresignedUrlCache(maxSize, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("남은 시간이 넉넉하면 같은 URL을 주고, 유효 시간은 남은 만큼만 알린다")
+    void reusesUrlWithRemainingLifetime() {
+        PresignedUrlCache cache = cache(10);
+        PresignedUrl first = cache.getOrSign("a.mp4", TTL, signer);
+
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        PresignedUrl second = cache.getOrSign("a.mp4", TTL, signer);
+
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(first.expiresInSeconds()).isEqualTo(300);
+        assertThat(second.expiresInSeconds()).isEqualTo(180);
+        assertThat(signed).hasValue(1);
+        assertThat(meterRegistry.counter("attachment.presign.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("남은 시간이 1분 아래로 내려가면 새로 서명한다")
+    void resignsShortlyBeforeExpiry() {
+        PresignedUrlCache cache = cache(10);
+        cache.getOrSign("a.mp4", TTL, signer);
+
+        now.addAndGet(TTL.minus(PresignedUrlCache.MIN_REMAINING).toMillis() + 1);
+        PresignedUrl renewed = cache.getOrSign("a.mp4", TTL, signer);
+
+        assertThat(renewed.url()).endsWith("sig=2");
+        assertThat(renewed.expiresInSeconds()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 다르면 다른 항목이고, 상한을 넘으면 오래 안 쓴 것부터 밀려난다")
+    void keyedByTtlAndBounded() {
+        PresignedUrlCache cache = cache(2);
+        cache.getOrSign("a.mp4", TTL, signer);
+        cache.getOrSign("a.mp4", Duration.ofMinutes(15), signer);
+        assertThat(signed).hasValue(2);
+
+        cache.getOrSign("a.mp4", TTL, signer);
+        cache.getOrSign("b.mp4", TTL, signer);
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.getOrSign("a.mp4", TTL, signer);
+        assertThat(signed).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("상한이 0이면 매번 서명한다")
+    void disabledCacheAlwaysSigns() {
+        PresignedUrlCache cache = cache(0);
+        cache.getOrSign("a.mp4", TTL, signer);
+        cache.getOrSign("a.mp4", TTL, signer);
+
+        assertThat(signed).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
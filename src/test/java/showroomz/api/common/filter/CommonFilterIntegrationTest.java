@@ -0,0 +1,67 @@
+package showroomz.api.common.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import showroomz.api.admin.filter.DTO.FilterDto;
+import showroomz.api.admin.filter.service.FilterService;
+import showroomz.api.common.filter.service.FilterCatalog;
+import showroomz.domain.filter.type.FilterCondition;
+import showroomz.domain.filter.type.FilterType;
+import showroomz.support.IntegrationTestSupport;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 공용 필터 조회의 재검증 — 받은 ETag를 되보내면 본문 없이 304, 어드민이 필터를 바꾸면 커밋 뒤 새 ETag로 200.
+ */
+class CommonFilterIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private FilterService filterService;
+    @Autowired
+    private FilterCatalog filterCatalog;
+
+    @BeforeEach
+    void setUp() {
+        // 앞 테스트가 남긴 스냅샷을 비워진 DB 기준으로 되돌린다
+        filterCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("같은 ETag로 다시 물으면 304, 필터가 바뀐 뒤에는 새 ETag로 200")
+    void revalidatesWithEtag() throws Exception {
+        Long filterId = filterService.createFilter(new FilterDto.CreateFilterRequest(
+                "gender", "성별", FilterType.CHECKBOX, FilterCondition.OR, 1, true,
+                List.of(new FilterDto.FilterValueRequest("MALE", "남성", null, 1, true)))).getId();
+
+        String etag = mockMvc.perform(get("/v1/common/filters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].filterKey").value("gender"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get("/v1/common/filters").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        filterService.updateFilter(filterId, new FilterDto.UpdateFilterRequest(
+                "성별(수정)", null, null, null, null, null));
+
+        String changed = mockMvc.perform(get("/v1/common/filters").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].label").value("성별(수정)"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+}
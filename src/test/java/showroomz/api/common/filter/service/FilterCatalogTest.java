@@ -0,0 +1,202 @@
+package showroomz.api.common.filter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import showroomz.api.admin.filter.DTO.FilterDto;
+import showroomz.domain.filter.entity.Filter;
+import showroomz.domain.filter.entity.FilterValue;
+import showroomz.domain.filter.repository.CategoryFilterRepository;
+import showroomz.domain.filter.repository.CategoryFilterValueRepository;
+import showroomz.domain.filter.repository.FilterRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 필터 카탈로그 — 예전 조회와 같은 응답을 미리 만들어 두고, 내용이 바뀔 때만 ETag가 바뀐다.
+ */
+class FilterCatalogTest {
+
+    private static final Long TOPS = 10L;
+    private static final Long SHOES = 20L;
+
+    private FilterRepository filterRepository;
+    private CategoryFilterRepository categoryFilterRepository;
+    private CategoryFilterValueRepository categoryFilterValueRepository;
+    private FilterCatalog catalog;
+
+    private Filter gender;
+    private Filter color;
+
+    @BeforeEach
+    void setUp() {
+        filterRepository = mock(FilterRepository.class);
+        categoryFilterRepository = mock(CategoryFilterRepository.class);
+        categoryFilterValueRepository = mock(CategoryFilterValueRepository.class);
+        catalog = new FilterCatalog(filterRepository, categoryFilterRepository, categoryFilterValueRepository,
+                new ObjectMapper());
+
+        gender = filter(1L, "gender", 2, true, value(11L, "MALE", 2, true), value(12L, "FEMALE", 1, true));
+        color = filter(2L, "color", 1, true,
+                value(21L, "BLACK", 1, true), value(22L, "WHITE", 2, true), value(23L, "RED", 3, false));
+        Filter hidden = filter(3L, "season", 0, false, value(31L, "SUMMER", 1, true));
+
+        given(filterRepository.findAllWithValues()).willReturn(List.of(gender, color, hidden));
+        given(categoryFilterRepository.findAllLinks()).willReturn(List.of(
+                link(TOPS, 1L), link(TOPS, 2L), link(TOPS, 3L), link(SHOES, 2L)));
+        given(categoryFilterValueRepository.findAllSelections()).willReturn(List.of(
+                selected(SHOES, 2L, 22L)));
+        catalog.refresh();
+    }
+
+    @Test
+    @DisplayName("파라미터가 없으면 활성 필터 전체를 정렬 순서대로, 값은 활성만 정렬해서 준다")
+    void allActiveFiltersInOrder() {
+        List<FilterDto.FilterResponse> filters = catalog.current().filters(null, null);
+
+        assertThat(filters).extracting(FilterDto.FilterResponse::getFilterKey).containsExactly("color", "gender");
+        assertThat(filters.get(0).getValues()).extracting(FilterDto.FilterValueResponse::getValue)
+                .containsExactly("BLACK", "WHITE");
+        assertThat(filters.get(1).getValues()).extracting(FilterDto.FilterValueResponse::getValue)
+                .containsExactly("FEMALE", "MALE");
+    }
+
+    @Test
+    @DisplayName("카테고리는 매핑된 활성 필터만, 고른 값이 있으면 그 값으로 좁혀 준다")
+    void categoryFiltersAreNarrowedToSelection() {
+        assertThat(catalog.current().filters(null, TOPS))
+                .extracting(FilterDto.FilterResponse::getFilterKey).containsExactly("color", "gender");
+
+        List<FilterDto.FilterResponse> shoes = catalog.current().filters(null, SHOES);
+        assertThat(shoes).singleElement()
+                .satisfies(response -> assertThat(response.getValues())
+                        .extracting(FilterDto.FilterValueResponse::getValue).containsExactly("WHITE"));
+    }
+
+    @Test
+    @DisplayName("필터 키와 카테고리를 같이 주면 그 필터 하나를 카테고리 선택값으로 좁힌다")
+    void filterKeyWithCategoryIsNarrowed() {
+        assertThat(catalog.current().filters("color", SHOES)).singleElement()
+                .satisfies(response -> assertThat(response.getValues()).hasSize(1));
+        assertThat(catalog.current().filters("color", null)).singleElement()
+                .satisfies(response -> assertThat(response.getValues()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("모르는 필터 키·카테고리, 비활성 필터 키는 빈 목록이다")
+    void unknownLookupsAreEmpty() {
+        assertThat(catalog.current().filters("material", null)).isEmpty();
+        assertThat(catalog.current().filters("season", null)).isEmpty();
+        assertThat(catalog.current().filters(null, 999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 내용으로 다시 만들면 ETag가 그대로고, 값이 바뀌면 ETag도 바뀐다")
+    void etagFollowsContent() {
+        String before = catalog.current().etag();
+
+        catalog.refresh();
+        assertThat(catalog.current().etag()).isEqualTo(before);
+
+        gender.getValues().get(0).setLabel("남성(변경)");
+        catalog.refresh();
+        assertThat(catalog.current().etag()).isNotEqualTo(before);
+    }
+
+    /** 롤백된 어드민 변경이 스냅샷에 남으면 안 된다. */
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에만 다시 만든다")
+    void refreshWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalog.refreshAfterCommit();
+            verify(filterRepository, times(1)).findAllWithValues();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(filterRepository, times(2)).findAllWithValues();
+    }
+
+    @Test
+    @DisplayName("롤백되면 다시 만들지 않는다")
+    void rollbackDoesNotRefresh() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalog.refreshAfterCommit();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(filterRepository, times(1)).findAllWithValues();
+    }
+
+    private static Filter filter(Long id, String key, int sortOrder, boolean active, FilterValue... values) {
+        Filter filter = new Filter();
+        filter.setId(id);
+        filter.setFilterKey(key);
+        filter.setLabel(key);
+        filter.setSortOrder(sortOrder);
+        filter.setIsActive(active);
+        filter.setValues(new ArrayList<>(List.of(values)));
+        return filter;
+    }
+
+    private static FilterValue value(Long id, String value, int sortOrder, boolean active) {
+        FilterValue filterValue = new FilterValue();
+        filterValue.setId(id);
+        filterValue.setValue(value);
+        filterValue.setLabel(value);
+        filterValue.setSortOrder(sortOrder);
+        filterValue.setIsActive(active);
+        return filterValue;
+    }
+
+    private static CategoryFilterRepository.CategoryFilterLink link(Long categoryId, Long filterId) {
+        return new CategoryFilterRepository.CategoryFilterLink() {
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Long getFilterId() {
+                return filterId;
+            }
+        };
+    }
+
+    private static CategoryFilterValueRepository.SelectedValue selected(Long categoryId, Long filterId, Long valueId) {
+        return new CategoryFilterValueRepository.SelectedValue() {
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Long getFilterId() {
+                return filterId;
+            }
+
+            @Override
+            public Long getFilterValueId() {
+                return valueId;
+            }
+        };
+    }
+}
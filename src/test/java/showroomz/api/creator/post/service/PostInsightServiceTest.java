@@ -20,13 +20,13 @@ import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostSuspension;
-import showroomz.domain.post.repository.PostImpressionRepository;
 import showroomz.domain.post.repository.PostLikeRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
 import showroomz.domain.post.type.PostDeleteReason;
 import showroomz.domain.post.type.PostSuspensionReason;
-import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.stats.service.PostImpressionStatsReader;
+import showroomz.domain.stats.service.ShowroomVisitStatsReader;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
@@ -77,13 +77,13 @@ class PostInsightServiceTest {
     @Mock
     private PostRepository postRepository;
     @Mock
-    private PostImpressionRepository postImpressionRepository;
+    private PostImpressionStatsReader postImpressionStatsReader;
     @Mock
     private PostLikeRepository postLikeRepository;
     @Mock
     private PostSuspensionRepository postSuspensionRepository;
     @Mock
-    private ShowroomVisitRepository showroomVisitRepository;
+    private ShowroomVisitStatsReader showroomVisitStatsReader;
     @Mock
     private CreatorFollowRepository creatorFollowRepository;
     @Mock
@@ -104,7 +104,7 @@ class PostInsightServiceTest {
 
         // 기본값은 전부 0 — 각 테스트는 자기가 보는 지표만 덮어쓴다.
         givenMetrics(0L, 0L, 0L, 0L);
-        given(postImpressionRepository.findViewerDemographics(anyLong(), any(), any())).willReturn(List.of());
+        given(postImpressionStatsReader.findViewerDemographics(anyLong(), any(), any())).willReturn(List.of());
     }
 
     // ------------------------------------------------------------------ 열람 자격
@@ -143,7 +143,7 @@ class PostInsightServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.POST_ACCESS_DENIED);
 
-            verify(postImpressionRepository, never()).countByPostIdInPeriod(anyLong(), any(), any());
+            verify(postImpressionStatsReader, never()).countByPostIdInPeriod(anyLong(), any(), any());
         }
 
         /**
@@ -585,14 +585,14 @@ class PostInsightServiceTest {
     }
 
     private void givenMetrics(long impressions, long likes, long visits, long follows) {
-        given(postImpressionRepository.countByPostIdInPeriod(anyLong(), any(), any())).willReturn(impressions);
+        given(postImpressionStatsReader.countByPostIdInPeriod(anyLong(), any(), any())).willReturn(impressions);
         given(postLikeRepository.countByPostIdInPeriod(anyLong(), any(), any())).willReturn(likes);
-        given(showroomVisitRepository.countAttributedVisits(anyLong(), any(), any())).willReturn(visits);
+        given(showroomVisitStatsReader.countAttributedVisits(anyLong(), any(), any())).willReturn(visits);
         given(creatorFollowRepository.countAttributedFollows(anyLong(), any(), any())).willReturn(follows);
     }
 
     private void givenDemographics(List<Object[]> rows) {
-        given(postImpressionRepository.findViewerDemographics(anyLong(), any(), any())).willReturn(rows);
+        given(postImpressionStatsReader.findViewerDemographics(anyLong(), any(), any())).willReturn(rows);
     }
 
     private void givenOpenSuspension(LocalDateTime suspendedAt) {
@@ -605,11 +605,11 @@ class PostInsightServiceTest {
 
     /** 응답에 실린 창이 모든 집계 쿼리에 그대로 전달됐는지 — 지표별로 창이 갈리면 여기서 걸린다. */
     private void verifyAllQueriesUsed(LocalDateTime from, LocalDateTime to) {
-        verify(postImpressionRepository).countByPostIdInPeriod(POST_ID, from, to);
+        verify(postImpressionStatsReader).countByPostIdInPeriod(POST_ID, from, to);
         verify(postLikeRepository).countByPostIdInPeriod(POST_ID, from, to);
-        verify(showroomVisitRepository).countAttributedVisits(POST_ID, from, to);
+        verify(showroomVisitStatsReader).countAttributedVisits(POST_ID, from, to);
         verify(creatorFollowRepository).countAttributedFollows(POST_ID, from, to);
-        verify(postImpressionRepository).findViewerDemographics(POST_ID, from, to);
+        verify(postImpressionStatsReader).findViewerDemographics(POST_ID, from, to);
     }
 
     private static Creator creator(long id) {
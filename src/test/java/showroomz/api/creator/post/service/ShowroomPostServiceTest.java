@@ -9,11 +9,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import showroomz.api.creator.post.DTO.PostDto;
 import showroomz.api.creator.post.type.PostSaveAction;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostAppeal;
 import showroomz.domain.post.entity.PostSuspension;
@@ -24,6 +27,7 @@ import showroomz.domain.post.repository.PostImageRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
 import showroomz.domain.post.service.PostNotificationService;
+import showroomz.domain.post.timeline.PostPublished;
 import showroomz.domain.post.type.PostAppealStatus;
 import showroomz.domain.post.type.PostDeleteReason;
 import showroomz.domain.post.type.PostNotificationEvent;
@@ -45,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -73,6 +78,10 @@ class ShowroomPostServiceTest {
     private CreatorRepository creatorRepository;
     @Mock
     private PostNotificationService postNotificationService;
+    @Mock
+    private ModerationService moderationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final PostProperties postProperties = new PostProperties();
     private final PostPolicies postPolicies = new PostPolicies(List.of(new GeneralPostPolicy()));
@@ -85,7 +94,8 @@ class ShowroomPostServiceTest {
         me = Creator.builder().id(CREATOR_ID).showroomName("뷰티 소연").build();
         showroomPostService = new ShowroomPostService(
                 postRepository, postImageRepository, postSuspensionRepository, postAppealRepository,
-                creatorRepository, postPolicies, postNotificationService, postProperties);
+                creatorRepository, postPolicies, postNotificationService, postProperties, moderationService,
+                eventPublisher);
 
         given(creatorRepository.findByUser_Id(USER_ID)).willReturn(Optional.of(me));
         given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
@@ -127,6 +137,17 @@ class ShowroomPostServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.POST_EMPTY);
     }
 
+    @Test
+    @DisplayName("금칙어가 든 본문은 임시저장도 거절한다")
+    void rejectsBannedContent() {
+        given(moderationService.containsBannedWord(ModerationTarget.POST_CONTENT, "오늘의 욕설")).willReturn(true);
+
+        assertThatThrownBy(() -> showroomPostService.createPost(
+                USER_ID, request(PostSaveAction.DRAFT, "오늘의 욕설", List.of())))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.POST_CONTENT_INAPPROPRIATE);
+    }
+
     @Test
     @DisplayName("사진이 20장을 넘으면 거절한다")
     void rejectsTooManyImages() {
@@ -219,6 +240,22 @@ class ShowroomPostServiceTest {
         assertThat(post.getPurgeAt()).isAfter(post.getDeletedAt());
     }
 
+    /** 팔로잉 목록 순서는 게시중 게시물로만 정해진다 — 중지 중이던 글을 지워도 순서는 그대로다. */
+    @Test
+    @DisplayName("게시중 글을 지우면 쇼룸의 최신 게시 시각을 다시 계산하고, 중지 중 글은 건드리지 않는다")
+    void deleteRefreshesLastPublishedAtOnlyForPublished() {
+        Post published = publishedPost();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(published));
+        showroomPostService.deletePost(USER_ID, POST_ID);
+        verify(creatorRepository).refreshLastPublishedAt(me.getId());
+
+        Post suspended = publishedPost();
+        suspended.suspend();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(suspended));
+        showroomPostService.deletePost(USER_ID, POST_ID);
+        verify(creatorRepository, times(1)).refreshLastPublishedAt(me.getId());
+    }
+
     // ------------------------------------------------------------------ 이의 신청
 
     @Test
@@ -305,6 +342,16 @@ class ShowroomPostServiceTest {
             assertThat(post.getPublishedAt()).isNotNull();
         }
 
+        @Test
+        @DisplayName("게시하면 쇼룸의 최신 게시 시각을 갱신한다 — 팔로잉 목록 기본 정렬 키다")
+        void publishRefreshesLastPublishedAt() {
+            draft();
+
+            showroomPostService.publish(USER_ID, POST_ID);
+
+            verify(creatorRepository).refreshLastPublishedAt(me.getId());
+        }
+
         @Test
         @DisplayName("게시하면 팔로워에게 통지한다 — 통지가 나가는 유일한 시점이다")
         void publishNotifiesFollowers() {
@@ -317,6 +364,17 @@ class ShowroomPostServiceTest {
                     org.mockito.ArgumentMatchers.any());
         }
 
+        @Test
+        @DisplayName("게시하면 팔로잉 타임라인 팬아웃 이벤트를 낸다 — 게시 시각은 컬럼 정밀도로 잘려 있다")
+        void publishAnnouncesToTimelines() {
+            Post post = draft();
+
+            showroomPostService.publish(USER_ID, POST_ID);
+
+            verify(eventPublisher).publishEvent(new PostPublished(POST_ID, CREATOR_ID, post.getPublishedAt()));
+            assertThat(post.getPublishedAt().getNano() % 1_000).isZero();
+        }
+
         /** 두 번 게시되면 팔로워에게 같은 글 알림이 두 번 간다 — 되돌릴 수 없는 부작용이다. */
         @Test
         @DisplayName("이미 게시된 글은 다시 게시할 수 없다")
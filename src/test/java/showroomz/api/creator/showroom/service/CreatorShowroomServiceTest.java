@@ -14,6 +14,8 @@ import showroomz.api.creator.showroom.dto.ShowroomProfileUpdateRequest;
 import showroomz.domain.market.type.SnsType;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.moderation.service.ModerationService;
+import showroomz.domain.moderation.type.ModerationTarget;
 import showroomz.global.error.exception.BusinessException;
 import showroomz.global.error.exception.ErrorCode;
 
@@ -32,6 +34,8 @@ class CreatorShowroomServiceTest {
 
     @Mock
     private CreatorRepository creatorRepository;
+    @Mock
+    private ModerationService moderationService;
 
     @InjectMocks
     private CreatorShowroomService creatorShowroomService;
@@ -124,6 +128,18 @@ class CreatorShowroomServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SHOWROOM_NAME_FORMAT);
     }
 
+    @Test
+    @DisplayName("금칙어가 든 쇼룸명은 중복 확인 전에 거절한다")
+    void bannedShowroomNameIsRejected() {
+        given(creatorRepository.findByUser_Id(USER_ID)).willReturn(Optional.of(me));
+        given(moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, "공식 소연")).willReturn(true);
+
+        assertThatThrownBy(() -> creatorShowroomService.updateProfile(
+                USER_ID, request("공식 소연", null, null, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INAPPROPRIATE_SHOWROOM_NAME);
+    }
+
     @Test
     @DisplayName("https 스킴이 없는 인스타그램 URL은 형식 오류로 거절한다")
     void instagramUrlWithoutSchemeIsRejected() {
@@ -171,4 +187,16 @@ class CreatorShowroomServiceTest {
         assertThat(response.getIsAvailable()).isFalse();
         assertThat(response.getCode()).isEqualTo("DUPLICATE");
     }
+
+    @Test
+    @DisplayName("중복 확인은 금칙어가 든 이름을 PROFANITY로 알려준다")
+    void checkReportsProfanity() {
+        given(creatorRepository.findByUser_Id(USER_ID)).willReturn(Optional.of(me));
+        given(moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, "공식 소연")).willReturn(true);
+
+        ShowroomNameCheckResponse response = creatorShowroomService.checkShowroomName(USER_ID, "공식 소연");
+
+        assertThat(response.getIsAvailable()).isFalse();
+        assertThat(response.getCode()).isEqualTo("PROFANITY");
+    }
 }
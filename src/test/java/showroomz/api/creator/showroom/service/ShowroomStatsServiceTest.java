@@ -17,8 +17,8 @@ import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.member.creator.repository.CreatorFollowRepository;
 import showroomz.domain.member.creator.repository.CreatorRepository;
 import showroomz.domain.post.repository.PostRepository;
-import showroomz.domain.showroom.repository.ShowroomVisitRepository;
 import showroomz.domain.showroom.type.ShowroomVisitSource;
+import showroomz.domain.stats.service.ShowroomVisitStatsReader;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,7 +44,7 @@ class ShowroomStatsServiceTest {
     @Mock
     private CreatorFollowRepository creatorFollowRepository;
     @Mock
-    private ShowroomVisitRepository showroomVisitRepository;
+    private ShowroomVisitStatsReader showroomVisitStatsReader;
     @Mock
     private DeliveryAddressRepository deliveryAddressRepository;
     @Mock
@@ -62,10 +62,10 @@ class ShowroomStatsServiceTest {
         given(creatorFollowRepository.countByCreator_Id(CREATOR_ID)).willReturn(0L);
         given(creatorFollowRepository.countNewFollowers(anyLong(), any(), any())).willReturn(0L);
         given(creatorFollowRepository.findFollowerDemographics(CREATOR_ID)).willReturn(List.of());
-        given(showroomVisitRepository.countVisits(anyLong(), any(), any())).willReturn(0L);
-        given(showroomVisitRepository.countVisitors(anyLong(), any(), any())).willReturn(0L);
-        given(showroomVisitRepository.countVisitsBySource(anyLong(), any(), any())).willReturn(List.of());
-        given(showroomVisitRepository.countVisitsPerFollower(anyLong(), any(), any())).willReturn(List.of());
+        given(showroomVisitStatsReader.countVisits(anyLong(), any(), any())).willReturn(0L);
+        given(showroomVisitStatsReader.countVisitors(anyLong(), any(), any())).willReturn(0L);
+        given(showroomVisitStatsReader.countVisitsBySource(anyLong(), any(), any())).willReturn(List.of());
+        given(showroomVisitStatsReader.countVisitsPerFollower(anyLong(), any(), any())).willReturn(List.of());
         given(deliveryAddressRepository.findDefaultAddressesOfFollowers(CREATOR_ID)).willReturn(List.of());
         given(postRepository.findTopContentsByLikes(anyLong(), any(), any(), any())).willReturn(List.of());
         given(postRepository.findTopContentsByViews(anyLong(), any(), any(), any())).willReturn(List.of());
@@ -79,8 +79,8 @@ class ShowroomStatsServiceTest {
     @DisplayName("팔로우 전환율의 분모는 방문 횟수가 아니라 방문자 수다")
     void conversionRateUsesVisitorsNotVisits() {
         given(creatorFollowRepository.countNewFollowers(eq(CREATOR_ID), any(), any())).willReturn(42L);
-        given(showroomVisitRepository.countVisits(eq(CREATOR_ID), any(), any())).willReturn(3180L);
-        given(showroomVisitRepository.countVisitors(eq(CREATOR_ID), any(), any())).willReturn(2410L);
+        given(showroomVisitStatsReader.countVisits(eq(CREATOR_ID), any(), any())).willReturn(3180L);
+        given(showroomVisitStatsReader.countVisitors(eq(CREATOR_ID), any(), any())).willReturn(2410L);
 
         ShowroomStatsResponse response = stats();
 
@@ -180,9 +180,9 @@ class ShowroomStatsServiceTest {
     @Test
     @DisplayName("팔로워 행동은 방문 횟수 목록 하나로 평균·재방문율·팔로워 비중을 낸다")
     void behaviorStatsAreDerivedFromVisitCounts() {
-        given(showroomVisitRepository.countVisitors(eq(CREATOR_ID), any(), any())).willReturn(10L);
+        given(showroomVisitStatsReader.countVisitors(eq(CREATOR_ID), any(), any())).willReturn(10L);
         // 팔로워 4명이 각각 1·2·3·4회 방문 → 평균 2.5회, 2회 이상은 3명(75%), 방문자 10명 중 4명(40%)
-        given(showroomVisitRepository.countVisitsPerFollower(eq(CREATOR_ID), any(), any()))
+        given(showroomVisitStatsReader.countVisitsPerFollower(eq(CREATOR_ID), any(), any()))
                 .willReturn(List.of(1L, 2L, 3L, 4L));
 
         ShowroomStatsResponse response = stats();
@@ -195,7 +195,7 @@ class ShowroomStatsServiceTest {
     @Test
     @DisplayName("유입 경로는 방문이 많은 순으로 비율과 함께 내려간다")
     void sourcesAreRankedByVisits() {
-        given(showroomVisitRepository.countVisitsBySource(eq(CREATOR_ID), any(), any()))
+        given(showroomVisitStatsReader.countVisitsBySource(eq(CREATOR_ID), any(), any()))
                 .willReturn(List.of(
                         new Object[]{ShowroomVisitSource.APP_SEARCH, 20L},
                         new Object[]{ShowroomVisitSource.INSTAGRAM_LINK, 80L}));
@@ -1,5 +1,6 @@
 package showroomz.api.post;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -7,7 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import showroomz.api.app.auth.entity.ProviderType;
 import showroomz.api.app.auth.entity.RoleType;
 import showroomz.api.app.user.repository.UserRepository;
@@ -21,7 +25,10 @@ import showroomz.domain.post.entity.Post;
 import showroomz.domain.post.entity.PostSuspension;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
+import showroomz.domain.post.service.PostImpressionBuffer;
+import showroomz.domain.post.service.PostImpressionBuffer.PendingImpression;
 import showroomz.domain.post.type.PostSuspensionReason;
+import showroomz.global.config.properties.PostProperties;
 import showroomz.support.IntegrationTestSupport;
 
 import java.time.LocalDateTime;
@@ -29,6 +36,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -71,6 +79,12 @@ class PostPublishToFeedIntegrationTest extends IntegrationTestSupport {
     @Autowired
     private UserRepository userRepository;
     @Autowired
+    private PostImpressionBuffer postImpressionBuffer;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
     private CreatorRepository creatorRepository;
     @Autowired
     private CreatorFollowRepository creatorFollowRepository;
@@ -384,6 +398,8 @@ class PostPublishToFeedIntegrationTest extends IntegrationTestSupport {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(toJson(Map.of("postIds", List.of(postId)))))
                     .andExpect(status().isNoContent());
+            // 로그와 카운터는 쓰기 버퍼가 모아서 쓴다 — 주기를 기다리지 않고 바로 비운다
+            postImpressionBuffer.flush();
 
             mockMvc.perform(get(POST_DETAIL, postId).header(HttpHeaders.AUTHORIZATION, viewerToken))
                     .andExpect(jsonPath("$.impressionCount").value(1));
@@ -405,10 +421,44 @@ class PostPublishToFeedIntegrationTest extends IntegrationTestSupport {
                                 .content(body))
                         .andExpect(status().isNoContent());
             }
+            // 두 번째 노출은 첫 노출이 아직 버퍼에 있을 때 들어온다 — DB에 없어도 세션 안이면 접혀야 한다
+            postImpressionBuffer.flush();
 
             mockMvc.perform(get(POST_DETAIL, postId).header(HttpHeaders.AUTHORIZATION, viewerToken))
                     .andExpect(jsonPath("$.impressionCount").value(1));
         }
+
+        /**
+         * 큐가 차면 요청 스레드가 직접 플러시한다. 그 스레드는 노출 서비스의 읽기 전용 트랜잭션 안에 있으므로,
+         * 배치가 거기에 합류하면 쓰기가 거절되거나 요청이 롤백될 때 함께 사라진다 — 세션 판정용으로 잡아 둔 쌍은
+         * 이미 풀려 같은 노출을 다시 셀 수도 없다.
+         */
+        @Test
+        @DisplayName("읽기 전용 트랜잭션 안에서 큐가 차도 배압 플러시는 자기 트랜잭션으로 커밋된다")
+        void backpressureFlushCommitsOnItsOwn() throws Exception {
+            Long postId = createPost("배압을 받아 볼게요", "PUBLISH", List.of(image("a.jpg", 1080, 1350)));
+            PostProperties properties = new PostProperties();
+            properties.setImpressionBufferCapacity(2);
+            properties.setImpressionFlushIntervalMillis(0);
+            PostImpressionBuffer small = new PostImpressionBuffer(jdbc, transactionManager, properties,
+                    new SimpleMeterRegistry());
+            LocalDateTime now = LocalDateTime.now();
+            List<PendingImpression> impressions = List.of(
+                    new PendingImpression(postId, showroom.getId(), null, "d:1", now),
+                    new PendingImpression(postId, showroom.getId(), null, "d:2", now),
+                    new PendingImpression(postId, showroom.getId(), null, "d:3", now));
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                assertThat(small.offer(impressions, postIds -> List.of())).hasSize(3);
+                status.setRollbackOnly();
+            });
+
+            assertThat(impressionCount(postId)).isEqualTo(2);
+            small.flush();
+            assertThat(impressionCount(postId)).isEqualTo(3);
+        }
     }
 
     @Nested
@@ -453,6 +503,10 @@ class PostPublishToFeedIntegrationTest extends IntegrationTestSupport {
 
     // ------------------------------------------------------------------ 스텝
 
+    private Integer impressionCount(Long postId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM post_impression WHERE post_id = ?", Integer.class, postId);
+    }
+
     private Long createPost(String content, String action, List<Map<String, Object>> images) throws Exception {
         String body = mockMvc.perform(post(CREATOR_POSTS)
                         .header(HttpHeaders.AUTHORIZATION, creatorToken)
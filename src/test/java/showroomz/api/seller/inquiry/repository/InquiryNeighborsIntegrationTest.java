@@ -0,0 +1,136 @@
+package showroomz.api.seller.inquiry.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.admin.productinquiry.repository.AdminProductInquiryQueryRepository;
+import showroomz.api.admin.productinquiry.type.AdminProductInquiryStatusFilter;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.seller.inquiry.dto.SellerInquirySearchCondition;
+import showroomz.api.seller.inquiry.type.SellerInquirySort;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.common.Neighbors;
+import showroomz.domain.inquiry.entity.ProductInquiry;
+import showroomz.domain.inquiry.repository.ProductInquiryRepository;
+import showroomz.domain.inquiry.type.ProductInquiryDeleteReason;
+import showroomz.domain.inquiry.type.ProductInquiryType;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문의 상세의 이전/다음 — 키셋으로 읽은 앞·뒤가 목록 한 페이지에 전부 펼친 순서의 바로 앞·뒤와 같은지.
+ *
+ * <p>`답변대기 우선` 정렬은 묶음마다 정렬 방향이 달라 묶음 경계와 같은 시각의 id 순서가 어긋나기 쉽다. 같은
+ * 접수 시각인 문의를 일부러 섞어 둔다.
+ */
+class InquiryNeighborsIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SellerInquiryQueryRepository sellerInquiryQueryRepository;
+    @Autowired
+    private AdminProductInquiryQueryRepository adminProductInquiryQueryRepository;
+    @Autowired
+    private ProductInquiryRepository productInquiryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Market market;
+
+    @BeforeEach
+    void setUpInquiries() {
+        market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+
+        LocalDateTime now = LocalDateTime.now();
+        Users asker = userRepository.save(new Users("asker", "asker", "asker@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+
+        LocalDateTime base = now.minusDays(10).withNano(0);
+        for (int i = 0; i < 9; i++) {
+            ProductInquiry inquiry = new ProductInquiry("PQ-" + i, asker, product, ProductInquiryType.OPTION,
+                    "문의 " + i, false, null);
+            if (i % 3 == 1) {
+                inquiry.registerAnswer("답변 " + i);
+            } else if (i % 3 == 2 && i > 4) {
+                inquiry.requestDelete(ProductInquiryDeleteReason.ABUSE, null);
+            }
+            Long id = productInquiryRepository.save(inquiry).getId();
+            // 둘씩 같은 접수 시각 — id만으로 순서가 갈린다
+            jdbc.update("UPDATE product_inquiry SET created_at = ? WHERE product_inquiry_id = ?",
+                    base.plusHours(i / 2), id);
+        }
+    }
+
+    @Test
+    @DisplayName("파트너센터 — 답변대기 우선·최신순 모두 목록의 바로 앞·뒤와 같다")
+    void sellerNeighborsMatchListOrder() {
+        for (SellerInquirySort sort : SellerInquirySort.values()) {
+            SellerInquirySearchCondition condition = new SellerInquirySearchCondition();
+            condition.setSort(sort);
+            List<Long> listed = sellerInquiryQueryRepository
+                    .search(market.getId(), condition, PageRequest.of(0, 100))
+                    .map(ProductInquiry::getId)
+                    .getContent();
+
+            assertThat(listed).hasSize(9);
+            assertNeighborsMatch(listed, current ->
+                    sellerInquiryQueryRepository.findNeighbors(market.getId(), condition, current));
+        }
+    }
+
+    @Test
+    @DisplayName("어드민 상품 문의 — 탭마다 목록의 바로 앞·뒤와 같다")
+    void adminNeighborsMatchListOrder() {
+        for (AdminProductInquiryStatusFilter tab : AdminProductInquiryStatusFilter.values()) {
+            List<Long> listed = adminProductInquiryQueryRepository
+                    .search(tab, null, null, PageRequest.of(0, 100))
+                    .map(ProductInquiry::getId)
+                    .getContent();
+
+            assertNeighborsMatch(listed, current ->
+                    adminProductInquiryQueryRepository.findNeighbors(current, tab, null, null));
+        }
+    }
+
+    private void assertNeighborsMatch(List<Long> listed, Function<ProductInquiry, Neighbors> neighborsOf) {
+        for (int i = 0; i < listed.size(); i++) {
+            ProductInquiry current = productInquiryRepository.findById(listed.get(i)).orElseThrow();
+
+            Neighbors neighbors = neighborsOf.apply(current);
+
+            assertThat(neighbors.prevId()).as("prev of #%d", i).isEqualTo(i > 0 ? listed.get(i - 1) : null);
+            assertThat(neighbors.nextId()).as("next of #%d", i)
+                    .isEqualTo(i < listed.size() - 1 ? listed.get(i + 1) : null);
+        }
+    }
+}
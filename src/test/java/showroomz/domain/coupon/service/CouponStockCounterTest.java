@@ -0,0 +1,127 @@
+package showroomz.domain.coupon.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 수량 계수기 — 몇 스레드가 동시에 떼어 가도 처음 읽은 수량보다 많이 내주지 않고,
+ * 롤백된 발급의 한 장은 돌아오되 DB가 소진을 확인한 뒤에는 되살아나지 않는다.
+ */
+class CouponStockCounterTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CouponStockCounter counter = new CouponStockCounter(meterRegistry);
+
+    @Test
+    @DisplayName("동시에 떼어 가도 처음 읽은 수량까지만 내준다")
+    void concurrentReservationsNeverExceedStock() throws Exception {
+        int stock = 100;
+        int threads = 16;
+        int perThread = 50;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        if (counter.tryReserve(COUPON_ID, stock)) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(granted).hasValue(stock);
+        assertThat(counter.remaining(COUPON_ID)).isZero();
+        assertThat(meterRegistry.counter("coupon.stock.rejected").count())
+                .isEqualTo(threads * perThread - stock);
+    }
+
+    @Test
+    @DisplayName("방금 읽은 DB 수량이 더 작으면 계수기를 끌어내린다 — 다른 인스턴스가 가져간 몫")
+    void lowerDatabaseValueCapsCounter() {
+        counter.tryReserve(COUPON_ID, 10);
+
+        assertThat(counter.tryReserve(COUPON_ID, 2)).isTrue();
+        assertThat(counter.remaining(COUPON_ID)).isEqualTo(1);
+    }
+
+    /** 롤백으로 돌아온 한 장처럼 메모리가 DB보다 작은 것은 진행 중인 발급이라 그대로 둔다. */
+    @Test
+    @DisplayName("DB 수량이 더 커도 계수기를 올리지 않는다")
+    void higherDatabaseValueDoesNotRaiseCounter() {
+        counter.tryReserve(COUPON_ID, 2);
+        counter.tryReserve(COUPON_ID, 2);
+
+        assertThat(counter.tryReserve(COUPON_ID, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("발급 트랜잭션이 롤백되면 떼어 둔 한 장을 돌려준다")
+    void rollbackReturnsReservation() {
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> counter.tryReserve(COUPON_ID, 1));
+
+        assertThat(counter.remaining(COUPON_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 발급은 돌려주지 않는다")
+    void commitKeepsReservation() {
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> counter.tryReserve(COUPON_ID, 1));
+
+        assertThat(counter.remaining(COUPON_ID)).isZero();
+    }
+
+    /** DB가 거절한 발급도 롤백된다 — 그 한 장이 돌아오면 소진된 쿠폰이 다시 DB까지 요청을 보낸다. */
+    @Test
+    @DisplayName("DB가 소진을 확인한 뒤의 롤백은 수량을 되살리지 않는다")
+    void soldOutIsNotRevivedByRollback() {
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> {
+            counter.tryReserve(COUPON_ID, 5);
+            counter.markSoldOut(COUPON_ID);
+        });
+
+        assertThat(counter.remaining(COUPON_ID)).isZero();
+        assertThat(counter.tryReserve(COUPON_ID, 5)).isFalse();
+    }
+
+    private static void inTransaction(int outcome, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(outcome));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package showroomz.domain.history.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.domain.history.service.LoginHistoryBuffer.PendingLogin;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 이력 버퍼 — 모아서 정해진 크기로 쓰고, 큐가 차면 요청이 직접 비우며, 실패한 배치는 버리고 넘어간다.
+ */
+class LoginHistoryBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<PendingLogin>> batches = new ArrayList<>();
+
+    /** 주기 플러시는 끈다 — 플러시 시점을 테스트가 정한다 */
+    private LoginHistoryBuffer buffer(int capacity, int flushSize) {
+        return buffer(capacity, flushSize, batch -> batches.add(List.copyOf(batch)));
+    }
+
+    private LoginHistoryBuffer buffer(int capacity, int flushSize, Consumer<List<PendingLogin>> writer) {
+        return new LoginHistoryBuffer(capacity, flushSize, 0, writer, meterRegistry);
+    }
+
+    private static PendingLogin login(long userId) {
+        return new PendingLogin(userId, "203.0.113." + userId, "Mozilla/5.0 (iPhone)", NOW);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("받은 순서대로 플러시 크기만큼 묶어 쓴다")
+    void flushesInBatchesOfFlushSize() {
+        LoginHistoryBuffer buffer = buffer(100, 2);
+        for (long userId = 1; userId <= 5; userId++) {
+            buffer.offer(login(userId));
+        }
+
+        assertThat(buffer.flush()).isEqualTo(5);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.get(0)).containsExactly(login(1), login(2));
+        assertThat(buffer.size()).isZero();
+        assertThat(counter("auth.login-history.buffer.flushed")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("큐가 차면 넣으려던 요청이 직접 비우고 나서 넣는다")
+    void fullQueueFlushesOnCallerThread() {
+        LoginHistoryBuffer buffer = buffer(2, 10);
+        buffer.offer(login(1));
+        buffer.offer(login(2));
+
+        buffer.offer(login(3));
+
+        assertThat(batches).containsExactly(List.of(login(1), login(2)));
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(counter("auth.login-history.buffer.backpressure")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패한 배치는 버리고 다음 배치는 쓴다")
+    void failedBatchIsDropped() {
+        List<List<PendingLogin>> written = new ArrayList<>();
+        LoginHistoryBuffer buffer = buffer(100, 2, batch -> {
+            if (batch.contains(login(1))) {
+                throw new IllegalStateException("FK 위반");
+            }
+            written.add(List.copyOf(batch));
+        });
+        for (long userId = 1; userId <= 3; userId++) {
+            buffer.offer(login(userId));
+        }
+
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        assertThat(written).containsExactly(List.of(login(3)));
+        assertThat(counter("auth.login-history.buffer.dropped")).isEqualTo(2);
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+package showroomz.domain.history.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import showroomz.api.admin.history.DTO.LoginHistorySearchCondition;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.auth.service.AuthService;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.history.entity.LoginHistory;
+import showroomz.domain.history.repository.LoginHistoryRepository;
+import showroomz.domain.history.type.DeviceType;
+import showroomz.domain.history.service.LoginHistoryBuffer.PendingLogin;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.global.config.properties.AppProperties;
+import showroomz.global.service.GeoLocationService;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 이력 — 로그인은 큐에만 넣고, 플러시가 디바이스를 판정해 쓰며, 어드민 검색은 그 컬럼으로 거른다.
+ */
+class LoginHistoryIntegrationTest extends IntegrationTestSupport {
+
+    private static final String ANDROID = "Mozilla/5.0 (Linux; Android 14; SM-S921N) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/129.0.0.0 Mobile Safari/537.36";
+    private static final String IPHONE = "Mozilla/5.0 (iPhone; CPU iPhone OS 18_0 like Mac OS X) "
+            + "AppleWebKit/605.1.15 (KHTML, like Gecko) Version/18.0 Mobile/15E148 Safari/604.1";
+    private static final String EDGE = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/129.0.0.0 Safari/537.36 Edg/129.0.0.0";
+    private static final String CHROME = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/129.0.0.0 Safari/537.36";
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private LoginHistoryBuffer loginHistoryBuffer;
+    @Autowired
+    private LoginHistoryRepository loginHistoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private GeoLocationService geoLocationService;
+
+    @Test
+    @DisplayName("로그인은 큐에만 넣고, 플러시가 디바이스를 판정해 한꺼번에 쓴다")
+    void loginsAreRecordedOnFlush() {
+        Users user = user();
+        for (String userAgent : new String[]{ANDROID, IPHONE, EDGE, CHROME, "curl/8.4.0"}) {
+            authService.saveLoginHistory(user.getId(), "127.0.0.1", userAgent);
+        }
+        assertThat(loginHistoryRepository.count()).isZero();
+
+        assertThat(loginHistoryBuffer.flush()).isEqualTo(5);
+
+        assertThat(jdbc.queryForList("SELECT device_type FROM login_history ORDER BY id", String.class))
+                .containsExactly("ANDROID", "IPHONE", "DESKTOP_EDGE", "DESKTOP_CHROME", "UNKNOWN");
+        assertThat(jdbc.queryForList("SELECT DISTINCT country FROM login_history", String.class))
+                .containsExactly("Unknown");
+    }
+
+    @Test
+    @DisplayName("어드민 검색은 적재 때 판정한 디바이스로 거른다 — 엣지는 크롬으로 섞이지 않는다")
+    void adminSearchFiltersByStoredDeviceType() {
+        Users user = user();
+        authService.saveLoginHistory(user.getId(), "127.0.0.1", EDGE);
+        authService.saveLoginHistory(user.getId(), "127.0.0.1", CHROME);
+        authService.saveLoginHistory(user.getId(), "127.0.0.1", ANDROID);
+        loginHistoryBuffer.flush();
+
+        assertThat(search(DeviceType.DESKTOP_CHROME)).extracting(LoginHistory::getUserAgent).containsExactly(CHROME);
+        assertThat(search(DeviceType.DESKTOP_EDGE)).extracting(LoginHistory::getUserAgent).containsExactly(EDGE);
+        assertThat(search(null)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("배압 플러시는 로그인 요청의 트랜잭션과 따로 커밋한다 — 그 로그인이 롤백돼도 다른 회원 이력은 남는다")
+    void backpressureFlushCommitsOnItsOwn() {
+        Users user = user();
+        AppProperties properties = new AppProperties();
+        properties.getAuth().setLoginHistoryBufferCapacity(2);
+        properties.getAuth().setLoginHistoryFlushIntervalMillis(0);
+        LoginHistoryBuffer small = new LoginHistoryBuffer(jdbc, transactionManager, geoLocationService,
+                properties, new SimpleMeterRegistry());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String userAgent : new String[]{ANDROID, IPHONE, EDGE}) {
+                small.offer(new PendingLogin(user.getId(), "127.0.0.1", userAgent, LocalDateTime.now()));
+            }
+            status.setRollbackOnly();
+        });
+
+        assertThat(loginHistoryRepository.count()).isEqualTo(2);
+        assertThat(small.flush()).isEqualTo(1);
+        assertThat(loginHistoryRepository.count()).isEqualTo(3);
+    }
+
+    private List<LoginHistory> search(DeviceType deviceType) {
+        LoginHistorySearchCondition condition = new LoginHistorySearchCondition();
+        condition.setDeviceType(deviceType);
+        return loginHistoryRepository.search(condition, PageRequest.of(0, 20)).getContent();
+    }
+
+    private Users user() {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users("login-user", "로그인", "login-user@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+    }
+}
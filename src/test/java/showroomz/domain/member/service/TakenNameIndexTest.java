@@ -0,0 +1,45 @@
+package showroomz.domain.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.global.utils.ShowroomAddressGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채우기 전의 닉네임·쇼룸 주소 필터 — 기동 직후나 첫 채우기가 실패한 동안에도 가입이 막히지 않아야 한다.
+ */
+class TakenNameIndexTest {
+
+    private final TakenNameIndex index =
+            new TakenNameIndex(mock(JdbcTemplate.class), 0, 0.01, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("채우기 전 닉네임 확인은 DB로 넘기고(있을 수 있다), 쇼룸 주소 후보는 건너뛰지 않는다")
+    void unseededIndexDefersToDatabase() {
+        assertThat(index.mightContainNickname("소연")).isTrue();
+        assertThat(index.probablyTakenShowroomAddress("sr2k4m6n8p")).isFalse();
+    }
+
+    @Test
+    @DisplayName("채우기 전에도 쇼룸 주소 생성은 끝난다 — 랜덤 후보를 DB로 확인해 첫 빈 값을 쓴다")
+    void addressGenerationTerminatesWhileUnseeded() {
+        List<String> asked = new ArrayList<>();
+
+        String handle = ShowroomAddressGenerator.generateUnique("뷰티 소연",
+                candidate -> {
+                    asked.add(candidate);
+                    return false;
+                },
+                index::probablyTakenShowroomAddress);
+
+        assertThat(handle).startsWith("sr");
+        assertThat(asked).containsExactly(handle);
+    }
+}
@@ -0,0 +1,88 @@
+package showroomz.domain.moderation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import showroomz.support.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금칙어 검사 — 옛 방식(호출마다 단어 배열을 만들고 단어마다 소문자화 + contains)과 한 번 컴파일한
+ * 오토마톤을 같은 입력으로 비교한다. 옛 방식은 단어 수 × 글 길이에 비례하고 오토마톤은 글 길이에만
+ * 비례하므로, 운영 목록이 늘어날 때의 차이를 보려고 단어 1,000개 목록으로 잰다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*BannedWordMatcherBenchmark'}
+ */
+@Tag("benchmark")
+class BannedWordMatcherBenchmark {
+
+    private static final int WORD_COUNT = 1_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final List<String> words = randomWords(WORD_COUNT, new Random(42));
+    private final BannedWordMatcher matcher = BannedWordMatcher.compile(words);
+
+    @Test
+    @DisplayName("닉네임 길이 입력 — 옛 루프 대비 컴파일한 매처")
+    void compareOnNickname() {
+        compare("수분가득토너러버", "nickname");
+    }
+
+    @Test
+    @DisplayName("게시글 길이(2,000자) 입력 — 옛 루프 대비 컴파일한 매처")
+    void compareOnPostContent() {
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 2_000) {
+            content.append("오늘 산 수분 진정 토너 후기입니다. 향은 은은하고 흡수가 빠릅니다. ");
+        }
+        compare(content.toString(), "post");
+    }
+
+    private void compare(String text, String label) {
+        // 통과하는 글이 최악의 경우다 — 두 방식 모두 끝까지 훑는다
+        assertThat(matcher.matches(text)).isFalse();
+        assertThat(legacyContains(text)).isFalse();
+
+        Benchmark.Result legacy = Benchmark.measure("legacy loop (" + label + ")", WARMUP, ITERATIONS,
+                () -> legacyContains(text));
+        Benchmark.Result compiled = Benchmark.measure("aho-corasick (" + label + ")", WARMUP, ITERATIONS,
+                () -> matcher.matches(text));
+
+        System.out.printf("[benchmark] compiled matcher speedup over legacy (%s): %.1fx%n",
+                label, legacy.meanMicros() / compiled.meanMicros());
+        assertThat(compiled.meanMicros()).isLessThan(legacy.meanMicros());
+    }
+
+    /** 변경 전 {@code UserService#containsInappropriateWord}가 하던 일 — 목록 복사와 소문자화를 매번 한다. */
+    private boolean legacyContains(String text) {
+        String[] inappropriateWords = words.toArray(new String[0]);
+        String lower = text.toLowerCase();
+        for (String word : inappropriateWords) {
+            if (lower.contains(word.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 실제 글에 우연히 걸리지 않도록 드문 음절 셋에서 뽑는다 */
+    private static List<String> randomWords(int count, Random random) {
+        String syllables = "꿹뷁퉯쀍뙓쒧";
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                word.append(syllables.charAt(random.nextInt(syllables.length())));
+            }
+            result.add(word.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package showroomz.domain.moderation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BannedWordMatcherTest {
+
+    @Nested
+    @DisplayName("정규화")
+    class Normalization {
+
+        @Test
+        @DisplayName("음절은 호환 자모로 풀리고 겹모음·겹받침은 홑자모로 나뉜다")
+        void decomposesSyllables() {
+            assertThat(ModerationText.normalizeWord("욕설")).isEqualTo("ㅇㅛㄱㅅㅓㄹ");
+            assertThat(ModerationText.normalizeWord("괜찮")).isEqualTo("ㄱㅗㅐㄴㅊㅏㄴㅎ");
+        }
+
+        @Test
+        @DisplayName("전각 영문은 보통 영문 소문자로, 공백·기호는 지워진다")
+        void foldsWidthCaseAndSymbols() {
+            assertThat(ModerationText.normalizeWord("Ｆ u.C-k!")).isEqualTo("fuck");
+        }
+
+        @Test
+        @DisplayName("음절에서 나온 모음·받침 자리는 일치 시작점이 아니다")
+        void marksSyllableStarts() {
+            ModerationText.Normalized normalized = ModerationText.normalize("각a");
+
+            assertThat(normalized.toString()).isEqualTo("ㄱㅏㄱa");
+            assertThat(normalized.starts()).startsWith(true, false, false, true);
+        }
+    }
+
+    @Nested
+    @DisplayName("일치")
+    class Matching {
+
+        private final BannedWordMatcher matcher = BannedWordMatcher.compile(List.of("욕설", "admin", "ㅅㅂ"));
+
+        @Test
+        @DisplayName("단어가 글 가운데 있어도 찾는다")
+        void findsEmbeddedWord() {
+            assertThat(matcher.matches("안녕하세요 욕설입니다")).isTrue();
+            assertThat(matcher.matches("SuperAdmin123")).isTrue();
+        }
+
+        @Test
+        @DisplayName("자모로 나눠 치거나 기호를 끼워 넣어도 찾는다")
+        void findsEvasiveSpellings() {
+            assertThat(matcher.matches("ㅇㅛㄱㅅㅓㄹ")).isTrue();
+            assertThat(matcher.matches("욕ㅅ ㅓㄹ")).isTrue();
+            assertThat(matcher.matches("a.d.m.i.n")).isTrue();
+        }
+
+        @Test
+        @DisplayName("앞 음절 받침에서 시작하는 일치는 버린다")
+        void ignoresMatchStartingInsideSyllable() {
+            // "맛보기"를 풀면 ㅁㅏㅅㅂㅗ… — 받침 ㅅ과 다음 초성 ㅂ이 붙지만 자모로 친 "ㅅㅂ"이 아니다
+            assertThat(matcher.matches("맛보기")).isFalse();
+            assertThat(matcher.matches("아 ㅅㅂ")).isTrue();
+        }
+
+        @Test
+        @DisplayName("한 단어가 다른 단어의 접미사여도 실패 링크를 따라 찾는다")
+        void findsSuffixWordsThroughFailureLinks() {
+            BannedWordMatcher overlapping = BannedWordMatcher.compile(List.of("abcd", "bc"));
+
+            assertThat(overlapping.matches("xabcx")).isTrue();
+            assertThat(overlapping.matches("xabx")).isFalse();
+        }
+
+        @Test
+        @DisplayName("금칙어가 없는 글은 통과한다")
+        void passesCleanText() {
+            assertThat(matcher.matches("수분 진정 토너 후기")).isFalse();
+            assertThat(matcher.matches("")).isFalse();
+        }
+
+        @Test
+        @DisplayName("정규화해서 비는 단어는 버리고, 같은 단어는 하나로 센다")
+        void dropsEmptyAndDuplicateWords() {
+            BannedWordMatcher compiled = BannedWordMatcher.compile(List.of("!!", "Admin", "ADMIN", "admin"));
+
+            assertThat(compiled.wordCount()).isEqualTo(1);
+            assertThat(BannedWordMatcher.empty().matches("admin")).isFalse();
+        }
+    }
+}
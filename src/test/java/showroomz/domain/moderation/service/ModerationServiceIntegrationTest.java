@@ -0,0 +1,77 @@
+package showroomz.domain.moderation.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import showroomz.domain.moderation.entity.BannedWord;
+import showroomz.domain.moderation.repository.BannedWordRepository;
+import showroomz.domain.moderation.type.BannedWordScope;
+import showroomz.domain.moderation.type.ModerationTarget;
+import showroomz.support.IntegrationTestSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금칙어 엔진 — 설정 목록과 {@code banned_word}를 합쳐 컴파일하고, 테이블이 바뀌면 재기동 없이 다시 컴파일한다.
+ *
+ * <p>엔진은 컨텍스트에 하나라 테스트가 더한 단어가 다음 테스트로 새지 않도록 끝날 때마다 다시 읽는다
+ * (테이블은 테스트마다 비워진다).
+ */
+class ModerationServiceIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ModerationService moderationService;
+    @Autowired
+    private BannedWordRepository bannedWordRepository;
+
+    @AfterEach
+    void resetSnapshot() {
+        moderationService.reload();
+    }
+
+    @Test
+    @DisplayName("테이블이 비어 있어도 설정의 기본 목록으로 막는다")
+    void configuredWordsApplyWithoutRows() {
+        assertThat(moderationService.containsBannedWord(ModerationTarget.NICKNAME, "공식소연")).isTrue();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.POST_CONTENT, "f*u*c*k")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이름 전용 단어는 본문·문의에서는 걸지 않는다")
+    void nameOnlyWordsSkipTexts() {
+        assertThat(moderationService.containsBannedWord(ModerationTarget.SHOWROOM_NAME, "hello beauty")).isTrue();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.POST_CONTENT, "hello beauty")).isFalse();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.PRODUCT_INQUIRY, "테스트 해봤어요")).isFalse();
+    }
+
+    @Test
+    @DisplayName("운영자가 더한 단어는 변경 확인 한 번으로 걸리고, 바뀐 게 없으면 다시 읽지 않는다")
+    void addedWordIsPickedUpOnReloadCheck() {
+        assertThat(moderationService.reloadIfChanged()).isFalse();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.PRODUCT_INQUIRY, "짝퉁 아닌가요")).isFalse();
+
+        bannedWordRepository.save(new BannedWord("짝퉁", BannedWordScope.ALL));
+
+        assertThat(moderationService.reloadIfChanged()).isTrue();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.PRODUCT_INQUIRY, "짝 퉁 아닌가요")).isTrue();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.NICKNAME, "짝퉁왕")).isTrue();
+        assertThat(moderationService.reloadIfChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성으로 내린 단어는 다음 확인부터 풀린다")
+    void deactivatedWordIsReleased() {
+        BannedWord word = bannedWordRepository.save(new BannedWord("짝퉁", BannedWordScope.NAME));
+        moderationService.reloadIfChanged();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.NICKNAME, "짝퉁왕")).isTrue();
+
+        inTransaction(() -> {
+            bannedWordRepository.findById(word.getId()).orElseThrow().deactivate();
+            return null;
+        });
+
+        assertThat(moderationService.reloadIfChanged()).isTrue();
+        assertThat(moderationService.containsBannedWord(ModerationTarget.NICKNAME, "짝퉁왕")).isFalse();
+    }
+}
@@ -0,0 +1,178 @@
+package showroomz.domain.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.service.StockReservationService.HoldLine;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.global.config.properties.OrderProperties;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 옵션 재고 예약의 지연과 처리량 — 예약 한 건, 품절 옵션에 대한 거절, 품절 직후 몰린 요청의 처리량.
+ *
+ * <p>거절 경로는 메모리 판정이 최근 재고를 믿을 때(DB에 닿지 않음)와 믿지 않을 때({@code stock-gate-recheck-millis=0},
+ * 매번 옵션을 읽음)를 나란히 잰다. 성공 경로는 매번 롤백해 같은 재고로 반복한다. H2라 절대값은 참고용이고,
+ * "메모리 거절이 DB 거절보다 느리지 않다"만 단언한다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*StockReservationBenchmark'}
+ */
+@Tag("benchmark")
+class StockReservationBenchmark extends IntegrationTestSupport {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final int THREADS = 8;
+    private static final int BURST_PER_THREAD = 500;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private OrderProperties orderProperties;
+    @Autowired
+    private UserOrderStatsService userOrderStatsService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Users buyer;
+    private Long inStock;
+    private Long soldOut;
+    private long recheckMillis;
+
+    @BeforeEach
+    void seed() {
+        recheckMillis = orderProperties.getStockGateRecheckMillis();
+        LocalDateTime now = LocalDateTime.now();
+        buyer = userRepository.save(new Users("stock-benchmark", "재고측정", "stock-benchmark@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        inStock = productVariantRepository.save(new ProductVariant(product, "30ml", 38000, 24900, 1_000_000, true))
+                .getVariantId();
+        soldOut = productVariantRepository.save(new ProductVariant(product, "50ml", 52000, 34900, 0, false))
+                .getVariantId();
+    }
+
+    @AfterEach
+    void restoreRecheck() {
+        orderProperties.setStockGateRecheckMillis(recheckMillis);
+    }
+
+    @Test
+    @DisplayName("예약 한 건·품절 거절(메모리/DB)·품절 직후 8스레드 몰림의 지연과 처리량")
+    void measureReservationPaths() throws Exception {
+        StockReservationService service = instance();
+        List<HoldLine> oneOfInStock = List.of(new HoldLine(inStock, 1));
+        List<HoldLine> oneOfSoldOut = List.of(new HoldLine(soldOut, 1));
+
+        Benchmark.measure("hold 1 line (rolled back)", WARMUP, ITERATIONS,
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    service.hold(buyer, oneOfInStock, LocalDateTime.now());
+                    status.setRollbackOnly();
+                }));
+
+        orderProperties.setStockGateRecheckMillis(60_000);
+        Benchmark.Result shedInMemory = Benchmark.measure("sold out, gate sheds", WARMUP, ITERATIONS,
+                () -> rejected(service, oneOfSoldOut));
+        orderProperties.setStockGateRecheckMillis(0);
+        Benchmark.Result shedByDatabase = Benchmark.measure("sold out, every request reads DB", WARMUP, ITERATIONS,
+                () -> rejected(service, oneOfSoldOut));
+
+        orderProperties.setStockGateRecheckMillis(60_000);
+        double gated = burstPerSecond(instance(), oneOfSoldOut);
+        orderProperties.setStockGateRecheckMillis(0);
+        double ungated = burstPerSecond(instance(), oneOfSoldOut);
+        System.out.printf(Locale.ROOT, "[benchmark] sold-out burst (%d threads) — gate: %,.0f req/s, DB: %,.0f req/s%n",
+                THREADS, gated, ungated);
+
+        assertThat(shedInMemory.p50Micros()).isLessThanOrEqualTo(shedByDatabase.p50Micros());
+    }
+
+    private StockReservationService instance() {
+        return new StockReservationService(productVariantRepository, orderRepository, orderProductRepository,
+                new VariantStockGate(orderProperties, new SimpleMeterRegistry()), orderProperties,
+                userOrderStatsService, transactionTemplate);
+    }
+
+    private void rejected(StockReservationService service, List<HoldLine> lines) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> service.hold(buyer, lines, LocalDateTime.now()));
+        } catch (BusinessException expected) {
+            // 품절 — 재는 것은 거절까지 걸린 시간이다
+        }
+    }
+
+    private double burstPerSecond(StockReservationService service, List<HoldLine> lines) throws Exception {
+        rejected(service, lines);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < BURST_PER_THREAD; i++) {
+                        rejected(service, lines);
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+            double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+            return THREADS * BURST_PER_THREAD / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package showroomz.domain.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.repository.OrderProductRepository;
+import showroomz.domain.order.repository.OrderRepository;
+import showroomz.domain.order.service.StockReservationService.HoldLine;
+import showroomz.domain.order.service.StockReservationService.StockHold;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.global.config.properties.OrderProperties;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 옵션 재고 예약 — 주문이 몰려도 재고를 넘겨 잡지 않고, 확정·반환·만료가 몇 번 겹쳐 와도 재고가 한 번만 움직인다.
+ *
+ * <p>동시 예약은 쿠폰 동시 발급 테스트와 같은 방식으로 인스턴스 둘을 흉내 낸다: 메모리 판정이 다른 서비스 둘이
+ * 같은 DB를 나눠 쓰고, 트랜잭션 경계는 {@code transactionTemplate}으로 건다.
+ */
+class StockReservationIntegrationTest extends IntegrationTestSupport {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private OrderProperties orderProperties;
+    @Autowired
+    private UserOrderStatsService userOrderStatsService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Product product;
+
+    @BeforeEach
+    void setUpProduct() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+
+        product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        product.setThumbnailUrl("https://cdn.test/cica.jpg");
+        productRepository.save(product);
+    }
+
+    private StockReservationService instance() {
+        return new StockReservationService(productVariantRepository, orderRepository, orderProductRepository,
+                new VariantStockGate(orderProperties, new SimpleMeterRegistry()), orderProperties,
+                userOrderStatsService, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("두 인스턴스에 주문이 몰려도 잡힌 재고는 옵션 재고를 넘지 않는다")
+    void concurrentHoldsNeverOversell() throws Exception {
+        Long variantId = variant("단품", STOCK);
+        int threads = 8;
+        int buyersPerThread = 5;
+        List<Users> buyers = new ArrayList<>();
+        for (int i = 0; i < threads * buyersPerThread; i++) {
+            buyers.add(buyer("buyer-" + i));
+        }
+        List<StockReservationService> instances = List.of(instance(), instance());
+
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                StockReservationService service = instances.get(t % instances.size());
+                List<Users> mine = buyers.subList(t * buyersPerThread, (t + 1) * buyersPerThread);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (Users buyer : mine) {
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> service.hold(
+                                    buyer, List.of(new HoldLine(variantId, 1)), LocalDateTime.now()));
+                            held.incrementAndGet();
+                        } catch (BusinessException e) {
+                            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(held).hasValue(STOCK);
+        assertThat(rejected).hasValue(threads * buyersPerThread - STOCK);
+        assertThat(stockOf(variantId)).isZero();
+        assertThat(heldQuantity(variantId)).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("한 옵션이라도 모자라면 주문 전체를 거절하고 앞서 뺀 옵션 재고도 그대로다")
+    void holdIsAllOrNothing() {
+        Long plenty = variant("50ml", 5);
+        Long scarce = variant("100ml", 1);
+
+        assertThatThrownBy(() -> stockReservationService.hold(buyer("buyer"),
+                List.of(new HoldLine(plenty, 2), new HoldLine(scarce, 2)), LocalDateTime.now()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_STOCK);
+
+        assertThat(stockOf(plenty)).isEqualTo(5);
+        assertThat(stockOf(scarce)).isEqualTo(1);
+        assertThat(orderProductRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 옵션 여러 줄은 한 줄로 합쳐 잡고, 주문 상품에 상품 정보를 옮겨 적는다")
+    void duplicateLinesAreMerged() {
+        Long variantId = variant("단품", STOCK);
+
+        StockHold hold = stockReservationService.hold(buyer("buyer"),
+                List.of(new HoldLine(variantId, 2), new HoldLine(variantId, 3)), LocalDateTime.now());
+
+        assertThat(hold.orderProductIds()).hasSize(1);
+        assertThat(stockOf(variantId)).isEqualTo(STOCK - 5);
+        assertThat(jdbc.queryForMap(
+                "SELECT product_name, option_name, quantity, price, image_url FROM order_product WHERE order_product_id = ?",
+                hold.orderProductIds().get(0)))
+                .containsEntry("product_name", "시카 리페어 앰플 30ml")
+                .containsEntry("option_name", "단품")
+                .containsEntry("quantity", 5)
+                .containsEntry("price", 24900)
+                .containsEntry("image_url", "https://cdn.test/cica.jpg");
+    }
+
+    @Test
+    @DisplayName("확정은 몇 번 와도 한 번이고, 확정된 재고는 취소 요청이 와도 돌아오지 않는다")
+    void commitIsIdempotent() {
+        Long variantId = variant("단품", STOCK);
+        LocalDateTime now = LocalDateTime.now();
+        StockHold hold = stockReservationService.hold(buyer("buyer"), List.of(new HoldLine(variantId, 2)), now);
+
+        stockReservationService.commit(hold.orderId(), now.plusSeconds(1));
+        stockReservationService.commit(hold.orderId(), now.plusSeconds(2));
+
+        assertThat(stockReservationService.release(hold.orderId(), now.plusSeconds(3))).isZero();
+        assertThat(holdStatusOf(hold)).isEqualTo("COMMITTED");
+        assertThat(stockOf(variantId)).isEqualTo(STOCK - 2);
+    }
+
+    @Test
+    @DisplayName("반환은 재고를 한 번만 돌려주고, 돌려준 예약은 확정할 수 없다")
+    void releaseIsIdempotent() {
+        Long variantId = variant("단품", STOCK);
+        LocalDateTime now = LocalDateTime.now();
+        StockHold hold = stockReservationService.hold(buyer("buyer"), List.of(new HoldLine(variantId, 3)), now);
+
+        assertThat(stockReservationService.release(hold.orderId(), now.plusSeconds(1))).isEqualTo(1);
+        assertThat(stockReservationService.release(hold.orderId(), now.plusSeconds(2))).isZero();
+
+        assertThat(stockOf(variantId)).isEqualTo(STOCK);
+        assertThat(holdStatusOf(hold)).isEqualTo("RELEASED");
+        assertThatThrownBy(() -> stockReservationService.commit(hold.orderId(), now.plusSeconds(3)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_HOLD_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("기한이 지난 예약만 만료 배치가 돌려주고, 만료된 예약은 확정할 수 없다")
+    void expiredHoldsAreSwept() {
+        Long variantId = variant("단품", STOCK);
+        LocalDateTime now = LocalDateTime.now();
+        StockHold stale = stockReservationService.hold(buyer("stale"), List.of(new HoldLine(variantId, 4)), now);
+        StockHold fresh = stockReservationService.hold(buyer("fresh"), List.of(new HoldLine(variantId, 1)),
+                now.plusSeconds(60));
+        LocalDateTime afterTtl = stale.heldUntil().plusSeconds(1);
+
+        assertThat(stockReservationService.expireHolds(afterTtl)).isEqualTo(1);
+        assertThat(stockReservationService.expireHolds(afterTtl)).isZero();
+
+        assertThat(stockOf(variantId)).isEqualTo(STOCK - 1);
+        assertThat(holdStatusOf(stale)).isEqualTo("EXPIRED");
+        assertThat(holdStatusOf(fresh)).isEqualTo("HELD");
+        assertThat(jdbc.queryForObject("SELECT status FROM order_product WHERE order_product_id = ?",
+                String.class, stale.orderProductIds().get(0))).isEqualTo("CANCELLED");
+        assertThatThrownBy(() -> stockReservationService.commit(stale.orderId(), afterTtl))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_HOLD_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("만료 배치는 주문마다 커밋한다 — 뒤 주문의 옵션이 잠겨 있어도 앞 주문이 돌려준 재고는 남는다")
+    void expiryCommitsOrderByOrder() throws Exception {
+        Long first = variant("50ml", STOCK);
+        Long second = variant("100ml", STOCK);
+        LocalDateTime now = LocalDateTime.now();
+        StockHold early = stockReservationService.hold(buyer("early"), List.of(new HoldLine(first, 2)), now);
+        StockHold late = stockReservationService.hold(buyer("late"), List.of(new HoldLine(second, 3)), now);
+        LocalDateTime afterTtl = late.heldUntil().plusSeconds(1);
+
+        // 다른 트랜잭션이 뒤 주문의 옵션 행을 쥐고 있다 — 배치는 거기서 잠금 대기 끝에 실패한다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbc.update("UPDATE product_variant SET stock = stock WHERE variant_id = ?", second);
+                locked.countDown();
+                try {
+                    done.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> stockReservationService.expireHolds(afterTtl))
+                    .isInstanceOf(RuntimeException.class);
+            assertThat(holdStatusOf(early)).isEqualTo("EXPIRED");
+            assertThat(stockOf(first)).isEqualTo(STOCK);
+            assertThat(holdStatusOf(late)).isEqualTo("HELD");
+
+            done.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            done.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(stockReservationService.expireHolds(afterTtl)).isEqualTo(1);
+        assertThat(holdStatusOf(late)).isEqualTo("EXPIRED");
+        assertThat(stockOf(second)).isEqualTo(STOCK);
+    }
+
+    private Long variant(String name, int stock) {
+        return productVariantRepository.save(new ProductVariant(product, name, 38000, 24900, stock, true))
+                .getVariantId();
+    }
+
+    private Users buyer(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users(username, username, username + "@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+    }
+
+    private Integer stockOf(Long variantId) {
+        return jdbc.queryForObject("SELECT stock FROM product_variant WHERE variant_id = ?", Integer.class, variantId);
+    }
+
+    private Integer heldQuantity(Long variantId) {
+        return jdbc.queryForObject("SELECT COALESCE(SUM(quantity), 0) FROM order_product "
+                + "WHERE variant_id = ? AND stock_hold_status = 'HELD'", Integer.class, variantId);
+    }
+
+    private String holdStatusOf(StockHold hold) {
+        return jdbc.queryForObject("SELECT stock_hold_status FROM order_product WHERE order_product_id = ?",
+                String.class, hold.orderProductIds().get(0));
+    }
+}
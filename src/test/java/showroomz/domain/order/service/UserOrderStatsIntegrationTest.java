@@ -0,0 +1,139 @@
+package showroomz.domain.order.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.common.RebuildChunk;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.entity.UserOrderStats;
+import showroomz.domain.order.repository.UserOrderStatsRepository;
+import showroomz.domain.order.service.StockReservationService.HoldLine;
+import showroomz.domain.order.service.StockReservationService.StockHold;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 주문 요약(user_order_stats) — 주문이 생기고 통째로 취소될 때 같은 트랜잭션에서 요약이 따라가는지,
+ * 재집계가 어긋난 행을 원천으로 되돌리는지.
+ */
+class UserOrderStatsIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private UserOrderStatsService userOrderStatsService;
+    @Autowired
+    private UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Long single;
+    private Long refill;
+    private Users buyer;
+
+    @BeforeEach
+    void setUpProduct() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        single = productVariantRepository.save(new ProductVariant(product, "단품", 38000, 24900, 100, true))
+                .getVariantId();
+        refill = productVariantRepository.save(new ProductVariant(product, "리필", 28000, 18900, 100, false))
+                .getVariantId();
+
+        LocalDateTime now = LocalDateTime.now();
+        buyer = userRepository.save(new Users("buyer", "buyer", "buyer@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+    }
+
+    @Test
+    @DisplayName("주문마다 하나씩 늘고, 마지막 주문 상품까지 취소된 주문만 뺀다")
+    void placementAndFullCancellationMoveTheCount() {
+        LocalDateTime first = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime second = first.plusMinutes(5);
+        StockHold committed = stockReservationService.hold(buyer, List.of(new HoldLine(single, 1)), first);
+        stockReservationService.commit(committed.orderId(), first);
+        StockHold abandoned = stockReservationService.hold(buyer,
+                List.of(new HoldLine(single, 1), new HoldLine(refill, 1)), second);
+
+        assertThat(stats().getOrderCount()).isEqualTo(2);
+        assertThat(stats().getLastOrderedAt()).isEqualTo(second);
+
+        stockReservationService.release(abandoned.orderId(), second.plusMinutes(1));
+        stockReservationService.release(abandoned.orderId(), second.plusMinutes(2));
+        // 확정된 주문은 취소 요청이 와도 돌려줄 재고가 없어 그대로 센다
+        stockReservationService.release(committed.orderId(), second.plusMinutes(3));
+
+        assertThat(stats().getOrderCount()).isEqualTo(1);
+        assertThat(stats().getLastOrderedAt()).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("만료로 통째로 돌아간 주문도 뺀다")
+    void expiredOrderIsRemoved() {
+        LocalDateTime now = LocalDateTime.now();
+        StockHold hold = stockReservationService.hold(buyer, List.of(new HoldLine(single, 1)), now);
+
+        stockReservationService.expireHolds(hold.heldUntil().plusSeconds(1));
+
+        assertThat(stats().getOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재집계는 원천과 어긋난 행만 고치고, 없던 행은 만든다")
+    void rebuildRepairsDriftAndCreatesMissingRows() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        stockReservationService.hold(buyer, List.of(new HoldLine(single, 1)), now);
+        LocalDateTime later = now.plusHours(1);
+        stockReservationService.hold(buyer, List.of(new HoldLine(refill, 1)), later);
+        jdbc.update("UPDATE user_order_stats SET order_count = 9");
+
+        assertThat(userOrderStatsService.rebuildChunk(0).corrected()).isEqualTo(1);
+        assertThat(stats().getOrderCount()).isEqualTo(2);
+        assertThat(stats().getLastOrderedAt()).isEqualTo(later);
+        assertThat(userOrderStatsService.rebuildChunk(0).corrected()).isZero();
+
+        jdbc.update("DELETE FROM user_order_stats");
+        RebuildChunk rebuilt = userOrderStatsService.rebuildChunk(0);
+        assertThat(rebuilt.corrected()).isEqualTo(1);
+        assertThat(rebuilt.hasMore()).isFalse();
+        assertThat(stats().getOrderCount()).isEqualTo(2);
+    }
+
+    private UserOrderStats stats() {
+        return userOrderStatsRepository.findById(buyer.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,129 @@
+package showroomz.domain.order.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.market.entity.Market;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.order.entity.UserOrderStats;
+import showroomz.domain.order.repository.UserOrderStatsRepository;
+import showroomz.domain.order.service.StockReservationService.HoldLine;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.entity.ProductVariant;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.domain.product.repository.ProductVariantRepository;
+import showroomz.support.IntegrationTestSupport;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재집계 조각이 회원 id를 읽은 뒤 요약 행을 잠그기 전에 다른 주문이 커밋되는 경우.
+ *
+ * <p>스냅숏이 첫 읽기에 고정되는 MySQL 기본 격리 수준을 재현하려고 풀을 REPEATABLE READ로 띄운다 — 설정이 같은
+ * {@code ProductReviewStatsRebuildRaceTest}와 컨텍스트를 나눠 쓴다.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:showroomz-review-rebuild;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ"
+})
+class UserOrderStatsRebuildRaceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private UserOrderStatsService userOrderStatsService;
+    @Autowired
+    private UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    private Long single;
+    private Users buyer;
+
+    @BeforeEach
+    void setUpProduct() {
+        Market market = fixture.createBrand("brand@showroomz.test", "제니의 뷰티룸").market();
+        Category category = new Category();
+        category.setName("뷰티");
+        categoryRepository.save(category);
+        Product product = new Product();
+        product.setMarket(market);
+        product.setCategory(category);
+        product.setName("시카 리페어 앰플 30ml");
+        product.setRegularPrice(38000);
+        product.setSalePrice(24900);
+        productRepository.save(product);
+        single = productVariantRepository.save(new ProductVariant(product, "단품", 38000, 24900, 100, true))
+                .getVariantId();
+
+        LocalDateTime now = LocalDateTime.now();
+        buyer = userRepository.save(new Users("buyer", "buyer", "buyer@showroomz.test", "Y", null,
+                ProviderType.KAKAO, RoleType.USER, now, now));
+    }
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(AopTestUtils.<Object>getTargetObject(userOrderStatsService),
+                "userRepository", userRepository);
+    }
+
+    @Test
+    @DisplayName("id를 읽은 뒤 잠그기 전에 커밋된 주문도 재집계 결과에 남는다")
+    void orderCommittedBetweenScanAndLockIsKept() {
+        LocalDateTime first = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime late = first.plusMinutes(5);
+        stockReservationService.hold(buyer, List.of(new HoldLine(single, 1)), first);
+        afterUserIdScan(() -> CompletableFuture.runAsync(
+                () -> stockReservationService.hold(buyer, List.of(new HoldLine(single, 1)), late)).join());
+
+        userOrderStatsService.rebuildChunk(0);
+
+        UserOrderStats stats = userOrderStatsRepository.findById(buyer.getId()).orElseThrow();
+        assertThat(stats.getOrderCount()).isEqualTo(2);
+        assertThat(stats.getLastOrderedAt()).isEqualTo(late);
+    }
+
+    /** 재집계가 회원 id를 읽고 난 바로 뒤에 {@code between}을 끼워 넣는다. */
+    private void afterUserIdScan(Runnable between) {
+        UserRepository scanning = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(userRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findUserIdsAfter")) {
+                        between.run();
+                    }
+                    return result;
+                });
+        ReflectionTestUtils.setField(AopTestUtils.<Object>getTargetObject(userOrderStatsService),
+                "userRepository", scanning);
+    }
+}
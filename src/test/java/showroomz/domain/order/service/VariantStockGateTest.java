@@ -0,0 +1,160 @@
+package showroomz.domain.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import showroomz.global.config.properties.OrderProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 옵션 재고 메모리 판정 — 진행 중 수량을 합쳐도 읽은 재고를 넘겨 통과시키지 않고, 트랜잭션이 끝나면 진행 중
+ * 수량을 비우며, 최근에 본 재고로만 DB 없이 거절한다.
+ */
+class VariantStockGateTest {
+
+    private static final Long VARIANT_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderProperties orderProperties = new OrderProperties();
+    private final VariantStockGate gate = new VariantStockGate(orderProperties, meterRegistry);
+
+    @Test
+    @DisplayName("커밋을 기다리는 예약이 쌓이면 읽은 재고를 넘는 요청부터 거절한다")
+    void concurrentAdmissionsNeverExceedObservedStock() throws Exception {
+        int stock = 100;
+        int threads = 16;
+        int perThread = 50;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<List<TransactionSynchronization>> pending = new ArrayList<>();
+        try {
+            List<Future<List<TransactionSynchronization>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // 스레드마다 트랜잭션 하나를 열어 둔 채로 예약을 쌓는다 — 아직 아무것도 커밋되지 않았다
+                    TransactionSynchronizationManager.initSynchronization();
+                    try {
+                        for (int i = 0; i < perThread; i++) {
+                            if (gate.tryAdmit(VARIANT_ID, 1, stock)) {
+                                admitted.incrementAndGet();
+                            }
+                        }
+                        return TransactionSynchronizationManager.getSynchronizations();
+                    } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<List<TransactionSynchronization>> future : futures) {
+                pending.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted).hasValue(stock);
+        assertThat(gate.inflight(VARIANT_ID)).isEqualTo(stock);
+        assertThat(meterRegistry.counter("order.stock.gate.shed").count())
+                .isEqualTo(threads * perThread - stock);
+
+        pending.forEach(syncs -> syncs.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)));
+        assertThat(gate.inflight(VARIANT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 통과한 예약은 진행 중으로 남기지 않는다")
+    void admissionOutsideTransactionIsNotKept() {
+        assertThat(gate.tryAdmit(VARIANT_ID, 3, 3)).isTrue();
+
+        assertThat(gate.inflight(VARIANT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백돼도 진행 중 수량은 비운다 — 재고는 처음부터 빠지지 않았다")
+    void rollbackClearsInflight() {
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> gate.tryAdmit(VARIANT_ID, 2, 5));
+
+        assertThat(gate.inflight(VARIANT_ID)).isZero();
+        assertThat(gate.shedEarly(VARIANT_ID, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB가 거절한 옵션은 다시 읽기 전까지 DB에 닿지 않고 거절한다")
+    void reconciledVariantIsShedEarly() {
+        gate.tryAdmit(VARIANT_ID, 1, 10);
+        gate.reconcile(VARIANT_ID, 1);
+
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isTrue();
+        assertThat(meterRegistry.counter("order.stock.gate.reconciled").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 수량이 거절돼도 그보다 작은 주문은 계속 DB로 보낸다 — 거절은 남은 재고가 그 수량보다 적다는 뜻뿐이다")
+    void reconcileOnlyCapsBelowTheRejectedQuantity() {
+        gate.tryAdmit(VARIANT_ID, 1, 10);
+        gate.reconcile(VARIANT_ID, 5);
+
+        assertThat(gate.shedEarly(VARIANT_ID, 5)).isTrue();
+        assertThat(gate.shedEarly(VARIANT_ID, 4)).isFalse();
+
+        // 이미 본 값이 더 낮으면 올리지 않는다
+        gate.reconcile(VARIANT_ID, 1);
+        gate.reconcile(VARIANT_ID, 8);
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("본 적 없는 옵션이나 오래전에 본 재고로는 거절하지 않는다")
+    void unknownOrStaleObservationIsNotTrusted() {
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isFalse();
+
+        orderProperties.setStockGateRecheckMillis(0);
+        gate.tryAdmit(VARIANT_ID, 1, 0);
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("돌려준 재고는 커밋된 뒤에만 본 재고에 더한다")
+    void returnedStockCountsOnlyAfterCommit() {
+        gate.tryAdmit(VARIANT_ID, 1, 1);
+        gate.reconcile(VARIANT_ID, 1);
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> gate.returnedOnCommit(VARIANT_ID, 1));
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            gate.returnedOnCommit(VARIANT_ID, 1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(gate.shedEarly(VARIANT_ID, 1)).isFalse();
+    }
+
+    private static void inTransaction(int outcome, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(outcome));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package showroomz.domain.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.common.SeekKey;
+import showroomz.domain.market.type.SnsType;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.post.entity.Post;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소비자 피드 깊은 페이지 — OFFSET 목록(앞 페이지 행을 읽고 버림 + 게시중 전체 COUNT)과 키셋 목록(직전 페이지의 마지막
+ * 키 다음부터 size+1행)을 같은 위치에서 비교한다. 두 쪽이 같은 게시물을 같은 순서로 내는지 먼저 확인한다.
+ *
+ * <p>게시물은 {@value #POSTS}개, 쇼룸 {@value #SHOWROOMS}곳에 나눠 JDBC 일괄 INSERT로 넣는다. 게시 시각은 열 개씩
+ * 겹치게 둔다 — 동률이 id로 갈리는 경로까지 함께 잰다.
+ *
+ * <p>지연과 함께 실행 계획의 post 읽은 행 수를 남긴다. H2는 조인이 붙은 ORDER BY … LIMIT을 인덱스 순서로 끊어 읽지
+ * 않아 두 방식 모두 게시중 전체를 정렬하고, 여기서 벌어지는 차이는 거의 COUNT 한 번이다. 운영 MySQL은
+ * {@code idx_post_status_published}를 거꾸로 읽어 키셋 쪽이 size+1행에서 멈추고 OFFSET 쪽은 앞 페이지 행을 모두
+ * 지나가므로, 깊은 페이지의 격차는 여기 숫자보다 크다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*FeedPaginationBenchmark'}
+ */
+@Tag("benchmark")
+class FeedPaginationBenchmark extends IntegrationTestSupport {
+
+    private static final int POSTS = 20_000;
+    private static final int SHOWROOMS = 40;
+    private static final int SIZE = 20;
+    private static final int BATCH = 5_000;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 300;
+    private static final String INSERT_POST =
+            "INSERT INTO post (creator_id, post_type, status, content, aspect_ratio, impression_count, like_count, "
+                    + "published_at, created_at, modified_at) "
+                    + "VALUES (?, 'GENERAL', 'PUBLISHED', ?, 0.8000, 0, 0, ?, ?, ?)";
+
+    /** 목록 쿼리와 같은 조건·순서의 SQL — 읽은 행 수를 실행 계획으로 보기 위해 직접 쓴다 */
+    private static final String PUBLISHED_SQL =
+            "SELECT p.post_id FROM post p JOIN creator c ON c.creator_id = p.creator_id "
+                    + "WHERE p.status = 'PUBLISHED' ORDER BY p.published_at DESC, p.post_id DESC";
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedPosts() {
+        long[] creatorIds = new long[SHOWROOMS];
+        for (int c = 0; c < SHOWROOMS; c++) {
+            creatorIds[c] = createShowroom("bench" + c).getId();
+        }
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < POSTS; i++) {
+            Timestamp at = Timestamp.valueOf(base.plusMinutes(i / 10));
+            rows.add(new Object[]{creatorIds[i % SHOWROOMS], "벤치 게시물 " + i, at, at, at});
+            if (rows.size() == BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_POST, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POST, rows);
+        }
+    }
+
+    @Test
+    @DisplayName("2만 게시물 — 100·500번째 페이지에서 OFFSET + COUNT 대비 키셋")
+    void compareDeepPages() {
+        // 쿼리 계획·JIT가 먼저 잰 쪽에만 불리하게 잡히지 않도록 두 경로를 한 번씩 충분히 돌려 둔다
+        SeekKey deep = seekKeyBefore(100);
+        for (int i = 0; i < WARMUP * 3; i++) {
+            postRepository.findDisplayedPosts(PageRequest.of(99, SIZE));
+            postRepository.findDisplayedPosts(deep, SIZE);
+        }
+
+        compare(1);
+        compare(100);
+        compare(500);
+    }
+
+    private void compare(int page) {
+        PageRequest pageable = PageRequest.of(page - 1, SIZE);
+        SeekKey after = page == 1 ? null : seekKeyBefore(page);
+
+        Page<Post> byOffset = postRepository.findDisplayedPosts(pageable);
+        Slice<Post> byCursor = postRepository.findDisplayedPosts(after, SIZE);
+        assertThat(byCursor.getContent()).extracting(Post::getId)
+                .containsExactlyElementsOf(byOffset.getContent().stream().map(Post::getId).toList());
+
+        Benchmark.Result offset = Benchmark.measure("offset page " + page, WARMUP, ITERATIONS,
+                () -> postRepository.findDisplayedPosts(pageable));
+        Benchmark.Result cursor = Benchmark.measure("cursor page " + page, WARMUP, ITERATIONS,
+                () -> postRepository.findDisplayedPosts(after, SIZE));
+
+        long offsetRows = scannedPostRows(PUBLISHED_SQL + " LIMIT " + SIZE + " OFFSET " + pageable.getOffset())
+                + scannedPostRows("SELECT COUNT(*) FROM post p WHERE p.status = 'PUBLISHED'");
+        long cursorRows = scannedPostRows(after == null
+                ? PUBLISHED_SQL + " LIMIT " + (SIZE + 1)
+                : PUBLISHED_SQL.replace("ORDER BY", "AND (p.published_at < TIMESTAMP '" + after.at()
+                        + "' OR (p.published_at = TIMESTAMP '" + after.at() + "' AND p.post_id < " + after.id()
+                        + ")) ORDER BY") + " LIMIT " + (SIZE + 1));
+        System.out.printf("[benchmark] page %d — post rows read: offset+count %,d / cursor %,d%n",
+                page, offsetRows, cursorRows);
+        System.out.printf("[benchmark] page %d — cursor p50 %.1fx / p99 %.1fx faster than offset+count%n",
+                page, offset.p50Micros() / cursor.p50Micros(), offset.p99Micros() / cursor.p99Micros());
+        assertThat(cursorRows).isLessThanOrEqualTo(offsetRows);
+    }
+
+    /** H2 실행 계획의 post 테이블 scanCount — 지연과 달리 장비와 무관하게 같은 값이 나온다 */
+    private long scannedPostRows(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class);
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        assertThat(matcher.find()).as(plan).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /** 앱이 직전 페이지에서 받은 커서와 같은 값 — 직전 페이지의 마지막 게시물 키 */
+    private SeekKey seekKeyBefore(int page) {
+        List<Post> previous = postRepository.findDisplayedPosts(PageRequest.of(page - 2, SIZE)).getContent();
+        return PostRepositoryCustom.seekKeyOf(previous.get(previous.size() - 1));
+    }
+
+    private Creator createShowroom(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        Users owner = userRepository.save(new Users(
+                name, name, name + "@showroomz.test", "Y", null, ProviderType.LOCAL, RoleType.CREATOR, now, now));
+        return creatorRepository.save(Creator.builder()
+                .user(owner)
+                .snsType(SnsType.INSTAGRAM)
+                .channelUrl("https://instagram.com/" + name)
+                .accountId(name)
+                .followerCount(1000)
+                .businessEmail(name + "@showroomz.test")
+                .showroomName(name)
+                .build());
+    }
+}
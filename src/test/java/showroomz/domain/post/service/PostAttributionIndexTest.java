@@ -0,0 +1,100 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 라스트 터치 귀속 색인 — 규칙(24시간 창 · 마지막에 본 게시물)을 DB 조회와 똑같이 따라야 한다.
+ */
+class PostAttributionIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+    private static final LocalDateTime SINCE = NOW.minusHours(24);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 쇼룸에서 여러 게시물을 봤다면 마지막에 본 게시물을 돌려준다")
+    void returnsLatestTouch() {
+        PostAttributionIndex index = new PostAttributionIndex(10, meterRegistry);
+        index.record("u:7", 5L, 100L, NOW.minusHours(3));
+        index.record("u:7", 5L, 200L, NOW.minusHours(1));
+
+        assertThat(index.find("u:7", 5L, SINCE)).isEqualTo(200L);
+    }
+
+    /** DB 폴백이 올린 예전 노출이 이미 올라 있던 더 최근 노출을 덮으면 귀속이 거꾸로 간다. */
+    @Test
+    @DisplayName("더 이른 노출은 이미 올라 있는 더 늦은 노출을 덮지 않는다")
+    void olderTouchDoesNotOverwrite() {
+        PostAttributionIndex index = new PostAttributionIndex(10, meterRegistry);
+        index.record("u:7", 5L, 200L, NOW.minusHours(1));
+        index.record("u:7", 5L, 100L, NOW.minusHours(3));
+
+        assertThat(index.find("u:7", 5L, SINCE)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("쇼룸이 다르면 따로 본다 — 다른 쇼룸의 게시물에 귀속하지 않는다")
+    void keyedByShowroom() {
+        PostAttributionIndex index = new PostAttributionIndex(10, meterRegistry);
+        index.record("u:7", 5L, 100L, NOW.minusHours(1));
+
+        assertThat(index.find("u:7", 6L, SINCE)).isNull();
+    }
+
+    @Test
+    @DisplayName("귀속 창(24시간)이 지난 노출은 없는 것으로 보고 버린다")
+    void expiredTouchIsDropped() {
+        PostAttributionIndex index = new PostAttributionIndex(10, meterRegistry);
+        index.record("u:7", 5L, 100L, NOW.minusHours(25));
+
+        assertThat(index.find("u:7", 5L, SINCE)).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 안 쓴 항목부터 밀어낸다")
+    void evictsLeastRecentlyUsed() {
+        PostAttributionIndex index = new PostAttributionIndex(2, meterRegistry);
+        index.record("u:1", 5L, 1L, NOW);
+        index.record("u:2", 5L, 2L, NOW);
+        index.find("u:1", 5L, SINCE);
+        index.record("u:3", 5L, 3L, NOW);
+
+        assertThat(index.find("u:1", 5L, SINCE)).isEqualTo(1L);
+        assertThat(index.find("u:2", 5L, SINCE)).isNull();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.estimatedBytes())
+                .isEqualTo(2L * PostAttributionIndex.ENTRY_OVERHEAD_BYTES + "u:1".length() + "u:3".length());
+    }
+
+    @Test
+    @DisplayName("상한이 0이면 아무것도 들고 있지 않는다 — 다중 인스턴스 설정")
+    void disabledWhenSizeIsZero() {
+        PostAttributionIndex index = new PostAttributionIndex(0, meterRegistry);
+        index.record("u:7", 5L, 100L, NOW);
+
+        assertThat(index.find("u:7", 5L, SINCE)).isNull();
+    }
+
+    @Test
+    @DisplayName("적중·미스·점유량이 지표로 나간다")
+    void exposesMetrics() {
+        PostAttributionIndex index = new PostAttributionIndex(10, meterRegistry);
+        index.record("u:7", 5L, 100L, NOW);
+        index.find("u:7", 5L, SINCE);
+        index.find("u:8", 5L, SINCE);
+
+        assertThat(meterRegistry.counter("post.attribution.index.hits").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("post.attribution.index.misses").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("post.attribution.index.size").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("post.attribution.index.bytes").gauge().value())
+                .isEqualTo(PostAttributionIndex.ENTRY_OVERHEAD_BYTES + 3.0);
+    }
+}
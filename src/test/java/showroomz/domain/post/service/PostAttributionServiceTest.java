@@ -0,0 +1,81 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import showroomz.domain.post.repository.PostImpressionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * §24-7 라스트 터치 귀속 — 색인이 있으면 노출 로그를 읽지 않고, 없을 때만 한 행을 읽는다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PostAttributionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private PostImpressionRepository postImpressionRepository;
+
+    private PostAttributionIndex index;
+    private PostAttributionService service;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostAttributionIndex(100, new SimpleMeterRegistry());
+        service = new PostAttributionService(postImpressionRepository, index);
+    }
+
+    @Test
+    @DisplayName("색인에 있으면 노출 로그를 읽지 않는다")
+    void indexHitSkipsDatabase() {
+        index.record("u:7", 5L, 42L, NOW.minusMinutes(10));
+
+        assertThat(service.resolveAttributedPostId("u:7", 5L, NOW)).isEqualTo(42L);
+        verify(postImpressionRepository, never()).findLatestViewedPost(any(), any(), any(), any());
+    }
+
+    /** 재기동 직후 — 한 행만 읽고, 읽은 결과를 색인에 올려 다음 행동부터는 메모리에서 끝낸다. */
+    @Test
+    @DisplayName("색인에 없으면 최근 한 행만 읽고 색인에 올린다")
+    void missFallsBackToSingleRow() {
+        given(postImpressionRepository.findLatestViewedPost(
+                eq("u:7"), eq(5L), eq(NOW.minusHours(24)), eq(PageRequest.of(0, 1))))
+                .willReturn(List.<Object[]>of(new Object[]{42L, NOW.minusHours(2)}));
+
+        assertThat(service.resolveAttributedPostId("u:7", 5L, NOW)).isEqualTo(42L);
+        assertThat(service.resolveAttributedPostId("u:7", 5L, NOW)).isEqualTo(42L);
+
+        verify(postImpressionRepository, times(1)).findLatestViewedPost(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("창 안에 본 게시물이 없으면 귀속 불명이다")
+    void noImpressionMeansUnattributed() {
+        given(postImpressionRepository.findLatestViewedPost(any(), any(), any(), any())).willReturn(List.of());
+
+        assertThat(service.resolveAttributedPostId("u:7", 5L, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("조회자를 식별할 수 없으면 조회하지 않는다")
+    void unknownViewerIsUnattributed() {
+        assertThat(service.resolveAttributedPostId(null, 5L, NOW)).isNull();
+        verify(postImpressionRepository, never()).findLatestViewedPost(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,168 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import showroomz.domain.post.service.PostImpressionBuffer.PendingImpression;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostImpressionBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 14, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<PendingImpression>> batches = new ArrayList<>();
+
+    /** 주기 플러시는 끈다 — 플러시 시점을 테스트가 정한다 */
+    private PostImpressionBuffer buffer(int capacity, int flushSize) {
+        return buffer(capacity, flushSize, batch -> batches.add(List.copyOf(batch)));
+    }
+
+    private PostImpressionBuffer buffer(int capacity, int flushSize, Consumer<List<PendingImpression>> writer) {
+        return new PostImpressionBuffer(capacity, flushSize, 0, writer, meterRegistry);
+    }
+
+    private static PendingImpression impression(String viewerKey, long postId) {
+        return new PendingImpression(postId, 5L, null, viewerKey, NOW);
+    }
+
+    /** 세션 판정 — DB에는 아직 아무것도 없다 */
+    private static final Function<List<Long>, Collection<Long>> NONE_COUNTED = postIds -> List.of();
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Nested
+    @DisplayName("세션 중복")
+    class Session {
+
+        @Test
+        @DisplayName("대기 중인 (조회자, 게시물) 쌍은 다시 받지 않는다")
+        void pendingPairIsRejected() {
+            PostImpressionBuffer buffer = buffer(100, 50);
+
+            assertThat(buffer.offer(List.of(impression("d:a", 1L), impression("d:a", 2L)), NONE_COUNTED)).hasSize(2);
+            assertThat(buffer.offer(List.of(impression("d:a", 1L), impression("d:b", 1L)), NONE_COUNTED))
+                    .containsExactly(impression("d:b", 1L));
+            assertThat(buffer.size()).isEqualTo(3);
+        }
+
+        /** 쓴 뒤에는 쌍을 풀고 DB 판정에 맡긴다 — 잡은 쌍만 판정에 넘기므로 커밋 전 틈이 없다. */
+        @Test
+        @DisplayName("쓴 쌍은 풀리고, 그 뒤의 같은 쌍은 DB 판정으로 걸러진다")
+        void writtenPairIsJudgedByDatabase() {
+            PostImpressionBuffer buffer = buffer(100, 50);
+            buffer.offer(List.of(impression("d:a", 1L)), NONE_COUNTED);
+            buffer.flush();
+
+            List<List<Long>> judged = new ArrayList<>();
+            List<PendingImpression> accepted = buffer.offer(List.of(impression("d:a", 1L)), postIds -> {
+                judged.add(postIds);
+                return postIds;
+            });
+
+            assertThat(judged).containsExactly(List.of(1L));
+            assertThat(accepted).isEmpty();
+            // DB가 거른 쌍도 풀어 둔다 — 잡아 둔 채로 두면 세션이 끝나도 다시 세지 못한다
+            assertThat(buffer.offer(List.of(impression("d:a", 1L)), NONE_COUNTED)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("대기 중인 쌍은 DB 판정에 넘기지도 않는다")
+        void pendingPairSkipsDatabase() {
+            PostImpressionBuffer buffer = buffer(100, 50);
+            buffer.offer(List.of(impression("d:a", 1L)), NONE_COUNTED);
+
+            List<List<Long>> judged = new ArrayList<>();
+            buffer.offer(List.of(impression("d:a", 1L), impression("d:a", 2L)), postIds -> {
+                judged.add(postIds);
+                return List.of();
+            });
+
+            assertThat(judged).containsExactly(List.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("플러시")
+    class Flush {
+
+        @Test
+        @DisplayName("플러시 크기 단위로 나눠 쓴다")
+        void writesInChunksOfFlushSize() {
+            PostImpressionBuffer buffer = buffer(100, 2);
+            buffer.offer(List.of(impression("d:a", 1L), impression("d:a", 2L), impression("d:a", 3L)), NONE_COUNTED);
+
+            assertThat(buffer.flush()).isEqualTo(3);
+
+            assertThat(batches).extracting(List::size).containsExactly(2, 1);
+            assertThat(buffer.size()).isZero();
+            assertThat(counter("post.impression.buffer.flushed")).isEqualTo(3);
+            assertThat(meterRegistry.get("post.impression.buffer.flush").timer().count()).isEqualTo(2);
+        }
+
+        /** 통계 로그다 — 실패한 배치를 다시 넣으면 같은 실패가 큐를 막는다. */
+        @Test
+        @DisplayName("쓰기에 실패한 배치는 버리고 다음 배치를 계속 쓴다")
+        void failedBatchIsDropped() {
+            List<List<PendingImpression>> written = new ArrayList<>();
+            PostImpressionBuffer buffer = buffer(100, 1, batch -> {
+                if (batch.get(0).postId() == 1L) {
+                    throw new IllegalStateException("boom");
+                }
+                written.add(List.copyOf(batch));
+            });
+            buffer.offer(List.of(impression("d:a", 1L), impression("d:a", 2L)), NONE_COUNTED);
+
+            buffer.flush();
+
+            assertThat(written).hasSize(1);
+            assertThat(counter("post.impression.buffer.dropped")).isEqualTo(1);
+            assertThat(counter("post.impression.buffer.flushed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("종료 시 남은 노출을 마저 쓴다")
+        void drainWritesRemaining() {
+            PostImpressionBuffer buffer = buffer(100, 50);
+            buffer.offer(List.of(impression("d:a", 1L), impression("d:b", 1L)), NONE_COUNTED);
+
+            buffer.drain();
+
+            assertThat(batches).singleElement().asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(2);
+            assertThat(buffer.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("배압")
+    class Backpressure {
+
+        /** DB가 밀리면 요청이 그만큼 느려질 뿐 메모리가 무한정 늘지 않는다. */
+        @Test
+        @DisplayName("큐가 차면 넣으려던 스레드가 직접 플러시하고 마저 넣는다")
+        void fullQueueIsFlushedByCaller() {
+            PostImpressionBuffer buffer = buffer(2, 50);
+
+            List<PendingImpression> accepted = buffer.offer(List.of(
+                    impression("d:a", 1L), impression("d:a", 2L), impression("d:a", 3L)), NONE_COUNTED);
+
+            assertThat(accepted).hasSize(3);
+            assertThat(batches).singleElement().asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(2);
+            assertThat(buffer.size()).isEqualTo(1);
+            assertThat(counter("post.impression.buffer.backpressure")).isEqualTo(1);
+            assertThat(counter("post.impression.buffer.accepted")).isEqualTo(3);
+        }
+    }
+}
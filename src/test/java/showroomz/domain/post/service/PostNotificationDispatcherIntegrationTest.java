@@ -0,0 +1,251 @@
+package showroomz.domain.post.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import showroomz.domain.post.entity.PostNotificationLog;
+import showroomz.domain.post.repository.PostNotificationLogRepository;
+import showroomz.domain.post.type.PostNotificationEvent;
+import showroomz.global.config.properties.PostProperties;
+import showroomz.support.IntegrationTestSupport;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통지 아웃박스 — 호출자는 행만 남기고, 발송기가 커밋된 행을 가져가 보내고 결과를 묶어서 표시한다.
+ *
+ * <p>발송 인프라가 없는 지금의 실제 구성({@link NoOpPostNotificationSender})을 그대로 태운다. 전달 성공·실패·지연은
+ * 어댑터를 람다로 바꿔 만든다. 발송기는 테스트마다 직접 만들어 돌린다(컨텍스트의 배경 발송은 꺼져 있다).
+ */
+class PostNotificationDispatcherIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PostNotificationService postNotificationService;
+    @Autowired
+    private PostNotificationLogRepository postNotificationLogRepository;
+    @Autowired
+    private NoOpPostNotificationSender noOpSender;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PostNotificationDispatcher> dispatchers = new ArrayList<>();
+
+    @AfterEach
+    void stopDispatchers() {
+        dispatchers.forEach(PostNotificationDispatcher::stop);
+    }
+
+    @Test
+    @DisplayName("스텁 어댑터면 보내지 않고 미전달로 내려놓는다 — 재시도도, 실패 지표도 없다")
+    void noOpSenderIsSkippedWithoutRetry() {
+        Long logId = notifyCommitted();
+        PostNotificationDispatcher dispatcher = dispatcher(noOpSender, properties());
+
+        assertThat(dispatcher.dispatchAll()).isEqualTo(1);
+
+        PostNotificationLog log = postNotificationLogRepository.findById(logId).orElseThrow();
+        assertThat(log.getDelivered()).isFalse();
+        assertThat(log.getAttempts()).isEqualTo(1);
+        assertThat(log.getLastError()).isEqualTo("발송 채널 없음");
+        assertThat(log.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.counter("post.notification.outbox.skipped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("post.notification.outbox.failed").count()).isZero();
+        assertThat(meterRegistry.counter("post.notification.outbox.abandoned").count()).isZero();
+        assertThat(meterRegistry.get("post.notification.outbox.depth").gauge().value()).isZero();
+        assertThat(dispatcher.dispatchAll()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달되지 않으면 미전달로 남고 백오프 뒤로 미뤄진다")
+    void undeliveredIsRescheduled() {
+        Long logId = notifyCommitted();
+        PostNotificationDispatcher dispatcher = dispatcher(log -> false, properties());
+
+        assertThat(dispatcher.dispatchAll()).isEqualTo(1);
+
+        PostNotificationLog log = postNotificationLogRepository.findById(logId).orElseThrow();
+        assertThat(log.getDelivered()).isFalse();
+        assertThat(log.getAttempts()).isEqualTo(1);
+        assertThat(log.getLastError()).isEqualTo("전달되지 않음");
+        assertThat(log.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+        assertThat(meterRegistry.counter("post.notification.outbox.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.notification.outbox.depth").gauge().value()).isEqualTo(1);
+        // 아직 재시도 시각이 아니라 다시 가져가지 않는다
+        assertThat(dispatcher.dispatchAll()).isZero();
+    }
+
+    @Test
+    @DisplayName("전달되면 한 번의 UPDATE로 전달 표시하고 대기열에서 뺀다")
+    void deliveredLogsAreMarked() {
+        Long first = notifyCommitted();
+        Long second = notifyCommitted();
+        PostNotificationDispatcher dispatcher = dispatcher(log -> true, properties());
+
+        assertThat(dispatcher.dispatchAll()).isEqualTo(2);
+
+        for (Long logId : List.of(first, second)) {
+            PostNotificationLog log = postNotificationLogRepository.findById(logId).orElseThrow();
+            assertThat(log.getDelivered()).isTrue();
+            assertThat(log.getDeliveredAt()).isNotNull();
+            assertThat(log.getNextAttemptAt()).isNull();
+        }
+        assertThat(meterRegistry.counter("post.notification.outbox.delivered").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("post.notification.outbox.lag").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("post.notification.outbox.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 통지는 나가지 않는다")
+    void rolledBackNotificationIsNeverSent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            postNotificationService.notify(1L, 1L, PostNotificationEvent.SUSPENDED, Map.of());
+            status.setRollbackOnly();
+        });
+        AtomicInteger sent = new AtomicInteger();
+
+        assertThat(dispatcher(log -> sent.incrementAndGet() > 0, properties()).dispatchAll()).isZero();
+        assertThat(sent).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("시도 횟수를 다 쓰면 더 보내지 않고 미전달로 남긴다")
+    void givesUpAfterMaxAttempts() {
+        Long logId = notifyCommitted();
+        PostProperties properties = properties();
+        properties.setNotificationMaxAttempts(2);
+        PostNotificationDispatcher dispatcher = dispatcher(log -> false, properties);
+
+        dispatcher.dispatchAll();
+        rewind(logId);
+        dispatcher.dispatchAll();
+
+        PostNotificationLog log = postNotificationLogRepository.findById(logId).orElseThrow();
+        assertThat(log.getAttempts()).isEqualTo(2);
+        assertThat(log.getDelivered()).isFalse();
+        assertThat(log.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.counter("post.notification.outbox.abandoned").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.notification.outbox.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도 안에 끝나지 않은 발송은 실패로 보고 다시 시도한다")
+    void slowSendTimesOut() {
+        Long logId = notifyCommitted();
+        PostProperties properties = properties();
+        properties.setNotificationSendTimeoutMillis(100);
+        PostNotificationDispatcher dispatcher = dispatcher(log -> {
+            try {
+                Thread.sleep(5_000);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, properties);
+
+        dispatcher.dispatchAll();
+
+        PostNotificationLog log = postNotificationLogRepository.findById(logId).orElseThrow();
+        assertThat(log.getDelivered()).isFalse();
+        assertThat(log.getLastError()).isEqualTo("발송 한도 초과");
+        assertThat(log.getNextAttemptAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("발송기 둘이 동시에 돌아도 한 통지는 한 번만 나간다")
+    void concurrentDispatchersNeverDoubleSend() throws Exception {
+        int total = 60;
+        for (int i = 0; i < total; i++) {
+            notifyCommitted();
+        }
+        Map<Long, AtomicInteger> sends = new ConcurrentHashMap<>();
+        PostProperties properties = properties();
+        properties.setNotificationDispatchBatchSize(7);
+        List<PostNotificationDispatcher> instances = List.of(
+                dispatcher(log -> sends.computeIfAbsent(log.getId(), id -> new AtomicInteger()).incrementAndGet() > 0,
+                        properties),
+                dispatcher(log -> sends.computeIfAbsent(log.getId(), id -> new AtomicInteger()).incrementAndGet() > 0,
+                        properties));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(instances.size());
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (PostNotificationDispatcher instance : instances) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return instance.dispatchAll();
+                }));
+            }
+            start.countDown();
+            int claimed = 0;
+            for (Future<Integer> future : futures) {
+                claimed += future.get(60, TimeUnit.SECONDS);
+            }
+            assertThat(claimed).isEqualTo(total);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(sends).hasSize(total);
+        assertThat(sends.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM post_notification_log WHERE delivered = TRUE", Integer.class)).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘다가 상한에서 멈춘다")
+    void backoffDoublesUntilCap() {
+        PostNotificationDispatcher dispatcher = dispatcher(noOpSender, properties());
+
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(dispatcher.backoff(5)).isEqualTo(Duration.ofSeconds(480));
+        assertThat(dispatcher.backoff(40)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private Long notifyCommitted() {
+        transactionTemplate.executeWithoutResult(status ->
+                postNotificationService.notify(1L, 1L, PostNotificationEvent.SUSPENDED,
+                        PostNotificationService.payload("reason", "광고 표기 누락")));
+        return jdbc.queryForObject("SELECT MAX(log_id) FROM post_notification_log", Long.class);
+    }
+
+    private void rewind(Long logId) {
+        jdbc.update("UPDATE post_notification_log SET next_attempt_at = ? WHERE log_id = ?",
+                LocalDateTime.now().minusSeconds(1), logId);
+    }
+
+    private PostProperties properties() {
+        PostProperties properties = new PostProperties();
+        properties.setNotificationDispatchIntervalMillis(0);
+        return properties;
+    }
+
+    private PostNotificationDispatcher dispatcher(PostNotificationSender sender, PostProperties properties) {
+        PostNotificationDispatcher dispatcher = new PostNotificationDispatcher(
+                jdbc, transactionManager, postNotificationLogRepository, sender, properties, meterRegistry);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+}
@@ -15,7 +15,10 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import showroomz.domain.member.creator.entity.Creator;
 import showroomz.domain.post.entity.Post;
@@ -27,8 +30,11 @@ import showroomz.domain.post.repository.PostLikeRepository;
 import showroomz.domain.post.repository.PostReportRepository;
 import showroomz.domain.post.repository.PostRepository;
 import showroomz.domain.post.repository.PostSuspensionRepository;
+import showroomz.domain.stats.repository.PostDailyStatRepository;
+import showroomz.domain.stats.repository.PostDailyViewerRepository;
 import showroomz.global.config.properties.PostProperties;
 import showroomz.global.config.properties.S3Properties;
+import showroomz.global.service.S3BatchDeleteService;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -76,6 +82,10 @@ class PostPurgeServiceTest {
     @Mock
     private PostSuspensionRepository postSuspensionRepository;
     @Mock
+    private PostDailyStatRepository postDailyStatRepository;
+    @Mock
+    private PostDailyViewerRepository postDailyViewerRepository;
+    @Mock
     private S3Client s3Client;
 
     /** 프로퍼티는 값 객체다 — 모킹하면 기본값이 사라져 "기본이 드라이런"을 검증할 수 없다. */
@@ -90,6 +100,11 @@ class PostPurgeServiceTest {
     @BeforeEach
     void setUpProperties() {
         s3Properties.setBucket(BUCKET);
+        // 일괄 삭제는 실제 구현을 모의 S3Client 위에 얹는다 — 요청에 실린 버킷·키까지 확인한다
+        ReflectionTestUtils.setField(postPurgeService, "s3BatchDeleteService",
+                new S3BatchDeleteService(s3Client, s3Properties));
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willReturn(DeleteObjectsResponse.builder().build());
     }
 
     private Post post(long id) {
@@ -111,6 +126,16 @@ class PostPurgeServiceTest {
         return new PostImage(imageUrl, originalUrl, 1080, 1080, 2048);
     }
 
+    private DeleteObjectsRequest deleteRequest() {
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<String> keysOf(DeleteObjectsRequest request) {
+        return request.delete().objects().stream().map(ObjectIdentifier::key).toList();
+    }
+
     @Nested
     @DisplayName("드라이런 (기본값)")
     class DryRun {
@@ -131,6 +156,7 @@ class PostPurgeServiceTest {
             verify(postImageRepository, never()).deleteAllByPostId(anyLong());
             verify(postLikeRepository, never()).deleteAllByPostId(anyLong());
             verify(postImpressionRepository, never()).deleteAllByPostId(anyLong());
+            verify(postDailyStatRepository, never()).deleteAllByPostId(anyLong());
             verify(postReportRepository, never()).deleteAllByPostId(anyLong());
             verify(postAppealRepository, never()).deleteAllByPostId(anyLong());
             verify(postSuspensionRepository, never()).deleteAllByPostId(anyLong());
@@ -145,7 +171,7 @@ class PostPurgeServiceTest {
 
             postPurgeService.purgeExpired(NOW);
 
-            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+            verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
         }
 
         @Test
@@ -185,6 +211,8 @@ class PostPurgeServiceTest {
             order.verify(postImageRepository).deleteAllByPostId(POST_ID);
             order.verify(postLikeRepository).deleteAllByPostId(POST_ID);
             order.verify(postImpressionRepository).deleteAllByPostId(POST_ID);
+            verify(postDailyStatRepository).deleteAllByPostId(POST_ID);
+            verify(postDailyViewerRepository).deleteAllByPostId(POST_ID);
             order.verify(postReportRepository).deleteAllByPostId(POST_ID);
             order.verify(postAppealRepository).deleteAllByPostId(POST_ID);
             order.verify(postSuspensionRepository).deleteAllByPostId(POST_ID);
@@ -212,12 +240,23 @@ class PostPurgeServiceTest {
 
             postPurgeService.purgeExpired(NOW);
 
-            ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
-            verify(s3Client, org.mockito.Mockito.times(2)).deleteObject(captor.capture());
-            assertThat(captor.getAllValues()).extracting(DeleteObjectRequest::key)
-                    .containsExactly("posts/a.jpg", "posts/a-orig.jpg");
-            assertThat(captor.getAllValues()).extracting(DeleteObjectRequest::bucket)
-                    .containsOnly(BUCKET);
+            DeleteObjectsRequest request = deleteRequest();
+            assertThat(keysOf(request)).containsExactly("posts/a.jpg", "posts/a-orig.jpg");
+            assertThat(request.bucket()).isEqualTo(BUCKET);
+        }
+
+        /** 게시물마다 따로 지우면 회차 하나가 수백 번 왕복한다 — 회차의 객체를 요청 하나에 싣는다. */
+        @Test
+        @DisplayName("회차의 모든 게시물 이미지를 요청 하나로 지운다")
+        void deletesWholeRunInOneRequest() {
+            givenTargets(post(1L), post(2L));
+            givenImages(1L, image("https://cdn.test/posts/a.jpg", "https://cdn.test/posts/a-orig.jpg"));
+            givenImages(2L, image("https://cdn.test/posts/b.jpg", "https://cdn.test/posts/b.jpg"));
+
+            postPurgeService.purgeExpired(NOW);
+
+            assertThat(keysOf(deleteRequest()))
+                    .containsExactly("posts/a.jpg", "posts/a-orig.jpg", "posts/b.jpg");
         }
 
         /** 업로드가 키를 URL 인코딩해 붙이므로 역산할 때 되돌려야 실제 객체를 가리킨다. */
@@ -229,9 +268,7 @@ class PostPurgeServiceTest {
 
             postPurgeService.purgeExpired(NOW);
 
-            ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
-            verify(s3Client).deleteObject(captor.capture());
-            assertThat(captor.getValue().key()).isEqualTo("posts/소연 a.jpg");
+            assertThat(keysOf(deleteRequest())).containsExactly("posts/소연 a.jpg");
         }
 
         /**
@@ -244,7 +281,7 @@ class PostPurgeServiceTest {
             givenTargets(post(POST_ID));
             givenImages(POST_ID, image("https://cdn.test/posts/a.jpg", null));
             willThrow(S3Exception.builder().message("AccessDenied").build())
-                    .given(s3Client).deleteObject(any(DeleteObjectRequest.class));
+                    .given(s3Client).deleteObjects(any(DeleteObjectsRequest.class));
 
             assertThat(postPurgeService.purgeExpired(NOW)).isEqualTo(1);
             verify(postRepository).delete(any());
@@ -256,8 +293,9 @@ class PostPurgeServiceTest {
             givenTargets(post(1L), post(2L));
             givenImages(1L, image("https://cdn.test/posts/a.jpg", null));
             givenImages(2L, image("https://cdn.test/posts/b.jpg", null));
-            willThrow(S3Exception.builder().message("AccessDenied").build())
-                    .given(s3Client).deleteObject(any(DeleteObjectRequest.class));
+            given(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).willReturn(DeleteObjectsResponse.builder()
+                    .errors(S3Error.builder().key("posts/a.jpg").code("AccessDenied").build())
+                    .build());
 
             assertThat(postPurgeService.purgeExpired(NOW)).isEqualTo(2);
             verify(postRepository, org.mockito.Mockito.times(2)).delete(any());
@@ -271,7 +309,7 @@ class PostPurgeServiceTest {
 
             postPurgeService.purgeExpired(NOW);
 
-            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+            verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
             verify(postRepository).delete(any());
         }
 
@@ -282,7 +320,7 @@ class PostPurgeServiceTest {
             givenImages(POST_ID);
 
             assertThat(postPurgeService.purgeExpired(NOW)).isEqualTo(1);
-            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+            verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
         }
 
         /** 삭제 이력은 영구 보존이라 그 테이블에만 FK가 없다 — 파기가 건드리면 안 된다. */
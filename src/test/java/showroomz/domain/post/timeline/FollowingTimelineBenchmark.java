@@ -0,0 +1,202 @@
+package showroomz.domain.post.timeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.common.SeekKey;
+import showroomz.domain.market.type.SnsType;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.post.entity.Post;
+import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.repository.PostRepositoryCustom;
+import showroomz.global.config.properties.PostProperties;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로잉 피드 — 쇼룸 {@value #SHOWROOMS}곳을 팔로우한 사용자의 첫·셋째 페이지를, 예전 경로(팔로우 id 전체 + IN 목록
+ * 정렬)와 타임라인에서 읽는 경로로 비교한다. 두 쪽이 같은 게시물을 같은 순서로 내는지 먼저 확인한다.
+ *
+ * <p>팬아웃 쪽은 팔로워 {@value #FOLLOWERS}명의 타임라인이 모두 올라와 있을 때 게시 한 번을 넣는 시간과, 그때
+ * 타임라인이 잡은 힙 어림값을 남긴다. 팔로워 id를 읽는 쿼리가 시간의 대부분이다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*FollowingTimelineBenchmark'}
+ */
+@Tag("benchmark")
+class FollowingTimelineBenchmark extends IntegrationTestSupport {
+
+    private static final int SHOWROOMS = 300;
+    private static final int POSTS = 30_000;
+    private static final int FOLLOWERS = 1_000;
+    private static final int SIZE = 20;
+    private static final int BATCH = 5_000;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 500;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final String INSERT_POST =
+            "INSERT INTO post (creator_id, post_type, status, content, aspect_ratio, impression_count, like_count, "
+                    + "published_at, created_at, modified_at) "
+                    + "VALUES (?, 'GENERAL', 'PUBLISHED', ?, 0.8000, 0, 0, ?, ?, ?)";
+    private static final String INSERT_FOLLOW =
+            "INSERT INTO creator_follow (user_id, creator_id, created_at) VALUES (?, ?, ?)";
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CreatorFollowRepository creatorFollowRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long[] creatorIds;
+    private Users viewer;
+
+    @BeforeEach
+    void seed() {
+        creatorIds = new long[SHOWROOMS];
+        for (int c = 0; c < SHOWROOMS; c++) {
+            creatorIds[c] = createShowroom("bench" + c).getId();
+        }
+        viewer = createUser("viewer", RoleType.USER);
+
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < POSTS; i++) {
+            Timestamp at = Timestamp.valueOf(BASE.plusMinutes(i / 5));
+            rows.add(new Object[]{creatorIds[i % SHOWROOMS], "벤치 게시물 " + i, at, at, at});
+            if (rows.size() == BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_POST, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POST, rows);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> follows = new ArrayList<>();
+        for (long creatorId : creatorIds) {
+            follows.add(new Object[]{viewer.getId(), creatorId, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_FOLLOW, follows);
+    }
+
+    @Test
+    @DisplayName("300곳 팔로우 — 팔로우 id + IN 목록 정렬 대비 타임라인 읽기")
+    void compareReads() {
+        FollowingTimelines timelines = timelines();
+        SeekKey third = seekKeyAfter(timelines, 2);
+
+        compare(timelines, "first page", null);
+        compare(timelines, "page 3", third);
+    }
+
+    @Test
+    @DisplayName("팔로워 1,000명의 타임라인이 올라와 있을 때 게시 한 번의 팬아웃")
+    void fanOutToResidentFollowers() {
+        FollowingTimelines timelines = timelines();
+        long creatorId = creatorIds[0];
+        List<Object[]> follows = new ArrayList<>(FOLLOWERS);
+        List<Long> followerIds = new ArrayList<>(FOLLOWERS);
+        for (int i = 0; i < FOLLOWERS; i++) {
+            Users follower = createUser("follower" + i, RoleType.USER);
+            followerIds.add(follower.getId());
+            follows.add(new Object[]{follower.getId(), creatorId, Timestamp.valueOf(LocalDateTime.now())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_FOLLOW, follows);
+        for (Long followerId : followerIds) {
+            timelines.page(followerId, null, SIZE);
+        }
+
+        AtomicLong sequence = new AtomicLong(10_000_000L);
+        Benchmark.Result fanOut = Benchmark.measure("fan-out to " + FOLLOWERS + " resident timelines",
+                WARMUP, ITERATIONS, () -> {
+                    long postId = sequence.incrementAndGet();
+                    timelines.onPublished(new PostPublished(postId, creatorId, BASE.plusYears(1).plusSeconds(postId)));
+                });
+
+        System.out.printf("[benchmark] %,d resident timelines hold ~%,d KB (capacity %d)%n",
+                timelines.size(), timelines.estimatedBytes() / 1_024, new PostProperties().getTimelineCapacity());
+        System.out.printf("[benchmark] fan-out p50 %.0f us / p99 %.0f us per publish%n",
+                fanOut.p50Micros(), fanOut.p99Micros());
+        assertThat(timelines.size()).isEqualTo(FOLLOWERS);
+    }
+
+    private void compare(FollowingTimelines timelines, String label, SeekKey after) {
+        List<Long> byDatabase = ids(databasePage(after));
+        assertThat(ids(timelines.page(viewer.getId(), after, SIZE))).containsExactlyElementsOf(byDatabase);
+
+        Benchmark.Result database = Benchmark.measure("IN list " + label, WARMUP, ITERATIONS,
+                () -> databasePage(after));
+        Benchmark.Result timeline = Benchmark.measure("timeline " + label, WARMUP, ITERATIONS,
+                () -> timelines.page(viewer.getId(), after, SIZE));
+
+        System.out.printf("[benchmark] %s — timeline p50 %.1fx / p99 %.1fx faster than IN list%n",
+                label, database.p50Micros() / timeline.p50Micros(), database.p99Micros() / timeline.p99Micros());
+        assertThat(timeline.meanMicros()).isLessThan(database.meanMicros());
+    }
+
+    /** 예전 팔로잉 피드 — 팔로우 id를 전부 읽고 IN 목록으로 정렬해 자른다 */
+    private Slice<Post> databasePage(SeekKey after) {
+        List<Long> followed = creatorFollowRepository.findCreatorIdsByUserId(viewer.getId());
+        return postRepository.findDisplayedPostsByCreatorIds(followed, after, SIZE);
+    }
+
+    private SeekKey seekKeyAfter(FollowingTimelines timelines, int pages) {
+        SeekKey after = null;
+        for (int i = 0; i < pages; i++) {
+            List<Post> page = timelines.page(viewer.getId(), after, SIZE).getContent();
+            after = PostRepositoryCustom.seekKeyOf(page.get(page.size() - 1));
+        }
+        return after;
+    }
+
+    private FollowingTimelines timelines() {
+        PostProperties properties = new PostProperties();
+        properties.setTimelinePullRefreshIntervalMillis(0);
+        return new FollowingTimelines(creatorFollowRepository, postRepository, properties, new SimpleMeterRegistry());
+    }
+
+    private static List<Long> ids(Slice<Post> slice) {
+        return slice.getContent().stream().map(Post::getId).toList();
+    }
+
+    private Users createUser(String name, RoleType roleType) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users(
+                name, name, name + "@showroomz.test", "Y", null, ProviderType.LOCAL, roleType, now, now));
+    }
+
+    private Creator createShowroom(String name) {
+        return creatorRepository.save(Creator.builder()
+                .user(createUser(name, RoleType.CREATOR))
+                .snsType(SnsType.INSTAGRAM)
+                .channelUrl("https://instagram.com/" + name)
+                .accountId(name)
+                .followerCount(1000)
+                .businessEmail(name + "@showroomz.test")
+                .showroomName(name)
+                .build());
+    }
+}
@@ -0,0 +1,282 @@
+package showroomz.domain.post.timeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.api.creator.post.DTO.PostDto;
+import showroomz.api.creator.post.service.ShowroomPostService;
+import showroomz.api.creator.post.type.PostSaveAction;
+import showroomz.domain.common.SeekKey;
+import showroomz.domain.market.type.SnsType;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.entity.CreatorFollow;
+import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.post.entity.Post;
+import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.post.repository.PostRepositoryCustom;
+import showroomz.global.config.properties.PostProperties;
+import showroomz.support.IntegrationTestSupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로잉 타임라인 — 게시 팬아웃, 다시 채우기, 내려간 게시물, 끌어오기 쇼룸, 버퍼보다 깊은 스크롤이 모두 DB의
+ * 팔로잉 목록({@link PostRepository#findDisplayedPostsByCreatorIds})과 같은 게시물을 같은 순서로 내는지 본다.
+ *
+ * <p>게시 팬아웃은 컨텍스트의 빈으로 실제 게시 경로(커밋 뒤 이벤트)를 태운다. 용량·끌어오기 기준을 바꿔야 하는
+ * 경우는 테스트에서 따로 만든 인스턴스로 본다.
+ */
+class FollowingTimelinesIntegrationTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 4, 12, 0);
+
+    @Autowired
+    private FollowingTimelines followingTimelines;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ShowroomPostService showroomPostService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private CreatorFollowRepository creatorFollowRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Users viewer;
+    private Creator jenny;
+    private Creator soyeon;
+
+    @BeforeEach
+    void setUpFollows() {
+        viewer = createUser("mia", "미아");
+        jenny = createShowroom("제니의 뷰티룸");
+        soyeon = createShowroom("소연의 살림");
+        creatorFollowRepository.save(new CreatorFollow(viewer, jenny));
+        creatorFollowRepository.save(new CreatorFollow(viewer, soyeon));
+
+        // 두 쇼룸이 같은 시각에 하나씩, 셋째마다 앞의 것과도 시각이 겹친다
+        for (int i = 0; i < 6; i++) {
+            LocalDateTime publishedAt = i % 3 == 0 ? BASE : BASE.minusHours(i);
+            createPublishedPost(jenny, publishedAt);
+            createPublishedPost(soyeon, publishedAt);
+        }
+    }
+
+    @Test
+    @DisplayName("게시하면 올라와 있는 팔로워 타임라인 맨 앞에 들어간다 — 다시 채우지 않는다")
+    void publishFansOutToResidentTimeline() {
+        followingTimelines.page(viewer.getId(), null, 5);
+        double rebuilds = rebuilds();
+
+        Long postId = publish(jenny, "새 게시물");
+
+        List<Long> first = ids(followingTimelines.page(viewer.getId(), null, 5));
+        assertThat(first.get(0)).isEqualTo(postId);
+        assertThat(rebuilds()).isEqualTo(rebuilds);
+        assertThat(meterRegistry.get("feed.timeline.fanout").timer().count()).isPositive();
+        assertThat(walk(followingTimelines, 4)).containsExactlyElementsOf(byDatabase());
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 모르는 게시가 있으면 첫 페이지에서 다시 채운다 — 다른 인스턴스에서 올라온 게시물")
+    void unseenPublishTriggersRebuild() {
+        followingTimelines.page(viewer.getId(), null, 5);
+        double rebuilds = rebuilds();
+
+        // 이벤트 없이 DB에만 — 다른 인스턴스의 게시와 같다
+        Long postId = createPublishedPost(soyeon, BASE.plusDays(1));
+        transactionTemplate.executeWithoutResult(status -> creatorRepository.refreshLastPublishedAt(soyeon.getId()));
+
+        assertThat(ids(followingTimelines.page(viewer.getId(), null, 5)).get(0)).isEqualTo(postId);
+        assertThat(rebuilds()).isEqualTo(rebuilds + 1);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 더 늦게 올린 게시가 있어도 다른 쇼룸의 모르는 게시는 쇼룸별 대조로 잡아낸다")
+    void unseenPublishBehindLaterLocalPublishTriggersRebuild() {
+        followingTimelines.page(viewer.getId(), null, 5);
+        Long local = publish(jenny, "새 게시물");
+        double rebuilds = rebuilds();
+
+        // 다른 인스턴스의 게시 — 방금 이 인스턴스가 올린 게시보다 이르지만 소연 쇼룸으로는 처음 보는 게시다
+        Long remote = createPublishedPost(soyeon, BASE.plusDays(1));
+        transactionTemplate.executeWithoutResult(status -> creatorRepository.refreshLastPublishedAt(soyeon.getId()));
+
+        assertThat(ids(followingTimelines.page(viewer.getId(), null, 5))).startsWith(local, remote);
+        assertThat(rebuilds()).isEqualTo(rebuilds + 1);
+        assertThat(walk(followingTimelines, 4)).containsExactlyElementsOf(byDatabase());
+    }
+
+    @Test
+    @DisplayName("타임라인에 든 게시물이 내려가면 건너뛰고 그 자리를 다음 게시물로 채운다")
+    void suspendedPostsAreSkipped() {
+        List<Long> before = ids(followingTimelines.page(viewer.getId(), null, 5));
+        jdbc.update("UPDATE post SET status = 'SUSPENDED' WHERE post_id IN (?, ?)", before.get(0), before.get(2));
+
+        Slice<Post> page = followingTimelines.page(viewer.getId(), null, 5);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(ids(page)).doesNotContain(before.get(0), before.get(2));
+        assertThat(walk(followingTimelines, 3)).containsExactlyElementsOf(byDatabase());
+    }
+
+    @Test
+    @DisplayName("팔로우를 끊으면 다음 첫 페이지에서 그 쇼룸이 빠진다")
+    void unfollowIsReflectedOnRefresh() {
+        followingTimelines.page(viewer.getId(), null, 5);
+
+        jdbc.update("DELETE FROM creator_follow WHERE user_id = ? AND creator_id = ?", viewer.getId(), soyeon.getId());
+
+        assertThat(walk(followingTimelines, 4)).hasSize(6).containsExactlyElementsOf(byDatabase());
+    }
+
+    @Test
+    @DisplayName("버퍼보다 깊이 내려가면 DB에서 이어 읽는다 — 끝까지 읽은 목록이 DB 목록과 같다")
+    void scrollingPastCapacityFallsBackToDatabase() {
+        PostProperties properties = properties();
+        properties.setTimelineCapacity(4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FollowingTimelines timelines = timelines(properties, registry);
+
+        assertThat(walk(timelines, 3)).hasSize(12).containsExactlyElementsOf(byDatabase());
+        assertThat(registry.counter("feed.timeline.db_fallbacks").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 쇼룸은 밀어 넣지 않고 읽을 때 합친다 — 순서는 그대로다")
+    void popularShowroomsArePulledAtReadTime() {
+        Users other = createUser("jay", "제이");
+        creatorFollowRepository.save(new CreatorFollow(other, jenny));
+        PostProperties properties = properties();
+        properties.setTimelinePullThreshold(2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FollowingTimelines timelines = timelines(properties, registry);
+        timelines.refreshPullCreators();
+        assertThat(timelines.pullCreators()).containsExactly(jenny.getId());
+
+        timelines.page(viewer.getId(), null, 3);
+        Long pushed = createPublishedPost(soyeon, BASE.plusDays(1));
+        timelines.onPublished(new PostPublished(pushed, soyeon.getId(), BASE.plusDays(1)));
+        Long pulled = createPublishedPost(jenny, BASE.plusDays(2));
+        timelines.onPublished(new PostPublished(pulled, jenny.getId(), BASE.plusDays(2)));
+
+        assertThat(registry.counter("feed.timeline.fanout.deliveries").count()).isEqualTo(1);
+        List<Long> walked = walk(timelines, 3);
+        assertThat(walked).startsWith(pulled, pushed).containsExactlyElementsOf(byDatabase());
+    }
+
+    @Test
+    @DisplayName("사용자 상한을 넘으면 가장 오래 읽지 않은 사용자부터 내린다")
+    void evictsLeastRecentlyRead() {
+        PostProperties properties = properties();
+        properties.setTimelineMaxUsers(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FollowingTimelines timelines = timelines(properties, registry);
+        Users other = createUser("jay", "제이");
+        creatorFollowRepository.save(new CreatorFollow(other, jenny));
+
+        timelines.page(viewer.getId(), null, 3);
+        timelines.page(other.getId(), null, 3);
+
+        assertThat(timelines.size()).isEqualTo(1);
+        assertThat(registry.get("feed.timeline.memory").gauge().value()).isPositive();
+        assertThat(walk(timelines, 5)).containsExactlyElementsOf(byDatabase());
+    }
+
+    // ------------------------------------------------------------------ 헬퍼
+
+    private List<Long> walk(FollowingTimelines timelines, int size) {
+        List<Long> ids = new ArrayList<>();
+        SeekKey after = null;
+        for (int guard = 0; guard < 100; guard++) {
+            Slice<Post> page = timelines.page(viewer.getId(), after, size);
+            ids.addAll(ids(page));
+            if (!page.hasNext()) {
+                return ids;
+            }
+            assertThat(page.getContent()).hasSize(size);
+            after = PostRepositoryCustom.seekKeyOf(page.getContent().get(size - 1));
+        }
+        throw new AssertionError("timeline did not terminate");
+    }
+
+    private List<Long> byDatabase() {
+        List<Long> followed = creatorFollowRepository.findCreatorIdsByUserId(viewer.getId());
+        return ids(postRepository.findDisplayedPostsByCreatorIds(followed, PageRequest.ofSize(100)));
+    }
+
+    private static List<Long> ids(Iterable<Post> posts) {
+        List<Long> ids = new ArrayList<>();
+        posts.forEach(post -> ids.add(post.getId()));
+        return ids;
+    }
+
+    private double rebuilds() {
+        return meterRegistry.get("feed.timeline.rebuilds").counter().count();
+    }
+
+    private PostProperties properties() {
+        PostProperties properties = new PostProperties();
+        properties.setTimelinePullRefreshIntervalMillis(0);
+        return properties;
+    }
+
+    private FollowingTimelines timelines(PostProperties properties, SimpleMeterRegistry registry) {
+        return new FollowingTimelines(creatorFollowRepository, postRepository, properties, registry);
+    }
+
+    private Long publish(Creator showroom, String content) {
+        PostDto.SavePostRequest request = new PostDto.SavePostRequest(content, List.of(new PostDto.PostImageRequest(
+                "https://cdn.example.com/posts/a.jpg", "https://cdn.example.com/posts/a-origin.jpg",
+                1080, 1350, 2_048_000)), PostSaveAction.PUBLISH);
+        return showroomPostService.createPost(showroom.getUser().getId(), request).getPostId();
+    }
+
+    private Users createUser(String username, String nickname) {
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new Users(
+                username, nickname, username + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now));
+    }
+
+    private Creator createShowroom(String showroomName) {
+        Users owner = createUser("creator-" + showroomName, showroomName);
+        return creatorRepository.save(Creator.builder()
+                .user(owner)
+                .snsType(SnsType.INSTAGRAM)
+                .channelUrl("https://instagram.com/showroomz")
+                .accountId("showroomz")
+                .followerCount(1000)
+                .businessEmail("biz@showroomz.test")
+                .showroomName(showroomName)
+                .build());
+    }
+
+    private Long createPublishedPost(Creator showroom, LocalDateTime publishedAt) {
+        Post post = Post.published(showroom, "게시물", new BigDecimal("0.8000"), publishedAt);
+        Long postId = postRepository.save(post).getId();
+        jdbc.update("UPDATE post SET published_at = ? WHERE post_id = ?", publishedAt, postId);
+        return postId;
+    }
+}
@@ -0,0 +1,84 @@
+package showroomz.domain.post.timeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineRingTest {
+
+    @Test
+    @DisplayName("최신순으로 든다 — 새 게시물은 맨 앞, 늦게 온 팬아웃은 제자리에 끼운다")
+    void keepsNewestFirst() {
+        TimelineRing ring = new TimelineRing(5);
+        ring.offer(100, 1);
+        ring.offer(300, 3);
+        ring.offer(200, 2);
+        ring.offer(300, 4);
+
+        assertThat(ring.ids()).containsExactly(4, 3, 2, 1);
+        assertThat(ring.newestTime()).isEqualTo(300);
+        assertThat(ring.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 게시물은 두 번 들지 않는다 — 다시 채운 직후 팬아웃이 겹쳐 와도 한 장이다")
+    void ignoresDuplicates() {
+        TimelineRing ring = new TimelineRing(3);
+
+        assertThat(ring.offer(100, 1)).isTrue();
+        assertThat(ring.offer(100, 1)).isFalse();
+        assertThat(ring.ids()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("꽉 차면 가장 오래된 항목을 버리고, 그보다 오래된 게시물은 받지 않는다 — 둘 다 잘렸다고 표시한다")
+    void dropsOldestWhenFull() {
+        TimelineRing ring = new TimelineRing(3);
+        for (int i = 1; i <= 3; i++) {
+            ring.offer(i * 100L, i);
+        }
+
+        assertThat(ring.offer(50, 9)).isFalse();
+        assertThat(ring.isTruncated()).isTrue();
+
+        ring.offer(400, 4);
+        ring.offer(250, 5);
+
+        assertThat(ring.ids()).containsExactly(4, 3, 5);
+        assertThat(ring.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("주어진 키보다 오래된 항목만 순서대로 읽는다 — 시각이 같으면 id가 작은 쪽이 뒤다")
+    void readsOlderThanKey() {
+        TimelineRing ring = new TimelineRing(8);
+        ring.offer(300, 7);
+        ring.offer(200, 6);
+        ring.offer(200, 5);
+        ring.offer(200, 4);
+        ring.offer(100, 3);
+        long[] times = new long[8];
+        long[] ids = new long[8];
+
+        int count = ring.olderThan(200, 5, times, ids, 2);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(ids).startsWith(4, 3);
+        assertThat(times).startsWith(200, 100);
+        assertThat(ring.olderThan(Long.MAX_VALUE, Long.MAX_VALUE, times, ids, 8)).isEqualTo(5);
+        assertThat(ring.olderThan(100, 3, times, ids, 8)).isZero();
+    }
+
+    @Test
+    @DisplayName("원형으로 여러 바퀴 돌아도 순서가 유지된다")
+    void wrapsAround() {
+        TimelineRing ring = new TimelineRing(4);
+        for (int i = 1; i <= 11; i++) {
+            ring.offer(i * 10L, i);
+        }
+        ring.offer(95, 20);
+
+        assertThat(ring.ids()).containsExactly(11, 10, 20, 9);
+    }
+}
@@ -0,0 +1,132 @@
+package showroomz.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import showroomz.support.Benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 — 20만 상품명에서 "검색어를 포함하는 이름 중 짧은 순 5개"를 고르는 지연(p50·p99)을, 같은 이름을
+ * 메모리에서 전부 훑어 줄 세우는 경우와 비교한다. 훑는 쪽은 예전 {@code LIKE ... ORDER BY LENGTH(name)
+ * LIMIT 5}가 디스크 I/O 없이도 치르는 비용의 하한이다. trie를 함께 든 색인의 점유 힙과 노드 수도 남긴다 —
+ * 운영 힙(256MB) 안에 쇼룸 색인·애플리케이션과 함께 들어가야 한다.
+ *
+ * <p>검색어는 키 입력 순서대로 짧은 것부터 잰다. 한두 글자는 걸리는 이름이 수만 개라 줄 세우는 비용이 가장
+ * 크고, trie 깊이({@value BigramIndex#SUGGESTION_DEPTH})를 넘는 검색어는 2-gram 후보에서 고른다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*AutocompleteBenchmark'}
+ */
+@Tag("benchmark")
+class AutocompleteBenchmark {
+
+    private static final int PRODUCTS = 200_000;
+    private static final int LIMIT = 5;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    @DisplayName("20만 상품명 — 전체 훑어 줄 세우기 대비 trie 자동완성")
+    void compareOnSyntheticCatalog() {
+        List<String> names = BigramIndexBenchmark.productNames(PRODUCTS, new Random(42));
+
+        BigramIndex index = build("synthetic", names);
+
+        for (String keyword : new String[]{"토", "토너", "토너 1", "수분 토너", "ㅅㅂ"}) {
+            compare(index, names, keyword);
+        }
+
+        // 앞 순위 상품이 내려가면 그 검색어의 목록을 한 번 다시 고른다 — 그 한 번의 비용도 남긴다
+        long[] top = index.suggest("토");
+        index.setActive(top[0], false);
+        long repairStart = System.nanoTime();
+        index.suggest("토");
+        System.out.printf("[benchmark] refill after hiding a top suggestion for '토': %d us%n",
+                (System.nanoTime() - repairStart) / 1_000);
+    }
+
+    /**
+     * 실제 상품명은 브랜드·용량·증정 문구가 붙어 조각의 종류가 훨씬 많다. 브랜드를 아무 음절로나 지어 노드 수가
+     * 가장 불어나는 쪽을 따로 재 둔다 — 메모리 상한은 이쪽이 정한다.
+     */
+    @Test
+    @DisplayName("20만 상품명, 브랜드·용량이 붙은 이름 — trie 점유 메모리")
+    void footprintOnVariedCatalog() {
+        Random random = new Random(7);
+        String[] brands = new String[5_000];
+        for (int i = 0; i < brands.length; i++) {
+            brands[i] = syllables(random, 2 + random.nextInt(2));
+        }
+        List<String> base = BigramIndexBenchmark.productNames(PRODUCTS, random);
+        List<String> names = IntStream.range(0, PRODUCTS)
+                .mapToObj(i -> "[" + brands[random.nextInt(brands.length)] + "] " + base.get(i) + " "
+                        + (50 + random.nextInt(20) * 25) + "ml" + (random.nextInt(10) == 0 ? " 1+1" : ""))
+                .toList();
+
+        BigramIndex index = build("varied", names);
+        compare(index, names, "토너");
+        compare(index, names, brands[0].substring(0, 2));
+    }
+
+    private static BigramIndex build(String catalog, List<String> names) {
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        BigramIndex index = new BigramIndex(LIMIT);
+        for (int i = 0; i < names.size(); i++) {
+            index.put(i + 1, names.get(i), 0L, true);
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long retainedKb = Math.max(0, usedHeap() - heapBefore) / 1_024;
+        System.out.printf("[benchmark] %s: index+trie build over %,d names: %d ms, ~%,d KB retained, "
+                        + "%,d trie nodes (~%,d KB)%n",
+                catalog, names.size(), buildMillis, retainedKb, index.suggestionNodes(),
+                index.suggestionBytes() / 1_024);
+        return index;
+    }
+
+    private static String syllables(Random random, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return builder.toString();
+    }
+
+    private void compare(BigramIndex index, List<String> names, String keyword) {
+        String key = SearchText.normalize(keyword);
+        assertThat(index.suggest(keyword)).containsExactly(scan(names, key));
+
+        Benchmark.Result scan = Benchmark.measure("scan+sort '" + keyword + "'", WARMUP / 50, ITERATIONS / 50,
+                () -> scan(names, key));
+        Benchmark.Result suggest = Benchmark.measure("suggest '" + keyword + "'", WARMUP, ITERATIONS,
+                () -> index.suggest(keyword));
+
+        System.out.printf("[benchmark] '%s' — suggest p50 %.1fx / p99 %.1fx faster than scan%n",
+                keyword, scan.p50Micros() / suggest.p50Micros(), scan.p99Micros() / suggest.p99Micros());
+        assertThat(suggest.meanMicros()).isLessThan(scan.meanMicros());
+    }
+
+    /** 포함하는 이름을 모두 찾아 (길이, id) 순으로 앞 {@value #LIMIT}개 */
+    private static long[] scan(List<String> names, String key) {
+        return IntStream.range(0, names.size())
+                .filter(i -> SearchText.contains(names.get(i).toLowerCase(Locale.ROOT), key))
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer i) -> names.get(i).length()).thenComparingInt(i -> i))
+                .limit(LIMIT)
+                .mapToLong(i -> i + 1L)
+                .toArray();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
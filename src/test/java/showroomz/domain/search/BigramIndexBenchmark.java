@@ -0,0 +1,101 @@
+package showroomz.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import showroomz.support.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2-gram 색인 — 20만 상품명에서 후보를 찾는 비용을, 같은 이름을 메모리에서 전부 훑는 경우와 비교한다. 훑는 쪽은
+ * LIKE 전체 스캔이 디스크 I/O 없이도 치르는 비용의 하한이다. 만드는 시간과 대략의 점유 힙도 함께 남긴다.
+ *
+ * <p>이름은 "형용사 품목 번호" 꼴이고 500개 중 하나에만 "한정판"이 붙는다 — 드문 검색어(한정판), 두 단어가
+ * 이어진 검색어(수분 토너), 대소문자가 섞인 검색어, 초성 검색어를 잰다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*BigramIndexBenchmark'}
+ */
+@Tag("benchmark")
+class BigramIndexBenchmark {
+
+    private static final int PRODUCTS = 200_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final String[] ADJECTIVES = {
+            "수분", "진정", "미백", "탄력", "보습", "저자극", "비건", "약산성", "고농축", "데일리",
+            "워터리", "리치", "산뜻한", "촉촉한", "광채", "퍼스트", "나이트", "모닝", "시카", "비타"};
+    private static final String[] ITEMS = {
+            "토너", "앰플", "세럼", "크림", "로션", "클렌징폼", "선크림", "마스크팩", "립밤", "아이크림",
+            "미스트", "에센스", "패드", "오일", "밤", "젤", "쿠션", "팩트", "스크럽", "필링젤",
+            "Toner", "Serum", "Cream", "Pad", "Mist"};
+
+    @Test
+    @DisplayName("20만 상품명 — 전체 훑기 대비 색인 조회")
+    void compareOnSyntheticCatalog() {
+        List<String> names = productNames(PRODUCTS, new Random(42));
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        BigramIndex index = new BigramIndex();
+        for (int i = 0; i < names.size(); i++) {
+            index.put(i + 1, names.get(i), (i % 40) + 1, true);
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long retainedKb = Math.max(0, usedHeap() - heapBefore) / 1_024;
+        System.out.printf("[benchmark] index build over %,d names: %d ms, ~%,d KB retained%n",
+                PRODUCTS, buildMillis, retainedKb);
+
+        compare(index, names, "한정판");
+        compare(index, names, "수분 토너");
+        compare(index, names, "비타 serum");
+        compare(index, names, "ㅅㅋ ㅌㄴ");
+    }
+
+    private void compare(BigramIndex index, List<String> names, String keyword) {
+        String key = SearchText.normalize(keyword);
+        long expected = scan(names, key);
+        assertThat(index.search(keyword)).hasSize((int) expected);
+
+        Benchmark.Result scan = Benchmark.measure("memory scan '" + keyword + "'", WARMUP / 10, ITERATIONS / 10,
+                () -> scan(names, key));
+        Benchmark.Result lookup = Benchmark.measure("index lookup '" + keyword + "'", WARMUP, ITERATIONS,
+                () -> index.search(keyword));
+
+        System.out.printf("[benchmark] '%s' matches %,d — index %.1fx faster than scan%n",
+                keyword, expected, scan.meanMicros() / lookup.meanMicros());
+        assertThat(lookup.meanMicros()).isLessThan(scan.meanMicros());
+    }
+
+    private static long scan(List<String> names, String key) {
+        long count = 0;
+        for (String name : names) {
+            if (SearchText.contains(name.toLowerCase(Locale.ROOT), key)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** {@link KeywordSearchIndexBenchmark}도 같은 규칙의 이름을 DB에 넣는다 */
+    static List<String> productNames(int count, Random random) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + ITEMS[random.nextInt(ITEMS.length)] + " " + random.nextInt(400)
+                    + (random.nextInt(500) == 0 ? " 한정판" : ""));
+        }
+        return names;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,251 @@
+package showroomz.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2-gram 역색인 — 결과가 {@code LIKE '%검색어%'}(대소문자 무시)와 같은지, 문서 변경 뒤에도 그런지 본다.
+ */
+class BigramIndexTest {
+
+    private final BigramIndex index = new BigramIndex();
+
+    @Nested
+    @DisplayName("부분 일치")
+    class Containment {
+
+        @Test
+        @DisplayName("2-gram이 모두 있어도 이어져 있지 않으면 걸리지 않는다")
+        void verifiesAdjacency() {
+            index.put(1L, "토너패드", 0L, true);
+            index.put(2L, "패드 토너", 0L, true);
+
+            assertThat(index.search("토너패드")).containsExactly(1L);
+            assertThat(index.search("너패")).containsExactly(1L);
+            assertThat(index.search("토너")).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("대소문자를 가리지 않고, 공백도 검색어의 일부로 맞춘다")
+        void ignoresCaseKeepsSpaces() {
+            index.put(1L, "Glow Serum", 0L, true);
+            index.put(2L, "glowserum", 0L, true);
+
+            assertThat(index.search("GLOW")).containsExactly(1L, 2L);
+            assertThat(index.search("w s")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("한 글자 검색어는 원문을 훑어 찾는다")
+        void singleCharacterScans() {
+            index.put(3L, "립밤", 0L, true);
+            index.put(1L, "밤 크림", 0L, true);
+            index.put(2L, "토너", 0L, true);
+
+            assertThat(index.search("밤")).containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("자음만 든 검색어는 초성으로 찾고, 이름에 적힌 자음도 그대로 걸린다")
+        void initialsQuery() {
+            index.put(1L, "수분 크림", 0L, true);
+            index.put(2L, "ㅅㅋ 에디션", 0L, true);
+            index.put(3L, "세럼", 0L, true);
+
+            assertThat(index.search("ㅅㅂ")).containsExactly(1L);
+            assertThat(index.search("ㅋㄹ")).containsExactly(1L);
+            assertThat(index.search("ㅅㅋ")).containsExactly(2L);
+            assertThat(index.search("ㅅ")).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("문서 변경")
+    class Updates {
+
+        @Test
+        @DisplayName("이름을 바꾸면 옛 이름으로는 걸리지 않고 새 이름으로 걸린다")
+        void renameReplacesText() {
+            index.put(1L, "수분 토너", 0L, true);
+            index.put(1L, "진정 앰플", 0L, true);
+
+            assertThat(index.search("토너")).isEmpty();
+            assertThat(index.search("앰플")).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비활성 문서는 검색에서 빠지고, 다시 켜면 돌아온다")
+        void inactiveDocumentsAreSkipped() {
+            index.put(1L, "수분 토너", 7L, true);
+            index.setActive(1L, false);
+
+            assertThat(index.search("토너")).isEmpty();
+            assertThat(index.inGroups(new long[]{7L})).isEmpty();
+
+            index.setActive(1L, true);
+            assertThat(index.search("토너")).containsExactly(1L);
+            assertThat(index.inGroups(new long[]{7L})).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("지운 문서와 빈 이름으로 바뀐 문서는 걸리지 않는다")
+        void removedDocumentsAreGone() {
+            index.put(1L, "수분 토너", 0L, true);
+            index.put(2L, "진정 토너", 0L, true);
+            index.remove(1L);
+            index.put(2L, "", 0L, true);
+
+            assertThat(index.search("토너")).isEmpty();
+            assertThat(index.text(1L)).isNull();
+            assertThat(index.size()).isZero();
+        }
+    }
+
+    /**
+     * trie가 미리 골라 둔 목록이 "포함하는 활성 문서 중 짧은 순"과 같은지 — 문서가 꺼지고 켜지며 목록이
+     * 흔들린 뒤에도 그래야 한다.
+     */
+    @Nested
+    @DisplayName("자동완성")
+    class Suggestions {
+
+        private final BigramIndex suggesting = new BigramIndex(2);
+
+        @Test
+        @DisplayName("앞부분이 아니어도 포함하면 걸리고, 이름이 짧은 순이다")
+        void containsShortestFirst() {
+            suggesting.put(1L, "수분 토너 패드", 0L, true);
+            suggesting.put(2L, "토너", 0L, true);
+            suggesting.put(3L, "진정 토너", 0L, true);
+
+            assertThat(suggesting.suggest("토너")).containsExactly(2L, 3L);
+            assertThat(suggesting.suggest("너 패")).containsExactly(1L);
+            assertThat(suggesting.suggest("앰플")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("trie 깊이보다 긴 검색어도 같은 순서로 고른다")
+        void longKeywordRanksCandidates() {
+            suggesting.put(1L, "수분 토너 대용량", 0L, true);
+            suggesting.put(2L, "수분 토너", 0L, true);
+            suggesting.put(3L, "수분 토너 패드", 0L, true);
+
+            assertThat(suggesting.suggest("수분 토너")).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("꺼진 문서 자리는 밀려났던 문서가 메우고, 다시 켜면 제자리로 돌아온다")
+        void refillsAfterDeactivation() {
+            suggesting.put(1L, "크림", 0L, true);
+            suggesting.put(2L, "밤 크림", 0L, true);
+            suggesting.put(3L, "수분 크림", 0L, true);
+
+            suggesting.setActive(1L, false);
+            assertThat(suggesting.suggest("크림")).containsExactly(2L, 3L);
+
+            suggesting.setActive(1L, true);
+            assertThat(suggesting.suggest("크림")).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("이름이 바뀌면 새 길이로 줄 서고, 원문의 대소문자는 그대로 돌려준다")
+        void renameReranks() {
+            suggesting.put(1L, "Glow Serum", 0L, true);
+            suggesting.put(2L, "Serum Mist", 0L, true);
+            suggesting.put(1L, "Glow Serum Duo", 0L, true);
+
+            assertThat(suggesting.suggest("SERUM")).containsExactly(2L, 1L);
+            assertThat(suggesting.display(1L)).isEqualTo("Glow Serum Duo");
+        }
+
+        @Test
+        @DisplayName("그룹째 끄면 그 그룹 문서가 빠지고, 순위를 따로 주면 그 순서로 선다")
+        void groupDeactivationAndExplicitRank() {
+            suggesting.put(1L, "glow", 7L, true, 10);
+            suggesting.put(2L, "glowing", 8L, true, 3);
+
+            assertThat(suggesting.suggest("glow")).containsExactly(2L, 1L);
+
+            suggesting.setActiveInGroup(8L, false);
+            assertThat(suggesting.suggest("glow")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("자음만 든 검색어는 초성으로 고른다")
+        void initialsQuery() {
+            suggesting.put(1L, "수분 크림", 0L, true);
+            suggesting.put(2L, "세럼", 0L, true);
+
+            assertThat(suggesting.suggest("ㅅ")).containsExactly(2L, 1L);
+            assertThat(suggesting.suggest("ㅋㄹ")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("문서가 많고 자주 꺼져도 결과는 전부 훑어 고른 것과 같다")
+        void matchesBruteForce() {
+            Random random = new Random(7);
+            String[] words = {"토너", "크림", "패드", "수분", "밤"};
+            Map<Long, String> names = new HashMap<>();
+            Set<Long> off = new HashSet<>();
+            for (long id = 1; id <= 300; id++) {
+                String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                        + " ".repeat(random.nextInt(4)) + id;
+                names.put(id, name);
+                suggesting.put(id, name, 0L, true);
+            }
+            for (int round = 0; round < 200; round++) {
+                long id = 1 + random.nextInt(300);
+                boolean on = off.remove(id);
+                if (!on) {
+                    off.add(id);
+                }
+                suggesting.setActive(id, on);
+
+                for (String keyword : new String[]{"크", "토너", "밤 ", "드 1"}) {
+                    long[] expected = names.entrySet().stream()
+                            .filter(e -> !off.contains(e.getKey()) && e.getValue().contains(keyword))
+                            .sorted(Map.Entry.<Long, String>comparingByValue(
+                                            Comparator.comparingInt(String::length))
+                                    .thenComparing(Map.Entry.comparingByKey()))
+                            .limit(2)
+                            .mapToLong(Map.Entry::getKey)
+                            .toArray();
+                    assertThat(suggesting.suggest(keyword)).as(keyword).containsExactly(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("교집합은 긴 목록을 건너뛰어도 빠뜨리는 후보가 없다")
+    void intersectionMatchesLinearScan() {
+        for (long id = 1; id <= 5_000; id++) {
+            index.put(id, (id % 7 == 0 ? "수분 " : "") + "크림 " + id, 0L, true);
+        }
+
+        long[] found = index.search("수분 크림");
+
+        assertThat(found).hasSize(5_000 / 7);
+        assertThat(Arrays.stream(found).allMatch(id -> id % 7 == 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("두 오름차순 id 배열의 합집합은 중복 없이 오름차순이다")
+    void unionMergesSortedIds() {
+        assertThat(KeywordSearchIndex.union(new long[]{1, 3, 5}, new long[]{2, 3, 9}))
+                .containsExactly(1, 2, 3, 5, 9);
+        assertThat(KeywordSearchIndex.union(new long[0], new long[]{4})).containsExactly(4);
+    }
+}
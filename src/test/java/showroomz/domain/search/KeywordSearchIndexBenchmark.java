@@ -0,0 +1,115 @@
+package showroomz.domain.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showroomz.domain.category.entity.Category;
+import showroomz.domain.category.repository.CategoryRepository;
+import showroomz.domain.product.entity.Product;
+import showroomz.domain.product.repository.ProductRepository;
+import showroomz.support.Benchmark;
+import showroomz.support.IntegrationTestSupport;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 키워드 검색 요청 경로 — 예전 LIKE 쿼리(목록 + 건수, 둘 다 전체 스캔)와 색인 후보 + PK 조회를 같은 검색어로
+ * 비교한다. 두 경로의 건수가 같은지 먼저 확인한다.
+ *
+ * <p>카탈로그는 {@value #PRODUCTS}개다. 256MB 힙 안에 인메모리 H2가 함께 있어 20만 행은 올릴 수 없다 — 20만 규모의
+ * 색인 자체는 {@link BigramIndexBenchmark}가 DB 없이 잰다. 이름은 그쪽과 같은 규칙으로 만들고, 행은 엔티티를
+ * 거치지 않고 JDBC 일괄 INSERT로 넣은 뒤 색인을 재구성한다.
+ *
+ * <p>실행: {@code ./gradlew benchmark --tests '*KeywordSearchIndexBenchmark'}
+ */
+@Tag("benchmark")
+class KeywordSearchIndexBenchmark extends IntegrationTestSupport {
+
+    private static final int PRODUCTS = 20_000;
+    private static final int MARKETS = 40;
+    private static final int BATCH = 5_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO product (market_id, category_id, name, regular_price, sale_price, display_status, "
+                    + "group_buy_status, is_out_of_stock_forced, is_recommended, created_at) "
+                    + "VALUES (?, ?, ?, 20000, 18000, 'DISPLAY', 'IN_PROGRESS', false, ?, ?)";
+
+    @Autowired
+    private KeywordSearchIndex keywordSearchIndex;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedCatalog() {
+        Category category = new Category();
+        category.setName("스킨케어");
+        categoryRepository.save(category);
+        long[] marketIds = new long[MARKETS];
+        for (int m = 0; m < MARKETS; m++) {
+            marketIds[m] = fixture.createBrand("bench" + m + "@showroomz.test", "벤치마켓" + m).market().getId();
+        }
+
+        List<String> names = BigramIndexBenchmark.productNames(PRODUCTS, new Random(42));
+        Timestamp createdAt = Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"));
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < PRODUCTS; i++) {
+            rows.add(new Object[]{marketIds[i % MARKETS], category.getCategoryId(), names.get(i), i % 10 == 0,
+                    new Timestamp(createdAt.getTime() + i * 1_000L)});
+            if (rows.size() == BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_PRODUCT, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT, rows);
+        }
+    }
+
+    @Test
+    @DisplayName("2만 상품 — LIKE 전체 스캔 대비 색인 후보 + PK 조회")
+    void compareOnSyntheticCatalog() {
+        keywordSearchIndex.rebuild();
+
+        compare("한정판");
+        compare("수분 토너");
+        compare("비타 serum");
+    }
+
+    private void compare(String keyword) {
+        PageRequest firstPage = PageRequest.of(0, 20);
+        Page<Product> legacy = productRepository.searchProductsForUser(keyword, null, null, List.of(), "RECOMMEND", firstPage);
+        long[] candidates = keywordSearchIndex.findProductIds(keyword);
+        Page<Product> indexed = productRepository.searchProductsForUserIn(
+                Arrays.stream(candidates).boxed().toList(), null, null, List.of(), "RECOMMEND", firstPage);
+        assertThat(indexed.getTotalElements()).isEqualTo(legacy.getTotalElements());
+        System.out.printf("[benchmark] keyword '%s' matches %,d products%n", keyword, candidates.length);
+
+        Benchmark.Result like = Benchmark.measure("LIKE page+count '" + keyword + "'", WARMUP, ITERATIONS,
+                () -> productRepository.searchProductsForUser(keyword, null, null, List.of(), "RECOMMEND", firstPage));
+        Benchmark.Result byIds = Benchmark.measure("index+PK page+count '" + keyword + "'", WARMUP, ITERATIONS,
+                () -> productRepository.searchProductsForUserIn(
+                        Arrays.stream(keywordSearchIndex.findProductIds(keyword)).boxed().toList(),
+                        null, null, List.of(), "RECOMMEND", firstPage));
+
+        System.out.printf("[benchmark] '%s' — index+PK search %.1fx faster than LIKE%n",
+                keyword, like.meanMicros() / byIds.meanMicros());
+        assertThat(byIds.meanMicros()).isLessThan(like.meanMicros());
+    }
+}
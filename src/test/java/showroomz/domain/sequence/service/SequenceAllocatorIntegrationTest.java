@@ -0,0 +1,85 @@
+package showroomz.domain.sequence.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import showroomz.support.IntegrationTestSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 인스턴스가 같은 채번 행을 나눠 쓰는 상황 — 인스턴스마다 메모리 블록을 따로 들고 있어도
+ * 행 잠금으로 구간을 떼어 가므로 번호가 겹치지 않아야 한다.
+ */
+class SequenceAllocatorIntegrationTest extends IntegrationTestSupport {
+
+    private static final String KEY = "SRZ-20261018";
+
+    @Autowired
+    private SequenceBlockStore blockStore;
+
+    @Test
+    @DisplayName("인스턴스 둘이 동시에 번호를 받아도 중복이 없다")
+    void concurrentInstancesNeverCollide() throws Exception {
+        List<SequenceAllocator> instances = List.of(
+                new SequenceAllocator(blockStore, 5), new SequenceAllocator(blockStore, 5));
+        // 첫 행은 미리 만들어 둔다 — 첫 행을 함께 만드는 경합은 아래 테스트 몫이다
+        blockStore.reserve(KEY, 1);
+
+        Set<Long> issued = issueConcurrently(instances, 8, 25);
+
+        assertThat(issued).hasSize(8 * 25);
+        assertThat(issued).doesNotContain(1L);
+    }
+
+    @Test
+    @DisplayName("그날 첫 번호를 여러 인스턴스가 동시에 받아도 실패·중복 없이 1부터 나눈다")
+    void concurrentFirstReservationOfTheDay() throws Exception {
+        List<SequenceAllocator> instances = List.of(
+                new SequenceAllocator(blockStore, 5), new SequenceAllocator(blockStore, 5),
+                new SequenceAllocator(blockStore, 5), new SequenceAllocator(blockStore, 5));
+
+        Set<Long> issued = issueConcurrently(instances, 4, 5);
+
+        assertThat(issued).hasSize(4 * 5);
+        assertThat(issued).contains(1L);
+    }
+
+    /** 스레드마다 인스턴스를 돌려 가며 맡기고, 한꺼번에 출발시킨다 */
+    private Set<Long> issueConcurrently(List<SequenceAllocator> instances, int threads, int perThread)
+            throws Exception {
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SequenceAllocator allocator = instances.get(t % instances.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        assertThat(issued.add(allocator.next(KEY))).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return issued;
+    }
+}
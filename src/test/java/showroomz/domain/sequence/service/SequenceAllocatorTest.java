@@ -0,0 +1,83 @@
+package showroomz.domain.sequence.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 블록 단위 채번 — DB는 블록이 바닥날 때만 닿고, 그 사이 번호는 메모리에서 나간다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SequenceAllocatorTest {
+
+    private static final String TODAY = "SRZ-20261018";
+
+    @Mock
+    private SequenceBlockStore blockStore;
+
+    @Test
+    @DisplayName("한 블록 안에서는 DB에 다시 닿지 않고 연속 번호를 낸다")
+    void servesBlockFromMemory() {
+        given(blockStore.reserve(TODAY, 3)).willReturn(1L, 4L);
+        SequenceAllocator allocator = new SequenceAllocator(blockStore, 3);
+
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            issued.add(allocator.next(TODAY));
+        }
+
+        assertThat(issued).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(blockStore, times(2)).reserve(TODAY, 3);
+    }
+
+    /** 다른 인스턴스가 구간을 먼저 가져갔으면 그 구간은 건너뛴다 — 중복 없이 공백만 생긴다. */
+    @Test
+    @DisplayName("다음 블록이 떨어져 있으면 그 시작값부터 이어서 낸다")
+    void skipsRangesTakenElsewhere() {
+        given(blockStore.reserve(TODAY, 2)).willReturn(1L, 7L);
+        SequenceAllocator allocator = new SequenceAllocator(blockStore, 2);
+
+        assertThat(List.of(allocator.next(TODAY), allocator.next(TODAY), allocator.next(TODAY)))
+                .containsExactly(1L, 2L, 7L);
+    }
+
+    @Test
+    @DisplayName("키마다 블록을 따로 들고 있다")
+    void keepsBlocksPerKey() {
+        given(blockStore.reserve(eq(TODAY), anyInt())).willReturn(1L);
+        given(blockStore.reserve(eq("QNA-20261018"), anyInt())).willReturn(31L);
+        SequenceAllocator allocator = new SequenceAllocator(blockStore, 10);
+
+        assertThat(allocator.next(TODAY)).isEqualTo(1L);
+        assertThat(allocator.next("QNA-20261018")).isEqualTo(31L);
+        assertThat(allocator.next(TODAY)).isEqualTo(2L);
+        assertThat(allocator.next("QNA-20261018")).isEqualTo(32L);
+    }
+
+    /** 날짜가 넘어가면 전날 블록은 다시 쓸 일이 없다 — 메모리에 일자별 키가 쌓이지 않아야 한다. */
+    @Test
+    @DisplayName("같은 접두어의 새 날짜 키를 받으면 전날 블록을 내려놓는다")
+    void dropsPreviousDayBlock() {
+        given(blockStore.reserve(eq(TODAY), anyInt())).willReturn(1L, 11L);
+        given(blockStore.reserve(eq("SRZ-20261019"), anyInt())).willReturn(1L);
+        SequenceAllocator allocator = new SequenceAllocator(blockStore, 10);
+
+        allocator.next(TODAY);
+        allocator.next("SRZ-20261019");
+
+        // 전날 블록이 남아 있었다면 2가 나왔을 것이다
+        assertThat(allocator.next(TODAY)).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,81 @@
+package showroomz.domain.stats.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollupWindowTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDateTime NOW = TODAY.atTime(14, 30);
+    private static final long LAST_ID = 500L;
+    private static final long MAX_ID = 800L;
+
+    @Test
+    @DisplayName("첫날 일부와 오늘은 원천 로그, 그 사이 온전한 날은 롤업에서 읽는다")
+    void splitsHeadAndTailAroundFullDays() {
+        RollupWindow window = RollupWindow.of(NOW.minusDays(7), NOW, TODAY.minusDays(1), LAST_ID, () -> MAX_ID);
+
+        assertThat(window.firstDay()).isEqualTo(TODAY.minusDays(6));
+        assertThat(window.lastDay()).isEqualTo(TODAY.minusDays(1));
+        assertThat(window.rawRanges()).containsExactly(
+                new RollupWindow.Range(NOW.minusDays(7), TODAY.minusDays(6).atStartOfDay()),
+                new RollupWindow.Range(TODAY.minusDays(6).atStartOfDay(), TODAY.atStartOfDay(), LAST_ID, MAX_ID),
+                new RollupWindow.Range(TODAY.atStartOfDay(), NOW));
+    }
+
+    @Test
+    @DisplayName("자정에 시작하면 첫날도 롤업에서 읽는다")
+    void midnightStartHasNoHead() {
+        RollupWindow window = RollupWindow.of(TODAY.minusDays(3).atStartOfDay(), NOW, TODAY.minusDays(1), LAST_ID,
+                () -> MAX_ID);
+
+        assertThat(window.firstDay()).isEqualTo(TODAY.minusDays(3));
+        assertThat(window.rawRanges()).containsExactly(
+                new RollupWindow.Range(TODAY.minusDays(3).atStartOfDay(), TODAY.atStartOfDay(), LAST_ID, MAX_ID),
+                new RollupWindow.Range(TODAY.atStartOfDay(), NOW));
+    }
+
+    @Test
+    @DisplayName("배치가 밀렸으면 확정되지 않은 날도 원천 로그 꼬리에 들어간다")
+    void lagsBehindCompletedThrough() {
+        RollupWindow window = RollupWindow.of(NOW.minusDays(7), NOW, TODAY.minusDays(3), LAST_ID, () -> MAX_ID);
+
+        assertThat(window.lastDay()).isEqualTo(TODAY.minusDays(3));
+        assertThat(window.rawRanges()).last()
+                .isEqualTo(new RollupWindow.Range(TODAY.minusDays(2).atStartOfDay(), NOW));
+    }
+
+    @Test
+    @DisplayName("롤업이 없거나 온전한 날이 없으면 전 구간을 원천 로그에서 읽는다")
+    void fallsBackToRawOnly() {
+        assertThat(RollupWindow.of(NOW.minusDays(7), NOW, null, 0L, () -> MAX_ID).hasRollupDays()).isFalse();
+
+        RollupWindow sameDay = RollupWindow.of(TODAY.atStartOfDay(), NOW, TODAY.minusDays(1), LAST_ID, () -> MAX_ID);
+        assertThat(sameDay.hasRollupDays()).isFalse();
+        assertThat(sameDay.rawRanges()).containsExactly(new RollupWindow.Range(TODAY.atStartOfDay(), NOW));
+    }
+
+    @Test
+    @DisplayName("워터마크 뒤에 행이 없으면 롤업 구간의 늦은 행은 읽지 않는다")
+    void skipsLateRangeWhenNothingPastWatermark() {
+        RollupWindow window = RollupWindow.of(NOW.minusDays(7), NOW, TODAY.minusDays(1), LAST_ID, () -> LAST_ID);
+
+        assertThat(window.hasRollupDays()).isTrue();
+        assertThat(window.rawRanges()).containsExactly(
+                new RollupWindow.Range(NOW.minusDays(7), TODAY.minusDays(6).atStartOfDay()),
+                new RollupWindow.Range(TODAY.atStartOfDay(), NOW));
+    }
+
+    @Test
+    @DisplayName("롤업된 날이 없으면 최대 id를 묻지 않는다")
+    void asksMaxIdOnlyWithRollupDays() {
+        RollupWindow.of(TODAY.atStartOfDay(), NOW, TODAY.minusDays(1), LAST_ID, () -> {
+            throw new AssertionError("max id queried");
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package showroomz.domain.stats.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import showroomz.api.app.auth.entity.ProviderType;
+import showroomz.api.app.auth.entity.RoleType;
+import showroomz.api.app.user.repository.UserRepository;
+import showroomz.domain.market.type.SnsType;
+import showroomz.domain.member.creator.entity.Creator;
+import showroomz.domain.member.creator.entity.CreatorFollow;
+import showroomz.domain.member.creator.repository.CreatorFollowRepository;
+import showroomz.domain.member.creator.repository.CreatorRepository;
+import showroomz.domain.member.user.entity.Users;
+import showroomz.domain.post.entity.Post;
+import showroomz.domain.post.entity.PostImpression;
+import showroomz.domain.post.repository.PostImpressionRepository;
+import showroomz.domain.post.repository.PostRepository;
+import showroomz.domain.showroom.entity.ShowroomVisit;
+import showroomz.domain.showroom.repository.ShowroomVisitRepository;
+import showroomz.domain.showroom.type.ShowroomVisitSource;
+import showroomz.domain.stats.repository.StatsRollupWatermarkRepository;
+import showroomz.domain.stats.type.StatsRollupSource;
+import showroomz.support.IntegrationTestSupport;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 롤업의 계약은 하나다 — <b>롤업을 거친 숫자가 원천 로그 집계와 같아야 한다.</b>
+ *
+ * <p>여러 날에 걸쳐 로그를 깔고 접은 뒤, 날짜 경계에 맞지 않는 기간·딱 맞는 기간·오늘만 포함한 기간마다
+ * 집계 계층과 원천 리포지토리의 결과를 나란히 비교한다. 방문자·조회자처럼 더할 수 없는 값이 구간을
+ * 나눌 때 두 번 세지 않는지가 핵심이다.
+ */
+@DisplayName("[통합] 일별 롤업 — 원천 집계와 같은 숫자")
+class StatsRollupIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+    @Autowired
+    private ShowroomVisitStatsReader showroomVisitStatsReader;
+    @Autowired
+    private PostImpressionStatsReader postImpressionStatsReader;
+    @Autowired
+    private StatsRollupWatermarkRepository watermarkRepository;
+    @Autowired
+    private ShowroomVisitRepository showroomVisitRepository;
+    @Autowired
+    private PostImpressionRepository postImpressionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private CreatorFollowRepository creatorFollowRepository;
+    @Autowired
+    private PostRepository postRepository;
+
+    private LocalDateTime now;
+    private LocalDate today;
+    /** 접는 기준 시각 — 자정 직후 실행이면 멈추는 시각이 바뀌므로 한낮으로 고정한다 */
+    private LocalDateTime foldAt;
+    private Creator showroom;
+    private Post post;
+    private List<Users> viewers;
+
+    @BeforeEach
+    void seedLogs() {
+        now = LocalDateTime.now();
+        today = now.toLocalDate();
+        foldAt = today.atTime(12, 0);
+        showroom = createShowroom("soyeon");
+        post = postRepository.save(Post.published(showroom, "루틴", new BigDecimal("0.8000"), now.minusDays(20)));
+        viewers = List.of(
+                createUser("mia", "F", "19990101"),
+                createUser("joon", "M", "19850505"),
+                createUser("hana", "F", null));
+        // 두 명만 팔로워 — 팔로워 행동 카드가 사용자별로 합치는지 본다
+        creatorFollowRepository.save(new CreatorFollow(viewers.get(0), showroom));
+        creatorFollowRepository.save(new CreatorFollow(viewers.get(1), showroom));
+
+        ShowroomVisitSource[] sources = ShowroomVisitSource.values();
+        for (int daysAgo = 12; daysAgo >= 0; daysAgo--) {
+            LocalDateTime day = today.minusDays(daysAgo).atStartOfDay();
+            for (int hour = 1; hour < 24; hour += 5) {
+                // 오늘치는 아직 지나지 않은 시각을 피해 자정에 몰아 둔다
+                LocalDateTime at = daysAgo == 0 ? day : day.plusHours(hour);
+                int i = daysAgo + hour;
+                Users user = i % 4 == 3 ? null : viewers.get(i % 3);
+                String key = user == null ? "anon-" + (i % 5) : "u" + user.getId();
+                visit(user, key, sources[i % sources.length], i % 2 == 0 ? post.getId() : null, at);
+                impression(user, key, at);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("접은 뒤에도 기간마다 원천 집계와 같다")
+    void rolledUpReadsMatchRawQueries() {
+        while (statsRollupService.foldShowroomVisits(foldAt)) {
+        }
+        while (statsRollupService.foldPostImpressions(foldAt)) {
+        }
+
+        assertThat(watermarkRepository.findById(StatsRollupSource.SHOWROOM_VISIT).orElseThrow()
+                .getCompletedThrough()).isEqualTo(today.minusDays(1));
+        assertMatchesRaw(now.minusDays(30), now);
+        assertMatchesRaw(now.minusDays(7), now);
+        assertMatchesRaw(today.minusDays(5).atStartOfDay(), now);
+        assertMatchesRaw(today.minusDays(9).atTime(13, 0), today.minusDays(2).atTime(7, 30));
+        assertMatchesRaw(today.atStartOfDay(), now);
+    }
+
+    @Test
+    @DisplayName("접은 뒤 늦게 들어온 로그도 다음 배치가 제 날짜에 더한다")
+    void lateRowsAreFoldedIntoTheirDay() {
+        statsRollupService.foldShowroomVisits(foldAt);
+        statsRollupService.foldPostImpressions(foldAt);
+
+        LocalDateTime yesterdayNoon = today.minusDays(1).atTime(12, 0);
+        visit(viewers.get(2), "u" + viewers.get(2).getId(), ShowroomVisitSource.DIRECT, post.getId(), yesterdayNoon);
+        visit(null, "anon-late", ShowroomVisitSource.APP_SEARCH, null, yesterdayNoon);
+        impression(null, "anon-late", yesterdayNoon);
+
+        statsRollupService.foldShowroomVisits(foldAt);
+        statsRollupService.foldPostImpressions(foldAt);
+
+        assertMatchesRaw(now.minusDays(30), now);
+        assertMatchesRaw(now.minusDays(3), now);
+    }
+
+    @Test
+    @DisplayName("자정 직후에는 몇 분 전에 쓰인 어제 행을 접지 않고 다음 실행에 넘긴다")
+    void rowsInsideTheSettleWindowWaitForTheNextRun() {
+        // 깔아 둔 로그를 내일 기준으로 모두 접어, 새로 넣는 행이 워터마크 바로 다음이 되게 한다
+        LocalDate tomorrow = today.plusDays(1);
+        while (statsRollupService.foldShowroomVisits(tomorrow.atTime(12, 0))) {
+        }
+        long folded = watermarkRepository.findById(StatsRollupSource.SHOWROOM_VISIT).orElseThrow().getLastId();
+        Long settling = visit(viewers.get(0), "u" + viewers.get(0).getId(), ShowroomVisitSource.DIRECT, null,
+                today.atTime(23, 58));
+
+        statsRollupService.foldShowroomVisits(tomorrow.atTime(0, 1));
+
+        assertThat(watermarkRepository.findById(StatsRollupSource.SHOWROOM_VISIT).orElseThrow().getLastId())
+                .isEqualTo(folded);
+
+        statsRollupService.foldShowroomVisits(tomorrow.atTime(0, 10));
+
+        assertThat(watermarkRepository.findById(StatsRollupSource.SHOWROOM_VISIT).orElseThrow().getLastId())
+                .isEqualTo(settling);
+    }
+
+    @Test
+    @DisplayName("아직 접지 않았으면 원천 로그만 읽는다")
+    void readsRawBeforeFirstRollup() {
+        assertMatchesRaw(now.minusDays(30), now);
+    }
+
+    private void assertMatchesRaw(LocalDateTime from, LocalDateTime to) {
+        Long creatorId = showroom.getId();
+        Long postId = post.getId();
+
+        assertThat(showroomVisitStatsReader.countVisits(creatorId, from, to))
+                .isEqualTo(showroomVisitRepository.countVisits(creatorId, from, to));
+        assertThat(showroomVisitStatsReader.countVisitors(creatorId, from, to))
+                .isEqualTo(showroomVisitRepository.countVisitors(creatorId, from, to));
+        assertThat(toMap(showroomVisitStatsReader.countVisitsBySource(creatorId, from, to)))
+                .isEqualTo(toMap(showroomVisitRepository.countVisitsBySource(creatorId, from, to)));
+        assertThat(showroomVisitStatsReader.countVisitsPerFollower(creatorId, from, to))
+                .containsExactlyInAnyOrderElementsOf(toMap(
+                        showroomVisitRepository.countVisitsPerFollower(creatorId, from, to)).values());
+        assertThat(showroomVisitStatsReader.countAttributedVisits(postId, from, to))
+                .isEqualTo(showroomVisitRepository.countAttributedVisits(postId, from, to));
+
+        assertThat(postImpressionStatsReader.countByPostIdInPeriod(postId, from, to))
+                .isEqualTo(postImpressionRepository.countByPostIdInPeriod(postId, from, to));
+        assertThat(viewerKeys(postImpressionStatsReader.findViewerDemographics(postId, from, to)))
+                .isEqualTo(viewerKeys(postImpressionRepository.findViewerDemographics(postId, from, to)));
+    }
+
+    private static Map<Object, Long> toMap(List<Object[]> rows) {
+        Map<Object, Long> map = new HashMap<>();
+        rows.forEach(row -> map.put(row[0], ((Number) row[1]).longValue()));
+        return map;
+    }
+
+    private static Set<String> viewerKeys(List<Object[]> rows) {
+        return rows.stream().map(row -> row[0] + "/" + row[1] + "/" + row[2]).collect(Collectors.toSet());
+    }
+
+    private Long visit(Users user, String visitorKey, ShowroomVisitSource source, Long postId, LocalDateTime at) {
+        ShowroomVisit visit = new ShowroomVisit(showroom, user, visitorKey, source, at);
+        visit.attributeTo(postId);
+        return showroomVisitRepository.save(visit).getId();
+    }
+
+    private void impression(Users user, String viewerKey, LocalDateTime at) {
+        postImpressionRepository.save(new PostImpression(post, showroom.getId(), user, viewerKey, at));
+    }
+
+    private Users createUser(String username, String gender, String birthday) {
+        Users user = new Users(username, username, username + "@showroomz.test", "Y", null,
+                ProviderType.LOCAL, RoleType.USER, now, now);
+        user.setGender(gender);
+        user.setBirthday(birthday);
+        return userRepository.save(user);
+    }
+
+    private Creator createShowroom(String handle) {
+        Users owner = createUser("creator-" + handle, null, null);
+        Creator creator = Creator.builder()
+                .user(owner)
+                .snsType(SnsType.INSTAGRAM)
+                .channelUrl("https://instagram.com/" + handle)
+                .accountId(handle)
+                .followerCount(1000)
+                .businessEmail("biz@showroomz.test")
+                .showroomName(handle)
+                .build();
+        creator.assignShowroomAddressIfAbsent(handle);
+        return creatorRepository.save(creator);
+    }
+}
@@ -0,0 +1,63 @@
+package showroomz.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.global.service.GeoLocationService.GeoLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GeoIP 결과 캐시 — 같은 IP는 mmdb를 한 번만 조회하고, 상한을 넘으면 오래 안 쓴 IP부터 밀려난다.
+ */
+class GeoLocationServiceTest {
+
+    private final List<String> lookedUp = new ArrayList<>();
+
+    private GeoLocationService service(int cacheSize) {
+        return new GeoLocationService(cacheSize, ip -> {
+            lookedUp.add(ip);
+            return new GeoLocation("South Korea", "Seoul");
+        });
+    }
+
+    @Test
+    @DisplayName("같은 IP는 한 번만 조회하고 같은 결과를 돌려준다")
+    void repeatedIpIsServedFromCache() {
+        GeoLocationService service = service(10);
+
+        GeoLocation first = service.getLocation("203.0.113.7");
+        GeoLocation second = service.getLocation("203.0.113.7");
+
+        assertThat(second).isSameAs(first);
+        assertThat(lookedUp).containsExactly("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 안 쓴 IP가 밀려나 다시 조회된다")
+    void leastRecentlyUsedIpIsEvicted() {
+        GeoLocationService service = service(2);
+        service.getLocation("203.0.113.1");
+        service.getLocation("203.0.113.2");
+        service.getLocation("203.0.113.1");
+        service.getLocation("203.0.113.3");
+
+        service.getLocation("203.0.113.1");
+        service.getLocation("203.0.113.2");
+
+        assertThat(service.cachedCount()).isEqualTo(2);
+        assertThat(lookedUp).containsExactly("203.0.113.1", "203.0.113.2", "203.0.113.3", "203.0.113.2");
+    }
+
+    @Test
+    @DisplayName("루프백은 조회하지도 담지도 않는다")
+    void loopbackIsNeverLookedUp() {
+        GeoLocationService service = service(10);
+
+        assertThat(service.getLocation("127.0.0.1").getCountry()).isEqualTo("Unknown");
+        assertThat(lookedUp).isEmpty();
+        assertThat(service.cachedCount()).isZero();
+    }
+}
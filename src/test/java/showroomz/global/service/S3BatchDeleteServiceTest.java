@@ -0,0 +1,96 @@
+package showroomz.global.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.global.config.properties.S3Properties;
+import showroomz.support.LocalS3Stub;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3 일괄 삭제 — 실제 SDK 요청을 {@link LocalS3Stub}에 보내 천 개 단위 분할과 키별 결과를 확인한다.
+ *
+ * <p>호출하는 배치는 돌려받은 키만 지워진 것으로 믿고 DB 행을 지운다. 지우지 못한 키가 결과에 섞이면
+ * S3 객체가 남은 채 행이 사라져 다시는 찾을 수 없으므로, 실패한 키가 결과에서 빠지는 것이 가장 중요하다.
+ */
+class S3BatchDeleteServiceTest {
+
+    private LocalS3Stub s3;
+    private S3Client s3Client;
+    private S3BatchDeleteService service;
+
+    @BeforeEach
+    void setUp() {
+        s3 = LocalS3Stub.start();
+        s3Client = s3.client();
+        S3Properties s3Properties = new S3Properties();
+        s3Properties.setBucket("showroomz-test");
+        service = new S3BatchDeleteService(s3Client, s3Properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        s3.close();
+    }
+
+    private static List<String> keys(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "posts/" + i + ".jpg").toList();
+    }
+
+    @Test
+    @DisplayName("천 개씩 묶어 요청하고 지운 키를 모두 돌려준다")
+    void splitsIntoRequestsOfAtMostOneThousand() {
+        List<String> keys = keys(2_500);
+        s3.put(keys);
+
+        Set<String> deleted = service.deleteAll(keys);
+
+        assertThat(deleted).containsExactlyInAnyOrderElementsOf(keys);
+        assertThat(s3.deleteRequests()).extracting(List::size).containsExactly(1000, 1000, 500);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키별 오류가 난 키만 결과에서 빠지고 나머지는 지워진다")
+    void perKeyErrorsAreExcluded() {
+        List<String> keys = List.of("posts/a.jpg", "posts/소연 b.jpg", "posts/c&d.jpg");
+        s3.put(keys);
+        s3.deny("posts/소연 b.jpg");
+
+        Set<String> deleted = service.deleteAll(keys);
+
+        assertThat(deleted).containsExactlyInAnyOrder("posts/a.jpg", "posts/c&d.jpg");
+        assertThat(s3.objects()).containsExactly("posts/소연 b.jpg");
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 예외 없이 그 묶음을 전부 실패로 돌려준다")
+    void failedRequestReportsNothingDeleted() {
+        List<String> keys = keys(3);
+        s3.put(keys);
+        s3.setUnavailable(true);
+
+        assertThat(service.deleteAll(keys)).isEmpty();
+        assertThat(s3.objects()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("중복과 null은 한 번만, 빈 목록은 요청 없이 끝낸다")
+    void duplicatesAndNullsAreDropped() {
+        List<String> keys = new ArrayList<>(Arrays.asList("posts/a.jpg", null, "posts/a.jpg"));
+
+        assertThat(service.deleteAll(keys)).containsExactly("posts/a.jpg");
+        assertThat(service.deleteAll(List.of())).isEmpty();
+        assertThat(s3.deleteRequests()).containsExactly(List.of("posts/a.jpg"));
+    }
+}
@@ -0,0 +1,85 @@
+package showroomz.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showroomz.domain.common.SeekKey;
+import showroomz.global.error.exception.BusinessException;
+import showroomz.global.error.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록 커서 — 서버가 내준 위치에서만 이어 읽게 하는 것이 계약이다. 고친 커서, 다른 목록의 커서, 다른 서버 비밀로
+ * 서명된 커서가 모두 같은 400으로 막히는지 본다.
+ */
+class CursorCodecTest {
+
+    private static final SeekKey KEY = new SeekKey(40L, LocalDateTime.of(2026, 3, 4, 12, 34, 56, 789_000_000), 123L);
+
+    private final CursorCodec codec = new CursorCodec("test-secret");
+
+    @Test
+    @DisplayName("내준 커서는 같은 목록에서 그대로 되돌아온다 — 시각은 나노초까지 보존된다")
+    void roundTrips() {
+        String cursor = codec.encode("liked:MOST_LIKED", KEY);
+
+        assertThat(codec.decode("liked:MOST_LIKED", cursor)).isEqualTo(KEY);
+    }
+
+    @Test
+    @DisplayName("커서는 URL에 그대로 실을 수 있는 문자만 쓴다")
+    void isUrlSafe() {
+        assertThat(codec.encode("posts", KEY)).matches("[A-Za-z0-9_\\-.]+");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지다")
+    void blankMeansFirstPage() {
+        assertThat(codec.decode("posts", null)).isNull();
+        assertThat(codec.decode("posts", " ")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 목록의 커서는 거절한다 — 정렬이 다르면 같은 키도 엉뚱한 위치를 가리킨다")
+    void rejectsCursorFromAnotherScope() {
+        String cursor = codec.encode("liked:MOST_LIKED", KEY);
+
+        assertInvalid("liked:DEFAULT", cursor);
+    }
+
+    @Test
+    @DisplayName("앞부분(키)을 고친 커서는 거절한다")
+    void rejectsTamperedBody() {
+        String cursor = codec.encode("posts", KEY);
+        String forged = codec.encode("posts", new SeekKey(0L, KEY.at(), 1L));
+        String spliced = forged.substring(0, forged.indexOf('.')) + cursor.substring(cursor.indexOf('.'));
+
+        assertInvalid("posts", spliced);
+    }
+
+    @Test
+    @DisplayName("다른 비밀로 서명된 커서는 거절한다")
+    void rejectsForeignSecret() {
+        String cursor = new CursorCodec("another-secret").encode("posts", KEY);
+
+        assertInvalid("posts", cursor);
+    }
+
+    @Test
+    @DisplayName("모양이 깨진 값은 500이 아니라 400이다")
+    void rejectsGarbage() {
+        assertInvalid("posts", "not-a-cursor");
+        assertInvalid("posts", "%%%.%%%");
+        assertInvalid("posts", ".");
+    }
+
+    private void assertInvalid(String scope, String cursor) {
+        assertThatThrownBy(() -> codec.decode(scope, cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -3,9 +3,12 @@ package showroomz.global.utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ShowroomAddressGeneratorTest {
 
@@ -37,6 +40,23 @@ class ShowroomAddressGeneratorTest {
         assertThat(handle).isEqualTo("beauty_soyeon_3");
     }
 
+    @Test
+    @DisplayName("값싼 판정이 있을 수 있다고 한 꼬리표는 DB에 묻지 않고 건너뛰되, 쇼룸명 그대로의 핸들은 늘 DB로 본다")
+    void probablyTakenSkipsOnlySuffixedCandidates() {
+        List<String> asked = new ArrayList<>();
+        Set<String> probablyTaken = Set.of("beauty_soyeon", "beauty_soyeon_2");
+
+        String handle = ShowroomAddressGenerator.generateUnique("beauty soyeon",
+                candidate -> {
+                    asked.add(candidate);
+                    return candidate.equals("beauty_soyeon");
+                },
+                probablyTaken::contains);
+
+        assertThat(handle).isEqualTo("beauty_soyeon_3");
+        assertThat(asked).containsExactly("beauty_soyeon", "beauty_soyeon_3");
+    }
+
     @Test
     @DisplayName("핸들은 32자를 넘지 않는다")
     void handleIsCapped() {
@@ -52,4 +72,14 @@ class ShowroomAddressGeneratorTest {
 
         assertThat(handle).startsWith("sr").hasSize(10);
     }
+
+    @Test
+    @DisplayName("모든 후보가 쓰인다는 판정이면 끝없이 돌지 않고 실패한다")
+    void everyCandidateTakenFailsInsteadOfSpinning() {
+        assertThatThrownBy(() -> ShowroomAddressGenerator.generateUnique("beauty soyeon",
+                "beauty_soyeon"::equals, candidate -> true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ShowroomAddressGenerator.generateUnique("뷰티 소연", candidate -> true))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
@@ -0,0 +1,68 @@
+package showroomz.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * {@code @Tag("benchmark")} 측정 테스트용 최소 하니스 — 워밍업 후 반복 실행해 지연 백분위와
+ * 호출당 할당 바이트를 잰다.
+ *
+ * <p>JMH를 들이지 않은 이유 — 이 저장소의 측정 대상은 대부분 "쿼리 수가 페이지 크기에 비례하느냐",
+ * "요청당 수 MB를 할당하느냐" 수준의 <b>자릿수 차이</b>라 나노초 단위 정밀도가 필요 없다. 대신
+ * {@code ./gradlew benchmark}가 운영과 같은 256MB 힙에서 돌도록 묶어 두었다. 측정값은 장비마다
+ * 달라서 단언하지 않고 표준 출력으로만 남긴다(단언은 "새 경로가 옛 경로보다 느리지 않다" 수준까지만).
+ */
+public final class Benchmark {
+
+    private Benchmark() {
+    }
+
+    /** 한 경로의 측정 결과. 지연은 마이크로초, 할당은 호출당 바이트다. */
+    public record Result(String name, int iterations, double p50Micros, double p99Micros,
+                         double meanMicros, long allocatedBytesPerOp) {
+
+        public String format() {
+            return String.format(Locale.ROOT,
+                    "%-32s n=%-7d p50=%10.2fus p99=%10.2fus mean=%10.2fus alloc/op=%,12d B",
+                    name, iterations, p50Micros, p99Micros, meanMicros, allocatedBytesPerOp);
+        }
+    }
+
+    public static Result measure(String name, int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+
+        long[] elapsed = new long[iterations];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        long allocatedAfter = allocatedBytes();
+
+        Arrays.sort(elapsed);
+        double mean = Arrays.stream(elapsed).average().orElse(0) / 1_000.0;
+        long allocatedPerOp = allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / iterations;
+        Result result = new Result(name, iterations,
+                percentile(elapsed, 0.50), percentile(elapsed, 0.99), mean, allocatedPerOp);
+        System.out.println("[benchmark] " + result.format());
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.round(quantile * (sorted.length - 1)));
+        return sorted[index] / 1_000.0;
+    }
+
+    /** 현재 스레드가 지금까지 할당한 바이트 — HotSpot 확장이 없으면 -1 */
+    public static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1;
+    }
+}
@@ -21,7 +21,8 @@ import java.lang.annotation.Target;
  *
  * <p><b>H2 옵션</b> — 엔티티 테이블명이 `SELLER`/`MARKET`(대문자)인데 어드민 목록 네이티브 쿼리는
  * `brand_change_request`/`market`(소문자)을 쓴다. `DATABASE_TO_LOWER`+`CASE_INSENSITIVE_IDENTIFIERS`가
- * 둘을 같은 테이블로 해석해준다.
+ * 둘을 같은 테이블로 해석해준다. `filter_value.value` 컬럼은 H2에서 예약어라 `NON_KEYWORDS=VALUE`가
+ * 없으면 그 테이블이 만들어지지 않는다(기동 시 필터 카탈로그를 읽으므로 컨텍스트가 뜨지 않는다).
  *
  * <p><b>Flyway를 끄고 `create-drop`을 쓰는 이유</b> — 마이그레이션 SQL은 MySQL 전용 문법
  * (생성 컬럼 `pending_key` 등)이라 H2에서 돌지 않는다. 마이그레이션↔엔티티 정합은
@@ -38,7 +39,7 @@ import java.lang.annotation.Target;
         webEnvironment = SpringBootTest.WebEnvironment.MOCK,
         properties = {
                 "spring.datasource.url=jdbc:h2:mem:showroomz-it;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
-                        + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
                 "spring.datasource.username=sa",
                 "spring.datasource.password=",
                 "spring.datasource.driver-class-name=org.h2.Driver",
@@ -50,6 +51,15 @@ import java.lang.annotation.Target;
                 // 실 환경변수(.env)에 의존하지 않도록 외부 연동 값은 전부 더미로 고정한다.
                 "jwt.secret=integration-test-token-secret-key-must-be-long-enough-for-hs256",
                 "app.auth.tokenSecret=integration-test-token-secret-key-must-be-long-enough-for-hs256",
+                // 테스트마다 테이블을 비우고 id를 1부터 다시 매긴다 — 앞 테스트가 캐시에 남긴
+                // 아이디→id가 다음 테스트의 다른 회원을 가리키지 않도록 회원 참조 캐시는 끈다.
+                "app.auth.userCacheSize=0",
+                // 통지 발송기는 테스트가 직접 돌린다 — 배경 스레드가 검증 중인 행을 먼저 가져가지 않게 끈다.
+                "post.notification-dispatch-interval-millis=0",
+                // 재고 예약 만료도 마찬가지 — 테스트가 정한 시각으로 직접 만료시킨다.
+                "order.stock-hold-sweep-interval-millis=0",
+                // 로그인 이력 버퍼도 테스트가 직접 비운다 — 검증 전에 flush()하면 그때까지의 이력이 다 보인다.
+                "app.auth.login-history-flush-interval-millis=0",
                 "aws.s3.bucket=integration-test-bucket",
                 "aws.s3.access-key=integration-test-access-key",
                 "aws.s3.secret-key=integration-test-secret-key",
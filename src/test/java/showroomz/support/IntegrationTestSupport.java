@@ -15,8 +15,11 @@ import showroomz.api.seller.auth.refreshToken.SellerRefreshTokenRepository;
 import showroomz.api.seller.auth.repository.SellerRepository;
 import showroomz.domain.bank.repository.BankRepository;
 import showroomz.domain.changerequest.repository.BrandChangeRequestRepository;
+import showroomz.domain.history.service.LoginHistoryBuffer;
 import showroomz.domain.market.repository.MarketRepository;
 import showroomz.domain.member.seller.entity.Seller;
+import showroomz.domain.post.timeline.FollowingTimelines;
+import showroomz.domain.search.KeywordSearchIndex;
 import showroomz.global.service.MailService;
 
 import java.util.Date;
@@ -54,6 +57,12 @@ public abstract class IntegrationTestSupport {
     private JdbcTemplate jdbcTemplate;
     @Autowired
     private AuthTokenProvider tokenProvider;
+    @Autowired
+    private KeywordSearchIndex keywordSearchIndex;
+    @Autowired
+    private FollowingTimelines followingTimelines;
+    @Autowired
+    private LoginHistoryBuffer loginHistoryBuffer;
 
     /**
      * 메일은 실제로 보내지 않되 <b>호출 여부와 인자는 검증한다</b> — 승인·반려·이메일 변경 통지는
@@ -73,9 +82,18 @@ public abstract class IntegrationTestSupport {
         changeRequests = new ChangeRequestSteps(mockMvc, objectMapper);
     }
 
+    /**
+     * 키워드 색인도 비운다 — TRUNCATE는 엔티티 콜백을 거치지 않아, 앞 테스트의 상품·쇼룸이 색인에 남아
+     * DB 없이 답하는 자동완성에 섞여 나온다. 팔로잉 타임라인도 비운다 — id가 1부터 다시 매겨져 다음 테스트의
+     * 같은 id 사용자가 앞 테스트의 타임라인을 물려받는다. 대기 중인 로그인 이력은 지우기 전에 쓴다 — 남겨 두면
+     * 다음 테스트가 같은 id로 만든 회원의 이력으로 들어간다.
+     */
     @AfterEach
     void cleanUpDatabase() {
+        loginHistoryBuffer.flush();
         databaseCleaner.clear();
+        keywordSearchIndex.rebuild();
+        followingTimelines.clear();
     }
 
     /** 실제 로그인 토큰과 같은 방식으로 서명한다 — 인증 필터·권한 규칙까지 함께 검증하려는 의도다. */
@@ -0,0 +1,150 @@
+package showroomz.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 S3 호환 서버 — 같은 JVM에서 뜨고 {@code DeleteObjects}({@code POST /{bucket}?delete})만 받는다.
+ *
+ * <p>모의 S3Client로는 SDK가 만드는 요청 본문·응답 파싱을 거치지 않아, 천 개 단위 분할이나 키별 오류 처리가
+ * 실제 응답에서도 맞는지 알 수 없다. 컨테이너를 띄우지 않고 그 경로만 실제 HTTP로 확인하려고 둔다.
+ * 운영과 같은 저장소(MinIO·LocalStack)로 돌리려면 {@code aws.s3.endpoint}를 그쪽으로 향하게 하면 된다.
+ */
+public final class LocalS3Stub implements AutoCloseable {
+
+    private static final Pattern KEY = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+
+    private final HttpServer server;
+    private final Set<String> objects = ConcurrentHashMap.newKeySet();
+    private final Set<String> denied = ConcurrentHashMap.newKeySet();
+    private final List<List<String>> deleteRequests = new CopyOnWriteArrayList<>();
+    private volatile boolean unavailable;
+
+    private LocalS3Stub(HttpServer server) {
+        this.server = server;
+    }
+
+    public static LocalS3Stub start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            LocalS3Stub stub = new LocalS3Stub(server);
+            server.createContext("/", stub::handle);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 재시도 없이 이 서버만 부르는 클라이언트 — 실패 응답이 곧바로 호출한 쪽에 보인다. */
+    public S3Client client() {
+        return S3Client.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .forcePathStyle(true)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("stub", "stub")))
+                .overrideConfiguration(config -> config.retryPolicy(RetryPolicy.none()))
+                .build();
+    }
+
+    public void put(Collection<String> keys) {
+        objects.addAll(keys);
+    }
+
+    /** 이 키는 지우지 않고 AccessDenied로 답한다 */
+    public void deny(String key) {
+        denied.add(key);
+    }
+
+    /** 켜 두면 요청마다 503으로 답한다 */
+    public void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    public Set<String> objects() {
+        return Set.copyOf(objects);
+    }
+
+    /** 받은 DeleteObjects 요청마다 실린 키 */
+    public List<List<String>> deleteRequests() {
+        return List.copyOf(deleteRequests);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String query = exchange.getRequestURI().getRawQuery();
+            if (!"POST".equals(exchange.getRequestMethod()) || query == null || !query.startsWith("delete")) {
+                respond(exchange, 501, error("NotImplemented", null));
+                return;
+            }
+            if (unavailable) {
+                respond(exchange, 503, error("SlowDown", null));
+                return;
+            }
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            List<String> keys = new ArrayList<>();
+            Matcher matcher = KEY.matcher(body);
+            while (matcher.find()) {
+                keys.add(unescape(matcher.group(1)));
+            }
+            deleteRequests.add(List.copyOf(keys));
+
+            StringBuilder result = new StringBuilder(
+                    "<DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+            for (String key : keys) {
+                if (denied.contains(key)) {
+                    result.append(error("AccessDenied", key).replace("<?xml version=\"1.0\" encoding=\"UTF-8\"?>", ""));
+                } else {
+                    objects.remove(key);
+                }
+            }
+            respond(exchange, 200, result.append("</DeleteResult>").toString());
+        }
+    }
+
+    private static String error(String code, String key) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error>"
+                + (key == null ? "" : "<Key>" + escape(key) + "</Key>")
+                + "<Code>" + code + "</Code><Message>" + code + "</Message></Error>";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}